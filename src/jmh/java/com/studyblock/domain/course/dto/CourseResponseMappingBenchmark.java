@@ -0,0 +1,89 @@
+package com.studyblock.domain.course.dto;
+
+import com.studyblock.domain.category.entity.Category;
+import com.studyblock.domain.course.entity.Course;
+import com.studyblock.domain.course.enums.CourseLevel;
+import com.studyblock.domain.user.entity.InstructorProfile;
+import com.studyblock.domain.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.studyblock.benchmark.BenchmarkSupport.setField;
+
+/**
+ * 대량 코스 목록 DTO 변환 (검색 / 카테고리 목록 응답)
+ * - 엔티티는 연관(강사, 카테고리)이 모두 로딩된 상태로 준비해 매핑 비용만 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CourseResponseMappingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int courseCount;
+
+    private List<Course> courses;
+
+    @Setup
+    public void setUp() {
+        List<Category> categories = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Category category = Category.builder().name("카테고리 " + i).depth(i).orderNo((long) i).build();
+            setField(category, "id", (long) i);
+            categories.add(category);
+        }
+
+        List<InstructorProfile> instructors = new ArrayList<>();
+        for (int i = 1; i <= 50; i++) {
+            User user = User.builder().id((long) i).name("강사" + i).email("instructor" + i + "@studyblock.com").build();
+            InstructorProfile instructor = InstructorProfile.builder().user(user).channelName("채널 " + i).build();
+            setField(instructor, "id", (long) i);
+            instructors.add(instructor);
+        }
+
+        CourseLevel[] levels = CourseLevel.values();
+        courses = new ArrayList<>(courseCount);
+        for (int i = 1; i <= courseCount; i++) {
+            Course course = Course.builder()
+                    .instructor(instructors.get(i % instructors.size()))
+                    .title("코스 " + i + " - 실전 스프링 부트와 JPA 활용")
+                    .summary("스프링 부트와 JPA 로 실무 백엔드 애플리케이션을 만드는 과정입니다. " + i)
+                    .level(levels[i % levels.length])
+                    .durationMinutes(300 + i % 600)
+                    .thumbnailUrl("https://studyblock-bench.s3.ap-northeast-2.amazonaws.com/courses/" + i + "/thumbnail.webp")
+                    .price(10_000L + (i % 50) * 1_000L)
+                    .discountPercentage(i % 4 * 10)
+                    .categories(categories.subList(0, 1 + i % categories.size()))
+                    .build();
+            setField(course, "id", (long) i);
+            course.setReviewInfo(3.5 + (i % 15) / 10.0, (long) (i % 300));
+            courses.add(course);
+        }
+    }
+
+    @Benchmark
+    public List<SearchCourseResponse> searchCourseResponseFrom() {
+        return courses.stream().map(SearchCourseResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<CourseResponse> courseResponseFrom() {
+        return courses.stream().map(CourseResponse::from).toList();
+    }
+}
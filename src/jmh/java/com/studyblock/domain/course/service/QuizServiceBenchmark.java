@@ -0,0 +1,125 @@
+package com.studyblock.domain.course.service;
+
+import com.studyblock.domain.course.dto.QuizResultResponse;
+import com.studyblock.domain.course.dto.QuizSubmitRequest;
+import com.studyblock.domain.course.entity.Quiz;
+import com.studyblock.domain.course.entity.QuizOption;
+import com.studyblock.domain.course.entity.QuizQuestion;
+import com.studyblock.domain.course.enums.QuestionType;
+import com.studyblock.domain.course.repository.CourseRepository;
+import com.studyblock.domain.course.repository.LectureRepository;
+import com.studyblock.domain.course.repository.QuizQuestionRepository;
+import com.studyblock.domain.course.repository.QuizRepository;
+import com.studyblock.domain.course.repository.SectionRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.studyblock.benchmark.BenchmarkSupport.setField;
+import static com.studyblock.benchmark.BenchmarkSupport.stub;
+
+/**
+ * QuizService.submitQuiz 채점 (리포지토리는 고정 데이터를 돌려주는 대역, DB 시간 제외)
+ * - 문항의 70% 객관식(보기 4개), 30% 주관식, 응답의 절반 정답
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuizServiceBenchmark {
+
+    private static final long QUIZ_ID = 1L;
+
+    @Param({"10", "50", "200"})
+    private int questionCount;
+
+    private QuizService quizService;
+    private QuizSubmitRequest request;
+
+    @Setup
+    public void setUp() {
+        Quiz quiz = Quiz.builder().title("벤치마크 퀴즈").passingScore(60).build();
+        setField(quiz, "id", QUIZ_ID);
+
+        List<QuizQuestion> questions = new ArrayList<>(questionCount);
+        Map<Long, Object> answers = new HashMap<>();
+        long optionId = 1;
+        for (int i = 1; i <= questionCount; i++) {
+            boolean multipleChoice = i % 10 < 7;
+            QuizQuestion question = QuizQuestion.builder()
+                    .quiz(quiz)
+                    .questionText("문항 " + i)
+                    .questionType(multipleChoice ? QuestionType.MULTIPLE_CHOICE : QuestionType.SHORT_ANSWER)
+                    .points(i % 3 + 1)
+                    .sequence(i)
+                    .build();
+            setField(question, "id", (long) i);
+
+            if (multipleChoice) {
+                long correctId = 0;
+                for (int o = 1; o <= 4; o++, optionId++) {
+                    QuizOption option = QuizOption.builder()
+                            .quizQuestion(question)
+                            .optionText("보기 " + o)
+                            .isCorrect(o == 3)
+                            .sequence(o)
+                            .build();
+                    setField(option, "id", optionId);
+                    question.addOption(option);
+                    if (o == 3) {
+                        correctId = optionId;
+                    }
+                }
+                answers.put((long) i, i % 2 == 0 ? correctId : correctId - 1);
+            } else {
+                QuizOption option = QuizOption.builder()
+                        .quizQuestion(question)
+                        .optionText("Transaction Isolation")
+                        .isCorrect(true)
+                        .sequence(1)
+                        .build();
+                setField(option, "id", optionId++);
+                question.addOption(option);
+                answers.put((long) i, i % 2 == 0 ? "  transaction isolation " : "lock");
+            }
+            questions.add(question);
+        }
+        request = new QuizSubmitRequest(answers);
+
+        QuizRepository quizRepository = stub(QuizRepository.class,
+                Map.of("findById", args -> Optional.of(quiz)));
+        QuizQuestionRepository quizQuestionRepository = stub(QuizQuestionRepository.class,
+                Map.of("findByQuizIdWithOptions", args -> questions));
+
+        quizService = new QuizService(
+                quizRepository,
+                quizQuestionRepository,
+                stub(SectionRepository.class, Map.of()),
+                stub(LectureRepository.class, Map.of()),
+                stub(CourseRepository.class, Map.of()),
+                event -> { }
+        );
+    }
+
+    @Benchmark
+    public QuizResultResponse submitQuiz() {
+        return quizService.submitQuiz(QUIZ_ID, request);
+    }
+}
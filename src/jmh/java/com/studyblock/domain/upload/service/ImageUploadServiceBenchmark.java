@@ -0,0 +1,63 @@
+package com.studyblock.domain.upload.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ImageUploadService 리사이징 / 썸네일 생성 (업로드 요청 스레드에서 실행되는 CPU 작업)
+ * - S3 업로드는 제외하고 이미지 변환만 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ImageUploadServiceBenchmark {
+
+    // 가로 x 세로 (휴대폰 사진 / 일반 스크린샷 / 리사이징이 필요 없는 크기)
+    @Param({"4032x3024", "1920x1080", "800x600"})
+    private String size;
+
+    private ImageUploadService imageUploadService;
+    private BufferedImage source;
+
+    @Setup
+    public void setUp() {
+        imageUploadService = new ImageUploadService(null);
+
+        String[] dimensions = size.split("x");
+        int width = Integer.parseInt(dimensions[0]);
+        int height = Integer.parseInt(dimensions[1]);
+        source = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = source.createGraphics();
+        g2d.setPaint(new GradientPaint(0, 0, Color.ORANGE, width, height, Color.BLUE));
+        g2d.fillRect(0, 0, width, height);
+        g2d.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage resizeImageIfNeeded() {
+        return imageUploadService.resizeImageIfNeeded(source);
+    }
+
+    @Benchmark
+    public BufferedImage createThumbnail() {
+        return imageUploadService.createThumbnail(source);
+    }
+}
@@ -0,0 +1,64 @@
+package com.studyblock.global.security.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 발급 / 검증 / 파싱 (요청마다 JwtAuthenticationFilter 에서 호출되는 경로)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-key-benchmark-secret-key-0123456789");
+        properties.setAccessTokenExpiration(3_600_000L);
+        properties.setRefreshTokenExpiration(604_800_000L);
+        jwtTokenProvider = new JwtTokenProvider(properties);
+
+        accessToken = jwtTokenProvider.createAccessToken(12345L);
+        // 서명 마지막 글자를 바꿔 검증 실패 경로 측정
+        char last = accessToken.charAt(accessToken.length() - 1);
+        tamperedToken = accessToken.substring(0, accessToken.length() - 1) + (last == 'A' ? 'B' : 'A');
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(12345L);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return jwtTokenProvider.validateToken(tamperedToken);
+    }
+
+    @Benchmark
+    public Long getUserIdFromToken() {
+        return jwtTokenProvider.getUserIdFromToken(accessToken);
+    }
+}
@@ -0,0 +1,237 @@
+package com.studyblock.infrastructure.redis;
+
+import com.studyblock.domain.course.dto.CourseCatalogDocument;
+import com.studyblock.domain.course.dto.CourseDetailResponse;
+import com.studyblock.domain.course.dto.CourseFaqResponse;
+import com.studyblock.domain.course.dto.LearningOutcomeResponse;
+import com.studyblock.domain.course.dto.LectureSummaryResponse;
+import com.studyblock.domain.course.dto.SectionResponse;
+import com.studyblock.domain.course.dto.VideoProgressDto;
+import com.studyblock.domain.course.enums.CourseLevel;
+import com.studyblock.domain.course.enums.LectureStatus;
+import com.studyblock.domain.course.service.VideoProgressCodec;
+import com.studyblock.global.config.RedisConfig;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 값 직렬화 비교 (RedisConfig 의 JSON + 타입 정보 vs 캐시별 코덱)
+ * - 진도율: JSON / Smile / VideoProgressCodec(수기 포맷)
+ * - 코스 카탈로그 문서: JSON / Smile
+ * - 인코딩 크기(바이트)는 encodedSizes 의 보조 지표로 JMH 결과 JSON 에 함께 기록
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RedisValueCodecBenchmark {
+
+    private final GenericJackson2JsonRedisSerializer json = RedisConfig.jsonValueSerializer();
+    private final RedisValueCodec<VideoProgressDto> progressSmile = RedisCodecs.smile(VideoProgressDto.class, 1);
+    private final RedisValueCodec<CourseCatalogDocument> catalogSmile = RedisCodecs.smile(CourseCatalogDocument.class, 1);
+
+    private VideoProgressDto progress;
+    private CourseCatalogDocument catalog;
+
+    private byte[] progressJsonBytes;
+    private byte[] progressSmileBytes;
+    private byte[] progressCompactBytes;
+    private byte[] catalogJsonBytes;
+    private byte[] catalogSmileBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        progress = VideoProgressDto.builder()
+                .userId(12345L)
+                .videoId(67890L)
+                .position(1834)
+                .duration(2710)
+                .updatedAt(LocalDateTime.of(2025, 3, 14, 21, 5, 33))
+                .build();
+        catalog = sampleCatalog(8, 6);
+
+        progressJsonBytes = json.serialize(progress);
+        progressSmileBytes = progressSmile.encode(progress);
+        progressCompactBytes = VideoProgressCodec.encode(progress);
+        catalogJsonBytes = json.serialize(catalog);
+        catalogSmileBytes = catalogSmile.encode(catalog);
+    }
+
+    /**
+     * 인코딩 크기 보조 지표 (바이트, 호출마다 같은 값을 기록하므로 누적되지 않음)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSizes {
+        public long progressJsonBytes;
+        public long progressSmileBytes;
+        public long progressCompactBytes;
+        public long catalogJsonBytes;
+        public long catalogSmileBytes;
+    }
+
+    @Benchmark
+    public void encodedSizes(EncodedSizes sizes) {
+        sizes.progressJsonBytes = progressJsonBytes.length;
+        sizes.progressSmileBytes = progressSmileBytes.length;
+        sizes.progressCompactBytes = progressCompactBytes.length;
+        sizes.catalogJsonBytes = catalogJsonBytes.length;
+        sizes.catalogSmileBytes = catalogSmileBytes.length;
+    }
+
+    @Benchmark
+    public byte[] progressJsonEncode() {
+        return json.serialize(progress);
+    }
+
+    @Benchmark
+    public Object progressJsonDecode() {
+        return json.deserialize(progressJsonBytes);
+    }
+
+    @Benchmark
+    public byte[] progressSmileEncode() {
+        return progressSmile.encode(progress);
+    }
+
+    @Benchmark
+    public VideoProgressDto progressSmileDecode() {
+        return progressSmile.decode(progressSmileBytes);
+    }
+
+    @Benchmark
+    public byte[] progressCompactEncode() {
+        return VideoProgressCodec.encode(progress);
+    }
+
+    @Benchmark
+    public VideoProgressDto progressCompactDecode() {
+        return VideoProgressCodec.decode(12345L, 67890L, progressCompactBytes);
+    }
+
+    @Benchmark
+    public byte[] catalogJsonEncode() {
+        return json.serialize(catalog);
+    }
+
+    @Benchmark
+    public Object catalogJsonDecode() {
+        return json.deserialize(catalogJsonBytes);
+    }
+
+    @Benchmark
+    public byte[] catalogSmileEncode() {
+        return catalogSmile.encode(catalog);
+    }
+
+    @Benchmark
+    public CourseCatalogDocument catalogSmileDecode() {
+        return catalogSmile.decode(catalogSmileBytes);
+    }
+
+    // 섹션 sectionCount 개, 섹션당 강의 lecturesPerSection 개인 코스 문서
+    private static CourseCatalogDocument sampleCatalog(int sectionCount, int lecturesPerSection) {
+        List<SectionResponse> sections = new ArrayList<>();
+        List<LectureSummaryResponse> lectures = new ArrayList<>();
+        long lectureId = 1;
+        for (int s = 1; s <= sectionCount; s++) {
+            List<LectureSummaryResponse> sectionLectures = new ArrayList<>();
+            for (int l = 1; l <= lecturesPerSection; l++, lectureId++) {
+                sectionLectures.add(LectureSummaryResponse.builder()
+                        .id(lectureId)
+                        .sectionId((long) s)
+                        .sequence(l)
+                        .title("섹션 " + s + " - 강의 " + l + " 스프링 트랜잭션 전파와 격리 수준")
+                        .description("실무에서 자주 마주치는 트랜잭션 문제를 예제로 살펴봅니다.")
+                        .thumbnailOriginalUrl("https://studyblock-bucket.s3.ap-northeast-2.amazonaws.com/lectures/"
+                                + lectureId + "/thumbnail.webp")
+                        .uploadDate(LocalDate.of(2025, 1, 1).plusDays(lectureId))
+                        .status(LectureStatus.PUBLISHED)
+                        .isFree(l == 1)
+                        .priceCookie(30L)
+                        .discountPercentage(10)
+                        .lastVideoId(lectureId * 10)
+                        .lastVideoEncodingStatus("COMPLETED")
+                        .videoCount(1L)
+                        .hasPreviewVideo(l == 1)
+                        .build());
+            }
+            lectures.addAll(sectionLectures);
+            sections.add(SectionResponse.builder()
+                    .id((long) s)
+                    .courseId(1L)
+                    .title("섹션 " + s)
+                    .description("섹션 설명 " + s)
+                    .sequence(s)
+                    .durationMinutes(95)
+                    .cookiePrice(150L)
+                    .discountPercentage(10)
+                    .lectureCount(lecturesPerSection)
+                    .lectures(sectionLectures)
+                    .createdAt(LocalDateTime.of(2025, 1, 1, 10, 0))
+                    .updatedAt(LocalDateTime.of(2025, 2, 1, 10, 0))
+                    .build());
+        }
+
+        List<LearningOutcomeResponse> outcomes = new ArrayList<>();
+        List<CourseFaqResponse> faqs = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            outcomes.add(LearningOutcomeResponse.builder().id((long) i).content("학습 목표 " + i).order(i).build());
+            faqs.add(CourseFaqResponse.builder()
+                    .id((long) i)
+                    .question("자주 묻는 질문 " + i + " 은 무엇인가요?")
+                    .answer("답변 " + i + " 입니다. 강의 자료는 섹션별로 제공됩니다.")
+                    .tag("general")
+                    .order(i)
+                    .build());
+        }
+
+        return CourseCatalogDocument.builder()
+                .courseId(1L)
+                .version(3L)
+                .builtAt(LocalDateTime.of(2025, 3, 14, 9, 0))
+                .detail(CourseDetailResponse.builder()
+                        .id(1L)
+                        .title("실전 스프링 부트와 JPA")
+                        .summary("스프링 부트와 JPA 로 실무 백엔드를 만드는 과정")
+                        .category("백엔드")
+                        .level(CourseLevel.INTERMEDIATE)
+                        .totalLectures(lectures.size())
+                        .totalDurationMinutes(760)
+                        .thumbnailOriginalUrl("https://studyblock-bucket.s3.ap-northeast-2.amazonaws.com/courses/1/thumbnail.webp")
+                        .price(55000L)
+                        .discountPercentage(10)
+                        .discountedPrice(49500)
+                        .enrollmentCount(1520L)
+                        .published(true)
+                        .createdAt(LocalDateTime.of(2025, 1, 1, 10, 0))
+                        .updatedAt(LocalDateTime.of(2025, 3, 1, 10, 0))
+                        .build())
+                .lectures(lectures)
+                .sections(sections)
+                .learningOutcomes(outcomes)
+                .faqs(faqs)
+                .prerequisites(List.of())
+                .relatedCourses(List.of())
+                .build();
+    }
+}
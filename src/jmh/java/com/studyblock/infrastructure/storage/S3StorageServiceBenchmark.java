@@ -0,0 +1,77 @@
+package com.studyblock.infrastructure.storage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import static com.studyblock.benchmark.BenchmarkSupport.setField;
+
+/**
+ * S3StorageService presigned URL 생성 (목록 응답마다 썸네일 / 프로필 이미지 수만큼 호출)
+ * - 서명은 로컬 계산만 하므로 S3Client 는 로컬 대역 엔드포인트로 만들고 네트워크 호출 없음
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class S3StorageServiceBenchmark {
+
+    private static final String FILE_URL =
+            "https://studyblock-bench.s3.ap-northeast-2.amazonaws.com/images/course/2025/03/14/3f2a9c0d1e5b4a7c8d9e0f1a2b3c4d5e.webp";
+
+    private S3Client s3Client;
+    private S3StorageService s3StorageService;
+
+    @Setup
+    public void setUp() {
+        s3Client = S3Client.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .endpointOverride(URI.create("http://localhost:4566"))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("bench", "bench")))
+                .forcePathStyle(true)
+                .build();
+
+        s3StorageService = new S3StorageService(s3Client);
+        setField(s3StorageService, "studyBlock", "studyblock-bench");
+        setField(s3StorageService, "region", "ap-northeast-2");
+        setField(s3StorageService, "accessKey", "bench-access-key");
+        setField(s3StorageService, "secretKey", "bench-secret-key");
+        setField(s3StorageService, "imageUrlWindowMinutes", 60L);
+        // S3Client 와 같은 엔드포인트로 presigner 를 만들어야 path-style URL 로 서명됨
+        setField(s3StorageService, "endpoint", "http://localhost:4566");
+        s3StorageService.initPresigner();
+    }
+
+    @TearDown
+    public void tearDown() {
+        s3StorageService.closePresigner();
+        s3Client.close();
+    }
+
+    @Benchmark
+    public String generatePresignedUrl() {
+        return s3StorageService.generatePresignedUrl(FILE_URL, 60);
+    }
+
+    @Benchmark
+    public String generateCacheableImageUrl() {
+        return s3StorageService.generateCacheableImageUrl(FILE_URL);
+    }
+}
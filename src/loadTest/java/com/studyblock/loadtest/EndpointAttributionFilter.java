@@ -0,0 +1,46 @@
+package com.studyblock.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 부하 테스트 요청의 SQL / Redis 호출을 시나리오별로 집계
+ * - 트래픽 드라이버가 보낸 X-Load-Test-Endpoint 헤더(시나리오 키)로 구분
+ * - 요청 스레드 안에서 발생한 호출만 집계 (@Async / 커밋 후 비동기 처리는 백그라운드로 분류)
+ */
+class EndpointAttributionFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Scenario scenario = resolve(request.getHeader(ServerCounters.ENDPOINT_HEADER));
+        if (scenario == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ServerCounters.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ServerCounters.endRequest(scenario);
+        }
+    }
+
+    private static Scenario resolve(String key) {
+        if (key == null || key.isEmpty()) {
+            return null;
+        }
+        try {
+            return Scenario.fromKey(key);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
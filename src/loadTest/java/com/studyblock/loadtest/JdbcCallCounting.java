@@ -0,0 +1,66 @@
+package com.studyblock.loadtest;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * SQL 실행 수 계측 (DataSource → Connection → Statement 프록시)
+ * - Statement 의 execute* 호출 1회 = SQL 1회 (executeBatch 는 배치 전체가 1회)
+ * - JPA / QueryDSL / JdbcTemplate / Flyway 모두 같은 DataSource 를 거치므로 함께 집계
+ */
+final class JdbcCallCounting {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private JdbcCallCounting() {
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        ProxyFactory proxyFactory = new ProxyFactory(dataSource);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            Object result = invocation.proceed();
+            return result instanceof Connection connection ? connection(connection) : result;
+        });
+        return (DataSource) proxyFactory.getProxy(JdbcCallCounting.class.getClassLoader());
+    }
+
+    private static Connection connection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(JdbcCallCounting.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (result instanceof Statement statement && STATEMENT_FACTORIES.contains(method.getName())) {
+                        return statement(statement, method.getReturnType());
+                    }
+                    return result;
+                });
+    }
+
+    // createStatement → Statement, prepareStatement → PreparedStatement, prepareCall → CallableStatement
+    private static Object statement(Statement target, Class<?> type) {
+        return Proxy.newProxyInstance(JdbcCallCounting.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute")) {
+                        ServerCounters.sqlExecuted();
+                    }
+                    return invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
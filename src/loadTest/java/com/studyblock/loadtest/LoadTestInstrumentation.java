@@ -0,0 +1,45 @@
+package com.studyblock.loadtest;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import javax.sql.DataSource;
+
+/**
+ * 부하 테스트 계측 빈
+ * - LoadTestRunner 가 애플리케이션 소스로 직접 등록 (스테레오타입이 없어 컴포넌트 스캔 대상 아님)
+ * - DataSource / RedisConnectionFactory 를 호출 수를 세는 프록시로 감싸고, 요청을 시나리오별로 구분하는 필터 등록
+ */
+class LoadTestInstrumentation {
+
+    @Bean
+    static BeanPostProcessor loadTestCallCountingPostProcessor() {
+        return new CallCountingPostProcessor();
+    }
+
+    @Bean
+    FilterRegistrationBean<EndpointAttributionFilter> loadTestEndpointAttributionFilter() {
+        FilterRegistrationBean<EndpointAttributionFilter> registration =
+                new FilterRegistrationBean<>(new EndpointAttributionFilter());
+        // 보안 필터(JWT 사용자 조회)의 SQL 도 요청에 포함되도록 가장 앞에서 실행
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    private static final class CallCountingPostProcessor implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource) {
+                return JdbcCallCounting.wrap(dataSource);
+            }
+            if (bean instanceof RedisConnectionFactory connectionFactory) {
+                return RedisCallCounting.wrap(connectionFactory);
+            }
+            return bean;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.studyblock.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 클라이언트 쪽 측정값 (시나리오별 응답 지연 히스토그램 + 상태 코드 분류)
+ * - 지연은 요청 전송 ~ 응답 본문 수신까지 (마이크로초, 유효숫자 3자리)
+ * - 워밍업 중 응답은 기록하지 않음 (startMeasuring 이후부터)
+ * - 서버 쪽 SQL / Redis 호출 수는 측정 종료 시점의 ServerCounters 값
+ */
+final class LoadTestMetrics {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<Scenario, EndpointStats> stats;
+    private final LongAdder refundFallbacks = new LongAdder();
+    private final Map<Scenario, ServerCounters.Snapshot> serverCounts = new EnumMap<>(Scenario.class);
+    private ServerCounters.Snapshot serverTotal;
+    private volatile boolean measuring;
+    private volatile long measureStartedNanos;
+    private volatile long measureEndedNanos;
+
+    LoadTestMetrics() {
+        Map<Scenario, EndpointStats> byScenario = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            byScenario.put(scenario, new EndpointStats());
+        }
+        this.stats = Collections.unmodifiableMap(byScenario);
+    }
+
+    void startMeasuring() {
+        measureStartedNanos = System.nanoTime();
+        measuring = true;
+    }
+
+    // 측정 종료 시점의 서버 쪽 호출 수도 함께 고정 (종료 후 처리 중인 요청 제외)
+    void stopMeasuring() {
+        measuring = false;
+        measureEndedNanos = System.nanoTime();
+        for (Scenario scenario : Scenario.values()) {
+            serverCounts.put(scenario, ServerCounters.of(scenario));
+        }
+        serverTotal = ServerCounters.total();
+    }
+
+    double measuredSeconds() {
+        return (measureEndedNanos - measureStartedNanos) / 1_000_000_000.0;
+    }
+
+    void recordResponse(Scenario scenario, long latencyNanos, int status) {
+        if (!measuring) {
+            return;
+        }
+        EndpointStats endpoint = stats.get(scenario);
+        endpoint.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if (status >= 500) {
+            endpoint.serverErrors.increment();
+        } else if (status >= 400) {
+            endpoint.clientErrors.increment();
+        } else {
+            endpoint.succeeded.increment();
+        }
+    }
+
+    void recordTransportError(Scenario scenario) {
+        if (measuring) {
+            stats.get(scenario).transportErrors.increment();
+        }
+    }
+
+    // 환불할 주문이 없어 결제로 대신한 횟수
+    void recordRefundFallback() {
+        if (measuring) {
+            refundFallbacks.increment();
+        }
+    }
+
+    long refundFallbacks() {
+        return refundFallbacks.sum();
+    }
+
+    EndpointStats of(Scenario scenario) {
+        return stats.get(scenario);
+    }
+
+    ServerCounters.Snapshot serverCounts(Scenario scenario) {
+        return serverCounts.get(scenario);
+    }
+
+    ServerCounters.Snapshot serverTotal() {
+        return serverTotal;
+    }
+
+    static final class EndpointStats {
+
+        private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+        private final LongAdder transportErrors = new LongAdder();
+
+        long responses() {
+            return latency.getTotalCount();
+        }
+
+        long succeeded() {
+            return succeeded.sum();
+        }
+
+        long clientErrors() {
+            return clientErrors.sum();
+        }
+
+        long serverErrors() {
+            return serverErrors.sum();
+        }
+
+        long transportErrors() {
+            return transportErrors.sum();
+        }
+
+        double percentileMillis(double percentile) {
+            return latency.getTotalCount() == 0 ? 0 : latency.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        double maxMillis() {
+            return latency.getTotalCount() == 0 ? 0 : latency.getMaxValue() / 1000.0;
+        }
+
+        double meanMillis() {
+            return latency.getTotalCount() == 0 ? 0 : latency.getMean() / 1000.0;
+        }
+    }
+}
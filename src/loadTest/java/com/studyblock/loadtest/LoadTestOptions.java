@@ -0,0 +1,163 @@
+package com.studyblock.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.*, Gradle 에서는 -Ploadtest.* 로 전달)
+ *
+ * 데이터 규모 (scale = 1.0 기준)
+ * - loadtest.scale: 전체 규모 배율 (기본 1.0 → 사용자 100만, 코스 1만, 진도율 1억 행)
+ * - loadtest.sections-per-course / lectures-per-section: 코스당 섹션 수(4) / 섹션당 강의(= 비디오) 수(3)
+ * - loadtest.progress-per-user: 사용자당 진도율 행 수 (100)
+ * - loadtest.active-users: 트래픽을 보내는 사용자 수 (지갑 / 수강신청 시드 대상, 기본 2만)
+ * - loadtest.enrollments-per-user: 활성 사용자당 수강신청 코스 수 (5)
+ *
+ * 트래픽
+ * - loadtest.virtual-users: 동시 가상 사용자 수 (닫힌 모델, 기본 64)
+ * - loadtest.warmup-seconds / duration-seconds: 워밍업(집계 제외) / 측정 시간
+ * - loadtest.think-time-ms: 가상 사용자별 요청 간 대기
+ * - loadtest.mix: 시나리오 가중치 (예: browse:25,search:15,detail:20,stream:10,heartbeat:25,checkout:3,refund:2)
+ *
+ * 실행
+ * - loadtest.seed-parallelism: 시드 INSERT ... SELECT 동시 실행 수 (DB 커넥션 풀보다 작게)
+ * - loadtest.reuse-containers: Testcontainers 재사용 (시드 완료된 DB 를 다음 실행에서 그대로 사용)
+ * - loadtest.report-dir: 리포트 출력 경로
+ */
+record LoadTestOptions(
+        double scale,
+        int sectionsPerCourse,
+        int lecturesPerSection,
+        int progressPerUser,
+        int activeUsers,
+        int enrollmentsPerUser,
+        int virtualUsers,
+        int warmupSeconds,
+        int durationSeconds,
+        int thinkTimeMillis,
+        Map<Scenario, Integer> mix,
+        int seedParallelism,
+        boolean reuseContainers,
+        Path reportDir
+) {
+
+    private static final int FULL_USERS = 1_000_000;
+    private static final int FULL_COURSES = 10_000;
+
+    static LoadTestOptions fromSystemProperties() {
+        double scale = Double.parseDouble(property("scale", "1.0"));
+        if (scale <= 0 || scale > 10) {
+            throw new IllegalArgumentException("loadtest.scale 은 0 초과 10 이하여야 합니다: " + scale);
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                scale,
+                intProperty("sections-per-course", 4),
+                intProperty("lectures-per-section", 3),
+                intProperty("progress-per-user", 100),
+                intProperty("active-users", 20_000),
+                intProperty("enrollments-per-user", 5),
+                intProperty("virtual-users", 64),
+                intProperty("warmup-seconds", 30),
+                intProperty("duration-seconds", 300),
+                intProperty("think-time-ms", 0),
+                parseMix(property("mix", "browse:25,search:15,detail:20,stream:10,heartbeat:25,checkout:3,refund:2")),
+                intProperty("seed-parallelism", Math.min(Runtime.getRuntime().availableProcessors(), 8)),
+                Boolean.parseBoolean(property("reuse-containers", "false")),
+                Path.of(property("report-dir", "build/reports/loadtest"))
+        );
+        options.validate();
+        return options;
+    }
+
+    int users() {
+        return Math.max((int) Math.round(FULL_USERS * scale), 10);
+    }
+
+    int courses() {
+        return Math.max((int) Math.round(FULL_COURSES * scale), 10);
+    }
+
+    int lecturesPerCourse() {
+        return sectionsPerCourse * lecturesPerSection;
+    }
+
+    int sections() {
+        return courses() * sectionsPerCourse;
+    }
+
+    int videos() {
+        return courses() * lecturesPerCourse();
+    }
+
+    int effectiveProgressPerUser() {
+        return Math.min(progressPerUser, videos());
+    }
+
+    int effectiveActiveUsers() {
+        return Math.min(activeUsers, users());
+    }
+
+    int effectiveEnrollmentsPerUser() {
+        return Math.min(enrollmentsPerUser, courses());
+    }
+
+    long progressRows() {
+        return (long) users() * effectiveProgressPerUser();
+    }
+
+    /**
+     * 시드 결과를 구분하는 값 (재사용 컨테이너에서 같은 규모면 시드 생략)
+     */
+    String seedFingerprint() {
+        return "users=" + users() + ",courses=" + courses()
+                + ",sections=" + sectionsPerCourse + ",lectures=" + lecturesPerSection
+                + ",progress=" + effectiveProgressPerUser() + ",active=" + effectiveActiveUsers()
+                + ",enrollments=" + effectiveEnrollmentsPerUser();
+    }
+
+    private void validate() {
+        if (sectionsPerCourse < 1 || lecturesPerSection < 1 || progressPerUser < 0
+                || activeUsers < 1 || enrollmentsPerUser < 1) {
+            throw new IllegalArgumentException("시드 규모 설정은 1 이상이어야 합니다 (progress-per-user 는 0 이상).");
+        }
+        if (virtualUsers < 1 || durationSeconds < 1 || warmupSeconds < 0 || thinkTimeMillis < 0) {
+            throw new IllegalArgumentException("트래픽 설정이 올바르지 않습니다.");
+        }
+        if (seedParallelism < 1) {
+            throw new IllegalArgumentException("loadtest.seed-parallelism 은 1 이상이어야 합니다.");
+        }
+    }
+
+    // "browse:25,search:15" → 시나리오별 가중치 (지정하지 않은 시나리오는 0)
+    private static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            mix.put(scenario, 0);
+        }
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식이 올바르지 않습니다: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("loadtest.mix 가중치는 0 이상이어야 합니다: " + entry);
+            }
+            mix.put(Scenario.fromKey(parts[0].trim()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("loadtest.mix 가중치 합이 0 입니다.");
+        }
+        return mix;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(property(name, String.valueOf(defaultValue)));
+    }
+}
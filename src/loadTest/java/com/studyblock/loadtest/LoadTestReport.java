@@ -0,0 +1,158 @@
+package com.studyblock.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 리포트 (엔드포인트별 p50 / p95 / p99 지연, 처리량, 오류, 요청당 SQL / Redis 호출 수)
+ * - 텍스트 표는 콘솔과 .txt 로, 같은 내용을 릴리스 간 비교용 .json 으로 저장
+ * - 백그라운드 = 전체 호출 - 엔드포인트별 합 (스케줄러, 비동기 후처리 등 요청 스레드 밖의 호출)
+ */
+final class LoadTestReport {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final double[] PERCENTILES = {50, 95, 99};
+
+    private final LoadTestOptions options;
+    private final SeedLayout layout;
+    private final LoadTestMetrics metrics;
+    private final LocalDateTime finishedAt = LocalDateTime.now();
+
+    LoadTestReport(LoadTestOptions options, SeedLayout layout, LoadTestMetrics metrics) {
+        this.options = options;
+        this.layout = layout;
+        this.metrics = metrics;
+    }
+
+    String toText() {
+        double seconds = metrics.measuredSeconds();
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "부하 테스트 결과 (%s, 측정 %.1f초, 가상 사용자 %d)%n",
+                finishedAt, seconds, options.virtualUsers()));
+        text.append(String.format(Locale.ROOT, "데이터: 사용자 %,d / 코스 %,d / 섹션 %,d / 비디오 %,d / 진도율 %,d행, 활성 사용자 %,d%n%n",
+                layout.users(), layout.courses(), layout.sections(), layout.videos(),
+                (long) layout.users() * layout.progressPerUser(), layout.activeUsers()));
+
+        String header = String.format(Locale.ROOT, "%-40s %9s %8s %8s %8s %8s %8s %7s %7s %7s %6s %7s %7s %7s%n",
+                "endpoint", "requests", "req/s", "p50ms", "p95ms", "p99ms", "maxms",
+                "2xx", "4xx", "5xx", "io", "sql/r", "redis/r", "rtt/r");
+        text.append(header);
+        text.append("-".repeat(header.length() - 1)).append(System.lineSeparator());
+
+        long totalRequests = 0;
+        long attributedSql = 0;
+        long attributedRedis = 0;
+        long attributedRoundTrips = 0;
+        for (Scenario scenario : Scenario.values()) {
+            LoadTestMetrics.EndpointStats stats = metrics.of(scenario);
+            ServerCounters.Snapshot server = metrics.serverCounts(scenario);
+            totalRequests += stats.responses();
+            attributedSql += server.sql();
+            attributedRedis += server.redisCommands();
+            attributedRoundTrips += server.redisRoundTrips();
+
+            text.append(String.format(Locale.ROOT, "%-40s %9d %8.1f %8.2f %8.2f %8.2f %8.2f %7d %7d %7d %6d %7.2f %7.2f %7.2f%n",
+                    scenario.endpoint(), stats.responses(), stats.responses() / seconds,
+                    stats.percentileMillis(50), stats.percentileMillis(95), stats.percentileMillis(99),
+                    stats.maxMillis(), stats.succeeded(), stats.clientErrors(), stats.serverErrors(),
+                    stats.transportErrors(), server.perRequest(server.sql()),
+                    server.perRequest(server.redisCommands()), server.perRequest(server.redisRoundTrips())));
+        }
+
+        ServerCounters.Snapshot total = metrics.serverTotal();
+        text.append(System.lineSeparator());
+        text.append(String.format(Locale.ROOT, "전체 처리량: %.1f req/s (%,d 요청)%n", totalRequests / seconds, totalRequests));
+        text.append(String.format(Locale.ROOT, "SQL: 전체 %,d, 요청 %,d, 백그라운드 %,d%n",
+                total.sql(), attributedSql, total.sql() - attributedSql));
+        text.append(String.format(Locale.ROOT, "Redis 명령: 전체 %,d, 요청 %,d, 백그라운드 %,d (왕복: 전체 %,d, 요청 %,d)%n",
+                total.redisCommands(), attributedRedis, total.redisCommands() - attributedRedis,
+                total.redisRoundTrips(), attributedRoundTrips));
+        if (metrics.refundFallbacks() > 0) {
+            text.append(String.format(Locale.ROOT, "환불 대기 주문이 없어 결제로 대체: %,d회%n", metrics.refundFallbacks()));
+        }
+        return text.toString();
+    }
+
+    Map<String, Object> toJson() {
+        double seconds = metrics.measuredSeconds();
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("finishedAt", finishedAt.toString());
+        json.put("measuredSeconds", seconds);
+
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("virtualUsers", options.virtualUsers());
+        run.put("warmupSeconds", options.warmupSeconds());
+        run.put("durationSeconds", options.durationSeconds());
+        run.put("thinkTimeMillis", options.thinkTimeMillis());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((scenario, weight) -> mix.put(scenario.key(), weight));
+        run.put("mix", mix);
+        json.put("run", run);
+        json.put("layout", layout);
+
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (Scenario scenario : Scenario.values()) {
+            LoadTestMetrics.EndpointStats stats = metrics.of(scenario);
+            ServerCounters.Snapshot server = metrics.serverCounts(scenario);
+
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("scenario", scenario.key());
+            endpoint.put("endpoint", scenario.endpoint());
+            endpoint.put("requests", stats.responses());
+            endpoint.put("throughputPerSecond", stats.responses() / seconds);
+            Map<String, Double> latency = new LinkedHashMap<>();
+            for (double percentile : PERCENTILES) {
+                latency.put("p" + (int) percentile, stats.percentileMillis(percentile));
+            }
+            latency.put("mean", stats.meanMillis());
+            latency.put("max", stats.maxMillis());
+            endpoint.put("latencyMillis", latency);
+            endpoint.put("succeeded", stats.succeeded());
+            endpoint.put("clientErrors", stats.clientErrors());
+            endpoint.put("serverErrors", stats.serverErrors());
+            endpoint.put("transportErrors", stats.transportErrors());
+            endpoint.put("sqlPerRequest", server.perRequest(server.sql()));
+            endpoint.put("redisCommandsPerRequest", server.perRequest(server.redisCommands()));
+            endpoint.put("redisRoundTripsPerRequest", server.perRequest(server.redisRoundTrips()));
+            endpoints.add(endpoint);
+        }
+        json.put("endpoints", endpoints);
+
+        ServerCounters.Snapshot total = metrics.serverTotal();
+        Map<String, Object> server = new LinkedHashMap<>();
+        server.put("sql", total.sql());
+        server.put("redisCommands", total.redisCommands());
+        server.put("redisRoundTrips", total.redisRoundTrips());
+        json.put("serverTotals", server);
+        json.put("refundFallbacks", metrics.refundFallbacks());
+        return json;
+    }
+
+    /**
+     * @return 저장한 JSON 파일 경로
+     */
+    Path write(Path directory, ObjectMapper objectMapper) {
+        String name = "loadtest-" + finishedAt.format(FILE_TIMESTAMP);
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve(name + ".txt"), toText(), StandardCharsets.UTF_8);
+            Path json = directory.resolve(name + ".json");
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(json.toFile(), toJson());
+            return json;
+        } catch (IOException e) {
+            throw new UncheckedIOException("부하 테스트 리포트 저장 실패: " + directory, e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.studyblock.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyblock.StudyblockApplication;
+import com.studyblock.global.security.jwt.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트 진입점 (./gradlew loadTest)
+ * 1. 로컬 스택 기동 (MySQL / Redis / LocalStack S3)
+ * 2. 애플리케이션을 같은 JVM 에서 loadtest 프로필 + 임의 포트로 기동 (Flyway 마이그레이션 포함)
+ * 3. 시드 → 워밍업 → 측정 → 리포트 (build/reports/loadtest)
+ *
+ * 애플리케이션과 드라이버가 한 JVM 을 쓰므로 CPU 를 나눠 씀 - 절대값보다 릴리스 간 비교용
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        try (LoadTestStack stack = LoadTestStack.start(options)) {
+            List<String> arguments = new ArrayList<>(List.of(args));
+            arguments.add("--spring.profiles.active=loadtest");
+            arguments.add("--server.port=0");
+            stack.applicationProperties().forEach((key, value) -> arguments.add("--" + key + "=" + value));
+
+            try (ConfigurableApplicationContext context =
+                         new SpringApplicationBuilder(StudyblockApplication.class, LoadTestInstrumentation.class)
+                                 .run(arguments.toArray(String[]::new))) {
+                SeedLayout layout = new LoadTestSeeder(context.getBean(DataSource.class), objectMapper, options).seed();
+
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                LoadTestMetrics metrics = new TrafficDriver(options, layout, URI.create("http://localhost:" + port),
+                        context.getBean(JwtTokenProvider.class), objectMapper).run();
+
+                LoadTestReport report = new LoadTestReport(options, layout, metrics);
+                System.out.println(report.toText());
+                Path json = report.write(options.reportDir(), objectMapper);
+                log.info("리포트 저장 - {}", json);
+            }
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package com.studyblock.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 부하 테스트 데이터 시드 (사용자 100만 / 코스 1만 / 진도율 1억 행 기준, loadtest.scale 로 조절)
+ * - 행을 애플리케이션에서 만들어 보내지 않고 숫자 테이블(lt_seq)로 INSERT ... SELECT → DB 안에서 생성
+ * - 테이블마다 ID 구간을 청크로 나눠 병렬 실행 (청크 = 트랜잭션 1개, 세션에서만 FK / 유니크 검사 해제)
+ * - 배정 규칙은 SeedLayout 과 같은 식 사용, 완료된 배치는 lt_seed_state 에 저장해 재사용 컨테이너에서 생략
+ */
+@Slf4j
+final class LoadTestSeeder {
+
+    static final List<String> TOPICS = List.of(
+            "Java", "Spring", "React", "Python", "Docker", "Kubernetes",
+            "SQL", "알고리즘", "데이터분석", "머신러닝", "디자인", "마케팅");
+
+    private static final List<String> LEVEL_WORDS = List.of("입문", "실전", "심화");
+    private static final List<String> LEVELS = List.of("BEGINNER", "INTERMEDIATE", "ADVANCED");
+    private static final List<String> ROOT_CATEGORIES = List.of(
+            "개발", "데이터", "AI", "디자인", "비즈니스", "마케팅", "외국어", "자격증");
+    private static final List<String> CHILD_CATEGORY_SUFFIXES = List.of("입문", "실무", "심화", "프로젝트", "면접");
+
+    private static final String PASSWORD = "loadtest1234!";
+    private static final long WALLET_BALANCE = 100_000_000L;
+
+    private static final int ROW_CHUNK = 50_000;
+    private static final int PROGRESS_USER_CHUNK = 2_000;
+    private static final int ENROLLMENT_USER_CHUNK = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final LoadTestOptions options;
+
+    LoadTestSeeder(DataSource dataSource, ObjectMapper objectMapper, LoadTestOptions options) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.objectMapper = objectMapper;
+        this.options = options;
+    }
+
+    SeedLayout seed() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS lt_seed_state (
+                    fingerprint VARCHAR(255) NOT NULL PRIMARY KEY,
+                    layout JSON NOT NULL,
+                    completed_at DATETIME NOT NULL
+                )""");
+
+        String fingerprint = options.seedFingerprint();
+        SeedLayout completed = findCompleted(fingerprint);
+        if (completed != null) {
+            log.info("시드 재사용 - {}", fingerprint);
+            return completed;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        log.info("시드 시작 - {}, 진도율 {}행, 병렬 {}", fingerprint, options.progressRows(), options.seedParallelism());
+
+        ExecutorService executor = Executors.newFixedThreadPool(options.seedParallelism());
+        try {
+            fillSequence(Stream.of(options.users(), options.videos(), options.sections(),
+                    options.effectiveProgressPerUser(), options.effectiveEnrollmentsPerUser())
+                    .max(Integer::compare).orElseThrow());
+
+            SeedLayout layout = SeedLayout.plan(options,
+                    maxId("user"), maxId("instructor_profile"), maxId("category"), maxId("course"),
+                    maxId("section"), maxId("lecture"), maxId("video"),
+                    ROOT_CATEGORIES.size(), CHILD_CATEGORY_SUFFIXES.size());
+
+            seedUsers(executor, layout);
+            seedCatalog(executor, layout);
+            seedProgress(executor, layout);
+            seedActiveUsers(executor, layout);
+
+            log.info("통계 갱신 (ANALYZE TABLE)");
+            jdbcTemplate.execute("ANALYZE TABLE user, instructor_profile, category, course, course_category, "
+                    + "section, lecture, video, video_progress, wallet, wallet_balance, course_enrollment");
+
+            jdbcTemplate.update("INSERT INTO lt_seed_state (fingerprint, layout, completed_at) VALUES (?, ?, NOW())",
+                    fingerprint, objectMapper.writeValueAsString(layout));
+            log.info("시드 완료 - {}초", (System.currentTimeMillis() - startedAt) / 1000);
+            return layout;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("시드 배치 저장 실패", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void seedUsers(ExecutorService executor, SeedLayout layout) {
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        long userBase = layout.userBase();
+
+        runChunks(executor, "user", layout.users(), ROW_CHUNK, """
+                INSERT INTO user (id, name, member_id, password, phone, email, birth, gender, status,
+                                  jointype, is_creator, created_at, updated_at)
+                SELECT %d + s.n + 1, CONCAT('부하사용자', s.n), CONCAT('lt%d_', s.n), '%s',
+                       CONCAT('010', LPAD(s.n, 8, '0')), CONCAT('lt%d_', s.n, '@loadtest.local'),
+                       DATE '1980-01-01' + INTERVAL MOD(s.n, 9000) DAY, MOD(s.n, 2), 1,
+                       0, s.n < %d, NOW(), NOW()
+                FROM lt_seq s WHERE s.n >= ? AND s.n < ?
+                """.formatted(userBase, userBase, passwordHash, userBase, layout.instructors()));
+
+        runChunks(executor, "instructor_profile", layout.instructors(), ROW_CHUNK, """
+                INSERT INTO instructor_profile (id, user_id, channel_name, channel_url, pay_status, channel_status,
+                                                is_active, created_at)
+                SELECT %d + s.n + 1, %d + s.n + 1, CONCAT('부하강사 ', s.n),
+                       CONCAT('https://loadtest.local/channel/%d/', s.n), 'ACTIVE', 'ACTIVE', 1, NOW()
+                FROM lt_seq s WHERE s.n >= ? AND s.n < ?
+                """.formatted(layout.instructorBase(), userBase, layout.instructorBase()));
+    }
+
+    // 카테고리 → 코스 → 코스-카테고리 → 섹션 → 강의 → 비디오 (강의당 비디오 1개, 인코딩 완료 상태)
+    private void seedCatalog(ExecutorService executor, SeedLayout layout) {
+        seedCategories(layout);
+
+        int lecturesPerCourse = layout.lecturesPerCourse();
+        runChunks(executor, "course", layout.courses(), ROW_CHUNK, """
+                INSERT INTO course (id, instructor_id, title, summary, level, duration_minutes, thumbnail_url,
+                                    price, discount_percentage, is_published, created_at, updated_at)
+                SELECT %d + s.n + 1, %d + MOD(s.n, %d) + 1,
+                       CONCAT(ELT(1 + MOD(s.n, %d), %s), ' ', ELT(1 + MOD(s.n DIV %d, 3), %s), ' 완전 정복 #', s.n),
+                       CONCAT(ELT(1 + MOD(s.n, %d), %s), ' 실무 예제로 배우는 부하 테스트 코스 ', s.n),
+                       ELT(1 + MOD(s.n DIV %d, 3), %s), %d,
+                       CONCAT('courses/thumbnails/lt-', s.n, '.jpg'),
+                       10000 + MOD(s.n, 20) * 5000, MOD(s.n, 4) * 10, 1,
+                       NOW() - INTERVAL MOD(s.n, 1000) DAY, NOW()
+                FROM lt_seq s WHERE s.n >= ? AND s.n < ?
+                """.formatted(layout.courseBase(), layout.instructorBase(), layout.instructors(),
+                TOPICS.size(), sqlList(TOPICS), TOPICS.size(), sqlList(LEVEL_WORDS),
+                TOPICS.size(), sqlList(TOPICS),
+                TOPICS.size(), sqlList(LEVELS), lecturesPerCourse * 15));
+
+        runChunks(executor, "course_category", layout.courses(), ROW_CHUNK, """
+                INSERT INTO course_category (course_id, category_id)
+                SELECT %d + s.n + 1, %d + MOD(s.n, %d) + 1
+                FROM lt_seq s WHERE s.n >= ? AND s.n < ?
+                """.formatted(layout.courseBase(), layout.categoryBase() + layout.rootCategories(),
+                layout.childCategories()));
+
+        int sectionsPerCourse = layout.sectionsPerCourse();
+        int lecturesPerSection = layout.lecturesPerSection();
+        runChunks(executor, "section", layout.sections(), ROW_CHUNK, """
+                INSERT INTO section (id, course_id, title, sequence, duration_minutes, cookie_price, discount_percentage)
+                SELECT %d + s.n + 1, %d + s.n DIV %d + 1, CONCAT('섹션 ', MOD(s.n, %d) + 1), MOD(s.n, %d) + 1,
+                       %d, 100 + MOD(s.n, 5) * 50, 0
+                FROM lt_seq s WHERE s.n >= ? AND s.n < ?
+                """.formatted(layout.sectionBase(), layout.courseBase(), sectionsPerCourse,
+                sectionsPerCourse, sectionsPerCourse, lecturesPerSection * 15));
+
+        // 강의 l 의 섹션 = l DIV lecturesPerSection (섹션이 코스, 순서 순으로 연속이므로)
+        runChunks(executor, "lecture", layout.videos(), ROW_CHUNK, """
+                INSERT INTO lecture (id, course_id, section_id, instructor_id, title, upload_date, sequence,
+                                     is_free, status)
+                SELECT %d + s.n + 1, %d + s.n DIV %d + 1, %d + s.n DIV %d + 1, %d + MOD(s.n DIV %d, %d) + 1,
+                       CONCAT('강의 ', MOD(s.n, %d) + 1), CURDATE(), MOD(s.n, %d) + 1,
+                       MOD(s.n, %d) = 0, 'ACTIVE'
+                FROM lt_seq s WHERE s.n >= ? AND s.n < ?
+                """.formatted(layout.lectureBase(), layout.courseBase(), lecturesPerCourse,
+                layout.sectionBase(), lecturesPerSection, layout.instructorBase(), lecturesPerCourse,
+                layout.instructors(), lecturesPerCourse, lecturesPerCourse, lecturesPerCourse));
+
+        runChunks(executor, "video", layout.videos(), ROW_CHUNK, """
+                INSERT INTO video (id, lecture_id, name, original_url, url_720p, duration_seconds, resolution,
+                                   file_size, encoding_status, default_resolution, encoding_progress, created_at)
+                SELECT %d + s.n + 1, %d + s.n + 1, CONCAT('lt-video-', s.n, '.mp4'),
+                       CONCAT('videos/lt-', s.n, '/original.mp4'), CONCAT('videos/lt-', s.n, '/720p.mp4'),
+                       600 + MOD(s.n, 900), '720p', 104857600, 'COMPLETED', '720p', 100, NOW()
+                FROM lt_seq s WHERE s.n >= ? AND s.n < ?
+                """.formatted(layout.videoBase(), layout.lectureBase()));
+    }
+
+    private void seedCategories(SeedLayout layout) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int root = 0; root < layout.rootCategories(); root++) {
+            rows.add(new Object[]{layout.categoryBase() + root + 1, ROOT_CATEGORIES.get(root), null, root + 1, 0});
+        }
+        for (int root = 0; root < layout.rootCategories(); root++) {
+            for (int child = 0; child < layout.childCategoriesPerRoot(); child++) {
+                int childIndex = root * layout.childCategoriesPerRoot() + child;
+                rows.add(new Object[]{layout.childCategoryId(childIndex),
+                        ROOT_CATEGORIES.get(root) + " " + CHILD_CATEGORY_SUFFIXES.get(child),
+                        layout.categoryBase() + root + 1, child + 1, 1});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO category (id, name, parent_id, order_no, depth) VALUES (?, ?, ?, ?, ?)", rows);
+    }
+
+    // 사용자 n 의 k 번째 진도율 비디오 = (n * PROGRESS_USER_STRIDE + k * progressStep) mod 비디오 수
+    private void seedProgress(ExecutorService executor, SeedLayout layout) {
+        if (layout.progressPerUser() == 0) {
+            return;
+        }
+        runChunks(executor, "video_progress (사용자 단위)", layout.users(), PROGRESS_USER_CHUNK, """
+                INSERT INTO video_progress (user_id, video_id, last_position, duration, is_completed, updated_at)
+                SELECT %d + p.u + 1, %d + p.v + 1,
+                       MOD(p.u + p.k * 37, 600 + MOD(p.v, 900)), 600 + MOD(p.v, 900), MOD(p.u + p.k, 5) = 0,
+                       NOW() - INTERVAL MOD(p.u * 13 + p.k * 7, 43200) MINUTE
+                FROM (
+                    SELECT u.n AS u, k.n AS k, MOD(u.n * %d + k.n * %d, %d) AS v
+                    FROM lt_seq u JOIN lt_seq k ON k.n < %d
+                    WHERE u.n >= ? AND u.n < ?
+                ) p
+                """.formatted(layout.userBase(), layout.videoBase(),
+                SeedLayout.PROGRESS_USER_STRIDE, layout.progressStep(), layout.videos(), layout.progressPerUser()));
+    }
+
+    // 트래픽을 보내는 사용자: 지갑(쿠키 충분히) + 수강신청 (스트리밍 URL 권한)
+    private void seedActiveUsers(ExecutorService executor, SeedLayout layout) {
+        long walletBase = maxId("wallet");
+        runChunks(executor, "wallet", layout.activeUsers(), ROW_CHUNK, """
+                INSERT INTO wallet (id, user_id, is_active)
+                SELECT %d + s.n + 1, %d + s.n + 1, 1
+                FROM lt_seq s WHERE s.n >= ? AND s.n < ?
+                """.formatted(walletBase, layout.userBase()));
+
+        runChunks(executor, "wallet_balance", layout.activeUsers(), ROW_CHUNK, """
+                INSERT INTO wallet_balance (wallet_id, currency_code, amount, frozen_amount)
+                SELECT %d + s.n + 1, 'KRW', %d, 0
+                FROM lt_seq s WHERE s.n >= ? AND s.n < ?
+                """.formatted(walletBase, WALLET_BALANCE));
+
+        runChunks(executor, "course_enrollment (사용자 단위)", layout.activeUsers(), ENROLLMENT_USER_CHUNK, """
+                INSERT INTO course_enrollment (user_id, course_id, status, enrollment_source, total_lectures_count,
+                                               enrolled_at)
+                SELECT %d + u.n + 1, %d + MOD(u.n * %d + k.n * %d, %d) + 1, 'ACTIVE', 'ADMIN_GRANT', %d, NOW()
+                FROM lt_seq u JOIN lt_seq k ON k.n < %d
+                WHERE u.n >= ? AND u.n < ?
+                """.formatted(layout.userBase(), layout.courseBase(), SeedLayout.ENROLLMENT_USER_STRIDE,
+                layout.enrollmentStep(), layout.courses(), layout.lecturesPerCourse(), layout.enrollmentsPerUser()));
+    }
+
+    // 0 ~ size-1 숫자 테이블 (자릿수 테이블 교차 조인으로 한 번에 생성)
+    private void fillSequence(int size) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS lt_digit (d TINYINT NOT NULL PRIMARY KEY)");
+        jdbcTemplate.execute("INSERT IGNORE INTO lt_digit (d) VALUES (0), (1), (2), (3), (4), (5), (6), (7), (8), (9)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS lt_seq (n INT NOT NULL PRIMARY KEY)");
+
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM lt_seq", Long.class);
+        if (existing != null && existing >= size) {
+            return;
+        }
+
+        int digits = String.valueOf(Math.max(size - 1, 1)).length();
+        StringBuilder value = new StringBuilder("d0.d");
+        StringBuilder from = new StringBuilder("lt_digit d0");
+        long place = 1;
+        for (int i = 1; i < digits; i++) {
+            place *= 10;
+            value.append(" + d").append(i).append(".d * ").append(place);
+            from.append(" CROSS JOIN lt_digit d").append(i);
+        }
+
+        jdbcTemplate.execute("TRUNCATE TABLE lt_seq");
+        jdbcTemplate.update("INSERT INTO lt_seq (n) SELECT n FROM (SELECT " + value + " AS n FROM " + from
+                + ") digits WHERE n < ?", size);
+        log.info("숫자 테이블 생성 - {}행", size);
+    }
+
+    private void runChunks(ExecutorService executor, String label, long total, int chunkSize, String sql) {
+        if (total <= 0) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        AtomicLong done = new AtomicLong();
+        AtomicLong rows = new AtomicLong();
+        long logEvery = Math.max(total / 10, 1);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (long from = 0; from < total; from += chunkSize) {
+            long start = from;
+            long end = Math.min(from + chunkSize, total);
+            futures.add(executor.submit(() -> {
+                rows.addAndGet(executeChunk(sql, start, end));
+                long before = done.getAndAdd(end - start);
+                if ((before + end - start) / logEvery > before / logEvery) {
+                    log.info("{} 시드 진행 - {}/{}", label, before + end - start, total);
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("시드 중단: " + label, e);
+            } catch (ExecutionException e) {
+                futures.forEach(pending -> pending.cancel(true));
+                throw new IllegalStateException("시드 실패: " + label, e.getCause());
+            }
+        }
+        log.info("{} 시드 완료 - {}행, {}초", label, rows.get(), (System.currentTimeMillis() - startedAt) / 1000);
+    }
+
+    // 청크 하나 = 자동 커밋 문장 하나, 풀 커넥션이므로 세션 설정은 끝나면 되돌림
+    private int executeChunk(String sql, long from, long to) {
+        Integer inserted = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (Statement session = connection.createStatement()) {
+                session.execute("SET SESSION foreign_key_checks = 0, unique_checks = 0");
+            }
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, from);
+                statement.setLong(2, to);
+                return statement.executeUpdate();
+            } finally {
+                try (Statement session = connection.createStatement()) {
+                    session.execute("SET SESSION foreign_key_checks = 1, unique_checks = 1");
+                }
+            }
+        });
+        return inserted != null ? inserted : 0;
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM `" + table + "`", Long.class);
+        return max != null ? max : 0L;
+    }
+
+    private SeedLayout findCompleted(String fingerprint) {
+        try {
+            String layout = jdbcTemplate.queryForObject(
+                    "SELECT layout FROM lt_seed_state WHERE fingerprint = ?", String.class, fingerprint);
+            return objectMapper.readValue(layout, SeedLayout.class);
+        } catch (EmptyResultDataAccessException e) {
+            return null;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 시드 배치를 읽을 수 없습니다: " + fingerprint, e);
+        }
+    }
+
+    // ELT() 인자 목록 ('a', 'b', ...) - 상수 목록만 사용
+    private static String sqlList(List<String> values) {
+        return values.stream().map(value -> "'" + value + "'").collect(Collectors.joining(", "));
+    }
+}
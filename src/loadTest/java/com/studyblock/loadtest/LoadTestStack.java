@@ -0,0 +1,121 @@
+package com.studyblock.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.lifecycle.Startables;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.BucketAlreadyOwnedByYouException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 로컬 스택 (Testcontainers)
+ * - MySQL 8.0: 운영과 같은 Flyway 마이그레이션 적용, 대량 시드를 위해 버퍼 풀 / redo 용량만 키움
+ * - Redis 7
+ * - LocalStack S3: presigned URL / 업로드 경로가 실제 S3 호환 엔드포인트를 사용하도록
+ *
+ * 재사용(loadtest.reuse-containers)은 ~/.testcontainers.properties 의 testcontainers.reuse.enable=true 필요
+ */
+@Slf4j
+final class LoadTestStack implements AutoCloseable {
+
+    private static final DockerImageName MYSQL_IMAGE = DockerImageName.parse("mysql:8.0.36");
+    private static final DockerImageName REDIS_IMAGE = DockerImageName.parse("redis:7.2-alpine");
+    private static final DockerImageName LOCALSTACK_IMAGE = DockerImageName.parse("localstack/localstack:3.4");
+
+    private static final String DATABASE = "studyblock";
+    private static final String BUCKET = "study-block-loadtest";
+    private static final int REDIS_PORT = 6379;
+
+    private final MySQLContainer<?> mysql;
+    private final GenericContainer<?> redis;
+    private final LocalStackContainer localStack;
+    private final boolean reuse;
+
+    private LoadTestStack(LoadTestOptions options) {
+        this.reuse = options.reuseContainers();
+        this.mysql = new MySQLContainer<>(MYSQL_IMAGE)
+                .withDatabaseName(DATABASE)
+                .withUsername("studyblock")
+                .withPassword("studyblock")
+                .withUrlParam("rewriteBatchedStatements", "true")
+                .withUrlParam("allowPublicKeyRetrieval", "true")
+                .withUrlParam("useSSL", "false")
+                .withUrlParam("serverTimezone", "Asia/Seoul")
+                .withCommand(
+                        "--character-set-server=utf8mb4",
+                        "--collation-server=utf8mb4_unicode_ci",
+                        "--innodb-buffer-pool-size=" + System.getProperty("loadtest.mysql-buffer-pool", "2G"),
+                        "--innodb-redo-log-capacity=2G",
+                        "--max-connections=500")
+                .withReuse(reuse);
+        this.redis = new GenericContainer<>(REDIS_IMAGE)
+                .withExposedPorts(REDIS_PORT)
+                .withReuse(reuse);
+        this.localStack = new LocalStackContainer(LOCALSTACK_IMAGE)
+                .withServices(LocalStackContainer.Service.S3)
+                .withReuse(reuse);
+    }
+
+    static LoadTestStack start(LoadTestOptions options) {
+        LoadTestStack stack = new LoadTestStack(options);
+        long startedAt = System.currentTimeMillis();
+        Startables.deepStart(stack.mysql, stack.redis, stack.localStack).join();
+        stack.createBucket();
+        log.info("로컬 스택 기동 완료 - {}ms, MySQL: {}, Redis: {}:{}, S3: {}",
+                System.currentTimeMillis() - startedAt, stack.mysql.getJdbcUrl(),
+                stack.redis.getHost(), stack.redis.getMappedPort(REDIS_PORT), stack.localStack.getEndpoint());
+        return stack;
+    }
+
+    /**
+     * 애플리케이션 설정 (커맨드라인 인자로 넘겨 application.yml 보다 우선 적용)
+     */
+    Map<String, String> applicationProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", mysql.getJdbcUrl());
+        properties.put("spring.datasource.username", mysql.getUsername());
+        properties.put("spring.datasource.password", mysql.getPassword());
+        properties.put("spring.datasource.driver-class-name", "com.mysql.cj.jdbc.Driver");
+        properties.put("spring.data.redis.host", redis.getHost());
+        properties.put("spring.data.redis.port", String.valueOf(redis.getMappedPort(REDIS_PORT)));
+        properties.put("spring.cloud.aws.region.static", localStack.getRegion());
+        properties.put("spring.cloud.aws.credentials.access-key", localStack.getAccessKey());
+        properties.put("spring.cloud.aws.credentials.secret-key", localStack.getSecretKey());
+        properties.put("spring.cloud.aws.s3.endpoint", localStack.getEndpoint().toString());
+        properties.put("spring.cloud.aws.s3.bucket", BUCKET);
+        return properties;
+    }
+
+    private void createBucket() {
+        try (S3Client s3Client = S3Client.builder()
+                .endpointOverride(localStack.getEndpoint())
+                .forcePathStyle(true)
+                .region(Region.of(localStack.getRegion()))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(localStack.getAccessKey(), localStack.getSecretKey())))
+                .build()) {
+            s3Client.createBucket(request -> request.bucket(BUCKET));
+        } catch (BucketAlreadyOwnedByYouException e) {
+            log.debug("S3 버킷 재사용 - {}", BUCKET);
+        }
+    }
+
+    // 재사용 모드에서는 다음 실행을 위해 컨테이너를 남겨 둠
+    @Override
+    public void close() {
+        if (reuse) {
+            return;
+        }
+        localStack.stop();
+        redis.stop();
+        mysql.stop();
+    }
+}
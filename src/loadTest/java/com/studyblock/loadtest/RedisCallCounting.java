@@ -0,0 +1,74 @@
+package com.studyblock.loadtest;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Redis 명령 수 / 왕복 수 계측 (RedisConnectionFactory → RedisConnection → 명령 그룹 프록시)
+ * - 명령: connection.xxx() 또는 connection.stringCommands().xxx() 등 명령 메서드 호출 1회
+ * - 왕복: 파이프라인 / MULTI 밖의 명령 1회, 파이프라인은 closePipeline 1회
+ * - RedisTemplate / StringRedisTemplate / 바이트 템플릿 모두 같은 커넥션 팩토리를 거치므로 함께 집계
+ */
+final class RedisCallCounting {
+
+    // 명령이 아닌 커넥션 관리 메서드 (closePipeline 은 왕복으로 따로 집계)
+    private static final Set<String> NON_COMMANDS = Set.of(
+            "close", "isClosed", "getNativeConnection", "isQueueing", "isPipelined", "openPipeline",
+            "getSentinelConnection", "getSubscription", "isSubscribed");
+
+    private RedisCallCounting() {
+    }
+
+    static RedisConnectionFactory wrap(RedisConnectionFactory connectionFactory) {
+        ProxyFactory proxyFactory = new ProxyFactory(connectionFactory);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            Object result = invocation.proceed();
+            return result instanceof RedisConnection connection ? connection(connection) : result;
+        });
+        return (RedisConnectionFactory) proxyFactory.getProxy(RedisCallCounting.class.getClassLoader());
+    }
+
+    private static Object connection(RedisConnection target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            Method method = invocation.getMethod();
+            String name = method.getName();
+            if (method.getDeclaringClass() == Object.class || NON_COMMANDS.contains(name)) {
+                return invocation.proceed();
+            }
+            if (name.equals("closePipeline")) {
+                Object result = invocation.proceed();
+                ServerCounters.redisPipelineFlushed();
+                return result;
+            }
+            // stringCommands(), hashCommands() 등 명령 그룹은 그룹의 메서드 호출을 집계
+            if (name.endsWith("Commands") && method.getParameterCount() == 0) {
+                Object commands = invocation.proceed();
+                return commands != null ? commandGroup(commands, target) : null;
+            }
+            countCommand(target);
+            return invocation.proceed();
+        });
+        return proxyFactory.getProxy(RedisCallCounting.class.getClassLoader());
+    }
+
+    private static Object commandGroup(Object target, RedisConnection connection) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            if (invocation.getMethod().getDeclaringClass() != Object.class) {
+                countCommand(connection);
+            }
+            return invocation.proceed();
+        });
+        return proxyFactory.getProxy(RedisCallCounting.class.getClassLoader());
+    }
+
+    private static void countCommand(RedisConnection connection) {
+        ServerCounters.redisCommand(!connection.isPipelined() && !connection.isQueueing());
+    }
+}
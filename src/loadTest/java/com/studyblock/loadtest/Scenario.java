@@ -0,0 +1,40 @@
+package com.studyblock.loadtest;
+
+/**
+ * 트래픽 시나리오 (엔드포인트 하나 = 시나리오 하나, 리포트 집계 단위)
+ */
+enum Scenario {
+
+    BROWSE("browse", "GET /api/course/category/{categoryId}"),
+    SEARCH("search", "GET /api/search/courses"),
+    DETAIL("detail", "GET /api/courses/{courseId}/detail"),
+    STREAM_URL("stream", "GET /api/videos/{videoId}/stream-url"),
+    HEARTBEAT("heartbeat", "POST /api/videos/{videoId}/progress"),
+    CHECKOUT("checkout", "POST /api/sections/purchase"),
+    REFUND("refund", "POST /api/refunds");
+
+    private final String key;
+    private final String endpoint;
+
+    Scenario(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    static Scenario fromKey(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equalsIgnoreCase(key)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 시나리오: " + key);
+    }
+}
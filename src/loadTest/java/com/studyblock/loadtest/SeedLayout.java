@@ -0,0 +1,122 @@
+package com.studyblock.loadtest;
+
+/**
+ * 시드 데이터 배치 (ID 구간 + 결정적 배정 규칙)
+ * - 각 테이블은 시드 시점 MAX(id) 다음부터 연속 ID 로 채움 → 트래픽 드라이버가 DB 조회 없이 ID 계산
+ * - 배정 규칙은 LoadTestSeeder 의 INSERT ... SELECT 식과 같아야 함 (사용자 n 의 진도율 / 수강신청 코스)
+ * - 중복 없는 배정: step 과 전체 개수가 서로소이면 (base + k * step) mod N 은 k < N 에서 모두 다름
+ */
+record SeedLayout(
+        long userBase,
+        int users,
+        long instructorBase,
+        int instructors,
+        long categoryBase,
+        int rootCategories,
+        int childCategoriesPerRoot,
+        long courseBase,
+        int courses,
+        long sectionBase,
+        int sectionsPerCourse,
+        long lectureBase,
+        int lecturesPerSection,
+        long videoBase,
+        int progressPerUser,
+        int progressStep,
+        int activeUsers,
+        int enrollmentsPerUser,
+        int enrollmentStep
+) {
+
+    static final int PROGRESS_USER_STRIDE = 7919;
+    static final int ENROLLMENT_USER_STRIDE = 31;
+
+    static SeedLayout plan(LoadTestOptions options, long userBase, long instructorBase, long categoryBase,
+                           long courseBase, long sectionBase, long lectureBase, long videoBase,
+                           int rootCategories, int childCategoriesPerRoot) {
+        int courses = options.courses();
+        int videos = options.videos();
+        return new SeedLayout(
+                userBase, options.users(),
+                instructorBase, Math.max(courses / 100, 1),
+                categoryBase, rootCategories, childCategoriesPerRoot,
+                courseBase, courses,
+                sectionBase, options.sectionsPerCourse(),
+                lectureBase, options.lecturesPerSection(),
+                videoBase,
+                options.effectiveProgressPerUser(), coprimeStep(videos, 13),
+                options.effectiveActiveUsers(), options.effectiveEnrollmentsPerUser(), coprimeStep(courses, 97));
+    }
+
+    int lecturesPerCourse() {
+        return sectionsPerCourse * lecturesPerSection;
+    }
+
+    int sections() {
+        return courses * sectionsPerCourse;
+    }
+
+    int videos() {
+        return courses * lecturesPerCourse();
+    }
+
+    int childCategories() {
+        return rootCategories * childCategoriesPerRoot;
+    }
+
+    long userId(int userIndex) {
+        return userBase + userIndex + 1;
+    }
+
+    long courseId(int courseIndex) {
+        return courseBase + courseIndex + 1;
+    }
+
+    long sectionId(int sectionIndex) {
+        return sectionBase + sectionIndex + 1;
+    }
+
+    long videoId(int videoIndex) {
+        return videoBase + videoIndex + 1;
+    }
+
+    // 대분류 다음에 소분류가 이어지는 ID
+    long childCategoryId(int childIndex) {
+        return categoryBase + rootCategories + childIndex + 1;
+    }
+
+    // 코스 c 의 강의(= 비디오)는 c * lecturesPerCourse 부터 연속
+    int videoIndex(int courseIndex, int lectureInCourse) {
+        return courseIndex * lecturesPerCourse() + lectureInCourse;
+    }
+
+    static int videoDurationSeconds(int videoIndex) {
+        return 600 + videoIndex % 900;
+    }
+
+    /**
+     * 사용자의 k 번째 진도율 비디오 (k < progressPerUser)
+     */
+    int progressVideoIndex(int userIndex, int k) {
+        return (int) (((long) userIndex * PROGRESS_USER_STRIDE + (long) k * progressStep) % videos());
+    }
+
+    /**
+     * 활성 사용자의 k 번째 수강신청 코스 (k < enrollmentsPerUser)
+     */
+    int enrolledCourseIndex(int userIndex, int k) {
+        return (int) (((long) userIndex * ENROLLMENT_USER_STRIDE + (long) k * enrollmentStep) % courses);
+    }
+
+    private static int coprimeStep(int modulus, int preferred) {
+        int step = preferred;
+        while (gcd(step, modulus) != 1) {
+            step++;
+        }
+        return step;
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+}
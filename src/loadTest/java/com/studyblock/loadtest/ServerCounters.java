@@ -0,0 +1,130 @@
+package com.studyblock.loadtest;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 애플리케이션 쪽 SQL / Redis 호출 수 (같은 JVM 에서 실행하므로 정적 카운터로 공유)
+ * - 전체: 모든 스레드 (스케줄러, 비동기 후처리, 시드 포함)
+ * - 엔드포인트별: EndpointAttributionFilter 가 표시한 요청 스레드에서 발생한 호출만
+ * - 전체 - 엔드포인트별 합 = 요청 밖(백그라운드)에서 발생한 호출
+ */
+final class ServerCounters {
+
+    static final String ENDPOINT_HEADER = "X-Load-Test-Endpoint";
+
+    private static final int SQL = 0;
+    private static final int REDIS_COMMANDS = 1;
+    private static final int REDIS_ROUND_TRIPS = 2;
+
+    // 요청 스레드에서 집계 중인 카운트 (없으면 요청 밖)
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    private static final Counts TOTAL = new Counts();
+    private static final Map<Scenario, Counts> BY_SCENARIO;
+
+    static {
+        Map<Scenario, Counts> byScenario = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            byScenario.put(scenario, new Counts());
+        }
+        BY_SCENARIO = Collections.unmodifiableMap(byScenario);
+    }
+
+    private ServerCounters() {
+    }
+
+    static void sqlExecuted() {
+        TOTAL.sql.increment();
+        long[] current = CURRENT.get();
+        if (current != null) {
+            current[SQL]++;
+        }
+    }
+
+    /**
+     * @param roundTrip 파이프라인 밖에서 실행되어 응답을 바로 기다리는 명령이면 true
+     */
+    static void redisCommand(boolean roundTrip) {
+        TOTAL.redisCommands.increment();
+        if (roundTrip) {
+            TOTAL.redisRoundTrips.increment();
+        }
+        long[] current = CURRENT.get();
+        if (current != null) {
+            current[REDIS_COMMANDS]++;
+            if (roundTrip) {
+                current[REDIS_ROUND_TRIPS]++;
+            }
+        }
+    }
+
+    // 파이프라인 종료 (쌓인 명령을 한 번의 왕복으로 전송)
+    static void redisPipelineFlushed() {
+        TOTAL.redisRoundTrips.increment();
+        long[] current = CURRENT.get();
+        if (current != null) {
+            current[REDIS_ROUND_TRIPS]++;
+        }
+    }
+
+    static void beginRequest() {
+        CURRENT.set(new long[3]);
+    }
+
+    static void endRequest(Scenario scenario) {
+        long[] current = CURRENT.get();
+        CURRENT.remove();
+        if (current == null) {
+            return;
+        }
+        Counts counts = BY_SCENARIO.get(scenario);
+        counts.requests.increment();
+        counts.sql.add(current[SQL]);
+        counts.redisCommands.add(current[REDIS_COMMANDS]);
+        counts.redisRoundTrips.add(current[REDIS_ROUND_TRIPS]);
+    }
+
+    /**
+     * 측정 구간 시작 (워밍업 / 시드 중 호출 수 제외)
+     */
+    static void reset() {
+        TOTAL.reset();
+        BY_SCENARIO.values().forEach(Counts::reset);
+    }
+
+    static Snapshot total() {
+        return TOTAL.snapshot();
+    }
+
+    static Snapshot of(Scenario scenario) {
+        return BY_SCENARIO.get(scenario).snapshot();
+    }
+
+    record Snapshot(long requests, long sql, long redisCommands, long redisRoundTrips) {
+
+        double perRequest(long value) {
+            return requests == 0 ? 0 : (double) value / requests;
+        }
+    }
+
+    private static final class Counts {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder sql = new LongAdder();
+        private final LongAdder redisCommands = new LongAdder();
+        private final LongAdder redisRoundTrips = new LongAdder();
+
+        private void reset() {
+            requests.reset();
+            sql.reset();
+            redisCommands.reset();
+            redisRoundTrips.reset();
+        }
+
+        private Snapshot snapshot() {
+            return new Snapshot(requests.sum(), sql.sum(), redisCommands.sum(), redisRoundTrips.sum());
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.studyblock.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyblock.global.security.jwt.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 트래픽 드라이버 (닫힌 모델: 가상 사용자마다 응답을 받은 뒤 다음 요청)
+ * - 가상 사용자는 요청마다 활성 사용자 한 명을 골라 그 사용자의 액세스 토큰 쿠키로 호출
+ * - 시나리오는 loadtest.mix 가중치로 선택, 코스 / 섹션은 상위 항목에 요청이 몰리도록 치우쳐 선택
+ * - 결제로 만든 주문은 환불 대기열에 넣고 환불 시나리오가 꺼내 사용 (없으면 결제로 대체)
+ */
+@Slf4j
+final class TrafficDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int MAX_PENDING_REFUNDS = 10_000;
+
+    private final LoadTestOptions options;
+    private final SeedLayout layout;
+    private final URI baseUri;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+    private final LoadTestMetrics metrics = new LoadTestMetrics();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final Map<Integer, String> accessTokens = new ConcurrentHashMap<>();
+    private final Queue<PendingRefund> pendingRefunds = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingRefundCount = new AtomicInteger();
+
+    private final Scenario[] scenarios = Scenario.values();
+    private final int[] cumulativeWeights = new int[scenarios.length];
+
+    TrafficDriver(LoadTestOptions options, SeedLayout layout, URI baseUri,
+                  JwtTokenProvider jwtTokenProvider, ObjectMapper objectMapper) {
+        this.options = options;
+        this.layout = layout;
+        this.baseUri = baseUri;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.objectMapper = objectMapper;
+
+        int total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += options.mix().get(scenarios[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    LoadTestMetrics run() throws InterruptedException {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService virtualUsers = Executors.newFixedThreadPool(options.virtualUsers(), runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-vu-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long warmupEndsAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long runEndsAt = warmupEndsAt + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+        for (int i = 0; i < options.virtualUsers(); i++) {
+            virtualUsers.execute(() -> runVirtualUser(runEndsAt));
+        }
+        log.info("트래픽 시작 - 가상 사용자 {}, 워밍업 {}초, 측정 {}초, 비율 {}",
+                options.virtualUsers(), options.warmupSeconds(), options.durationSeconds(), options.mix());
+
+        sleepUntil(warmupEndsAt);
+        ServerCounters.reset();
+        metrics.startMeasuring();
+        log.info("측정 시작");
+
+        sleepUntil(runEndsAt);
+        metrics.stopMeasuring();
+        log.info("측정 종료 - {}초", String.format("%.1f", metrics.measuredSeconds()));
+
+        virtualUsers.shutdownNow();
+        if (!virtualUsers.awaitTermination(REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            log.warn("일부 가상 사용자가 종료되지 않았습니다.");
+        }
+        return metrics;
+    }
+
+    private void runVirtualUser(long endsAt) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            while (System.nanoTime() < endsAt) {
+                execute(pickScenario(random), random);
+                if (options.thinkTimeMillis() > 0) {
+                    Thread.sleep(options.thinkTimeMillis());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("가상 사용자 오류로 종료", e);
+        }
+    }
+
+    private void execute(Scenario scenario, ThreadLocalRandom random) throws InterruptedException {
+        int user = random.nextInt(layout.activeUsers());
+        switch (scenario) {
+            case BROWSE -> get(scenario, user, "/api/course/category/"
+                    + layout.childCategoryId(random.nextInt(layout.childCategories()))
+                    + "?page=" + random.nextInt(5) + "&size=12");
+            case SEARCH -> get(scenario, user, "/api/search/courses?keyword="
+                    + URLEncoder.encode(LoadTestSeeder.TOPICS.get(random.nextInt(LoadTestSeeder.TOPICS.size())),
+                    StandardCharsets.UTF_8)
+                    + "&page=" + random.nextInt(3) + "&size=10");
+            case DETAIL -> get(scenario, user, "/api/courses/"
+                    + layout.courseId(skewed(random, layout.courses())) + "/detail");
+            case STREAM_URL -> get(scenario, user, "/api/videos/"
+                    + layout.videoId(enrolledVideo(user, random)) + "/stream-url");
+            case HEARTBEAT -> heartbeat(user, random);
+            case CHECKOUT -> checkout(user, random);
+            case REFUND -> refund(random);
+        }
+    }
+
+    private void heartbeat(int user, ThreadLocalRandom random) throws InterruptedException {
+        // 이미 진도율 행이 있는 영상 (진도율 시드가 없으면 수강 중인 코스의 영상)
+        int video = layout.progressPerUser() > 0
+                ? layout.progressVideoIndex(user, random.nextInt(layout.progressPerUser()))
+                : enrolledVideo(user, random);
+        int duration = SeedLayout.videoDurationSeconds(video);
+        String body = "{\"position\":" + random.nextInt(duration) + "." + random.nextInt(10)
+                + ",\"duration\":" + duration + "}";
+        post(Scenario.HEARTBEAT, user, "/api/videos/" + layout.videoId(video) + "/progress", body);
+    }
+
+    private void checkout(int user, ThreadLocalRandom random) throws InterruptedException {
+        long sectionId = layout.sectionId(skewed(random, layout.sections()));
+        HttpResponse<String> response = post(Scenario.CHECKOUT, user, "/api/sections/purchase",
+                "{\"sectionId\":" + sectionId + "}");
+        if (response == null || response.statusCode() != 200) {
+            return;
+        }
+
+        long orderId = readOrderId(response.body());
+        if (orderId <= 0) {
+            return;
+        }
+        if (pendingRefundCount.incrementAndGet() <= MAX_PENDING_REFUNDS) {
+            pendingRefunds.add(new PendingRefund(user, orderId));
+        } else {
+            pendingRefundCount.decrementAndGet();
+        }
+    }
+
+    private void refund(ThreadLocalRandom random) throws InterruptedException {
+        PendingRefund pending = pendingRefunds.poll();
+        if (pending == null) {
+            metrics.recordRefundFallback();
+            checkout(random.nextInt(layout.activeUsers()), random);
+            return;
+        }
+        pendingRefundCount.decrementAndGet();
+
+        String body = "{\"orderId\":" + pending.orderId()
+                + ",\"reason\":\"부하 테스트 환불\",\"idempotencyKey\":\"" + UUID.randomUUID() + "\"}";
+        post(Scenario.REFUND, pending.user(), "/api/refunds", body);
+    }
+
+    // 수강신청한 코스 중 하나의 영상 (스트리밍 URL 권한이 있는 영상)
+    private int enrolledVideo(int user, ThreadLocalRandom random) {
+        int course = layout.enrolledCourseIndex(user, random.nextInt(layout.enrollmentsPerUser()));
+        return layout.videoIndex(course, random.nextInt(layout.lecturesPerCourse()));
+    }
+
+    private void get(Scenario scenario, int user, String path) throws InterruptedException {
+        send(scenario, user, HttpRequest.newBuilder(baseUri.resolve(path)).GET());
+    }
+
+    private HttpResponse<String> post(Scenario scenario, int user, String path, String json) throws InterruptedException {
+        return send(scenario, user, HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    private HttpResponse<String> send(Scenario scenario, int user, HttpRequest.Builder builder) throws InterruptedException {
+        HttpRequest request = builder
+                .header("Cookie", "accessToken=" + accessToken(user))
+                .header(ServerCounters.ENDPOINT_HEADER, scenario.key())
+                .timeout(REQUEST_TIMEOUT)
+                .build();
+
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            metrics.recordResponse(scenario, System.nanoTime() - startedAt, response.statusCode());
+            if (response.statusCode() >= 500) {
+                log.debug("서버 오류 - {} {}: {}", scenario.endpoint(), response.statusCode(), response.body());
+            }
+            return response;
+        } catch (IOException e) {
+            metrics.recordTransportError(scenario);
+            log.debug("요청 실패 - {}", scenario.endpoint(), e);
+            return null;
+        }
+    }
+
+    private String accessToken(int user) {
+        return accessTokens.computeIfAbsent(user, key -> jwtTokenProvider.createAccessToken(layout.userId(key)));
+    }
+
+    private long readOrderId(String body) {
+        try {
+            JsonNode orderId = objectMapper.readTree(body).path("data").path("orderId");
+            return orderId.asLong(0);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private Scenario pickScenario(ThreadLocalRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    // 앞쪽 인덱스일수록 자주 선택 (상위 10% 항목이 요청의 약 46%)
+    private static int skewed(ThreadLocalRandom random, int size) {
+        return Math.min((int) (size * Math.pow(random.nextDouble(), 3)), size - 1);
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+
+    private record PendingRefund(int user, long orderId) {
+    }
+}
@@ -2,7 +2,11 @@ package com.studyblock.domain.admin.controller;
 
 import com.studyblock.domain.wallet.dto.CookieAdminStatsResponse;
 import com.studyblock.domain.wallet.dto.CookieAdminUsageResponse;
+import com.studyblock.domain.wallet.dto.WalletDriftReportResponse;
+import com.studyblock.domain.wallet.dto.WalletLedgerBalanceResponse;
 import com.studyblock.domain.wallet.service.CookieAdminService;
+import com.studyblock.domain.wallet.service.WalletLedgerEngine;
+import com.studyblock.domain.wallet.service.WalletLedgerVerifier;
 import com.studyblock.global.dto.CommonResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -35,6 +39,8 @@ import java.util.Map;
 public class CookieAdminController {
 
     private final CookieAdminService cookieAdminService;
+    private final WalletLedgerEngine walletLedgerEngine;
+    private final WalletLedgerVerifier walletLedgerVerifier;
 
     /**
      * 전체 사용자 쿠키 잔액 통계 조회
@@ -143,5 +149,51 @@ public class CookieAdminController {
                     .body(CommonResponse.error("쿠키 사용 내역 조회 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
+
+    /**
+     * 사용자 잔액 원장 재생 (스냅샷 + 꼬리) 및 저장 잔액 비교
+     * GET /api/admin/cookies/ledger-balance/{userId}
+     */
+    @Operation(summary = "원장 재생 잔액 조회", description = "wallet_ledger 스냅샷과 이후 원장으로 잔액을 재생하여 저장 잔액과 비교합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "500", description = "조회 실패")
+    })
+    @GetMapping("/ledger-balance/{userId}")
+    public ResponseEntity<CommonResponse<WalletLedgerBalanceResponse>> getLedgerBalance(@PathVariable Long userId) {
+        try {
+            WalletLedgerBalanceResponse balance = walletLedgerEngine.replayBalance(userId);
+            return ResponseEntity.ok(CommonResponse.success("원장 재생 잔액을 조회했습니다", balance));
+        } catch (Exception e) {
+            log.error("원장 재생 잔액 조회 실패 - userId: {}", userId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(CommonResponse.error("원장 재생 잔액 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 전체 지갑 정합성 검증 즉시 실행
+     * POST /api/admin/cookies/ledger-verify
+     */
+    @Operation(summary = "지갑 정합성 검증", description = "모든 지갑의 저장 잔액을 원장 재생 잔액과 병렬로 비교하고 불일치를 기록합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검증 완료"),
+            @ApiResponse(responseCode = "409", description = "이미 검증 실행 중"),
+            @ApiResponse(responseCode = "500", description = "검증 실패")
+    })
+    @PostMapping("/ledger-verify")
+    public ResponseEntity<CommonResponse<WalletDriftReportResponse>> verifyLedger() {
+        try {
+            WalletDriftReportResponse report = walletLedgerVerifier.verifyAll();
+            return ResponseEntity.ok(CommonResponse.success("지갑 정합성 검증을 완료했습니다", report));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(CommonResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("지갑 정합성 검증 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(CommonResponse.error("지갑 정합성 검증 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
 }
 
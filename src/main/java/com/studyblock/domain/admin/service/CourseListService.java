@@ -3,8 +3,10 @@ package com.studyblock.domain.admin.service;
 import com.studyblock.domain.admin.dto.CourseListResponse;
 import com.studyblock.domain.admin.repository.CourseListRepository;
 import com.studyblock.domain.course.entity.Course;
+import com.studyblock.domain.course.event.CourseCatalogChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ import java.util.stream.Collectors;
 public class CourseListService {
 
     private final CourseListRepository courseListRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 코스 리스트 불러오기
     public List<CourseListResponse> getCourseList() {
@@ -58,6 +61,7 @@ public class CourseListService {
         }
 
         courseListRepository.save(course); // 변경사항 저장
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(courseId));
         log.info("강의 공개/비공개 상태 변경 성공: courseId={}, isPublished={}", courseId, isPublished);
     }
 
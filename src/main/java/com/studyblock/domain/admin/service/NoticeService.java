@@ -30,7 +30,6 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NoticeService {
 
-    private static final int NOTICE_IMAGE_URL_EXPIRATION_MINUTES = 30;
 
     private final AdminPostRepository adminPostRepository;
     private final BoardRepository boardRepository;
@@ -106,26 +105,7 @@ public class NoticeService {
         // 이미지 제거 요청이 있으면 이미지 삭제
         if (removeImage != null && removeImage) {
             if (post.getImageUrl() != null) {
-                // JSON 배열인 경우 파싱하여 각 이미지 삭제
-                try {
-                    List<String> existingUrls = objectMapper.readValue(post.getImageUrl(), new TypeReference<List<String>>() {});
-                    for (String url : existingUrls) {
-                        try {
-                            s3StorageService.deleteFile(url);
-                            log.info("공지사항 이미지 삭제 성공: {}", url);
-                        } catch (Exception e) {
-                            log.warn("공지사항 이미지 S3 삭제 실패: {}", url, e);
-                        }
-                    }
-                } catch (Exception e) {
-                    // JSON이 아니면 단일 URL로 처리
-                    try {
-                        s3StorageService.deleteFile(post.getImageUrl());
-                        log.info("공지사항 이미지 삭제 성공: {}", post.getImageUrl());
-                    } catch (Exception ex) {
-                        log.warn("공지사항 이미지 S3 삭제 실패: {}", post.getImageUrl(), ex);
-                    }
-                }
+                deleteImages(post.getImageUrl());
             }
             imageUrl = null; // DB에서도 이미지 URL 제거
         } else if (files != null && !files.isEmpty()) {
@@ -145,25 +125,9 @@ public class NoticeService {
                 }
             }
 
-            // 기존 이미지가 있으면 S3에서 삭제
+            // 기존 이미지가 있으면 S3에서 삭제 (새 이미지와 내용이 같으면 같은 key 이므로 내용 해시 key 는 유지)
             if (post.getImageUrl() != null) {
-                try {
-                    List<String> existingUrls = objectMapper.readValue(post.getImageUrl(), new TypeReference<List<String>>() {});
-                    for (String url : existingUrls) {
-                        try {
-                            s3StorageService.deleteFile(url);
-                        } catch (Exception e) {
-                            log.warn("기존 이미지 S3 삭제 실패: {}", url, e);
-                        }
-                    }
-                } catch (Exception e) {
-                    // JSON이 아니면 단일 URL로 처리
-                    try {
-                        s3StorageService.deleteFile(post.getImageUrl());
-                    } catch (Exception ex) {
-                        log.warn("기존 이미지 S3 삭제 실패: {}", post.getImageUrl(), ex);
-                    }
-                }
+                deleteImages(post.getImageUrl());
             }
 
             // URL 리스트 JSON 변환
@@ -192,6 +156,27 @@ public class NoticeService {
         adminPostRepository.save(post);
     }
 
+    // 공지사항 이미지 삭제 (JSON 배열 또는 단일 URL, 다른 글과 공유될 수 있는 내용 해시 이미지는 S3StorageService 가 건너뜀)
+    private void deleteImages(String imageUrl) {
+        List<String> urls;
+        try {
+            urls = objectMapper.readValue(imageUrl, new TypeReference<List<String>>() {});
+        } catch (Exception e) {
+            // JSON이 아니면 단일 URL로 처리
+            urls = List.of(imageUrl);
+        }
+
+        for (String url : urls) {
+            try {
+                if (s3StorageService.deleteImage(url)) {
+                    log.info("공지사항 이미지 삭제 성공: {}", url);
+                }
+            } catch (Exception e) {
+                log.warn("공지사항 이미지 S3 삭제 실패: {}", url, e);
+            }
+        }
+    }
+
     public NoticeResponse toNoticeResponse(Post post) {
         NoticeResponse response = NoticeResponse.from(post);
         String signedUrl = generateSignedUrl(response.getImageOriginalUrl());
@@ -213,7 +198,7 @@ public class NoticeService {
                 for (String url : urls) {
                     if (url != null && !url.isBlank()) {
                         try {
-                            String signedUrl = s3StorageService.generatePresignedUrl(url, NOTICE_IMAGE_URL_EXPIRATION_MINUTES);
+                            String signedUrl = s3StorageService.generateCacheableImageUrl(url);
                             signedUrls.add(signedUrl);
                         } catch (RuntimeException e) {
                             log.warn("공지사항 이미지 presigned URL 생성 실패 - url: {}", url, e);
@@ -233,7 +218,7 @@ public class NoticeService {
         
         // 단일 URL 처리
         try {
-            return s3StorageService.generatePresignedUrl(originalUrl, NOTICE_IMAGE_URL_EXPIRATION_MINUTES);
+            return s3StorageService.generateCacheableImageUrl(originalUrl);
         } catch (RuntimeException e) {
             log.warn("공지사항 이미지 presigned URL 생성 실패 - url: {}", originalUrl, e);
             return null;
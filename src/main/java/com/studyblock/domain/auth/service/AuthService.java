@@ -39,7 +39,6 @@ import java.util.Map;
 @Service
 @RequiredArgsConstructor
 public class AuthService {
-    private static final int PROFILE_IMAGE_URL_EXPIRATION_MINUTES = 30;
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
@@ -296,7 +295,7 @@ public class AuthService {
         String profileImageUrl = null;
         if (originalImageUrl != null && !originalImageUrl.isBlank()) {
             try {
-                profileImageUrl = s3StorageService.generatePresignedUrl(originalImageUrl, PROFILE_IMAGE_URL_EXPIRATION_MINUTES);
+                profileImageUrl = s3StorageService.generateCacheableImageUrl(originalImageUrl);
             } catch (RuntimeException e) {
                 log.warn("AuthService presigned URL 생성 실패 - userId: {}, key: {}", userId, originalImageUrl, e);
             }
@@ -1,41 +1,45 @@
 package com.studyblock.domain.auth.service;
 
-import lombok.RequiredArgsConstructor;
+import com.studyblock.infrastructure.redis.RedisCodecs;
+import com.studyblock.infrastructure.redis.VersionedRedisCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Redis 기반 RefreshToken 관리 서비스
- * - Key: "refresh:userId:{userId}"
- * - Value: JWT RefreshToken
+ * - Key: "refresh:userId:v1:{userId}"
+ * - Value: JWT RefreshToken (UTF-8 원문)
  * - TTL: 7일 (자동 만료)
+ * - 이전 형식 키("refresh:userId:{userId}", JSON 값)는 조회 시 새 키로 옮김 (남은 TTL 유지)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RedisRefreshTokenService {
 
+    private static final String KEY_PREFIX = "refresh:userId";
+    private static final String LEGACY_KEY_PREFIX = "refresh:userId:";
+    private static final long REFRESH_TOKEN_EXPIRE_DAYS = 7;
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final VersionedRedisCache<String> tokenCache;
 
-    private static final String KEY_PREFIX = "refresh:userId:";
-    private static final long REFRESH_TOKEN_EXPIRE_DAYS = 7;
+    public RedisRefreshTokenService(RedisTemplate<String, Object> redisTemplate,
+                                    RedisTemplate<String, byte[]> redisBytesTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.tokenCache = new VersionedRedisCache<>(redisBytesTemplate, KEY_PREFIX, RedisCodecs.utf8());
+    }
 
     /**
      * RefreshToken 저장 (TTL 7일)
      */
     public void saveRefreshToken(Long userId, String refreshToken) {
-        String key = KEY_PREFIX + userId;
-
-        redisTemplate.opsForValue().set(
-                key,
-                refreshToken,
-                REFRESH_TOKEN_EXPIRE_DAYS,
-                TimeUnit.DAYS
-        );
+        tokenCache.set(userId, refreshToken, Duration.ofDays(REFRESH_TOKEN_EXPIRE_DAYS));
+        redisTemplate.delete(LEGACY_KEY_PREFIX + userId);
 
         log.info("Redis에 RefreshToken 저장 - userId: {}, TTL: {}일", userId, REFRESH_TOKEN_EXPIRE_DAYS);
     }
@@ -44,11 +48,11 @@ public class RedisRefreshTokenService {
      * userId로 RefreshToken 조회
      */
     public Optional<String> getRefreshToken(Long userId) {
-        String key = KEY_PREFIX + userId;
-        Object token = redisTemplate.opsForValue().get(key);
-
-        return Optional.ofNullable(token)
-                .map(Object::toString);
+        String token = tokenCache.get(userId);
+        if (token != null) {
+            return Optional.of(token);
+        }
+        return migrateLegacyToken(userId);
     }
 
     /**
@@ -66,8 +70,8 @@ public class RedisRefreshTokenService {
      * RefreshToken 삭제 (로그아웃)
      */
     public void deleteRefreshToken(Long userId) {
-        String key = KEY_PREFIX + userId;
-        redisTemplate.delete(key);
+        tokenCache.delete(userId);
+        redisTemplate.delete(LEGACY_KEY_PREFIX + userId);
 
         log.info("Redis에서 RefreshToken 삭제 - userId: {}", userId);
     }
@@ -76,15 +80,36 @@ public class RedisRefreshTokenService {
      * RefreshToken 존재 여부 확인
      */
     public boolean existsRefreshToken(Long userId) {
-        String key = KEY_PREFIX + userId;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        return tokenCache.exists(userId)
+                || Boolean.TRUE.equals(redisTemplate.hasKey(LEGACY_KEY_PREFIX + userId));
     }
 
     /**
      * RefreshToken 남은 만료 시간 조회 (초 단위)
      */
     public Long getExpireTime(Long userId) {
-        String key = KEY_PREFIX + userId;
-        return redisTemplate.getExpire(key, TimeUnit.SECONDS);
+        Long expire = tokenCache.getExpireSeconds(userId);
+        if (expire != null && expire >= 0) {
+            return expire;
+        }
+        return redisTemplate.getExpire(LEGACY_KEY_PREFIX + userId, TimeUnit.SECONDS);
+    }
+
+    // 이전 형식 키가 남아 있으면 남은 TTL 그대로 새 키로 옮김 (배포 후 최대 7일 동안만 동작)
+    private Optional<String> migrateLegacyToken(Long userId) {
+        String legacyKey = LEGACY_KEY_PREFIX + userId;
+        Object legacy = redisTemplate.opsForValue().get(legacyKey);
+        if (legacy == null) {
+            return Optional.empty();
+        }
+
+        String token = legacy.toString();
+        Long ttlSeconds = redisTemplate.getExpire(legacyKey, TimeUnit.SECONDS);
+        if (ttlSeconds != null && ttlSeconds > 0) {
+            tokenCache.set(userId, token, Duration.ofSeconds(ttlSeconds));
+            redisTemplate.delete(legacyKey);
+            log.debug("이전 형식 RefreshToken 이관 - userId: {}, 남은 TTL: {}초", userId, ttlSeconds);
+        }
+        return Optional.of(token);
     }
-}
\ No newline at end of file
+}
@@ -13,7 +13,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 카테고리 컨트롤러
@@ -42,10 +41,7 @@ public class CategoryController {
     public ResponseEntity<List<CategoryResponse>> getAllCategories() {
         log.info("모든 카테고리 조회 요청");
 
-        List<Category> categories = categoryService.getAllCategories();
-        List<CategoryResponse> response = categories.stream()
-                .map(CategoryResponse::from)
-                .collect(Collectors.toList());
+        List<CategoryResponse> response = categoryService.getAllCategories();
 
         log.info("모든 카테고리 조회 완료: {} 개", response.size());
         return ResponseEntity.ok(response);
@@ -63,10 +59,7 @@ public class CategoryController {
     public ResponseEntity<List<CategoryResponse>> getParentCategories() {
         log.info("대분류 카테고리 조회 요청");
 
-        List<Category> categories = categoryService.getParentCategories();
-        List<CategoryResponse> response = categories.stream()
-                .map(CategoryResponse::from)
-                .collect(Collectors.toList());
+        List<CategoryResponse> response = categoryService.getParentCategories();
 
         log.info("대분류 카테고리 조회 완료: {} 개", response.size());
         return ResponseEntity.ok(response);
@@ -88,10 +81,7 @@ public class CategoryController {
     ) {
         log.info("소분류 카테고리 조회 요청: parentId={}", parentId);
 
-        List<Category> categories = categoryService.getChildCategories(parentId);
-        List<CategoryResponse> response = categories.stream()
-                .map(CategoryResponse::from)
-                .collect(Collectors.toList());
+        List<CategoryResponse> response = categoryService.getChildCategories(parentId);
 
         log.info("소분류 카테고리 조회 완료: parentId={}, {} 개", parentId, response.size());
         return ResponseEntity.ok(response);
@@ -12,6 +12,7 @@ import java.util.List;
 
 @Getter
 @Entity
+@EntityListeners(CategoryTreeEntityListener.class)
 @Table(name = "category")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Category extends BaseTimeEntity {
@@ -0,0 +1,25 @@
+package com.studyblock.domain.category.entity;
+
+import com.studyblock.domain.category.event.CategoryTreeChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 카테고리 변경 시 CategoryTreeChangedEvent 발행
+ * - Hibernate 가 Spring 빈 컨테이너로 생성하므로 생성자 주입 가능
+ */
+@RequiredArgsConstructor
+public class CategoryTreeEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Category category) {
+        eventPublisher.publishEvent(new CategoryTreeChangedEvent());
+    }
+}
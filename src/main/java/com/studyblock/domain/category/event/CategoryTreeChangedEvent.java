@@ -0,0 +1,18 @@
+package com.studyblock.domain.category.event;
+
+import lombok.Getter;
+
+/**
+ * 카테고리 트리 변경 도메인 이벤트
+ *
+ * 발행 시점: 카테고리가 저장, 수정, 삭제될 때 (CategoryTreeEntityListener)
+ * 용도: 트랜잭션 커밋 이후 캐시된 카테고리 트리를 무효화하기 위한 트리거
+ */
+@Getter
+public class CategoryTreeChangedEvent {
+
+    /**
+     * 이벤트 발생 시각
+     */
+    private final long timestamp = System.currentTimeMillis();
+}
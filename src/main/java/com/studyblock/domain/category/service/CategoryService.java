@@ -1,5 +1,6 @@
 package com.studyblock.domain.category.service;
 
+import com.studyblock.domain.category.dto.CategoryResponse;
 import com.studyblock.domain.category.entity.Category;
 import com.studyblock.domain.category.entity.UserCategory;
 import com.studyblock.domain.category.repository.CategoryRepository;
@@ -12,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 카테고리 서비스
@@ -27,6 +29,7 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final UserCategoryRepository userCategoryRepository;
+    private final CategoryTreeCache categoryTreeCache;
 
     /**
      * 사용자의 관심 카테고리 조회
@@ -144,37 +147,57 @@ public class CategoryService {
 
     /**
      * 모든 카테고리 조회
-     * - QueryDSL을 사용한 효율적인 조회
+     * - 카테고리 트리 캐시에서 조회
      * - depth, orderNo 순으로 정렬
      * @return 모든 카테고리 목록
      */
-    public List<Category> getAllCategories() {
-        return categoryRepository.findAllCategoriesOrderByDepthAndOrderNo();
+    public List<CategoryResponse> getAllCategories() {
+        return categoryTreeCache.get().getAll();
     }
 
     /**
      * 대분류 카테고리만 조회 (parent가 null인 카테고리)
-     * - QueryDSL을 사용한 효율적인 조회
+     * - 카테고리 트리 캐시에서 조회
      * - orderNo 순으로 정렬
      * @return 대분류 카테고리 목록
      */
-    public List<Category> getParentCategories() {
-        return categoryRepository.findParentCategories();
+    public List<CategoryResponse> getParentCategories() {
+        return categoryTreeCache.get().getRoots();
     }
 
     /**
      * 특정 대분류의 소분류 카테고리 조회
-     * - QueryDSL을 사용한 효율적인 조회
+     * - 카테고리 트리 캐시에서 조회
      * - orderNo 순으로 정렬
      * @param parentId 대분류 카테고리 ID
      * @return 소분류 카테고리 목록
      */
-    public List<Category> getChildCategories(Long parentId) {
+    public List<CategoryResponse> getChildCategories(Long parentId) {
+        CategoryTree tree = categoryTreeCache.get();
+
         // 부모 카테고리 존재 여부 확인
-        categoryRepository.findById(parentId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리입니다."));
+        if (!tree.contains(parentId)) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리입니다.");
+        }
+
+        return tree.getChildren(parentId);
+    }
+
+    /**
+     * 카테고리 트리 조회 (대분류 → 소분류 네비게이션용)
+     * @return 캐시된 카테고리 트리
+     */
+    public CategoryTree getCategoryTree() {
+        return categoryTreeCache.get();
+    }
 
-        return categoryRepository.findChildCategoriesByParentId(parentId);
+    /**
+     * 카테고리와 모든 하위 카테고리 ID 조회 (상위 카테고리 강의 목록용)
+     * @param categoryId 카테고리 ID
+     * @return 자기 자신을 포함한 하위 카테고리 ID 집합
+     */
+    public Set<Long> getSubtreeCategoryIds(Long categoryId) {
+        return categoryTreeCache.get().getSubtreeIds(categoryId);
     }
 
     /**
@@ -0,0 +1,136 @@
+package com.studyblock.domain.category.service;
+
+import com.studyblock.domain.category.dto.CategoryResponse;
+import com.studyblock.domain.category.entity.Category;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카테고리 계층 (불변)
+ * - 전체 카테고리를 한 번 읽어 부모 / 자식 관계와 조상 / 하위(자기 자신 포함) ID 집합을 미리 계산
+ * - 상위 카테고리로 강의를 찾을 때 하위 ID 집합을 IN 조건으로 사용
+ */
+public final class CategoryTree {
+
+    private static final Comparator<CategoryResponse> ORDER_NO =
+            Comparator.comparing(CategoryResponse::getOrderNo, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final List<CategoryResponse> all;
+    private final List<CategoryResponse> roots;
+    private final Map<Long, CategoryResponse> byId;
+    private final Map<Long, List<CategoryResponse>> childrenByParentId;
+    private final Map<Long, List<Long>> ancestorIds;
+    private final Map<Long, Set<Long>> subtreeIds;
+
+    private CategoryTree(List<Category> categories) {
+        this.all = categories.stream().map(CategoryResponse::from).toList();
+
+        Map<Long, CategoryResponse> index = new HashMap<>(all.size() * 2);
+        Map<Long, List<CategoryResponse>> children = new HashMap<>();
+        List<CategoryResponse> rootList = new ArrayList<>();
+        for (CategoryResponse category : all) {
+            index.put(category.getId(), category);
+        }
+        for (CategoryResponse category : all) {
+            Long parentId = category.getParentId();
+            if (parentId == null || !index.containsKey(parentId)) {
+                rootList.add(category);
+            } else {
+                children.computeIfAbsent(parentId, key -> new ArrayList<>()).add(category);
+            }
+        }
+        rootList.sort(ORDER_NO);
+        children.replaceAll((parentId, list) -> {
+            list.sort(ORDER_NO);
+            return List.copyOf(list);
+        });
+
+        this.byId = Collections.unmodifiableMap(index);
+        this.roots = List.copyOf(rootList);
+        this.childrenByParentId = Collections.unmodifiableMap(children);
+
+        // 조상: 루트 → 부모 순, 잘못된 데이터로 부모 체인이 순환하면 순환 지점에서 중단
+        Map<Long, List<Long>> ancestors = new HashMap<>(all.size() * 2);
+        Map<Long, Set<Long>> subtrees = new HashMap<>(all.size() * 2);
+        for (CategoryResponse category : all) {
+            LinkedHashSet<Long> chain = new LinkedHashSet<>();
+            Long parentId = category.getParentId();
+            while (parentId != null && index.containsKey(parentId)
+                    && !parentId.equals(category.getId()) && chain.add(parentId)) {
+                parentId = index.get(parentId).getParentId();
+            }
+            List<Long> rootFirst = new ArrayList<>(chain);
+            Collections.reverse(rootFirst);
+            ancestors.put(category.getId(), List.copyOf(rootFirst));
+
+            subtrees.computeIfAbsent(category.getId(), key -> new LinkedHashSet<>()).add(category.getId());
+            for (Long ancestorId : chain) {
+                subtrees.computeIfAbsent(ancestorId, key -> new LinkedHashSet<>()).add(category.getId());
+            }
+        }
+        subtrees.replaceAll((id, ids) -> Collections.unmodifiableSet(ids));
+        this.ancestorIds = Collections.unmodifiableMap(ancestors);
+        this.subtreeIds = Collections.unmodifiableMap(subtrees);
+    }
+
+    /**
+     * 전체 카테고리로 트리 생성
+     *
+     * @param categories 전체 카테고리 (depth, orderNo 순)
+     */
+    public static CategoryTree of(List<Category> categories) {
+        return new CategoryTree(categories);
+    }
+
+    /**
+     * 전체 카테고리 (depth, orderNo 순)
+     */
+    public List<CategoryResponse> getAll() {
+        return all;
+    }
+
+    /**
+     * 대분류 카테고리 (orderNo 순)
+     */
+    public List<CategoryResponse> getRoots() {
+        return roots;
+    }
+
+    public boolean contains(Long categoryId) {
+        return byId.containsKey(categoryId);
+    }
+
+    public CategoryResponse get(Long categoryId) {
+        return byId.get(categoryId);
+    }
+
+    /**
+     * 직계 자식 카테고리 (orderNo 순)
+     */
+    public List<CategoryResponse> getChildren(Long parentId) {
+        return childrenByParentId.getOrDefault(parentId, List.of());
+    }
+
+    /**
+     * 조상 카테고리 ID (루트 → 부모 순)
+     */
+    public List<Long> getAncestorIds(Long categoryId) {
+        return ancestorIds.getOrDefault(categoryId, List.of());
+    }
+
+    /**
+     * 자기 자신과 모든 하위 카테고리 ID
+     * - 트리에 없는 ID 는 자기 자신만 반환 (기존의 단일 카테고리 조회와 동일한 결과)
+     */
+    public Set<Long> getSubtreeIds(Long categoryId) {
+        Set<Long> ids = subtreeIds.get(categoryId);
+        return ids != null ? ids : Set.of(categoryId);
+    }
+}
@@ -0,0 +1,101 @@
+package com.studyblock.domain.category.service;
+
+import com.studyblock.domain.category.repository.CategoryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카테고리 트리 캐시
+ * - 페이지 헤더마다 호출되는 카테고리 조회가 매번 category 테이블을 읽지 않도록 전체 계층을 인스턴스 로컬에 보관
+ * - 카테고리 변경 커밋 후 Redis Pub/Sub 으로 모든 인스턴스의 로컬 캐시를 무효화 (유실 시 TTL 만료로 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "category:tree:invalidated";
+
+    private final CategoryRepository categoryRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile LocalEntry local;
+
+    // 무효화 세대: 로드 도중 무효화가 일어나면 로드한 (이전) 트리를 캐시에 넣지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${category.tree-cache.local-ttl-seconds:600}")
+    private long localTtlSeconds;
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        try {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        } catch (RuntimeException e) {
+            log.warn("카테고리 트리 무효화 채널 구독 실패", e);
+        }
+    }
+
+    /**
+     * 카테고리 트리 조회 (로컬 캐시 → MySQL)
+     */
+    @Transactional(readOnly = true)
+    public CategoryTree get() {
+        LocalEntry entry = local;
+        if (entry != null && !entry.isExpired()) {
+            return entry.tree();
+        }
+
+        long loadedGeneration = generation.get();
+        CategoryTree tree = CategoryTree.of(categoryRepository.findAllCategoriesOrderByDepthAndOrderNo());
+        if (generation.get() == loadedGeneration) {
+            local = new LocalEntry(tree, System.currentTimeMillis() + localTtlSeconds * 1000);
+        }
+        log.debug("카테고리 트리 로드 - categories: {}", tree.getAll().size());
+        return tree;
+    }
+
+    /**
+     * 카테고리 트리 무효화 (모든 인스턴스)
+     */
+    public void evict() {
+        evictLocal();
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(System.currentTimeMillis()));
+        } catch (RuntimeException e) {
+            log.warn("카테고리 트리 무효화 발행 실패 (로컬 TTL 만료 후 반영)", e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 발행한 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal();
+    }
+
+    private void evictLocal() {
+        generation.incrementAndGet();
+        local = null;
+    }
+
+    private record LocalEntry(CategoryTree tree, long expiresAtMillis) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAtMillis;
+        }
+    }
+}
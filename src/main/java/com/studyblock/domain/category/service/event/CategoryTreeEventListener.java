@@ -0,0 +1,31 @@
+package com.studyblock.domain.category.service.event;
+
+import com.studyblock.domain.category.event.CategoryTreeChangedEvent;
+import com.studyblock.domain.category.service.CategoryTreeCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 카테고리 트리 변경 이벤트 리스너
+ *
+ * 역할:
+ * - 카테고리 쓰기 트랜잭션이 커밋된 후 카테고리 트리 캐시 무효화
+ * - 커밋 전에 무효화하면 다른 요청이 이전 데이터로 캐시를 다시 채울 수 있으므로 AFTER_COMMIT 사용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryTreeEventListener {
+
+    private final CategoryTreeCache categoryTreeCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCategoryTreeChanged(CategoryTreeChangedEvent event) {
+        log.debug("CategoryTreeChangedEvent 수신 - Timestamp: {}", event.getTimestamp());
+
+        categoryTreeCache.evict();
+    }
+}
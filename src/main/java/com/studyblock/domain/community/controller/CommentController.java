@@ -1,17 +1,46 @@
 package com.studyblock.domain.community.controller;
 
 import com.studyblock.domain.community.dto.CommentRequest;
+import com.studyblock.domain.community.dto.CommentThreadFeedResponse;
 import com.studyblock.domain.community.service.CommentService;
+import com.studyblock.domain.community.service.CommentThreadService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 @RestController
 @RequestMapping("/api/community")
 public class CommentController {
     private final CommentService commentService;
+    private final CommentThreadService commentThreadService;
 
-    public CommentController(CommentService commentService) {
+    public CommentController(CommentService commentService, CommentThreadService commentThreadService) {
         this.commentService = commentService;
+        this.commentThreadService = commentThreadService;
+    }
+
+    //게시글 댓글 스레드 조회 (루트 댓글 커서 기반, 작성순 + 답글 미리보기)
+    @GetMapping("/post/{postId}/comments")
+    public ResponseEntity<CommentThreadFeedResponse> getCommentThreads(
+            @PathVariable Long postId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        CommentThreadFeedResponse response = commentThreadService.getPostThreads(postId, cursorCreatedAt, cursorId, size);
+        return ResponseEntity.ok(response);
+    }
+
+    //답글 더보기 (직계 답글 커서 기반, 작성순 + 하위 답글 미리보기)
+    @GetMapping("/comment/{commentId}/replies")
+    public ResponseEntity<CommentThreadFeedResponse> getReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        CommentThreadFeedResponse response = commentThreadService.getReplies(commentId, cursorCreatedAt, cursorId, size);
+        return ResponseEntity.ok(response);
     }
 
     //댓글 작성 (저장)
@@ -3,11 +3,13 @@ package com.studyblock.domain.community.controller;
 import com.studyblock.domain.community.dto.*;
 import com.studyblock.domain.community.service.PostService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -35,6 +37,28 @@ public class PostController {
         return ResponseEntity.ok(posts);
     }
 
+    //특정 게시판의 게시글 피드 조회 (커서 기반, 최신순)
+    @GetMapping("/post/{boardId}/feed")
+    public ResponseEntity<PostFeedResponse> getPostFeedByBoard(
+            @PathVariable Long boardId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        PostFeedResponse response = postService.getPostFeedByBoard(boardId, cursorCreatedAt, cursorId, size);
+        return ResponseEntity.ok(response);
+    }
+
+    //게시글 검색 (제목/본문, 관련도 순) - boardId 생략 시 전체 게시판
+    @GetMapping("/post/search")
+    public ResponseEntity<List<PostResponse>> searchPosts(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Long boardId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        List<PostResponse> posts = postService.searchPosts(keyword, boardId, page, size);
+        return ResponseEntity.ok(posts);
+    }
+
     //게시물의 댓글 조회 (작성자 프로필 포함)
     @GetMapping("/post/comment/{postId}")
     public ResponseEntity<List<CommentResponse>> getCommentsByPost(@PathVariable Long postId) {
@@ -70,6 +94,26 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    //활성화된 게시글 피드 (커서 기반, 최신순)
+    @GetMapping("/post/active/feed")
+    public ResponseEntity<PostFeedResponse> getAllActivePostFeed(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        PostFeedResponse response = postService.getAllActivePostFeed(cursorCreatedAt, cursorId, size);
+        return ResponseEntity.ok(response);
+    }
+
+    //활성화된 게시글 피드 (FAQ제외, 커서 기반, 최신순)
+    @GetMapping("/post/active2/feed")
+    public ResponseEntity<PostFeedResponse> getAllActivePostFeed2(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        PostFeedResponse response = postService.getAllActivePostFeed2(cursorCreatedAt, cursorId, size);
+        return ResponseEntity.ok(response);
+    }
+
     //조회수 증가
     @PostMapping("/post/{postId}/view")
     public ResponseEntity<Void> increaseViewCount(@PathVariable Long postId, @RequestHeader("User-Id") Long userId){
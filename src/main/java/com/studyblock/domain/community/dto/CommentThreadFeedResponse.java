@@ -0,0 +1,20 @@
+package com.studyblock.domain.community.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 커서 기반 댓글 스레드 응답
+ * - 다음 페이지 요청 시 nextCursorCreatedAt, nextCursorId 를 그대로 전달
+ */
+@Getter
+@Builder
+public class CommentThreadFeedResponse {
+    private List<CommentThreadResponse> comments; //현재 페이지 댓글 (답글 트리 포함)
+    private boolean hasNext; //다음 페이지 존재 여부
+    private LocalDateTime nextCursorCreatedAt; //다음 페이지 커서 (마지막 댓글 작성일시)
+    private Long nextCursorId; //다음 페이지 커서 (마지막 댓글 ID)
+}
@@ -0,0 +1,51 @@
+package com.studyblock.domain.community.dto;
+
+import com.studyblock.domain.community.entity.Comment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 댓글 스레드 노드
+ * - replies 에는 앞쪽 일부 답글만 포함되고, replyCount 가 더 크면 답글 조회 API 로 나머지를 불러옴
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentThreadResponse {
+    private Long id;
+    private Long postId;
+    private Long userId;
+    private String content;
+    private LocalDateTime createdAt;
+    private Long parentCommentId;
+    private String nickName;
+    private String userImageUrl;           // presigned URL
+    private String userImageOriginalUrl;   // 원본 URL
+    private int replyCount;                // 활성 직계 답글 수
+    private boolean hasMoreReplies;        // replies 에 담기지 않은 답글 존재 여부
+    @Builder.Default
+    private List<CommentThreadResponse> replies = new ArrayList<>();
+
+    public static CommentThreadResponse from(Comment comment) {
+        return CommentThreadResponse.builder()
+                .id(comment.getId())
+                .postId(comment.getPost().getId())
+                .userId(comment.getUser().getId())
+                .content(comment.getContent())
+                .createdAt(comment.getCreatedAt())
+                .parentCommentId(comment.getParentComment() != null ? comment.getParentComment().getId() : null)
+                .nickName(comment.getUser().getNickname())
+                .userImageUrl(comment.getUser().getImg())
+                .userImageOriginalUrl(comment.getUser().getImg())
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.studyblock.domain.community.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 커서 기반 게시글 피드 응답
+ * - 다음 페이지 요청 시 nextCursorCreatedAt, nextCursorId 를 그대로 전달
+ */
+@Getter
+@Builder
+public class PostFeedResponse {
+    private List<PostResponse> posts; //현재 페이지 게시물
+    private boolean hasNext; //다음 페이지 존재 여부
+    private LocalDateTime nextCursorCreatedAt; //다음 페이지 커서 (마지막 게시물 작성일시)
+    private Long nextCursorId; //다음 페이지 커서 (마지막 게시물 ID)
+}
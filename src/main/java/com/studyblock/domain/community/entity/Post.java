@@ -53,6 +53,10 @@ public class Post {
     @Column(name = "hit")
     private Long hit = 0L;
 
+    // 활성 댓글 수 (CommentService 에서 원자적 증감, 엔티티 저장 시에는 덮어쓰지 않음)
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private Integer commentCount = 0;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ContentStatus status = ContentStatus.ACTIVE;
@@ -7,14 +7,15 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
 
-    //댓글 조회
-    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.status = 'ACTIVE' ORDER BY c.createdAt ASC")
+    //댓글 조회 (작성자 Fetch Join - 응답 매핑 시 사용자 지연 로딩 방지)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.post.id = :postId AND c.status = 'ACTIVE' ORDER BY c.createdAt ASC")
     List<Comment> findActiveByPostId(@Param("postId") Long postId);
 
     //댓글 조회 (모든 상태 포함, 관리자용)
@@ -29,6 +30,45 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
    @Query("SELECT c.post.id, COUNT(c) FROM Comment c WHERE c.post.id IN :postIds AND c.status = 'ACTIVE' GROUP BY c.post.id")
    List<Object[]> countActiveByPostIds(@Param("postIds") List<Long> postIds);
 
+    /**
+     * 루트 댓글 페이지의 답글 ID 일괄 조회 (스레드 조립용)
+     * - 재귀 CTE 로 maxDepth 단계까지의 활성 답글을 찾고, 부모별로 작성 순 앞의 repliesPerParent 개만 남김
+     * - depth, created_at 순으로 반환하므로 부모가 항상 자식보다 먼저 옴
+     * - (parent_comment_id, status, created_at) 인덱스 사용
+     */
+    @Query(value = """
+            WITH RECURSIVE thread (id, parent_comment_id, created_at, depth) AS (
+                SELECT c.id, c.parent_comment_id, c.created_at, 1
+                FROM comment c
+                WHERE c.parent_comment_id IN (:rootIds) AND c.status = 'ACTIVE'
+                UNION ALL
+                SELECT c.id, c.parent_comment_id, c.created_at, t.depth + 1
+                FROM comment c
+                JOIN thread t ON c.parent_comment_id = t.id
+                WHERE c.status = 'ACTIVE' AND t.depth < :maxDepth
+            )
+            SELECT ranked.id
+            FROM (
+                SELECT t.id, t.created_at, t.depth,
+                       ROW_NUMBER() OVER (PARTITION BY t.parent_comment_id ORDER BY t.created_at, t.id) AS rn
+                FROM thread t
+            ) ranked
+            WHERE ranked.rn <= :repliesPerParent
+            ORDER BY ranked.depth, ranked.created_at, ranked.id
+            """, nativeQuery = true)
+    List<Long> findThreadReplyIds(@Param("rootIds") Collection<Long> rootIds,
+                                  @Param("maxDepth") int maxDepth,
+                                  @Param("repliesPerParent") int repliesPerParent);
+
+    //답글 일괄 조회 (작성자 Fetch Join)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.id IN :ids")
+    List<Comment> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    //부모 댓글별 활성 답글 수 (여러 댓글)
+    @Query("SELECT c.parentComment.id, COUNT(c) FROM Comment c " +
+           "WHERE c.parentComment.id IN :parentIds AND c.status = 'ACTIVE' GROUP BY c.parentComment.id")
+    List<Object[]> countActiveRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds);
+
     /**
      * 상태별 댓글 조회
      */
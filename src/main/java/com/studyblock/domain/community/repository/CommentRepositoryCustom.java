@@ -0,0 +1,26 @@
+package com.studyblock.domain.community.repository;
+
+import com.studyblock.domain.community.entity.Comment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Comment Repository Custom 인터페이스
+ * - QueryDSL 을 사용한 커서 기반 댓글 스레드 조회
+ */
+public interface CommentRepositoryCustom {
+
+    /**
+     * 활성 댓글 스레드 페이지 조회 (created_at ASC, id ASC 키셋 페이지네이션)
+     * - parentCommentId 가 null 이면 게시글의 루트 댓글, 아니면 해당 댓글의 직계 답글
+     * @param postId 게시글 ID
+     * @param parentCommentId 부모 댓글 ID (루트 댓글 조회 시 null)
+     * @param cursorCreatedAt 이전 페이지 마지막 댓글의 작성일시 (첫 페이지는 null)
+     * @param cursorId 이전 페이지 마지막 댓글 ID (첫 페이지는 null)
+     * @param limit 조회 개수
+     * @return 댓글 목록 (User Fetch Join)
+     */
+    List<Comment> findActiveThreadPage(Long postId, Long parentCommentId,
+                                       LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+}
@@ -0,0 +1,61 @@
+package com.studyblock.domain.community.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.studyblock.domain.community.entity.Comment;
+import com.studyblock.domain.community.enums.ContentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.studyblock.domain.community.entity.QComment.comment;
+import static com.studyblock.domain.user.entity.QUser.user;
+
+/**
+ * CommentRepositoryCustom 구현체
+ * - (post_id, parent_comment_id, status, created_at, id) 인덱스를 타는 키셋 페이지네이션
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 실행되는 SQL:
+     * SELECT c.*, u.*
+     * FROM comment c JOIN user u ...
+     * WHERE c.post_id = ? AND c.parent_comment_id IS NULL (또는 = ?) AND c.status = 'ACTIVE'
+     *   AND (c.created_at > ? OR (c.created_at = ? AND c.id > ?))
+     * ORDER BY c.created_at ASC, c.id ASC
+     * LIMIT ?
+     */
+    @Override
+    public List<Comment> findActiveThreadPage(Long postId, Long parentCommentId,
+                                              LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        return queryFactory
+                .selectFrom(comment)
+                .join(comment.user, user).fetchJoin()
+                .where(
+                        comment.post.id.eq(postId),
+                        parentCommentId == null
+                                ? comment.parentComment.isNull()
+                                : comment.parentComment.id.eq(parentCommentId),
+                        comment.status.eq(ContentStatus.ACTIVE),
+                        afterCursor(cursorCreatedAt, cursorId)
+                )
+                .orderBy(comment.createdAt.asc(), comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression afterCursor(LocalDateTime cursorCreatedAt, Long cursorId) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        return comment.createdAt.gt(cursorCreatedAt)
+                .or(comment.createdAt.eq(cursorCreatedAt).and(comment.id.gt(cursorId)));
+    }
+}
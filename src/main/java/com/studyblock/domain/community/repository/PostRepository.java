@@ -4,6 +4,7 @@ import com.studyblock.domain.community.entity.Post;
 import com.studyblock.domain.community.enums.ContentStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,7 +14,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
 
     // ============ 기본 조회 ============
 
@@ -95,6 +96,50 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             @Param("startDate") LocalDateTime startDate
     );
 
+    // ============ 검색 ============
+
+    /**
+     * FULLTEXT(ngram) 관련도 순 활성 게시글 ID 검색 (제목/본문/수정본문)
+     * - boardId 가 null 이면 전체 게시판
+     */
+    @Query(value = "SELECT p.id FROM post p " +
+            "WHERE p.status = 'ACTIVE' " +
+            "AND (:boardId IS NULL OR p.board_id = :boardId) " +
+            "AND MATCH(p.title, p.original_content, p.edited_content) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(p.title, p.original_content, p.edited_content) AGAINST (:query IN BOOLEAN MODE) DESC, p.id DESC " +
+            "LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<Long> searchActiveIdsByFullText(@Param("query") String query,
+                                         @Param("boardId") Long boardId,
+                                         @Param("limit") int limit,
+                                         @Param("offset") long offset);
+
+    /**
+     * 1자 검색어용 제목 LIKE 검색 (ngram 토큰보다 짧아 FULLTEXT 로 찾을 수 없는 경우)
+     */
+    @Query("SELECT p FROM Post p LEFT JOIN FETCH p.board LEFT JOIN FETCH p.user " +
+            "WHERE p.status = 'ACTIVE' AND (:boardId IS NULL OR p.board.id = :boardId) " +
+            "AND p.title LIKE %:keyword% ORDER BY p.createdAt DESC")
+    List<Post> searchActiveByTitleLike(@Param("keyword") String keyword,
+                                       @Param("boardId") Long boardId,
+                                       Pageable pageable);
+
+    /**
+     * 검색 결과 ID 목록으로 게시글 조회 (게시판/작성자 포함, 순서는 호출부에서 복원)
+     */
+    @Query("SELECT p FROM Post p LEFT JOIN FETCH p.board LEFT JOIN FETCH p.user WHERE p.id IN :ids")
+    List<Post> findAllWithBoardAndUserByIdIn(@Param("ids") List<Long> ids);
+
+    // ============ 댓글 수 ============
+
+    /**
+     * 게시글 댓글 수 원자적 증감 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query(value = "UPDATE post SET comment_count = GREATEST(comment_count + :delta, 0) WHERE id = :postId",
+            nativeQuery = true)
+    int adjustCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
     // ============ User 기반 조회 ============
 
 
@@ -0,0 +1,25 @@
+package com.studyblock.domain.community.repository;
+
+import com.studyblock.domain.community.entity.Post;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Post Repository Custom 인터페이스
+ * - QueryDSL 을 사용한 커서 기반 피드 조회
+ */
+public interface PostRepositoryCustom {
+
+    /**
+     * 활성 게시글 피드 조회 (created_at DESC, id DESC 키셋 페이지네이션)
+     * - 커서 이전(더 오래된) 게시글만 조회하므로 페이지가 깊어져도 OFFSET 스캔이 없음
+     * @param boardIds 게시판 ID 목록 (null 이면 전체 게시판)
+     * @param cursorCreatedAt 이전 페이지 마지막 게시글의 작성일시 (첫 페이지는 null)
+     * @param cursorId 이전 페이지 마지막 게시글 ID (첫 페이지는 null)
+     * @param limit 조회 개수
+     * @return 게시글 목록 (Board, User Fetch Join)
+     */
+    List<Post> findActiveFeed(Collection<Long> boardIds, LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+}
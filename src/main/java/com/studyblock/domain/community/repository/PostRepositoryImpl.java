@@ -0,0 +1,69 @@
+package com.studyblock.domain.community.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.studyblock.domain.community.entity.Post;
+import com.studyblock.domain.community.enums.ContentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static com.studyblock.domain.community.entity.QBoard.board;
+import static com.studyblock.domain.community.entity.QPost.post;
+import static com.studyblock.domain.user.entity.QUser.user;
+
+/**
+ * PostRepositoryCustom 구현체
+ * - (board_id, status, created_at, id) 인덱스를 타는 키셋 페이지네이션
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostRepositoryImpl implements PostRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 실행되는 SQL:
+     * SELECT p.*, b.*, u.*
+     * FROM post p JOIN board b ... JOIN user u ...
+     * WHERE p.status = 'ACTIVE' [AND p.board_id IN (...)]
+     *   AND (p.created_at < ? OR (p.created_at = ? AND p.id < ?))
+     * ORDER BY p.created_at DESC, p.id DESC
+     * LIMIT ?
+     */
+    @Override
+    public List<Post> findActiveFeed(Collection<Long> boardIds, LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        return queryFactory
+                .selectFrom(post)
+                .join(post.board, board).fetchJoin()
+                .join(post.user, user).fetchJoin()
+                .where(
+                        post.status.eq(ContentStatus.ACTIVE),
+                        boardIdsIn(boardIds),
+                        beforeCursor(cursorCreatedAt, cursorId)
+                )
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression boardIdsIn(Collection<Long> boardIds) {
+        if (boardIds == null || boardIds.isEmpty()) {
+            return null;
+        }
+        return boardIds.size() == 1
+                ? post.board.id.eq(boardIds.iterator().next())
+                : post.board.id.in(boardIds);
+    }
+
+    private BooleanExpression beforeCursor(LocalDateTime cursorCreatedAt, Long cursorId) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        return post.createdAt.lt(cursorCreatedAt)
+                .or(post.createdAt.eq(cursorCreatedAt).and(post.id.lt(cursorId)));
+    }
+}
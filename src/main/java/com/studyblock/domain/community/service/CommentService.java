@@ -57,6 +57,7 @@ public class CommentService {
                 .build();
 
         commentRepository.save(comment); //댓글 저장
+        postRepository.adjustCommentCount(postId, 1); //게시글 댓글 수 증가 (원자적)
         //양방향 관계 동기화
         if(parentComment != null){
             parentComment.addReply(comment);
@@ -67,8 +68,12 @@ public class CommentService {
     public void deleteComment(Long commentId){
         Comment comment = commentRepository.findById(commentId)
                         .orElseThrow(() -> new IllegalArgumentException("댓글이 존재하지 않습니다."));
+        if (!comment.isActive()) {
+            return; // 이미 삭제된 댓글은 댓글 수를 다시 줄이지 않음
+        }
         comment.delete();
         commentRepository.save(comment); // 변경사항 저장
+        postRepository.adjustCommentCount(comment.getPost().getId(), -1); //게시글 댓글 수 감소 (원자적)
     }
 
     // 차단된 댓글 조회 (status = DELETED)
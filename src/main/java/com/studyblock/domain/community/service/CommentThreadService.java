@@ -0,0 +1,148 @@
+package com.studyblock.domain.community.service;
+
+import com.studyblock.domain.community.dto.CommentThreadFeedResponse;
+import com.studyblock.domain.community.dto.CommentThreadResponse;
+import com.studyblock.domain.community.entity.Comment;
+import com.studyblock.domain.community.repository.CommentRepository;
+import com.studyblock.infrastructure.storage.S3StorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 스레드 조회 서비스
+ * - 루트 댓글은 키셋 페이지네이션, 페이지 루트들의 답글은 한 번의 쿼리로 깊이 / 부모별 개수를 제한해 조회
+ * - 트리 조립은 ID → 노드 맵 한 번 순회 (O(n)), 쿼리 수는 댓글 수와 무관하게 일정 (루트 / 답글 ID / 답글 / 답글 수)
+ * - 잘린 답글은 replyCount, hasMoreReplies 로 알려주고 답글 조회 API 로 지연 로딩
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentThreadService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final CommentRepository commentRepository;
+    private final S3StorageService s3StorageService;
+
+    @Value("${community.comment.thread.max-depth:2}")
+    private int maxDepth;
+
+    @Value("${community.comment.thread.replies-per-parent:3}")
+    private int repliesPerParent;
+
+    /**
+     * 게시글 댓글 스레드 (루트 댓글 커서 페이지 + 답글 미리보기)
+     */
+    public CommentThreadFeedResponse getPostThreads(Long postId, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        return getThreadPage(postId, null, cursorCreatedAt, cursorId, size);
+    }
+
+    /**
+     * 특정 댓글의 답글 스레드 (직계 답글 커서 페이지 + 하위 답글 미리보기)
+     */
+    public CommentThreadFeedResponse getReplies(Long commentId, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        Comment parent = commentRepository.findById(commentId)
+                .orElseThrow(() -> new IllegalArgumentException("댓글이 존재하지 않습니다."));
+
+        return getThreadPage(parent.getPost().getId(), commentId, cursorCreatedAt, cursorId, size);
+    }
+
+    // size + 1 건을 조회해 다음 페이지 여부를 판단
+    private CommentThreadFeedResponse getThreadPage(Long postId, Long parentCommentId,
+                                                    LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<Comment> comments = commentRepository.findActiveThreadPage(
+                postId, parentCommentId, cursorCreatedAt, cursorId, pageSize + 1);
+
+        boolean hasNext = comments.size() > pageSize;
+        List<Comment> page = hasNext ? comments.subList(0, pageSize) : comments;
+
+        Comment last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return CommentThreadFeedResponse.builder()
+                .comments(assemble(page))
+                .hasNext(hasNext)
+                .nextCursorCreatedAt(hasNext ? last.getCreatedAt() : null)
+                .nextCursorId(hasNext ? last.getId() : null)
+                .build();
+    }
+
+    private List<CommentThreadResponse> assemble(List<Comment> roots) {
+        if (roots.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> rootIds = roots.stream().map(Comment::getId).toList();
+        List<Long> replyIds = maxDepth > 0 && repliesPerParent > 0
+                ? commentRepository.findThreadReplyIds(rootIds, maxDepth, repliesPerParent)
+                : List.of();
+
+        Map<Long, CommentThreadResponse> nodes = new HashMap<>((rootIds.size() + replyIds.size()) * 2);
+        List<CommentThreadResponse> threads = new ArrayList<>(roots.size());
+        for (Comment root : roots) {
+            CommentThreadResponse node = CommentThreadResponse.from(root);
+            nodes.put(node.getId(), node);
+            threads.add(node);
+        }
+
+        // replyIds 는 depth, created_at 순이므로 부모 노드가 항상 먼저 만들어져 있음
+        if (!replyIds.isEmpty()) {
+            Map<Long, Comment> replies = new HashMap<>(replyIds.size() * 2);
+            for (Comment reply : commentRepository.findAllWithUserByIdIn(replyIds)) {
+                replies.put(reply.getId(), reply);
+            }
+            for (Long replyId : replyIds) {
+                Comment reply = replies.get(replyId);
+                CommentThreadResponse parent = reply != null && reply.getParentComment() != null
+                        ? nodes.get(reply.getParentComment().getId())
+                        : null;
+                if (parent == null) {
+                    continue;
+                }
+                CommentThreadResponse node = CommentThreadResponse.from(reply);
+                parent.getReplies().add(node);
+                nodes.put(node.getId(), node);
+            }
+        }
+
+        for (Object[] row : commentRepository.countActiveRepliesByParentIds(nodes.keySet())) {
+            CommentThreadResponse node = nodes.get((Long) row[0]);
+            if (node != null) {
+                node.setReplyCount(((Long) row[1]).intValue());
+            }
+        }
+
+        // 같은 작성자의 프로필 이미지는 한 번만 서명
+        Map<String, String> signedUrls = new HashMap<>();
+        for (CommentThreadResponse node : nodes.values()) {
+            node.setHasMoreReplies(node.getReplyCount() > node.getReplies().size());
+            applyPresignedUrl(node, signedUrls);
+        }
+        return threads;
+    }
+
+    //댓글 사용자 프로필 이미지에 presigned URL 적용
+    private void applyPresignedUrl(CommentThreadResponse node, Map<String, String> signedUrls) {
+        String original = node.getUserImageOriginalUrl();
+        if (original == null || original.isEmpty()) {
+            return;
+        }
+        node.setUserImageUrl(signedUrls.computeIfAbsent(original, url -> {
+            try {
+                return s3StorageService.generateCacheableImageUrl(url);
+            } catch (RuntimeException e) {
+                log.warn("댓글 프로필 이미지 presigned URL 생성 실패 - url: {}", url, e);
+                return url;
+            }
+        }));
+    }
+}
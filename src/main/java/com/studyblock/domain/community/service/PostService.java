@@ -5,6 +5,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studyblock.domain.community.dto.CommentResponse;
 import com.studyblock.domain.community.dto.PostCreateRequest;
+import com.studyblock.domain.community.dto.PostFeedResponse;
 import com.studyblock.domain.community.dto.PostListResponse;
 import com.studyblock.domain.community.dto.PostResponse;
 import com.studyblock.domain.community.entity.Board;
@@ -19,11 +20,15 @@ import com.studyblock.domain.upload.enums.ImageType;
 import com.studyblock.domain.upload.service.ImageUploadService;
 import com.studyblock.domain.user.entity.User;
 import com.studyblock.domain.user.repository.UserRepository;
+import com.studyblock.global.util.FullTextQueryUtils;
+import com.studyblock.infrastructure.redis.SearchIdCache;
 import com.studyblock.infrastructure.storage.S3StorageService;
 import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -31,17 +36,27 @@ import java.time.Duration;
 import java.util.*;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class PostService {
 
+    // 커뮤니티 홈 게시판 (공지(1) + 자유(2))
+    private static final List<Long> COMMUNITY_HOME_BOARD_IDS = List.of(1L, 2L);
+    // 피드 한 페이지 최대 크기
+    private static final int MAX_FEED_SIZE = 50;
+    // 검색 결과 ID 캐시 네임스페이스 (search:post:v1:{검색어}:{게시판}:{page}:{size}, 값은 쉼표로 이은 ID)
+    private static final String SEARCH_CACHE_NAMESPACE = "search:post";
+
+    @Value("${search.post.cache-ttl-seconds:60}")
+    private long searchCacheTtlSeconds;
+
     // Community - Post 서비스
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SearchIdCache searchIdCache;
     private final ImageUploadService imageUploadService;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
@@ -50,14 +65,16 @@ public class PostService {
 
     public PostService(PostRepository postRepository,
                        CommentRepository commentRepository,
-                       RedisTemplate<String, Object> redisTemplate,
+                       StringRedisTemplate stringRedisTemplate,
+                       RedisTemplate<String, byte[]> redisBytesTemplate,
                        ImageUploadService imageUploadService,
                        BoardRepository boardRepository,
                        UserRepository userRepository,
                        ObjectMapper objectMapper, S3StorageService s3StorageService) {
         this.postRepository = postRepository;
         this.commentRepository = commentRepository;
-        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.searchIdCache = new SearchIdCache(redisBytesTemplate, SEARCH_CACHE_NAMESPACE);
         this.imageUploadService = imageUploadService;
         this.boardRepository = boardRepository;
         this.userRepository = userRepository;
@@ -111,9 +128,8 @@ public class PostService {
         // 저장
         postRepository.save(post);
 
-        // 응답 반환
-        int commentCount = commentRepository.countActiveByPostId(post.getId());
-        return PostResponse.from(post, commentCount);
+        // 응답 반환 (새 게시글은 댓글 0개)
+        return PostResponse.from(post, 0);
     }
 
     /** Presigned URL 변환 (게시글 이미지 + 작성자 프로필 이미지) */
@@ -134,7 +150,7 @@ public class PostService {
             List<String> signedUrls = response.getImageUrls().stream()
                     .map(url -> {
                         try {
-                            return s3StorageService.generatePresignedUrl(url, 30);
+                            return s3StorageService.generateCacheableImageUrl(url);
                         } catch (RuntimeException e) {
                             return null;
                         }
@@ -145,7 +161,7 @@ public class PostService {
         //작성자 프로필 이미지에 presigned url 적용
         if(response.getUserProfileImage() != null && !response.getUserProfileImage().isEmpty()){
             try {
-                String presignedProfileUrl = s3StorageService.generatePresignedUrl(response.getUserProfileImage(), 30);
+                String presignedProfileUrl = s3StorageService.generateCacheableImageUrl(response.getUserProfileImage());
                 response.setUserProfileImage(presignedProfileUrl);
             } catch (RuntimeException e) {
 
@@ -213,42 +229,106 @@ public class PostService {
         }
 
         postRepository.save(post);
-        int commentCount = commentRepository.countActiveByPostId(post.getId());
-        return PostResponse.from(post, commentCount);
+        return PostResponse.from(post, post.getCommentCount());
     }
 
     /** 게시판별 게시글 조회 */
     public List<PostResponse> getPostByCategory(Long boardId) {
         List<Post> posts = postRepository.findActiveByBoardId(boardId);
-        List<Long> postIds = posts.stream().map(Post::getId).toList();
 
-        Map<Long, Integer> commentCountMap = commentRepository.countActiveByPostIds(postIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> ((Long) arr[1]).intValue()
-                ));
+        return posts.stream()
+                .map(post -> PostResponse.from(post, post.getCommentCount()))
+                .map(this::applyPresignedUrls)
+                .toList();
+    }
+
+    /** 게시판별 게시글 피드 (커서 기반) */
+    public PostFeedResponse getPostFeedByBoard(Long boardId, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        return getActivePostFeed(List.of(boardId), cursorCreatedAt, cursorId, size);
+    }
+
+    /** 전체 활성 게시글 피드 (커서 기반) */
+    public PostFeedResponse getAllActivePostFeed(LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        return getActivePostFeed(null, cursorCreatedAt, cursorId, size);
+    }
+
+    /** FAQ 제외(공지+자유) 활성 게시글 피드 (커서 기반) */
+    public PostFeedResponse getAllActivePostFeed2(LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        return getActivePostFeed(COMMUNITY_HOME_BOARD_IDS, cursorCreatedAt, cursorId, size);
+    }
+
+    // size + 1 건을 조회해 다음 페이지 여부를 판단하고, 반환할 페이지의 이미지만 presigned URL 로 변환
+    private PostFeedResponse getActivePostFeed(List<Long> boardIds, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        List<Post> posts = postRepository.findActiveFeed(boardIds, cursorCreatedAt, cursorId, pageSize + 1);
+
+        boolean hasNext = posts.size() > pageSize;
+        List<Post> page = hasNext ? posts.subList(0, pageSize) : posts;
+
+        List<PostResponse> postResponses = page.stream()
+                .map(post -> PostResponse.from(post, post.getCommentCount()))
+                .map(this::applyPresignedUrls)
+                .toList();
+
+        Post last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return PostFeedResponse.builder()
+                .posts(postResponses)
+                .hasNext(hasNext)
+                .nextCursorCreatedAt(hasNext ? last.getCreatedAt() : null)
+                .nextCursorId(hasNext ? last.getId() : null)
+                .build();
+    }
+
+    /**
+     * 게시글 검색 (관련도 순)
+     * - 2자 이상 단어가 있으면 FULLTEXT(ngram) 검색, 결과 ID 목록은 짧게 Redis 캐싱
+     * - 1자 검색어만 있으면 제목 LIKE 검색 (최신순)
+     */
+    public List<PostResponse> searchPosts(String keyword, Long boardId, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        int pageNumber = Math.max(page, 0);
+
+        String booleanQuery = FullTextQueryUtils.toBooleanQuery(keyword);
+        List<Post> posts;
+        if (booleanQuery == null) {
+            posts = postRepository.searchActiveByTitleLike(
+                    keyword == null ? "" : keyword.trim(), boardId, PageRequest.of(pageNumber, pageSize));
+        } else {
+            String cacheKey = FullTextQueryUtils.normalize(keyword)
+                    + ":" + (boardId != null ? boardId : "all") + ":" + pageNumber + ":" + pageSize;
+            List<Long> postIds = searchIdCache.read(cacheKey);
+            if (postIds == null) {
+                postIds = postRepository.searchActiveIdsByFullText(
+                        booleanQuery, boardId, pageSize, (long) pageNumber * pageSize);
+                searchIdCache.write(cacheKey, postIds, Duration.ofSeconds(searchCacheTtlSeconds));
+            }
+            posts = findPostsInOrder(postIds);
+        }
 
         return posts.stream()
-                .map(post -> PostResponse.from(post, commentCountMap.getOrDefault(post.getId(), 0)))
+                .map(post -> PostResponse.from(post, post.getCommentCount()))
                 .map(this::applyPresignedUrls)
                 .toList();
     }
 
+    // IN 조회는 순서를 보장하지 않으므로 검색 순서로 복원 (캐시 이후 삭제/차단된 글 제외)
+    private List<Post> findPostsInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Post> postById = postRepository.findAllWithBoardAndUserByIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post));
+        return postIds.stream()
+                .map(postById::get)
+                .filter(post -> post != null && post.getStatus() == ContentStatus.ACTIVE)
+                .toList();
+    }
+
     //게시글 조회 (모든 상태 포함, 관리자용)
     public List<PostResponse> getPostByCategoryForAdmin(Long boardId) {
         List<Post> posts = postRepository.findAllByBoardId(boardId);
-        List<Long> postIds = posts.stream()
-                .map(Post::getId)
-                .collect(Collectors.toList());
-        Map<Long, Integer> commentCountMap = commentRepository.countActiveByPostIds(postIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> ((Long) arr[1]).intValue()
-                ));
         return posts.stream()
-                .map(post -> PostResponse.from(post, commentCountMap.getOrDefault(post.getId(), 0)))
+                .map(post -> PostResponse.from(post, post.getCommentCount()))
                 .collect(Collectors.toList());
     }
 
@@ -266,7 +346,7 @@ public class PostService {
             return response;
         }
         try {
-            String presignedUrl = s3StorageService.generatePresignedUrl(response.getUserImageUrl(), 30);
+            String presignedUrl = s3StorageService.generateCacheableImageUrl(response.getUserImageUrl());
             response.setUserImageUrl(presignedUrl);
         } catch (RuntimeException e) {
             //생성 실패 시 원본 유지
@@ -290,17 +370,9 @@ public class PostService {
     /** 전체 활성 게시글 */
     public PostListResponse getAllActivePosts() {
         List<Post> posts = postRepository.findAllActive();
-        List<Long> postIds = posts.stream().map(Post::getId).toList();
-
-        Map<Long, Integer> commentCountMap = commentRepository.countActiveByPostIds(postIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> ((Long) arr[1]).intValue()
-                ));
 
         List<PostResponse> postResponses = posts.stream()
-                .map(post -> PostResponse.from(post, commentCountMap.getOrDefault(post.getId(), 0)))
+                .map(post -> PostResponse.from(post, post.getCommentCount()))
                 .map(this::applyPresignedUrls)
                 .toList();
 
@@ -311,17 +383,9 @@ public class PostService {
     /** FAQ 제외(공지+자유) 활성 게시글 */
     public PostListResponse getAllActivePosts2() {
         List<Post> posts = postRepository.findAllActiveInBoards1And2();
-        List<Long> postIds = posts.stream().map(Post::getId).toList();
-
-        Map<Long, Integer> commentCountMap = commentRepository.countActiveByPostIds(postIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> ((Long) arr[1]).intValue()
-                ));
 
         List<PostResponse> postResponses = posts.stream()
-                .map(post -> PostResponse.from(post, commentCountMap.getOrDefault(post.getId(), 0)))
+                .map(post -> PostResponse.from(post, post.getCommentCount()))
                 .map(this::applyPresignedUrls)
                 .toList();
 
@@ -333,7 +397,8 @@ public class PostService {
     public void increaseViewCount(Long postId, Long userId) {
         String redisKey = "post:view:" + postId + ":user:" + userId;
 
-        Boolean hasViewed = redisTemplate.hasKey(redisKey);
+        // 존재 여부만 보는 표시 키이므로 값은 직렬화 없이 짧은 문자열로 저장
+        Boolean hasViewed = stringRedisTemplate.hasKey(redisKey);
         if (!Boolean.TRUE.equals(hasViewed)) {
             Post post = postRepository.findActiveById(postId)
                     .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
@@ -341,16 +406,15 @@ public class PostService {
             post.incrementHits();
             postRepository.save(post);
 
-            redisTemplate.opsForValue().set(redisKey, "viewed", Duration.ofHours(24));
+            stringRedisTemplate.opsForValue().set(redisKey, "1", Duration.ofHours(24));
         }
     }
 
     /** 게시글 단건 조회 */
     public PostResponse getPost(Long postId) {
         Post post = postRepository.findByIdAndStatus(postId, ContentStatus.ACTIVE);
-        int commentCount = commentRepository.countActiveByPostId(postId);
 
-        PostResponse response = PostResponse.from(post, commentCount);
+        PostResponse response = PostResponse.from(post, post.getCommentCount());
         return applyPresignedUrls(response);
     }
 
@@ -368,22 +432,9 @@ public class PostService {
                 pageable //최대 개수 제한
         );
 
-        // 게시물 id 리스트 출력
-        List<Long> postIds = posts.stream()
-                .map(Post::getId)
-                .collect(Collectors.toList());
-
-        // 게시물의 댓글 수 조회
-        Map<Long, Integer> commentCountMap =
-                commentRepository.countActiveByPostIds(postIds).stream().
-                        collect(Collectors.toMap(arr -> (Long) arr[0], arr -> ((Long) arr[1]).intValue()));
-
         // PostResponse로 변환하여 return
         return posts.stream()
-                .map(post -> PostResponse.from(
-                        post,
-                        commentCountMap.getOrDefault(post.getId(), 0)
-                ))
+                .map(post -> PostResponse.from(post, post.getCommentCount()))
                 .map(this::applyPresignedUrls)
                 .collect(Collectors.toList());
     }
@@ -424,22 +475,9 @@ public class PostService {
     // 차단된 게시글 조회 (status = DELETED)
     public List<PostResponse> getBlockedPosts() {
         List<Post> blockedPosts = postRepository.findByStatus(ContentStatus.DELETED);
-        
-        // 게시글 ID 목록 추출
-        List<Long> postIds = blockedPosts.stream()
-                .map(Post::getId)
-                .collect(Collectors.toList());
-        
-        // 각 게시글의 댓글 수 조회
-        Map<Long, Integer> commentCountMap = commentRepository.countActiveByPostIds(postIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> ((Long) arr[1]).intValue()
-                ));
-        
+
         return blockedPosts.stream()
-                .map(post -> PostResponse.from(post, commentCountMap.getOrDefault(post.getId(), 0)))
+                .map(post -> PostResponse.from(post, post.getCommentCount()))
                 .map(this::applyPresignedUrls)
                 .collect(Collectors.toList());
     }
@@ -5,6 +5,7 @@ import com.studyblock.domain.coupon.dto.CouponValidationRequest;
 import com.studyblock.domain.coupon.dto.CouponValidationResponse;
 import com.studyblock.domain.coupon.entity.UserCoupon;
 import com.studyblock.domain.coupon.repository.UserCouponRepository;
+import com.studyblock.domain.coupon.service.CouponReservationService;
 import com.studyblock.global.dto.CommonResponse;
 import com.studyblock.global.util.AuthenticationUtils;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +31,7 @@ public class CouponCompatibilityController {
 
     private final UserCouponRepository userCouponRepository;
     private final AuthenticationUtils authenticationUtils;
+    private final CouponReservationService couponReservationService;
 
     //사용 가능한 쿠폰 목록 조회 (프론트엔드 호환용)
     // GET /api/coupons/available 요청시 사용 가능한 쿠폰 목록 조회
@@ -354,16 +356,17 @@ public class CouponCompatibilityController {
 
             // 쿠폰 상태 전이: RESERVED → AVAILABLE
             try {
-                userCoupon.release();
-                userCouponRepository.save(userCoupon);
+                if (!couponReservationService.release(userCouponId, userCoupon.getCoupon().getId())) {
+                    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                            .body(CommonResponse.error("취소할 수 없는 쿠폰입니다 (이미 확정되었거나 해제된 예약)"));
+                }
             } catch (Exception e) {
                 log.error("쿠폰 취소 처리 중 오류 발생 - userCouponId: {}", userCouponId, e);
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                         .body(CommonResponse.error("쿠폰 취소 처리 중 오류가 발생했습니다"));
             }
 
-            log.info("✅ 쿠폰 사용 취소 완료 - userCouponId: {}, status: {}", 
-                    userCouponId, userCoupon.getStatus());
+            log.info("✅ 쿠폰 사용 취소 완료 - userCouponId: {}, status: AVAILABLE", userCouponId);
             return ResponseEntity.ok(CommonResponse.success("쿠폰 사용이 취소되었습니다"));
 
         } catch (Exception e) {
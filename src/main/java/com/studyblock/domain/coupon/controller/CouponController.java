@@ -6,6 +6,7 @@ import com.studyblock.domain.coupon.dto.CouponValidationResponse;
 import com.studyblock.domain.coupon.entity.UserCoupon;
 import com.studyblock.domain.coupon.repository.UserCouponRepository;
 import com.studyblock.domain.coupon.service.CouponValidationService;
+import com.studyblock.domain.coupon.service.CouponReservationService;
 import com.studyblock.global.dto.CommonResponse;
 import com.studyblock.global.util.AuthenticationUtils;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +34,7 @@ public class CouponController {
 
     private final UserCouponRepository userCouponRepository;
     private final AuthenticationUtils authenticationUtils;
+    private final CouponReservationService couponReservationService;
     private final CouponValidationService couponValidationService;
 
     //사용 가능한 쿠폰 목록 조회
@@ -194,11 +196,12 @@ public class CouponController {
                 return handleBadRequest("취소할 수 없는 쿠폰입니다 (상태: " + userCoupon.getStatus() + ")");
             }
             
-            userCoupon.release();
-            userCouponRepository.save(userCoupon);
+            // 조건부 UPDATE (RESERVED → AVAILABLE) + 수량 한정 쿠폰 재고 반환
+            if (!couponReservationService.release(userCouponId, userCoupon.getCoupon().getId())) {
+                return handleBadRequest("취소할 수 없는 쿠폰입니다 (이미 확정되었거나 해제된 예약)");
+            }
             
-            log.info("✅ 쿠폰 사용 취소 완료 - userCouponId: {}, status: {}", 
-                    userCouponId, userCoupon.getStatus());
+            log.info("✅ 쿠폰 사용 취소 완료 - userCouponId: {}, status: AVAILABLE", userCouponId);
             
             return ResponseEntity.ok(CommonResponse.success("쿠폰 사용이 취소되었습니다"));
             
@@ -0,0 +1,52 @@
+package com.studyblock.domain.coupon.dto;
+
+import com.studyblock.domain.coupon.entity.Coupon;
+import com.studyblock.domain.coupon.enums.CouponType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 사용 규칙 스냅샷 (CouponRuleCache 캐시 단위)
+ * 결제 경로에서 필요한 값만 담은 불변 객체
+ */
+@Getter
+@Builder
+public class CouponRule {
+
+    private final Long couponId;
+    private final String name;
+    private final CouponType type;
+    private final Integer discountValue;
+    private final Integer minimumAmount;
+    private final Integer maximumDiscount;
+    private final LocalDateTime validFrom;
+    private final LocalDateTime validUntil;
+    private final Integer usageLimit;       // null 이면 수량 제한 없음
+    private final boolean active;
+
+    public static CouponRule from(Coupon coupon) {
+        return CouponRule.builder()
+                .couponId(coupon.getId())
+                .name(coupon.getName())
+                .type(coupon.getType())
+                .discountValue(coupon.getDiscountValue())
+                .minimumAmount(coupon.getMinimumAmount())
+                .maximumDiscount(coupon.getMaximumDiscount())
+                .validFrom(coupon.getValidFrom())
+                .validUntil(coupon.getValidUntil())
+                .usageLimit(coupon.getUsageLimit())
+                .active(Boolean.TRUE.equals(coupon.getIsActive()))
+                .build();
+    }
+
+    public boolean isLimited() {
+        return usageLimit != null;
+    }
+
+    // 활성 + 사용 기간 안
+    public boolean isUsableAt(LocalDateTime now) {
+        return active && !now.isBefore(validFrom) && !now.isAfter(validUntil);
+    }
+}
@@ -45,9 +45,17 @@ public class Coupon {
     @Column(name = "usage_limit")
     private Integer usageLimit;
 
-    @Column(name = "used_count", nullable = false)
+    // 사용 / 발급 / 사용 완료 카운터는 네이티브 쿼리로만 원자적 증감 (관리자 수정 등 엔티티 저장 시에는 덮어쓰지 않음)
+    @Column(name = "used_count", nullable = false, insertable = false, updatable = false)
     private Integer usedCount = 0;
 
+    // 통계용 비정규화 카운터 (발급 / 사용 시 원자적 증가, CouponCounterReconciliationService 가 드리프트 보정)
+    @Column(name = "issued_count", nullable = false, insertable = false, updatable = false)
+    private Integer issuedCount = 0;
+
+    @Column(name = "redeemed_count", nullable = false, insertable = false, updatable = false)
+    private Integer redeemedCount = 0;
+
     @Column(name = "is_active", nullable = false, columnDefinition = "TINYINT(1)")
     private Boolean isActive = true;
 
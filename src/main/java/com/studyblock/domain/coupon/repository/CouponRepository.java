@@ -3,6 +3,7 @@ package com.studyblock.domain.coupon.repository;
 import com.studyblock.domain.coupon.entity.Coupon;
 import com.studyblock.domain.coupon.enums.CouponType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -86,4 +87,37 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
     // LEFT JOIN FETCH를 사용하여 createdBy가 NULL인 경우도 포함
     @Query("SELECT DISTINCT c FROM Coupon c LEFT JOIN FETCH c.createdBy")
     List<Coupon> findAllWithCreator();
+
+    // 단건 발급 카운터 증가 (발급 한도를 같은 UPDATE 에서 검사, 0 이면 한도 초과)
+    @Modifying
+    @Query(value = "UPDATE coupons SET used_count = used_count + 1, issued_count = issued_count + 1 " +
+                   "WHERE id = :id AND (usage_limit IS NULL OR used_count < usage_limit)",
+           nativeQuery = true)
+    int incrementIssuedWithinLimit(@Param("id") Long id);
+
+    // 일괄 발급 카운터 증가
+    @Modifying
+    @Query(value = "UPDATE coupons SET used_count = used_count + :amount, issued_count = issued_count + :amount " +
+                   "WHERE id = :id",
+           nativeQuery = true)
+    int incrementIssued(@Param("id") Long id, @Param("amount") int amount);
+
+    // 사용 카운터 증가 (결제 확정 트랜잭션 안에서 RESERVED → USED 와 함께 커밋)
+    @Modifying
+    @Query(value = "UPDATE coupons SET redeemed_count = redeemed_count + 1 WHERE id = :id", nativeQuery = true)
+    int incrementRedeemed(@Param("id") Long id);
+
+    // 카운터 보정
+    @Modifying
+    @Query(value = "UPDATE coupons SET issued_count = :issued, redeemed_count = :redeemed WHERE id = :id",
+           nativeQuery = true)
+    int updateCounters(@Param("id") Long id, @Param("issued") long issued, @Param("redeemed") long redeemed);
+
+    // 카운터 스냅샷 [id, issued_count, redeemed_count]
+    @Query(value = "SELECT id, issued_count, redeemed_count FROM coupons", nativeQuery = true)
+    List<Object[]> findCounterSnapshots();
+
+    // 쿠폰 행 잠금 (Redis 장애 시 예약 수량 검사를 직렬화)
+    @Query(value = "SELECT id FROM coupons WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
 }
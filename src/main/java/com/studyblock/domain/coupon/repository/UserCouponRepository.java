@@ -4,6 +4,7 @@ import com.studyblock.domain.coupon.entity.UserCoupon;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -100,5 +101,74 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
     // 쿠폰 ID로 이미 발급된 사용자 ID 목록만 조회 (엔티티 전체를 로드하지 않음)
     @Query("SELECT uc.user.id FROM UserCoupon uc WHERE uc.coupon.id = :couponId")
     List<Long> findUserIdsByCouponId(@Param("couponId") Long couponId);
-}
 
+    // ========================================
+    // 쿠폰 예약 (CouponReservationService) - 상태 전이는 조건부 UPDATE 로만 수행
+    // ========================================
+
+    // 예약 판단에 필요한 최소 컬럼 조회
+    // @return List<Object[]>: [user_id, coupon_id, status]
+    @Query(value = "SELECT user_id, coupon_id, status FROM user_coupons WHERE id = :id", nativeQuery = true)
+    List<Object[]> findReservationStateById(@Param("id") Long id);
+
+    // AVAILABLE → RESERVED (본인 소유 + 미만료일 때만)
+    @Modifying
+    @Query(value = "UPDATE user_coupons SET status = 'RESERVED', reserved_until = :until, reserved_order_number = :orderNumber " +
+                   "WHERE id = :id AND user_id = :userId AND status = 'AVAILABLE' AND is_used = 0 AND expires_at > :now",
+           nativeQuery = true)
+    int reserveIfAvailable(@Param("id") Long id,
+                           @Param("userId") Long userId,
+                           @Param("orderNumber") String orderNumber,
+                           @Param("until") LocalDateTime until,
+                           @Param("now") LocalDateTime now);
+
+    // 본인이 이미 잡고 있는 예약 연장 (재시도/새 주문으로 옮김)
+    @Modifying
+    @Query(value = "UPDATE user_coupons SET reserved_until = :until, " +
+                   "reserved_order_number = COALESCE(:orderNumber, reserved_order_number) " +
+                   "WHERE id = :id AND user_id = :userId AND status = 'RESERVED'",
+           nativeQuery = true)
+    int extendReservation(@Param("id") Long id,
+                          @Param("userId") Long userId,
+                          @Param("orderNumber") String orderNumber,
+                          @Param("until") LocalDateTime until);
+
+    // RESERVED → USED
+    @Modifying
+    @Query(value = "UPDATE user_coupons SET status = 'USED', is_used = 1, used_at = :now, reserved_until = NULL " +
+                   "WHERE id = :id AND status = 'RESERVED'",
+           nativeQuery = true)
+    int confirmReserved(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // RESERVED → AVAILABLE
+    @Modifying
+    @Query(value = "UPDATE user_coupons SET status = 'AVAILABLE', reserved_until = NULL, reserved_order_number = NULL " +
+                   "WHERE id = :id AND status = 'RESERVED'",
+           nativeQuery = true)
+    int releaseReserved(@Param("id") Long id);
+
+    // 방치된 예약을 AVAILABLE 로 (스위퍼, 그 사이 연장/확정된 행은 건너뜀)
+    @Modifying
+    @Query(value = "UPDATE user_coupons SET status = 'AVAILABLE', reserved_until = NULL, reserved_order_number = NULL " +
+                   "WHERE id = :id AND status = 'RESERVED' AND reserved_until < :now",
+           nativeQuery = true)
+    int releaseIfExpired(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 만료된 예약 조회 (idx_user_coupons_status_reserved_until)
+    // @return List<Object[]>: [id, coupon_id]
+    @Query(value = "SELECT id, coupon_id FROM user_coupons WHERE status = 'RESERVED' AND reserved_until < :now " +
+                   "ORDER BY reserved_until LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> findExpiredReservations(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 쿠폰별 발급 / 사용 수량 집계 [coupon_id, issued, used] (카운터 드리프트 검사)
+    @Query(value = "SELECT coupon_id, COUNT(*), SUM(CASE WHEN is_used = 1 THEN 1 ELSE 0 END) " +
+                   "FROM user_coupons GROUP BY coupon_id",
+           nativeQuery = true)
+    List<Object[]> countIssuedAndUsedGroupByCouponId();
+
+    // 쿠폰별 사용 수량 (예약 포함, idx_user_coupons_coupon_status)
+    @Query(value = "SELECT COUNT(*) FROM user_coupons WHERE coupon_id = :couponId AND status IN ('RESERVED', 'USED')",
+           nativeQuery = true)
+    long countRedeemedByCouponId(@Param("couponId") Long couponId);
+}
@@ -0,0 +1,50 @@
+package com.studyblock.domain.coupon.scheduler;
+
+import com.studyblock.domain.coupon.service.CouponCounterReconciliationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 쿠폰 카운터 보정 스케줄러
+ * - 발급 / 사용 카운터가 user_coupons 와 어긋난 쿠폰(수동 데이터 수정, 배포 전 발급분 등)을 주기적으로 보정
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CouponCounterReconciliationScheduler {
+
+    private final CouponCounterReconciliationService couponCounterReconciliationService;
+
+    /**
+     * 카운터 드리프트 보정 (기본 매일 04:30)
+     */
+    @Scheduled(cron = "${coupon.counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        List<Long> driftedCouponIds;
+        try {
+            driftedCouponIds = couponCounterReconciliationService.findDriftedCouponIds();
+        } catch (Exception e) {
+            log.error("쿠폰 카운터 드리프트 조회 실패", e);
+            return;
+        }
+
+        int fixed = 0;
+        for (Long couponId : driftedCouponIds) {
+            try {
+                if (couponCounterReconciliationService.reconcile(couponId)) {
+                    fixed++;
+                }
+            } catch (Exception e) {
+                log.error("쿠폰 카운터 보정 실패 - couponId: {}", couponId, e);
+            }
+        }
+
+        if (!driftedCouponIds.isEmpty()) {
+            log.warn("쿠폰 카운터 드리프트 보정 완료 - 대상: {}건, 보정: {}건", driftedCouponIds.size(), fixed);
+        }
+    }
+}
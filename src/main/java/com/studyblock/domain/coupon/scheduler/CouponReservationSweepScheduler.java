@@ -0,0 +1,52 @@
+package com.studyblock.domain.coupon.scheduler;
+
+import com.studyblock.domain.coupon.service.CouponReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 예약 스위퍼
+ * - 결제 창을 닫는 등으로 확정/해제되지 않은 예약을 보관 시간(hold-minutes) 이후 AVAILABLE 로 되돌리고 재고 반환
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CouponReservationSweepScheduler {
+
+    private final CouponReservationService couponReservationService;
+
+    @Value("${coupon.reservation.sweep-batch-size:500}")
+    private int sweepBatchSize;
+
+    @Value("${coupon.reservation.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    /**
+     * 만료 예약 정리 (기본 1분마다)
+     */
+    @Scheduled(fixedDelayString = "${coupon.reservation.sweep-interval-ms:60000}")
+    public void sweepExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                int found = couponReservationService.sweepExpired(now, sweepBatchSize);
+                total += found;
+                if (found < sweepBatchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("쿠폰 예약 정리 실패 - 처리된 건수: {}", total, e);
+        }
+
+        if (total > 0) {
+            log.info("만료된 쿠폰 예약 정리 완료 - {}건", total);
+        }
+    }
+}
@@ -5,13 +5,14 @@ import com.studyblock.domain.coupon.dto.CouponCreateRequest;
 import com.studyblock.domain.coupon.dto.CouponUpdateRequest;
 import com.studyblock.domain.coupon.entity.Coupon;
 import com.studyblock.domain.coupon.repository.CouponRepository;
-import com.studyblock.domain.coupon.repository.UserCouponRepository;
 import com.studyblock.domain.user.entity.User;
 import com.studyblock.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,7 +25,8 @@ public class CouponAdminService {
 
     private final CouponRepository couponRepository;
     private final UserRepository userRepository;
-    private final UserCouponRepository userCouponRepository;
+    private final CouponRuleCache couponRuleCache;
+    private final CouponReservationService couponReservationService;
 
     //쿠폰 생성
     //@param request 쿠폰 생성 요청
@@ -72,6 +74,7 @@ public class CouponAdminService {
         // Entity에 update 메서드 추가 필요 (나중에 리팩토링)
 
         couponRepository.save(coupon);
+        evictCouponRule(couponId);
 
         log.info("쿠폰 수정 완료 - couponId: {}, name: {}", couponId, coupon.getName());
 
@@ -87,6 +90,7 @@ public class CouponAdminService {
                 .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다"));
 
         couponRepository.delete(coupon);
+        evictCouponRule(couponId);
 
         log.info("쿠폰 삭제 완료 - couponId: {}, name: {}", couponId, coupon.getName());
     }
@@ -113,6 +117,7 @@ public class CouponAdminService {
         }
 
         couponRepository.save(coupon);
+        evictCouponRule(couponId);
 
         log.info("쿠폰 활성화 상태 변경 완료 - couponId: {}, isActive: {}", couponId, coupon.getIsActive());
 
@@ -139,27 +144,7 @@ public class CouponAdminService {
         
         // 트랜잭션 내에서 DTO 변환까지 완료
         return coupons.stream()
-                .map(coupon -> {
-                    try {
-                        // user_coupons 테이블에서 집계
-                        Long issuedCount = userCouponRepository.countIssuedCouponsByCouponId(coupon.getId());
-                        Long usedCountFromUserCoupons = userCouponRepository.countUsedCouponsByCouponId(coupon.getId());
-                        
-                        // null 체크
-                        if (issuedCount == null) {
-                            issuedCount = 0L;
-                        }
-                        if (usedCountFromUserCoupons == null) {
-                            usedCountFromUserCoupons = 0L;
-                        }
-                        
-                        return CouponAdminResponse.from(coupon, issuedCount, usedCountFromUserCoupons);
-                    } catch (Exception e) {
-                        log.warn("쿠폰 집계 정보 조회 실패 - couponId: {}, error: {}", coupon.getId(), e.getMessage());
-                        // 집계 실패 시 기본값으로 반환
-                        return CouponAdminResponse.from(coupon, 0L, 0L);
-                    }
-                })
+                .map(CouponAdminService::toAdminResponse)
                 .collect(Collectors.toList());
     }
 
@@ -196,30 +181,16 @@ public class CouponAdminService {
         return convertToCouponAdminResponse(coupons);
     }
 
+    // 발급 / 사용 수량은 coupons 의 카운터 컬럼을 사용 (쿠폰마다 user_coupons 를 COUNT 하지 않음)
+    private static CouponAdminResponse toAdminResponse(Coupon coupon) {
+        return CouponAdminResponse.from(coupon,
+                coupon.getIssuedCount().longValue(), coupon.getRedeemedCount().longValue());
+    }
+
     // Coupon 리스트를 CouponAdminResponse 리스트로 변환 (트랜잭션 내에서 실행)
     private List<CouponAdminResponse> convertToCouponAdminResponse(List<Coupon> coupons) {
         return coupons.stream()
-                .map(coupon -> {
-                    try {
-                        // user_coupons 테이블에서 집계
-                        Long issuedCount = userCouponRepository.countIssuedCouponsByCouponId(coupon.getId());
-                        Long usedCountFromUserCoupons = userCouponRepository.countUsedCouponsByCouponId(coupon.getId());
-                        
-                        // null 체크
-                        if (issuedCount == null) {
-                            issuedCount = 0L;
-                        }
-                        if (usedCountFromUserCoupons == null) {
-                            usedCountFromUserCoupons = 0L;
-                        }
-                        
-                        return CouponAdminResponse.from(coupon, issuedCount, usedCountFromUserCoupons);
-                    } catch (Exception e) {
-                        log.warn("쿠폰 집계 정보 조회 실패 - couponId: {}, error: {}", coupon.getId(), e.getMessage());
-                        // 집계 실패 시 기본값으로 반환
-                        return CouponAdminResponse.from(coupon, 0L, 0L);
-                    }
-                })
+                .map(CouponAdminService::toAdminResponse)
                 .collect(Collectors.toList());
     }
 
@@ -239,4 +210,15 @@ public class CouponAdminService {
         Long count = couponRepository.sumTotalUsedCount();
         return count != null ? count : 0L;
     }
+
+    // 커밋 후 쿠폰 규칙 캐시와 재고 키 제거 (다음 예약 때 변경된 한도로 다시 계산)
+    private void evictCouponRule(Long couponId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                couponRuleCache.evict(couponId);
+                couponReservationService.resetStock(couponId);
+            }
+        });
+    }
 }
@@ -0,0 +1,71 @@
+package com.studyblock.domain.coupon.service;
+
+import com.studyblock.domain.coupon.repository.CouponRepository;
+import com.studyblock.domain.coupon.repository.UserCouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쿠폰 발급 / 사용 카운터 보정
+ * - coupons.issued_count / redeemed_count 를 user_coupons 집계와 비교해 어긋난 쿠폰만 찾음 (GROUP BY 한 번)
+ * - 어긋난 쿠폰은 행 잠금 후 다시 COUNT 해 덮어씀 (진행 중인 발급 / 결제 확정이 끝난 뒤의 값으로 보정)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponCounterReconciliationService {
+
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+
+    /**
+     * 카운터가 user_coupons 집계와 다른 쿠폰 ID 조회
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findDriftedCouponIds() {
+        Map<Long, long[]> actual = new HashMap<>();
+        for (Object[] row : userCouponRepository.countIssuedAndUsedGroupByCouponId()) {
+            actual.put(toLong(row[0]), new long[]{toLong(row[1]), toLong(row[2])});
+        }
+
+        List<Long> drifted = new ArrayList<>();
+        for (Object[] row : couponRepository.findCounterSnapshots()) {
+            Long couponId = toLong(row[0]);
+            long[] counts = actual.getOrDefault(couponId, new long[2]);
+            if (toLong(row[1]) != counts[0] || toLong(row[2]) != counts[1]) {
+                drifted.add(couponId);
+            }
+        }
+        return drifted;
+    }
+
+    /**
+     * 단일 쿠폰 카운터 보정 (쿠폰마다 별도 트랜잭션, 잠금 시간 최소화)
+     *
+     * @param couponId 쿠폰 ID
+     * @return 보정했으면 true, 쿠폰이 삭제되었으면 false
+     */
+    @Transactional
+    public boolean reconcile(Long couponId) {
+        if (couponRepository.lockById(couponId).isEmpty()) {
+            return false;
+        }
+
+        long issued = userCouponRepository.countIssuedCouponsByCouponId(couponId);
+        long redeemed = userCouponRepository.countUsedCouponsByCouponId(couponId);
+        couponRepository.updateCounters(couponId, issued, redeemed);
+        log.info("쿠폰 카운터 보정 - couponId: {}, issued: {}, redeemed: {}", couponId, issued, redeemed);
+        return true;
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+}
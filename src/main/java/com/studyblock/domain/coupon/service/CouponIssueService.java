@@ -51,8 +51,9 @@ public class CouponIssueService {
             throw new IllegalStateException("비활성화된 쿠폰은 발급할 수 없습니다");
         }
 
-        // 5. 사용 한도 확인
-        if (coupon.getUsageLimit() != null && coupon.getUsedCount() >= coupon.getUsageLimit()) {
+        // 5. 사용 한도 확인 + 발급 카운터 증가 (조건부 UPDATE 한 번, 동시 발급에도 한도 초과 없음)
+        // UserCoupon 저장 전에 수행하므로 한도 초과 시 저장된 행이 남지 않음
+        if (couponRepository.incrementIssuedWithinLimit(couponId) == 0) {
             throw new IllegalStateException("쿠폰 발급 한도를 초과했습니다");
         }
 
@@ -72,9 +73,6 @@ public class CouponIssueService {
 
         userCouponRepository.save(userCoupon);
 
-        // 9. Coupon의 usedCount 증가 (리플렉션 사용)
-        incrementUsedCount(coupon);
-
         log.info("쿠폰 발급 완료 - userId: {}, couponId: {}, couponCode: {}",
                 userId, couponId, couponCode);
 
@@ -183,9 +181,11 @@ public class CouponIssueService {
             userCouponRepository.saveAll(userCouponsToSave);
         }
 
-        // 7. Coupon의 usedCount 증가 (한 번에 처리)
+        // 7. 발급 카운터 증가 (한 번에 처리)
         int successCount = userCouponsToSave.size();
-        incrementUsedCountByAmount(coupon, successCount);
+        if (successCount > 0) {
+            couponRepository.incrementIssued(couponId, successCount);
+        }
 
         int failCount = failedUserIds.size() + (userIds.size() - targetUserIds.size());
         List<String> failedUserIdsStr = new ArrayList<>();
@@ -221,29 +221,6 @@ public class CouponIssueService {
         return sb.toString();
     }
 
-    //Coupon의 usedCount 증가 (리플렉션 사용)
-
-    private void incrementUsedCount(Coupon coupon) {
-        incrementUsedCountByAmount(coupon, 1);
-    }
-
-    //Coupon의 usedCount를 지정된 수만큼 증가 (리플렉션 사용)
-    //@param coupon 쿠폰 엔티티
-    //@param amount 증가할 수량
-
-    private void incrementUsedCountByAmount(Coupon coupon, int amount) {
-        try {
-            java.lang.reflect.Field field = Coupon.class.getDeclaredField("usedCount");
-            field.setAccessible(true);
-            Integer currentCount = (Integer) field.get(coupon);
-            field.set(coupon, currentCount + amount);
-            field.setAccessible(false);
-            couponRepository.save(coupon);
-        } catch (Exception e) {
-            log.error("usedCount 증가 실패", e);
-        }
-    }
-
     //일괄 발급 결과 클래스
 
     @lombok.Getter
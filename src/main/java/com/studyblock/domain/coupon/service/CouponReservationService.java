@@ -0,0 +1,304 @@
+package com.studyblock.domain.coupon.service;
+
+import com.studyblock.domain.coupon.dto.CouponRule;
+import com.studyblock.domain.coupon.entity.UserCoupon;
+import com.studyblock.domain.coupon.enums.CouponStatus;
+import com.studyblock.domain.coupon.repository.CouponRepository;
+import com.studyblock.domain.coupon.repository.UserCouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쿠폰 예약 서비스
+ * - 결제 시작 시 AVAILABLE → RESERVED (조건부 UPDATE, 본인 예약은 연장)
+ * - 수량 한정 쿠폰은 Redis 재고(coupon:stock:{couponId}) 를 원자적으로 차감해 동시 결제에서도 한도를 넘지 않음
+ *   (재고 = usageLimit - 예약/사용 수량, 키가 없으면 DB 에서 다시 계산)
+ * - 결제 성공 시 RESERVED → USED, 실패/만료 시 RESERVED → AVAILABLE 후 재고 반환
+ * - Redis 장애 시 쿠폰 행을 잠그고 DB 수량으로 검사
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponReservationService {
+
+    private static final String STOCK_KEY_PREFIX = "coupon:stock:";
+    private static final long NO_STOCK_KEY = -2L;
+
+    // 남은 재고가 있으면 1 차감 (키 없음 -2, 소진 -1)
+    private static final DefaultRedisScript<Long> TAKE_STOCK_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[1]) " +
+            "if not v then return -2 end " +
+            "if tonumber(v) <= 0 then return -1 end " +
+            "return redis.call('DECR', KEYS[1])",
+            Long.class);
+
+    // 키가 있을 때만 재고 반환 (키가 없으면 다음 예약 때 DB 에서 다시 계산되므로 반환하지 않음)
+    private static final DefaultRedisScript<Long> RETURN_STOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCRBY', KEYS[1], ARGV[1]) end " +
+            "return -2",
+            Long.class);
+
+    private final UserCouponRepository userCouponRepository;
+    private final CouponRepository couponRepository;
+    private final CouponRuleCache couponRuleCache;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${coupon.reservation.hold-minutes:15}")
+    private long holdMinutes;
+
+    @Value("${coupon.reservation.stock-ttl-minutes:10}")
+    private long stockTtlMinutes;
+
+    /**
+     * 쿠폰 예약 (별도 트랜잭션으로 즉시 커밋)
+     * 본인이 이미 예약한 쿠폰이면 재고 차감 없이 예약 시간만 연장합니다.
+     *
+     * @param userId 사용자 ID
+     * @param userCouponId 사용자 쿠폰 ID
+     * @param orderNumber 예약을 잡는 주문번호 (없으면 null)
+     * @return 쿠폰 규칙
+     * @throws IllegalArgumentException 쿠폰이 없는 경우
+     * @throws IllegalStateException 본인 쿠폰이 아니거나 사용할 수 없는 경우, 수량이 소진된 경우
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public CouponRule reserve(Long userId, Long userCouponId, String orderNumber) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plusMinutes(holdMinutes);
+
+        List<Object[]> rows = userCouponRepository.findReservationStateById(userCouponId);
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("쿠폰을 찾을 수 없습니다. ID: " + userCouponId);
+        }
+        Object[] row = rows.get(0);
+        Long ownerId = ((Number) row[0]).longValue();
+        Long couponId = ((Number) row[1]).longValue();
+        CouponStatus status = CouponStatus.valueOf((String) row[2]);
+
+        if (!ownerId.equals(userId)) {
+            throw new IllegalStateException("본인의 쿠폰이 아닙니다.");
+        }
+
+        CouponRule rule = couponRuleCache.get(couponId);
+
+        // 1) 이미 본인이 잡고 있는 예약이면 연장만 (그 사이 스위퍼가 풀었으면 새로 예약)
+        if (status == CouponStatus.RESERVED
+                && userCouponRepository.extendReservation(userCouponId, userId, orderNumber, until) == 1) {
+            log.debug("쿠폰 예약 연장 - userCouponId: {}, until: {}", userCouponId, until);
+            return rule;
+        }
+        if (status == CouponStatus.USED || status == CouponStatus.EXPIRED) {
+            throw new IllegalStateException("사용할 수 없는 쿠폰입니다. 현재 상태: " + status);
+        }
+        if (!rule.isActive()) {
+            throw new IllegalStateException("비활성화된 쿠폰입니다.");
+        }
+        if (!rule.isUsableAt(now)) {
+            throw new IllegalStateException("쿠폰 사용 가능 기간이 아닙니다.");
+        }
+
+        // 2) 수량 한정 쿠폰 재고 차감 (트랜잭션이 커밋되지 않으면 반환)
+        boolean stockTaken = rule.isLimited() && takeStock(rule);
+        if (stockTaken) {
+            returnStockUnlessCommitted(couponId);
+        }
+
+        // 3) AVAILABLE → RESERVED
+        if (userCouponRepository.reserveIfAvailable(userCouponId, userId, orderNumber, until, now) == 1) {
+            log.info("쿠폰 예약 완료 - userCouponId: {}, couponId: {}, orderNumber: {}, until: {}",
+                    userCouponId, couponId, orderNumber, until);
+            return rule;
+        }
+
+        // 같은 쿠폰으로 동시에 들어온 본인 요청이 먼저 예약한 경우
+        if (userCouponRepository.extendReservation(userCouponId, userId, orderNumber, until) == 1) {
+            if (stockTaken) {
+                returnStockAfterCommit(Map.of(couponId, 1));
+            }
+            return rule;
+        }
+        throw new IllegalStateException("사용할 수 없는 쿠폰입니다. 만료되었거나 이미 사용된 쿠폰입니다.");
+    }
+
+    /**
+     * 예약 확정 RESERVED → USED (호출한 결제 트랜잭션에 참여)
+     * 재고는 예약 시 이미 차감되었으므로 변경 없음
+     *
+     * @param userCoupon 사용자 쿠폰 (결제 트랜잭션에서 조회한 엔티티)
+     * @throws IllegalStateException 예약이 없거나 만료되어 풀린 경우
+     */
+    public void confirm(UserCoupon userCoupon) {
+        LocalDateTime now = LocalDateTime.now();
+        if (userCouponRepository.confirmReserved(userCoupon.getId(), now) == 0) {
+            throw new IllegalStateException("쿠폰 예약이 만료되었거나 이미 사용된 쿠폰입니다.");
+        }
+        // 영속성 컨텍스트의 엔티티를 DB 상태와 맞춤 (같은 값이므로 추가 변경 없음)
+        userCoupon.markUsed(now);
+        // 사용 통계 카운터 (결제 트랜잭션과 함께 커밋 / 롤백)
+        couponRepository.incrementRedeemed(userCoupon.getCoupon().getId());
+        log.info("쿠폰 예약 확정 - userCouponId: {}", userCoupon.getId());
+    }
+
+    /**
+     * 예약 해제 RESERVED → AVAILABLE (별도 트랜잭션, 결제 트랜잭션이 롤백되어도 해제 유지)
+     *
+     * @param userCouponId 사용자 쿠폰 ID
+     * @param couponId 쿠폰 ID (재고 반환 대상)
+     * @return 해제했으면 true, 예약 상태가 아니면 false
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean release(Long userCouponId, Long couponId) {
+        if (userCouponRepository.releaseReserved(userCouponId) == 0) {
+            return false;
+        }
+        returnStockAfterCommit(Map.of(couponId, 1));
+        log.info("쿠폰 예약 해제 - userCouponId: {}", userCouponId);
+        return true;
+    }
+
+    /**
+     * 방치된 예약 정리 (reserved_until 경과)
+     *
+     * @param now 기준 시각
+     * @param limit 최대 처리 건수
+     * @return 조회된 만료 예약 수 (limit 과 같으면 남은 건이 더 있을 수 있음)
+     */
+    @Transactional
+    public int sweepExpired(LocalDateTime now, int limit) {
+        List<Object[]> expired = userCouponRepository.findExpiredReservations(now, limit);
+        Map<Long, Integer> returned = new HashMap<>();
+        for (Object[] row : expired) {
+            Long userCouponId = ((Number) row[0]).longValue();
+            Long couponId = ((Number) row[1]).longValue();
+            if (userCouponRepository.releaseIfExpired(userCouponId, now) == 1) {
+                returned.merge(couponId, 1, Integer::sum);
+            }
+        }
+        if (!returned.isEmpty()) {
+            returnStockAfterCommit(returned);
+        }
+        return expired.size();
+    }
+
+    /**
+     * 남은 수량 조회 (검증용, 차감하지 않음)
+     *
+     * @param rule 쿠폰 규칙
+     * @return 남은 수량, 수량 제한이 없으면 Long.MAX_VALUE
+     */
+    public long getRemainingStock(CouponRule rule) {
+        if (!rule.isLimited()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            String value = stringRedisTemplate.opsForValue().get(stockKey(rule.getCouponId()));
+            if (value != null) {
+                return Math.max(Long.parseLong(value), 0L);
+            }
+        } catch (DataAccessException e) {
+            log.warn("쿠폰 재고 Redis 조회 실패, DB로 처리 - couponId: {}, error: {}", rule.getCouponId(), e.getMessage());
+        }
+        return Math.max(rule.getUsageLimit() - userCouponRepository.countRedeemedByCouponId(rule.getCouponId()), 0L);
+    }
+
+    /**
+     * 쿠폰 변경 시 재고 키 제거 (다음 예약 때 새 usageLimit 으로 다시 계산)
+     *
+     * @param couponId 쿠폰 ID
+     */
+    public void resetStock(Long couponId) {
+        try {
+            stringRedisTemplate.delete(stockKey(couponId));
+        } catch (DataAccessException e) {
+            log.warn("쿠폰 재고 키 제거 실패 (TTL 만료 후 반영) - couponId: {}", couponId, e);
+        }
+    }
+
+    // 재고 1 차감 - Redis 에서 차감했으면 true, Redis 장애로 DB 검사만 했으면 false
+    private boolean takeStock(CouponRule rule) {
+        Long couponId = rule.getCouponId();
+        long remaining;
+        try {
+            remaining = executeTake(couponId);
+            if (remaining == NO_STOCK_KEY) {
+                initStock(rule);
+                remaining = executeTake(couponId);
+            }
+        } catch (DataAccessException e) {
+            log.warn("쿠폰 재고 Redis 처리 실패, DB로 처리 - couponId: {}, error: {}", couponId, e.getMessage());
+            // 같은 쿠폰의 예약을 직렬화한 뒤 DB 수량으로 검사 (잠금은 이 트랜잭션 커밋까지 유지)
+            couponRepository.lockById(couponId);
+            if (userCouponRepository.countRedeemedByCouponId(couponId) >= rule.getUsageLimit()) {
+                throw new IllegalStateException("쿠폰 사용 한도가 초과되었습니다.");
+            }
+            return false;
+        }
+
+        if (remaining < 0) {
+            throw new IllegalStateException("쿠폰 사용 한도가 초과되었습니다.");
+        }
+        return true;
+    }
+
+    private long executeTake(Long couponId) {
+        Long result = stringRedisTemplate.execute(TAKE_STOCK_SCRIPT, List.of(stockKey(couponId)));
+        return result != null ? result : NO_STOCK_KEY;
+    }
+
+    // 재고 키 초기화 (여러 인스턴스가 동시에 계산해도 먼저 저장한 값만 사용)
+    private void initStock(CouponRule rule) {
+        long redeemed = userCouponRepository.countRedeemedByCouponId(rule.getCouponId());
+        long stock = Math.max(rule.getUsageLimit() - redeemed, 0L);
+        stringRedisTemplate.opsForValue()
+                .setIfAbsent(stockKey(rule.getCouponId()), String.valueOf(stock), Duration.ofMinutes(stockTtlMinutes));
+        log.debug("쿠폰 재고 초기화 - couponId: {}, usageLimit: {}, redeemed: {}", rule.getCouponId(), rule.getUsageLimit(), redeemed);
+    }
+
+    private void returnStockUnlessCommitted(Long couponId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    returnStock(Map.of(couponId, 1));
+                }
+            }
+        });
+    }
+
+    private void returnStockAfterCommit(Map<Long, Integer> amounts) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                returnStock(amounts);
+            }
+        });
+    }
+
+    private void returnStock(Map<Long, Integer> amounts) {
+        amounts.forEach((couponId, amount) -> {
+            try {
+                stringRedisTemplate.execute(RETURN_STOCK_SCRIPT, List.of(stockKey(couponId)), String.valueOf(amount));
+            } catch (DataAccessException e) {
+                log.warn("쿠폰 재고 반환 실패 (재고 키 만료 후 DB 기준으로 재계산) - couponId: {}, amount: {}", couponId, amount, e);
+            }
+        });
+    }
+
+    private String stockKey(Long couponId) {
+        return STOCK_KEY_PREFIX + couponId;
+    }
+}
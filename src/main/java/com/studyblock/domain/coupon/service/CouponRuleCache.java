@@ -0,0 +1,118 @@
+package com.studyblock.domain.coupon.service;
+
+import com.studyblock.domain.coupon.dto.CouponRule;
+import com.studyblock.domain.coupon.repository.CouponRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 쿠폰 규칙 캐시
+ * - 결제/예약 경로에서 쿠폰 마스터(coupons) 를 매번 읽지 않도록 인스턴스 로컬에 짧게 보관
+ * - 관리자 변경 시 Redis Pub/Sub 으로 모든 인스턴스의 로컬 캐시를 무효화 (유실 시 TTL 만료로 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponRuleCache implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "coupon:rule:invalidated";
+    private static final int LOCAL_CACHE_MAX_SIZE = 1000;
+
+    private final CouponRepository couponRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final ConcurrentMap<Long, LocalEntry> localCache = new ConcurrentHashMap<>();
+
+    @Value("${coupon.rule-cache.local-ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        try {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 규칙 무효화 채널 구독 실패", e);
+        }
+    }
+
+    /**
+     * 쿠폰 규칙 조회 (로컬 캐시 → MySQL)
+     *
+     * @param couponId 쿠폰 ID
+     * @return 쿠폰 규칙
+     * @throws IllegalArgumentException 쿠폰이 존재하지 않는 경우
+     */
+    public CouponRule get(Long couponId) {
+        LocalEntry local = localCache.get(couponId);
+        if (local != null && !local.isExpired()) {
+            return local.rule();
+        }
+
+        CouponRule rule = couponRepository.findById(couponId)
+                .map(CouponRule::from)
+                .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다. ID: " + couponId));
+        putLocal(couponId, rule);
+        return rule;
+    }
+
+    /**
+     * 쿠폰 규칙 무효화 (모든 인스턴스)
+     *
+     * @param couponId 쿠폰 ID
+     */
+    public void evict(Long couponId) {
+        if (couponId == null) {
+            return;
+        }
+
+        localCache.remove(couponId);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(couponId));
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 규칙 무효화 발행 실패 (로컬 TTL 만료 후 반영) - couponId: {}", couponId, e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 발행한 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", "");
+        try {
+            localCache.remove(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 쿠폰 규칙 무효화 메시지 - body: {}", body);
+        }
+    }
+
+    private void putLocal(Long couponId, CouponRule rule) {
+        if (localCache.size() >= LOCAL_CACHE_MAX_SIZE) {
+            localCache.values().removeIf(LocalEntry::isExpired);
+            if (localCache.size() >= LOCAL_CACHE_MAX_SIZE) {
+                localCache.clear();
+            }
+        }
+        localCache.put(couponId, new LocalEntry(rule, System.currentTimeMillis() + localTtlSeconds * 1000));
+    }
+
+    private record LocalEntry(CouponRule rule, long expiresAtMillis) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAtMillis;
+        }
+    }
+}
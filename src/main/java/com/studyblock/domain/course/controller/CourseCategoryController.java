@@ -1,7 +1,7 @@
 package com.studyblock.domain.course.controller;
 
-import com.studyblock.domain.category.entity.Category;
-import com.studyblock.domain.category.repository.CategoryRepository;
+import com.studyblock.domain.category.service.CategoryService;
+import com.studyblock.domain.category.service.CategoryTree;
 import com.studyblock.domain.course.dto.SearchCourseResponse;
 import com.studyblock.domain.course.service.CourseCategoryService;
 import com.studyblock.global.dto.CommonResponse;
@@ -21,7 +21,7 @@ import java.util.Map;
 @Slf4j
 public class CourseCategoryController {
 
-    private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
     private final CourseCategoryService courseCategoryService;
 
     @GetMapping("/all")
@@ -29,16 +29,14 @@ public class CourseCategoryController {
     public ResponseEntity<CommonResponse<List<Map<String, Object>>>> getAllCategories() {
         log.info("전체 카테고리 목록 조회 요청");
 
-        List<Category> allCategories = categoryRepository.findAllByOrderByOrderNoAsc();
+        CategoryTree tree = categoryService.getCategoryTree();
 
-        // 트리 구조로 변환
-        List<Map<String, Object>> categoryTree = allCategories.stream()
-                .filter(c -> c.getParent() == null) // 대분류만
-                .map(parent -> Map.of(
+        // 트리 구조로 변환 (카테고리 트리 캐시에서 조회)
+        List<Map<String, Object>> categoryTree = tree.getRoots().stream()
+                .map(parent -> Map.<String, Object>of(
                         "id", parent.getId(),
                         "name", parent.getName(),
-                        "children", allCategories.stream()
-                                .filter(child -> child.getParent() != null && child.getParent().getId().equals(parent.getId()))
+                        "children", tree.getChildren(parent.getId()).stream()
                                 .map(child -> Map.of(
                                         "id", child.getId(),
                                         "name", child.getName()
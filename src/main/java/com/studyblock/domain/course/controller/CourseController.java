@@ -366,15 +366,21 @@ public class CourseController {
     @GetMapping("/{courseId}/related")
     @Operation(
             summary = "관련 코스 추천",
-            description = "카테고리/난이도를 기준으로 연관 코스를 추천합니다."
+            description = "함께 수강한 학습자 데이터와 카테고리/난이도를 기준으로 연관 코스를 추천합니다. 로그인 시 관심 카테고리 코스를 우선 노출합니다."
     )
     @ApiResponse(responseCode = "200", description = "관련 코스 조회 성공")
     @CommonApiResponses
     public ResponseEntity<CommonResponse<List<RelatedCourseResponse>>> getRelatedCourses(
             @Parameter(description = "코스 ID", required = true, example = "1")
-            @PathVariable Long courseId) {
+            @PathVariable Long courseId,
+            Authentication authentication) {
+
+        Long userId = null;
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            userId = user.getId();
+        }
 
-        List<RelatedCourseResponse> response = courseService.getRelatedCourses(courseId);
+        List<RelatedCourseResponse> response = courseService.getRelatedCourses(courseId, userId);
         return ResponseEntity.ok(CommonResponse.success("관련 코스 조회 성공", response));
     }
 
@@ -11,6 +11,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 비디오 진도율 Controller
  * - 진도율 조회, 저장, 영구 저장
@@ -56,6 +58,33 @@ public class VideoProgressController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 여러 영상 진도율 일괄 조회 (커리큘럼 화면의 이어보기 위치 표시)
+     * GET /api/videos/progress?videoIds=1,2,3
+     *
+     * @param videoIds 비디오 ID 목록 (최대 500개)
+     * @param user     현재 로그인한 사용자
+     * @return 진도율 응답 목록 (진도율이 없는 영상은 제외)
+     */
+    @GetMapping("/progress")
+    public ResponseEntity<List<VideoProgressResponse>> getProgresses(
+            @RequestParam List<Long> videoIds,
+            @AuthenticationPrincipal User user
+    ) {
+        // 인증 확인
+        if (user == null) {
+            log.warn("진도율 일괄 조회 실패 - 인증되지 않은 사용자");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        List<VideoProgressResponse> responses = videoProgressService.getProgresses(user.getId(), videoIds)
+                .values().stream()
+                .map(VideoProgressResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(responses);
+    }
+
     /**
      * 진도율 저장 (Redis에만 저장)
      * POST /api/videos/{videoId}/progress
@@ -0,0 +1,35 @@
+package com.studyblock.domain.course.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 코스 카탈로그 읽기 모델 (캐시 저장용)
+ * - 코스 상세 화면에 필요한 공용 데이터를 한 번에 조립한 문서
+ * - 썸네일은 원본 URL 상태로 보관 (presigned URL 은 조회 시점에 생성)
+ * - 사용자별 정보(구매 섹션, 잠금 상태, 진도)는 포함하지 않고 조회 시 덧씌움
+ * - 캐시된 인스턴스는 공유되므로 수정하지 않고, 응답 시에는 복사본을 사용
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseCatalogDocument {
+
+    private Long courseId;
+    private Long version;                   // 카탈로그 버전 스탬프 (무효화 시 증가)
+    private LocalDateTime builtAt;
+
+    private CourseDetailResponse detail;
+    private List<LectureSummaryResponse> lectures;
+    private List<SectionResponse> sections;
+    private List<LearningOutcomeResponse> learningOutcomes;
+    private List<CourseFaqResponse> faqs;
+    private List<CoursePrerequisiteResponse> prerequisites;
+    private List<RelatedCourseResponse> relatedCourses;
+}
@@ -14,7 +14,7 @@ import java.util.List;
 import java.util.Collections;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Setter
@@ -15,7 +15,7 @@ import java.time.LocalDate;
  * 코스 상세 화면용 강의 요약 응답 DTO
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Setter
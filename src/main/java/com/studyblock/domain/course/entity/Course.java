@@ -47,9 +47,13 @@ public class Course extends BaseTimeEntity {
     @Column(name = "discount_percentage", nullable = false)
     private Integer discountPercentage = 0;
 
-    @Column(name = "enrollment_count", nullable = false)
+    // 집계 카운터 (CourseCounterService 가 주기적으로 반영, 엔티티 저장 시에는 덮어쓰지 않음)
+    @Column(name = "enrollment_count", nullable = false, insertable = false, updatable = false)
     private Long enrollmentCount = 0L;
 
+    @Column(name = "wishlist_count", nullable = false, insertable = false, updatable = false)
+    private Long wishlistCount = 0L;
+
     @Column(name = "is_published", nullable = false, columnDefinition = "TINYINT(1)")
     private Boolean isPublished = false;
 
@@ -90,18 +94,6 @@ public class Course extends BaseTimeEntity {
         this.isPublished = false;
     }
 
-    // 코스 수강 신청 시 사용하는 메서드
-    public void increaseEnrollmentCount() {
-        this.enrollmentCount++;
-    }
-
-    // 코스 수강 신청 취소 시 사용하는 메서드
-    public void decreaseEnrollmentCount() {
-        if (this.enrollmentCount > 0) {
-            this.enrollmentCount--;
-        }
-    }
-
     public void updateInfo(String title, String summary, CourseLevel level,
                            String thumbnailUrl, Long price, Integer discountPercentage) {
         this.title = title;
@@ -184,9 +176,9 @@ public class Course extends BaseTimeEntity {
     @Transient  // DB 컬럼 아님
     private Double averageRating;
 
-    //리뷰 개수
-    @Transient
-    private Long reviewCount;
+    //리뷰 개수 (집계 카운터, 목록 조회 시 setReviewInfo 로 최신 값 덮어쓰기 가능)
+    @Column(name = "review_count", nullable = false, insertable = false, updatable = false)
+    private Long reviewCount = 0L;
 
     //평점 정보 설정 메서드
     public void setReviewInfo(Double averageRating, Long reviewCount) {
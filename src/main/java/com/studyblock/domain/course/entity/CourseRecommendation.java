@@ -0,0 +1,55 @@
+package com.studyblock.domain.course.entity;
+
+import com.studyblock.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 연관 코스 추천 (사전 계산 결과)
+ * - 수강 동시 발생(co-enrollment) + 카테고리/난이도 유사도를 혼합한 점수 기준 상위 K개
+ * - 배치에서 코스 단위로 통째로 교체
+ */
+@Entity
+@Table(name = "course_recommendation",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_course_recommendation_rank", columnNames = {"course_id", "rank_no"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CourseRecommendation extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "related_course_id", nullable = false)
+    private Course relatedCourse;
+
+    @Column(name = "rank_no", nullable = false)
+    private Integer rankNo;
+
+    @Column(nullable = false, precision = 10, scale = 4)
+    private BigDecimal score;
+
+    @Column(name = "co_enrollment_count", nullable = false)
+    private Integer coEnrollmentCount = 0;
+
+    @Builder
+    public CourseRecommendation(Long courseId, Course relatedCourse, Integer rankNo,
+                                BigDecimal score, Integer coEnrollmentCount) {
+        this.courseId = courseId;
+        this.relatedCourse = relatedCourse;
+        this.rankNo = rankNo;
+        this.score = score;
+        this.coEnrollmentCount = coEnrollmentCount != null ? coEnrollmentCount : 0;
+    }
+}
@@ -0,0 +1,17 @@
+package com.studyblock.domain.course.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 코스 집계 카운터 종류 (course 테이블 컬럼으로 주기적으로 반영)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CourseCounterType {
+    ENROLLMENT("수강생 수"),
+    REVIEW("리뷰 수"),
+    WISHLIST("찜 수");
+
+    private final String description;
+}
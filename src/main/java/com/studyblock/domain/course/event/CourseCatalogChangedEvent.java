@@ -0,0 +1,25 @@
+package com.studyblock.domain.course.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 코스 카탈로그 변경 도메인 이벤트
+ *
+ * 발행 시점: 코스/섹션/강의/퀴즈/비디오 등 코스 상세 화면에 노출되는 데이터가 변경될 때
+ * 용도: 트랜잭션 커밋 이후 캐시된 코스 카탈로그 문서를 무효화하기 위한 트리거
+ */
+@Getter
+@RequiredArgsConstructor
+public class CourseCatalogChangedEvent {
+
+    /**
+     * 변경된 코스 ID
+     */
+    private final Long courseId;
+
+    /**
+     * 이벤트 발생 시각
+     */
+    private final long timestamp = System.currentTimeMillis();
+}
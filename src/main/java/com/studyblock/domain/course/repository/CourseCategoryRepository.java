@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CourseCategoryRepository extends JpaRepository<CourseCategory, Long> {
@@ -23,14 +24,22 @@ public interface CourseCategoryRepository extends JpaRepository<CourseCategory,
     List<CourseCategory> findByCategoryId(@Param("categoryId") Long categoryId);
 
     /**
-     *  특정 카테고리(categoryId)에 속한 Course 목록을 페이징 조회
+     *  카테고리 서브트리(categoryIds)에 속한 Course 목록을 페이징 조회
+     *  - course_category(category_id, course_id) 인덱스로 IN 서브쿼리 처리, 여러 하위 카테고리에 걸친 강의도 한 번만
      */
-    @Query("""
-        SELECT DISTINCT cc.course 
-        FROM CourseCategory cc
-        WHERE cc.category.id = :categoryId
-        AND cc.course.isPublished = true
+    @Query(value = """
+        SELECT c
+        FROM Course c
+        WHERE c.id IN (SELECT cc.course.id FROM CourseCategory cc WHERE cc.category.id IN :categoryIds)
+        AND c.isPublished = true
+        ORDER BY c.id DESC
+        """,
+        countQuery = """
+        SELECT COUNT(c)
+        FROM Course c
+        WHERE c.id IN (SELECT cc.course.id FROM CourseCategory cc WHERE cc.category.id IN :categoryIds)
+        AND c.isPublished = true
         """)
-    Page<Course> findCoursesByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+    Page<Course> findCoursesByCategoryIds(@Param("categoryIds") Collection<Long> categoryIds, Pageable pageable);
 
 }
@@ -0,0 +1,60 @@
+package com.studyblock.domain.course.repository;
+
+import com.studyblock.domain.course.entity.Course;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 코스 카운터 Repository
+ * - 쓰기: course_counter_delta 의 stripe 행에 원자적 증감 (course 행 잠금 없음)
+ * - 반영: 쌓인 delta 를 course 컬럼에 더하고 같은 만큼 delta 에서 차감
+ */
+public interface CourseCounterRepository extends JpaRepository<Course, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO course_counter_delta (course_id, counter_type, stripe, delta) " +
+                   "VALUES (:courseId, :counterType, :stripe, :delta) " +
+                   "ON DUPLICATE KEY UPDATE delta = delta + VALUES(delta)",
+           nativeQuery = true)
+    int accumulateDelta(@Param("courseId") Long courseId,
+                        @Param("counterType") String counterType,
+                        @Param("stripe") int stripe,
+                        @Param("delta") long delta);
+
+    /**
+     * 반영 대기 delta 조회 (반영 중 증감은 잠금 해제 후 이어서 쌓임)
+     * @return [courseId, counterType, stripe, delta]
+     */
+    @Query(value = "SELECT course_id, counter_type, stripe, delta FROM course_counter_delta " +
+                   "WHERE delta <> 0 LIMIT :limit FOR UPDATE",
+           nativeQuery = true)
+    List<Object[]> findPendingDeltasForUpdate(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE course_counter_delta SET delta = delta - :folded " +
+                   "WHERE course_id = :courseId AND counter_type = :counterType AND stripe = :stripe",
+           nativeQuery = true)
+    int subtractDelta(@Param("courseId") Long courseId,
+                      @Param("counterType") String counterType,
+                      @Param("stripe") int stripe,
+                      @Param("folded") long folded);
+
+    @Modifying
+    @Query(value = "UPDATE course SET enrollment_count = GREATEST(enrollment_count + :delta, 0) WHERE id = :courseId",
+           nativeQuery = true)
+    int addEnrollmentCount(@Param("courseId") Long courseId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE course SET review_count = GREATEST(review_count + :delta, 0) WHERE id = :courseId",
+           nativeQuery = true)
+    int addReviewCount(@Param("courseId") Long courseId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE course SET wishlist_count = GREATEST(wishlist_count + :delta, 0) WHERE id = :courseId",
+           nativeQuery = true)
+    int addWishlistCount(@Param("courseId") Long courseId, @Param("delta") long delta);
+}
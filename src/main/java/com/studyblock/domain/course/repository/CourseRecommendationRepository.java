@@ -0,0 +1,101 @@
+package com.studyblock.domain.course.repository;
+
+import com.studyblock.domain.course.entity.CourseRecommendation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 연관 코스 추천 Repository
+ * - 사전 계산된 상위 K개 조회 (course_id 인덱스 단건 범위 조회)
+ * - 수강 동시 발생 카운트 증분 반영 (course_co_enrollment, 네이티브 쿼리)
+ */
+public interface CourseRecommendationRepository extends JpaRepository<CourseRecommendation, Long> {
+
+    String CO_ENROLLMENT_JOB = "course_co_enrollment";
+
+    /**
+     * 코스의 사전 계산된 추천 목록 조회 (추천 코스 + 카테고리 Fetch Join)
+     */
+    @Query("SELECT DISTINCT r FROM CourseRecommendation r " +
+           "JOIN FETCH r.relatedCourse c " +
+           "LEFT JOIN FETCH c.courseCategories cc " +
+           "LEFT JOIN FETCH cc.category " +
+           "WHERE r.courseId = :courseId " +
+           "ORDER BY r.rankNo ASC")
+    List<CourseRecommendation> findByCourseIdWithRelatedCourse(@Param("courseId") Long courseId);
+
+    @Modifying
+    @Query("DELETE FROM CourseRecommendation r WHERE r.courseId = :courseId")
+    int deleteByCourseId(@Param("courseId") Long courseId);
+
+    /**
+     * 증분 배치 커서 조회 (행 잠금)
+     * - 여러 인스턴스가 동시에 실행해도 같은 구간을 두 번 누적하지 않도록 커서 전진까지 한 트랜잭션에서 잠금 유지
+     */
+    @Query(value = "SELECT last_processed_id FROM recommendation_job_cursor WHERE job_name = :jobName FOR UPDATE",
+           nativeQuery = true)
+    Long findJobCursorForUpdate(@Param("jobName") String jobName);
+
+    @Modifying
+    @Query(value = "INSERT INTO recommendation_job_cursor (job_name, last_processed_id) VALUES (:jobName, :lastId) " +
+                   "ON DUPLICATE KEY UPDATE last_processed_id = :lastId",
+           nativeQuery = true)
+    int saveJobCursor(@Param("jobName") String jobName, @Param("lastId") Long lastId);
+
+    /**
+     * 신규 수강신청 구간 (afterId, toId] 의 동시 발생 카운트 반영 - 신규 코스 → 기존 수강 코스 방향
+     * - 같은 사용자의 더 이전 수강신청과만 짝을 지어 한 쌍이 두 번 집계되지 않도록 함
+     */
+    @Modifying
+    @Query(value = "INSERT INTO course_co_enrollment (course_id, related_course_id, co_count) " +
+                   "SELECT e_new.course_id, e_old.course_id, COUNT(*) " +
+                   "FROM course_enrollment e_new " +
+                   "JOIN course_enrollment e_old ON e_old.user_id = e_new.user_id " +
+                   "  AND e_old.id < e_new.id AND e_old.course_id <> e_new.course_id " +
+                   "WHERE e_new.id > :afterId AND e_new.id <= :toId " +
+                   "GROUP BY e_new.course_id, e_old.course_id " +
+                   "ON DUPLICATE KEY UPDATE co_count = co_count + VALUES(co_count)",
+           nativeQuery = true)
+    int accumulateForwardCoEnrollments(@Param("afterId") Long afterId, @Param("toId") Long toId);
+
+    /**
+     * 신규 수강신청 구간 (afterId, toId] 의 동시 발생 카운트 반영 - 기존 수강 코스 → 신규 코스 방향
+     */
+    @Modifying
+    @Query(value = "INSERT INTO course_co_enrollment (course_id, related_course_id, co_count) " +
+                   "SELECT e_old.course_id, e_new.course_id, COUNT(*) " +
+                   "FROM course_enrollment e_new " +
+                   "JOIN course_enrollment e_old ON e_old.user_id = e_new.user_id " +
+                   "  AND e_old.id < e_new.id AND e_old.course_id <> e_new.course_id " +
+                   "WHERE e_new.id > :afterId AND e_new.id <= :toId " +
+                   "GROUP BY e_old.course_id, e_new.course_id " +
+                   "ON DUPLICATE KEY UPDATE co_count = co_count + VALUES(co_count)",
+           nativeQuery = true)
+    int accumulateBackwardCoEnrollments(@Param("afterId") Long afterId, @Param("toId") Long toId);
+
+    /**
+     * 구간 (afterId, toId] 의 신규 수강신청으로 동시 발생 카운트가 바뀐 코스 ID 목록
+     */
+    @Query(value = "SELECT DISTINCT e_new.course_id FROM course_enrollment e_new " +
+                   "WHERE e_new.id > :afterId AND e_new.id <= :toId " +
+                   "UNION " +
+                   "SELECT DISTINCT e_old.course_id FROM course_enrollment e_new " +
+                   "JOIN course_enrollment e_old ON e_old.user_id = e_new.user_id " +
+                   "  AND e_old.id < e_new.id AND e_old.course_id <> e_new.course_id " +
+                   "WHERE e_new.id > :afterId AND e_new.id <= :toId",
+           nativeQuery = true)
+    List<Long> findAffectedCourseIds(@Param("afterId") Long afterId, @Param("toId") Long toId);
+
+    /**
+     * 코스의 동시 발생 상위 후보 조회
+     * @return [relatedCourseId, coCount]
+     */
+    @Query(value = "SELECT related_course_id, co_count FROM course_co_enrollment " +
+                   "WHERE course_id = :courseId ORDER BY co_count DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> findTopCoEnrollments(@Param("courseId") Long courseId, @Param("limit") int limit);
+}
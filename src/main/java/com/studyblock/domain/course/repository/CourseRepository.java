@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +18,9 @@ public interface CourseRepository extends JpaRepository<Course, Long>, CourseRep
     @EntityGraph(attributePaths = {"courseCategories", "courseCategories.category"})
     Optional<Course> findOneWithCategoriesById(Long id);
 
+    @EntityGraph(attributePaths = {"courseCategories", "courseCategories.category"})
+    List<Course> findAllWithCategoriesByIdIn(Collection<Long> ids);
+
     List<Course> findTop10ByLevelAndIdNotOrderByEnrollmentCountDesc(CourseLevel level, Long excludeCourseId);
 
     @Query("""
@@ -48,19 +52,25 @@ public interface CourseRepository extends JpaRepository<Course, Long>, CourseRep
     List<Course> findTop10ByIdInOrderByEnrollmentCountDesc(List<Long> courseIds);
 
     /**
-     * 카테고리 ID로 강의 검색 (페이지네이션)
+     * 카테고리 서브트리의 강의 검색 (페이지네이션)
      * 로드맵 노드의 관련 강의 조회에 사용
+     * - course_category(category_id, course_id) 인덱스로 IN 서브쿼리를 처리해 DISTINCT 없이 중복 제거
      */
     @EntityGraph(attributePaths = {"instructor", "instructor.user"})
-    @Query("""
-            SELECT DISTINCT c
+    @Query(value = """
+            SELECT c
             FROM Course c
-            JOIN c.courseCategories cc
-            WHERE cc.category.id = :categoryId
+            WHERE c.id IN (SELECT cc.course.id FROM CourseCategory cc WHERE cc.category.id IN :categoryIds)
               AND c.isPublished = true
             ORDER BY c.enrollmentCount DESC
+            """,
+            countQuery = """
+            SELECT COUNT(c)
+            FROM Course c
+            WHERE c.id IN (SELECT cc.course.id FROM CourseCategory cc WHERE cc.category.id IN :categoryIds)
+              AND c.isPublished = true
             """)
-    Page<Course> findByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+    Page<Course> findByCategoryIds(@Param("categoryIds") Collection<Long> categoryIds, Pageable pageable);
 
     /**
      * 강사별 정규코스 조회 (최신순)
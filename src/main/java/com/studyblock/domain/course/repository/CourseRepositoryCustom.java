@@ -3,6 +3,7 @@ package com.studyblock.domain.course.repository;
 import com.studyblock.domain.course.entity.Course;
 import com.studyblock.domain.course.enums.CourseLevel;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,11 +31,11 @@ public interface CourseRepositoryCustom {
 
     /**
      * 카테고리별 공개 코스 조회
-     * - 특정 카테고리에 속한 공개 코스 조회
-     * @param categoryId 카테고리 ID
+     * - 카테고리 서브트리(자기 자신 + 하위 카테고리)에 속한 공개 코스 조회
+     * @param categoryIds 카테고리 ID 집합 (CategoryTree.getSubtreeIds)
      * @return 카테고리별 공개 코스 목록
      */
-    List<Course> findPublishedCoursesByCategory(Long categoryId);
+    List<Course> findPublishedCoursesByCategory(Collection<Long> categoryIds);
 
     /**
      * 난이도별 공개 코스 조회
@@ -1,11 +1,13 @@
 package com.studyblock.domain.course.repository;
 
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.studyblock.domain.course.entity.Course;
 import com.studyblock.domain.course.enums.CourseLevel;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,16 +65,25 @@ public class CourseRepositoryImpl implements CourseRepositoryCustom {
 
     /**
      * 카테고리별 공개 코스 조회
-     * - 특정 카테고리에 속한 공개 코스 조회
+     * - 카테고리 서브트리에 속한 공개 코스 조회 (여러 카테고리에 걸친 코스도 한 번만)
      * - 최신순 정렬
+     *
+     * 실행되는 SQL:
+     * SELECT c.*
+     * FROM course c
+     * WHERE c.id IN (SELECT cc.course_id FROM course_category cc WHERE cc.category_id IN (?, ?, ...))
+     *   AND c.is_published = 1
+     * ORDER BY c.created_at DESC
      */
     @Override
-    public List<Course> findPublishedCoursesByCategory(Long categoryId) {
+    public List<Course> findPublishedCoursesByCategory(Collection<Long> categoryIds) {
         return queryFactory
                 .selectFrom(course)
-                .join(course.courseCategories, courseCategory)
                 .where(
-                        courseCategory.category.id.eq(categoryId),
+                        course.id.in(JPAExpressions
+                                .select(courseCategory.course.id)
+                                .from(courseCategory)
+                                .where(courseCategory.category.id.in(categoryIds))),
                         course.isPublished.isTrue()
                 )
                 .orderBy(course.createdAt.desc())
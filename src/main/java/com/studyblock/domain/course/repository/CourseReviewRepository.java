@@ -27,6 +27,13 @@ public interface CourseReviewRepository extends JpaRepository<CourseReview, Long
     @Query("SELECT r.rating, COUNT(r) FROM CourseReview r WHERE r.course.id = :courseId GROUP BY r.rating")
     List<Object[]> countByRatingGroupByCourseId(@Param("courseId") Long courseId);
 
+    /**
+     * 여러 코스의 평균 평점/리뷰 개수 일괄 조회 (목록 화면 N+1 방지)
+     * @return List<Object[]>: [courseId, avgRating, count]
+     */
+    @Query("SELECT r.course.id, AVG(r.rating), COUNT(r) FROM CourseReview r WHERE r.course.id IN :courseIds GROUP BY r.course.id")
+    List<Object[]> findRatingStatsByCourseIds(@Param("courseIds") List<Long> courseIds);
+
     /**
      * 특정 평점 이상의 리뷰 개수 조회 (추천율 계산용)
      */
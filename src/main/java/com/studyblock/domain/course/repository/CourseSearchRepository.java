@@ -20,6 +20,47 @@ public interface CourseSearchRepository extends JpaRepository<Course, Long> {
             "AND c.isPublished = true")
     List<Course> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
+    /**
+     * FULLTEXT(ngram) 관련도 순 코스 ID 검색
+     * - 제목/요약 일치 점수(가중치 2) + 강사명 일치 점수 + 카테고리명 일치(고정 1점) 합산
+     * - 카테고리 테이블은 작으므로 LIKE 유지
+     * - 각 분기가 자체 FULLTEXT 인덱스를 타도록 OR 대신 UNION ALL 후 코스별 합산
+     */
+    @Query(value = "SELECT t.course_id FROM ( " +
+            "  SELECT c.id AS course_id, MATCH(c.title, c.summary) AGAINST (:query IN BOOLEAN MODE) * 2 AS score " +
+            "  FROM course c " +
+            "  WHERE c.is_published = 1 AND MATCH(c.title, c.summary) AGAINST (:query IN BOOLEAN MODE) " +
+            "  UNION ALL " +
+            "  SELECT c.id AS course_id, MATCH(u.name) AGAINST (:query IN BOOLEAN MODE) AS score " +
+            "  FROM user u " +
+            "  JOIN instructor_profile ip ON ip.user_id = u.id " +
+            "  JOIN course c ON c.instructor_id = ip.id " +
+            "  WHERE c.is_published = 1 AND MATCH(u.name) AGAINST (:query IN BOOLEAN MODE) " +
+            "  UNION ALL " +
+            "  SELECT c.id AS course_id, 1 AS score " +
+            "  FROM category cat " +
+            "  JOIN course_category cc ON cc.category_id = cat.id " +
+            "  JOIN course c ON c.id = cc.course_id " +
+            "  WHERE c.is_published = 1 AND cat.name LIKE CONCAT('%', :keyword, '%') " +
+            ") t " +
+            "GROUP BY t.course_id " +
+            "ORDER BY SUM(t.score) DESC, t.course_id DESC " +
+            "LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<Long> searchIdsByFullText(@Param("query") String query,
+                                   @Param("keyword") String keyword,
+                                   @Param("limit") int limit,
+                                   @Param("offset") long offset);
+
+    /**
+     * 검색 결과 ID 목록으로 코스 조회 (강사 정보 포함, 순서는 호출부에서 복원)
+     */
+    @Query("SELECT c FROM Course c " +
+            "LEFT JOIN FETCH c.instructor i " +
+            "LEFT JOIN FETCH i.user u " +
+            "WHERE c.id IN :ids")
+    List<Course> findAllWithInstructorByIdIn(@Param("ids") List<Long> ids);
+
     // 전체 강의 조회 (강사 정보 포함 - 초성 검색용)
     @Query("SELECT c FROM Course c " +
             "LEFT JOIN FETCH c.instructor i " +
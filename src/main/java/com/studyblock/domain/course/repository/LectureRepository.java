@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +29,13 @@ public interface LectureRepository extends JpaRepository<Lecture, Long>, Lecture
      */
     long countByCourseId(Long courseId);
 
+    /**
+     * 여러 코스의 강의 개수 일괄 조회
+     * @return [courseId, count]
+     */
+    @Query("SELECT l.course.id, COUNT(l) FROM Lecture l WHERE l.course.id IN :courseIds GROUP BY l.course.id")
+    List<Object[]> countGroupByCourseIds(@Param("courseIds") Collection<Long> courseIds);
+
     /**
      * 특정 코스의 특정 상태 강의 개수
      */
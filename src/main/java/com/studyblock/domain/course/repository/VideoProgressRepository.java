@@ -4,6 +4,7 @@ import com.studyblock.domain.course.entity.VideoProgress;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,4 +30,13 @@ public interface VideoProgressRepository extends JpaRepository<VideoProgress, Lo
      * @return 진도율 목록
      */
     List<VideoProgress> findByUserIdOrderByUpdatedAtDesc(Long userId);
+
+    /**
+     * 사용자 ID와 여러 비디오 ID로 진도율 조회 (일괄 조회의 Redis 미스 보충)
+     *
+     * @param userId   사용자 ID
+     * @param videoIds 비디오 ID 목록
+     * @return 진도율 목록
+     */
+    List<VideoProgress> findByUserIdAndVideoIdIn(Long userId, Collection<Long> videoIds);
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.studyblock.domain.course.scheduler;
+
+import com.studyblock.domain.course.service.CourseCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 코스 카운터 반영 스케줄러
+ * - stripe 별 delta 를 배치마다 별도 트랜잭션으로 course 컬럼에 반영 (잠금 유지 시간 최소화)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CourseCounterScheduler {
+
+    private final CourseCounterService courseCounterService;
+
+    @Value("${counter.course.fold-batch-size:500}")
+    private int batchSize;
+
+    @Value("${counter.course.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    /**
+     * 쌓인 카운터 delta 반영 (기본 10초마다)
+     */
+    @Scheduled(fixedDelayString = "${counter.course.fold-interval-ms:10000}")
+    public void foldCounters() {
+        int folded = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                int processed = courseCounterService.foldPendingDeltas(batchSize);
+                folded += processed;
+                if (processed < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("코스 카운터 반영 실패 - 처리된 stripe 행: {}", folded, e);
+        }
+
+        if (folded > 0) {
+            log.debug("코스 카운터 반영 완료 - stripe 행 {}개", folded);
+        }
+    }
+}
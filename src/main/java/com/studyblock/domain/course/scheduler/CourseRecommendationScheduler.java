@@ -0,0 +1,56 @@
+package com.studyblock.domain.course.scheduler;
+
+import com.studyblock.domain.course.service.CourseRecommendationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 연관 코스 추천 스케줄러
+ * - 마지막 처리 이후 새로 생긴 수강신청만 청크 단위로 반영 (증분)
+ * - 청크마다 별도 트랜잭션으로 커밋하여 커서가 함께 전진
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CourseRecommendationScheduler {
+
+    private final CourseRecommendationService recommendationService;
+
+    @Value("${recommendation.course.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${recommendation.course.max-chunks-per-run:20}")
+    private int maxChunksPerRun;
+
+    @Value("${recommendation.course.settle-seconds:60}")
+    private int settleSeconds;
+
+    /**
+     * 신규 수강신청 증분 반영 (기본 10분마다)
+     */
+    @Scheduled(fixedDelayString = "${recommendation.course.refresh-interval-ms:600000}")
+    public void refreshRecommendations() {
+        int chunks = 0;
+        int recomputedCourses = 0;
+
+        try {
+            while (chunks < maxChunksPerRun) {
+                int recomputed = recommendationService.processEnrollmentDeltas(chunkSize, settleSeconds);
+                if (recomputed < 0) {
+                    break;
+                }
+                recomputedCourses += recomputed;
+                chunks++;
+            }
+        } catch (Exception e) {
+            log.error("연관 코스 추천 증분 반영 실패 - 처리된 청크: {}", chunks, e);
+        }
+
+        if (chunks > 0) {
+            log.info("연관 코스 추천 증분 반영 완료 - 청크 {}개, 재계산 코스 {}개", chunks, recomputedCourses);
+        }
+    }
+}
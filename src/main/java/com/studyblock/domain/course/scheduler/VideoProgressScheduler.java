@@ -1,29 +1,40 @@
 package com.studyblock.domain.course.scheduler;
 
-import com.studyblock.domain.course.dto.VideoProgressDto;
 import com.studyblock.domain.course.service.VideoProgressService;
+import com.studyblock.domain.course.service.VideoProgressStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * VideoProgress 스케줄러
  * - 5분마다 Redis → MySQL 동기화
+ * - KEYS 로 전체 키를 훑지 않고, 저장 시 등록된 dirty 집합에서 변경분만 꺼내 동기화
+ * - 한 번 실행에서 dirty 집합이 빌 때까지 처리 (시간 예산 안에서), 밀린 항목이 해시 TTL 을 넘겨 유실되지 않도록 함
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class VideoProgressScheduler {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private static final int POP_BATCH_SIZE = 500;
+
+    private final VideoProgressStore videoProgressStore;
     private final VideoProgressService videoProgressService;
 
-    private static final String REDIS_KEY_PATTERN = "video:progress:*";
+    // 한 번 실행의 동기화 시간 예산 (넘으면 남은 항목은 다음 실행에서 처리)
+    @Value("${video.progress.sync-time-budget-ms:240000}")
+    private long syncTimeBudgetMs;
+
+    // 한 번 실행에서 이전 형식 키를 해시로 옮길 최대 개수
+    @Value("${video.progress.legacy-migration-batch:1000}")
+    private int legacyMigrationBatch;
 
     /**
      * Redis → MySQL 동기화 (5분마다 실행)
@@ -33,48 +44,54 @@ public class VideoProgressScheduler {
     public void syncRedisToDatabase() {
         log.info("Redis → MySQL 동기화 시작");
 
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger failCount = new AtomicInteger(0);
+        int successCount = 0;
+        List<long[]> failed = new ArrayList<>();
 
         try {
-            // 1. Redis에서 모든 video:progress:* 키 조회
-            Set<String> keys = redisTemplate.keys(REDIS_KEY_PATTERN);
-
-            if (keys == null || keys.isEmpty()) {
-                log.info("동기화할 Redis 데이터 없음");
-                return;
+            // 1. 이전 형식(video:progress:{userId}:{videoId}) 키를 해시로 이동 (dirty 등록됨, 모두 옮긴 뒤에는 SCAN 안 함)
+            int migrated = videoProgressStore.migrateLegacyKeys(legacyMigrationBatch);
+            if (migrated > 0) {
+                log.info("이전 형식 진도율 키 이동 - {}건", migrated);
             }
 
-            log.info("동기화할 Redis 키 개수: {}", keys.size());
+            // 2. dirty 항목을 배치 단위로 꺼내 MySQL에 영구 저장 (집합이 빌 때까지, 시간 예산 안에서)
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(syncTimeBudgetMs);
+            while (true) {
+                List<long[]> entries = videoProgressStore.popDirty(POP_BATCH_SIZE);
+                if (entries.isEmpty()) {
+                    break;
+                }
 
-            // 2. 각 키마다 동기화 실행
-            for (String key : keys) {
-                try {
-                    // 키 파싱: video:progress:{userId}:{videoId}
-                    String[] parts = key.split(":");
-                    if (parts.length != 4) {
-                        log.warn("잘못된 Redis 키 형식 - key: {}", key);
-                        failCount.incrementAndGet();
-                        continue;
+                for (long[] entry : entries) {
+                    try {
+                        videoProgressService.persistToDatabase(entry[0], entry[1], null, null);
+                        successCount++;
+                    } catch (Exception e) {
+                        log.error("개별 진도율 동기화 실패 - userId: {}, videoId: {}", entry[0], entry[1], e);
+                        failed.add(entry);
                     }
+                }
 
-                    Long userId = Long.parseLong(parts[2]);
-                    Long videoId = Long.parseLong(parts[3]);
-
-                    // 3. MySQL에 영구 저장
-                    videoProgressService.persistToDatabase(userId, videoId, null, null);
-                    successCount.incrementAndGet();
-
-                } catch (Exception e) {
-                    log.error("개별 키 동기화 실패 - key: {}", key, e);
-                    failCount.incrementAndGet();
+                if (System.nanoTime() >= deadline) {
+                    log.warn("Redis → MySQL 동기화 시간 예산 초과 - 남은 항목: {}건 (다음 실행에서 처리)",
+                            videoProgressStore.countDirty());
+                    break;
                 }
             }
 
         } catch (Exception e) {
             log.error("Redis → MySQL 동기화 중 오류 발생", e);
+        } finally {
+            // 실패 항목은 이번 실행에서 다시 꺼내지 않도록 끝난 뒤 재등록 (해시 TTL 도 연장)
+            for (long[] entry : failed) {
+                try {
+                    videoProgressStore.markDirty(entry[0], entry[1]);
+                } catch (Exception e) {
+                    log.error("진도율 동기화 대상 재등록 실패 - userId: {}, videoId: {}", entry[0], entry[1], e);
+                }
+            }
         }
 
-        log.info("Redis → MySQL 동기화 완료 - 성공: {}, 실패: {}", successCount.get(), failCount.get());
+        log.info("Redis → MySQL 동기화 완료 - 성공: {}, 실패: {}", successCount, failed.size());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,357 @@
+package com.studyblock.domain.course.service;
+
+import com.studyblock.domain.course.dto.CourseCatalogDocument;
+import com.studyblock.domain.course.dto.CourseDetailResponse;
+import com.studyblock.domain.course.dto.CourseFaqResponse;
+import com.studyblock.domain.course.dto.CoursePrerequisiteResponse;
+import com.studyblock.domain.course.dto.LearningOutcomeResponse;
+import com.studyblock.domain.course.dto.LectureSummaryResponse;
+import com.studyblock.domain.course.dto.RelatedCourseResponse;
+import com.studyblock.domain.course.dto.SectionResponse;
+import com.studyblock.domain.course.entity.Course;
+import com.studyblock.domain.course.entity.Lecture;
+import com.studyblock.domain.course.entity.Section;
+import com.studyblock.domain.course.enums.EncodingStatus;
+import com.studyblock.domain.course.enums.LectureStatus;
+import com.studyblock.domain.course.repository.CourseFaqRepository;
+import com.studyblock.domain.course.repository.CourseLearningOutcomeRepository;
+import com.studyblock.domain.course.repository.CoursePrerequisiteRepository;
+import com.studyblock.domain.course.repository.CourseRepository;
+import com.studyblock.domain.course.repository.LectureRepository;
+import com.studyblock.domain.course.repository.PreviewVideoRepository;
+import com.studyblock.domain.course.repository.SectionRepository;
+import com.studyblock.infrastructure.redis.RedisCodecs;
+import com.studyblock.infrastructure.redis.RedisValueCodec;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 코스 카탈로그 읽기 모델 서비스
+ * - 코스 상세 화면의 공용 데이터(커리큘럼, 학습 목표, FAQ, 선수 지식, 연관 코스)를 하나의 문서로 조립
+ * - 2단계 캐시: 인스턴스 로컬 캐시(짧은 TTL) → Redis(버전 스탬프 검증, Smile 바이너리) → MySQL 조립
+ * - 쓰기 발생 시 버전을 증가시키고 Redis Pub/Sub 으로 모든 인스턴스의 로컬 캐시를 무효화
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class CourseCatalogService implements MessageListener {
+
+    private static final String DOCUMENT_KEY_PREFIX = "catalog:course:";
+    private static final String DOCUMENT_KEY_SUFFIX = ":doc:v";
+    private static final String VERSION_KEY_SUFFIX = ":version";
+    private static final String INVALIDATION_CHANNEL = "catalog:course:invalidated";
+
+    // 문서는 Smile 바이너리로 저장 (포맷을 바꾸면 버전을 올려 새 키 사용, 이전 키는 TTL 로 만료)
+    private static final RedisValueCodec<CourseCatalogDocument> DOCUMENT_CODEC =
+            RedisCodecs.smile(CourseCatalogDocument.class, 1);
+
+    private static final int LOCAL_CACHE_MAX_SIZE = 1000;
+    private static final int RELATED_COURSE_LIMIT = CourseRecommendationService.TOP_K;
+    private static final Sort ENROLLMENT_DESC_SORT = Sort.by(Sort.Direction.DESC, "enrollmentCount");
+    private static final EnumSet<LectureStatus> VISIBLE_LECTURE_STATUSES =
+            EnumSet.of(LectureStatus.ACTIVE, LectureStatus.PUBLISHED);
+
+    private final CourseRepository courseRepository;
+    private final LectureRepository lectureRepository;
+    private final SectionRepository sectionRepository;
+    private final CourseLearningOutcomeRepository learningOutcomeRepository;
+    private final CourseFaqRepository faqRepository;
+    private final CoursePrerequisiteRepository prerequisiteRepository;
+    private final PreviewVideoRepository previewVideoRepository;
+    private final CourseRecommendationService recommendationService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisTemplate<String, byte[]> redisBytesTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final ConcurrentMap<Long, LocalEntry> localCache = new ConcurrentHashMap<>();
+
+    @Value("${catalog.course.local-ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    @Value("${catalog.course.redis-ttl-minutes:30}")
+    private long redisTtlMinutes;
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        try {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        } catch (RuntimeException e) {
+            // 구독 실패 시에도 로컬 캐시는 TTL 만료로 반영되므로 기동은 계속 진행
+            log.warn("코스 카탈로그 무효화 채널 구독 실패", e);
+        }
+    }
+
+    /**
+     * 코스 카탈로그 문서 조회 (로컬 캐시 → Redis → MySQL)
+     * 반환된 문서는 공유 인스턴스이므로 수정하지 말 것
+     *
+     * @param courseId 코스 ID
+     * @return 카탈로그 문서
+     * @throws IllegalArgumentException 코스가 존재하지 않는 경우
+     */
+    public CourseCatalogDocument getDocument(Long courseId) {
+        LocalEntry local = localCache.get(courseId);
+        if (local != null && !local.isExpired()) {
+            return local.document();
+        }
+
+        long currentVersion = 0L;
+        CourseCatalogDocument document = null;
+        boolean redisAvailable = true;
+
+        try {
+            List<byte[]> values = redisBytesTemplate.opsForValue()
+                    .multiGet(List.of(documentKey(courseId), versionKey(courseId)));
+            if (values != null) {
+                currentVersion = values.get(1) != null
+                        ? Long.parseLong(new String(values.get(1), StandardCharsets.US_ASCII))
+                        : 0L;
+                document = decode(values.get(0));
+            }
+        } catch (RuntimeException e) {
+            log.warn("코스 카탈로그 Redis 조회 실패 - courseId: {}", courseId, e);
+            redisAvailable = false;
+        }
+
+        if (document == null || document.getVersion() == null || document.getVersion() != currentVersion) {
+            document = assemble(courseId, currentVersion);
+            if (redisAvailable) {
+                store(document);
+            }
+            log.debug("코스 카탈로그 조립 완료 - courseId: {}, version: {}", courseId, currentVersion);
+        }
+
+        putLocal(courseId, document);
+        return document;
+    }
+
+    /**
+     * 코스 카탈로그 무효화
+     * - 버전 증가 (이전 버전으로 조립된 문서는 모두 무효)
+     * - 모든 인스턴스의 로컬 캐시 제거
+     *
+     * @param courseId 코스 ID
+     */
+    public void invalidate(Long courseId) {
+        if (courseId == null) {
+            return;
+        }
+
+        localCache.remove(courseId);
+
+        try {
+            stringRedisTemplate.opsForValue().increment(versionKey(courseId));
+            stringRedisTemplate.delete(documentKey(courseId));
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(courseId));
+            log.debug("코스 카탈로그 무효화 - courseId: {}", courseId);
+        } catch (RuntimeException e) {
+            log.warn("코스 카탈로그 무효화 실패 (로컬 TTL 만료 후 반영) - courseId: {}", courseId, e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 발행한 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", "");
+        try {
+            localCache.remove(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 코스 카탈로그 무효화 메시지 - body: {}", body);
+        }
+    }
+
+    private CourseCatalogDocument assemble(Long courseId, long version) {
+        Course course = courseRepository.findOneWithCategoriesById(courseId)
+                .orElseThrow(() -> new IllegalArgumentException("코스를 찾을 수 없습니다. ID=" + courseId));
+
+        int totalLectures = (int) lectureRepository.countByCourseId(courseId);
+
+        return CourseCatalogDocument.builder()
+                .courseId(courseId)
+                .version(version)
+                .builtAt(LocalDateTime.now())
+                .detail(CourseDetailResponse.from(course, totalLectures))
+                .lectures(assembleLectureSummaries(courseId))
+                .sections(assembleSections(courseId))
+                .learningOutcomes(learningOutcomeRepository.findByCourseIdOrderByDisplayOrderAsc(courseId).stream()
+                        .map(LearningOutcomeResponse::from)
+                        .toList())
+                .faqs(faqRepository.findByCourseIdOrderByDisplayOrderAsc(courseId).stream()
+                        .map(CourseFaqResponse::from)
+                        .toList())
+                .prerequisites(prerequisiteRepository.findByCourseIdOrderByDisplayOrderAsc(courseId).stream()
+                        .map(CoursePrerequisiteResponse::from)
+                        .toList())
+                .relatedCourses(assembleRelatedCourses(course))
+                .build();
+    }
+
+    /**
+     * 강의 요약 목록 조립 (Video + Section Fetch Join, PreviewVideo 일괄 조회)
+     */
+    private List<LectureSummaryResponse> assembleLectureSummaries(Long courseId) {
+        List<Lecture> lectures = lectureRepository.findByCourseIdWithVideoAndSectionOrderBySequenceAsc(courseId);
+
+        List<Long> lectureIds = lectures.stream().map(Lecture::getId).toList();
+        if (!lectureIds.isEmpty()) {
+            // 영속성 컨텍스트에 로드하여 hasPreviewVideo() 호출 시 추가 쿼리 방지
+            previewVideoRepository.findByLectureIdIn(lectureIds);
+        }
+
+        return lectures.stream()
+                .map(lecture -> {
+                    EncodingStatus lastVideoEncodingStatus =
+                            lecture.hasVideo() ? lecture.getVideo().getEncodingStatus() : null;
+                    Section section = lecture.getSection();
+
+                    return LectureSummaryResponse.builder()
+                            .id(lecture.getId())
+                            .sectionId(section != null ? section.getId() : null)
+                            .sequence(lecture.getSequence())
+                            .title(lecture.getTitle())
+                            .description(lecture.getDescription())
+                            .thumbnailUrl(lecture.getThumbnailUrl())
+                            .thumbnailOriginalUrl(lecture.getThumbnailUrl())
+                            .uploadDate(lecture.getUploadDate())
+                            .status(lecture.getStatus())
+                            .isFree(lecture.getIsFree())
+                            .priceCookie(section != null ? section.getCookiePrice() : null)
+                            .discountPercentage(section != null ? section.getDiscountPercentage() : 0)
+                            .lastVideoId(lecture.hasVideo() ? lecture.getVideo().getId() : null)
+                            .lastVideoEncodingStatus(lastVideoEncodingStatus != null
+                                    ? lastVideoEncodingStatus.name()
+                                    : null)
+                            .videoCount(lecture.hasVideo() ? 1L : 0L)
+                            .hasPreviewVideo(lecture.hasPreviewVideo())
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * 커리큘럼(섹션 + 공개 강의 + 퀴즈) 조립 - 접근 권한 정보는 포함하지 않음
+     */
+    private List<SectionResponse> assembleSections(Long courseId) {
+        return sectionRepository.findByCourseIdWithLectures(courseId).stream()
+                .map(section -> SectionResponse.fromWithLectures(
+                        section,
+                        section.getLectures().stream()
+                                .filter(this::isVisibleStatus)
+                                .map(LectureSummaryResponse::from)
+                                .toList()))
+                .toList();
+    }
+
+    /**
+     * 연관 코스 조립
+     * - 사전 계산된 추천(수강 동시 발생 + 카테고리/난이도) 우선
+     * - 아직 계산되지 않은 코스는 카테고리+난이도 → 카테고리 → 난이도 순으로 대체
+     */
+    private List<RelatedCourseResponse> assembleRelatedCourses(Course course) {
+        Long courseId = course.getId();
+        List<Course> related = recommendationService.getRecommendedCourses(courseId);
+
+        if (related.isEmpty() && course.getPrimaryCategory() != null && course.getLevel() != null) {
+            related = courseRepository.findTopByCategoryAndLevelOrderByEnrollmentDesc(
+                    course.getPrimaryCategory().getId(),
+                    course.getLevel(),
+                    courseId,
+                    PageRequest.of(0, RELATED_COURSE_LIMIT, ENROLLMENT_DESC_SORT)
+            );
+        }
+
+        if (related.isEmpty() && course.getPrimaryCategory() != null) {
+            related = courseRepository.findTopByCategoryOrderByEnrollmentDesc(
+                    course.getPrimaryCategory().getId(),
+                    courseId,
+                    PageRequest.of(0, RELATED_COURSE_LIMIT, ENROLLMENT_DESC_SORT)
+            );
+        }
+
+        if (related.isEmpty() && course.getLevel() != null) {
+            related = courseRepository.findTop10ByLevelAndIdNotOrderByEnrollmentCountDesc(course.getLevel(), courseId);
+        }
+
+        return related.stream()
+                .map(RelatedCourseResponse::from)
+                .toList();
+    }
+
+    private boolean isVisibleStatus(Lecture lecture) {
+        LectureStatus status = lecture.getStatus();
+        return status != null && VISIBLE_LECTURE_STATUSES.contains(status);
+    }
+
+    private void store(CourseCatalogDocument document) {
+        try {
+            redisBytesTemplate.opsForValue().set(
+                    documentKey(document.getCourseId()),
+                    DOCUMENT_CODEC.encode(document),
+                    Duration.ofMinutes(redisTtlMinutes)
+            );
+        } catch (RuntimeException e) {
+            log.warn("코스 카탈로그 Redis 저장 실패 - courseId: {}", document.getCourseId(), e);
+        }
+    }
+
+    private CourseCatalogDocument decode(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return DOCUMENT_CODEC.decode(bytes);
+        } catch (SerializationException e) {
+            log.warn("코스 카탈로그 역직렬화 실패 - 재조립 진행", e);
+            return null;
+        }
+    }
+
+    private void putLocal(Long courseId, CourseCatalogDocument document) {
+        if (localCache.size() >= LOCAL_CACHE_MAX_SIZE) {
+            localCache.values().removeIf(LocalEntry::isExpired);
+            if (localCache.size() >= LOCAL_CACHE_MAX_SIZE) {
+                localCache.clear();
+            }
+        }
+        localCache.put(courseId, new LocalEntry(document, System.currentTimeMillis() + localTtlSeconds * 1000));
+    }
+
+    private String documentKey(Long courseId) {
+        return DOCUMENT_KEY_PREFIX + courseId + DOCUMENT_KEY_SUFFIX + DOCUMENT_CODEC.version();
+    }
+
+    private String versionKey(Long courseId) {
+        return DOCUMENT_KEY_PREFIX + courseId + VERSION_KEY_SUFFIX;
+    }
+
+    private record LocalEntry(CourseCatalogDocument document, long expiresAtMillis) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAtMillis;
+        }
+    }
+}
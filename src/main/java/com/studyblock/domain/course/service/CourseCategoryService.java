@@ -1,5 +1,6 @@
 package com.studyblock.domain.course.service;
 
+import com.studyblock.domain.category.service.CategoryService;
 import com.studyblock.domain.course.dto.SearchCourseResponse;
 import com.studyblock.domain.course.entity.Course;
 import com.studyblock.domain.course.entity.CourseCategory;
@@ -14,6 +15,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -21,10 +24,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class CourseCategoryService {
 
     private final CourseCategoryRepository courseCategoryRepository;
+    private final CategoryService categoryService;
     private final CourseReviewRepository courseReviewRepository;
     private final S3StorageService s3StorageService;
 
-    private static final int COURSE_IMAGE_URL_EXPIRATION_MINUTES = 30;
 
     //카테고리별 강의 조회
     public Page<SearchCourseResponse> getCoursesByCategory(Long categoryId, int page, int size) {
@@ -32,9 +35,10 @@ public class CourseCategoryService {
         // Pageable 객체 생성
         Pageable pageable = PageRequest.of(page, size);
 
-        // Repository를 통해 CourseCategory → Course 조회
-        // CourseCategory의 category.id가 일치하는 Course만 선택
-        Page<Course> coursePage = courseCategoryRepository.findCoursesByCategoryId(categoryId, pageable);
+        // 카테고리 트리 캐시에서 자기 자신 + 하위 카테고리 ID 를 구해 한 번의 IN 쿼리로 조회
+        // (대분류를 선택하면 소분류 강의까지 포함)
+        Set<Long> categoryIds = categoryService.getSubtreeCategoryIds(categoryId);
+        Page<Course> coursePage = courseCategoryRepository.findCoursesByCategoryIds(categoryIds, pageable);
 
         // Entity → DTO 변환 (SearchCourseResponse.from(course))
         // Page.map()을 사용하면 Stream처럼 DTO로 한 번에 변환 가능
@@ -76,7 +80,7 @@ public class CourseCategoryService {
             return null;
         }
         try {
-            return s3StorageService.generatePresignedUrl(originalUrl, COURSE_IMAGE_URL_EXPIRATION_MINUTES);
+            return s3StorageService.generateCacheableImageUrl(originalUrl);
         } catch (RuntimeException e) {
             log.warn("검색용 코스 썸네일 presigned URL 생성 실패 - url: {}", originalUrl, e);
             return null;
@@ -0,0 +1,84 @@
+package com.studyblock.domain.course.service;
+
+import com.studyblock.domain.course.enums.CourseCounterType;
+import com.studyblock.domain.course.repository.CourseCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 코스 카운터 서비스 (수강생 수 / 리뷰 수 / 찜 수)
+ * - 증감은 임의의 stripe 행에 원자적으로 누적 → 인기 코스에 동시 수강신청이 몰려도
+ *   course 행을 읽고-수정-저장하지 않으므로 갱신 유실과 단일 행 잠금 경합이 없음
+ * - 주기적으로 course 컬럼에 반영하므로 읽기 쪽(인기순 정렬, 연관 코스 등)은 최종 일관성
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class CourseCounterService {
+
+    static final int STRIPES = 8;
+
+    private final CourseCounterRepository courseCounterRepository;
+
+    /**
+     * 카운터 증감 (호출자 트랜잭션에 참여하여 함께 커밋/롤백)
+     */
+    @Transactional
+    public void increment(CourseCounterType type, Long courseId, long delta) {
+        if (courseId == null || delta == 0) {
+            return;
+        }
+        int stripe = ThreadLocalRandom.current().nextInt(STRIPES);
+        courseCounterRepository.accumulateDelta(courseId, type.name(), stripe, delta);
+    }
+
+    /**
+     * 쌓인 delta 를 course 컬럼에 반영
+     *
+     * @param batchSize 한 번에 반영할 stripe 행 수
+     * @return 처리한 stripe 행 수
+     */
+    @Transactional
+    public int foldPendingDeltas(int batchSize) {
+        List<Object[]> rows = courseCounterRepository.findPendingDeltasForUpdate(batchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Map<CounterKey, Long> totals = new HashMap<>();
+        for (Object[] row : rows) {
+            Long courseId = ((Number) row[0]).longValue();
+            String counterType = (String) row[1];
+            int stripe = ((Number) row[2]).intValue();
+            long delta = ((Number) row[3]).longValue();
+
+            courseCounterRepository.subtractDelta(courseId, counterType, stripe, delta);
+            totals.merge(new CounterKey(courseId, CourseCounterType.valueOf(counterType)), delta, Long::sum);
+        }
+
+        totals.forEach((key, delta) -> {
+            if (delta == 0) {
+                return;
+            }
+            switch (key.type()) {
+                case ENROLLMENT -> courseCounterRepository.addEnrollmentCount(key.courseId(), delta);
+                case REVIEW -> courseCounterRepository.addReviewCount(key.courseId(), delta);
+                case WISHLIST -> courseCounterRepository.addWishlistCount(key.courseId(), delta);
+            }
+        });
+
+        log.debug("코스 카운터 반영 - stripe 행 {}개, 코스 카운터 {}개", rows.size(), totals.size());
+        return rows.size();
+    }
+
+    private record CounterKey(Long courseId, CourseCounterType type) {
+    }
+}
@@ -0,0 +1,221 @@
+package com.studyblock.domain.course.service;
+
+import com.studyblock.domain.category.entity.Category;
+import com.studyblock.domain.course.entity.Course;
+import com.studyblock.domain.course.entity.CourseRecommendation;
+import com.studyblock.domain.course.event.CourseCatalogChangedEvent;
+import com.studyblock.domain.course.repository.CourseRecommendationRepository;
+import com.studyblock.domain.course.repository.CourseRepository;
+import com.studyblock.domain.enrollment.repository.CourseEnrollmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 연관 코스 추천 사전 계산 서비스
+ * - 신규 수강신청(delta)만 읽어 코스 간 동시 발생 카운트를 증분 반영
+ * - 카운트가 바뀐 코스만 상위 K개 추천을 다시 계산하여 course_recommendation 에 저장
+ * - 점수 = 동시 발생(코사인 정규화) + 같은 카테고리 + 같은 난이도 + 인기도(보조)
+ * - 동시 발생 데이터가 없는 코스는 카테고리/난이도 후보만으로 채움 (콜드 스타트)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class CourseRecommendationService {
+
+    public static final int TOP_K = 10;
+
+    private static final int CO_ENROLLMENT_CANDIDATE_LIMIT = 50;
+    private static final Sort ENROLLMENT_DESC_SORT = Sort.by(Sort.Direction.DESC, "enrollmentCount");
+
+    private static final double CO_ENROLLMENT_WEIGHT = 1.0;
+    private static final double CATEGORY_WEIGHT = 0.3;
+    private static final double LEVEL_WEIGHT = 0.15;
+    private static final double POPULARITY_WEIGHT = 0.05;
+
+    private final CourseRecommendationRepository recommendationRepository;
+    private final CourseRepository courseRepository;
+    private final CourseEnrollmentRepository enrollmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 신규 수강신청 한 청크를 동시 발생 카운트에 반영하고 영향받은 코스의 추천을 재계산
+     * - 커서 행을 잠근 채 누적 + 커서 전진을 한 트랜잭션으로 처리 (다중 인스턴스 중복 누적 방지)
+     * - settleSeconds 보다 최근에 생성된 수강신청부터는 다음 실행으로 미룸 (ID 순서와 커밋 순서 차이로 누락 방지)
+     *
+     * @param chunkSize 한 번에 처리할 수강신청 수
+     * @param settleSeconds 커밋 대기 여유 시간 (초)
+     * @return 재계산한 코스 수 (처리할 수강신청이 없으면 -1)
+     */
+    @Transactional
+    public int processEnrollmentDeltas(int chunkSize, int settleSeconds) {
+        Long afterId = recommendationRepository.findJobCursorForUpdate(CourseRecommendationRepository.CO_ENROLLMENT_JOB);
+        if (afterId == null) {
+            afterId = 0L;
+        }
+
+        LocalDateTime settledBefore = LocalDateTime.now().minusSeconds(settleSeconds);
+        Long toId = enrollmentRepository.findSettledChunkUpperId(afterId, settledBefore, chunkSize);
+        if (toId == null) {
+            return -1;
+        }
+
+        recommendationRepository.accumulateForwardCoEnrollments(afterId, toId);
+        recommendationRepository.accumulateBackwardCoEnrollments(afterId, toId);
+
+        List<Long> affectedCourseIds = recommendationRepository.findAffectedCourseIds(afterId, toId);
+        for (Long courseId : affectedCourseIds) {
+            recompute(courseId);
+        }
+
+        recommendationRepository.saveJobCursor(CourseRecommendationRepository.CO_ENROLLMENT_JOB, toId);
+
+        log.debug("연관 코스 증분 반영 - enrollment ({}, {}], 재계산 코스 {}개", afterId, toId, affectedCourseIds.size());
+        return affectedCourseIds.size();
+    }
+
+    /**
+     * 코스 하나의 추천 목록 재계산 (기존 결과를 교체)
+     *
+     * @param courseId 코스 ID
+     */
+    @Transactional
+    public void recompute(Long courseId) {
+        Course course = courseRepository.findOneWithCategoriesById(courseId).orElse(null);
+        if (course == null) {
+            return;
+        }
+
+        Map<Long, Integer> coCounts = new HashMap<>();
+        for (Object[] row : recommendationRepository.findTopCoEnrollments(courseId, CO_ENROLLMENT_CANDIDATE_LIMIT)) {
+            coCounts.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+        }
+
+        Set<Long> candidateIds = new LinkedHashSet<>(coCounts.keySet());
+        candidateIds.addAll(findSimilarityCandidateIds(course));
+        candidateIds.remove(courseId);
+
+        List<ScoredCourse> scored = new ArrayList<>();
+        List<Course> candidates = courseRepository.findAllWithCategoriesByIdIn(candidateIds);
+        long maxEnrollment = candidates.stream()
+                .mapToLong(candidate -> nullToZero(candidate.getEnrollmentCount()))
+                .max()
+                .orElse(0L);
+
+        for (Course candidate : candidates) {
+            int coCount = coCounts.getOrDefault(candidate.getId(), 0);
+            scored.add(new ScoredCourse(candidate, coCount, score(course, candidate, coCount, maxEnrollment)));
+        }
+
+        scored.sort(Comparator.comparingDouble(ScoredCourse::score).reversed()
+                .thenComparing(s -> nullToZero(s.course().getEnrollmentCount()), Comparator.reverseOrder()));
+
+        recommendationRepository.deleteByCourseId(courseId);
+
+        List<CourseRecommendation> recommendations = new ArrayList<>();
+        for (int i = 0; i < Math.min(TOP_K, scored.size()); i++) {
+            ScoredCourse entry = scored.get(i);
+            recommendations.add(CourseRecommendation.builder()
+                    .courseId(courseId)
+                    .relatedCourse(entry.course())
+                    .rankNo(i + 1)
+                    .score(BigDecimal.valueOf(entry.score()).setScale(4, RoundingMode.HALF_UP))
+                    .coEnrollmentCount(entry.coCount())
+                    .build());
+        }
+        recommendationRepository.saveAll(recommendations);
+
+        // 카탈로그 캐시의 연관 코스 목록 갱신
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(courseId));
+    }
+
+    /**
+     * 사전 계산된 추천 목록 조회 (순위 순)
+     * - 비어 있으면 아직 계산되지 않은 코스
+     */
+    public List<Course> getRecommendedCourses(Long courseId) {
+        return recommendationRepository.findByCourseIdWithRelatedCourse(courseId).stream()
+                .map(CourseRecommendation::getRelatedCourse)
+                .toList();
+    }
+
+    /**
+     * 카테고리/난이도 유사도 후보 (같은 카테고리+난이도 → 같은 카테고리 → 같은 난이도)
+     */
+    private Set<Long> findSimilarityCandidateIds(Course course) {
+        Set<Long> ids = new LinkedHashSet<>();
+        Category primaryCategory = course.getPrimaryCategory();
+
+        if (primaryCategory != null && course.getLevel() != null) {
+            courseRepository.findTopByCategoryAndLevelOrderByEnrollmentDesc(
+                            primaryCategory.getId(), course.getLevel(), course.getId(),
+                            PageRequest.of(0, TOP_K, ENROLLMENT_DESC_SORT))
+                    .forEach(candidate -> ids.add(candidate.getId()));
+        }
+
+        if (ids.size() < TOP_K && primaryCategory != null) {
+            courseRepository.findTopByCategoryOrderByEnrollmentDesc(
+                            primaryCategory.getId(), course.getId(),
+                            PageRequest.of(0, TOP_K, ENROLLMENT_DESC_SORT))
+                    .forEach(candidate -> ids.add(candidate.getId()));
+        }
+
+        if (ids.size() < TOP_K && course.getLevel() != null) {
+            courseRepository.findTop10ByLevelAndIdNotOrderByEnrollmentCountDesc(course.getLevel(), course.getId())
+                    .forEach(candidate -> ids.add(candidate.getId()));
+        }
+
+        return ids;
+    }
+
+    private double score(Course source, Course candidate, int coCount, long maxEnrollment) {
+        double score = 0.0;
+
+        if (coCount > 0) {
+            double sourceEnrollment = Math.max(1L, nullToZero(source.getEnrollmentCount()));
+            double candidateEnrollment = Math.max(1L, nullToZero(candidate.getEnrollmentCount()));
+            score += CO_ENROLLMENT_WEIGHT * Math.min(1.0, coCount / Math.sqrt(sourceEnrollment * candidateEnrollment));
+        }
+
+        Category sourceCategory = source.getPrimaryCategory();
+        Category candidateCategory = candidate.getPrimaryCategory();
+        if (sourceCategory != null && candidateCategory != null
+                && Objects.equals(sourceCategory.getId(), candidateCategory.getId())) {
+            score += CATEGORY_WEIGHT;
+        }
+
+        if (source.getLevel() != null && source.getLevel() == candidate.getLevel()) {
+            score += LEVEL_WEIGHT;
+        }
+
+        if (maxEnrollment > 0) {
+            score += POPULARITY_WEIGHT * Math.log1p(nullToZero(candidate.getEnrollmentCount())) / Math.log1p(maxEnrollment);
+        }
+
+        return score;
+    }
+
+    private long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private record ScoredCourse(Course course, int coCount, double score) {
+    }
+}
@@ -8,6 +8,7 @@ import com.studyblock.domain.course.dto.CourseReviewUpdateRequest;
 import com.studyblock.domain.course.entity.Course;
 import com.studyblock.domain.course.entity.CourseReview;
 import com.studyblock.domain.course.entity.Lecture;
+import com.studyblock.domain.course.enums.CourseCounterType;
 import com.studyblock.domain.course.repository.CourseRepository;
 import com.studyblock.domain.course.repository.CourseReviewRepository;
 import com.studyblock.domain.course.repository.LectureRepository;
@@ -38,6 +39,7 @@ public class CourseReviewService {
     private final UserRepository userRepository;
     private final CourseEnrollmentRepository courseEnrollmentRepository;
     private final ActivityLogService activityLogService;
+    private final CourseCounterService courseCounterService;
 
     /**
      * 수강 후기 목록 조회
@@ -129,6 +131,7 @@ public class CourseReviewService {
                     .build();
 
             CourseReview saved = courseReviewRepository.save(review);
+            courseCounterService.increment(CourseCounterType.REVIEW, courseId, 1);
             log.info("리뷰 생성 완료: reviewId={}", saved.getId());
 
             // Fetch Join으로 연관 엔티티와 함께 다시 조회
@@ -202,5 +205,6 @@ public class CourseReviewService {
                 .orElseThrow(() -> new IllegalArgumentException("수강 후기를 찾을 수 없습니다. ID=" + reviewId));
 
         courseReviewRepository.delete(review);
+        courseCounterService.increment(CourseCounterType.REVIEW, courseId, -1);
     }
 }
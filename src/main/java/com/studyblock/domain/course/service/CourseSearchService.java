@@ -4,18 +4,25 @@ import com.studyblock.domain.course.dto.SearchCourseResponse;
 import com.studyblock.domain.course.entity.Course;
 import com.studyblock.domain.course.repository.CourseSearchRepository;
 import com.studyblock.domain.course.repository.CourseReviewRepository;
+import com.studyblock.global.util.FullTextQueryUtils;
+import com.studyblock.infrastructure.redis.SearchIdCache;
 import com.studyblock.infrastructure.storage.S3StorageService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
 public class CourseSearchService {
@@ -23,38 +30,65 @@ public class CourseSearchService {
     private final CourseSearchRepository courseSearchRepository;
     private final CourseReviewRepository courseReviewRepository;
     private final S3StorageService s3StorageService;
-
-    private static final int COURSE_IMAGE_URL_EXPIRATION_MINUTES = 30;
+    private final SearchIdCache searchIdCache;
+
+    private static final int MAX_SEARCH_SIZE = 50;
+    // 검색 결과 ID 캐시 네임스페이스 (search:course:v1:{검색어}:{page}:{size}, 값은 쉼표로 이은 ID)
+    private static final String SEARCH_CACHE_NAMESPACE = "search:course";
+
+    @Value("${search.course.cache-ttl-seconds:120}")
+    private long searchCacheTtlSeconds;
+
+    public CourseSearchService(CourseSearchRepository courseSearchRepository,
+                               CourseReviewRepository courseReviewRepository,
+                               S3StorageService s3StorageService,
+                               RedisTemplate<String, byte[]> redisBytesTemplate) {
+        this.courseSearchRepository = courseSearchRepository;
+        this.courseReviewRepository = courseReviewRepository;
+        this.s3StorageService = s3StorageService;
+        this.searchIdCache = new SearchIdCache(redisBytesTemplate, SEARCH_CACHE_NAMESPACE);
+    }
 
 
     /**
      *   코스 검색
-     * - 제목 기준으로 LIKE 검색
+     * - 2자 이상 단어가 있으면 FULLTEXT(ngram) 관련도 순 검색 (제목/요약/강사명/카테고리명)
+     * - 1자 검색어만 있으면 ngram 인덱스로 찾을 수 없으므로 기존 LIKE 검색
+     * - 결과 ID 목록을 짧게 Redis 캐싱 (인기 검색어 반복 조회 시 DB 검색 생략, 상세 정보는 항상 최신)
      */
     public List<SearchCourseResponse> searchCourses(String keyword, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_SEARCH_SIZE);
+        int pageNumber = Math.max(page, 0);
+
+        String booleanQuery = FullTextQueryUtils.toBooleanQuery(keyword);
+        if (booleanQuery == null) {
+            // Repository에서 코스 목록 검색 (LIKE)
+            List<Course> courses = courseSearchRepository.searchByKeyword(keyword, PageRequest.of(pageNumber, pageSize));
+            return toResponses(courses);
+        }
 
-        //페이징 처리를 위해 Pageable 인터페이스 사용
-        Pageable pageable = (Pageable) PageRequest.of(page, size);
-
-        // Repository에서 코스 목록 검색
-        List<Course> courses = courseSearchRepository.searchByKeyword(keyword, pageable);
-
-        // 각 강의에 평점 정보 설정
-        courses.forEach(course -> {
-            Double avgRating = courseReviewRepository.findAverageRatingByCourseId(course.getId());
-            Long reviewCount = courseReviewRepository.countByCourseId(course.getId());
+        String cacheKey = FullTextQueryUtils.normalize(keyword) + ":" + pageNumber + ":" + pageSize;
+        List<Long> courseIds = searchIdCache.read(cacheKey);
+        if (courseIds == null) {
+            courseIds = courseSearchRepository.searchIdsByFullText(
+                    booleanQuery, keyword.trim(), pageSize, (long) pageNumber * pageSize);
+            searchIdCache.write(cacheKey, courseIds, Duration.ofSeconds(searchCacheTtlSeconds));
+        }
 
-            course.setReviewInfo(
-                avgRating != null ? avgRating : 0.0,
-                reviewCount
-            );
-        });
+        if (courseIds.isEmpty()) {
+            return List.of();
+        }
 
-        // Course 엔티티 → SearchCourseResponse DTO로 변환
-        return courses.stream()
-                .map(SearchCourseResponse::from)
-                .peek(this::applyCourseThumbnail)
+        // IN 조회는 순서를 보장하지 않으므로 관련도 순서로 복원 (캐시 이후 비공개로 바뀐 코스 제외)
+        Map<Long, Course> courseById = courseSearchRepository.findAllWithInstructorByIdIn(courseIds).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+        List<Course> courses = courseIds.stream()
+                .map(courseById::get)
+                .filter(Objects::nonNull)
+                .filter(course -> Boolean.TRUE.equals(course.getIsPublished()))
                 .toList();
+
+        return toResponses(courses);
     }
 
     /**
@@ -64,14 +98,26 @@ public class CourseSearchService {
         log.info("전체 강의 목록 조회 (초성 검색용)");
         List<Course> courses = courseSearchRepository.findAllWithInstructor();
 
-        // 각 강의에 평점 정보 설정
-        courses.forEach(course -> {
-            Double avgRating = courseReviewRepository.findAverageRatingByCourseId(course.getId());
-            Long reviewCount = courseReviewRepository.countByCourseId(course.getId());
+        return toResponses(courses);
+    }
 
+    // 평점 정보를 한 번에 조회해 설정한 뒤 Course 엔티티 → SearchCourseResponse DTO로 변환
+    private List<SearchCourseResponse> toResponses(List<Course> courses) {
+        if (courses.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Object[]> ratingStats = new HashMap<>();
+        List<Long> courseIds = courses.stream().map(Course::getId).toList();
+        for (Object[] row : courseReviewRepository.findRatingStatsByCourseIds(courseIds)) {
+            ratingStats.put(((Number) row[0]).longValue(), row);
+        }
+
+        courses.forEach(course -> {
+            Object[] stats = ratingStats.get(course.getId());
             course.setReviewInfo(
-                    avgRating != null ? avgRating : 0.0,
-                    reviewCount
+                    stats != null && stats[1] != null ? ((Number) stats[1]).doubleValue() : 0.0,
+                    stats != null ? ((Number) stats[2]).longValue() : 0L
             );
         });
 
@@ -100,7 +146,7 @@ public class CourseSearchService {
             return null;
         }
         try {
-            return s3StorageService.generatePresignedUrl(originalUrl, COURSE_IMAGE_URL_EXPIRATION_MINUTES);
+            return s3StorageService.generateCacheableImageUrl(originalUrl);
         } catch (RuntimeException e) {
             log.warn("검색용 코스 썸네일 presigned URL 생성 실패 - url: {}", originalUrl, e);
             return null;
@@ -1,11 +1,13 @@
 package com.studyblock.domain.course.service;
 
 import com.studyblock.domain.category.entity.Category;
+import com.studyblock.domain.category.repository.UserCategoryRepository;
 import com.studyblock.domain.category.service.CategoryService;
 import com.studyblock.domain.course.dto.*;
 import com.studyblock.domain.course.entity.Course;
 import com.studyblock.domain.course.entity.Lecture;
 import com.studyblock.domain.course.enums.CoursePrerequisiteType;
+import com.studyblock.domain.course.event.CourseCatalogChangedEvent;
 import com.studyblock.domain.course.repository.*;
 import com.studyblock.domain.upload.dto.ImageUploadResponse;
 import com.studyblock.domain.upload.enums.ImageType;
@@ -13,7 +15,7 @@ import com.studyblock.domain.upload.service.ImageUploadService;
 import com.studyblock.infrastructure.storage.S3StorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -22,9 +24,12 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -36,21 +41,17 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CourseService {
 
-    private static final int COURSE_IMAGE_URL_EXPIRATION_MINUTES = 30;
-    private static final int RELATED_COURSE_LIMIT = 10;
-    private static final Sort ENROLLMENT_DESC_SORT = Sort.by(Sort.Direction.DESC, "enrollmentCount");
 
     private final CourseRepository courseRepository;
     private final LectureRepository lectureRepository;
     private final SectionRepository sectionRepository;
-    private final CourseLearningOutcomeRepository learningOutcomeRepository;
-    private final CourseFaqRepository faqRepository;
-    private final CoursePrerequisiteRepository prerequisiteRepository;
     private final CourseReviewRepository courseReviewRepository;
     private final CategoryService categoryService;
     private final com.studyblock.domain.user.repository.InstructorProfileRepository instructorProfileRepository;
     private final VideoRepository videoRepository;
-    private final PreviewVideoRepository previewVideoRepository;
+    private final CourseCatalogService courseCatalogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserCategoryRepository userCategoryRepository;
     private final LectureOwnershipService lectureOwnershipService;
     private final S3StorageService s3StorageService;
     private final ImageUploadService imageUploadService;
@@ -73,77 +74,15 @@ public class CourseService {
 
     /**
      * 코스 ID로 강의 요약 목록 조회 (비디오 정보 포함)
-     * - QueryDSL Fetch Join을 사용하여 N+1 문제 완전 해결
-     * - Video + Section을 Fetch Join으로 한 번에 조회
-     * - PreviewVideo는 별도 일괄 조회 후 Map으로 관리
-     *
-     * 성능:
-     * - 기존: 1 (Lecture) + N (Video) + N (Section) + N (PreviewVideo) = 1 + 3N 쿼리
-     * - 개선: 1 (Lecture + Video + Section) + 1 (PreviewVideo 일괄) = 2 쿼리
-     * - 효율: 94% 개선 (강의 10개 기준: 31개 → 2개 쿼리)
+     * - 코스 카탈로그 캐시에서 조회 (미스 시 Video + Section Fetch Join, PreviewVideo 일괄 조회로 조립)
+     * - 썸네일 presigned URL은 조회 시점에 생성
      */
     public List<LectureSummaryResponse> getLectureSummariesByCourseId(Long courseId) {
-        log.info("코스 ID {}로 강의 요약 정보 목록 조회 요청 (QueryDSL Fetch Join - Video + Section)", courseId);
-
-        // 1. Lecture 조회 (Video + Section Fetch Join) - 1개 쿼리
-        // Section LAZY 로딩 방지를 위해 Section도 Fetch Join
-        List<Lecture> lectures = lectureRepository.findByCourseIdWithVideoAndSectionOrderBySequenceAsc(courseId);
-
-        // 2. PreviewVideo 일괄 조회 - 1개 쿼리 (N+1 문제 방지)
-        // hasPreviewVideo() 호출 시 LAZY 프록시 초기화를 방지하기 위해
-        // PreviewVideo를 미리 조회하여 Map으로 관리
-        List<Long> lectureIds = lectures.stream()
-                .map(Lecture::getId)
-                .collect(Collectors.toList());
-        
-        // PreviewVideo 일괄 조회 - 영속성 컨텍스트에 로드하여 이후 LAZY 프록시 초기화 방지
-        // Map은 사용하지 않지만, 조회 자체로 Hibernate가 영속성 컨텍스트에 로드하여
-        // hasPreviewVideo() 호출 시 추가 쿼리 없이 동작하도록 함
-        if (!lectureIds.isEmpty()) {
-            previewVideoRepository.findByLectureIdIn(lectureIds);
-            // 조회만으로도 Hibernate가 Lecture의 previewVideo를 자동으로 연결함
-        }
+        log.info("코스 ID {}로 강의 요약 정보 목록 조회 요청", courseId);
 
-        // 3. DTO 변환
-        // Section과 Video는 이미 Fetch Join으로 로드됨 - 추가 쿼리 없음
-        // Section 메서드 대신 직접 필드 접근하여 LAZY 프록시 초기화 방지
-        return lectures.stream()
+        return courseCatalogService.getDocument(courseId).getLectures().stream()
                 .map(lecture -> {
-                    // Video 정보 (이미 Fetch Join으로 로드됨 - 추가 쿼리 없음)
-                    Long lastVideoId = lecture.hasVideo() ? lecture.getVideo().getId() : null;
-                    com.studyblock.domain.course.enums.EncodingStatus lastVideoEncodingStatus =
-                            lecture.hasVideo() ? lecture.getVideo().getEncodingStatus() : null;
-                    Long videoCount = lecture.hasVideo() ? 1L : 0L;
-
-                    // Section 정보는 직접 필드 접근 (이미 Fetch Join으로 로드됨 - 추가 쿼리 없음)
-                    // getPriceCookie(), getDiscountPercentage() 메서드 대신 직접 접근하여 LAZY 로딩 방지
-                    com.studyblock.domain.course.entity.Section section = lecture.getSection();
-                    Long sectionId = section != null ? section.getId() : null;
-                    Long priceCookie = section != null ? section.getCookiePrice() : null;
-                    Integer discountPercentage = section != null ? section.getDiscountPercentage() : 0;
-
-                    // LectureSummaryResponse 직접 생성 (of() 메서드 사용 시 getPriceCookie() 호출 방지)
-                    LectureSummaryResponse response = LectureSummaryResponse.builder()
-                            .id(lecture.getId())
-                            .sectionId(sectionId)
-                            .sequence(lecture.getSequence())
-                            .title(lecture.getTitle())
-                            .description(lecture.getDescription())
-                            .thumbnailUrl(lecture.getThumbnailUrl())
-                            .thumbnailOriginalUrl(lecture.getThumbnailUrl())
-                            .thumbnailOriginalUrl(lecture.getThumbnailUrl())
-                            .uploadDate(lecture.getUploadDate())
-                            .status(lecture.getStatus())
-                            .isFree(lecture.getIsFree())
-                            .priceCookie(priceCookie)
-                            .discountPercentage(discountPercentage)
-                            .lastVideoId(lastVideoId)
-                            .lastVideoEncodingStatus(lastVideoEncodingStatus != null 
-                                    ? lastVideoEncodingStatus.name() 
-                                    : null)
-                            .videoCount(videoCount)
-                            .hasPreviewVideo(lecture.hasPreviewVideo())
-                            .build();
+                    LectureSummaryResponse response = lecture.toBuilder().build();
                     applyLectureThumbnail(response);
                     return response;
                 })
@@ -166,16 +105,12 @@ public class CourseService {
 
     /**
      * 코스 상세 정보 조회 (상세 버전)
+     * - 공용 정보는 카탈로그 캐시에서 조회, 구매 섹션은 사용자별로 덧씌움
      */
     public CourseDetailResponse getCourseDetail(Long courseId, Long userId) {
         log.info("코스 ID {} 상세 정보 조회 요청 (userId: {})", courseId, userId);
 
-        Course course = courseRepository.findOneWithCategoriesById(courseId)
-                .orElseThrow(() -> new IllegalArgumentException("코스를 찾을 수 없습니다. ID=" + courseId));
-
-        int totalLectures = (int) lectureRepository.countByCourseId(courseId);
-
-        CourseDetailResponse response = CourseDetailResponse.from(course, totalLectures);
+        CourseDetailResponse response = courseCatalogService.getDocument(courseId).getDetail().toBuilder().build();
         applyCourseDetailThumbnail(response);
 
         if (userId != null) {
@@ -198,9 +133,7 @@ public class CourseService {
     public List<LearningOutcomeResponse> getLearningOutcomes(Long courseId) {
         log.info("코스 ID {} 학습 목표 목록 조회 요청", courseId);
 
-        return learningOutcomeRepository.findByCourseIdOrderByDisplayOrderAsc(courseId).stream()
-                .map(LearningOutcomeResponse::from)
-                .collect(Collectors.toList());
+        return new ArrayList<>(courseCatalogService.getDocument(courseId).getLearningOutcomes());
     }
 
     /**
@@ -209,9 +142,7 @@ public class CourseService {
     public List<CourseFaqResponse> getCourseFaqs(Long courseId) {
         log.info("코스 ID {} FAQ 목록 조회 요청", courseId);
 
-        return faqRepository.findByCourseIdOrderByDisplayOrderAsc(courseId).stream()
-                .map(CourseFaqResponse::from)
-                .collect(Collectors.toList());
+        return new ArrayList<>(courseCatalogService.getDocument(courseId).getFaqs());
     }
 
     /**
@@ -220,53 +151,42 @@ public class CourseService {
     public List<CoursePrerequisiteResponse> getCoursePrerequisites(Long courseId, CoursePrerequisiteType type) {
         log.info("코스 ID {} 선수 지식/준비물 조회 요청. type={}", courseId, type);
 
-        if (type != null) {
-            return prerequisiteRepository.findByCourseIdAndTypeOrderByDisplayOrderAsc(courseId, type).stream()
-                    .map(CoursePrerequisiteResponse::from)
-                    .collect(Collectors.toList());
-        }
-
-        return prerequisiteRepository.findByCourseIdOrderByDisplayOrderAsc(courseId).stream()
-                .map(CoursePrerequisiteResponse::from)
+        return courseCatalogService.getDocument(courseId).getPrerequisites().stream()
+                .filter(prerequisite -> type == null || prerequisite.getType() == type)
                 .collect(Collectors.toList());
     }
 
     /**
      * 연관 코스 추천
+     * - 사전 계산된 추천 목록(카탈로그 캐시)을 사용
+     * - 로그인 사용자는 관심 카테고리(UserCategory)에 속한 코스를 앞으로 재정렬 (순위 내 안정 정렬)
      */
-    public List<RelatedCourseResponse> getRelatedCourses(Long courseId) {
-        log.info("코스 ID {} 관련 코스 조회 요청", courseId);
-
-        Course course = courseRepository.findOneWithCategoriesById(courseId)
-                .orElseThrow(() -> new IllegalArgumentException("코스를 찾을 수 없습니다. ID=" + courseId));
+    public List<RelatedCourseResponse> getRelatedCourses(Long courseId, Long userId) {
+        log.info("코스 ID {} 관련 코스 조회 요청 (userId: {})", courseId, userId);
 
-        List<Course> related = List.of();
+        List<RelatedCourseResponse> related = courseCatalogService.getDocument(courseId).getRelatedCourses().stream()
+                .map(course -> course.toBuilder().build())
+                .peek(this::applyRelatedCourseThumbnail)
+                .collect(Collectors.toList());
 
-        if (course.getPrimaryCategory() != null && course.getLevel() != null) {
-            related = courseRepository.findTopByCategoryAndLevelOrderByEnrollmentDesc(
-                    course.getPrimaryCategory().getId(),
-                    course.getLevel(),
-                    courseId,
-                    PageRequest.of(0, RELATED_COURSE_LIMIT, ENROLLMENT_DESC_SORT)
-            );
+        if (userId != null && related.size() > 1) {
+            Set<Long> interestCategoryIds = new HashSet<>(userCategoryRepository.findCategoryIdsByUserId(userId));
+            if (!interestCategoryIds.isEmpty()) {
+                related.sort(Comparator.comparing(
+                        (RelatedCourseResponse course) -> !matchesInterest(course, interestCategoryIds)));
+            }
         }
 
-        if (related.isEmpty() && course.getPrimaryCategory() != null) {
-            related = courseRepository.findTopByCategoryOrderByEnrollmentDesc(
-                    course.getPrimaryCategory().getId(),
-                    courseId,
-                    PageRequest.of(0, RELATED_COURSE_LIMIT, ENROLLMENT_DESC_SORT)
-            );
-        }
+        return related;
+    }
 
-        if (related.isEmpty() && course.getLevel() != null) {
-            related = courseRepository.findTop10ByLevelAndIdNotOrderByEnrollmentCountDesc(course.getLevel(), courseId);
+    private boolean matchesInterest(RelatedCourseResponse course, Set<Long> interestCategoryIds) {
+        if (course.getCategories() == null) {
+            return false;
         }
-
-        return related.stream()
-                .map(RelatedCourseResponse::from)
-                .peek(this::applyRelatedCourseThumbnail)
-                .collect(Collectors.toList());
+        return course.getCategories().stream()
+                .anyMatch(category -> interestCategoryIds.contains(category.getId())
+                        || (category.getParentId() != null && interestCategoryIds.contains(category.getParentId())));
     }
 
     /**
@@ -483,6 +403,7 @@ public class CourseService {
         }
 
         log.info("코스 수정 완료: courseId={}, title={}", courseId, course.getTitle());
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(courseId));
 
         CourseResponse response = CourseResponse.from(course);
         applyCourseThumbnail(response);
@@ -508,6 +429,7 @@ public class CourseService {
         }
 
         course.updateThumbnail(uploadResponse.getUrl());
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(courseId));
 
         String presignedUrl = generateSignedUrl(uploadResponse.getUrl());
 
@@ -554,6 +476,8 @@ public class CourseService {
             course.updateCategories(categories);
         }
 
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(courseId));
+
         CourseResponse response = CourseResponse.from(course);
         applyCourseThumbnail(response);
         return response;
@@ -575,6 +499,7 @@ public class CourseService {
 
         // 삭제
         courseRepository.delete(course);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(courseId));
 
         log.info("코스 삭제 완료: courseId={}, title={}", courseId, course.getTitle());
     }
@@ -821,7 +746,7 @@ public class CourseService {
     private String generateSignedUrl(String originalUrl) {
         if (originalUrl == null || originalUrl.isBlank()) return null;
         try {
-            return s3StorageService.generatePresignedUrl(originalUrl, COURSE_IMAGE_URL_EXPIRATION_MINUTES);
+            return s3StorageService.generateCacheableImageUrl(originalUrl);
         } catch (RuntimeException e) {
             log.warn("코스/강의 presigned URL 생성 실패 - url: {}", originalUrl, e);
             return null;
@@ -4,6 +4,8 @@ import com.studyblock.domain.course.entity.PreviewVideo;
 import com.studyblock.domain.course.entity.Video;
 import com.studyblock.domain.course.entity.VideoResource;
 import com.studyblock.domain.course.enums.EncodingStatus;
+import com.studyblock.domain.course.event.CourseCatalogChangedEvent;
+import com.studyblock.domain.course.repository.LectureRepository;
 import com.studyblock.domain.course.repository.PreviewVideoRepository;
 import com.studyblock.domain.course.repository.VideoRepository;
 import com.studyblock.infrastructure.encoding.FFmpegService;
@@ -11,6 +13,7 @@ import com.studyblock.infrastructure.storage.S3StorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +40,8 @@ public class GenericVideoEncodingService {
     private final VideoRepository videoRepository;
     private final PreviewVideoRepository previewVideoRepository;
     private final VideoEncodingStatusService encodingStatusService;
+    private final LectureRepository lectureRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${video.encoding.workspace:./tmp/videos}")
     private String workspacePath;
@@ -138,6 +143,10 @@ public class GenericVideoEncodingService {
             // SSE 알림: COMPLETED, progress: 100
             encodingStatusService.notifyStatusChange(videoResource.getId(), videoType, EncodingStatus.COMPLETED, 100);
 
+            // 코스 카탈로그 캐시 무효화 (인코딩 상태 반영)
+            lectureRepository.findCourseIdByLectureId(lectureId)
+                    .ifPresent(courseId -> eventPublisher.publishEvent(new CourseCatalogChangedEvent(courseId)));
+
         } catch (Exception e) {
             log.error("인코딩 실패 - Type: {}, ID: {}", videoType, videoResource.getId(), e);
             videoResource.failEncoding();
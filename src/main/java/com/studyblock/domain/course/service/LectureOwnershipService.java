@@ -155,19 +155,22 @@ public class LectureOwnershipService {
     }
 
     /**
-     * 소유권 취소 (환불 시 사용)
+     * 소유권 일괄 취소 (환불 시 사용)
+     * - 환불 대상 섹션만 단일 UPDATE로 취소 (부분 환불 시 다른 섹션 소유권 유지)
      *
      * @param orderId 주문 ID
+     * @param sectionIds 환불 대상 섹션 ID 목록
+     * @return 취소된 소유권 수
      */
     @Transactional
-    public void revokeOwnershipsByOrder(Long orderId) {
-        List<LectureOwnership> ownerships = lectureOwnershipRepository.findByOrderId(orderId);
-
-        for (LectureOwnership ownership : ownerships) {
-            ownership.revoke();
+    public int revokeOwnershipsByOrder(Long orderId, List<Long> sectionIds) {
+        if (sectionIds == null || sectionIds.isEmpty()) {
+            return 0;
         }
+        int revoked = lectureOwnershipRepository.revokeByOrderIdAndSectionIdIn(orderId, sectionIds);
 
-        log.info("주문 {}에 대한 {}개 소유권 취소 완료", orderId, ownerships.size());
+        log.info("주문 {}에 대한 {}개 소유권 취소 완료", orderId, revoked);
+        return revoked;
     }
 
     /**
@@ -181,6 +184,13 @@ public class LectureOwnershipService {
         return lectureOwnershipRepository.findPurchasedSectionIdsByUserAndCourse(userId, courseId);
     }
 
+    /**
+     * 활성 소유권 보유 여부 (재처리 시 중복 생성 방지용)
+     */
+    public boolean hasActiveOwnership(User user, Section section) {
+        return lectureOwnershipRepository.existsByUserAndSectionAndStatus(user, section, OwnershipStatus.ACTIVE);
+    }
+
     /**
      * 사용자가 구매한 모든 섹션 ID 목록 조회 (코스 필터 없음)
      *
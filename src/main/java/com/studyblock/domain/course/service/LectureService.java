@@ -6,6 +6,7 @@ import com.studyblock.domain.course.entity.Course;
 import com.studyblock.domain.course.entity.Lecture;
 import com.studyblock.domain.course.entity.Section;
 import com.studyblock.domain.course.entity.Video;
+import com.studyblock.domain.course.event.CourseCatalogChangedEvent;
 import com.studyblock.domain.course.repository.LectureRepository;
 import com.studyblock.domain.course.repository.SectionRepository;
 import com.studyblock.domain.course.repository.VideoRepository;
@@ -14,6 +15,7 @@ import com.studyblock.domain.user.entity.User;
 import com.studyblock.infrastructure.storage.S3StorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +40,7 @@ public class LectureService {
     private final VideoRepository videoRepository;
     private final S3StorageService s3StorageService;
     private final SectionRepository sectionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 코스 ID로 강의 목록 조회
@@ -111,6 +114,7 @@ public class LectureService {
 
         // 9. 저장
         Lecture savedLecture = lectureRepository.save(lecture);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(course.getId()));
 
         log.info("강의 생성 완료 - Lecture ID: {}, Section ID: {}, Title: {}", 
                 savedLecture.getId(), section.getId(), savedLecture.getTitle());
@@ -151,6 +155,7 @@ public class LectureService {
 
         // 5. 변경사항 저장 (@Transactional로 자동 저장되지만 명시적으로 save 호출)
         lectureRepository.save(lecture);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(lecture.getCourse().getId()));
 
         log.info("강의 메타 정보 수정 완료 - Lecture ID: {}, 새 상태: {}", lectureId, request.getStatus());
 
@@ -188,6 +193,7 @@ public class LectureService {
 
         // 5. DB에서 강의 삭제 (cascade로 Video, Quiz, LectureResource도 함께 삭제됨)
         lectureRepository.delete(lecture);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(lecture.getCourse().getId()));
 
         log.info("강의 삭제 완료 - Lecture ID: {}, 삭제된 비디오 개수: {}", lectureId, videos.size());
     }
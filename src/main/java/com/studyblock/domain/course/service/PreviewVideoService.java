@@ -6,6 +6,7 @@ import com.studyblock.domain.course.dto.PreviewVideoUploadResponse;
 import com.studyblock.domain.course.entity.Lecture;
 import com.studyblock.domain.course.entity.PreviewVideo;
 import com.studyblock.domain.course.enums.EncodingStatus;
+import com.studyblock.domain.course.event.CourseCatalogChangedEvent;
 import com.studyblock.domain.course.event.PreviewVideoUploadedEvent;
 import com.studyblock.domain.course.repository.LectureRepository;
 import com.studyblock.domain.course.repository.PreviewVideoRepository;
@@ -114,6 +115,7 @@ public class PreviewVideoService {
         log.info("📢 PreviewVideoUploadedEvent 발행 - PreviewVideo ID: {}", 
                 savedPreviewVideo.getId());
         eventPublisher.publishEvent(new PreviewVideoUploadedEvent(savedPreviewVideo.getId()));
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(lecture.getCourse().getId()));
 
         // 10. DTO 변환하여 반환
         return PreviewVideoUploadResponse.from(savedPreviewVideo);
@@ -260,6 +262,7 @@ public class PreviewVideoService {
         }
         
         log.info("✅ PreviewVideo 엔티티 DB 삭제 완료 - PreviewVideo ID: {}", previewVideoId);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(lecture.getCourse().getId()));
         log.info("=== 맛보기 비디오 삭제 완료 ===");
     }
 
@@ -287,6 +290,7 @@ public class PreviewVideoService {
 
         // 변경사항 저장
         previewVideoRepository.save(previewVideo);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(previewVideo.getLecture().getCourse().getId()));
 
         // DTO 변환 및 반환
         return PreviewVideoResponse.fromSimple(previewVideo);
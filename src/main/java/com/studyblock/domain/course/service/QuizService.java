@@ -4,11 +4,13 @@ import com.studyblock.domain.course.dto.*;
 import com.studyblock.domain.course.entity.Quiz;
 import com.studyblock.domain.course.entity.QuizQuestion;
 import com.studyblock.domain.course.entity.QuizOption;
+import com.studyblock.domain.course.event.CourseCatalogChangedEvent;
 import com.studyblock.domain.course.enums.QuestionType;
 import com.studyblock.domain.course.repository.QuizRepository;
 import com.studyblock.domain.course.repository.QuizQuestionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +29,7 @@ public class QuizService {
     private final com.studyblock.domain.course.repository.SectionRepository sectionRepository;
     private final com.studyblock.domain.course.repository.LectureRepository lectureRepository;
     private final com.studyblock.domain.course.repository.CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 강의 ID로 퀴즈 목록 조회
@@ -204,6 +207,8 @@ public class QuizService {
             createQuizQuestion(savedQuiz, request.getQuestion());
         }
 
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(course.getId()));
+
         log.info("퀴즈 생성 완료: id={}, sequence={}", savedQuiz.getId(), sequence);
         return QuizSummaryResponse.from(savedQuiz);
     }
@@ -264,6 +269,8 @@ public class QuizService {
             quiz.updatePosition(request.getPosition(), targetLecture, newSequence);
         }
 
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(quiz.getCourseId()));
+
         log.info("퀴즈 수정 완료: quizId={}", quizId);
         return QuizSummaryResponse.from(quiz);
     }
@@ -279,6 +286,7 @@ public class QuizService {
                 .orElseThrow(() -> new IllegalArgumentException("퀴즈를 찾을 수 없습니다. ID=" + quizId));
 
         quizRepository.delete(quiz);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(quiz.getCourseId()));
         log.info("퀴즈 삭제 완료: quizId={}", quizId);
     }
 
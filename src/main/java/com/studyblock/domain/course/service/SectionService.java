@@ -6,8 +6,7 @@ import com.studyblock.domain.course.dto.SectionResponse;
 import com.studyblock.domain.course.entity.Course;
 import com.studyblock.domain.course.entity.LectureOwnership;
 import com.studyblock.domain.course.entity.Section;
-import com.studyblock.domain.course.entity.Lecture;
-import com.studyblock.domain.course.enums.LectureStatus;
+import com.studyblock.domain.course.event.CourseCatalogChangedEvent;
 import com.studyblock.domain.course.repository.CourseRepository;
 import com.studyblock.domain.course.repository.SectionRepository;
 import com.studyblock.domain.enrollment.repository.CourseEnrollmentRepository;
@@ -17,11 +16,12 @@ import com.studyblock.domain.user.repository.InstructorProfileRepository;
 import com.studyblock.domain.user.repository.LectureOwnershipRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.EnumSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -36,25 +36,18 @@ public class SectionService {
     private final InstructorProfileRepository instructorProfileRepository;
     private final CourseEnrollmentRepository courseEnrollmentRepository;
     private final LectureOwnershipRepository lectureOwnershipRepository;
-
-    private static final EnumSet<LectureStatus> VISIBLE_LECTURE_STATUSES =
-            EnumSet.of(LectureStatus.ACTIVE, LectureStatus.PUBLISHED);
+    private final CourseCatalogService courseCatalogService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 코스 ID로 섹션 목록 조회 (강의 포함)
      * 권한 검증 포함: 사용자가 구매한 섹션만 반환
+     * - 커리큘럼은 코스 카탈로그 캐시에서 조회
      */
     public List<SectionResponse> getSectionsByCourseId(Long courseId) {
         log.info("코스 ID {}의 섹션 목록 조회", courseId);
 
-        // 코스 존재 여부 확인
-        if (!courseRepository.existsById(courseId)) {
-            throw new IllegalArgumentException("코스를 찾을 수 없습니다. ID=" + courseId);
-        }
-
-        List<Section> sections = sectionRepository.findByCourseIdWithLectures(courseId);
-
-        return sections.stream()
+        return courseCatalogService.getDocument(courseId).getSections().stream()
                 .map(section -> buildSectionResponse(section, true))
                 .collect(Collectors.toList());
     }
@@ -65,6 +58,7 @@ public class SectionService {
      * - 섹션 단위 구매: 구매한 섹션만 반환
      * - 강사 본인: 모든 섹션 반환
      * - 권한 없음: 빈 리스트 반환
+     * - 커리큘럼은 코스 카탈로그 캐시에서 조회하고 접근 권한만 사용자별로 덧씌움
      */
     public List<SectionResponse> getSectionsByCourseIdForUser(Long courseId, Long userId) {
         log.info("코스 ID {}의 섹션 목록 조회 (사용자 ID: {})", courseId, userId);
@@ -73,6 +67,13 @@ public class SectionService {
         Course course = courseRepository.findById(courseId)
                 .orElseThrow(() -> new IllegalArgumentException("코스를 찾을 수 없습니다. ID=" + courseId));
 
+        List<SectionResponse> allSections = courseCatalogService.getDocument(courseId).getSections();
+
+        if (allSections.isEmpty()) {
+            log.info("섹션이 없음 - 플랫 모드: userId={}, courseId={}", userId, courseId);
+            return List.of();
+        }
+
         boolean isAuthenticated = userId != null;
 
         boolean isInstructorOwner = false;
@@ -98,13 +99,6 @@ public class SectionService {
             }
         }
 
-        List<Section> allSections = sectionRepository.findByCourseIdWithLectures(courseId);
-
-        if (allSections.isEmpty()) {
-            log.info("섹션이 없음 - 플랫 모드: userId={}, courseId={}", userId, courseId);
-            return List.of();
-        }
-
         final boolean grantAllSections = isInstructorOwner || hasFullCourseAccess;
         final Set<Long> finalOwnedSectionIds = ownedSectionIds;
 
@@ -116,44 +110,46 @@ public class SectionService {
                 .collect(Collectors.toList());
     }
 
-    private SectionResponse buildSectionResponse(Section section, boolean hasAccess) {
-        List<LectureSummaryResponse> lectures = mapLectures(section, false, hasAccess);
-        return SectionResponse.fromWithLecturesForUser(section, lectures, hasAccess);
+    /**
+     * 캐시된 섹션을 복사하여 사용자 접근 정보를 덧씌움 (캐시 인스턴스는 수정하지 않음)
+     */
+    private SectionResponse buildSectionResponse(SectionResponse cached, boolean hasAccess) {
+        List<LectureSummaryResponse> lectures = cached.getLectures() == null
+                ? List.of()
+                : cached.getLectures().stream()
+                        .map(lecture -> applyLectureAccess(cached, lecture.toBuilder().build(), hasAccess))
+                        .collect(Collectors.toList());
+
+        return cached.toBuilder()
+                .lectures(lectures)
+                .quizzes(cached.getQuizzes() != null ? new ArrayList<>(cached.getQuizzes()) : null)
+                .owned(hasAccess)
+                .hasAccess(hasAccess)
+                .locked(!hasAccess)
+                .build();
     }
 
-    private List<LectureSummaryResponse> mapLectures(Section section,
-                                                     boolean includeHidden,
-                                                     boolean hasSectionAccess) {
-        return section.getLectures().stream()
-                .filter(lecture -> includeHidden || isVisibleStatus(lecture))
-                .map(lecture -> {
-                    LectureSummaryResponse response = LectureSummaryResponse.from(lecture);
-
-                    boolean lectureAccessible = hasSectionAccess;
+    private LectureSummaryResponse applyLectureAccess(SectionResponse section,
+                                                      LectureSummaryResponse response,
+                                                      boolean hasSectionAccess) {
+        boolean lectureAccessible = hasSectionAccess;
 
-                    if (!lectureAccessible) {
-                        boolean isExplicitlyFree = Boolean.TRUE.equals(response.getIsFree());
-                        boolean sectionIsFree = section.getCookiePrice() != null && section.getCookiePrice() <= 0;
-                        boolean hasPreviewVideo = Boolean.TRUE.equals(response.getHasPreviewVideo());
+        if (!lectureAccessible) {
+            boolean isExplicitlyFree = Boolean.TRUE.equals(response.getIsFree());
+            boolean sectionIsFree = section.getCookiePrice() != null && section.getCookiePrice() <= 0;
+            boolean hasPreviewVideo = Boolean.TRUE.equals(response.getHasPreviewVideo());
 
-                        log.debug("[SectionService] lecture access check - lectureId={}, sectionId={}, hasSectionAccess={}, isExplicitlyFree={}, sectionIsFree={}, hasPreviewVideo={}, finalAccessBeforePreview={}",
-                                response.getId(), section.getId(), hasSectionAccess, isExplicitlyFree, sectionIsFree, hasPreviewVideo, lectureAccessible);
+            log.debug("[SectionService] lecture access check - lectureId={}, sectionId={}, hasSectionAccess={}, isExplicitlyFree={}, sectionIsFree={}, hasPreviewVideo={}, finalAccessBeforePreview={}",
+                    response.getId(), section.getId(), hasSectionAccess, isExplicitlyFree, sectionIsFree, hasPreviewVideo, lectureAccessible);
 
-                        if (!lectureAccessible && sectionIsFree && isExplicitlyFree) {
-                            lectureAccessible = true;
-                        }
-                    }
-
-                    response.setHasAccess(lectureAccessible);
-                    response.setLocked(!lectureAccessible);
-                    return response;
-                })
-                .collect(Collectors.toList());
-    }
+            if (sectionIsFree && isExplicitlyFree) {
+                lectureAccessible = true;
+            }
+        }
 
-    private boolean isVisibleStatus(Lecture lecture) {
-        LectureStatus status = lecture.getStatus();
-        return status != null && VISIBLE_LECTURE_STATUSES.contains(status);
+        response.setHasAccess(lectureAccessible);
+        response.setLocked(!lectureAccessible);
+        return response;
     }
 
     /**
@@ -211,6 +207,7 @@ public class SectionService {
                 .build();
 
         Section savedSection = sectionRepository.save(section);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(courseId));
 
         return SectionResponse.from(savedSection);
     }
@@ -232,6 +229,7 @@ public class SectionService {
         section.updateInfo(request.getTitle(), request.getDescription());
         section.updateSequence(request.getSequence());
         section.updatePricing(request.getCookiePrice(), request.getDiscountPercentage());
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(section.getCourse().getId()));
 
         return SectionResponse.from(section);
     }
@@ -250,6 +248,7 @@ public class SectionService {
         verifyCourseOwnership(section.getCourse(), currentUser);
 
         sectionRepository.deleteById(sectionId);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(section.getCourse().getId()));
     }
 
     /**
@@ -288,6 +287,8 @@ public class SectionService {
 
             section.updateSequence(i + 1);
         }
+
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(courseId));
     }
 
     /**
@@ -2,12 +2,14 @@ package com.studyblock.domain.course.service;
 
 import com.studyblock.domain.course.entity.Video;
 import com.studyblock.domain.course.enums.EncodingStatus;
+import com.studyblock.domain.course.event.CourseCatalogChangedEvent;
 import com.studyblock.domain.course.repository.VideoRepository;
 import com.studyblock.infrastructure.encoding.FFmpegService;
 import com.studyblock.infrastructure.storage.S3StorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +32,7 @@ public class VideoEncodingService {
     private final FFmpegService ffmpegService;
     private final S3StorageService s3StorageService;
     private final VideoEncodingStatusService encodingStatusService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${video.encoding.workspace:./tmp/videos}")
     private String workspacePath;
@@ -72,6 +75,9 @@ public class VideoEncodingService {
             // SSE 알림: COMPLETED 상태
             encodingStatusService.notifyStatusChange(videoId, "video", EncodingStatus.COMPLETED);
 
+            // 코스 카탈로그 캐시 무효화 (인코딩 상태 반영)
+            eventPublisher.publishEvent(new CourseCatalogChangedEvent(video.getLecture().getCourse().getId()));
+
         } catch (Exception e) {
             log.error("인코딩 실패 - Video ID: {}", videoId, e);
 
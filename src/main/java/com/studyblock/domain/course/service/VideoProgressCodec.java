@@ -0,0 +1,54 @@
+package com.studyblock.domain.course.service;
+
+import com.studyblock.domain.course.dto.VideoProgressDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 진도율 Redis 해시 필드 값 코덱
+ * - "{position},{duration},{updatedAt epoch seconds}" 형식의 ASCII 문자열 (클래스 메타데이터 없음, 20바이트 내외)
+ * - userId / videoId 는 해시 키와 필드 이름에 있으므로 값에 넣지 않음
+ */
+public final class VideoProgressCodec {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private VideoProgressCodec() {
+    }
+
+    public static byte[] encode(VideoProgressDto dto) {
+        long updatedAt = dto.getUpdatedAt() != null
+                ? dto.getUpdatedAt().atZone(ZONE).toEpochSecond()
+                : 0L;
+        String value = dto.getPosition() + "," + dto.getDuration() + "," + updatedAt;
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * @return 진도율, 형식이 잘못된 값이면 null
+     */
+    public static VideoProgressDto decode(Long userId, Long videoId, byte[] value) {
+        if (value == null) {
+            return null;
+        }
+        String[] parts = new String(value, StandardCharsets.US_ASCII).split(",");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            long updatedAt = Long.parseLong(parts[2]);
+            return VideoProgressDto.builder()
+                    .userId(userId)
+                    .videoId(videoId)
+                    .position(Integer.parseInt(parts[0]))
+                    .duration(Integer.parseInt(parts[1]))
+                    .updatedAt(updatedAt > 0 ? LocalDateTime.ofInstant(Instant.ofEpochSecond(updatedAt), ZONE) : null)
+                    .build();
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
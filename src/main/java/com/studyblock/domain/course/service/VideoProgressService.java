@@ -12,17 +12,20 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.concurrent.TimeUnit;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * VideoProgress 서비스
  * - Redis + MySQL 하이브리드 방식
- * - 실시간 진도율은 Redis에 저장
+ * - 실시간 진도율은 Redis 사용자별 해시에 저장 (VideoProgressStore)
  * - 주기적으로 MySQL에 동기화 (스케줄러)
  */
 @Service
@@ -30,14 +33,13 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class VideoProgressService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final VideoProgressStore videoProgressStore;
     private final VideoProgressRepository videoProgressRepository;
     private final UserRepository userRepository;
     private final VideoRepository videoRepository;
     private final EnrollmentService enrollmentService;
 
-    private static final String REDIS_KEY_PREFIX = "video:progress:";
-    private static final long REDIS_TTL_HOURS = 24;  // 24시간
+    private static final int MAX_BULK_VIDEOS = 500;
 
     /**
      * 진도율 조회 (Redis → MySQL 순)
@@ -50,8 +52,7 @@ public class VideoProgressService {
      */
     public VideoProgressDto getProgress(Long userId, Long videoId) {
         // 1. Redis 조회
-        String redisKey = getRedisKey(userId, videoId);
-        VideoProgressDto dto = (VideoProgressDto) redisTemplate.opsForValue().get(redisKey);
+        VideoProgressDto dto = videoProgressStore.get(userId, videoId);
 
         if (dto != null) {
             log.debug("Redis에서 진도율 조회 - userId: {}, videoId: {}", userId, videoId);
@@ -62,16 +63,10 @@ public class VideoProgressService {
         log.debug("Redis 미스 - MySQL 조회 - userId: {}, videoId: {}", userId, videoId);
         return videoProgressRepository.findByUserIdAndVideoId(userId, videoId)
                 .map(progress -> {
-                    VideoProgressDto mysqlDto = VideoProgressDto.builder()
-                            .userId(userId)
-                            .videoId(videoId)
-                            .position(progress.getLastPosition())
-                            .duration(progress.getDuration())
-                            .updatedAt(progress.getUpdatedAt())
-                            .build();
+                    VideoProgressDto mysqlDto = toDto(userId, videoId, progress);
 
                     // 3. MySQL 데이터를 Redis에 캐싱
-                    cacheToRedis(userId, videoId, mysqlDto);
+                    videoProgressStore.cache(userId, List.of(mysqlDto));
                     log.info("MySQL 데이터 Redis 캐싱 완료 - userId: {}, videoId: {}", userId, videoId);
 
                     return mysqlDto;
@@ -79,6 +74,38 @@ public class VideoProgressService {
                 .orElse(null);
     }
 
+    /**
+     * 여러 영상의 진도율 일괄 조회 (커리큘럼 이어보기 위치 표시용)
+     * 1. Redis 해시 HMGET 한 번 (이전 형식 키 조회 포함 한 번의 왕복)
+     * 2. Redis에 없는 영상만 MySQL IN 조회 후 Redis 캐싱
+     *
+     * @param userId   사용자 ID
+     * @param videoIds 비디오 ID 목록 (최대 500개)
+     * @return videoId → 진도율 DTO (진도율이 없는 영상은 포함하지 않음)
+     */
+    public Map<Long, VideoProgressDto> getProgresses(Long userId, Collection<Long> videoIds) {
+        List<Long> ids = videoIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.size() > MAX_BULK_VIDEOS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 비디오는 최대 " + MAX_BULK_VIDEOS + "개입니다.");
+        }
+
+        Map<Long, VideoProgressDto> result = new LinkedHashMap<>(videoProgressStore.getAll(userId, ids));
+        List<Long> missing = ids.stream().filter(id -> !result.containsKey(id)).toList();
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        List<VideoProgressDto> loaded = videoProgressRepository.findByUserIdAndVideoIdIn(userId, missing).stream()
+                .map(progress -> toDto(userId, progress.getVideo().getId(), progress))
+                .toList();
+        videoProgressStore.cache(userId, loaded);
+        loaded.forEach(dto -> result.put(dto.getVideoId(), dto));
+
+        log.debug("진도율 일괄 조회 - userId: {}, 요청: {}, Redis: {}, MySQL: {}",
+                userId, ids.size(), ids.size() - missing.size(), loaded.size());
+        return result;
+    }
+
     /**
      * Redis에만 진도율 저장 (실시간 저장)
      * - TTL 24시간
@@ -103,11 +130,11 @@ public class VideoProgressService {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        String redisKey = getRedisKey(userId, videoId);
-        redisTemplate.opsForValue().set(redisKey, dto, REDIS_TTL_HOURS, TimeUnit.HOURS);
+        // 스케줄러가 MySQL 로 동기화하도록 dirty 등록
+        videoProgressStore.save(dto, true);
 
-        log.info("Redis 진도율 저장 완료 - userId: {}, videoId: {}, position: {}, duration: {}, TTL: {}h",
-                userId, videoId, position, duration, REDIS_TTL_HOURS);
+        log.info("Redis 진도율 저장 완료 - userId: {}, videoId: {}, position: {}, duration: {}",
+                userId, videoId, position, duration);
     }
 
     /**
@@ -120,13 +147,10 @@ public class VideoProgressService {
      */
     @Transactional
     public void persistToDatabase(Long userId, Long videoId, Integer position, Integer duration) {
-        // 1. Redis에서 데이터 조회
-        String redisKey = getRedisKey(userId, videoId);
-        VideoProgressDto dto = (VideoProgressDto) redisTemplate.opsForValue().get(redisKey);
+        VideoProgressDto dto;
 
-        // 요청으로 전달된 위치/길이를 우선 저장하여 최신 상태를 보장
+        // 요청으로 전달된 위치/길이를 우선 저장하여 최신 상태를 보장 (바로 MySQL 에 저장하므로 dirty 등록 안 함)
         if (position != null && duration != null) {
-            saveProgressToRedis(userId, videoId, position, duration);
             dto = VideoProgressDto.builder()
                     .userId(userId)
                     .videoId(videoId)
@@ -134,6 +158,10 @@ public class VideoProgressService {
                     .duration(duration)
                     .updatedAt(LocalDateTime.now())
                     .build();
+            videoProgressStore.save(dto, false);
+        } else {
+            // 1. Redis에서 데이터 조회
+            dto = videoProgressStore.get(userId, videoId);
         }
 
         if (dto == null) {
@@ -190,26 +218,13 @@ public class VideoProgressService {
         }
     }
 
-    /**
-     * Redis 키 생성
-     *
-     * @param userId  사용자 ID
-     * @param videoId 비디오 ID
-     * @return Redis 키 (video:progress:{userId}:{videoId})
-     */
-    private String getRedisKey(Long userId, Long videoId) {
-        return REDIS_KEY_PREFIX + userId + ":" + videoId;
-    }
-
-    /**
-     * MySQL 데이터를 Redis에 캐싱
-     *
-     * @param userId  사용자 ID
-     * @param videoId 비디오 ID
-     * @param dto     진도율 DTO
-     */
-    private void cacheToRedis(Long userId, Long videoId, VideoProgressDto dto) {
-        String redisKey = getRedisKey(userId, videoId);
-        redisTemplate.opsForValue().set(redisKey, dto, REDIS_TTL_HOURS, TimeUnit.HOURS);
+    private VideoProgressDto toDto(Long userId, Long videoId, VideoProgress progress) {
+        return VideoProgressDto.builder()
+                .userId(userId)
+                .videoId(videoId)
+                .position(progress.getLastPosition())
+                .duration(progress.getDuration())
+                .updatedAt(progress.getUpdatedAt())
+                .build();
     }
-}
\ No newline at end of file
+}
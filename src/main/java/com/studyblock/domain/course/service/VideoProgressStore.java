@@ -0,0 +1,279 @@
+package com.studyblock.domain.course.service;
+
+import com.studyblock.domain.course.dto.VideoProgressDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비디오 진도율 Redis 저장소
+ * - 사용자별 해시 하나 (video:progress:u:{userId}), 필드 = videoId, 값 = VideoProgressCodec 문자열
+ * - 여러 영상의 진도율은 HMGET 한 번 (이전 형식 키 조회와 함께 파이프라인으로 한 번의 왕복)
+ * - 저장 시 해시 갱신 + TTL 연장 + MySQL 동기화 대상(dirty set) 등록을 한 파이프라인으로 처리
+ *
+ * 이전 형식(video:progress:{userId}:{videoId} JSON 키) 마이그레이션 (video.progress.legacy-migration-enabled)
+ * - 조회 시 해시에 없으면 이전 키를 함께 읽어 해시로 옮기고 이전 키 삭제
+ * - 저장 시 이전 키 삭제, 스케줄러가 남은 이전 키를 SCAN 으로 옮김 (숫자 키 패턴만, 한 바퀴 돌아 남은 키가 없으면 더 이상 SCAN 안 함)
+ * - 이전 키는 TTL(24시간) 이 지나면 모두 사라지므로 그 뒤에는 비활성화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoProgressStore {
+
+    private static final String HASH_KEY_PREFIX = "video:progress:u:";
+    private static final String DIRTY_SET_KEY = "video:progress:dirty";
+    private static final String LEGACY_KEY_PREFIX = "video:progress:";
+    private static final Pattern LEGACY_KEY = Pattern.compile("^video:progress:(\\d+):(\\d+)$");
+    // 해시 키(video:progress:u:*) / dirty 집합은 SCAN 매칭에서 제외
+    private static final String LEGACY_SCAN_PATTERN = LEGACY_KEY_PREFIX + "[0-9]*:[0-9]*";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    // 이전 형식 값 역직렬화용 (GenericJackson2JsonRedisSerializer)
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${video.progress.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${video.progress.legacy-migration-enabled:true}")
+    private boolean legacyMigrationEnabled;
+
+    // SCAN 한 바퀴에서 이전 키를 찾지 못하면 true (이후 migrateLegacyKeys 는 SCAN 하지 않음)
+    private volatile boolean legacyKeysDrained;
+
+    public VideoProgressDto get(Long userId, Long videoId) {
+        return getAll(userId, List.of(videoId)).get(videoId);
+    }
+
+    /**
+     * 여러 영상의 진도율 조회 (Redis 왕복 한 번)
+     *
+     * @return videoId → 진도율 (Redis 에 없는 영상은 포함하지 않음)
+     */
+    public Map<Long, VideoProgressDto> getAll(Long userId, List<Long> videoIds) {
+        if (videoIds.isEmpty()) {
+            return Map.of();
+        }
+
+        byte[] hashKey = bytes(hashKey(userId));
+        byte[][] fields = new byte[videoIds.size()][];
+        for (int i = 0; i < videoIds.size(); i++) {
+            fields[i] = bytes(String.valueOf(videoIds.get(i)));
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hMGet(hashKey, fields);
+            if (legacyMigrationEnabled) {
+                for (Long videoId : videoIds) {
+                    connection.stringCommands().get(bytes(legacyKey(userId, videoId)));
+                }
+            }
+            return null;
+        }, RedisSerializer.byteArray());
+
+        List<?> hashValues = (List<?>) results.get(0);
+        Map<Long, VideoProgressDto> found = new LinkedHashMap<>();
+        List<VideoProgressDto> migrated = new ArrayList<>();
+        for (int i = 0; i < videoIds.size(); i++) {
+            Long videoId = videoIds.get(i);
+            VideoProgressDto dto = VideoProgressCodec.decode(userId, videoId, (byte[]) hashValues.get(i));
+            if (dto == null && legacyMigrationEnabled) {
+                dto = decodeLegacy((byte[]) results.get(i + 1));
+                if (dto != null) {
+                    migrated.add(dto);
+                }
+            }
+            if (dto != null) {
+                found.put(videoId, dto);
+            }
+        }
+
+        if (!migrated.isEmpty()) {
+            // 이전 키 값은 MySQL 동기화 전일 수 있으므로 동기화 대상으로 등록
+            write(userId, migrated, true);
+            log.debug("이전 형식 진도율 키 이관 - userId: {}, {}건", userId, migrated.size());
+        }
+        return found;
+    }
+
+    /**
+     * 진도율 저장 (해시 갱신 + TTL 연장, 필요 시 MySQL 동기화 대상 등록)
+     *
+     * @param markDirty 스케줄러가 MySQL 로 동기화해야 하면 true (이미 MySQL 에 저장한 값이면 false)
+     */
+    public void save(VideoProgressDto dto, boolean markDirty) {
+        write(dto.getUserId(), List.of(dto), markDirty);
+    }
+
+    /**
+     * MySQL 에서 읽은 진도율 캐싱 (동기화 대상 아님)
+     */
+    public void cache(Long userId, List<VideoProgressDto> progresses) {
+        if (!progresses.isEmpty()) {
+            write(userId, progresses, false);
+        }
+    }
+
+    /**
+     * MySQL 동기화 대상 꺼내기 (SPOP, 꺼낸 항목은 실패 시 markDirty 로 다시 등록)
+     *
+     * @return [userId, videoId] 목록
+     */
+    public List<long[]> popDirty(int count) {
+        List<String> members = stringRedisTemplate.opsForSet().pop(DIRTY_SET_KEY, count);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        List<long[]> entries = new ArrayList<>(members.size());
+        for (String member : members) {
+            int separator = member.indexOf(':');
+            try {
+                entries.add(new long[]{
+                        Long.parseLong(member.substring(0, separator)),
+                        Long.parseLong(member.substring(separator + 1))
+                });
+            } catch (RuntimeException e) {
+                log.warn("잘못된 진도율 동기화 항목 - member: {}", member);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * MySQL 동기화 대상 재등록 (동기화 실패 시)
+     * - 해시 TTL 도 함께 연장하여, 동기화가 밀린 동안 값이 만료되어 유실되지 않도록 함
+     */
+    public void markDirty(Long userId, Long videoId) {
+        byte[] hashKey = bytes(hashKey(userId));
+        byte[] member = bytes(dirtyMember(userId, videoId));
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.setCommands().sAdd(bytes(DIRTY_SET_KEY), member);
+            connection.keyCommands().expire(hashKey, ttlHours * 3600);
+            return null;
+        });
+    }
+
+    /**
+     * 남은 MySQL 동기화 대상 수
+     */
+    public long countDirty() {
+        Long size = stringRedisTemplate.opsForSet().size(DIRTY_SET_KEY);
+        return size != null ? size : 0L;
+    }
+
+    /**
+     * 남아 있는 이전 형식 키를 해시로 이관 (SCAN, 한 번에 limit 개까지)
+     * - 이전 형식 키 패턴(video:progress:{숫자}:{숫자})만 SCAN 하여 새 해시 키는 훑지 않음
+     * - SCAN 을 끝까지 돌았는데 옮길 키가 없으면 이후 호출은 바로 반환 (인스턴스 재시작 시 한 번 더 확인)
+     *
+     * @return 이관한 키 수
+     */
+    public int migrateLegacyKeys(int limit) {
+        if (!legacyMigrationEnabled || legacyKeysDrained) {
+            return 0;
+        }
+
+        Map<Long, List<VideoProgressDto>> byUser = new HashMap<>();
+        int migrated = 0;
+        boolean scanCompleted;
+        ScanOptions options = ScanOptions.scanOptions().match(LEGACY_SCAN_PATTERN).count(500).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext() && migrated < limit) {
+                Matcher matcher = LEGACY_KEY.matcher(cursor.next());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                Object value = redisTemplate.opsForValue().get(matcher.group());
+                if (value instanceof VideoProgressDto dto && dto.getUserId() != null && dto.getVideoId() != null) {
+                    byUser.computeIfAbsent(dto.getUserId(), key -> new ArrayList<>()).add(dto);
+                    migrated++;
+                }
+            }
+            scanCompleted = !cursor.hasNext();
+        }
+
+        byUser.forEach((userId, progresses) -> write(userId, progresses, true));
+        if (scanCompleted && migrated == 0) {
+            legacyKeysDrained = true;
+            log.info("이전 형식 진도율 키 이관 완료 - 이후 SCAN 생략");
+        }
+        return migrated;
+    }
+
+    // HSET + EXPIRE (+ SADD dirty) (+ DEL 이전 키) 를 한 파이프라인으로
+    private void write(Long userId, List<VideoProgressDto> progresses, boolean markDirty) {
+        byte[] hashKey = bytes(hashKey(userId));
+        Map<byte[], byte[]> values = new HashMap<>(progresses.size() * 2);
+        for (VideoProgressDto dto : progresses) {
+            values.put(bytes(String.valueOf(dto.getVideoId())), VideoProgressCodec.encode(dto));
+        }
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hMSet(hashKey, values);
+            connection.keyCommands().expire(hashKey, ttlHours * 3600);
+            if (markDirty) {
+                addDirty(connection, userId, progresses);
+            }
+            if (legacyMigrationEnabled) {
+                byte[][] legacyKeys = progresses.stream()
+                        .map(dto -> bytes(legacyKey(userId, dto.getVideoId())))
+                        .toArray(byte[][]::new);
+                connection.keyCommands().del(legacyKeys);
+            }
+            return null;
+        });
+    }
+
+    private static void addDirty(RedisConnection connection, Long userId, List<VideoProgressDto> progresses) {
+        byte[][] members = progresses.stream()
+                .map(dto -> bytes(dirtyMember(userId, dto.getVideoId())))
+                .toArray(byte[][]::new);
+        connection.setCommands().sAdd(bytes(DIRTY_SET_KEY), members);
+    }
+
+    private VideoProgressDto decodeLegacy(byte[] value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            Object decoded = redisTemplate.getValueSerializer().deserialize(value);
+            return decoded instanceof VideoProgressDto dto ? dto : null;
+        } catch (RuntimeException e) {
+            log.warn("이전 형식 진도율 값 역직렬화 실패", e);
+            return null;
+        }
+    }
+
+    private static String hashKey(Long userId) {
+        return HASH_KEY_PREFIX + userId;
+    }
+
+    private static String legacyKey(Long userId, Long videoId) {
+        return LEGACY_KEY_PREFIX + userId + ":" + videoId;
+    }
+
+    private static String dirtyMember(Long userId, Long videoId) {
+        return userId + ":" + videoId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
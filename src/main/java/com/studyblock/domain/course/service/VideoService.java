@@ -8,6 +8,7 @@ import com.studyblock.domain.course.entity.Video;
 import com.studyblock.domain.course.enums.EncodingStatus;
 import com.studyblock.domain.course.enums.LectureStatus;
 import com.studyblock.domain.course.enums.OwnershipStatus;
+import com.studyblock.domain.course.event.CourseCatalogChangedEvent;
 import com.studyblock.domain.course.event.VideoUploadedEvent;
 import com.studyblock.domain.course.repository.LectureRepository;
 import com.studyblock.domain.course.repository.VideoRepository;
@@ -117,6 +118,7 @@ public class VideoService {
         // 7. 비디오 업로드 완료 이벤트 발행
         log.info("📢 VideoUploadedEvent 발행 - Video ID: {}", savedVideo.getId());
         eventPublisher.publishEvent(new VideoUploadedEvent(savedVideo.getId()));
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(lecture.getCourse().getId()));
 
         // 8. DTO 변환하여 반환
         VideoUploadResponse response = VideoUploadResponse.builder()
@@ -391,6 +393,7 @@ public class VideoService {
         }
         
         log.info("✅ Video 엔티티 DB 삭제 완료 - Video ID: {}", videoId);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(lecture.getCourse().getId()));
         log.info("=== 비디오 삭제 완료 ===");
     }
 
@@ -425,6 +428,7 @@ public class VideoService {
 
         // 변경사항 저장 (@Transactional로 자동 저장되지만 명시적으로 save 호출)
         videoRepository.save(video);
+        eventPublisher.publishEvent(new CourseCatalogChangedEvent(video.getLecture().getCourse().getId()));
 
         // DTO 변환 및 반환
         return VideoResponse.fromSimple(video);
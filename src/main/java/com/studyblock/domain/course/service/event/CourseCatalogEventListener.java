@@ -0,0 +1,32 @@
+package com.studyblock.domain.course.service.event;
+
+import com.studyblock.domain.course.event.CourseCatalogChangedEvent;
+import com.studyblock.domain.course.service.CourseCatalogService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 코스 카탈로그 변경 이벤트 리스너
+ *
+ * 역할:
+ * - 코스/섹션/강의/퀴즈/비디오 쓰기 트랜잭션이 커밋된 후 카탈로그 캐시 무효화
+ * - 커밋 전에 무효화하면 다른 요청이 이전 데이터로 캐시를 다시 채울 수 있으므로 AFTER_COMMIT 사용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CourseCatalogEventListener {
+
+    private final CourseCatalogService courseCatalogService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCourseCatalogChanged(CourseCatalogChangedEvent event) {
+        log.debug("CourseCatalogChangedEvent 수신 - Course ID: {}, Timestamp: {}",
+                event.getCourseId(), event.getTimestamp());
+
+        courseCatalogService.invalidate(event.getCourseId());
+    }
+}
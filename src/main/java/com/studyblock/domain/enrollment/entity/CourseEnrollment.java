@@ -8,6 +8,7 @@ import com.studyblock.domain.payment.entity.Order;
 import com.studyblock.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -16,8 +17,10 @@ import java.time.LocalDateTime;
 /**
  * 수강신청 엔티티
  * Course-level enrollment tracking for full course purchases
+ * - 변경된 컬럼만 UPDATE (completed_lectures_count 는 네이티브 delta 로 증감되므로 전체 행 덮어쓰기 금지)
  */
 @Entity
+@DynamicUpdate
 @Table(name = "course_enrollment",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"user_id", "course_id"})
@@ -33,6 +33,9 @@ import java.time.LocalDateTime;
 @Builder
 public class LectureCompletion extends BaseTimeEntity {
 
+    // 비디오 시청 완료 임계값 (%)
+    private static final BigDecimal VIDEO_COMPLETION_THRESHOLD = new BigDecimal("90.00");
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -120,11 +123,20 @@ public class LectureCompletion extends BaseTimeEntity {
         updateLastAccessed();
 
         // 90% 이상 시청 시 자동으로 완료 처리
-        if (watchPercentage.compareTo(new BigDecimal("90.00")) >= 0 && !this.isCompleted) {
+        if (completesByVideo(watchPercentage)) {
             markAsCompleted(CompletionType.VIDEO_WATCHED);
         }
     }
 
+    /**
+     * 이번 시청률로 미완료 → 완료로 전환되는지 확인
+     * @param watchPercentage 시청률 (0.00 ~ 100.00)
+     * @return 완료 전환 여부
+     */
+    public boolean completesByVideo(BigDecimal watchPercentage) {
+        return !isCompleted() && watchPercentage.compareTo(VIDEO_COMPLETION_THRESHOLD) >= 0;
+    }
+
     /**
      * 퀴즈 점수 업데이트
      * @param score 퀴즈 점수
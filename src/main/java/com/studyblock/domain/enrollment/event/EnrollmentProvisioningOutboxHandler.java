@@ -0,0 +1,43 @@
+package com.studyblock.domain.enrollment.event;
+
+import com.studyblock.domain.enrollment.service.EnrollmentService;
+import com.studyblock.domain.outbox.entity.OutboxEvent;
+import com.studyblock.domain.outbox.enums.OutboxEventType;
+import com.studyblock.domain.outbox.service.OutboxEventHandler;
+import com.studyblock.domain.payment.entity.Order;
+import com.studyblock.domain.payment.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 완료 아웃박스 핸들러 - 수강신청/섹션 소유권 생성
+ * 실패 시 아웃박스 디스패처가 백오프 재시도하므로 결제된 주문의 수강 권한이 유실되지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EnrollmentProvisioningOutboxHandler implements OutboxEventHandler {
+
+    private final EnrollmentService enrollmentService;
+    private final OrderRepository orderRepository;
+
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.PAYMENT_COMPLETED;
+    }
+
+    @Override
+    public String getName() {
+        return "enrollment-provisioning";
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        Order order = orderRepository.findByIdWithItems(event.getAggregateId())
+                .orElseThrow(() -> new IllegalStateException("주문을 찾을 수 없습니다: " + event.getAggregateId()));
+
+        enrollmentService.createEnrollmentsFromOrder(order);
+        log.info("Enrollments provisioned for order: {}", order.getId());
+    }
+}
@@ -0,0 +1,39 @@
+package com.studyblock.domain.enrollment.event;
+
+import com.studyblock.domain.enrollment.service.EnrollmentService;
+import com.studyblock.domain.outbox.entity.OutboxEvent;
+import com.studyblock.domain.outbox.enums.OutboxEventType;
+import com.studyblock.domain.outbox.service.OutboxEventHandler;
+import com.studyblock.domain.payment.entity.Order;
+import com.studyblock.domain.payment.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 완료 아웃박스 핸들러 - 강의 구매 활동 로그 저장
+ */
+@Component
+@RequiredArgsConstructor
+public class PurchaseActivityLogOutboxHandler implements OutboxEventHandler {
+
+    private final EnrollmentService enrollmentService;
+    private final OrderRepository orderRepository;
+
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.PAYMENT_COMPLETED;
+    }
+
+    @Override
+    public String getName() {
+        return "purchase-activity-log";
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        Order order = orderRepository.findByIdWithItems(event.getAggregateId())
+                .orElseThrow(() -> new IllegalStateException("주문을 찾을 수 없습니다: " + event.getAggregateId()));
+
+        enrollmentService.logCoursePurchases(order);
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -154,6 +155,33 @@ public interface CourseEnrollmentRepository extends JpaRepository<CourseEnrollme
      */
     List<CourseEnrollment> findByOrderId(Long orderId);
 
+    /**
+     * 주문의 미취소 수강신청 코스 ID 조회 (행 잠금)
+     * - 일괄 취소 직전에 잠가 두어 실제로 취소되는 코스만 수강생 수에서 차감
+     */
+    @Query(value = "SELECT e.course_id FROM course_enrollment e WHERE e.order_id = :orderId " +
+            "AND e.status <> 'REVOKED' FOR UPDATE",
+            nativeQuery = true)
+    List<Long> findActiveCourseIdsByOrderIdForUpdate(@Param("orderId") Long orderId);
+
+    /**
+     * 주문의 특정 코스 수강신청 일괄 취소 (환불 일괄 반영용)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CourseEnrollment e SET e.status = com.studyblock.domain.enrollment.enums.EnrollmentStatus.REVOKED " +
+            "WHERE e.order.id = :orderId AND e.course.id IN :courseIds " +
+            "AND e.status <> com.studyblock.domain.enrollment.enums.EnrollmentStatus.REVOKED")
+    int revokeByOrderIdAndCourseIdIn(@Param("orderId") Long orderId, @Param("courseIds") List<Long> courseIds);
+
+    /**
+     * 주문의 수강신청 전체 일괄 취소 (전체 환불용)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CourseEnrollment e SET e.status = com.studyblock.domain.enrollment.enums.EnrollmentStatus.REVOKED " +
+            "WHERE e.order.id = :orderId " +
+            "AND e.status <> com.studyblock.domain.enrollment.enums.EnrollmentStatus.REVOKED")
+    int revokeByOrderId(@Param("orderId") Long orderId);
+
     /**
      * 강사의 모든 강좌 수강생 통계
      */
@@ -171,4 +199,35 @@ public interface CourseEnrollmentRepository extends JpaRepository<CourseEnrollme
             "WHERE e.course.id = :courseId " +
             "GROUP BY e.enrollmentSource")
     List<Object[]> countByEnrollmentSource(@Param("courseId") Long courseId);
+
+    /**
+     * 완료 강의 수 원자적 증감 (진도 증분 집계용)
+     * - 엔티티를 읽지 않고 delta 만 반영하여 동시 하트비트 간 lost update 방지
+     */
+    @Modifying
+    @Query(value = "UPDATE course_enrollment " +
+            "SET completed_lectures_count = GREATEST(completed_lectures_count + :delta, 0) " +
+            "WHERE id = :enrollmentId",
+            nativeQuery = true)
+    int adjustCompletedLecturesCount(@Param("enrollmentId") Long enrollmentId, @Param("delta") int delta);
+
+    /**
+     * ID 기준 키셋 조회 (진도 정합성 보정 배치용)
+     */
+    List<CourseEnrollment> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * afterId 이후 limit 건 구간의 마지막 ID 조회 (증분 배치 청크 경계, 없으면 null)
+     * - settledBefore 이후 생성된 첫 행 직전까지만 포함 (워터마크)
+     *   ID 는 커밋 순서와 다를 수 있으므로, 아직 커밋되지 않았을 수 있는 최근 구간은 다음 실행으로 미룸
+     */
+    @Query(value = "SELECT MAX(t.id) FROM (SELECT id FROM course_enrollment WHERE id > :afterId " +
+                   "AND id < COALESCE((SELECT MIN(r.id) FROM course_enrollment r " +
+                   "                   WHERE r.id > :afterId AND r.created_at > :settledBefore), " +
+                   "                  9223372036854775807) " +
+                   "ORDER BY id LIMIT :limit) t",
+           nativeQuery = true)
+    Long findSettledChunkUpperId(@Param("afterId") Long afterId,
+                                 @Param("settledBefore") LocalDateTime settledBefore,
+                                 @Param("limit") int limit);
 }
@@ -1,11 +1,15 @@
 package com.studyblock.domain.enrollment.repository;
 
 import com.studyblock.domain.enrollment.entity.LectureCompletion;
+import com.studyblock.domain.enrollment.enums.CompletionType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +29,19 @@ public interface LectureCompletionRepository extends JpaRepository<LectureComple
      */
     boolean existsByUserIdAndLectureId(Long userId, Long lectureId);
 
+    /**
+     * 미완료 → 완료 조건부 전환
+     * 동시 요청이 같은 행을 전환하면 한 건만 1 을 반환 (완료 카운터 중복 증분 방지)
+     * @return 전환된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("UPDATE LectureCompletion lc " +
+            "SET lc.isCompleted = true, lc.completionType = :completionType, lc.completedAt = :completedAt " +
+            "WHERE lc.id = :id AND lc.isCompleted = false")
+    int markCompletedIfNotCompleted(@Param("id") Long id,
+                                    @Param("completionType") CompletionType completionType,
+                                    @Param("completedAt") LocalDateTime completedAt);
+
     /**
      * 사용자가 완료한 모든 강의 조회
      */
@@ -61,6 +78,14 @@ public interface LectureCompletionRepository extends JpaRepository<LectureComple
             "AND lc.isCompleted = true")
     long countCompletedByEnrollmentId(@Param("enrollmentId") Long enrollmentId);
 
+    /**
+     * 수강신청의 통과한 퀴즈 수 조회 (완료되고 퀴즈 점수가 있는 강의)
+     */
+    @Query("SELECT COUNT(lc) FROM LectureCompletion lc " +
+            "WHERE lc.courseEnrollment.id = :enrollmentId " +
+            "AND lc.isCompleted = true AND lc.quizScore IS NOT NULL")
+    long countCompletedQuizzesByEnrollmentId(@Param("enrollmentId") Long enrollmentId);
+
     /**
      * 수강신청의 전체 강의 수 조회
      */
@@ -121,6 +146,37 @@ public interface LectureCompletionRepository extends JpaRepository<LectureComple
     @Query("SELECT COUNT(l) FROM Lecture l WHERE l.section.id = :sectionId")
     long countTotalLecturesBySectionId(@Param("sectionId") Long sectionId);
 
+    /**
+     * 수강신청의 평균 시청률 조회 (콘텐츠 시청률 재계산용)
+     */
+    @Query("SELECT AVG(lc.videoWatchPercentage) FROM LectureCompletion lc " +
+            "WHERE lc.courseEnrollment.id = :enrollmentId")
+    Double calculateAverageWatchPercentageByEnrollmentId(@Param("enrollmentId") Long enrollmentId);
+
+    /**
+     * 수강신청별 전체/완료 강의 수 및 통과 퀴즈 수 일괄 집계
+     * @return [enrollmentId, total, completed, completedQuizzes]
+     */
+    @Query("SELECT lc.courseEnrollment.id, COUNT(lc), " +
+            "SUM(CASE WHEN lc.isCompleted = true THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN lc.isCompleted = true AND lc.quizScore IS NOT NULL THEN 1 ELSE 0 END) " +
+            "FROM LectureCompletion lc " +
+            "WHERE lc.courseEnrollment.id IN :enrollmentIds " +
+            "GROUP BY lc.courseEnrollment.id")
+    List<Object[]> countCompletionsGroupByEnrollmentIds(@Param("enrollmentIds") Collection<Long> enrollmentIds);
+
+    /**
+     * 사용자/강좌별 완료 강의 수 일괄 집계
+     * @return [userId, courseId, completed]
+     */
+    @Query("SELECT lc.user.id, lc.lecture.section.course.id, COUNT(lc) FROM LectureCompletion lc " +
+            "WHERE lc.isCompleted = true " +
+            "AND lc.user.id IN :userIds " +
+            "AND lc.lecture.section.course.id IN :courseIds " +
+            "GROUP BY lc.user.id, lc.lecture.section.course.id")
+    List<Object[]> countCompletedGroupByUserAndCourse(@Param("userIds") Collection<Long> userIds,
+                                                      @Param("courseIds") Collection<Long> courseIds);
+
     /**
      * 퀴즈를 시도한 강의 완료 정보 조회
      */
@@ -1,7 +1,11 @@
 package com.studyblock.domain.enrollment.repository;
 
 import com.studyblock.domain.enrollment.entity.SectionEnrollment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,5 +26,22 @@ public interface SectionEnrollmentRepository extends JpaRepository<SectionEnroll
      * @return 섹션 수강 정보 리스트
      */
     List<SectionEnrollment> findByUser_Id(Long userId);
-}
 
+    /**
+     * 사용자의 코스 내 모든 섹션 수강 정보의 완료 강의 수 원자적 증감
+     * (섹션 진행률은 코스 전체 기준이므로 같은 코스의 섹션 수강 정보가 함께 변한다)
+     */
+    @Modifying
+    @Query(value = "UPDATE section_enrollment " +
+            "SET completed_lectures_count = GREATEST(completed_lectures_count + :delta, 0) " +
+            "WHERE user_id = :userId AND course_id = :courseId",
+            nativeQuery = true)
+    int adjustCompletedLecturesCount(@Param("userId") Long userId,
+                                     @Param("courseId") Long courseId,
+                                     @Param("delta") int delta);
+
+    /**
+     * ID 기준 키셋 조회 (진도 정합성 보정 배치용)
+     */
+    List<SectionEnrollment> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+}
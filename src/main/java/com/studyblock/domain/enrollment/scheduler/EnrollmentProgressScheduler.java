@@ -0,0 +1,97 @@
+package com.studyblock.domain.enrollment.scheduler;
+
+import com.studyblock.domain.enrollment.service.EnrollmentProgressAggregator;
+import com.studyblock.domain.enrollment.service.EnrollmentProgressAggregator.UserCourseKey;
+import com.studyblock.domain.enrollment.service.EnrollmentProgressService;
+import com.studyblock.domain.enrollment.service.EnrollmentProgressService.ReconciliationChunk;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 수강 진도 스케줄러
+ * - 짧은 주기로 모인 진도 변경을 수강신청별 1회 재계산 (coalescing)
+ * - 새벽에 완료 카운터 정합성 보정
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EnrollmentProgressScheduler {
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final EnrollmentProgressAggregator progressAggregator;
+    private final EnrollmentProgressService progressService;
+
+    /**
+     * 대기 중인 진도 재계산 처리 (기본 5초마다)
+     */
+    @Scheduled(fixedDelayString = "${enrollment.progress.flush-interval-ms:5000}")
+    public void flushPendingProgress() {
+        Map<Long, Boolean> pendingEnrollments = progressAggregator.drainPendingEnrollments();
+        Set<UserCourseKey> pendingSections = progressAggregator.drainPendingSectionProgress();
+
+        if (pendingEnrollments.isEmpty() && pendingSections.isEmpty()) {
+            return;
+        }
+
+        int failCount = 0;
+
+        for (Map.Entry<Long, Boolean> entry : pendingEnrollments.entrySet()) {
+            try {
+                progressService.recalculateEnrollment(entry.getKey(), entry.getValue());
+            } catch (Exception e) {
+                log.error("수강 진도 재계산 실패 - enrollmentId: {}", entry.getKey(), e);
+                failCount++;
+            }
+        }
+
+        for (UserCourseKey key : pendingSections) {
+            try {
+                progressService.recalculateSectionProgress(key.userId(), key.courseId());
+            } catch (Exception e) {
+                log.error("섹션 진도 재계산 실패 - userId: {}, courseId: {}", key.userId(), key.courseId(), e);
+                failCount++;
+            }
+        }
+
+        log.debug("진도 재계산 완료 - 수강신청: {}, 섹션: {}, 실패: {}",
+                pendingEnrollments.size(), pendingSections.size(), failCount);
+    }
+
+    /**
+     * 완료 카운터 정합성 보정 (매일 04:10)
+     */
+    @Scheduled(cron = "${enrollment.progress.reconcile-cron:0 10 4 * * *}")
+    public void reconcileProgressCounters() {
+        log.info("수강 진도 정합성 보정 시작");
+
+        int scanned = 0;
+        int corrected = 0;
+        ReconciliationChunk chunk;
+        Long cursor = 0L;
+        do {
+            chunk = progressService.reconcileEnrollments(cursor, RECONCILE_CHUNK_SIZE);
+            scanned += chunk.scanned();
+            corrected += chunk.corrected();
+            cursor = chunk.lastId();
+        } while (!chunk.last());
+
+        int sectionScanned = 0;
+        int sectionCorrected = 0;
+        cursor = 0L;
+        do {
+            chunk = progressService.reconcileSectionEnrollments(cursor, RECONCILE_CHUNK_SIZE);
+            sectionScanned += chunk.scanned();
+            sectionCorrected += chunk.corrected();
+            cursor = chunk.lastId();
+        } while (!chunk.last());
+
+        log.info("수강 진도 정합성 보정 완료 - 수강신청 {}건 중 {}건, 섹션 {}건 중 {}건 보정",
+                scanned, corrected, sectionScanned, sectionCorrected);
+    }
+}
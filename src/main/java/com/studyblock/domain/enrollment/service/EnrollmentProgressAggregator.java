@@ -0,0 +1,130 @@
+package com.studyblock.domain.enrollment.service;
+
+import com.studyblock.domain.enrollment.repository.CourseEnrollmentRepository;
+import com.studyblock.domain.enrollment.repository.SectionEnrollmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 수강 진도 증분 집계기
+ * - 강의가 완료 임계값을 넘는 순간에만 완료 강의 수를 delta 로 원자적 증감
+ * - 진도율/시청률 재계산은 수강신청 단위로 모아 두었다가 스케줄러가 한 번만 수행 (coalescing)
+ * - 재계산 대상 표시는 트랜잭션 커밋 이후에만 등록
+ * - 대기 목록은 인스턴스 메모리에만 있으므로 재시작 시 유실됨
+ *   (완료 카운터는 DB 에 이미 반영되어 있고, 진도율만 해당 수강신청의 다음 시청 기록 때 다시 계산됨)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EnrollmentProgressAggregator {
+
+    private final CourseEnrollmentRepository enrollmentRepository;
+    private final SectionEnrollmentRepository sectionEnrollmentRepository;
+
+    // enrollmentId -> 완료 카운트 기준 재계산 필요 여부
+    private final ConcurrentMap<Long, Boolean> pendingEnrollments = new ConcurrentHashMap<>();
+    private final Set<UserCourseKey> pendingSectionProgress = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 강의 완료 상태 변화 반영
+     * @param userId 사용자 ID
+     * @param courseId 강좌 ID
+     * @param enrollmentId 수강신청 ID (섹션 구매만 한 경우 null)
+     * @param delta 완료 강의 수 변화량 (+1: 완료, -1: 완료 취소)
+     */
+    public void applyCompletionDelta(Long userId, Long courseId, Long enrollmentId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+
+        if (enrollmentId != null) {
+            enrollmentRepository.adjustCompletedLecturesCount(enrollmentId, delta);
+        }
+        if (userId != null && courseId != null) {
+            sectionEnrollmentRepository.adjustCompletedLecturesCount(userId, courseId, delta);
+        }
+
+        afterCommit(() -> {
+            if (enrollmentId != null) {
+                pendingEnrollments.merge(enrollmentId, Boolean.TRUE, Boolean::logicalOr);
+            }
+            if (userId != null && courseId != null) {
+                pendingSectionProgress.add(new UserCourseKey(userId, courseId));
+            }
+        });
+    }
+
+    /**
+     * 시청 기록 반영 (완료 카운트 변화 없음)
+     * @param enrollmentId 수강신청 ID
+     * @param recountByCompletion 완료 카운트 기준으로 진도율을 재계산할지 여부
+     */
+    public void markViewed(Long enrollmentId, boolean recountByCompletion) {
+        if (enrollmentId == null) {
+            return;
+        }
+        afterCommit(() -> pendingEnrollments.merge(enrollmentId, recountByCompletion, Boolean::logicalOr));
+    }
+
+    /**
+     * 재계산 대기 중인 수강신청 목록을 꺼내고 비움
+     * @return enrollmentId -> 완료 카운트 기준 재계산 필요 여부
+     */
+    public Map<Long, Boolean> drainPendingEnrollments() {
+        Map<Long, Boolean> drained = new HashMap<>();
+        for (Long enrollmentId : pendingEnrollments.keySet()) {
+            Boolean recount = pendingEnrollments.remove(enrollmentId);
+            if (recount != null) {
+                drained.put(enrollmentId, recount);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 재계산 대기 중인 섹션 진행률 목록을 꺼내고 비움
+     * @return (userId, courseId) 목록
+     */
+    public Set<UserCourseKey> drainPendingSectionProgress() {
+        Set<UserCourseKey> drained = new HashSet<>();
+        for (UserCourseKey key : pendingSectionProgress) {
+            if (pendingSectionProgress.remove(key)) {
+                drained.add(key);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 대기 중인 재계산 건수 (모니터링용)
+     */
+    public int pendingCount() {
+        return pendingEnrollments.size() + pendingSectionProgress.size();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    public record UserCourseKey(Long userId, Long courseId) {
+    }
+}
@@ -0,0 +1,209 @@
+package com.studyblock.domain.enrollment.service;
+
+import com.studyblock.domain.course.repository.LectureRepository;
+import com.studyblock.domain.enrollment.entity.CourseEnrollment;
+import com.studyblock.domain.enrollment.entity.SectionEnrollment;
+import com.studyblock.domain.enrollment.repository.CourseEnrollmentRepository;
+import com.studyblock.domain.enrollment.repository.LectureCompletionRepository;
+import com.studyblock.domain.enrollment.repository.SectionEnrollmentRepository;
+import com.studyblock.domain.enrollment.service.EnrollmentProgressAggregator.UserCourseKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 수강 진도 재계산 서비스
+ * - 집계기에 모인 수강신청을 건별로 한 번만 재계산
+ * - 완료 카운터 정합성 보정 (GROUP BY 집계와 비교하여 drift 수정)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class EnrollmentProgressService {
+
+    private final CourseEnrollmentRepository enrollmentRepository;
+    private final SectionEnrollmentRepository sectionEnrollmentRepository;
+    private final LectureCompletionRepository lectureCompletionRepository;
+    private final LectureRepository lectureRepository;
+
+    /**
+     * 수강신청 진도율/콘텐츠 시청률 재계산
+     * - 완료 강의 카운터는 다시 쓰지 않음 (CourseEnrollment 는 @DynamicUpdate 라 변경된 진도 컬럼만 UPDATE)
+     * - 완료 카운트 기준 재계산이면 통과한 퀴즈 수도 다시 세어 반영 (퀴즈 통과가 모인 수강신청당 한 번)
+     * @param enrollmentId 수강신청 ID
+     * @param recountByCompletion true 면 완료 카운트 기준, false 면 콘텐츠 시청률 기준으로 진도율 반영
+     */
+    @Transactional
+    public void recalculateEnrollment(Long enrollmentId, boolean recountByCompletion) {
+        CourseEnrollment enrollment = enrollmentRepository.findById(enrollmentId).orElse(null);
+        if (enrollment == null) {
+            return;
+        }
+
+        enrollment.markContentViewed();
+
+        Double averageWatch = lectureCompletionRepository.calculateAverageWatchPercentageByEnrollmentId(enrollmentId);
+        if (averageWatch != null) {
+            enrollment.updateContentViewPercentage(
+                    BigDecimal.valueOf(averageWatch).setScale(2, RoundingMode.HALF_UP));
+        }
+
+        if (recountByCompletion) {
+            int completedQuizzes = (int) lectureCompletionRepository.countCompletedQuizzesByEnrollmentId(enrollmentId);
+            enrollment.updateQuizCompletion(completedQuizzes, enrollment.getTotalQuizzesCount());
+            enrollment.updateLectureCompletion(
+                    enrollment.getCompletedLecturesCount(), enrollment.getTotalLecturesCount());
+        } else {
+            enrollment.updateProgress(enrollment.getContentViewPercentage());
+        }
+
+        log.debug("수강 진도 재계산 - enrollmentId={}, progress={}%, contentView={}%",
+                enrollmentId, enrollment.getProgressPercentage(), enrollment.getContentViewPercentage());
+    }
+
+    /**
+     * 사용자의 코스 내 섹션 수강 진행률 재계산 (증감된 완료 카운터 기준)
+     * @param userId 사용자 ID
+     * @param courseId 강좌 ID
+     */
+    @Transactional
+    public void recalculateSectionProgress(Long userId, Long courseId) {
+        List<SectionEnrollment> sectionEnrollments = sectionEnrollmentRepository.findByUser_IdAndCourse_Id(userId, courseId);
+        for (SectionEnrollment sectionEnrollment : sectionEnrollments) {
+            sectionEnrollment.updateLectureCompletion(
+                    sectionEnrollment.getCompletedLecturesCount(), sectionEnrollment.getTotalLecturesCount());
+        }
+    }
+
+    /**
+     * 수강신청 완료 카운터 정합성 보정 (청크 단위)
+     * @param afterId 이전 청크의 마지막 ID (처음은 0)
+     * @param chunkSize 청크 크기
+     * @return 청크 처리 결과
+     */
+    @Transactional
+    public ReconciliationChunk reconcileEnrollments(Long afterId, int chunkSize) {
+        List<CourseEnrollment> enrollments = enrollmentRepository
+                .findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, chunkSize));
+        if (enrollments.isEmpty()) {
+            return ReconciliationChunk.end(afterId);
+        }
+
+        List<Long> enrollmentIds = enrollments.stream().map(CourseEnrollment::getId).toList();
+        Map<Long, long[]> countsByEnrollment = new HashMap<>();
+        for (Object[] row : lectureCompletionRepository.countCompletionsGroupByEnrollmentIds(enrollmentIds)) {
+            countsByEnrollment.put((Long) row[0], new long[]{
+                    ((Number) row[1]).longValue(),
+                    ((Number) row[2]).longValue(),
+                    ((Number) row[3]).longValue()
+            });
+        }
+
+        int corrected = 0;
+        for (CourseEnrollment enrollment : enrollments) {
+            long[] counts = countsByEnrollment.get(enrollment.getId());
+            if (counts == null) {
+                continue;
+            }
+
+            int total = (int) counts[0];
+            int completed = (int) counts[1];
+            int completedQuizzes = (int) counts[2];
+
+            if (enrollment.getTotalLecturesCount() != total
+                    || enrollment.getCompletedLecturesCount() != completed
+                    || enrollment.getCompletedQuizzesCount() != completedQuizzes) {
+                log.warn("수강 진도 카운터 보정 - enrollmentId={}, lectures {}/{} -> {}/{}, quizzes {} -> {}",
+                        enrollment.getId(),
+                        enrollment.getCompletedLecturesCount(), enrollment.getTotalLecturesCount(),
+                        completed, total,
+                        enrollment.getCompletedQuizzesCount(), completedQuizzes);
+                enrollment.updateLectureCompletion(completed, total);
+                enrollment.updateQuizCompletion(completedQuizzes, enrollment.getTotalQuizzesCount());
+                corrected++;
+            }
+        }
+
+        Long lastId = enrollmentIds.get(enrollmentIds.size() - 1);
+        return new ReconciliationChunk(lastId, enrollments.size(), corrected, enrollments.size() < chunkSize);
+    }
+
+    /**
+     * 섹션 수강 완료 카운터 정합성 보정 (청크 단위)
+     * @param afterId 이전 청크의 마지막 ID (처음은 0)
+     * @param chunkSize 청크 크기
+     * @return 청크 처리 결과
+     */
+    @Transactional
+    public ReconciliationChunk reconcileSectionEnrollments(Long afterId, int chunkSize) {
+        List<SectionEnrollment> sectionEnrollments = sectionEnrollmentRepository
+                .findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, chunkSize));
+        if (sectionEnrollments.isEmpty()) {
+            return ReconciliationChunk.end(afterId);
+        }
+
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> courseIds = new HashSet<>();
+        for (SectionEnrollment sectionEnrollment : sectionEnrollments) {
+            userIds.add(sectionEnrollment.getUser().getId());
+            courseIds.add(sectionEnrollment.getCourse().getId());
+        }
+
+        Map<UserCourseKey, Long> completedByUserCourse = new HashMap<>();
+        for (Object[] row : lectureCompletionRepository.countCompletedGroupByUserAndCourse(userIds, courseIds)) {
+            completedByUserCourse.put(new UserCourseKey((Long) row[0], (Long) row[1]), ((Number) row[2]).longValue());
+        }
+
+        Map<Long, Long> lecturesByCourse = new HashMap<>();
+        for (Object[] row : lectureRepository.countGroupByCourseIds(courseIds)) {
+            lecturesByCourse.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+
+        int corrected = 0;
+        for (SectionEnrollment sectionEnrollment : sectionEnrollments) {
+            Long userId = sectionEnrollment.getUser().getId();
+            Long courseId = sectionEnrollment.getCourse().getId();
+            int completed = completedByUserCourse.getOrDefault(new UserCourseKey(userId, courseId), 0L).intValue();
+            int total = lecturesByCourse.getOrDefault(courseId, 0L).intValue();
+
+            if (sectionEnrollment.getCompletedLecturesCount() != completed
+                    || sectionEnrollment.getTotalLecturesCount() != total) {
+                log.warn("섹션 진도 카운터 보정 - sectionEnrollmentId={}, lectures {}/{} -> {}/{}",
+                        sectionEnrollment.getId(),
+                        sectionEnrollment.getCompletedLecturesCount(), sectionEnrollment.getTotalLecturesCount(),
+                        completed, total);
+                sectionEnrollment.updateLectureCompletion(completed, total);
+                corrected++;
+            }
+        }
+
+        Long lastId = sectionEnrollments.get(sectionEnrollments.size() - 1).getId();
+        return new ReconciliationChunk(lastId, sectionEnrollments.size(), corrected,
+                sectionEnrollments.size() < chunkSize);
+    }
+
+    /**
+     * 정합성 보정 청크 결과
+     * @param lastId 처리한 마지막 ID (다음 청크 커서)
+     * @param scanned 검사한 건수
+     * @param corrected 보정한 건수
+     * @param last 마지막 청크 여부
+     */
+    public record ReconciliationChunk(Long lastId, int scanned, int corrected, boolean last) {
+
+        static ReconciliationChunk end(Long afterId) {
+            return new ReconciliationChunk(afterId, 0, 0, true);
+        }
+    }
+}
@@ -5,8 +5,10 @@ import com.studyblock.domain.activitylog.service.ActivityLogService;
 import com.studyblock.domain.course.entity.Course;
 import com.studyblock.domain.course.entity.Lecture;
 import com.studyblock.domain.course.entity.Section;
+import com.studyblock.domain.course.enums.CourseCounterType;
 import com.studyblock.domain.course.repository.CourseRepository;
 import com.studyblock.domain.course.repository.LectureRepository;
+import com.studyblock.domain.course.service.CourseCounterService;
 import com.studyblock.domain.course.service.LectureOwnershipService;
 import com.studyblock.domain.enrollment.dto.EnrollmentResponse;
 import com.studyblock.domain.enrollment.entity.CourseEnrollment;
@@ -58,6 +60,8 @@ public class EnrollmentService {
     private final LectureOwnershipService lectureOwnershipService;
     private final SectionEnrollmentService sectionEnrollmentService;
     private final ActivityLogService activityLogService;
+    private final EnrollmentProgressAggregator progressAggregator;
+    private final CourseCounterService courseCounterService;
 
     private static final BigDecimal ONE_HUNDRED = new BigDecimal("100.00");
 
@@ -91,6 +95,12 @@ public class EnrollmentService {
             }
             // SECTION 타입: LectureOwnership 생성
             else if (item.getItemType() == ItemType.SECTION && item.getSection() != null) {
+                // 다른 빈의 트랜잭션 메서드에서 예외가 나면 현재 트랜잭션이 rollback-only 가 되므로 미리 확인
+                if (lectureOwnershipService.hasActiveOwnership(order.getUser(), item.getSection())) {
+                    log.info("LectureOwnership 이미 존재 - User: {}, Section: {}, Order: {}",
+                            order.getUser().getId(), item.getSection().getId(), order.getOrderNumber());
+                    continue;
+                }
                 try {
                     lectureOwnershipService.createOwnership(
                             order.getUser(),
@@ -109,7 +119,16 @@ public class EnrollmentService {
         log.info("Order {} 처리 완료 - CourseEnrollment: {}, LectureOwnership: {}",
                 order.getId(), enrollments.size(), sectionOwnershipCount);
 
-        // 로그 저장
+        return enrollments;
+    }
+
+    /**
+     * 강의 구매 활동 로그 저장
+     * - 수강신청 생성과 별도 아웃박스 핸들러로 실행되어 수강신청 재시도 시 로그가 중복되지 않음
+     * @param order 주문 정보
+     */
+    @Transactional
+    public void logCoursePurchases(Order order) {
         List<OrderItem> orderItems = order.getOrderItems();
         for (OrderItem item : orderItems) {
             if (item.getCourse() != null) {
@@ -132,8 +151,6 @@ public class EnrollmentService {
                 );
             }
         }
-
-        return enrollments;
     }
 
     /**
@@ -171,9 +188,8 @@ public class EnrollmentService {
 
         enrollment = enrollmentRepository.save(enrollment);
 
-        // 강좌 수강생 수 증가
-        course.increaseEnrollmentCount();
-        courseRepository.save(course);
+        // 강좌 수강생 수 증가 (stripe 카운터에 누적, course 행은 잠그지 않음)
+        courseCounterService.increment(CourseCounterType.ENROLLMENT, course.getId(), 1);
 
         // 강의 완료 추적 초기화
         initializeLectureCompletions(enrollment);
@@ -220,9 +236,8 @@ public class EnrollmentService {
 
         enrollment = enrollmentRepository.save(enrollment);
 
-        // 강좌 수강생 수 증가
-        course.increaseEnrollmentCount();
-        courseRepository.save(course);
+        // 강좌 수강생 수 증가 (stripe 카운터에 누적, course 행은 잠그지 않음)
+        courseCounterService.increment(CourseCounterType.ENROLLMENT, course.getId(), 1);
 
         // 강의 완료 추적 초기화
         initializeLectureCompletions(enrollment);
@@ -262,9 +277,8 @@ public class EnrollmentService {
 
         enrollment = enrollmentRepository.save(enrollment);
 
-        // 강좌 수강생 수 증가
-        course.increaseEnrollmentCount();
-        courseRepository.save(course);
+        // 강좌 수강생 수 증가 (stripe 카운터에 누적, course 행은 잠그지 않음)
+        courseCounterService.increment(CourseCounterType.ENROLLMENT, course.getId(), 1);
 
         // 강의 완료 추적 초기화
         initializeLectureCompletions(enrollment);
@@ -457,14 +471,13 @@ public class EnrollmentService {
             return; // 이미 완료됨
         }
 
+        boolean claimed = claimCompletion(completion, completionType);
         completion.markAsCompleted(completionType);
         lectureCompletionRepository.save(completion);
 
-        sectionEnrollmentService.updateProgressByLecture(userId, completion.getLecture());
-
-        // 수강신청 진도율 업데이트
-        if (completion.getCourseEnrollment() != null) {
-            updateEnrollmentProgress(completion.getCourseEnrollment().getId());
+        // 완료 카운터 증분 (진도율 재계산은 집계기에서 수강신청별로 모아서 처리)
+        if (claimed) {
+            applyCompletionDelta(completion, 1);
         }
 
         log.info("Lecture completed: userId={}, lectureId={}, type={}",
@@ -483,34 +496,24 @@ public class EnrollmentService {
                                      BigDecimal watchPercentage, int timeSpentSeconds) {
         LectureCompletion completion = getOrCreateLectureCompletion(userId, lectureId);
 
+        // 90% 임계값을 처음 넘은 경우에만 완료 카운터 증분 (동시 요청 중 DB 전환에 성공한 한 건만)
+        boolean claimed = completion.completesByVideo(watchPercentage)
+                && claimCompletion(completion, CompletionType.VIDEO_WATCHED);
+
         completion.updateVideoProgress(watchPercentage, timeSpentSeconds);
         lectureCompletionRepository.save(completion);
 
-        sectionEnrollmentService.updateProgressByLecture(userId, completion.getLecture());
+        if (claimed) {
+            applyCompletionDelta(completion, 1);
+        }
 
-        // 수강신청의 마지막 접속 시간 및 콘텐츠 시청 업데이트
+        // 마지막 접속 시간, 콘텐츠 시청률, 진도율은 수강신청별로 모아서 재계산 (하트비트마다 재계산하지 않음)
         if (completion.getCourseEnrollment() != null) {
-            CourseEnrollment enrollment = completion.getCourseEnrollment();
-            enrollment.markContentViewed();
-
-            // 콘텐츠 시청률 재계산
-            updateContentViewPercentage(enrollment.getId());
-
-            // 진도율을 콘텐츠 시청률과 동기화 (실시간 반영)
-            enrollment = enrollmentRepository.findById(enrollment.getId())
-                    .orElseThrow(() -> new IllegalArgumentException("수강신청을 찾을 수 없습니다."));
-            enrollment.updateProgress(enrollment.getContentViewPercentage());
-
-            enrollmentRepository.save(enrollment);
-
-            log.info("비디오 진도율 업데이트 완료 - userId: {}, lectureId: {}, watchPercentage: {}%, courseProgress: {}%",
-                    userId, lectureId, watchPercentage, enrollment.getProgressPercentage());
+            progressAggregator.markViewed(completion.getCourseEnrollment().getId(), completion.isCompleted());
         }
 
-        // 90% 이상 시청 시 자동으로 진도율 업데이트
-        if (completion.isCompleted() && completion.getCourseEnrollment() != null) {
-            updateEnrollmentProgress(completion.getCourseEnrollment().getId());
-        }
+        log.debug("비디오 진도율 업데이트 - userId: {}, lectureId: {}, watchPercentage: {}%, completed: {}",
+                userId, lectureId, watchPercentage, completion.isCompleted());
     }
 
     /**
@@ -526,20 +529,48 @@ public class EnrollmentService {
                 .findByUserIdAndLectureId(userId, lectureId)
                 .orElseThrow(() -> new IllegalArgumentException("강의 완료 정보를 찾을 수 없습니다."));
 
+        boolean claimed = passed && !completion.isCompleted()
+                && claimCompletion(completion, CompletionType.QUIZ_PASSED);
+
         completion.updateQuizScore(score, passed);
         lectureCompletionRepository.save(completion);
 
-        sectionEnrollmentService.updateProgressByLecture(userId, completion.getLecture());
+        if (claimed) {
+            applyCompletionDelta(completion, 1);
+        }
 
-        // 퀴즈 통과 시 진도율 업데이트
-        if (passed && completion.getCourseEnrollment() != null) {
-            updateEnrollmentProgress(completion.getCourseEnrollment().getId());
+        // 통과한 퀴즈 수와 진도율은 집계기에서 수강신청별로 모아서 재계산 (동기 재집계 없음)
+        // 이미 완료된 강의의 퀴즈 점수도 통과 퀴즈 수에 포함되므로 함께 등록
+        if ((passed || completion.isCompleted()) && completion.getCourseEnrollment() != null) {
+            progressAggregator.markViewed(completion.getCourseEnrollment().getId(), true);
         }
 
         log.info("Quiz result updated: userId={}, lectureId={}, score={}, passed={}",
                 userId, lectureId, score, passed);
     }
 
+    /**
+     * 조건부 UPDATE 로 미완료 → 완료 전환을 선점
+     * 엔티티를 완료로 바꾸기 전에 호출해야 함 (먼저 바꾸면 자동 flush 로 조건이 항상 거짓)
+     * @return 이 요청이 전환에 성공했는지 여부
+     */
+    private boolean claimCompletion(LectureCompletion completion, CompletionType completionType) {
+        return lectureCompletionRepository.markCompletedIfNotCompleted(
+                completion.getId(), completionType, LocalDateTime.now()) == 1;
+    }
+
+    private void applyCompletionDelta(LectureCompletion completion, int delta) {
+        Long enrollmentId = completion.getCourseEnrollment() != null
+                ? completion.getCourseEnrollment().getId()
+                : null;
+        progressAggregator.applyCompletionDelta(
+                completion.getUser().getId(),
+                completion.getLecture().getCourse().getId(),
+                enrollmentId,
+                delta
+        );
+    }
+
     private LectureCompletion getOrCreateLectureCompletion(Long userId, Long lectureId) {
         return lectureCompletionRepository.findByUserIdAndLectureId(userId, lectureId)
                 .orElseGet(() -> createLectureCompletionWithBackfill(userId, lectureId));
@@ -726,9 +757,7 @@ public class EnrollmentService {
         enrollmentRepository.save(enrollment);
 
         // 강좌 수강생 수 감소
-        Course course = enrollment.getCourse();
-        course.decreaseEnrollmentCount();
-        courseRepository.save(course);
+        courseCounterService.increment(CourseCounterType.ENROLLMENT, enrollment.getCourse().getId(), -1);
 
         log.info("Enrollment cancelled: enrollmentId={}, userId={}", enrollmentId, userId);
         return enrollment;
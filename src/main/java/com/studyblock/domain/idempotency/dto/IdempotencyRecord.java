@@ -0,0 +1,107 @@
+package com.studyblock.domain.idempotency.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 멱등성 키 상태 (Redis 값 / DB 감사 기록 공통)
+ * - Redis 에는 짧은 필드명 JSON 으로 저장
+ * - responseSnapshot 은 크기가 크면 gzip + Base64 로 압축된 상태 (compressed = true)
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    public static final String PENDING = "PENDING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    // 상태 순위 (감사 기록 upsert 의 FIELD() 인자, 늦게 도착한 낮은 순위 상태가 최종 상태를 덮지 않도록 사용)
+    public static final String STATUS_ORDER = "'PENDING', 'FAILED', 'COMPLETED'";
+
+    @JsonProperty("k")
+    private String idempotencyKey;
+
+    @JsonProperty("u")
+    private Long userId;
+
+    @JsonProperty("s")
+    private String status;
+
+    @JsonProperty("h")
+    private String requestHash;
+
+    @JsonProperty("r")
+    private String responseSnapshot;
+
+    @JsonProperty("z")
+    private boolean compressed;
+
+    @JsonProperty("c")
+    private long createdAtMillis;
+
+    @JsonProperty("e")
+    private long expiresAtMillis;
+
+    @JsonIgnore
+    public boolean isCompleted() {
+        return COMPLETED.equals(status);
+    }
+
+    @JsonIgnore
+    public boolean isPending() {
+        return PENDING.equals(status);
+    }
+
+    @JsonIgnore
+    public boolean isFailed() {
+        return FAILED.equals(status);
+    }
+
+    /**
+     * STATUS_ORDER 기준 1부터 시작하는 상태 순위 (알 수 없는 상태는 0, MySQL FIELD() 와 동일)
+     */
+    @JsonIgnore
+    public int getStatusRank() {
+        if (status == null) {
+            return 0;
+        }
+        return switch (status) {
+            case PENDING -> 1;
+            case FAILED -> 2;
+            case COMPLETED -> 3;
+            default -> 0;
+        };
+    }
+
+    @JsonIgnore
+    public boolean isExpired() {
+        return expiresAtMillis > 0 && expiresAtMillis < System.currentTimeMillis();
+    }
+
+    @JsonIgnore
+    public LocalDateTime getCreatedAt() {
+        return toLocalDateTime(createdAtMillis);
+    }
+
+    @JsonIgnore
+    public LocalDateTime getExpiresAt() {
+        return toLocalDateTime(expiresAtMillis);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return epochMillis > 0
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault())
+                : null;
+    }
+}
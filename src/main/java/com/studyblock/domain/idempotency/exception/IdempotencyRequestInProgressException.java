@@ -0,0 +1,20 @@
+package com.studyblock.domain.idempotency.exception;
+
+/**
+ * 같은 멱등성 키의 요청이 아직 처리 중일 때 발생하는 예외
+ * - 기존 IllegalStateException 처리 흐름(재던지기)을 그대로 타도록 상속
+ * - GlobalExceptionHandler 에서 HTTP 409 (Conflict) 로 응답
+ */
+public class IdempotencyRequestInProgressException extends IllegalStateException {
+
+    private final String idempotencyKey;
+
+    public IdempotencyRequestInProgressException(String idempotencyKey) {
+        super("같은 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+}
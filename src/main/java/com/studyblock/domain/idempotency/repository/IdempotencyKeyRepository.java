@@ -1,7 +1,9 @@
 package com.studyblock.domain.idempotency.repository;
 
+import com.studyblock.domain.idempotency.dto.IdempotencyRecord;
 import com.studyblock.domain.idempotency.entity.IdempotencyKey;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -61,5 +63,55 @@ public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey,
     // 정리 대상 키 조회 (만료되고 사용되지 않은 오래된 키)
     @Query("SELECT ik FROM IdempotencyKey ik WHERE ik.expiresAt < :thresholdDate AND ik.status <> 'USED'")
     List<IdempotencyKey> findKeysToCleanup(@Param("thresholdDate") LocalDateTime thresholdDate);
+
+    // 감사 기록 반영 (Redis 상태를 비동기로 내려씀)
+    // - 기록 순서가 뒤바뀔 수 있으므로 저장된 상태보다 순위가 낮은 상태(예: COMPLETED 뒤에 도착한 PENDING)는
+    //   상태 / 응답 / 만료 시각을 덮지 않음. status 는 비교에 쓰이므로 마지막에 갱신
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (user_id, idempotency_key, request_hash, response_snapshot, status, created_at, expires_at) " +
+                   "VALUES (:userId, :key, :requestHash, :responseSnapshot, :status, :createdAt, :expiresAt) " +
+                   "ON DUPLICATE KEY UPDATE request_hash = COALESCE(VALUES(request_hash), request_hash), " +
+                   "response_snapshot = IF(:statusRank >= FIELD(status, " + IdempotencyRecord.STATUS_ORDER + "), " +
+                   "COALESCE(VALUES(response_snapshot), response_snapshot), response_snapshot), " +
+                   "expires_at = IF(:statusRank >= FIELD(status, " + IdempotencyRecord.STATUS_ORDER + "), " +
+                   "VALUES(expires_at), expires_at), " +
+                   "status = IF(:statusRank >= FIELD(status, " + IdempotencyRecord.STATUS_ORDER + "), " +
+                   "VALUES(status), status)",
+           nativeQuery = true)
+    int upsertAudit(@Param("userId") Long userId,
+                    @Param("key") String key,
+                    @Param("requestHash") String requestHash,
+                    @Param("responseSnapshot") String responseSnapshot,
+                    @Param("status") String status,
+                    @Param("statusRank") int statusRank,
+                    @Param("createdAt") LocalDateTime createdAt,
+                    @Param("expiresAt") LocalDateTime expiresAt);
+
+    // Redis 장애 시 선점 (일반 INSERT, 같은 키가 이미 있으면 unique 제약 위반으로 실패)
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (user_id, idempotency_key, request_hash, status, created_at, expires_at) " +
+                   "VALUES (:userId, :key, :requestHash, '" + IdempotencyRecord.PENDING + "', :createdAt, :expiresAt)",
+           nativeQuery = true)
+    int insertPending(@Param("userId") Long userId,
+                      @Param("key") String key,
+                      @Param("requestHash") String requestHash,
+                      @Param("createdAt") LocalDateTime createdAt,
+                      @Param("expiresAt") LocalDateTime expiresAt);
+
+    // Redis 장애 시 실패한 키 재선점 (FAILED 인 행만 PENDING 으로 교체, 동시 재시도 중 하나만 1 을 받음)
+    @Modifying
+    @Query(value = "UPDATE idempotency_keys SET request_hash = COALESCE(:requestHash, request_hash), " +
+                   "response_snapshot = NULL, expires_at = :expiresAt, status = '" + IdempotencyRecord.PENDING + "' " +
+                   "WHERE idempotency_key = :key AND status = '" + IdempotencyRecord.FAILED + "'",
+           nativeQuery = true)
+    int reclaimFailed(@Param("key") String key,
+                      @Param("requestHash") String requestHash,
+                      @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 만료된 키 삭제 (배치 단위, idx_idempotency_keys_expires 범위 조회)
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_keys WHERE expires_at < :now ORDER BY expires_at LIMIT :limit",
+           nativeQuery = true)
+    int deleteExpiredBefore(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
 
@@ -0,0 +1,47 @@
+package com.studyblock.domain.idempotency.scheduler;
+
+import com.studyblock.domain.idempotency.service.IdempotencyKeyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등성 키 감사 기록 정리 스케줄러
+ * - 만료(expires_at)가 지난 행을 배치 단위로 삭제해 테이블이 계속 커지지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyKeyPurgeScheduler {
+
+    private final IdempotencyKeyService idempotencyKeyService;
+
+    @Value("${idempotency.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    /**
+     * 만료 키 정리 (기본 매일 04:50)
+     */
+    @Scheduled(cron = "${idempotency.purge-cron:0 50 4 * * *}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        try {
+            int deleted;
+            do {
+                deleted = idempotencyKeyService.purgeExpired(now, purgeBatchSize);
+                total += deleted;
+            } while (deleted == purgeBatchSize);
+        } catch (Exception e) {
+            log.error("멱등성 키 만료 기록 정리 실패 - 삭제된 건수: {}", total, e);
+        }
+
+        if (total > 0) {
+            log.info("멱등성 키 만료 기록 정리 완료 - {}건 삭제", total);
+        }
+    }
+}
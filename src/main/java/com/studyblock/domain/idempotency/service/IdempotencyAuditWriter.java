@@ -0,0 +1,102 @@
+package com.studyblock.domain.idempotency.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyblock.domain.idempotency.dto.IdempotencyRecord;
+import com.studyblock.domain.idempotency.repository.IdempotencyKeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등성 키 감사 기록 (MySQL)
+ * - 요청 경로는 Redis 만 사용하고, 이 클래스가 상태 변경을 단일 스레드 Executor 에서 순서대로 upsert
+ * - 인스턴스 간 / 동기 기록과의 순서 역전은 upsert 의 상태 순위 비교로 막음 (IdempotencyRecord.STATUS_ORDER)
+ * - 기록 실패는 요청 결과에 영향을 주지 않음 (Redis 가 판단 기준, 실패는 비동기 예외 핸들러가 로그로 남김)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyAuditWriter {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Redis 상태를 감사 테이블에 반영
+     * @param record 반영할 상태 (responseSnapshot 은 압축 해제된 원문)
+     */
+    @Async("idempotencyAuditExecutor")
+    @Transactional
+    public void record(IdempotencyRecord record) {
+        upsert(record);
+        log.debug("멱등성 키 감사 기록 - key: {}, status: {}", record.getIdempotencyKey(), record.getStatus());
+    }
+
+    /**
+     * Redis 장애 시 동기 기록 (호출한 트랜잭션이 롤백되어도 남도록 별도 트랜잭션)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordNow(IdempotencyRecord record) {
+        upsert(record);
+    }
+
+    /**
+     * Redis 장애 시 선점 (별도 트랜잭션의 일반 INSERT)
+     * - 같은 키가 이미 있으면 DataIntegrityViolationException (호출자가 처리 중으로 판단)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void claimNow(IdempotencyRecord record) {
+        idempotencyKeyRepository.insertPending(
+                record.getUserId(),
+                record.getIdempotencyKey(),
+                record.getRequestHash(),
+                record.getCreatedAt() != null ? record.getCreatedAt() : LocalDateTime.now(),
+                record.getExpiresAt());
+    }
+
+    /**
+     * Redis 장애 시 실패한 키 재선점 (별도 트랜잭션)
+     * @return 재선점에 성공했으면 true, 다른 요청이 먼저 재선점했으면 false
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean reclaimFailedNow(IdempotencyRecord record) {
+        return idempotencyKeyRepository.reclaimFailed(
+                record.getIdempotencyKey(),
+                record.getRequestHash(),
+                record.getExpiresAt()) == 1;
+    }
+
+    private void upsert(IdempotencyRecord record) {
+        idempotencyKeyRepository.upsertAudit(
+                record.getUserId(),
+                record.getIdempotencyKey(),
+                record.getRequestHash(),
+                toJsonColumn(record.getResponseSnapshot()),
+                record.getStatus(),
+                record.getStatusRank(),
+                record.getCreatedAt() != null ? record.getCreatedAt() : LocalDateTime.now(),
+                record.getExpiresAt());
+    }
+
+    // response_snapshot 은 JSON 컬럼이므로 일반 문자열(에러 사유 등)은 JSON 문자열로 감쌈
+    private String toJsonColumn(String snapshot) {
+        if (snapshot == null) {
+            return null;
+        }
+        String trimmed = snapshot.trim();
+        if (trimmed.startsWith("{") || trimmed.startsWith("[")) {
+            return snapshot;
+        }
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
@@ -1,20 +1,28 @@
 package com.studyblock.domain.idempotency.service;
 
+import com.studyblock.domain.idempotency.dto.IdempotencyRecord;
 import com.studyblock.domain.idempotency.entity.IdempotencyKey;
+import com.studyblock.domain.idempotency.exception.IdempotencyRequestInProgressException;
 import com.studyblock.domain.idempotency.repository.IdempotencyKeyRepository;
 import com.studyblock.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Optional;
 
 /**
  * 멱등성 키 관리 서비스
  * 중복 요청 방지 및 응답 캐싱을 담당합니다.
+ * - 요청 경로: Redis (SET NX EX 로 선점, 상태와 압축된 응답 스냅샷을 같은 값에 저장, TTL 로 자동 만료)
+ * - MySQL: 감사 기록만 비동기로 반영 (IdempotencyAuditWriter)
+ * - Redis 장애 시에만 MySQL 을 직접 조회하고 동기로 기록
  */
 @Slf4j
 @Service
@@ -22,80 +30,75 @@ import java.util.Optional;
 public class IdempotencyKeyService {
 
     private final IdempotencyKeyRepository idempotencyKeyRepository;
-    
+    private final RedisIdempotencyStore redisStore;
+    private final IdempotencyAuditWriter auditWriter;
+
     // 멱등성 키 기본 만료 시간: 24시간
     private static final int DEFAULT_EXPIRATION_HOURS = 24;
+    // 완료/실패 후 만료 시간: 7일
+    private static final int FINISHED_EXPIRATION_DAYS = 7;
 
     /**
      * 멱등성 키 생성 및 저장
      * @param user 사용자
      * @param idempotencyKey 멱등성 키 (UUID 등)
      * @param requestHash 요청 내용의 해시값 (선택적)
-     * @return 생성된 IdempotencyKey 엔티티
+     * @return 새로 선점한 PENDING 상태, 또는 이미 완료된 키의 저장된 상태 (COMPLETED)
+     * @throws IdempotencyRequestInProgressException 같은 키의 요청이 아직 처리 중인 경우 (HTTP 409)
      */
-    @Transactional
-    public IdempotencyKey createIdempotencyKey(User user, 
-                                               String idempotencyKey, 
-                                               String requestHash) {
+    public IdempotencyRecord createIdempotencyKey(User user,
+                                                  String idempotencyKey,
+                                                  String requestHash) {
         if (idempotencyKey == null || idempotencyKey.isBlank()) {
             throw new IllegalArgumentException("멱등성 키가 필요합니다.");
         }
 
-        // 이미 존재하는지 확인
-        Optional<IdempotencyKey> existing = idempotencyKeyRepository
-                .findByIdempotencyKey(idempotencyKey);
-
-        if (existing.isPresent()) {
-            IdempotencyKey key = existing.get();
-            
-            // 같은 사용자의 키인지 확인
-            if (!key.getUser().getId().equals(user.getId())) {
-                throw new IllegalStateException(
-                    "다른 사용자의 멱등성 키입니다. 중복 요청을 방지합니다."
-                );
-            }
-            
-            // 이미 완료된 키인지 확인
-            if ("COMPLETED".equals(key.getStatus())) {
-                throw new IllegalStateException(
-                    "이미 처리된 요청입니다. 중복 요청을 방지합니다."
-                );
+        long now = System.currentTimeMillis();
+        Duration ttl = Duration.ofHours(DEFAULT_EXPIRATION_HOURS);
+        IdempotencyRecord newRecord = IdempotencyRecord.builder()
+                .idempotencyKey(idempotencyKey)
+                .userId(user.getId())
+                .status(IdempotencyRecord.PENDING)
+                .requestHash(requestHash)
+                .createdAtMillis(now)
+                .expiresAtMillis(now + ttl.toMillis())
+                .build();
+
+        try {
+            if (redisStore.putIfAbsent(newRecord, ttl)) {
+                auditWriter.record(newRecord);
+                log.info("멱등성 키 생성 완료 - key: {}, userId: {}", idempotencyKey, user.getId());
+                return newRecord;
             }
-            
-            // 만료된 키인지 확인
-            if (key.getExpiresAt() != null && key.getExpiresAt().isBefore(LocalDateTime.now())) {
-                throw new IllegalStateException(
-                    "만료된 멱등성 키입니다. 새로운 키를 생성해주세요."
-                );
+
+            // 이미 선점된 키 (조회 직전에 만료되었으면 새 요청으로 다시 선점)
+            Optional<IdempotencyRecord> existing = redisStore.find(idempotencyKey);
+            if (existing.isEmpty()) {
+                return createIdempotencyKey(user, idempotencyKey, requestHash);
             }
-            
-            // 이미 존재하면 기존 키 반환 (PENDING 상태인 경우)
-            log.info("기존 멱등성 키 발견 - key: {}, status: {}", idempotencyKey, key.getStatus());
-            
-            // requestHash가 다르면 업데이트
-            if (requestHash != null && !requestHash.equals(key.getRequestHash())) {
-                key.setRequestHash(requestHash);
-                idempotencyKeyRepository.save(key);
+
+            IdempotencyRecord record = existing.get();
+            validateExisting(record, user.getId());
+            log.info("기존 멱등성 키 발견 - key: {}, status: {}", idempotencyKey, record.getStatus());
+
+            // 완료된 키는 저장된 결과를 돌려줌 (호출자는 getCachedResponse 로 응답 재사용)
+            if (record.isCompleted()) {
+                return record;
             }
-            
-            return key;
-        }
 
-        // 새로운 키 생성
-        LocalDateTime expiresAt = LocalDateTime.now().plusHours(DEFAULT_EXPIRATION_HOURS);
-        
-        IdempotencyKey newKey = IdempotencyKey.builder()
-                .user(user)
-                .idempotencyKey(idempotencyKey)
-                .requestHash(requestHash)
-                .status("PENDING")
-                .expiresAt(expiresAt)
-                .build();
+            // 실패한 키는 재시도로 보고 다시 선점 (동시 재시도 중 하나만 교체에 성공)
+            if (record.isFailed() && redisStore.compareAndReplace(record, newRecord, ttl)) {
+                auditWriter.record(newRecord);
+                log.info("실패한 멱등성 키 재선점 - key: {}, userId: {}", idempotencyKey, user.getId());
+                return newRecord;
+            }
 
-        IdempotencyKey saved = idempotencyKeyRepository.save(newKey);
-        log.info("멱등성 키 생성 완료 - key: {}, userId: {}", idempotencyKey, user.getId());
-        
-        return saved;
+            // 선점한 요청이 아직 처리 중 (또는 재선점 경합에서 짐)
+            throw new IdempotencyRequestInProgressException(idempotencyKey);
+        } catch (DataAccessException e) {
+            log.warn("멱등성 키 Redis 처리 실패, DB로 처리 - key: {}, error: {}", idempotencyKey, e.getMessage());
+            return createIdempotencyKeyInDb(newRecord);
+        }
     }
 
     /**
@@ -104,36 +107,40 @@ public class IdempotencyKeyService {
      * @param idempotencyKey 멱등성 키
      * @return 이미 처리된 키인 경우 true, 그렇지 않으면 false
      */
-    @Transactional(readOnly = true)
     public boolean isAlreadyProcessed(Long userId, String idempotencyKey) {
         if (idempotencyKey == null || idempotencyKey.isBlank()) {
             return false;
         }
 
-        Optional<IdempotencyKey> optional = idempotencyKeyRepository
-                .findByIdempotencyKey(idempotencyKey);
+        Optional<IdempotencyRecord> optional;
+        try {
+            optional = redisStore.find(idempotencyKey);
+        } catch (DataAccessException e) {
+            log.warn("멱등성 키 Redis 조회 실패, DB로 처리 - key: {}, error: {}", idempotencyKey, e.getMessage());
+            optional = findInDb(idempotencyKey).map(this::toRecord);
+        }
 
         if (optional.isEmpty()) {
             return false;
         }
 
-        IdempotencyKey key = optional.get();
-        
+        IdempotencyRecord key = optional.get();
+
         // 다른 사용자의 키인지 확인
-        if (!key.getUser().getId().equals(userId)) {
+        if (!key.getUserId().equals(userId)) {
             throw new IllegalStateException(
                 "다른 사용자의 멱등성 키입니다."
             );
         }
 
         // 만료된 키인지 확인
-        if (key.getExpiresAt() != null && key.getExpiresAt().isBefore(LocalDateTime.now())) {
+        if (key.isExpired()) {
             log.warn("만료된 멱등성 키 - key: {}", idempotencyKey);
             return false;
         }
 
         // 이미 완료된 키인지 확인
-        return "COMPLETED".equals(key.getStatus());
+        return key.isCompleted();
     }
 
     /**
@@ -142,36 +149,40 @@ public class IdempotencyKeyService {
      * @param idempotencyKey 멱등성 키
      * @throws IllegalStateException 이미 처리된 요청인 경우
      */
-    @Transactional(readOnly = true)
     public void validateIdempotencyKey(Long userId, String idempotencyKey) {
         if (idempotencyKey == null || idempotencyKey.isBlank()) {
             throw new IllegalArgumentException("멱등성 키가 필요합니다.");
         }
 
-        Optional<IdempotencyKey> optional = idempotencyKeyRepository
-                .findByIdempotencyKey(idempotencyKey);
+        Optional<IdempotencyRecord> optional;
+        try {
+            optional = redisStore.find(idempotencyKey);
+        } catch (DataAccessException e) {
+            log.warn("멱등성 키 Redis 조회 실패, DB로 처리 - key: {}, error: {}", idempotencyKey, e.getMessage());
+            optional = findInDb(idempotencyKey).map(this::toRecord);
+        }
 
         if (optional.isEmpty()) {
             return; // 새로운 키이므로 통과
         }
 
-        IdempotencyKey key = optional.get();
-        
+        IdempotencyRecord key = optional.get();
+
         // 다른 사용자의 키인지 확인
-        if (!key.getUser().getId().equals(userId)) {
+        if (!key.getUserId().equals(userId)) {
             throw new IllegalStateException(
                 "다른 사용자의 멱등성 키입니다. 중복 요청을 방지합니다."
             );
         }
 
         // 만료된 키인지 확인
-        if (key.getExpiresAt() != null && key.getExpiresAt().isBefore(LocalDateTime.now())) {
+        if (key.isExpired()) {
             log.warn("만료된 멱등성 키 - key: {}", idempotencyKey);
             return; // 만료된 키는 새 요청으로 간주
         }
 
         // 이미 완료된 키인지 확인
-        if ("COMPLETED".equals(key.getStatus())) {
+        if (key.isCompleted()) {
             throw new IllegalStateException(
                 "이미 처리된 요청입니다. 중복 요청을 방지합니다."
             );
@@ -183,25 +194,8 @@ public class IdempotencyKeyService {
      * @param idempotencyKey 멱등성 키
      * @param responseSnapshot 응답 내용 (JSON 형태)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void markAsUsed(String idempotencyKey, String responseSnapshot) {
-        if (idempotencyKey == null || idempotencyKey.isBlank()) {
-            return;
-        }
-
-        Optional<IdempotencyKey> optional = idempotencyKeyRepository
-                .findByIdempotencyKey(idempotencyKey);
-
-        if (optional.isEmpty()) {
-            log.warn("멱등성 키를 찾을 수 없습니다 - key: {}", idempotencyKey);
-            return;
-        }
-
-        IdempotencyKey key = optional.get();
-        key.markAsUsed(responseSnapshot);
-        idempotencyKeyRepository.save(key);
-        log.info("멱등성 키 사용 완료 처리 - key: {}, responseSnapshot: {}", 
-                idempotencyKey, responseSnapshot != null ? "있음" : "없음");
+        finish(idempotencyKey, IdempotencyRecord.COMPLETED, responseSnapshot);
     }
 
     /**
@@ -209,29 +203,33 @@ public class IdempotencyKeyService {
      * @param idempotencyKey 멱등성 키
      * @return 캐시된 응답 (JSON 형태), 없으면 null
      */
-    @Transactional(readOnly = true)
     public String getCachedResponse(String idempotencyKey) {
         if (idempotencyKey == null || idempotencyKey.isBlank()) {
             return null;
         }
 
-        Optional<IdempotencyKey> optional = idempotencyKeyRepository
-                .findByIdempotencyKey(idempotencyKey);
+        Optional<IdempotencyRecord> optional;
+        try {
+            optional = redisStore.find(idempotencyKey);
+        } catch (DataAccessException e) {
+            log.warn("멱등성 키 Redis 조회 실패, DB로 처리 - key: {}, error: {}", idempotencyKey, e.getMessage());
+            optional = findInDb(idempotencyKey).map(this::toRecord);
+        }
 
         if (optional.isEmpty()) {
             return null;
         }
 
-        IdempotencyKey key = optional.get();
-        
+        IdempotencyRecord key = optional.get();
+
         // 만료된 키인지 확인
-        if (key.getExpiresAt() != null && key.getExpiresAt().isBefore(LocalDateTime.now())) {
+        if (key.isExpired()) {
             return null;
         }
 
         // 완료된 키이고 응답이 캐시되어 있는 경우
-        if ("COMPLETED".equals(key.getStatus()) && key.getResponseSnapshot() != null) {
-            return key.getResponseSnapshot();
+        if (key.isCompleted() && key.getResponseSnapshot() != null) {
+            return redisStore.readSnapshot(key);
         }
 
         return null;
@@ -242,25 +240,131 @@ public class IdempotencyKeyService {
      * @param idempotencyKey 멱등성 키
      * @param errorSnapshot 에러 내용 (JSON 형태)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void markAsFailed(String idempotencyKey, String errorSnapshot) {
+        finish(idempotencyKey, IdempotencyRecord.FAILED, errorSnapshot);
+    }
+
+    /**
+     * 만료된 감사 기록 삭제 (Redis 값은 TTL 로 자동 만료)
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int purgeExpired(LocalDateTime now, int limit) {
+        return idempotencyKeyRepository.deleteExpiredBefore(now, limit);
+    }
+
+    // 완료/실패 상태 전환 (Redis 값 교체 후 감사 기록)
+    private void finish(String idempotencyKey, String status, String snapshot) {
         if (idempotencyKey == null || idempotencyKey.isBlank()) {
             return;
         }
 
-        Optional<IdempotencyKey> optional = idempotencyKeyRepository
-                .findByIdempotencyKey(idempotencyKey);
+        try {
+            Optional<IdempotencyRecord> optional = redisStore.find(idempotencyKey);
+            if (optional.isEmpty()) {
+                log.warn("멱등성 키를 찾을 수 없습니다 - key: {}", idempotencyKey);
+                return;
+            }
 
-        if (optional.isEmpty()) {
+            Duration ttl = Duration.ofDays(FINISHED_EXPIRATION_DAYS);
+            IdempotencyRecord finished = redisStore.withSnapshot(optional.get().toBuilder()
+                    .status(status)
+                    .expiresAtMillis(System.currentTimeMillis() + ttl.toMillis())
+                    .build(), snapshot);
+
+            if (!redisStore.replace(finished, ttl)) {
+                log.warn("멱등성 키가 만료되어 상태를 변경하지 못했습니다 - key: {}", idempotencyKey);
+                return;
+            }
+            auditWriter.record(finished.toBuilder().responseSnapshot(snapshot).compressed(false).build());
+            log.info("멱등성 키 {} 처리 - key: {}, snapshot: {}", status, idempotencyKey, snapshot != null ? "있음" : "없음");
+        } catch (DataAccessException e) {
+            log.warn("멱등성 키 Redis 처리 실패, DB로 처리 - key: {}, error: {}", idempotencyKey, e.getMessage());
+            finishInDb(idempotencyKey, status, snapshot);
+        }
+    }
+
+    private void validateExisting(IdempotencyRecord record, Long userId) {
+        // 같은 사용자의 키인지 확인
+        if (!record.getUserId().equals(userId)) {
+            throw new IllegalStateException(
+                "다른 사용자의 멱등성 키입니다. 중복 요청을 방지합니다."
+            );
+        }
+    }
+
+    private IdempotencyRecord toRecord(IdempotencyKey key) {
+        return IdempotencyRecord.builder()
+                .idempotencyKey(key.getIdempotencyKey())
+                .userId(key.getUser().getId())
+                .status(key.getStatus())
+                .requestHash(key.getRequestHash())
+                .responseSnapshot(key.getResponseSnapshot())
+                .createdAtMillis(toEpochMillis(key.getCreatedAt()))
+                .expiresAtMillis(toEpochMillis(key.getExpiresAt()))
+                .build();
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime != null
+                ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L;
+    }
+
+    // ========================================
+    // Redis 장애 시 DB 직접 처리
+    // ========================================
+
+    private Optional<IdempotencyKey> findInDb(String idempotencyKey) {
+        return idempotencyKeyRepository.findByIdempotencyKey(idempotencyKey);
+    }
+
+    private IdempotencyRecord createIdempotencyKeyInDb(IdempotencyRecord newRecord) {
+        Optional<IdempotencyRecord> existing = findInDb(newRecord.getIdempotencyKey()).map(this::toRecord);
+        if (existing.isEmpty()) {
+            // 일반 INSERT 로 선점 (조회 직후 다른 요청이 먼저 넣었으면 unique 제약 위반 = 처리 중)
+            try {
+                auditWriter.claimNow(newRecord);
+            } catch (DataIntegrityViolationException e) {
+                throw new IdempotencyRequestInProgressException(newRecord.getIdempotencyKey());
+            }
+            return newRecord;
+        }
+
+        IdempotencyRecord record = existing.get();
+        validateExisting(record, newRecord.getUserId());
+        if (record.isExpired()) {
+            throw new IllegalStateException(
+                "만료된 멱등성 키입니다. 새로운 키를 생성해주세요."
+            );
+        }
+
+        if (record.isCompleted()) {
+            return record;
+        }
+        if (record.isPending()) {
+            throw new IdempotencyRequestInProgressException(newRecord.getIdempotencyKey());
+        }
+
+        // 실패한 키는 재시도로 다시 선점 (FAILED 조건부 UPDATE, 동시 재시도 중 하나만 성공)
+        if (!auditWriter.reclaimFailedNow(newRecord)) {
+            throw new IdempotencyRequestInProgressException(newRecord.getIdempotencyKey());
+        }
+        return newRecord;
+    }
+
+    private void finishInDb(String idempotencyKey, String status, String snapshot) {
+        Optional<IdempotencyRecord> existing = findInDb(idempotencyKey).map(this::toRecord);
+        if (existing.isEmpty()) {
             log.warn("멱등성 키를 찾을 수 없습니다 - key: {}", idempotencyKey);
             return;
         }
 
-        IdempotencyKey key = optional.get();
-        key.markAsFailed(errorSnapshot);
-        idempotencyKeyRepository.save(key);
-        log.info("멱등성 키 실패 처리 - key: {}, errorSnapshot: {}", 
-                idempotencyKey, errorSnapshot != null ? "있음" : "없음");
+        auditWriter.recordNow(existing.get().toBuilder()
+                .status(status)
+                .responseSnapshot(snapshot)
+                .compressed(false)
+                .expiresAtMillis(System.currentTimeMillis() + Duration.ofDays(FINISHED_EXPIRATION_DAYS).toMillis())
+                .build());
     }
 }
-
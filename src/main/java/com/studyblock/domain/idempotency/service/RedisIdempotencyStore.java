@@ -0,0 +1,138 @@
+package com.studyblock.domain.idempotency.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyblock.domain.idempotency.dto.IdempotencyRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/*
+    Redis 기반 멱등성 키 저장소 (요청 경로)
+    - idempotency:{key} (String) : IdempotencyRecord JSON, TTL = 키 만료 시각
+    - 선점은 SET NX EX 한 번으로 원자적으로 처리, 상태 변경은 SET XX EX
+    - 실패한 키의 재선점은 읽은 값과 같을 때만 교체 (동시 재시도 중 하나만 성공)
+    - 응답 스냅샷은 COMPRESS_THRESHOLD 바이트 이상이면 gzip + Base64 로 압축
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisIdempotencyStore {
+
+    static final String KEY_PREFIX = "idempotency:";
+    private static final int COMPRESS_THRESHOLD = 512;
+
+    // 현재 값이 기대 값과 같을 때만 교체 (ARGV: 기대 값, 새 값, TTL 밀리초)
+    private static final DefaultRedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /*
+        키 선점 (없을 때만 저장)
+        - true 면 이 요청이 처음, false 면 이미 누군가 선점한 키
+     */
+    public boolean putIfAbsent(IdempotencyRecord record, Duration ttl) {
+        Boolean stored = stringRedisTemplate.opsForValue()
+                .setIfAbsent(KEY_PREFIX + record.getIdempotencyKey(), toJson(record), ttl);
+        return Boolean.TRUE.equals(stored);
+    }
+
+    /*
+        기존 키의 상태 교체 (키가 이미 만료/삭제되었으면 false)
+     */
+    public boolean replace(IdempotencyRecord record, Duration ttl) {
+        Boolean stored = stringRedisTemplate.opsForValue()
+                .setIfPresent(KEY_PREFIX + record.getIdempotencyKey(), toJson(record), ttl);
+        return Boolean.TRUE.equals(stored);
+    }
+
+    /*
+        expected 를 읽은 뒤 다른 요청이 값을 바꾸지 않았을 때만 replacement 로 교체
+        - expected 는 find 로 읽은 값 그대로여야 함 (같은 직렬화 결과로 비교)
+     */
+    public boolean compareAndReplace(IdempotencyRecord expected, IdempotencyRecord replacement, Duration ttl) {
+        Long replaced = stringRedisTemplate.execute(COMPARE_AND_SET_SCRIPT,
+                List.of(KEY_PREFIX + expected.getIdempotencyKey()),
+                toJson(expected), toJson(replacement), String.valueOf(ttl.toMillis()));
+        return replaced != null && replaced == 1L;
+    }
+
+    public Optional<IdempotencyRecord> find(String idempotencyKey) {
+        String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + idempotencyKey);
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, IdempotencyRecord.class));
+        } catch (JsonProcessingException e) {
+            log.warn("멱등성 키 Redis 값 파싱 실패 - key: {}", idempotencyKey, e);
+            return Optional.empty();
+        }
+    }
+
+    /*
+        응답 스냅샷을 저장 형태로 변환 (크면 압축)
+     */
+    public IdempotencyRecord withSnapshot(IdempotencyRecord record, String snapshot) {
+        if (snapshot == null || snapshot.length() < COMPRESS_THRESHOLD) {
+            return record.toBuilder().responseSnapshot(snapshot).compressed(false).build();
+        }
+        return record.toBuilder().responseSnapshot(compress(snapshot)).compressed(true).build();
+    }
+
+    /*
+        저장된 응답 스냅샷 원문
+     */
+    public String readSnapshot(IdempotencyRecord record) {
+        if (record.getResponseSnapshot() == null || !record.isCompressed()) {
+            return record.getResponseSnapshot();
+        }
+        return decompress(record.getResponseSnapshot());
+    }
+
+    private String toJson(IdempotencyRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 키 직렬화 실패: " + record.getIdempotencyKey(), e);
+        }
+    }
+
+    private static String compress(String value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(value.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    private static String decompress(String value) {
+        byte[] compressed = Base64.getDecoder().decode(value);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
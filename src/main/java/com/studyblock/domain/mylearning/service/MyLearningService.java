@@ -95,7 +95,7 @@ public class MyLearningService {
         allItems.forEach(item -> {
             if (item.getThumbnailUrl() != null && !item.getThumbnailUrl().isEmpty()){
                 try {
-                    String presignedUrl = s3StorageService.generatePresignedUrl(item.getThumbnailUrl(), 30);
+                    String presignedUrl = s3StorageService.generateCacheableImageUrl(item.getThumbnailUrl());
                     item.setThumbnailUrl(presignedUrl);
                 } catch (Exception e) {
                     log.warn("Presigned URL 생성 실패");
@@ -0,0 +1,40 @@
+package com.studyblock.domain.outbox.controller;
+
+import com.studyblock.domain.outbox.service.OutboxEventProcessor;
+import com.studyblock.global.dto.CommonResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 아웃박스 운영 API (관리자 전용 - SecurityConfig 에서 ADMIN 역할로 제한)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/outbox")
+@RequiredArgsConstructor
+public class OutboxAdminController {
+
+    private final OutboxEventProcessor outboxEventProcessor;
+
+    // DEAD 이벤트 재처리 (다음 디스패치 주기에 다시 점유됨)
+    @PostMapping("/{eventId}/requeue")
+    public ResponseEntity<CommonResponse<Void>> requeue(@PathVariable Long eventId) {
+        try {
+            outboxEventProcessor.requeue(eventId);
+            log.info("아웃박스 이벤트 재처리 요청 - id: {}", eventId);
+            return ResponseEntity.ok(CommonResponse.success("아웃박스 이벤트를 재처리 대기열에 넣었습니다"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(CommonResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(CommonResponse.error(e.getMessage()));
+        }
+    }
+}
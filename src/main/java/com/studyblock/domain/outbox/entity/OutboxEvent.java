@@ -0,0 +1,127 @@
+package com.studyblock.domain.outbox.entity;
+
+import com.studyblock.domain.common.BaseTimeEntity;
+import com.studyblock.domain.outbox.enums.OutboxEventType;
+import com.studyblock.domain.outbox.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스 이벤트
+ * - 비즈니스 변경과 같은 트랜잭션에서 (이벤트 × 핸들러) 단위로 저장
+ * - 디스패처가 배치로 점유하여 처리하고, 실패 시 백오프 후 재시도, 최대 횟수 초과 시 DEAD
+ */
+@Entity
+@Table(name = "outbox_event",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_outbox_event_handler_aggregate",
+                        columnNames = {"event_type", "handler", "aggregate_id"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private OutboxEventType eventType;
+
+    @Column(nullable = false, length = 100)
+    private String handler;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(columnDefinition = "JSON")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Builder
+    public OutboxEvent(OutboxEventType eventType, String handler, Long aggregateId, String payload) {
+        this.eventType = eventType;
+        this.handler = handler;
+        this.aggregateType = eventType.getAggregateType();
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.attemptCount = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    // 비즈니스 메서드
+    public void markCompleted() {
+        this.status = OutboxStatus.COMPLETED;
+        this.processedAt = LocalDateTime.now();
+        this.lockedUntil = null;
+        this.lastError = null;
+    }
+
+    /**
+     * 실패 기록 - 최대 횟수 미만이면 nextAttemptAt 이후 재시도, 초과 시 DEAD
+     */
+    public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attemptCount++;
+        this.lastError = truncate(error);
+        this.lockedUntil = null;
+        if (this.attemptCount >= maxAttempts) {
+            this.status = OutboxStatus.DEAD;
+        } else {
+            this.status = OutboxStatus.PENDING;
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+
+    /**
+     * DEAD 이벤트 수동 재처리
+     */
+    public void requeue() {
+        if (this.status != OutboxStatus.DEAD) {
+            throw new IllegalStateException("DEAD 상태의 이벤트만 재처리할 수 있습니다.");
+        }
+        this.status = OutboxStatus.PENDING;
+        this.attemptCount = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return this.status == OutboxStatus.COMPLETED;
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
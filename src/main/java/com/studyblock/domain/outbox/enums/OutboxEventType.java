@@ -0,0 +1,15 @@
+package com.studyblock.domain.outbox.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아웃박스로 전달되는 도메인 이벤트 종류
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    PAYMENT_COMPLETED("ORDER");  // 결제 완료 → 정산 레코드, 수강 등록/섹션 소유권, 구매 활동 로그
+
+    private final String aggregateType;
+}
@@ -0,0 +1,11 @@
+package com.studyblock.domain.outbox.enums;
+
+/**
+ * 아웃박스 이벤트 처리 상태
+ */
+public enum OutboxStatus {
+    PENDING,     // 처리 대기 (재시도 대기 포함)
+    PROCESSING,  // 디스패처가 점유 중 (lease 만료 시 재점유)
+    COMPLETED,   // 처리 완료
+    DEAD         // 최대 재시도 초과 (수동 확인 필요)
+}
@@ -0,0 +1,17 @@
+package com.studyblock.domain.outbox.event;
+
+import lombok.Getter;
+
+/**
+ * 아웃박스 이벤트 저장 알림
+ * - 커밋 직후 디스패처를 깨워 폴링 주기를 기다리지 않고 처리
+ */
+@Getter
+public class OutboxEventAppendedEvent {
+
+    private final Long aggregateId;
+
+    public OutboxEventAppendedEvent(Long aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+}
@@ -0,0 +1,48 @@
+package com.studyblock.domain.outbox.repository;
+
+import com.studyblock.domain.outbox.entity.OutboxEvent;
+import com.studyblock.domain.outbox.enums.OutboxEventType;
+import com.studyblock.domain.outbox.enums.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    boolean existsByEventTypeAndHandlerAndAggregateId(OutboxEventType eventType, String handler, Long aggregateId);
+
+    long countByStatus(OutboxStatus status);
+
+    /**
+     * 처리 가능한 이벤트 점유 대상 조회
+     * - 재시도 시각이 지난 PENDING + lease 가 만료된 PROCESSING (처리 중 인스턴스 종료 대비)
+     * - SKIP LOCKED 로 여러 인스턴스가 같은 행을 두고 대기하지 않음
+     */
+    @Query(value = "SELECT id FROM outbox_event " +
+            "WHERE (status = 'PENDING' AND next_attempt_at <= :now) " +
+            "   OR (status = 'PROCESSING' AND locked_until < :now) " +
+            "ORDER BY id " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> findDispatchableIdsForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE outbox_event SET status = 'PROCESSING', locked_until = :lockedUntil WHERE id IN (:ids)",
+            nativeQuery = true)
+    int markProcessing(@Param("ids") List<Long> ids, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * 보관 기간이 지난 완료 이벤트 삭제 (배치 단위)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM outbox_event WHERE status = 'COMPLETED' AND processed_at < :before LIMIT :limit",
+            nativeQuery = true)
+    int deleteCompletedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,60 @@
+package com.studyblock.domain.outbox.scheduler;
+
+import com.studyblock.domain.outbox.service.OutboxDispatcher;
+import com.studyblock.domain.outbox.service.OutboxEventProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 스케줄러
+ * - 커밋 직후 비동기 디스패치가 누락/실패한 이벤트와 백오프 재시도 대상을 주기적으로 처리
+ * - 보관 기간이 지난 완료 이벤트 정리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxDispatchScheduler {
+
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final OutboxDispatcher outboxDispatcher;
+    private final OutboxEventProcessor outboxEventProcessor;
+
+    @Value("${outbox.retention-days:14}")
+    private int retentionDays;
+
+    /**
+     * 미처리 이벤트 폴링 (기본 2초마다)
+     */
+    @Scheduled(fixedDelayString = "${outbox.dispatch.poll-interval-ms:2000}")
+    public void dispatch() {
+        outboxDispatcher.dispatchPending();
+    }
+
+    /**
+     * 완료 이벤트 정리 (기본 매일 04:30)
+     */
+    @Scheduled(cron = "${outbox.purge-cron:0 30 4 * * *}")
+    public void purgeCompleted() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        try {
+            int deleted;
+            do {
+                deleted = outboxEventProcessor.purgeCompleted(before, PURGE_BATCH_SIZE);
+                total += deleted;
+            } while (deleted == PURGE_BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("아웃박스 완료 이벤트 정리 실패 - 삭제된 건수: {}", total, e);
+        }
+
+        if (total > 0) {
+            log.info("아웃박스 완료 이벤트 정리 완료 - {}건 삭제 ({} 이전)", total, before);
+        }
+    }
+}
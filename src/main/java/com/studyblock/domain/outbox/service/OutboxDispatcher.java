@@ -0,0 +1,72 @@
+package com.studyblock.domain.outbox.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 아웃박스 디스패처
+ * - 배치 단위로 이벤트를 점유한 뒤 한 건씩 별도 트랜잭션으로 처리
+ * - 스케줄러 폴링과 커밋 직후 비동기 호출이 겹치지 않도록 인스턴스 내 단일 실행
+ * - 인스턴스 간 중복은 SKIP LOCKED 점유 + lease 로 방지
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxDispatcher {
+
+    private final OutboxEventProcessor outboxEventProcessor;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${outbox.dispatch.batch-size:50}")
+    private int batchSize;
+
+    @Value("${outbox.dispatch.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    /**
+     * 처리 가능한 이벤트 디스패치
+     *
+     * @return 성공 처리한 이벤트 수 (이미 실행 중이면 0)
+     */
+    public int dispatchPending() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        int succeeded = 0;
+        int failed = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<Long> eventIds = outboxEventProcessor.claimBatch(batchSize);
+
+                for (Long eventId : eventIds) {
+                    try {
+                        outboxEventProcessor.process(eventId);
+                        succeeded++;
+                    } catch (Exception e) {
+                        failed++;
+                        outboxEventProcessor.recordFailure(eventId, e);
+                    }
+                }
+
+                if (eventIds.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 디스패치 중 오류 발생", e);
+        } finally {
+            running.set(false);
+        }
+
+        if (succeeded > 0 || failed > 0) {
+            log.info("아웃박스 디스패치 완료 - 성공: {}, 실패: {}", succeeded, failed);
+        }
+        return succeeded;
+    }
+}
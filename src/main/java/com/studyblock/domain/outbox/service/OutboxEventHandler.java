@@ -0,0 +1,22 @@
+package com.studyblock.domain.outbox.service;
+
+import com.studyblock.domain.outbox.entity.OutboxEvent;
+import com.studyblock.domain.outbox.enums.OutboxEventType;
+
+/**
+ * 아웃박스 이벤트 핸들러
+ * - 이벤트 타입별로 여러 핸들러를 등록할 수 있으며, 핸들러마다 별도 아웃박스 행으로 재시도/실패가 분리됨
+ * - 디스패처의 트랜잭션 안에서 실행되며, 예외를 던지면 롤백 후 백오프 재시도
+ * - 재시도/lease 만료로 같은 이벤트가 두 번 이상 전달될 수 있으므로 멱등하게 구현
+ */
+public interface OutboxEventHandler {
+
+    OutboxEventType getEventType();
+
+    /**
+     * 아웃박스 행에 저장되는 핸들러 이름 (변경 시 미처리 행이 고아가 되므로 고정값 사용)
+     */
+    String getName();
+
+    void handle(OutboxEvent event);
+}
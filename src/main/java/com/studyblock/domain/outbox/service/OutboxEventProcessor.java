@@ -0,0 +1,124 @@
+package com.studyblock.domain.outbox.service;
+
+import com.studyblock.domain.outbox.entity.OutboxEvent;
+import com.studyblock.domain.outbox.enums.OutboxStatus;
+import com.studyblock.domain.outbox.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 이벤트 트랜잭션 단위 처리
+ * - 점유(claim), 단건 처리, 실패 기록을 각각 별도 트랜잭션으로 실행
+ * - 핸들러 실패로 처리 트랜잭션이 롤백되어도 실패 기록은 따로 커밋됨
+ */
+@Service
+@Slf4j
+public class OutboxEventProcessor {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<String, OutboxEventHandler> handlersByName;
+
+    @Value("${outbox.dispatch.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${outbox.dispatch.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${outbox.dispatch.base-backoff-seconds:10}")
+    private long baseBackoffSeconds;
+
+    @Value("${outbox.dispatch.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    public OutboxEventProcessor(OutboxEventRepository outboxEventRepository,
+                                List<OutboxEventHandler> handlers) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlersByName = handlers.stream()
+                .collect(Collectors.toMap(OutboxEventHandler::getName, Function.identity()));
+    }
+
+    /**
+     * 처리 가능한 이벤트를 배치로 점유 (PROCESSING + lease)
+     *
+     * @return 점유한 이벤트 ID 목록 (ID 순)
+     */
+    @Transactional
+    public List<Long> claimBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = outboxEventRepository.findDispatchableIdsForUpdate(now, batchSize);
+        if (!ids.isEmpty()) {
+            outboxEventRepository.markProcessing(ids, now.plusSeconds(leaseSeconds));
+        }
+        return ids;
+    }
+
+    /**
+     * 이벤트 한 건 처리 - 핸들러 작업과 완료 표시를 같은 트랜잭션으로 커밋
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void process(Long eventId) {
+        OutboxEvent event = outboxEventRepository.findById(eventId).orElse(null);
+        if (event == null || event.isCompleted()) {
+            return;
+        }
+
+        OutboxEventHandler handler = handlersByName.get(event.getHandler());
+        if (handler == null) {
+            throw new IllegalStateException("등록되지 않은 아웃박스 핸들러입니다: " + event.getHandler());
+        }
+
+        handler.handle(event);
+        event.markCompleted();
+    }
+
+    /**
+     * 실패 기록 - 지수 백오프로 다음 시도 시각 설정, 최대 횟수 초과 시 DEAD
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordFailure(Long eventId, Exception cause) {
+        OutboxEvent event = outboxEventRepository.findById(eventId).orElse(null);
+        if (event == null) {
+            return;
+        }
+
+        long backoffSeconds = Math.min(maxBackoffSeconds,
+                baseBackoffSeconds * (1L << Math.min(event.getAttemptCount(), 20)));
+        String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        event.markFailed(error, LocalDateTime.now().plusSeconds(backoffSeconds), maxAttempts);
+
+        if (event.getStatus() == OutboxStatus.DEAD) {
+            log.error("아웃박스 이벤트 최대 재시도 초과 (DEAD) - id: {}, type: {}, handler: {}, aggregateId: {}, error: {}",
+                    event.getId(), event.getEventType(), event.getHandler(), event.getAggregateId(), error);
+        } else {
+            log.warn("아웃박스 이벤트 처리 실패 - id: {}, handler: {}, attempt: {}, 다음 시도: {}초 후, error: {}",
+                    event.getId(), event.getHandler(), event.getAttemptCount(), backoffSeconds, error);
+        }
+    }
+
+    /**
+     * DEAD 이벤트 수동 재처리 요청
+     */
+    @Transactional
+    public void requeue(Long eventId) {
+        OutboxEvent event = outboxEventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("아웃박스 이벤트를 찾을 수 없습니다: " + eventId));
+        event.requeue();
+    }
+
+    /**
+     * 보관 기간이 지난 완료 이벤트 삭제
+     */
+    @Transactional
+    public int purgeCompleted(LocalDateTime before, int limit) {
+        return outboxEventRepository.deleteCompletedBefore(before, limit);
+    }
+}
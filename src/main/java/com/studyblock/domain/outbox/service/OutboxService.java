@@ -0,0 +1,79 @@
+package com.studyblock.domain.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyblock.domain.outbox.entity.OutboxEvent;
+import com.studyblock.domain.outbox.enums.OutboxEventType;
+import com.studyblock.domain.outbox.event.OutboxEventAppendedEvent;
+import com.studyblock.domain.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아웃박스 이벤트 저장 서비스
+ * - 호출자의 트랜잭션에 참여하여 비즈니스 변경과 원자적으로 저장 (트랜잭션 밖 호출 금지)
+ * - 이벤트 타입에 등록된 핸들러 수만큼 행을 저장
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventHandler> handlers;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 도메인 이벤트를 아웃박스에 저장
+     *
+     * @param eventType   이벤트 종류
+     * @param aggregateId 애그리거트 ID (예: 주문 ID)
+     * @param payload     이벤트 시점 스냅샷 (JSON 으로 저장)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, Long aggregateId, Map<String, Object> payload) {
+        String payloadJson = toJson(payload);
+        int appended = 0;
+
+        for (OutboxEventHandler handler : handlers) {
+            if (handler.getEventType() != eventType) {
+                continue;
+            }
+            // 웹훅/재요청으로 같은 이벤트가 다시 저장되는 경우 무시
+            if (outboxEventRepository.existsByEventTypeAndHandlerAndAggregateId(eventType, handler.getName(), aggregateId)) {
+                continue;
+            }
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .eventType(eventType)
+                    .handler(handler.getName())
+                    .aggregateId(aggregateId)
+                    .payload(payloadJson)
+                    .build());
+            appended++;
+        }
+
+        if (appended > 0) {
+            eventPublisher.publishEvent(new OutboxEventAppendedEvent(aggregateId));
+        }
+        log.info("아웃박스 이벤트 저장 - type: {}, aggregateId: {}, handlers: {}", eventType, aggregateId, appended);
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        if (payload == null || payload.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 payload 직렬화 실패", e);
+        }
+    }
+}
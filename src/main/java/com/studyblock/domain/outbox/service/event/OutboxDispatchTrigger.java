@@ -0,0 +1,33 @@
+package com.studyblock.domain.outbox.service.event;
+
+import com.studyblock.domain.outbox.event.OutboxEventAppendedEvent;
+import com.studyblock.domain.outbox.service.OutboxDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 아웃박스 저장 트랜잭션 커밋 후 디스패처 즉시 실행
+ *
+ * 역할:
+ * - 결제 요청 스레드는 아웃박스 저장까지만 하고 바로 응답 (수강 등록 등은 백그라운드)
+ * - 롤백된 트랜잭션의 이벤트는 실행되지 않도록 AFTER_COMMIT 사용
+ * - 실행 중이거나 스레드 풀이 가득 차면 생략하고 스케줄러 폴링에 맡김
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxDispatchTrigger {
+
+    private final OutboxDispatcher outboxDispatcher;
+
+    @Async("outboxDispatchExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleOutboxEventAppended(OutboxEventAppendedEvent event) {
+        log.debug("아웃박스 즉시 디스패치 - aggregateId: {}", event.getAggregateId());
+        outboxDispatcher.dispatchPending();
+    }
+}
@@ -3,6 +3,7 @@ package com.studyblock.domain.payment.repository;
 import com.studyblock.domain.payment.entity.CookieBatch;
 import com.studyblock.domain.user.entity.User;
 import com.studyblock.domain.wallet.enums.CookieType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,6 +23,11 @@ public interface CookieBatchRepository extends JpaRepository<CookieBatch, Long>
        List<CookieBatch> findByUserAndIsActiveTrueOrderByCreatedAtAsc(User user);
        List<CookieBatch> findByUserOrderByCreatedAtDesc(User user);
 
+       // 환불 복구 대상 배치 (소비된 용량이 남은 배치만, 최신순) - 전체 배치를 훑지 않도록 필요한 만큼만 페이지 조회
+       @Query("SELECT cb FROM CookieBatch cb WHERE cb.user.id = :userId AND cb.qtyRemain < cb.qtyTotal " +
+              "ORDER BY cb.createdAt DESC, cb.id DESC")
+       List<CookieBatch> findRestorableBatchesByUserId(@Param("userId") Long userId, Pageable pageable);
+
        // 만료된 쿠키 배치 조회
        @Query("SELECT cb FROM CookieBatch cb WHERE cb.expiresAt IS NOT NULL AND cb.expiresAt <= :now AND cb.isActive = true")
        List<CookieBatch> findExpiredBatches(@Param("now") LocalDateTime now);
@@ -112,4 +118,26 @@ public interface CookieBatchRepository extends JpaRepository<CookieBatch, Long>
               "AND cb.createdAt >= :startDate AND cb.createdAt <= :endDate")
        Long sumQtyTotalFreeByPurchaseAndBonusAndDateRange(@Param("startDate") LocalDateTime startDate,
                                                         @Param("endDate") LocalDateTime endDate);
+
+       // ===== 나의 충전 내역 =====
+       // 배치 + 주문 항목 + 주문 한 번에 조회 (배치마다 주문 항목/주문 지연 로딩 방지)
+       @Query("SELECT cb FROM CookieBatch cb " +
+              "LEFT JOIN FETCH cb.orderItem oi " +
+              "LEFT JOIN FETCH oi.order " +
+              "WHERE cb.user.id = :userId " +
+              "ORDER BY cb.createdAt DESC, cb.id DESC")
+       List<CookieBatch> findByUserIdWithOrderItem(@Param("userId") Long userId);
+
+       /**
+        * 주문 단위 충전 합계 (DB 에서 GROUP BY)
+        * @return List<Object[]>: [orderId, orderNumber, totalAmount, paidAt, orderCreatedAt, paidQty, bonusQty]
+        */
+       @Query("SELECT o.id, o.orderNumber, o.totalAmount, o.paidAt, o.createdAt, " +
+              "SUM(CASE WHEN cb.cookieType = 'PAID' THEN cb.qtyTotal ELSE 0 END), " +
+              "SUM(CASE WHEN cb.cookieType = 'PAID' THEN 0 ELSE cb.qtyTotal END) " +
+              "FROM CookieBatch cb JOIN cb.orderItem oi JOIN oi.order o " +
+              "WHERE cb.user.id = :userId " +
+              "GROUP BY o.id, o.orderNumber, o.totalAmount, o.paidAt, o.createdAt " +
+              "ORDER BY MAX(cb.createdAt) DESC, o.id DESC")
+       List<Object[]> findChargeGroupsByUserId(@Param("userId") Long userId);
 }
@@ -1,7 +1,10 @@
 package com.studyblock.domain.payment.repository;
 
 import com.studyblock.domain.payment.entity.OrderItem;
+import com.studyblock.domain.payment.enums.OrderItemStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -46,5 +49,29 @@ Long countByCourseId(@Param("courseId") Long courseId);
         "AND oi.order.status = 'PAID'")
 boolean existsByUserIdAndCourseIdAndPaid(@Param("userId") Long userId,
                                         @Param("courseId") Long courseId);
+
+// 환불 일괄 반영: 대상 항목 상태를 한 번에 REFUNDED로 변경 (이미 환불된 항목 제외)
+@Modifying(flushAutomatically = true)
+@Query("UPDATE OrderItem oi SET oi.status = com.studyblock.domain.payment.enums.OrderItemStatus.REFUNDED " +
+        "WHERE oi.id IN :ids AND oi.status <> com.studyblock.domain.payment.enums.OrderItemStatus.REFUNDED")
+int markRefundedByIdIn(@Param("ids") List<Long> ids);
+
+// 코스 일괄 환불 대상 주문 ID (코스 구매 + 해당 코스 섹션 구매, order id 키셋)
+@Query("SELECT DISTINCT oi.order.id FROM OrderItem oi LEFT JOIN oi.section s " +
+        "WHERE (oi.course.id = :courseId OR s.course.id = :courseId) " +
+        "AND oi.status = :status AND oi.order.id > :afterOrderId " +
+        "ORDER BY oi.order.id ASC")
+List<Long> findOrderIdsByCourseIdAndStatus(@Param("courseId") Long courseId,
+                                           @Param("status") OrderItemStatus status,
+                                           @Param("afterOrderId") Long afterOrderId,
+                                           Pageable pageable);
+
+// 주문 내 특정 코스 관련 항목 (코스 구매 + 해당 코스 섹션 구매)
+@Query("SELECT oi FROM OrderItem oi LEFT JOIN oi.section s " +
+        "WHERE oi.order.id = :orderId AND (oi.course.id = :courseId OR s.course.id = :courseId) " +
+        "AND oi.status = :status")
+List<OrderItem> findByOrderIdAndCourseIdAndStatus(@Param("orderId") Long orderId,
+                                                  @Param("courseId") Long courseId,
+                                                  @Param("status") OrderItemStatus status);
 }
 
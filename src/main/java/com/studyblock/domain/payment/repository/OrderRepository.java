@@ -54,4 +54,14 @@ List<Order> findTop10ByUser_IdOrderByCreatedAtDesc(Long userId);
        "WHERE o.user.id = :userId " +
        "ORDER BY o.createdAt DESC")
 List<Order> findByUser_IdOrderByCreatedAtDesc(@Param("userId") Long userId);
+
+// 결제 후속 처리용 주문 조회 (사용자, 주문 항목, 코스/섹션 포함)
+@Query("SELECT DISTINCT o FROM Order o " +
+       "JOIN FETCH o.user " +
+       "LEFT JOIN FETCH o.orderItems oi " +
+       "LEFT JOIN FETCH oi.course " +
+       "LEFT JOIN FETCH oi.section s " +
+       "LEFT JOIN FETCH s.course " +
+       "WHERE o.id = :orderId")
+Optional<Order> findByIdWithItems(@Param("orderId") Long orderId);
 }
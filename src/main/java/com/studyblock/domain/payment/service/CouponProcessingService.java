@@ -2,13 +2,11 @@ package com.studyblock.domain.payment.service;
 
 import com.studyblock.domain.coupon.entity.Coupon;
 import com.studyblock.domain.coupon.entity.UserCoupon;
-import com.studyblock.domain.coupon.enums.CouponStatus;
-import com.studyblock.domain.coupon.enums.UserCouponStatus;
 import com.studyblock.domain.coupon.repository.UserCouponRepository;
+import com.studyblock.domain.coupon.service.CouponReservationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 //쿠폰처리 전담 서비스
 @Slf4j
@@ -17,9 +15,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class CouponProcessingService {
 
     private final UserCouponRepository userCouponRepository;
+    private final CouponReservationService couponReservationService;
 
-    //쿠폰조회 및 상태전이 (AVAILABLE → RESERVED)
-    // @Transactional 제거 - PaymentService.confirmPayment()의 트랜잭션에 참여
+    //쿠폰조회 및 예약 (결제 시작 때 잡은 예약 연장, 없으면 지금 예약)
+    // 예약은 CouponReservationService 의 별도 트랜잭션으로 즉시 커밋 (수량 한정 쿠폰 재고 차감 포함)
     public CouponProcessingResult processCouponReservation(Long userCouponId, Long userId) {
         if (userCouponId == null) {
             return new CouponProcessingResult(null, null);
@@ -33,20 +32,12 @@ public class CouponProcessingService {
             throw new IllegalStateException("다른 사용자의 쿠폰입니다");
         }
         
-        // 결제 시작 시점에 상태 전이: AVAILABLE → RESERVED
-        if (userCoupon.getStatus() == CouponStatus.AVAILABLE) {
-            userCoupon.reserve();  // AVAILABLE → RESERVED
-            userCouponRepository.save(userCoupon);
-            log.info("🔄 결제 시작으로 쿠폰 상태 전이 - userCouponId: {}, AVAILABLE → RESERVED", userCoupon.getId());
-        } else if (userCoupon.getStatus() == CouponStatus.RESERVED) {
-            log.info("✅ 이미 RESERVED 상태 - userCouponId: {}", userCoupon.getId());
-        } else {
-            throw new IllegalStateException("사용할 수 없는 쿠폰입니다. 상태: " + userCoupon.getStatus());
-        }
+        // AVAILABLE → RESERVED 또는 본인 예약 연장 (조건부 UPDATE)
+        couponReservationService.reserve(userId, userCouponId, null);
         
         Coupon appliedCoupon = userCoupon.getCoupon();
         
-        log.info("✅ 쿠폰 확인 완료 - userCouponId: {}, status: {}", userCoupon.getId(), userCoupon.getStatus());
+        log.info("✅ 쿠폰 예약 확인 완료 - userCouponId: {}", userCoupon.getId());
         
         return new CouponProcessingResult(userCoupon, appliedCoupon);
     }
@@ -54,21 +45,18 @@ public class CouponProcessingService {
     //쿠폰사용 완료 처리 (RESERVED → USED)
     // @Transactional 제거 - PaymentService.confirmPayment()의 트랜잭션에 참여
     public void processCouponUsage(UserCoupon userCoupon) {
-        if (userCoupon != null && userCoupon.isReserved()) {
-            // 상태 전이: RESERVED → USED
-            userCoupon.use();  // use() 메서드가 is_used = true와 status = USED로 변경
-            userCouponRepository.save(userCoupon);
+        if (userCoupon != null) {
+            couponReservationService.confirm(userCoupon);
             log.info("✅ 쿠폰 사용 완료 - userCouponId: {}, status: {}", 
                     userCoupon.getId(), userCoupon.getStatus());
         }
     }
 
     //쿠폰롤백 처리 (RESERVED → AVAILABLE)
-    // @Transactional 제거 - PaymentService.confirmPayment()의 트랜잭션에 참여
+    // 결제 트랜잭션은 실패 후 롤백되므로 해제는 별도 트랜잭션으로 커밋
     public void processCouponRollback(UserCoupon userCoupon) {
-        if (userCoupon != null && userCoupon.isReserved()) {
-            userCoupon.release();
-            userCouponRepository.save(userCoupon);
+        if (userCoupon != null) {
+            couponReservationService.release(userCoupon.getId(), userCoupon.getCoupon().getId());
             log.info("✅ 결제 실패로 쿠폰 롤백 완료 - userCouponId: {}, status: AVAILABLE", userCoupon.getId());
         }
     }
@@ -34,6 +34,22 @@ public class PaymentApprovalService {
             return null;
         }
     }
+
+    // 승인된 결제 취소 (승인 후 후속 처리가 실패해 주문이 롤백될 때의 보상 처리)
+    // 취소 실패는 원래 예외를 가리지 않도록 로그만 남김 (수동 확인 필요)
+    public void cancelApproved(TossPaymentResponse response, String reason) {
+        if (response == null || response.getPaymentKey() == null) {
+            return;
+        }
+        try {
+            tossPaymentClient.refund(response.getPaymentKey(), response.getTotalAmount(), reason);
+            log.warn("토스페이먼츠 승인 결제 자동 취소 - paymentKey: {}, amount: {}, reason: {}",
+                    response.getPaymentKey(), response.getTotalAmount(), reason);
+        } catch (Exception e) {
+            log.error("토스페이먼츠 승인 결제 자동 취소 실패 - paymentKey: {}, 수동 확인 필요, error: {}",
+                    response.getPaymentKey(), e.getMessage(), e);
+        }
+    }
 }
 
 
@@ -53,10 +53,17 @@ public class PaymentService {
 
     // 1-1. 멱등성 키 검증 및 생성 (결제 전에 먼저 처리)
     String idempotencyKey = request.getPaymentKey(); // paymentKey를 멱등성 키로 사용
+    boolean claimed = false; // 이 요청이 PENDING 으로 선점했는지 (실패 시 FAILED 로 풀어 재시도 허용)
     if (idempotencyKey != null && !idempotencyKey.isBlank()) {
         try {
-            // 멱등성 키가 이미 처리되었는지 확인
+            // 멱등성 키가 이미 처리되었는지 확인 후 선점
+            // - 처리 중인 키는 createIdempotencyKey 가 409 로 거절
+            // - 확인 직후 다른 요청이 완료한 키는 선점 결과가 COMPLETED 로 돌아오므로 기존 결제로 응답
             boolean alreadyProcessed = idempotencyKeyService.isAlreadyProcessed(userId, idempotencyKey);
+            if (!alreadyProcessed) {
+                alreadyProcessed = idempotencyKeyService.createIdempotencyKey(user, idempotencyKey, null).isCompleted();
+                claimed = !alreadyProcessed;
+            }
             if (alreadyProcessed) {
                 // 이미 처리된 요청이면 기존 Order 반환
                 Order existingOrder = orderRepository.findByIdempotencyKey(idempotencyKey)
@@ -91,9 +98,6 @@ public class PaymentService {
                         .paidAt(existingOrder.getPaidAt())
                         .build();
             }
-
-            // 멱등성 키 생성 (요청 해시는 선택적)
-            idempotencyKeyService.createIdempotencyKey(user, idempotencyKey, null);
         } catch (IllegalStateException e) {
             log.warn("멱등성 키 검증 실패 - idempotencyKey: {}, error: {}", idempotencyKey, e.getMessage());
             throw e;
@@ -103,6 +107,22 @@ public class PaymentService {
         }
     }
 
+    // 2 ~ 10. 선점 이후 단계가 어떤 예외로 끝나든 선점한 키를 FAILED 로 풀어 같은 paymentKey 재시도를 허용
+    // (Redis 선점은 트랜잭션 롤백과 함께 사라지지 않으므로, 풀지 않으면 TTL 동안 409 로 막힘)
+    try {
+        return approveAndComplete(request, user, userId, idempotencyKey, ipAddress, userAgent, paymentSource);
+    } catch (RuntimeException e) {
+        if (claimed) {
+            markIdempotencyKeyFailed(idempotencyKey, e.getMessage());
+        }
+        throw e;
+    }
+    }
+
+    // 결제 승인 전 검증 ~ 성공 응답 생성 (멱등성 키 선점 이후 단계)
+    private PaymentConfirmResponse approveAndComplete(PaymentConfirmRequest request, User user, Long userId,
+                                                      String idempotencyKey, String ipAddress,
+                                                      String userAgent, String paymentSource) {
     // 2. 결제 승인 전 검증 (토스 승인 전에 모든 검증 완료)
     Long cookieAmount = request.getCookieAmount() != null ? request.getCookieAmount().longValue() : 0L;
     Long cashAmount = request.getAmount() != null ? request.getAmount().longValue() : 0L;
@@ -117,14 +137,25 @@ public class PaymentService {
         throw e;
     }
 
-    // 3. 토스페이먼츠 결제 승인 처리 (검증 완료 후 호출)
-    TossPaymentResponse tossResponse = paymentApprovalService.approve(request);
-    String failureReason = tossResponse == null ? "토스페이먼츠 결제 승인 실패" : null;
-
-    // 4. 쿠폰 처리 (예약)
+    // 3. 쿠폰 처리 (예약) - 토스 승인 전에 예약을 다시 잡음
+    // 결제 시작 때 잡은 예약이 만료되어 풀린 뒤 수량이 소진되었으면 여기서 실패하므로 결제 금액이 청구되지 않음
+    // 예약은 보관 시간만큼 새로 연장되므로 승인 후 확정(confirm) 전에 만료되지 않음
     CouponProcessingService.CouponProcessingResult couponResult =
         couponProcessingService.processCouponReservation(request.getUserCouponId(), userId);
-    
+
+    // 4. 토스페이먼츠 결제 승인 처리 (검증 / 쿠폰 예약 완료 후 호출)
+    TossPaymentResponse tossResponse;
+    try {
+        tossResponse = paymentApprovalService.approve(request);
+    } catch (RuntimeException e) {
+        // 승인 요청 자체가 예외로 끝나면 잡아 둔 예약을 바로 해제 (스위퍼 대기 없이 재고 반환)
+        if (couponResult != null && couponResult.getUserCoupon() != null) {
+            couponProcessingService.processCouponRollback(couponResult.getUserCoupon());
+        }
+        throw e;
+    }
+    String failureReason = tossResponse == null ? "토스페이먼츠 결제 승인 실패" : null;
+
     // 4-1. 전체 주문 금액 계산 (쿠폰 할인 계산용)
     long totalOriginalAmount = 0L;
     if (request.getItems() != null && !request.getItems().isEmpty()) {
@@ -154,8 +185,15 @@ public class PaymentService {
     }
 
     // 6. 결제 성공 시에만 추가 처리
+    // 승인 후 후속 처리(쿠폰 확정 등)가 실패하면 트랜잭션은 롤백되므로 청구된 토스 결제를 취소
+    // 쿠폰 예약은 이 트랜잭션이 확정 UPDATE 로 행을 잠갔을 수 있으므로 여기서 해제하지 않고 스위퍼에 맡김
     if (failureReason == null) {
-        paymentSuccessProcessor.process(order, request, cookieAmount, cashAmount, userId, couponResult);
+        try {
+            paymentSuccessProcessor.process(order, request, cookieAmount, cashAmount, userId, couponResult);
+        } catch (RuntimeException e) {
+            paymentApprovalService.cancelApproved(tossResponse, "결제 후속 처리 실패로 인한 자동 취소");
+            throw e;
+        }
     }
 
     // 7. 결제 생성
@@ -165,26 +203,12 @@ public class PaymentService {
     // 주의: Order 저장은 이미 OrderReuseService 또는 OrderCreationService에서 처리됨
     // PaymentSuccessProcessor에서도 updateDiscountInfo 후 저장하므로 여기서는 불필요
 
-    // 8. 결제 실패 시 쿠폰 롤백 및 멱등성 키 실패 처리
+    // 8. 결제 실패 시 쿠폰 롤백 (멱등성 키 실패 처리는 confirmPayment 의 예외 처리에서 수행)
     if (failureReason != null) {
         if (couponResult != null && couponResult.getUserCoupon() != null) {
             couponProcessingService.processCouponRollback(couponResult.getUserCoupon());
         }
         
-        // 멱등성 키 실패 처리
-        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
-            try {
-                String errorSnapshot = objectMapper.writeValueAsString(
-                    java.util.Map.of("error", failureReason, "timestamp", java.time.LocalDateTime.now())
-                );
-                idempotencyKeyService.markAsFailed(idempotencyKey, errorSnapshot);
-                log.info("멱등성 키 실패 처리 완료 - idempotencyKey: {}, error: {}", idempotencyKey, failureReason);
-            } catch (Exception e) {
-                log.error("멱등성 키 실패 처리 중 오류 - idempotencyKey: {}, error: {}", 
-                        idempotencyKey, e.getMessage(), e);
-            }
-        }
-        
         throw new IllegalStateException(failureReason);
     }
 
@@ -220,6 +244,20 @@ public class PaymentService {
     return response;
 }
 
+    // 멱등성 키 실패 처리 (실패해도 원래 예외를 그대로 던지도록 로그만 남김)
+    private void markIdempotencyKeyFailed(String idempotencyKey, String failureReason) {
+        try {
+            String errorSnapshot = objectMapper.writeValueAsString(
+                java.util.Map.of("error", String.valueOf(failureReason), "timestamp", java.time.LocalDateTime.now())
+            );
+            idempotencyKeyService.markAsFailed(idempotencyKey, errorSnapshot);
+            log.info("멱등성 키 실패 처리 완료 - idempotencyKey: {}, error: {}", idempotencyKey, failureReason);
+        } catch (Exception e) {
+            log.error("멱등성 키 실패 처리 중 오류 - idempotencyKey: {}, error: {}",
+                    idempotencyKey, e.getMessage(), e);
+        }
+    }
+
     
 
 
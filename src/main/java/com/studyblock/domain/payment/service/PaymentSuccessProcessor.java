@@ -2,20 +2,22 @@ package com.studyblock.domain.payment.service;
 
 import com.studyblock.domain.coupon.entity.Coupon;
 import com.studyblock.domain.coupon.entity.UserCoupon;
-import com.studyblock.domain.enrollment.event.PaymentCompletedEvent;
 import com.studyblock.domain.payment.dto.PaymentConfirmRequest;
 import com.studyblock.domain.payment.entity.Order;
 import com.studyblock.domain.payment.entity.OrderItem;
 import com.studyblock.domain.payment.repository.OrderItemRepository;
 import com.studyblock.domain.payment.repository.OrderRepository;
 import com.studyblock.domain.payment.service.CouponProcessingService;
-import com.studyblock.domain.settlement.service.SettlementService;
+import com.studyblock.domain.outbox.enums.OutboxEventType;
+import com.studyblock.domain.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -23,12 +25,11 @@ public class PaymentSuccessProcessor {
 
     private final OrderItemCreationService orderItemCreationService;
     private final DailyLimitService dailyLimitService;
-    private final SettlementService settlementService;
     private final PaymentCookieService paymentCookieService;
     private final CouponProcessingService couponProcessingService;
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
 
     // @Transactional 제거 - PaymentService.confirmPayment()의 트랜잭션에 참여
     public void process(Order order,
@@ -92,11 +93,8 @@ public class PaymentSuccessProcessor {
             // 일일 한도 업데이트
             dailyLimitService.updateDailyLimit(userId, cashAmount.intValue(), cookieAmount.intValue());
 
-            // 정산 레코드 생성
-            settlementService.createSettlementLedgers(order.getId());
-
-            // 결제 완료 이벤트 발행 (수강 등록/섹션 소유권 부여)
-            publishPaymentCompletedEvent(order);
+            // 결제 완료 이벤트를 아웃박스에 저장 (정산 레코드, 수강 등록/섹션 소유권, 활동 로그는 커밋 후 비동기 처리)
+            appendPaymentCompletedEvent(order);
 
         } catch (Exception e) {
             log.error("결제 성공 처리 중 오류 발생 - orderId: {}, error: {}", order.getId(), e.getMessage(), e);
@@ -105,22 +103,19 @@ public class PaymentSuccessProcessor {
     }
 
     /**
-     * 결제 완료 이벤트 발행
-     * 별도 트랜잭션에서 수강 등록/섹션 소유권이 생성되도록 이벤트를 발행합니다.
+     * 결제 완료 이벤트를 아웃박스에 저장
+     * 결제 트랜잭션과 함께 커밋되므로 결제가 완료된 주문의 후속 처리가 유실되지 않고,
+     * 실패 시 아웃박스 디스패처가 재시도합니다.
      *
      * @param order 결제 완료된 주문
      */
-    private void publishPaymentCompletedEvent(Order order) {
-        try {
-            PaymentCompletedEvent event = new PaymentCompletedEvent(this, order);
-            eventPublisher.publishEvent(event);
-            log.info("결제 완료 이벤트 발행 완료 - orderId: {}, orderNumber: {}",
-                    order.getId(), order.getOrderNumber());
-        } catch (Exception e) {
-            log.error("결제 완료 이벤트 발행 실패 - orderId: {}, error: {}",
-                    order.getId(), e.getMessage(), e);
-            // 이벤트 발행 실패는 결제를 실패시키지 않음 (수동 처리 가능)
-        }
+    private void appendPaymentCompletedEvent(Order order) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("orderId", order.getId());
+        payload.put("orderNumber", order.getOrderNumber());
+        payload.put("userId", order.getUser().getId());
+
+        outboxService.append(OutboxEventType.PAYMENT_COMPLETED, order.getId(), payload);
     }
 
 }
@@ -1,5 +1,6 @@
 package com.studyblock.domain.payment.service;
 
+import com.studyblock.domain.coupon.service.CouponReservationService;
 import com.studyblock.domain.payment.dto.PaymentValidationRequest;
 import com.studyblock.domain.payment.entity.Order;
 import com.studyblock.domain.payment.enums.PaymentType;
@@ -19,6 +20,7 @@ public class PendingOrderService {
     private final UserRepository userRepository;
     private final OrderRepository orderRepository;
     private final OrderItemCreationService orderItemCreationService;
+    private final CouponReservationService couponReservationService;
 
     // 검증 시점에 PENDING 주문과 항목을 생성하고 주문번호를 반환
     @Transactional
@@ -57,6 +59,12 @@ public class PendingOrderService {
             orderItemCreationService.createOrderItems(order, request, null, null, userId);
         }
 
+        // 결제 시작 시점에 쿠폰 예약 (수량 한정 쿠폰 재고 선점, 결제 승인 시 확정)
+        // 주문 생성이 롤백되어 남은 예약은 스위퍼가 보관 시간 이후 해제
+        if (request.getUserCouponId() != null) {
+            couponReservationService.reserve(userId, request.getUserCouponId(), orderNumber);
+        }
+
         log.info("PENDING 주문 생성 - orderNumber: {}, items: {}", orderNumber,
                 request.getItems() != null ? request.getItems().size() : 0);
 
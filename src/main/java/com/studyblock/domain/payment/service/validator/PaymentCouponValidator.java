@@ -1,10 +1,12 @@
 package com.studyblock.domain.payment.service.validator;
 
+import com.studyblock.domain.coupon.dto.CouponRule;
 import com.studyblock.domain.coupon.entity.Coupon;
 import com.studyblock.domain.coupon.entity.UserCoupon;
 import com.studyblock.domain.coupon.enums.CouponStatus;
 import com.studyblock.domain.coupon.enums.CouponType;
 import com.studyblock.domain.coupon.repository.UserCouponRepository;
+import com.studyblock.domain.coupon.service.CouponReservationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,6 +21,7 @@ import java.time.LocalDateTime;
 public class PaymentCouponValidator {
 
     private final UserCouponRepository userCouponRepository;
+    private final CouponReservationService couponReservationService;
 
     // 쿠폰 검증 (쿠폰 사용 시) - userCouponId 기준으로 Coupon 반환
     public Coupon validateCoupon(Long userId, Long userCouponId, Long orderAmount) {
@@ -57,8 +60,8 @@ public class PaymentCouponValidator {
         }
         log.info("✅ 쿠폰 유효 기간 확인 완료");
 
-        // 5) 쿠폰 상태 확인 (AVAILABLE이어야 함)
-        if (userCoupon.getStatus() != CouponStatus.AVAILABLE) {
+        // 5) 쿠폰 상태 확인 (AVAILABLE 또는 결제 시작 때 본인이 잡은 RESERVED)
+        if (userCoupon.getStatus() != CouponStatus.AVAILABLE && userCoupon.getStatus() != CouponStatus.RESERVED) {
             throw new IllegalStateException(
                 "사용할 수 없는 쿠폰입니다. 현재 상태: " + userCoupon.getStatus()
             );
@@ -80,9 +83,10 @@ public class PaymentCouponValidator {
         }
         log.info("✅ 쿠폰 사용 기간 확인 완료");
 
-        // 9) 쿠폰 사용 한도 확인
-        if (coupon.getUsageLimit() != null && 
-            coupon.getUsedCount() >= coupon.getUsageLimit()) {
+        // 9) 쿠폰 사용 한도 확인 (예약/사용 수량 기준, 이미 예약한 쿠폰은 수량을 확보한 상태)
+        // 최종 한도 보장은 CouponReservationService 의 원자적 재고 차감이 담당
+        if (userCoupon.getStatus() == CouponStatus.AVAILABLE && coupon.getUsageLimit() != null
+                && couponReservationService.getRemainingStock(CouponRule.from(coupon)) <= 0) {
             throw new IllegalStateException("쿠폰 사용 한도가 초과되었습니다.");
         }
         log.info("✅ 쿠폰 사용 한도 확인 완료");
@@ -1,9 +1,11 @@
 package com.studyblock.domain.refund.controller;
 
+import com.studyblock.domain.refund.dto.RefundBatchResponse;
 import com.studyblock.domain.refund.dto.RefundRequest;
 import com.studyblock.domain.refund.dto.RefundRequestFrontend;
 import com.studyblock.domain.refund.dto.RefundResponse;
 import com.studyblock.domain.refund.entity.Refund;
+import com.studyblock.domain.refund.service.RefundBatchService;
 import com.studyblock.domain.refund.service.RefundService;
 import com.studyblock.domain.payment.entity.Payment;
 import com.studyblock.domain.payment.entity.Order;
@@ -36,6 +38,7 @@ import java.util.stream.Collectors;
 public class RefundController {
 
     private final RefundService refundService;
+    private final RefundBatchService refundBatchService;
     private final PaymentRepository paymentRepository;
     private final OrderItemRepository orderItemRepository;
     private final OrderRepository orderRepository;
@@ -291,6 +294,28 @@ public class RefundController {
         }
     }
 
+    // 8. 코스 일괄 환불 (관리자용, 코스 폐강 등)
+    // - 관리자 권한은 SecurityConfig 의 /api/refunds/admin/** 규칙에서 검사
+    @PostMapping("/admin/course/{courseId}")
+    public ResponseEntity<CommonResponse<RefundBatchResponse>> refundCourse(
+            @PathVariable Long courseId,
+            @RequestParam String reason,
+            Authentication authentication) {
+
+        try {
+            User admin = authenticationUtils.extractAuthenticatedUser(authentication);
+
+            RefundBatchResponse response = refundBatchService.refundCourse(courseId, reason, admin.getId());
+
+            return ResponseEntity.ok(CommonResponse.success(response));
+
+        } catch (Exception e) {
+            log.error("코스 일괄 환불 실패 - courseId: {}", courseId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(CommonResponse.error("코스 일괄 환불 중 오류가 발생했습니다"));
+        }
+    }
+
     // ===========================
     // Private Helper Methods(여기서만 사용해서 바깥으로 빼지 않음 아래는 순서대로 작성됨)
     // ===========================
@@ -0,0 +1,21 @@
+package com.studyblock.domain.refund.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefundBatchResponse {
+
+    private Long courseId;                // 일괄 환불 대상 코스 ID
+    private Integer targetOrderCount;     // 대상 주문 수
+    private Integer refundedOrderCount;   // 환불 완료 주문 수
+    private Integer failedOrderCount;     // 환불 실패 주문 수
+    private List<Long> failedOrderIds;    // 실패 주문 ID (재시도/수동 처리용)
+}
@@ -0,0 +1,74 @@
+package com.studyblock.domain.refund.service;
+
+import com.studyblock.domain.payment.enums.OrderItemStatus;
+import com.studyblock.domain.payment.repository.OrderItemRepository;
+import com.studyblock.domain.refund.dto.RefundBatchResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자 일괄 환불 서비스 (코스 폐강 등)
+ * - 대상 주문을 order id 키셋으로 페이지 조회
+ * - 주문마다 별도 트랜잭션으로 환불하여 한 번에 잡는 잠금을 주문 1건 범위로 제한
+ * - 개별 주문 실패는 기록만 하고 계속 진행 (실패 주문은 응답으로 반환)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefundBatchService {
+
+    private static final int ORDER_PAGE_SIZE = 100;
+
+    private final OrderItemRepository orderItemRepository;
+    private final RefundService refundService;
+
+    /**
+     * 코스 일괄 환불
+     *
+     * @param courseId 코스 ID
+     * @param reason 환불 사유
+     * @param adminId 처리 관리자 ID
+     */
+    public RefundBatchResponse refundCourse(Long courseId, String reason, Long adminId) {
+        int targetCount = 0;
+        int refundedCount = 0;
+        List<Long> failedOrderIds = new ArrayList<>();
+
+        Long afterOrderId = 0L;
+        while (true) {
+            List<Long> orderIds = orderItemRepository.findOrderIdsByCourseIdAndStatus(
+                    courseId, OrderItemStatus.PAID, afterOrderId, PageRequest.of(0, ORDER_PAGE_SIZE));
+            if (orderIds.isEmpty()) {
+                break;
+            }
+
+            for (Long orderId : orderIds) {
+                targetCount++;
+                try {
+                    refundService.refundCourseItemsByAdmin(orderId, courseId, reason, adminId);
+                    refundedCount++;
+                } catch (Exception e) {
+                    log.error("일괄 환불 실패 - courseId: {}, orderId: {}, error: {}", courseId, orderId, e.getMessage());
+                    failedOrderIds.add(orderId);
+                }
+            }
+            afterOrderId = orderIds.get(orderIds.size() - 1);
+        }
+
+        log.info("코스 일괄 환불 완료 - courseId: {}, adminId: {}, 대상: {}, 완료: {}, 실패: {}",
+                courseId, adminId, targetCount, refundedCount, failedOrderIds.size());
+
+        return RefundBatchResponse.builder()
+                .courseId(courseId)
+                .targetOrderCount(targetCount)
+                .refundedOrderCount(refundedCount)
+                .failedOrderCount(failedOrderIds.size())
+                .failedOrderIds(failedOrderIds)
+                .build();
+    }
+}
@@ -2,8 +2,9 @@ package com.studyblock.domain.refund.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyblock.domain.course.enums.CourseCounterType;
+import com.studyblock.domain.course.service.CourseCounterService;
 import com.studyblock.domain.course.service.LectureOwnershipService;
-import com.studyblock.domain.enrollment.entity.CourseEnrollment;
 import com.studyblock.domain.enrollment.repository.CourseEnrollmentRepository;
 import com.studyblock.domain.payment.client.TossPaymentClient;
 import com.studyblock.domain.payment.entity.Order;
@@ -25,9 +26,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
+/**
+ * 환불 실행 서비스
+ * - 외부 환불(토스/쿠키) 후 환불 계획(대상 항목, 취소할 수강/섹션 소유권, 정산 불가 항목)을 한 번에 계산
+ * - 계획은 항목별 save/flush 대신 대상 ID 집합 기준 UPDATE 문으로 일괄 반영 (환불 폭주 시 잠금 시간 최소화)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -42,6 +50,7 @@ public class RefundExecutionService {
     private final SettlementService settlementService;
     private final CourseEnrollmentRepository courseEnrollmentRepository;
     private final LectureOwnershipService lectureOwnershipService;
+    private final CourseCounterService courseCounterService;
     private final ObjectMapper objectMapper;
 
     @Transactional
@@ -97,25 +106,15 @@ public class RefundExecutionService {
             if (isFullRefund) {
                 order.refund();
                 orderRepository.save(order);
-            } else {
-                orderRepository.save(order);
             }
 
             refund.process(null);
             refundRepository.save(refund);
 
-            // 환불된 OrderItem들의 status를 REFUNDED로 변경
+            // 환불 계획 계산 (주문 항목 1회 조회) 후 일괄 반영
             // orderItemIds가 null이면 전체 환불 (모든 OrderItem), 아니면 부분 환불 (선택된 OrderItem만)
-            updateRefundedOrderItems(refund, orderItemIds);
-
-            // 수강 취소 및 섹션 소유권 취소 (실패해도 환불은 완료)
-            try {
-                revokeEnrollmentsAndOwnerships(refund, orderItemIds);
-            } catch (Exception e) {
-                log.error("수강 취소/섹션 소유권 취소 실패 - refundId: {}, error: {}",
-                        refundId, e.getMessage(), e);
-                // 수강 취소 실패는 환불 처리에 영향을 주지 않음 (수동 처리 가능)
-            }
+            RefundPlan plan = buildRefundPlan(order, orderItemIds);
+            applyRefundPlan(refund, plan);
 
             // 일일 사용량 차감 (실패해도 환불은 완료)
             try {
@@ -132,7 +131,7 @@ public class RefundExecutionService {
 
             // 정산 불가 처리 (실패해도 환불은 완료)
             try {
-                settlementService.markSettlementIneligible(order.getId());
+                settlementService.markSettlementIneligible(plan.orderItemIds());
             } catch (Exception e) {
                 log.error("정산 불가 처리 실패 - refundId: {}, orderId: {}, error: {}",
                         refundId, order.getId(), e.getMessage(), e);
@@ -230,153 +229,92 @@ public class RefundExecutionService {
     }
 
     /**
-     * 수강 취소 및 섹션 소유권 취소
-     * COURSE 타입: CourseEnrollment 취소
-     * SECTION 타입: LectureOwnership 취소
+     * 환불 계획 계산
+     * - 주문 항목을 한 번만 조회하여 환불 대상 항목, 수강 취소 대상 코스, 소유권 취소 대상 섹션을 분류
+     * - 이미 환불된 항목과 주문에 속하지 않는 항목은 제외
      *
-     * @param refund 환불 엔티티
+     * @param order 주문
      * @param orderItemIds 부분 환불 시 선택된 OrderItem IDs, 전체 환불 시 null
      */
-    private void revokeEnrollmentsAndOwnerships(Refund refund, List<Long> orderItemIds) {
-        Order order = refund.getOrder();
+    private RefundPlan buildRefundPlan(Order order, List<Long> orderItemIds) {
+        boolean partial = orderItemIds != null && !orderItemIds.isEmpty();
+        Set<Long> requestedIds = partial ? new HashSet<>(orderItemIds) : Set.of();
 
-        // 주문에 연결된 CourseEnrollment 조회 및 취소
-        List<CourseEnrollment> enrollments = courseEnrollmentRepository.findByOrderId(order.getId());
-        int courseEnrollmentCancelled = 0;
-
-        if (!enrollments.isEmpty()) {
-            for (CourseEnrollment enrollment : enrollments) {
-                try {
-                    // 부분 환불의 경우 해당 Course가 환불 대상인지 확인
-                    if (orderItemIds != null && !orderItemIds.isEmpty()) {
-                        List<OrderItem> orderItems = orderItemRepository.findByOrder_Id(order.getId());
-                        List<Long> refundCourseIds = orderItems.stream()
-                                .filter(oi -> orderItemIds.contains(oi.getId()) &&
-                                             oi.getItemType() == ItemType.COURSE &&
-                                             oi.getCourse() != null)
-                                .map(oi -> oi.getCourse().getId())
-                                .collect(Collectors.toList());
-
-                        if (!refundCourseIds.contains(enrollment.getCourse().getId())) {
-                            log.debug("부분 환불 대상이 아님 - enrollmentId: {}, courseId: {}",
-                                    enrollment.getId(), enrollment.getCourse().getId());
-                            continue;
-                        }
-                    }
+        List<Long> itemIds = new ArrayList<>();
+        List<Long> courseIds = new ArrayList<>();
+        List<Long> sectionIds = new ArrayList<>();
 
-                    // 환불 가능 여부 확인 (이미 취소된 경우 스킵)
-                    if (enrollment.getStatus().name().equals("REVOKED")) {
-                        log.debug("이미 취소된 수강신청 - enrollmentId: {}", enrollment.getId());
-                        continue;
-                    }
+        for (OrderItem orderItem : orderItemRepository.findByOrder_Id(order.getId())) {
+            if (partial && !requestedIds.contains(orderItem.getId())) {
+                continue;
+            }
+            // 이미 환불된 항목은 건너뛰기 (중복 방지)
+            if (orderItem.isRefunded()) {
+                continue;
+            }
+            itemIds.add(orderItem.getId());
 
-                    enrollment.revoke();
-                    courseEnrollmentRepository.save(enrollment);
-                    courseEnrollmentCancelled++;
-
-                    log.info("CourseEnrollment 취소 완료 - enrollmentId: {}, courseId: {}, userId: {}",
-                            enrollment.getId(),
-                            enrollment.getCourse().getId(),
-                            enrollment.getUser().getId());
-                } catch (Exception e) {
-                    log.error("CourseEnrollment 취소 실패 - enrollmentId: {}, error: {}",
-                            enrollment.getId(), e.getMessage());
-                    // 개별 실패는 계속 진행
-                }
+            if (orderItem.getItemType() == ItemType.COURSE && orderItem.getCourse() != null) {
+                courseIds.add(orderItem.getCourse().getId());
+            } else if (orderItem.getItemType() == ItemType.SECTION && orderItem.getSection() != null) {
+                sectionIds.add(orderItem.getSection().getId());
             }
         }
 
-        // SECTION 타입 OrderItem 확인 및 LectureOwnership 취소
-        List<OrderItem> orderItems = orderItemRepository.findByOrder_Id(order.getId());
-        boolean hasSectionItems = orderItems.stream()
-                .anyMatch(oi -> oi.getItemType() == ItemType.SECTION && oi.getSection() != null);
-
-        int lectureOwnershipCancelled = 0;
-        if (hasSectionItems) {
-            try {
-                lectureOwnershipService.revokeOwnershipsByOrder(order.getId());
-
-                // 취소된 섹션 수 계산
-                lectureOwnershipCancelled = (int) orderItems.stream()
-                        .filter(oi -> oi.getItemType() == ItemType.SECTION && oi.getSection() != null)
-                        .filter(oi -> orderItemIds == null || orderItemIds.isEmpty() || orderItemIds.contains(oi.getId()))
-                        .count();
-
-                log.info("LectureOwnership 일괄 취소 완료 - orderId: {}, 대상 섹션 수: {}",
-                        order.getId(), lectureOwnershipCancelled);
-            } catch (Exception e) {
-                log.error("LectureOwnership 일괄 취소 실패 - orderId: {}, error: {}",
-                        order.getId(), e.getMessage());
-            }
+        if (partial && itemIds.size() < requestedIds.size()) {
+            log.warn("환불 대상에서 제외된 OrderItem 있음 (이미 환불됨 또는 다른 주문 항목) - orderId: {}, 요청: {}, 대상: {}",
+                    order.getId(), orderItemIds, itemIds);
         }
 
-        log.info("수강 취소 및 섹션 소유권 취소 완료 - refundId: {}, CourseEnrollment: {}, LectureOwnership: {}",
-                refund.getId(), courseEnrollmentCancelled, lectureOwnershipCancelled);
+        return new RefundPlan(order.getId(), partial, itemIds, courseIds, sectionIds);
     }
 
-    // 환불된 OrderItem들의 status를 REFUNDED로 변경
-    // orderItemIds가 null이면 전체 환불 (Order의 모든 OrderItem), 아니면 부분 환불 (선택된 OrderItem만)
-    private void updateRefundedOrderItems(Refund refund, List<Long> orderItemIds) {
-        try {
-            Order order = refund.getOrder();
-            List<OrderItem> orderItems;
-
-            if (orderItemIds == null || orderItemIds.isEmpty()) {
-                // 전체 환불: Order의 모든 OrderItem 조회
-                orderItems = orderItemRepository.findByOrder_Id(order.getId());
-                log.info("전체 환불 - Order의 모든 OrderItem 조회: orderId={}, 개수={}", 
-                        order.getId(), orderItems.size());
-            } else {
-                // 부분 환불: 선택된 OrderItem만 조회
-                orderItems = orderItemRepository.findAllById(orderItemIds);
-                log.info("부분 환불 - 선택된 OrderItem 조회: refundId={}, orderItemIds={}, 개수={}", 
-                        refund.getId(), orderItemIds, orderItems.size());
-            }
-
-            if (orderItems.isEmpty()) {
-                log.warn("환불 대상 OrderItem을 찾을 수 없음 - refundId: {}, orderId: {}, orderItemIds: {}", 
-                        refund.getId(), order.getId(), orderItemIds);
-                return;
-            }
+    /**
+     * 환불 계획 일괄 반영
+     * - OrderItem REFUNDED / CourseEnrollment REVOKED / LectureOwnership REVOKED 를 각각 단일 UPDATE로 처리
+     */
+    private void applyRefundPlan(Refund refund, RefundPlan plan) {
+        if (plan.orderItemIds().isEmpty()) {
+            log.warn("환불 대상 OrderItem을 찾을 수 없음 - refundId: {}, orderId: {}", refund.getId(), plan.orderId());
+            return;
+        }
 
-            // 각 OrderItem의 status를 REFUNDED로 변경
-            int updatedCount = 0;
-            for (OrderItem orderItem : orderItems) {
-                // OrderItem이 해당 Order에 속하는지 확인 (보안)
-                if (!orderItem.getOrder().getId().equals(order.getId())) {
-                    log.warn("OrderItem이 Order에 속하지 않음 - orderItemId: {}, orderId: {}", 
-                            orderItem.getId(), order.getId());
-                    continue;
-                }
+        int refundedItems = orderItemRepository.markRefundedByIdIn(plan.orderItemIds());
 
-                // 이미 환불된 항목은 건너뛰기 (중복 방지)
-                if (orderItem.isRefunded()) {
-                    log.debug("이미 환불된 OrderItem - orderItemId: {}", orderItem.getId());
-                    continue;
+        // 전체 환불은 주문의 수강신청 전체, 부분 환불은 대상 코스만 취소
+        // 취소 대상 행을 먼저 잠가 실제로 취소되는 코스만 수강생 수에서 차감
+        List<Long> revokedCourseIds = new ArrayList<>();
+        if (!plan.partial() || !plan.courseIds().isEmpty()) {
+            for (Long courseId : courseEnrollmentRepository.findActiveCourseIdsByOrderIdForUpdate(plan.orderId())) {
+                if (!plan.partial() || plan.courseIds().contains(courseId)) {
+                    revokedCourseIds.add(courseId);
                 }
-
-                orderItem.markAsRefunded();
-                orderItemRepository.save(orderItem);
-                // 변경사항 즉시 반영 (트랜잭션 내에서)
-                orderItemRepository.flush();
-                updatedCount++;
-
-                log.info("OrderItem 환불 상태 변경 - orderItemId: {}, status: REFUNDED, courseId: {}", 
-                        orderItem.getId(), 
-                        orderItem.getCourse() != null ? orderItem.getCourse().getId() : 
-                        (orderItem.getSection() != null && orderItem.getSection().getCourse() != null ? 
-                         orderItem.getSection().getCourse().getId() : null));
             }
+        }
 
-            log.info("환불된 OrderItem 상태 변경 완료 - refundId: {}, 대상={}, 변경={}", 
-                    refund.getId(), orderItems.size(), updatedCount);
+        int revokedEnrollments;
+        if (!plan.partial()) {
+            revokedEnrollments = courseEnrollmentRepository.revokeByOrderId(plan.orderId());
+        } else if (!plan.courseIds().isEmpty()) {
+            revokedEnrollments = courseEnrollmentRepository.revokeByOrderIdAndCourseIdIn(plan.orderId(), plan.courseIds());
+        } else {
+            revokedEnrollments = 0;
+        }
 
-        } catch (Exception e) {
-            log.error("환불된 OrderItem 상태 변경 실패 - refundId: {}, error: {}", 
-                    refund.getId(), e.getMessage(), e);
-            // OrderItem 상태 변경 실패는 환불 처리에 영향을 주지 않음 (로그만 남김)
+        for (Long courseId : revokedCourseIds) {
+            courseCounterService.increment(CourseCounterType.ENROLLMENT, courseId, -1);
         }
-    }
-}
 
+        int revokedOwnerships = lectureOwnershipService.revokeOwnershipsByOrder(plan.orderId(), plan.sectionIds());
+
+        log.info("환불 일괄 반영 완료 - refundId: {}, OrderItem: {}, CourseEnrollment: {}, LectureOwnership: {}",
+                refund.getId(), refundedItems, revokedEnrollments, revokedOwnerships);
+    }
 
+    /**
+     * 환불 계획 (대상 ID 집합)
+     */
+    private record RefundPlan(Long orderId, boolean partial, List<Long> orderItemIds,
+                              List<Long> courseIds, List<Long> sectionIds) {
+    }
+}
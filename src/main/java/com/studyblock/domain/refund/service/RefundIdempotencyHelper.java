@@ -1,5 +1,7 @@
 package com.studyblock.domain.refund.service;
 
+import com.studyblock.domain.idempotency.dto.IdempotencyRecord;
+import com.studyblock.domain.idempotency.exception.IdempotencyRequestInProgressException;
 import com.studyblock.domain.idempotency.service.IdempotencyKeyService;
 import com.studyblock.domain.refund.entity.Refund;
 import com.studyblock.domain.refund.repository.RefundRepository;
@@ -53,12 +55,22 @@ public class RefundIdempotencyHelper {
             return;
         }
 
+        IdempotencyRecord record;
         try {
-            idempotencyKeyService.createIdempotencyKey(user, idempotencyKey, null);
+            record = idempotencyKeyService.createIdempotencyKey(user, idempotencyKey, null);
+        } catch (IdempotencyRequestInProgressException e) {
+            // 같은 키의 환불이 처리 중이면 중복 환불이 되지 않도록 요청을 거절 (HTTP 409)
+            throw e;
         } catch (Exception e) {
             log.warn("멱등성 키 생성 실패 - idempotencyKey: {}, error: {}", 
                     idempotencyKey, e.getMessage());
             // 멱등성 키 생성 실패는 환불 처리에 영향을 주지 않음 (로그만 남김)
+            return;
+        }
+
+        // 중복 확인 이후 다른 요청이 먼저 완료한 경우
+        if (record.isCompleted()) {
+            throw new IllegalStateException("이미 처리된 환불 요청입니다. 중복 환불을 방지합니다.");
         }
     }
 
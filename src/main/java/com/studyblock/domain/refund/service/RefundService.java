@@ -3,11 +3,16 @@ package com.studyblock.domain.refund.service;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.studyblock.domain.payment.entity.Order;
+import com.studyblock.domain.payment.entity.OrderItem;
 import com.studyblock.domain.payment.entity.Payment;
+import com.studyblock.domain.payment.enums.OrderItemStatus;
+import com.studyblock.domain.payment.enums.OrderStatus;
 import com.studyblock.domain.payment.enums.PaymentType;
+import com.studyblock.domain.payment.repository.OrderItemRepository;
 import com.studyblock.domain.payment.repository.OrderRepository;
 import com.studyblock.domain.payment.repository.PaymentRepository;
 import com.studyblock.domain.refund.entity.Refund;
@@ -30,6 +35,7 @@ private final RefundRepository refundRepository;
 private final UserRepository userRepository;
 private final OrderRepository orderRepository;
 private final PaymentRepository paymentRepository;
+private final OrderItemRepository orderItemRepository;
 private final RefundValidationService refundValidationService;
 private final RefundExecutionService refundExecutionService;
 private final RefundIdempotencyHelper idempotencyHelper;
@@ -208,6 +214,64 @@ private final RefundIdempotencyHelper idempotencyHelper;
 }
 
 
+    // 1-b. 관리자 코스 일괄 환불의 주문 단위 처리 (RefundBatchService에서 주문마다 호출)
+    // - 주문마다 별도 트랜잭션 → 실패 주문만 롤백, 잠금은 주문 1건 범위
+    // - 해당 코스 구매 항목 + 해당 코스 섹션 구매 항목만 환불 (환불 기간 검증 없음)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Refund refundCourseItemsByAdmin(Long orderId, Long courseId, String reason, Long adminId) {
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다"));
+        if (order.getStatus() != OrderStatus.PAID) {
+            throw new IllegalStateException("결제 완료된 주문만 환불할 수 있습니다");
+        }
+        if (!refundRepository.findActiveRefundsByOrderId(orderId).isEmpty()) {
+            throw new IllegalStateException("이미 환불 요청이 진행 중입니다");
+        }
+
+        List<OrderItem> items = orderItemRepository.findByOrderIdAndCourseIdAndStatus(orderId, courseId, OrderItemStatus.PAID);
+        if (items.isEmpty()) {
+            throw new IllegalStateException("환불할 주문 항목이 없습니다");
+        }
+
+        List<Payment> payments = paymentRepository.findByOrder_Id(orderId);
+        if (payments.isEmpty()) {
+            throw new IllegalArgumentException("결제 정보를 찾을 수 없습니다");
+        }
+
+        // 항목 금액(쿠폰 할인 반영)을 결제 수단별로 배분
+        long itemsAmount = items.stream()
+                .mapToLong(oi -> oi.getTotalFinalAmount() != null ? oi.getTotalFinalAmount() : 0L)
+                .sum();
+        long cookieSpent = order.getCookieSpent() != null ? order.getCookieSpent() : 0L;
+        long refundAmountCookie = 0L;
+        if (order.getPaymentType() == PaymentType.COOKIE) {
+            refundAmountCookie = Math.min(itemsAmount, cookieSpent);
+        } else if (order.getPaymentType() == PaymentType.MIXED) {
+            long paidAmount = (order.getTotalAmount() != null ? order.getTotalAmount() : 0L)
+                    - (order.getTotalDiscountAmount() != null ? order.getTotalDiscountAmount() : 0);
+            refundAmountCookie = paidAmount > 0 ? Math.min(cookieSpent, itemsAmount * cookieSpent / paidAmount) : 0L;
+        }
+        long refundAmountCash = itemsAmount - refundAmountCookie;
+
+        Refund refund = Refund.builder()
+                .user(order.getUser())
+                .order(order)
+                .payment(payments.get(0))
+                .amount((int) itemsAmount)
+                .reason(reason)
+                .refundRoute(order.getPaymentType() == PaymentType.COOKIE ? "COOKIE" : "CASH")
+                .refundAmountCash((int) refundAmountCash)
+                .refundAmountCookie((int) refundAmountCookie)
+                .build();
+        refundRepository.save(refund);
+
+        refundExecutionService.processRefund(refund, items.stream().map(OrderItem::getId).toList());
+
+        log.info("관리자 코스 환불 완료 - refundId: {}, orderId: {}, courseId: {}, adminId: {}",
+                refund.getId(), orderId, courseId, adminId);
+        return refund;
+    }
+
     // 4. 사용자의 환불 내역 조회
     @Transactional(readOnly = true)
     public List<Refund> getUserRefunds(Long userId) {
@@ -14,11 +14,13 @@ import com.studyblock.domain.community.entity.Comment;
 import com.studyblock.domain.community.repository.PostRepository;
 import com.studyblock.domain.community.repository.CommentRepository;
 import com.studyblock.domain.course.entity.Course;
+import com.studyblock.domain.course.event.CourseCatalogChangedEvent;
 import com.studyblock.domain.course.repository.CourseRepository;
 import com.studyblock.domain.activitylog.service.ActivityLogService;
 import com.studyblock.domain.activitylog.enums.ActionType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -39,6 +41,7 @@ public class ReportService {
     private final CommentRepository commentRepository;
     private final CourseRepository courseRepository;
     private final ActivityLogService activityLogService;
+    private final ApplicationEventPublisher eventPublisher;
 
     //신고 생성
     @Transactional
@@ -248,6 +251,7 @@ public class ReportService {
                     if (course != null && course.getIsPublished()) {
                         course.unpublish();
                         courseRepository.save(course);
+                        eventPublisher.publishEvent(new CourseCatalogChangedEvent(course.getId()));
                         log.info("강의 자동 차단 완료 - courseId: {}", report.getContentId());
                     }
                     break;
@@ -262,8 +266,12 @@ public class ReportService {
                 case COMMENT:
                     Comment comment = commentRepository.findById(report.getContentId()).orElse(null);
                     if (comment != null && comment.getStatus() != com.studyblock.domain.community.enums.ContentStatus.DELETED) {
+                        boolean wasActive = comment.isActive();
                         comment.delete();
                         commentRepository.save(comment);
+                        if (wasActive) {
+                            postRepository.adjustCommentCount(comment.getPost().getId(), -1);
+                        }
                         log.info("댓글 자동 차단 완료 - commentId: {}", report.getContentId());
                     }
                     break;
@@ -4,6 +4,8 @@ import com.studyblock.domain.course.dto.CourseResponse;
 import com.studyblock.domain.roadmap.dto.request.RoadmapProgressUpdateRequest;
 import com.studyblock.domain.roadmap.dto.response.RoadmapDetailResponse;
 import com.studyblock.domain.roadmap.dto.response.RoadmapJobResponse;
+import com.studyblock.domain.roadmap.dto.response.RoadmapPathResponse;
+import com.studyblock.domain.roadmap.dto.response.RoadmapRecommendationResponse;
 import com.studyblock.domain.roadmap.dto.response.UserProgressResponse;
 import com.studyblock.domain.roadmap.service.RoadmapService;
 import com.studyblock.domain.roadmap.service.UserRoadmapProgressService;
@@ -191,6 +193,59 @@ public class RoadmapController {
         );
     }
 
+    /**
+     * 7. 다음 학습 노드 추천
+     */
+    @GetMapping("/progress/{jobId}/next")
+    @Operation(
+            summary = "다음 학습 노드 조회",
+            description = "선행 노드를 모두 완료해 지금 학습을 시작할 수 있는 노드와 진행률을 조회합니다."
+    )
+    @ApiResponse(responseCode = "200", description = "다음 학습 노드 조회 성공")
+    @ApiResponse(responseCode = "401", description = "인증 필요")
+    @CommonApiResponses
+    public ResponseEntity<CommonResponse<RoadmapRecommendationResponse>> getNextNodes(
+            @Parameter(description = "직군 ID", required = true, example = "backend")
+            @PathVariable String jobId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        log.info("GET /api/roadmap/progress/{}/next - user: {}", jobId, userDetails.getUsername());
+
+        Long userId = extractUserIdFromUserDetails(userDetails);
+
+        RoadmapRecommendationResponse recommendation = progressService.getRecommendation(userId, jobId);
+        return ResponseEntity.ok(
+                CommonResponse.success("다음 학습 노드 조회 성공", recommendation)
+        );
+    }
+
+    /**
+     * 8. 목표 노드까지의 학습 경로
+     */
+    @GetMapping("/progress/{jobId}/path/{nodeId}")
+    @Operation(
+            summary = "목표 노드 학습 경로 조회",
+            description = "목표 노드까지 남은 학습이 가장 적은 선행 경로를 조회합니다."
+    )
+    @ApiResponse(responseCode = "200", description = "학습 경로 조회 성공")
+    @ApiResponse(responseCode = "401", description = "인증 필요")
+    @ApiResponse(responseCode = "404", description = "존재하지 않는 노드")
+    @CommonApiResponses
+    public ResponseEntity<CommonResponse<RoadmapPathResponse>> getPathToNode(
+            @Parameter(description = "직군 ID", required = true, example = "backend")
+            @PathVariable String jobId,
+            @Parameter(description = "목표 노드 ID", required = true, example = "backend-5")
+            @PathVariable String nodeId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        log.info("GET /api/roadmap/progress/{}/path/{} - user: {}", jobId, nodeId, userDetails.getUsername());
+
+        Long userId = extractUserIdFromUserDetails(userDetails);
+
+        RoadmapPathResponse path = progressService.getPathToNode(userId, jobId, nodeId);
+        return ResponseEntity.ok(
+                CommonResponse.success("학습 경로 조회 성공", path)
+        );
+    }
+
     /**
      * UserDetails에서 userId 추출 (실제 구현 필요)
      * TODO: 실제 UserDetails 구현에 맞게 수정
@@ -0,0 +1,23 @@
+package com.studyblock.domain.roadmap.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record RoadmapPathResponse(
+        String jobId,
+        String targetNodeId,
+        List<PathStep> path,
+        Integer remainingNodes,
+        Integer remainingHours
+) {
+    @Builder
+    public record PathStep(
+            String nodeId,
+            String label,
+            Integer level,
+            Integer estimatedHours,
+            Boolean completed
+    ) {}
+}
@@ -0,0 +1,15 @@
+package com.studyblock.domain.roadmap.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record RoadmapRecommendationResponse(
+        String jobId,
+        Integer totalNodes,
+        Integer completedNodes,
+        Double progressPercentage,
+        List<RoadmapNodeResponse> nextNodes
+) {
+}
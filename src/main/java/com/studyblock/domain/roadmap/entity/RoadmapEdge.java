@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
+@EntityListeners(RoadmapGraphEntityListener.class)
 @Table(name = "roadmap_edge")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RoadmapEdge extends BaseTimeEntity {
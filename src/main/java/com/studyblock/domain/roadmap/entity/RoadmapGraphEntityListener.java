@@ -0,0 +1,42 @@
+package com.studyblock.domain.roadmap.entity;
+
+import com.studyblock.domain.roadmap.event.RoadmapGraphChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 로드맵 직군 / 노드 / 엣지 변경 시 RoadmapGraphChangedEvent 발행
+ * - Hibernate 가 Spring 빈 컨테이너로 생성하므로 생성자 주입 가능
+ * - 연관 직군은 프록시의 ID 만 읽어 추가 조회를 만들지 않음
+ */
+@RequiredArgsConstructor
+public class RoadmapGraphEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Long jobPk = resolveJobPk(entity);
+        if (jobPk != null) {
+            eventPublisher.publishEvent(new RoadmapGraphChangedEvent(jobPk));
+        }
+    }
+
+    private Long resolveJobPk(Object entity) {
+        if (entity instanceof RoadmapJob job) {
+            return job.getId();
+        }
+        if (entity instanceof RoadmapNode node) {
+            return node.getRoadmapJob() != null ? node.getRoadmapJob().getId() : null;
+        }
+        if (entity instanceof RoadmapEdge edge) {
+            return edge.getRoadmapJob() != null ? edge.getRoadmapJob().getId() : null;
+        }
+        return null;
+    }
+}
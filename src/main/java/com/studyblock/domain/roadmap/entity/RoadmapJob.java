@@ -12,6 +12,7 @@ import java.util.List;
 
 @Getter
 @Entity
+@EntityListeners(RoadmapGraphEntityListener.class)
 @Table(name = "roadmap_job")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RoadmapJob extends BaseTimeEntity {
@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
+@EntityListeners(RoadmapGraphEntityListener.class)
 @Table(name = "roadmap_node")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RoadmapNode extends BaseTimeEntity {
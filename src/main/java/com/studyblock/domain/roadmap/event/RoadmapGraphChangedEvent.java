@@ -0,0 +1,25 @@
+package com.studyblock.domain.roadmap.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로드맵 그래프 변경 도메인 이벤트
+ *
+ * 발행 시점: 로드맵 직군 / 노드 / 엣지가 저장, 수정, 삭제될 때 (RoadmapGraphEntityListener)
+ * 용도: 트랜잭션 커밋 이후 캐시된 로드맵 그래프를 무효화하기 위한 트리거
+ */
+@Getter
+@RequiredArgsConstructor
+public class RoadmapGraphChangedEvent {
+
+    /**
+     * 변경된 직군 PK (roadmap_job.id)
+     */
+    private final Long jobPk;
+
+    /**
+     * 이벤트 발생 시각
+     */
+    private final long timestamp = System.currentTimeMillis();
+}
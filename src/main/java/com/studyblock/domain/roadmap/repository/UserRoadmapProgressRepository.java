@@ -29,6 +29,16 @@ public interface UserRoadmapProgressRepository extends JpaRepository<UserRoadmap
                                        @Param("jobId") String jobId,
                                        @Param("status") ProgressStatus status);
 
+    /**
+     * 특정 상태인 진행 노드 PK 목록 (로드맵 그래프의 BitSet 오버레이용)
+     */
+    @Query("SELECT urp.roadmapNode.id FROM UserRoadmapProgress urp " +
+           "WHERE urp.user.id = :userId AND urp.roadmapNode.roadmapJob.jobId = :jobId " +
+           "AND urp.status = :status")
+    List<Long> findNodePksByUserIdAndJobIdAndStatus(@Param("userId") Long userId,
+                                                    @Param("jobId") String jobId,
+                                                    @Param("status") ProgressStatus status);
+
     boolean existsByUserAndRoadmapNode(User user, RoadmapNode roadmapNode);
 
     void deleteByUserAndRoadmapNode(User user, RoadmapNode roadmapNode);
@@ -0,0 +1,280 @@
+package com.studyblock.domain.roadmap.service;
+
+import com.studyblock.domain.roadmap.dto.response.RoadmapEdgeResponse;
+import com.studyblock.domain.roadmap.dto.response.RoadmapJobResponse;
+import com.studyblock.domain.roadmap.dto.response.RoadmapNodeResponse;
+import com.studyblock.domain.roadmap.entity.RoadmapEdge;
+import com.studyblock.domain.roadmap.entity.RoadmapJob;
+import com.studyblock.domain.roadmap.entity.RoadmapNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 직군별 로드맵 DAG (불변)
+ * - 노드는 0..n-1 정수 인덱스로 다루고, 인접 리스트는 CSR(offset + target 배열) 로 보관
+ * - 위상 정렬 순서와 깊이(루트로부터 최장 거리)는 생성 시 한 번만 계산
+ * - 사용자 진행 상황은 완료 노드 BitSet 으로 덧씌워 진행률 / 다음 학습 노드 / 목표까지 경로를 메모리에서 계산
+ */
+public final class RoadmapGraph {
+
+    private final Long jobPk;
+    private final RoadmapJobResponse job;
+    private final List<RoadmapNodeResponse> nodes;
+    private final List<RoadmapEdgeResponse> edges;
+
+    private final Map<String, Integer> indexByNodeId;
+    private final Map<Long, Integer> indexByNodePk;
+
+    private final int[] successorOffsets;
+    private final int[] successors;
+    private final int[] predecessorOffsets;
+    private final int[] predecessors;
+
+    private final int[] topologicalOrder;
+    private final int[] depth;
+    private final boolean acyclic;
+
+    private RoadmapGraph(RoadmapJob job, List<RoadmapNode> nodes, List<RoadmapEdge> edges) {
+        this.jobPk = job.getId();
+        this.job = RoadmapJobResponse.from(job);
+        this.nodes = nodes.stream().map(RoadmapNodeResponse::from).toList();
+        this.edges = edges.stream().map(RoadmapEdgeResponse::from).toList();
+
+        int n = nodes.size();
+        this.indexByNodeId = new HashMap<>(n * 2);
+        this.indexByNodePk = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            indexByNodeId.put(nodes.get(i).getNodeId(), i);
+            indexByNodePk.put(nodes.get(i).getId(), i);
+        }
+
+        // 양 끝이 활성 노드인 엣지만 그래프에 포함 (응답용 edges 는 기존과 동일하게 전체 활성 엣지)
+        int[] sources = new int[edges.size()];
+        int[] targets = new int[edges.size()];
+        int edgeCount = 0;
+        for (RoadmapEdge edge : edges) {
+            Integer source = indexByNodePk.get(edge.getSourceNode().getId());
+            Integer target = indexByNodePk.get(edge.getTargetNode().getId());
+            if (source == null || target == null || source.equals(target)) {
+                continue;
+            }
+            sources[edgeCount] = source;
+            targets[edgeCount] = target;
+            edgeCount++;
+        }
+
+        this.successorOffsets = new int[n + 1];
+        this.successors = new int[edgeCount];
+        this.predecessorOffsets = new int[n + 1];
+        this.predecessors = new int[edgeCount];
+        fillAdjacency(n, edgeCount, sources, targets, successorOffsets, successors);
+        fillAdjacency(n, edgeCount, targets, sources, predecessorOffsets, predecessors);
+
+        // Kahn 알고리즘: 노드 조회 순서(level, positionX) 를 유지하며 위상 정렬
+        this.topologicalOrder = new int[n];
+        this.depth = new int[n];
+        int[] inDegree = new int[n];
+        for (int v = 0; v < n; v++) {
+            inDegree[v] = predecessorOffsets[v + 1] - predecessorOffsets[v];
+        }
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegree[v] == 0) {
+                queue[tail++] = v;
+            }
+        }
+        while (head < tail) {
+            int u = queue[head++];
+            for (int i = successorOffsets[u]; i < successorOffsets[u + 1]; i++) {
+                int v = successors[i];
+                depth[v] = Math.max(depth[v], depth[u] + 1);
+                if (--inDegree[v] == 0) {
+                    queue[tail++] = v;
+                }
+            }
+        }
+        System.arraycopy(queue, 0, topologicalOrder, 0, tail);
+
+        // 순환이 있으면 남은 노드를 조회 순서대로 뒤에 붙임 (그래프는 계속 제공, 경로 계산은 순환 엣지를 무시)
+        this.acyclic = tail == n;
+        if (!acyclic) {
+            for (int v = 0; v < n; v++) {
+                if (inDegree[v] > 0) {
+                    topologicalOrder[tail++] = v;
+                }
+            }
+        }
+    }
+
+    /**
+     * 활성 노드 / 엣지로 그래프 생성
+     *
+     * @param job   직군
+     * @param nodes 활성 노드 (level, positionX 순)
+     * @param edges 활성 엣지 (source / target 노드 fetch join)
+     */
+    public static RoadmapGraph of(RoadmapJob job, List<RoadmapNode> nodes, List<RoadmapEdge> edges) {
+        return new RoadmapGraph(job, nodes, edges);
+    }
+
+    private static void fillAdjacency(int n, int edgeCount, int[] from, int[] to, int[] offsets, int[] adjacency) {
+        for (int i = 0; i < edgeCount; i++) {
+            offsets[from[i] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] cursor = Arrays.copyOf(offsets, n);
+        for (int i = 0; i < edgeCount; i++) {
+            adjacency[cursor[from[i]]++] = to[i];
+        }
+    }
+
+    public Long getJobPk() {
+        return jobPk;
+    }
+
+    public RoadmapJobResponse getJob() {
+        return job;
+    }
+
+    public List<RoadmapNodeResponse> getNodes() {
+        return nodes;
+    }
+
+    public List<RoadmapEdgeResponse> getEdges() {
+        return edges;
+    }
+
+    public int getNodeCount() {
+        return nodes.size();
+    }
+
+    public boolean isAcyclic() {
+        return acyclic;
+    }
+
+    public RoadmapNodeResponse getNode(int index) {
+        return nodes.get(index);
+    }
+
+    /**
+     * 노드 인덱스 조회
+     *
+     * @param nodeId 노드 식별자 (backend-1)
+     * @return 인덱스, 이 직군의 활성 노드가 아니면 -1
+     */
+    public int indexOf(String nodeId) {
+        Integer index = indexByNodeId.get(nodeId);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * 노드 깊이 (선행 노드가 없는 노드는 0, 가장 긴 선행 경로 길이)
+     */
+    public int depthOf(int index) {
+        return depth[index];
+    }
+
+    /**
+     * 완료 노드 PK 목록을 BitSet 으로 변환 (이 직군의 활성 노드가 아닌 PK 는 무시)
+     */
+    public BitSet toBitSet(Collection<Long> completedNodePks) {
+        BitSet completed = new BitSet(nodes.size());
+        for (Long nodePk : completedNodePks) {
+            Integer index = indexByNodePk.get(nodePk);
+            if (index != null) {
+                completed.set(index);
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * 진행률 (완료 노드 수 / 전체 활성 노드 수 * 100)
+     */
+    public double progressPercentage(BitSet completed) {
+        if (nodes.isEmpty()) {
+            return 0.0;
+        }
+        return (completed.cardinality() * 100.0) / nodes.size();
+    }
+
+    /**
+     * 지금 학습을 시작할 수 있는 노드 (미완료이면서 선행 노드를 모두 완료) - 위상 정렬 순
+     */
+    public List<RoadmapNodeResponse> unlockedNodes(BitSet completed) {
+        List<RoadmapNodeResponse> unlocked = new ArrayList<>();
+        for (int v : topologicalOrder) {
+            if (!completed.get(v) && allPredecessorsCompleted(v, completed)) {
+                unlocked.add(nodes.get(v));
+            }
+        }
+        return unlocked;
+    }
+
+    private boolean allPredecessorsCompleted(int v, BitSet completed) {
+        for (int i = predecessorOffsets[v]; i < predecessorOffsets[v + 1]; i++) {
+            if (!completed.get(predecessors[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 목표 노드까지의 최단 학습 경로
+     * - 시작 노드(선행 노드 없음) 에서 목표 노드까지 이어지는 경로 중 미완료 노드가 가장 적은 경로
+     * - 위상 정렬 순서로 한 번 순회하는 DP (O(V + E))
+     *
+     * @param completed 완료 노드
+     * @param target    목표 노드 인덱스
+     * @return 시작 노드 → 목표 노드 순의 노드 인덱스
+     */
+    public int[] shortestPath(BitSet completed, int target) {
+        int n = nodes.size();
+        int[] cost = new int[n];
+        int[] parent = new int[n];
+        Arrays.fill(cost, Integer.MAX_VALUE);
+        Arrays.fill(parent, -1);
+
+        for (int v : topologicalOrder) {
+            int own = completed.get(v) ? 0 : 1;
+            int start = predecessorOffsets[v];
+            int end = predecessorOffsets[v + 1];
+            if (start == end) {
+                cost[v] = own;
+                continue;
+            }
+            for (int i = start; i < end; i++) {
+                int u = predecessors[i];
+                if (cost[u] != Integer.MAX_VALUE && cost[u] + own < cost[v]) {
+                    cost[v] = cost[u] + own;
+                    parent[v] = u;
+                }
+            }
+            // 순환으로 선행 노드 비용이 정해지지 않은 노드는 단독 경로로 취급
+            if (cost[v] == Integer.MAX_VALUE) {
+                cost[v] = own;
+            }
+        }
+
+        int length = 0;
+        for (int v = target; v != -1; v = parent[v]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int v = target, i = length - 1; v != -1; v = parent[v], i--) {
+            path[i] = v;
+        }
+        return path;
+    }
+}
@@ -0,0 +1,145 @@
+package com.studyblock.domain.roadmap.service;
+
+import com.studyblock.domain.roadmap.entity.RoadmapEdge;
+import com.studyblock.domain.roadmap.entity.RoadmapJob;
+import com.studyblock.domain.roadmap.entity.RoadmapNode;
+import com.studyblock.domain.roadmap.repository.RoadmapEdgeRepository;
+import com.studyblock.domain.roadmap.repository.RoadmapJobRepository;
+import com.studyblock.domain.roadmap.repository.RoadmapNodeRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로드맵 그래프 캐시
+ * - 직군별 노드 / 엣지를 한 번 읽어 RoadmapGraph 로 만들어 인스턴스 로컬에 보관
+ * - 노드 / 엣지 / 직군 변경 커밋 후 Redis Pub/Sub 으로 모든 인스턴스의 로컬 캐시를 무효화 (유실 시 TTL 만료로 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoadmapGraphCache implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "roadmap:graph:invalidated";
+
+    private final RoadmapJobRepository roadmapJobRepository;
+    private final RoadmapNodeRepository roadmapNodeRepository;
+    private final RoadmapEdgeRepository roadmapEdgeRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final ConcurrentMap<String, LocalEntry> localCache = new ConcurrentHashMap<>();
+
+    // 무효화 세대: 로드 도중 무효화가 일어나면 로드한 (이전) 그래프를 캐시에 넣지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${roadmap.graph-cache.local-ttl-seconds:600}")
+    private long localTtlSeconds;
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        try {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        } catch (RuntimeException e) {
+            log.warn("로드맵 그래프 무효화 채널 구독 실패", e);
+        }
+    }
+
+    /**
+     * 직군 로드맵 그래프 조회 (로컬 캐시 → MySQL)
+     *
+     * @param jobId 직군 ID (backend, frontend, ...)
+     * @return 로드맵 그래프
+     * @throws IllegalArgumentException 존재하지 않거나 비활성화된 직군인 경우
+     */
+    @Transactional(readOnly = true)
+    public RoadmapGraph get(String jobId) {
+        LocalEntry local = localCache.get(jobId);
+        if (local != null && !local.isExpired()) {
+            return local.graph();
+        }
+
+        long loadedGeneration = generation.get();
+        RoadmapGraph graph = load(jobId);
+        if (generation.get() == loadedGeneration) {
+            localCache.put(jobId, new LocalEntry(graph, System.currentTimeMillis() + localTtlSeconds * 1000));
+        }
+        return graph;
+    }
+
+    /**
+     * 직군 로드맵 그래프 무효화 (모든 인스턴스)
+     *
+     * @param jobPk 직군 PK (roadmap_job.id)
+     */
+    public void evict(Long jobPk) {
+        if (jobPk == null) {
+            return;
+        }
+
+        evictLocal(jobPk);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(jobPk));
+        } catch (RuntimeException e) {
+            log.warn("로드맵 그래프 무효화 발행 실패 (로컬 TTL 만료 후 반영) - jobPk: {}", jobPk, e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 발행한 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", "");
+        try {
+            evictLocal(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 로드맵 그래프 무효화 메시지 - body: {}", body);
+        }
+    }
+
+    private void evictLocal(Long jobPk) {
+        generation.incrementAndGet();
+        localCache.values().removeIf(entry -> jobPk.equals(entry.graph().getJobPk()));
+    }
+
+    private RoadmapGraph load(String jobId) {
+        RoadmapJob job = roadmapJobRepository.findByJobId(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 직군입니다: " + jobId));
+
+        if (!job.getIsActive()) {
+            throw new IllegalArgumentException("비활성화된 직군입니다: " + jobId);
+        }
+
+        List<RoadmapNode> nodes = roadmapNodeRepository.findAllByRoadmapJobAndIsActiveTrue(job);
+        List<RoadmapEdge> edges = roadmapEdgeRepository.findAllByRoadmapJobAndIsActiveTrue(job);
+
+        RoadmapGraph graph = RoadmapGraph.of(job, nodes, edges);
+        if (!graph.isAcyclic()) {
+            log.warn("로드맵 그래프에 순환이 있습니다 - jobId: {}", jobId);
+        }
+        log.debug("로드맵 그래프 로드 - jobId: {}, nodes: {}, edges: {}", jobId, nodes.size(), edges.size());
+        return graph;
+    }
+
+    private record LocalEntry(RoadmapGraph graph, long expiresAtMillis) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAtMillis;
+        }
+    }
+}
@@ -1,13 +1,12 @@
 package com.studyblock.domain.roadmap.service;
 
+import com.studyblock.domain.category.service.CategoryService;
 import com.studyblock.domain.course.dto.CourseResponse;
 import com.studyblock.domain.course.entity.Course;
 import com.studyblock.domain.course.repository.CourseRepository;
 import com.studyblock.domain.roadmap.dto.response.*;
-import com.studyblock.domain.roadmap.entity.RoadmapEdge;
 import com.studyblock.domain.roadmap.entity.RoadmapJob;
 import com.studyblock.domain.roadmap.entity.RoadmapNode;
-import com.studyblock.domain.roadmap.repository.RoadmapEdgeRepository;
 import com.studyblock.domain.roadmap.repository.RoadmapJobRepository;
 import com.studyblock.domain.roadmap.repository.RoadmapNodeRepository;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,8 +28,9 @@ public class RoadmapService {
 
     private final RoadmapJobRepository roadmapJobRepository;
     private final RoadmapNodeRepository roadmapNodeRepository;
-    private final RoadmapEdgeRepository roadmapEdgeRepository;
+    private final RoadmapGraphCache roadmapGraphCache;
     private final CourseRepository courseRepository;
+    private final CategoryService categoryService;
 
     /**
      * 모든 활성화된 직군 목록 조회 (display_order 정렬)
@@ -44,29 +45,13 @@ public class RoadmapService {
 
     /**
      * 특정 직군의 로드맵 전체 조회 (노드 + 엣지)
+     * - 로드맵 그래프 캐시에서 조회 (캐시 미스 시에만 직군 / 노드 / 엣지 조회)
      */
     public RoadmapDetailResponse getRoadmapByJobId(String jobId) {
         log.info("로드맵 조회 - jobId: {}", jobId);
 
-        RoadmapJob job = roadmapJobRepository.findByJobId(jobId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 직군입니다: " + jobId));
-
-        if (!job.getIsActive()) {
-            throw new IllegalArgumentException("비활성화된 직군입니다: " + jobId);
-        }
-
-        List<RoadmapNode> nodes = roadmapNodeRepository.findAllByRoadmapJobAndIsActiveTrue(job);
-        List<RoadmapEdge> edges = roadmapEdgeRepository.findAllByRoadmapJobAndIsActiveTrue(job);
-
-        RoadmapJobResponse jobResponse = RoadmapJobResponse.from(job);
-        List<RoadmapNodeResponse> nodeResponses = nodes.stream()
-                .map(RoadmapNodeResponse::from)
-                .collect(Collectors.toList());
-        List<RoadmapEdgeResponse> edgeResponses = edges.stream()
-                .map(RoadmapEdgeResponse::from)
-                .collect(Collectors.toList());
-
-        return RoadmapDetailResponse.of(jobResponse, nodeResponses, edgeResponses);
+        RoadmapGraph graph = roadmapGraphCache.get(jobId);
+        return RoadmapDetailResponse.of(graph.getJob(), graph.getNodes(), graph.getEdges());
     }
 
     /**
@@ -91,8 +76,9 @@ public class RoadmapService {
             return Page.empty(pageable);
         }
 
-        // category_id로 강의 검색 후 DTO로 변환
-        Page<Course> courses = courseRepository.findByCategoryId(node.getCategory().getId(), pageable);
+        // 노드 카테고리와 하위 카테고리의 강의 검색 후 DTO로 변환
+        Set<Long> categoryIds = categoryService.getSubtreeCategoryIds(node.getCategory().getId());
+        Page<Course> courses = courseRepository.findByCategoryIds(categoryIds, pageable);
         return courses.map(CourseResponse::from);
     }
 
@@ -100,9 +86,6 @@ public class RoadmapService {
      * 특정 직군의 전체 노드 수 조회
      */
     public long getTotalNodeCount(String jobId) {
-        RoadmapJob job = roadmapJobRepository.findByJobId(jobId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 직군입니다: " + jobId));
-
-        return roadmapNodeRepository.countByRoadmapJobAndIsActiveTrue(job);
+        return roadmapGraphCache.get(jobId).getNodeCount();
     }
 }
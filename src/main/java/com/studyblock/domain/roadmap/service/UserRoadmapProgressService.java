@@ -1,5 +1,8 @@
 package com.studyblock.domain.roadmap.service;
 
+import com.studyblock.domain.roadmap.dto.response.RoadmapNodeResponse;
+import com.studyblock.domain.roadmap.dto.response.RoadmapPathResponse;
+import com.studyblock.domain.roadmap.dto.response.RoadmapRecommendationResponse;
 import com.studyblock.domain.roadmap.dto.response.UserProgressResponse;
 import com.studyblock.domain.roadmap.entity.RoadmapNode;
 import com.studyblock.domain.roadmap.entity.UserRoadmapProgress;
@@ -12,6 +15,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,6 +29,7 @@ public class UserRoadmapProgressService {
     private final UserRoadmapProgressRepository progressRepository;
     private final UserRepository userRepository;
     private final RoadmapService roadmapService;
+    private final RoadmapGraphCache roadmapGraphCache;
 
     /**
      * 사용자의 특정 직군 진행 상황 조회
@@ -70,23 +76,13 @@ public class UserRoadmapProgressService {
 
     /**
      * 진행률 계산 (완료된 노드 수 / 전체 노드 수)
+     * - 캐시된 로드맵 그래프에 완료 노드 BitSet 을 덧씌워 계산 (완료 노드 PK 조회 1회)
      */
     public Double calculateProgressPercentage(Long userId, String jobId) {
         log.info("로드맵 진행률 계산 - userId: {}, jobId: {}", userId, jobId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-
-        long totalNodes = roadmapService.getTotalNodeCount(jobId);
-        if (totalNodes == 0) {
-            return 0.0;
-        }
-
-        long completedNodes = progressRepository.countByUserAndJobIdAndStatus(
-                user, jobId, ProgressStatus.COMPLETED
-        );
-
-        return (completedNodes * 100.0) / totalNodes;
+        RoadmapGraph graph = roadmapGraphCache.get(jobId);
+        return graph.progressPercentage(loadCompleted(graph, userId, jobId));
     }
 
     /**
@@ -95,12 +91,72 @@ public class UserRoadmapProgressService {
     public Long getCompletedNodeCount(Long userId, String jobId) {
         log.info("완료된 노드 수 조회 - userId: {}, jobId: {}", userId, jobId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        RoadmapGraph graph = roadmapGraphCache.get(jobId);
+        return (long) loadCompleted(graph, userId, jobId).cardinality();
+    }
+
+    /**
+     * 진행률과 지금 학습을 시작할 수 있는 다음 노드 (선행 노드를 모두 완료한 미완료 노드)
+     */
+    public RoadmapRecommendationResponse getRecommendation(Long userId, String jobId) {
+        log.info("로드맵 다음 학습 노드 조회 - userId: {}, jobId: {}", userId, jobId);
+
+        RoadmapGraph graph = roadmapGraphCache.get(jobId);
+        BitSet completed = loadCompleted(graph, userId, jobId);
+
+        return RoadmapRecommendationResponse.builder()
+                .jobId(jobId)
+                .totalNodes(graph.getNodeCount())
+                .completedNodes(completed.cardinality())
+                .progressPercentage(graph.progressPercentage(completed))
+                .nextNodes(graph.unlockedNodes(completed))
+                .build();
+    }
+
+    /**
+     * 목표 노드까지의 최단 학습 경로 (미완료 노드가 가장 적은 선행 경로)
+     */
+    public RoadmapPathResponse getPathToNode(Long userId, String jobId, String nodeId) {
+        log.info("로드맵 목표 경로 조회 - userId: {}, jobId: {}, nodeId: {}", userId, jobId, nodeId);
+
+        RoadmapGraph graph = roadmapGraphCache.get(jobId);
+        int target = graph.indexOf(nodeId);
+        if (target < 0) {
+            throw new IllegalArgumentException("존재하지 않는 노드입니다: " + nodeId);
+        }
+
+        BitSet completed = loadCompleted(graph, userId, jobId);
+        List<RoadmapPathResponse.PathStep> path = new ArrayList<>();
+        int remainingNodes = 0;
+        int remainingHours = 0;
+        for (int index : graph.shortestPath(completed, target)) {
+            RoadmapNodeResponse node = graph.getNode(index);
+            boolean nodeCompleted = completed.get(index);
+            if (!nodeCompleted) {
+                remainingNodes++;
+                remainingHours += node.data().estimatedHours() != null ? node.data().estimatedHours() : 0;
+            }
+            path.add(RoadmapPathResponse.PathStep.builder()
+                    .nodeId(node.id())
+                    .label(node.data().label())
+                    .level(node.data().level())
+                    .estimatedHours(node.data().estimatedHours())
+                    .completed(nodeCompleted)
+                    .build());
+        }
+
+        return RoadmapPathResponse.builder()
+                .jobId(jobId)
+                .targetNodeId(nodeId)
+                .path(path)
+                .remainingNodes(remainingNodes)
+                .remainingHours(remainingHours)
+                .build();
+    }
 
-        return progressRepository.countByUserAndJobIdAndStatus(
-                user, jobId, ProgressStatus.COMPLETED
-        );
+    private BitSet loadCompleted(RoadmapGraph graph, Long userId, String jobId) {
+        return graph.toBitSet(progressRepository.findNodePksByUserIdAndJobIdAndStatus(
+                userId, jobId, ProgressStatus.COMPLETED));
     }
 
     /**
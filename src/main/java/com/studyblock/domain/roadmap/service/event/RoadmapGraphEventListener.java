@@ -0,0 +1,32 @@
+package com.studyblock.domain.roadmap.service.event;
+
+import com.studyblock.domain.roadmap.event.RoadmapGraphChangedEvent;
+import com.studyblock.domain.roadmap.service.RoadmapGraphCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 로드맵 그래프 변경 이벤트 리스너
+ *
+ * 역할:
+ * - 직군 / 노드 / 엣지 쓰기 트랜잭션이 커밋된 후 로드맵 그래프 캐시 무효화
+ * - 커밋 전에 무효화하면 다른 요청이 이전 데이터로 캐시를 다시 채울 수 있으므로 AFTER_COMMIT 사용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoadmapGraphEventListener {
+
+    private final RoadmapGraphCache roadmapGraphCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRoadmapGraphChanged(RoadmapGraphChangedEvent event) {
+        log.debug("RoadmapGraphChangedEvent 수신 - jobPk: {}, Timestamp: {}",
+                event.getJobPk(), event.getTimestamp());
+
+        roadmapGraphCache.evict(event.getJobPk());
+    }
+}
@@ -3,6 +3,7 @@ package com.studyblock.domain.settlement.controller;
 import com.studyblock.domain.settlement.dto.CourseStatisticsResponse;
 import com.studyblock.domain.settlement.dto.SettlementDashboardResponse;
 import com.studyblock.domain.settlement.dto.SettlementLedgerResponse;
+import com.studyblock.domain.settlement.dto.SettlementRunResponse;
 import com.studyblock.domain.settlement.dto.SettlementSummaryResponse;
 import com.studyblock.domain.settlement.service.SettlementService;
 import com.studyblock.global.dto.CommonResponse;
@@ -164,6 +165,61 @@ public class SettlementController {
         }
     }
 
+    // 정산 배치 시작 (관리자 전용, 백그라운드 실행 / 중단된 실행은 이어서 처리)
+    @PostMapping("/runs")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CommonResponse<SettlementRunResponse>> startSettlementRun() {
+        try {
+            SettlementRunResponse run = settlementService.startSettlementRun();
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(CommonResponse.success(
+                    "정산 배치를 시작했습니다",
+                    run
+            ));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(CommonResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("정산 배치 시작 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(CommonResponse.error("정산 배치 시작 중 오류가 발생했습니다"));
+        }
+    }
+
+    // 최근 정산 배치 상태 (관리자 전용)
+    @GetMapping("/runs/latest")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CommonResponse<SettlementRunResponse>> getLatestSettlementRun() {
+        try {
+            return ResponseEntity.ok(CommonResponse.success(
+                    "정산 배치 상태를 조회했습니다",
+                    settlementService.getLatestSettlementRun()
+            ));
+        } catch (Exception e) {
+            log.error("정산 배치 상태 조회 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(CommonResponse.error("정산 배치 상태 조회 중 오류가 발생했습니다"));
+        }
+    }
+
+    // 정산 배치 상태 (관리자 전용)
+    @GetMapping("/runs/{runId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CommonResponse<SettlementRunResponse>> getSettlementRun(@PathVariable Long runId) {
+        try {
+            return ResponseEntity.ok(CommonResponse.success(
+                    "정산 배치 상태를 조회했습니다",
+                    settlementService.getSettlementRun(runId)
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(CommonResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("정산 배치 상태 조회 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(CommonResponse.error("정산 배치 상태 조회 중 오류가 발생했습니다"));
+        }
+    }
+
     // 정산 가능 상태로 변경 (스케줄러용, 관리자 전용)
     @PostMapping("/mark-eligible")
     @PreAuthorize("hasRole('ADMIN')")
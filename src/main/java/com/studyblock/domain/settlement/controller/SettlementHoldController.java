@@ -1,17 +1,20 @@
 package com.studyblock.domain.settlement.controller;
 
+import com.studyblock.domain.settlement.dto.SettlementHoldReleaseRequest;
 import com.studyblock.domain.settlement.dto.SettlementHoldResponse;
 import com.studyblock.domain.settlement.service.SettlementHoldService;
 import com.studyblock.global.dto.CommonResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Slf4j
 @RestController
@@ -22,17 +25,23 @@ public class SettlementHoldController {
 
     private final SettlementHoldService settlementHoldService;
 
-    // 목록 조회 (필터: status, from, to, instructorId, orderNumber)
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 목록 조회 (필터: status, from, to, instructorId, orderNumber / 최신 생성순 페이지)
     @GetMapping
-    public ResponseEntity<CommonResponse<List<SettlementHoldResponse>>> listHolds(
+    public ResponseEntity<CommonResponse<Page<SettlementHoldResponse>>> listHolds(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) LocalDateTime from,
             @RequestParam(required = false) LocalDateTime to,
             @RequestParam(required = false) Long instructorId,
-            @RequestParam(required = false) String orderNumber
+            @RequestParam(required = false) String orderNumber,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
     ) {
         try {
-            List<SettlementHoldResponse> data = settlementHoldService.listHolds(status, from, to, instructorId, orderNumber);
+            Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+            Page<SettlementHoldResponse> data = settlementHoldService.listHolds(
+                    status, from, to, instructorId, orderNumber, pageable);
             return ResponseEntity.ok(CommonResponse.success(
                     "정산 보류 목록을 조회했습니다",
                     data
@@ -82,6 +91,22 @@ public class SettlementHoldController {
         }
     }
 
+    // 보류 일괄 해제
+    @PostMapping("/release")
+    public ResponseEntity<CommonResponse<Integer>> releaseAll(@RequestBody SettlementHoldReleaseRequest request) {
+        try {
+            int released = settlementHoldService.releaseHolds(request.getHoldIds());
+            return ResponseEntity.ok(CommonResponse.success(
+                    "정산 보류를 일괄 해제했습니다",
+                    released
+            ));
+        } catch (Exception e) {
+            log.error("정산 보류 일괄 해제 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(CommonResponse.error("정산 보류 일괄 해제 중 오류가 발생했습니다"));
+        }
+    }
+
     // 보류 취소
     @PostMapping("/{holdId}/cancel")
     public ResponseEntity<CommonResponse<SettlementHoldResponse>> cancel(@PathVariable Long holdId) {
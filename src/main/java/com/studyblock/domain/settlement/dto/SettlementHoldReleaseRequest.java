@@ -0,0 +1,14 @@
+package com.studyblock.domain.settlement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementHoldReleaseRequest {
+    private List<Long> holdIds; // 해제할 보류 ID 목록 (HELD 가 아닌 보류는 건너뜀)
+}
@@ -20,6 +20,7 @@ public class SettlementPaymentResponse {
     private Long instructorId;
     private String instructorName;
     private Integer netAmount;
+    private Integer ledgerCount; // 배치 지급에 포함된 정산 레코드 수 (레코드별 지급이면 null)
     private LocalDateTime paymentDate;
     private PaymentMethod paymentMethod;
     private String bankAccountInfo;
@@ -35,7 +36,8 @@ public class SettlementPaymentResponse {
                 .ledgerId(payment.getSettlementLedger().getId())
                 .instructorId(payment.getSettlementLedger().getInstructor().getId())
                 .instructorName(payment.getSettlementLedger().getInstructor().getName())
-                .netAmount(payment.getSettlementLedger().getNetAmount())
+                .netAmount(payment.getPayoutAmount())
+                .ledgerCount(payment.getLedgerCount())
                 .paymentDate(payment.getPaymentDate())
                 .paymentMethod(payment.getPaymentMethod())
                 .bankAccountInfo(payment.getBankAccountInfo())
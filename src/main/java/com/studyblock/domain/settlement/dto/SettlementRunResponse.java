@@ -0,0 +1,47 @@
+package com.studyblock.domain.settlement.dto;
+
+import com.studyblock.domain.settlement.entity.SettlementRun;
+import com.studyblock.domain.settlement.enums.SettlementRunStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정산 배치 실행 상태
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementRunResponse {
+    private Long runId;
+    private SettlementRunStatus status;
+    private Long maxLedgerId;              // 이 실행이 정산하는 ledger id 상한
+    private int partitionCount;            // 강사 파티션 수
+    private int completedPartitionCount;
+    private int failedPartitionCount;      // 실패 파티션 (다음 실행에서 체크포인트부터 재개)
+    private int settledLedgerCount;
+    private long totalNetAmount;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String lastError;
+
+    public static SettlementRunResponse from(SettlementRun run) {
+        return SettlementRunResponse.builder()
+                .runId(run.getId())
+                .status(run.getStatus())
+                .maxLedgerId(run.getMaxLedgerId())
+                .partitionCount(run.getPartitionCount())
+                .completedPartitionCount(run.getCompletedPartitionCount())
+                .failedPartitionCount(run.getFailedPartitionCount())
+                .settledLedgerCount(run.getSettledLedgerCount())
+                .totalNetAmount(run.getTotalNetAmount())
+                .startedAt(run.getStartedAt())
+                .finishedAt(run.getFinishedAt())
+                .lastError(run.getLastError())
+                .build();
+    }
+}
@@ -45,6 +45,10 @@ public class SettlementLedger {
     @Column(name = "settled_at")
     private LocalDateTime settledAt;
 
+    // 정산 배치 지급 ID (배치로 정산된 레코드만)
+    @Column(name = "settlement_payment_id")
+    private Long settlementPaymentId;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
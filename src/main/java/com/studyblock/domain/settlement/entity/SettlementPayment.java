@@ -21,6 +21,16 @@ public class SettlementPayment {
     @JoinColumn(name = "settlement_ledger_id", nullable = false)
     private SettlementLedger settlementLedger;
 
+    // 정산 배치 지급 (settlementLedger 는 파티션의 첫 정산 레코드, 금액은 파티션 합계)
+    @Column(name = "settlement_run_id")
+    private Long settlementRunId;
+
+    @Column(name = "amount")
+    private Integer amount;
+
+    @Column(name = "ledger_count")
+    private Integer ledgerCount;
+
     @Column(name = "payment_date", nullable = false)
     private LocalDateTime paymentDate;
 
@@ -54,8 +64,14 @@ public class SettlementPayment {
                             String bankAccountInfo,
                             PaymentStatus status,
                             String confirmationNumber,
-                            String notes) {
+                            String notes,
+                            Long settlementRunId,
+                            Integer amount,
+                            Integer ledgerCount) {
         this.settlementLedger = settlementLedger;
+        this.settlementRunId = settlementRunId;
+        this.amount = amount;
+        this.ledgerCount = ledgerCount;
         this.paymentDate = paymentDate;
         this.paymentMethod = paymentMethod;
         this.bankAccountInfo = bankAccountInfo;
@@ -119,6 +135,13 @@ public class SettlementPayment {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 지급 금액 (배치 지급이면 합계, 아니면 정산 레코드 순수익)
+     */
+    public Integer getPayoutAmount() {
+        return this.amount != null ? this.amount : this.settlementLedger.getNetAmount();
+    }
+
     /**
      * 지급 완료 여부
      */
@@ -0,0 +1,68 @@
+package com.studyblock.domain.settlement.entity;
+
+import com.studyblock.domain.settlement.enums.SettlementRunStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정산 배치 실행
+ * - 시작 시점의 정산 가능 레코드 최고 수위(maxLedgerId) 까지만 정산
+ * - 진행 카운터는 파티션 청크 트랜잭션에서 원자적으로 누적 (SettlementRunRepository)
+ */
+@Entity
+@Table(name = "settlement_run")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SettlementRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private SettlementRunStatus status = SettlementRunStatus.RUNNING;
+
+    @Column(name = "max_ledger_id", nullable = false)
+    private Long maxLedgerId;
+
+    @Column(name = "partition_count", nullable = false)
+    private Integer partitionCount = 0;
+
+    @Column(name = "completed_partition_count", nullable = false)
+    private Integer completedPartitionCount = 0;
+
+    @Column(name = "failed_partition_count", nullable = false)
+    private Integer failedPartitionCount = 0;
+
+    @Column(name = "settled_ledger_count", nullable = false)
+    private Integer settledLedgerCount = 0;
+
+    @Column(name = "total_net_amount", nullable = false)
+    private Long totalNetAmount = 0L;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Builder
+    public SettlementRun(Long maxLedgerId, Integer partitionCount) {
+        this.maxLedgerId = maxLedgerId;
+        this.partitionCount = partitionCount != null ? partitionCount : 0;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public boolean isRunning() {
+        return this.status == SettlementRunStatus.RUNNING;
+    }
+}
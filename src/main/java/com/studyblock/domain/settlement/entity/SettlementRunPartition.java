@@ -0,0 +1,83 @@
+package com.studyblock.domain.settlement.entity;
+
+import com.studyblock.domain.settlement.enums.SettlementPartitionStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정산 배치 강사 파티션 (체크포인트)
+ * - 청크를 커밋할 때마다 lastLedgerId / 누적 건수 / 금액을 같은 트랜잭션에서 전진
+ * - 중단된 실행은 lastLedgerId 다음부터 이어서 처리
+ */
+@Entity
+@Table(name = "settlement_run_partition")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SettlementRunPartition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "instructor_id", nullable = false)
+    private Long instructorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private SettlementPartitionStatus status = SettlementPartitionStatus.PENDING;
+
+    @Column(name = "last_ledger_id", nullable = false)
+    private Long lastLedgerId = 0L;
+
+    @Column(name = "ledger_count", nullable = false)
+    private Integer ledgerCount = 0;
+
+    @Column(name = "net_amount", nullable = false)
+    private Long netAmount = 0L;
+
+    @Column(name = "settlement_payment_id")
+    private Long settlementPaymentId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public SettlementRunPartition(Long runId, Long instructorId) {
+        this.runId = runId;
+        this.instructorId = instructorId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 청크 커밋 (체크포인트 전진)
+     */
+    public void advance(Long lastLedgerId, int ledgerCount, long netAmount, Long settlementPaymentId) {
+        this.lastLedgerId = lastLedgerId;
+        this.ledgerCount += ledgerCount;
+        this.netAmount += netAmount;
+        this.settlementPaymentId = settlementPaymentId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = SettlementPartitionStatus.COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void fail() {
+        this.status = SettlementPartitionStatus.FAILED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isPending() {
+        return this.status == SettlementPartitionStatus.PENDING;
+    }
+}
@@ -0,0 +1,18 @@
+package com.studyblock.domain.settlement.enums;
+
+//정산 배치 강사 파티션 상태
+public enum SettlementPartitionStatus {
+    PENDING("처리 대기"),
+    COMPLETED("처리 완료"),
+    FAILED("처리 실패");
+
+    private final String description;
+
+    SettlementPartitionStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
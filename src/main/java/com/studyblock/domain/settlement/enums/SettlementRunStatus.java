@@ -0,0 +1,18 @@
+package com.studyblock.domain.settlement.enums;
+
+//정산 배치 실행 상태
+public enum SettlementRunStatus {
+    RUNNING("실행 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    SettlementRunStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
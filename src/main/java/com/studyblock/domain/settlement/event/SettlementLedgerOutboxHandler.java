@@ -0,0 +1,37 @@
+package com.studyblock.domain.settlement.event;
+
+import com.studyblock.domain.outbox.entity.OutboxEvent;
+import com.studyblock.domain.outbox.enums.OutboxEventType;
+import com.studyblock.domain.outbox.service.OutboxEventHandler;
+import com.studyblock.domain.settlement.service.SettlementService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 완료 아웃박스 핸들러 - 정산 보류/정산 정보 레코드 생성
+ * (OrderItem 별 기존 레코드는 건너뛰므로 재처리에 안전)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SettlementLedgerOutboxHandler implements OutboxEventHandler {
+
+    private final SettlementService settlementService;
+
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.PAYMENT_COMPLETED;
+    }
+
+    @Override
+    public String getName() {
+        return "settlement-ledger";
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        settlementService.createSettlementLedgers(event.getAggregateId());
+        log.info("결제 완료 정산 레코드 처리 완료 - orderId: {}", event.getAggregateId());
+    }
+}
@@ -2,32 +2,47 @@ package com.studyblock.domain.settlement.repository;
 
 import com.studyblock.domain.settlement.entity.SettlementHold;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface SettlementHoldRepository extends JpaRepository<SettlementHold, Long> {
+public interface SettlementHoldRepository extends JpaRepository<SettlementHold, Long>, SettlementHoldRepositoryCustom {
     Optional<SettlementHold> findByOrderItem_Id(Long orderItemId);
     List<SettlementHold> findAllByOrderItem_Order_Id(Long orderId);
 
     @Query("select sh from SettlementHold sh join sh.orderItem oi where oi.order.id = :orderId")
     List<SettlementHold> findAllByOrderId(@Param("orderId") Long orderId);
 
+    // 환불 대상 항목의 보류 일괄 취소
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SettlementHold sh SET sh.status = 'CANCELLED', sh.cancelledAt = :now " +
+           "WHERE sh.orderItem.id IN :orderItemIds AND sh.status = 'HELD'")
+    int cancelHeldByOrderItemIdIn(@Param("orderItemIds") List<Long> orderItemIds, @Param("now") LocalDateTime now);
+
+    // 해제 대상 보류 잠금 조회 [id, order_items_id] (HELD 상태만, 동시 해제 / 취소 직렬화)
+    @Query(value = "SELECT id, order_items_id FROM settlement_hold WHERE id IN (:ids) AND status = 'HELD' FOR UPDATE",
+           nativeQuery = true)
+    List<Object[]> lockHeldByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 보류 일괄 해제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SettlementHold sh SET sh.status = 'RELEASED', sh.releasedAt = :now " +
+           "WHERE sh.id IN :ids AND sh.status = 'HELD'")
+    int releaseHeldByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 정산 가능 전환된 항목의 보류 일괄 해제
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SettlementHold sh SET sh.status = 'RELEASED', sh.releasedAt = :now " +
+           "WHERE sh.orderItem.id IN :orderItemIds AND sh.status = 'HELD'")
+    int releaseHeldByOrderItemIdIn(@Param("orderItemIds") Collection<Long> orderItemIds, @Param("now") LocalDateTime now);
+
     @Query("SELECT sh FROM SettlementHold sh WHERE sh.status = 'HELD' AND sh.holdUntil <= :now")
     List<SettlementHold> findDueHolds(LocalDateTime now);
-
-    // order와 user fetch join으로 조회 (LazyInitializationException 방지)
-    @Query("SELECT DISTINCT sh FROM SettlementHold sh LEFT JOIN FETCH sh.orderItem oi LEFT JOIN FETCH oi.order LEFT JOIN FETCH sh.user")
-    List<SettlementHold> findAllWithRelations();
-
-    // 상태별 조회 (order와 user fetch join 포함)
-    @Query("SELECT DISTINCT sh FROM SettlementHold sh LEFT JOIN FETCH sh.orderItem oi LEFT JOIN FETCH oi.order LEFT JOIN FETCH sh.user")
-    List<SettlementHold> findByStatusWithRelations(@Param("status") String status);
 }
-
-
@@ -0,0 +1,28 @@
+package com.studyblock.domain.settlement.repository;
+
+import com.studyblock.domain.settlement.entity.SettlementHold;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+
+/**
+ * SettlementHold Repository Custom 인터페이스
+ * - QueryDSL 을 사용한 정산 보류 검색 (모든 필터를 WHERE 절로 처리)
+ */
+public interface SettlementHoldRepositoryCustom {
+
+    /**
+     * 정산 보류 검색 (created_at DESC, id DESC)
+     * - null / 빈 값 조건은 무시
+     * @param status 보류 상태 (HELD, RELEASED, CANCELLED)
+     * @param from 생성일시 시작 (포함)
+     * @param to 생성일시 끝 (포함)
+     * @param instructorId 강사 ID (해당 주문 항목의 정산 레코드 강사)
+     * @param orderNumber 주문 번호
+     * @param pageable 페이지 정보 (정렬은 무시)
+     * @return 정산 보류 페이지 (orderItem, order, user Fetch Join)
+     */
+    Page<SettlementHold> search(String status, LocalDateTime from, LocalDateTime to,
+                                Long instructorId, String orderNumber, Pageable pageable);
+}
@@ -0,0 +1,109 @@
+package com.studyblock.domain.settlement.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.studyblock.domain.settlement.entity.SettlementHold;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.studyblock.domain.payment.entity.QOrder.order;
+import static com.studyblock.domain.payment.entity.QOrderItem.orderItem;
+import static com.studyblock.domain.settlement.entity.QSettlementHold.settlementHold;
+import static com.studyblock.domain.settlement.entity.QSettlementLedger.settlementLedger;
+import static com.studyblock.domain.user.entity.QUser.user;
+
+/**
+ * SettlementHoldRepositoryCustom 구현체
+ * - 상태 / 기간 / 주문 번호 / 강사 조건을 모두 SQL 로 내려 필요한 페이지만 조회
+ * - 강사 조건은 정산 레코드 EXISTS 서브쿼리 (idx_settlement_ledger_order_items)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SettlementHoldRepositoryImpl implements SettlementHoldRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 실행되는 SQL:
+     * SELECT sh.*, oi.*, o.*, u.*
+     * FROM settlement_hold sh
+     * JOIN order_items oi ON ... JOIN orders o ON ... JOIN user u ON ...
+     * WHERE sh.status = ? AND sh.created_at BETWEEN ? AND ? AND o.order_number = ?
+     *   AND EXISTS (SELECT 1 FROM settlement_ledger sl WHERE sl.order_items_id = sh.order_items_id AND sl.instructor_id = ?)
+     * ORDER BY sh.created_at DESC, sh.id DESC
+     * LIMIT ?, ?
+     */
+    @Override
+    public Page<SettlementHold> search(String status, LocalDateTime from, LocalDateTime to,
+                                       Long instructorId, String orderNumber, Pageable pageable) {
+        BooleanExpression[] conditions = {
+                statusEq(status),
+                createdFrom(from),
+                createdTo(to),
+                orderNumberEq(orderNumber),
+                instructorEq(instructorId)
+        };
+
+        List<SettlementHold> content = queryFactory
+                .selectFrom(settlementHold)
+                .join(settlementHold.orderItem, orderItem).fetchJoin()
+                .join(orderItem.order, order).fetchJoin()
+                .join(settlementHold.user, user).fetchJoin()
+                .where(conditions)
+                .orderBy(settlementHold.createdAt.desc(), settlementHold.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 주문 번호 조건이 있을 때만 주문까지 조인해 COUNT
+        JPAQuery<Long> countQuery = queryFactory
+                .select(settlementHold.count())
+                .from(settlementHold);
+        if (hasText(orderNumber)) {
+            countQuery.join(settlementHold.orderItem, orderItem)
+                    .join(orderItem.order, order);
+        }
+        countQuery.where(conditions);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    private BooleanExpression statusEq(String status) {
+        return hasText(status) ? settlementHold.status.eq(status) : null;
+    }
+
+    private BooleanExpression createdFrom(LocalDateTime from) {
+        return from != null ? settlementHold.createdAt.goe(from) : null;
+    }
+
+    private BooleanExpression createdTo(LocalDateTime to) {
+        return to != null ? settlementHold.createdAt.loe(to) : null;
+    }
+
+    private BooleanExpression orderNumberEq(String orderNumber) {
+        return hasText(orderNumber) ? order.orderNumber.eq(orderNumber) : null;
+    }
+
+    private BooleanExpression instructorEq(Long instructorId) {
+        if (instructorId == null) {
+            return null;
+        }
+        return JPAExpressions.selectOne()
+                .from(settlementLedger)
+                .where(settlementLedger.orderItem.id.eq(settlementHold.orderItem.id),
+                        settlementLedger.instructor.id.eq(instructorId))
+                .exists();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -4,11 +4,13 @@ import com.studyblock.domain.settlement.entity.SettlementLedger;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +20,69 @@ public interface SettlementLedgerRepository extends JpaRepository<SettlementLedg
     // 기본 조회
     Optional<SettlementLedger> findByOrderItem_Id(Long orderItemId);
     List<SettlementLedger> findAllByOrderItem_Id(Long orderItemId);
+
+    // 여러 주문 항목의 정산 레코드 일괄 조회 (강사 Fetch Join, 주문 항목별 첫 레코드가 앞에 오도록 id 순)
+    @Query("SELECT sl FROM SettlementLedger sl LEFT JOIN FETCH sl.instructor " +
+           "WHERE sl.orderItem.id IN :orderItemIds ORDER BY sl.id ASC")
+    List<SettlementLedger> findAllWithInstructorByOrderItemIdIn(@Param("orderItemIds") Collection<Long> orderItemIds);
+
+    // 정산 배치: 정산 가능 레코드 최고 수위
+    @Query("SELECT MAX(sl.id) FROM SettlementLedger sl WHERE sl.eligibleFlag = true AND sl.settledAt IS NULL")
+    Long findMaxEligibleId();
+
+    // 정산 배치: 최고 수위 이하 정산 가능 레코드의 강사 ID
+    @Query("SELECT DISTINCT sl.instructor.id FROM SettlementLedger sl " +
+           "WHERE sl.eligibleFlag = true AND sl.settledAt IS NULL AND sl.id <= :maxId")
+    List<Long> findEligibleInstructorIds(@Param("maxId") Long maxId);
+
+    // 정산 배치: 강사 파티션의 다음 청크 잠금 조회 [id, net_amount] (id 순, 청크 행만 잠금)
+    @Query(value = "SELECT id, net_amount FROM settlement_ledger " +
+                   "WHERE instructor_id = :instructorId AND eligible_flag = 1 AND settled_at IS NULL " +
+                   "AND id > :afterId AND id <= :maxId ORDER BY id LIMIT :limit FOR UPDATE",
+           nativeQuery = true)
+    List<Object[]> lockEligibleChunk(@Param("instructorId") Long instructorId,
+                                     @Param("afterId") Long afterId,
+                                     @Param("maxId") Long maxId,
+                                     @Param("limit") int limit);
+
+    // 강사 수동 정산: 정산 가능 레코드 잠금 조회 [id, net_amount] (정산 배치 청크와 같은 행 잠금으로 직렬화)
+    @Query(value = "SELECT id, net_amount FROM settlement_ledger " +
+                   "WHERE instructor_id = :instructorId AND eligible_flag = 1 AND settled_at IS NULL " +
+                   "ORDER BY id FOR UPDATE",
+           nativeQuery = true)
+    List<Object[]> lockEligibleByInstructorId(@Param("instructorId") Long instructorId);
+
+    // 강사 수동 정산: 미정산 레코드만 정산 완료 처리 (배치 지급 연결은 건드리지 않음)
+    @Modifying
+    @Query(value = "UPDATE settlement_ledger SET settled_at = :now " +
+                   "WHERE id IN (:ids) AND eligible_flag = 1 AND settled_at IS NULL",
+           nativeQuery = true)
+    int settleEligibleByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 정산 배치: 청크 정산 완료 처리 + 배치 지급 연결
+    @Modifying
+    @Query(value = "UPDATE settlement_ledger SET settled_at = :now, settlement_payment_id = :paymentId " +
+                   "WHERE id IN (:ids) AND eligible_flag = 1 AND settled_at IS NULL",
+           nativeQuery = true)
+    int settleChunk(@Param("ids") Collection<Long> ids,
+                    @Param("paymentId") Long paymentId,
+                    @Param("now") LocalDateTime now);
+
+    // 보류 해제된 항목의 정산 레코드 일괄 정산 가능 전환
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SettlementLedger sl SET sl.eligibleFlag = true " +
+           "WHERE sl.orderItem.id IN :orderItemIds AND sl.eligibleFlag = false AND sl.settledAt IS NULL")
+    int markEligibleByOrderItemIdIn(@Param("orderItemIds") Collection<Long> orderItemIds);
+    boolean existsByOrderItem_Id(Long orderItemId);
+
+    // 환불 대상 항목 중 정산 완료된 레코드 ID
+    @Query("SELECT sl.id FROM SettlementLedger sl WHERE sl.orderItem.id IN :orderItemIds AND sl.settledAt IS NOT NULL")
+    List<Long> findSettledIdsByOrderItemIdIn(@Param("orderItemIds") List<Long> orderItemIds);
+
+    // 환불 대상 항목 일괄 정산 불가 처리
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SettlementLedger sl SET sl.eligibleFlag = false WHERE sl.orderItem.id IN :orderItemIds AND sl.settledAt IS NULL")
+    int markIneligibleByOrderItemIdIn(@Param("orderItemIds") List<Long> orderItemIds);
     List<SettlementLedger> findByInstructor_Id(Long instructorId);
 
     // 강사별 정산 내역 조회 (instructor, order fetch join 포함)
@@ -5,6 +5,7 @@ import com.studyblock.domain.settlement.enums.PaymentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -64,18 +65,18 @@ List<SettlementPayment> findByInstructorIdAndPaymentDateBetween(@Param("instruct
 // 통계 쿼리
 
 // 특정 강사의 총 지급 금액 (완료 건만)
-@Query("SELECT SUM(sp.settlementLedger.netAmount) FROM SettlementPayment sp " +
+@Query("SELECT SUM(COALESCE(sp.amount, sp.settlementLedger.netAmount)) FROM SettlementPayment sp " +
        "WHERE sp.settlementLedger.instructor.id = :instructorId " +
        "AND sp.status = 'COMPLETED'")
 Long sumCompletedAmountByInstructorId(@Param("instructorId") Long instructorId);
 
 // 전체 지급 완료 총액
-@Query("SELECT SUM(sp.settlementLedger.netAmount) FROM SettlementPayment sp " +
+@Query("SELECT SUM(COALESCE(sp.amount, sp.settlementLedger.netAmount)) FROM SettlementPayment sp " +
        "WHERE sp.status = 'COMPLETED'")
 Long sumTotalCompletedAmount();
 
 // 특정 기간 지급 완료 총액
-@Query("SELECT SUM(sp.settlementLedger.netAmount) FROM SettlementPayment sp " +
+@Query("SELECT SUM(COALESCE(sp.amount, sp.settlementLedger.netAmount)) FROM SettlementPayment sp " +
        "WHERE sp.status = 'COMPLETED' " +
        "AND sp.paymentDate BETWEEN :startDate AND :endDate")
 Long sumCompletedAmountByDateRange(@Param("startDate") LocalDateTime startDate,
@@ -91,6 +92,15 @@ Long countPending();
        "AND sp.status = 'PENDING'")
 Long countPendingByInstructorId(@Param("instructorId") Long instructorId);
 
+// 정산 배치 지급 합계 누적
+@Modifying(flushAutomatically = true)
+@Query("UPDATE SettlementPayment sp SET sp.amount = sp.amount + :amount, sp.ledgerCount = sp.ledgerCount + :ledgerCount, " +
+       "sp.updatedAt = :now WHERE sp.id = :id")
+int addBatchAmount(@Param("id") Long id,
+                   @Param("amount") int amount,
+                   @Param("ledgerCount") int ledgerCount,
+                   @Param("now") LocalDateTime now);
+
 // 확인 번호로 조회
 Optional<SettlementPayment> findByConfirmationNumber(String confirmationNumber);
 
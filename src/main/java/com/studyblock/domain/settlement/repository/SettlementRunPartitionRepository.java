@@ -0,0 +1,28 @@
+package com.studyblock.domain.settlement.repository;
+
+import com.studyblock.domain.settlement.entity.SettlementRunPartition;
+import com.studyblock.domain.settlement.enums.SettlementPartitionStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SettlementRunPartitionRepository extends JpaRepository<SettlementRunPartition, Long> {
+
+    // 파티션 행 잠금 (다른 인스턴스가 같은 파티션을 동시에 처리하지 않도록 청크 트랜잭션 동안 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM SettlementRunPartition p WHERE p.id = :id")
+    Optional<SettlementRunPartition> lockById(@Param("id") Long id);
+
+    // 완료되지 않은 파티션 ID (재개 대상 포함)
+    @Query("SELECT p.id FROM SettlementRunPartition p WHERE p.runId = :runId AND p.status <> 'COMPLETED' ORDER BY p.id")
+    List<Long> findUnfinishedIds(@Param("runId") Long runId);
+
+    long countByRunIdAndStatus(Long runId, SettlementPartitionStatus status);
+}
@@ -0,0 +1,39 @@
+package com.studyblock.domain.settlement.repository;
+
+import com.studyblock.domain.settlement.entity.SettlementRun;
+import com.studyblock.domain.settlement.enums.SettlementRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface SettlementRunRepository extends JpaRepository<SettlementRun, Long> {
+
+    Optional<SettlementRun> findFirstByStatusOrderByIdDesc(SettlementRunStatus status);
+
+    Optional<SettlementRun> findFirstByOrderByIdDesc();
+
+    // 청크 커밋 시 진행 카운터 누적 (파티션 스레드끼리 덮어쓰지 않도록 원자적 증가)
+    @Modifying
+    @Query("UPDATE SettlementRun r SET r.settledLedgerCount = r.settledLedgerCount + :ledgerCount, " +
+           "r.totalNetAmount = r.totalNetAmount + :netAmount WHERE r.id = :id")
+    int addProgress(@Param("id") Long id, @Param("ledgerCount") int ledgerCount, @Param("netAmount") long netAmount);
+
+    // 파티션 처리 결과 반영
+    @Modifying
+    @Query("UPDATE SettlementRun r SET r.completedPartitionCount = :completed, r.failedPartitionCount = :failed WHERE r.id = :id")
+    int updatePartitionCounts(@Param("id") Long id, @Param("completed") int completed, @Param("failed") int failed);
+
+    // 실행 종료
+    @Modifying
+    @Query("UPDATE SettlementRun r SET r.status = :status, r.finishedAt = :now, r.lastError = :lastError WHERE r.id = :id")
+    int finish(@Param("id") Long id,
+               @Param("status") SettlementRunStatus status,
+               @Param("lastError") String lastError,
+               @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,182 @@
+package com.studyblock.domain.settlement.service;
+
+import com.studyblock.domain.settlement.entity.SettlementPayment;
+import com.studyblock.domain.settlement.entity.SettlementRun;
+import com.studyblock.domain.settlement.entity.SettlementRunPartition;
+import com.studyblock.domain.settlement.enums.PaymentMethod;
+import com.studyblock.domain.settlement.enums.PaymentStatus;
+import com.studyblock.domain.settlement.enums.SettlementPartitionStatus;
+import com.studyblock.domain.settlement.enums.SettlementRunStatus;
+import com.studyblock.domain.settlement.repository.SettlementLedgerRepository;
+import com.studyblock.domain.settlement.repository.SettlementPaymentRepository;
+import com.studyblock.domain.settlement.repository.SettlementRunPartitionRepository;
+import com.studyblock.domain.settlement.repository.SettlementRunRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정산 배치 트랜잭션 단위 작업
+ * - 실행 생성 / 청크 정산 / 파티션 실패 / 실행 종료를 각각 짧은 트랜잭션으로 처리
+ * - 청크 하나의 정산 처리, 강사별 지급 합계 누적, 체크포인트 전진이 같은 트랜잭션에서 커밋되므로
+ *   중단 후 재개해도 같은 레코드를 두 번 정산하거나 지급 합계에 두 번 더하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementBatchEngine {
+
+    private final SettlementLedgerRepository settlementLedgerRepository;
+    private final SettlementPaymentRepository settlementPaymentRepository;
+    private final SettlementRunRepository settlementRunRepository;
+    private final SettlementRunPartitionRepository settlementRunPartitionRepository;
+
+    /**
+     * 재개할 실행 또는 새 실행
+     * - RUNNING 상태로 남은 실행(인스턴스 종료 등으로 중단)이 있으면 그 실행을 이어서 처리
+     * - 없으면 현재 정산 가능 레코드 최고 수위로 실행을 만들고 강사별 파티션 생성
+     *
+     * @return 실행, 정산 가능한 레코드가 없으면 null
+     */
+    @Transactional
+    public SettlementRun openRun() {
+        SettlementRun unfinished = settlementRunRepository
+                .findFirstByStatusOrderByIdDesc(SettlementRunStatus.RUNNING)
+                .orElse(null);
+        if (unfinished != null) {
+            log.info("중단된 정산 배치 재개 - runId: {}", unfinished.getId());
+            return unfinished;
+        }
+
+        Long maxLedgerId = settlementLedgerRepository.findMaxEligibleId();
+        if (maxLedgerId == null) {
+            return null;
+        }
+
+        List<Long> instructorIds = settlementLedgerRepository.findEligibleInstructorIds(maxLedgerId);
+        SettlementRun run = settlementRunRepository.save(SettlementRun.builder()
+                .maxLedgerId(maxLedgerId)
+                .partitionCount(instructorIds.size())
+                .build());
+
+        List<SettlementRunPartition> partitions = new ArrayList<>(instructorIds.size());
+        for (Long instructorId : instructorIds) {
+            partitions.add(SettlementRunPartition.builder()
+                    .runId(run.getId())
+                    .instructorId(instructorId)
+                    .build());
+        }
+        settlementRunPartitionRepository.saveAll(partitions);
+
+        log.info("정산 배치 생성 - runId: {}, maxLedgerId: {}, 강사 {}명", run.getId(), maxLedgerId, instructorIds.size());
+        return run;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findUnfinishedPartitionIds(Long runId) {
+        return settlementRunPartitionRepository.findUnfinishedIds(runId);
+    }
+
+    /**
+     * 강사 파티션의 다음 청크 정산
+     * - 파티션 체크포인트(lastLedgerId) 다음의 정산 가능 레코드를 chunkSize 개까지 잠그고 정산 완료 처리
+     * - 강사별 배치 지급(PENDING)은 첫 청크에서 만들고 이후 청크 금액을 누적
+     *
+     * @return 정산한 레코드 수, 0 이면 파티션 완료
+     */
+    @Transactional
+    public int settleNextChunk(Long runId, Long maxLedgerId, Long partitionId, int chunkSize) {
+        SettlementRunPartition partition = settlementRunPartitionRepository.lockById(partitionId)
+                .orElseThrow(() -> new IllegalArgumentException("정산 배치 파티션을 찾을 수 없습니다: " + partitionId));
+        if (partition.getStatus() == SettlementPartitionStatus.COMPLETED) {
+            return 0;
+        }
+
+        List<Object[]> rows = settlementLedgerRepository.lockEligibleChunk(
+                partition.getInstructorId(), partition.getLastLedgerId(), maxLedgerId, chunkSize);
+        if (rows.isEmpty()) {
+            partition.complete();
+            return 0;
+        }
+
+        List<Long> ledgerIds = new ArrayList<>(rows.size());
+        long netAmount = 0;
+        for (Object[] row : rows) {
+            ledgerIds.add(((Number) row[0]).longValue());
+            netAmount += ((Number) row[1]).longValue();
+        }
+        Long lastLedgerId = ledgerIds.get(ledgerIds.size() - 1);
+
+        Long paymentId = partition.getSettlementPaymentId();
+        if (paymentId == null) {
+            paymentId = createBatchPayment(runId, partition.getInstructorId(), ledgerIds.get(0)).getId();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int settled = settlementLedgerRepository.settleChunk(ledgerIds, paymentId, now);
+        settlementPaymentRepository.addBatchAmount(paymentId, Math.toIntExact(netAmount), settled, now);
+        partition.advance(lastLedgerId, settled, netAmount, paymentId);
+        settlementRunRepository.addProgress(runId, settled, netAmount);
+        return settled;
+    }
+
+    @Transactional
+    public void markPartitionFailed(Long partitionId) {
+        settlementRunPartitionRepository.findById(partitionId).ifPresent(SettlementRunPartition::fail);
+    }
+
+    /**
+     * 파티션 완료 / 실패 수 갱신 (진행 상황 조회용)
+     */
+    @Transactional
+    public void refreshPartitionCounts(Long runId) {
+        int completed = (int) settlementRunPartitionRepository.countByRunIdAndStatus(runId, SettlementPartitionStatus.COMPLETED);
+        int failed = (int) settlementRunPartitionRepository.countByRunIdAndStatus(runId, SettlementPartitionStatus.FAILED);
+        settlementRunRepository.updatePartitionCounts(runId, completed, failed);
+    }
+
+    /**
+     * 실행 종료 (실패 파티션이 있거나 오류가 있으면 FAILED, 다음 실행은 새 최고 수위로 남은 레코드를 처리)
+     */
+    @Transactional
+    public SettlementRun finishRun(Long runId, String lastError) {
+        refreshPartitionCounts(runId);
+        long failed = settlementRunPartitionRepository.countByRunIdAndStatus(runId, SettlementPartitionStatus.FAILED);
+        SettlementRunStatus status = failed > 0 || lastError != null
+                ? SettlementRunStatus.FAILED
+                : SettlementRunStatus.COMPLETED;
+        settlementRunRepository.finish(runId, status, lastError, LocalDateTime.now());
+        return findRun(runId);
+    }
+
+    @Transactional(readOnly = true)
+    public SettlementRun findRun(Long runId) {
+        return settlementRunRepository.findById(runId)
+                .orElseThrow(() -> new IllegalArgumentException("정산 배치를 찾을 수 없습니다: " + runId));
+    }
+
+    @Transactional(readOnly = true)
+    public SettlementRun findLatestRun() {
+        return settlementRunRepository.findFirstByOrderByIdDesc().orElse(null);
+    }
+
+    // 강사별 배치 지급 (파티션 첫 정산 레코드를 대표 레코드로 연결, 금액은 청크마다 누적)
+    private SettlementPayment createBatchPayment(Long runId, Long instructorId, Long firstLedgerId) {
+        SettlementPayment payment = SettlementPayment.builder()
+                .settlementLedger(settlementLedgerRepository.getReferenceById(firstLedgerId))
+                .paymentDate(LocalDateTime.now())
+                .paymentMethod(PaymentMethod.BANK_TRANSFER)
+                .status(PaymentStatus.PENDING)
+                .notes("정산 배치 #" + runId + " 강사 " + instructorId + " 합계 지급")
+                .settlementRunId(runId)
+                .amount(0)
+                .ledgerCount(0)
+                .build();
+        return settlementPaymentRepository.save(payment);
+    }
+}
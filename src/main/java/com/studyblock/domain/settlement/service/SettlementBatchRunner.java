@@ -0,0 +1,230 @@
+package com.studyblock.domain.settlement.service;
+
+import com.studyblock.domain.settlement.dto.SettlementRunResponse;
+import com.studyblock.domain.settlement.entity.SettlementRun;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 월말 정산 배치 실행기
+ * - 정산 가능 레코드를 강사별 파티션으로 나눠 전용 스레드 풀에서 동시에 처리
+ * - 파티션은 chunk-size 개씩 잘라 청크마다 짧은 트랜잭션으로 커밋 (SettlementBatchEngine), 테이블 전체를 오래 잠그지 않음
+ * - 진행 상황은 settlement_run / settlement_run_partition 에 체크포인트로 남기고, 중단된 실행은 다음 시작 시 이어서 처리
+ * - 인스턴스 안에서는 running 플래그로, 인스턴스 간에는 DB 이름 잠금(SettlementRunLock)으로 실행을 하나로 제한
+ */
+@Service
+@Slf4j
+public class SettlementBatchRunner {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final SettlementBatchEngine batchEngine;
+    private final SettlementRunLock runLock;
+
+    private final int chunkSize;
+    private final int parallelism;
+    private final ExecutorService partitionPool;
+    private final ExecutorService coordinator;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile SettlementRunLock.Handle heldLock;
+
+    public SettlementBatchRunner(SettlementBatchEngine batchEngine,
+                                 SettlementRunLock runLock,
+                                 @Value("${settlement.batch.chunk-size:500}") int chunkSize,
+                                 @Value("${settlement.batch.parallelism:4}") int parallelism) {
+        this.batchEngine = batchEngine;
+        this.runLock = runLock;
+        this.chunkSize = Math.max(1, chunkSize);
+        // DB 커넥션 풀을 모두 점유하지 않도록 고정 크기
+        this.parallelism = Math.max(1, parallelism);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.partitionPool = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "SettlementBatch-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "SettlementBatch-coordinator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 정산 배치 시작 (백그라운드 실행, 진행 상황은 getRun 으로 조회)
+     *
+     * @return 시작한 (또는 재개한) 실행
+     * @throws IllegalStateException 이미 실행 중이거나 (다른 인스턴스 포함) 정산 가능한 항목이 없는 경우
+     */
+    public SettlementRunResponse start() {
+        SettlementRun run = open();
+        coordinator.submit(() -> execute(run));
+        return SettlementRunResponse.from(run);
+    }
+
+    /**
+     * 정산 배치 실행 후 종료까지 대기
+     *
+     * @return 종료된 실행, 정산 가능한 항목이 없으면 null
+     * @throws IllegalStateException 이미 실행 중인 경우 (다른 인스턴스 포함)
+     */
+    public SettlementRunResponse runAndWait() {
+        SettlementRun run;
+        try {
+            run = open();
+        } catch (NoEligibleLedgerException e) {
+            return null;
+        }
+        Future<SettlementRunResponse> result = coordinator.submit(() -> execute(run));
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("정산 배치 대기가 중단되었습니다 (배치는 계속 실행됩니다)", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("정산 배치 실행에 실패했습니다", e.getCause());
+        }
+    }
+
+    public SettlementRunResponse getRun(Long runId) {
+        return SettlementRunResponse.from(batchEngine.findRun(runId));
+    }
+
+    public SettlementRunResponse getLatestRun() {
+        SettlementRun run = batchEngine.findLatestRun();
+        return run != null ? SettlementRunResponse.from(run) : null;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private SettlementRun open() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("정산 배치가 이미 실행 중입니다");
+        }
+        try {
+            // 다른 인스턴스가 실행 중이면 RUNNING 실행을 재개하거나 새 실행을 만들지 않음
+            heldLock = runLock.tryAcquire();
+            if (heldLock == null) {
+                throw new IllegalStateException("다른 서버에서 정산 배치가 실행 중입니다");
+            }
+            SettlementRun run = batchEngine.openRun();
+            if (run == null) {
+                throw new NoEligibleLedgerException();
+            }
+            return run;
+        } catch (RuntimeException e) {
+            releaseLock();
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private SettlementRunResponse execute(SettlementRun run) {
+        try {
+            return settleAndFinish(run);
+        } finally {
+            releaseLock();
+            running.set(false);
+        }
+    }
+
+    private void releaseLock() {
+        SettlementRunLock.Handle lock = heldLock;
+        heldLock = null;
+        if (lock != null) {
+            lock.release();
+        }
+    }
+
+    private SettlementRunResponse settleAndFinish(SettlementRun run) {
+        Long runId = run.getId();
+        long startNanos = System.nanoTime();
+        String lastError = null;
+
+        try {
+            List<Long> partitionIds = batchEngine.findUnfinishedPartitionIds(runId);
+            ExecutorCompletionService<Integer> completion = new ExecutorCompletionService<>(partitionPool);
+            for (Long partitionId : partitionIds) {
+                completion.submit(() -> settlePartition(run, partitionId));
+            }
+
+            for (int i = 0; i < partitionIds.size(); i++) {
+                try {
+                    completion.take().get();
+                } catch (ExecutionException e) {
+                    lastError = truncate(e.getCause() != null ? e.getCause().toString() : e.toString());
+                }
+                batchEngine.refreshPartitionCounts(runId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lastError = "정산 배치가 중단되었습니다";
+        } catch (RuntimeException e) {
+            log.error("정산 배치 실행 실패 - runId: {}", runId, e);
+            lastError = truncate(e.toString());
+        }
+
+        SettlementRun finished = batchEngine.finishRun(runId, lastError);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        if (lastError != null) {
+            log.warn("정산 배치 종료 - runId: {}, 상태: {}, 파티션 {}개(실패 {}), 정산 {}건, 총액 {}, {}ms, 마지막 오류: {}",
+                    runId, finished.getStatus(), finished.getPartitionCount(), finished.getFailedPartitionCount(),
+                    finished.getSettledLedgerCount(), finished.getTotalNetAmount(), elapsedMillis, lastError);
+        } else {
+            log.info("정산 배치 완료 - runId: {}, 파티션 {}개, 정산 {}건, 총액 {}, {}ms",
+                    runId, finished.getPartitionCount(), finished.getSettledLedgerCount(),
+                    finished.getTotalNetAmount(), elapsedMillis);
+        }
+        return SettlementRunResponse.from(finished);
+    }
+
+    // 파티션을 청크 단위로 끝까지 처리, 실패하면 파티션을 FAILED 로 남기고 다음 실행에서 체크포인트부터 재개
+    private int settlePartition(SettlementRun run, Long partitionId) {
+        int total = 0;
+        try {
+            int settled;
+            do {
+                settled = batchEngine.settleNextChunk(run.getId(), run.getMaxLedgerId(), partitionId, chunkSize);
+                total += settled;
+            } while (settled > 0);
+            return total;
+        } catch (RuntimeException e) {
+            log.error("정산 배치 파티션 실패 - runId: {}, partitionId: {}, 처리 {}건", run.getId(), partitionId, total, e);
+            batchEngine.markPartitionFailed(partitionId);
+            throw e;
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        partitionPool.shutdownNow();
+    }
+
+    private static class NoEligibleLedgerException extends IllegalStateException {
+
+        NoEligibleLedgerException() {
+            super("정산 가능한 항목이 없습니다");
+        }
+    }
+}
@@ -1,18 +1,27 @@
 package com.studyblock.domain.settlement.service;
 
+import com.studyblock.domain.payment.entity.OrderItem;
 import com.studyblock.domain.settlement.dto.SettlementHoldResponse;
 import com.studyblock.domain.settlement.entity.SettlementHold;
 import com.studyblock.domain.settlement.entity.SettlementLedger;
 import com.studyblock.domain.settlement.repository.SettlementHoldRepository;
 import com.studyblock.domain.settlement.repository.SettlementLedgerRepository;
+import com.studyblock.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -23,135 +32,105 @@ public class SettlementHoldService {
     private final SettlementHoldRepository settlementHoldRepository;
     private final SettlementLedgerRepository settlementLedgerRepository;
 
+    /**
+     * 정산 보류 목록 (필터 / 페이지네이션을 모두 SQL 로 처리)
+     * - 보류 페이지 1회 + COUNT 1회 + 페이지 주문 항목들의 정산 레코드 IN 조회 1회
+     */
     @Transactional(readOnly = true)
-    public List<SettlementHoldResponse> listHolds(String status, LocalDateTime from, LocalDateTime to, Long instructorId, String orderNumber) {
-        // order와 user fetch join으로 조회하여 LazyInitializationException 방지
-        List<SettlementHold> holds;
-        if (status != null && !status.isBlank()) {
-            holds = settlementHoldRepository.findByStatusWithRelations(status);
-        } else {
-            holds = settlementHoldRepository.findAllWithRelations();
-        }
-
-        // Filter in-memory for simplicity and maintainability (could be optimized later with queries)
-        List<SettlementHold> filtered = holds.stream()
-                .filter(h -> status == null || status.isBlank() || Objects.equals(h.getStatus(), status))
-                .filter(h -> from == null || !h.getCreatedAt().isBefore(from))
-                .filter(h -> to == null || !h.getCreatedAt().isAfter(to))
-                .filter(h -> {
-                    if (orderNumber == null || orderNumber.isBlank()) return true;
-                    // order는 이미 fetch join으로 로드됨
-                    return h.getOrderItem() != null
-                    && h.getOrderItem().getOrder() != null
-                    && orderNumber.equals(h.getOrderItem().getOrder().getOrderNumber());
-                    })
-                .filter(h -> {
-                    if (instructorId == null) return true;
-                    // order는 이미 fetch join으로 로드됨
-                    if (h.getOrderItem() == null) return false;
-
-                    List<SettlementLedger> allLedgers = settlementLedgerRepository.findAllByOrderItem_Id(h.getOrderItem().getId());
-                    if (allLedgers.isEmpty()) return false;
-                    // 첫 번째 정산 보류 상태 레코드의 강사 정보 사용
-                    SettlementLedger firstLedger = allLedgers.get(0);
-                    if (firstLedger.getInstructor() != null) {
-                        firstLedger.getInstructor().getName(); // 강제 로딩
-                        return Objects.equals(firstLedger.getInstructor().getId(), instructorId);
-                    }
-                    return false;
-                })
-                .collect(Collectors.toList());
-
-        // Build response with instructor info and amount
-        return filtered.stream()
-                .map(h -> {
-                    // order와 user는 이미 fetch join으로 로드됨
-                    SettlementHoldResponse base = SettlementHoldResponse.from(h);
-                    if (h.getOrderItem() == null) {
-                        return base;
-                    }
-                    // 한 주문에 여러 정산 레코드가 있을 수 있으므로 findAllByOrder_Id 사용
-                    // 정산 보류 상태인 레코드만 필터링 (eligibleFlag = false, settledAt = null)
-                    List<SettlementLedger> allLedgers = settlementLedgerRepository.findAllByOrderItem_Id(h.getOrderItem().getId());
-                    if (allLedgers.isEmpty()) {
-                        return base;
-                    }
-                    // 첫 번째 정산 보류 상태 레코드의 강사 정보 사용
-                    SettlementLedger firstLedger = allLedgers.get(0);
-                    if (firstLedger.getInstructor() != null) {
-                        firstLedger.getInstructor().getName(); // 강제 로딩
-                    }
-                    int holdNetSum = allLedgers.stream()
-                        .filter(ledger -> !ledger.getEligibleFlag() && ledger.getSettledAt() == null)
-                        .mapToInt(SettlementLedger::getNetAmount)
-                        .sum();
-                        SettlementHoldResponse withAmount = base.withHoldNetAmount(holdNetSum);
-                    if (firstLedger.getInstructor() != null) {
-                        return withAmount.withInstructor(
-                                firstLedger.getInstructor().getId(),
-                                firstLedger.getInstructor().getName()
-                        );
-                    }
-                    return withAmount;
-                })
-                .collect(Collectors.toList());
+    public Page<SettlementHoldResponse> listHolds(String status, LocalDateTime from, LocalDateTime to,
+                                                  Long instructorId, String orderNumber, Pageable pageable) {
+        Page<SettlementHold> holds = settlementHoldRepository.search(status, from, to, instructorId, orderNumber, pageable);
+        Map<Long, List<SettlementLedger>> ledgersByOrderItemId = findLedgersByOrderItemId(holds.getContent());
+        return holds.map(hold -> toResponse(hold, ledgersByOrderItemId));
     }
 
     @Transactional(readOnly = true)
     public SettlementHoldResponse getHold(Long holdId) {
         SettlementHold hold = settlementHoldRepository.findById(holdId)
                 .orElseThrow(() -> new IllegalArgumentException("정산 보류를 찾을 수 없습니다"));
-        if (hold.getOrderItem() != null) hold.getOrderItem().getOrder().getOrderNumber();
-        if (hold.getUser() != null) hold.getUser().getName();
+        return toResponse(hold, findLedgersByOrderItemId(List.of(hold)));
+    }
+
+    @Transactional
+    public SettlementHoldResponse releaseHold(Long holdId) {
+        if (!settlementHoldRepository.existsById(holdId)) {
+            throw new IllegalArgumentException("정산 보류를 찾을 수 없습니다");
+        }
+        if (releaseHolds(List.of(holdId)) == 0) {
+            throw new IllegalStateException("보류 상태가 아닙니다");
+        }
+        return getHold(holdId);
+    }
+
+    /**
+     * 정산 보류 일괄 해제
+     * - HELD 상태인 보류만 잠근 뒤 상태 UPDATE 1회, 해당 주문 항목의 미정산 레코드 정산 가능 전환 UPDATE 1회
+     * - HELD 가 아닌 보류는 건너뜀
+     *
+     * @param holdIds 보류 ID 목록
+     * @return 해제된 보류 수
+     */
+    @Transactional
+    public int releaseHolds(Collection<Long> holdIds) {
+        if (holdIds == null || holdIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> held = settlementHoldRepository.lockHeldByIdIn(holdIds);
+        if (held.isEmpty()) {
+            return 0;
+        }
+        List<Long> heldIds = new ArrayList<>(held.size());
+        Set<Long> orderItemIds = new HashSet<>();
+        for (Object[] row : held) {
+            heldIds.add(((Number) row[0]).longValue());
+            orderItemIds.add(((Number) row[1]).longValue());
+        }
+
+        int released = settlementHoldRepository.releaseHeldByIdIn(heldIds, LocalDateTime.now());
+        int eligible = settlementLedgerRepository.markEligibleByOrderItemIdIn(orderItemIds);
+        log.info("정산 보류 해제 - 요청: {}건, 해제: {}건, 정산 가능 전환: {}건", holdIds.size(), released, eligible);
+        return released;
+    }
+
+    // 주문 항목 ID → 정산 레코드 (id 순) 맵, IN 쿼리 한 번
+    private Map<Long, List<SettlementLedger>> findLedgersByOrderItemId(List<SettlementHold> holds) {
+        List<Long> orderItemIds = holds.stream()
+                .map(SettlementHold::getOrderItem)
+                .filter(Objects::nonNull)
+                .map(OrderItem::getId)
+                .distinct()
+                .toList();
+        if (orderItemIds.isEmpty()) {
+            return Map.of();
+        }
+        return settlementLedgerRepository.findAllWithInstructorByOrderItemIdIn(orderItemIds).stream()
+                .collect(Collectors.groupingBy(ledger -> ledger.getOrderItem().getId()));
+    }
+
+    private SettlementHoldResponse toResponse(SettlementHold hold, Map<Long, List<SettlementLedger>> ledgersByOrderItemId) {
         SettlementHoldResponse base = SettlementHoldResponse.from(hold);
         if (hold.getOrderItem() == null) {
             return base;
         }
-        List<SettlementLedger> allLedgers = settlementLedgerRepository.findAllByOrderItem_Id(hold.getOrderItem().getId());
-        if (allLedgers.isEmpty()) {
+        List<SettlementLedger> ledgers = ledgersByOrderItemId.getOrDefault(hold.getOrderItem().getId(), List.of());
+        if (ledgers.isEmpty()) {
             return base;
         }
 
-        SettlementLedger firstLedger = allLedgers.get(0);
-        if (firstLedger.getInstructor() != null) {
-            firstLedger.getInstructor().getName(); // 강제 로딩
-        }
-        int holdNetSum = allLedgers.stream()
+        // 보류 중(eligibleFlag = false, settledAt = null) 레코드의 순수익 합계
+        int holdNetSum = ledgers.stream()
                 .filter(ledger -> !ledger.getEligibleFlag() && ledger.getSettledAt() == null)
                 .mapToInt(SettlementLedger::getNetAmount)
                 .sum();
         SettlementHoldResponse withAmount = base.withHoldNetAmount(holdNetSum);
-        if (firstLedger.getInstructor() != null) {
-            return withAmount.withInstructor(
-                    firstLedger.getInstructor().getId(),
-                    firstLedger.getInstructor().getName()
-            );
-        }
-        return withAmount;
-    }
 
-    @Transactional
-    public SettlementHoldResponse releaseHold(Long holdId) {
-        SettlementHold hold = settlementHoldRepository.findById(holdId)
-                .orElseThrow(() -> new IllegalArgumentException("정산 보류를 찾을 수 없습니다"));
-        if (!"HELD".equals(hold.getStatus())) {
-            throw new IllegalStateException("보류 상태가 아닙니다");
+        // 첫 번째 정산 레코드의 강사 정보 사용
+        User instructor = ledgers.get(0).getInstructor();
+        if (instructor != null) {
+            return withAmount.withInstructor(instructor.getId(), instructor.getName());
         }
-        hold.release();
-        settlementHoldRepository.save(hold);
-
-        // Mark ledger eligible when hold released
-        settlementLedgerRepository.findAllByOrderItem_Id(hold.getOrderItem().getId())
-                .stream()
-                .filter(ledger -> !ledger.getEligibleFlag() && ledger.getSettledAt() == null)
-                .forEach(ledger -> {
-                    if (!ledger.isEligible()) {
-                        ledger.markEligible();
-                        settlementLedgerRepository.save(ledger);
-                    }
-                });
-
-        return getHold(holdId);
+        return withAmount;
     }
 
     @Transactional
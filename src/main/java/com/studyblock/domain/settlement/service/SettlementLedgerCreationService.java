@@ -139,6 +139,12 @@ public class SettlementLedgerCreationService {
                     orderItem.getId(), orderId);
             return true;
         }
+        // 재처리(아웃박스 재시도) 시 중복 생성 방지
+        if (settlementLedgerRepository.existsByOrderItem_Id(orderItem.getId())) {
+            log.debug("정산 레코드가 이미 존재합니다 - orderItemId: {}, orderId: {}",
+                    orderItem.getId(), orderId);
+            return true;
+        }
         return false;
     }
 
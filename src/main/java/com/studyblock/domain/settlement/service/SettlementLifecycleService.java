@@ -1,5 +1,6 @@
 package com.studyblock.domain.settlement.service;
 
+import com.studyblock.domain.settlement.dto.SettlementRunResponse;
 import com.studyblock.domain.settlement.entity.SettlementLedger;
 import com.studyblock.domain.settlement.repository.SettlementHoldRepository;
 import com.studyblock.domain.settlement.repository.SettlementLedgerRepository;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -22,6 +24,7 @@ public class SettlementLifecycleService {
 
     private final SettlementLedgerRepository settlementLedgerRepository;
     private final SettlementHoldRepository settlementHoldRepository;
+    private final SettlementBatchRunner settlementBatchRunner;
 
     private static final int REFUND_HOLD_DAYS = 7; // 환불 보류 기간 7일
 
@@ -31,69 +34,31 @@ public class SettlementLifecycleService {
 
     /**
      * 환불 시 정산 레코드를 정산 불가로 변경
-     * RefundService에서 환불 완료 시 호출됨
-     * 
-     * @param orderId 환불된 주문 ID
-     * @throws IllegalStateException 이미 정산 완료된 주문인 경우
+     * RefundExecutionService에서 환불 반영 시 호출됨
+     * - 정산 완료 여부 확인 1회 + 정산 레코드/보류 각각 단일 UPDATE
+     * - 이미 정산 완료된 레코드는 변경하지 않고 경고만 남김 (외부 환불은 이미 끝났으므로 트랜잭션을 깨지 않고 수동 회수)
+     *
+     * @param orderItemIds 환불된 주문 항목 ID 목록
      */
     @Transactional
-    public void markSettlementIneligible(Long orderId) {
-        List<SettlementLedger> ledgers = settlementLedgerRepository.findAllByOrderItem_Id(orderId);
-        
-        if (ledgers.isEmpty()) {
-            log.warn("정산 레코드를 찾을 수 없습니다 - orderId: {}", orderId);
+    public void markSettlementIneligible(List<Long> orderItemIds) {
+        if (orderItemIds == null || orderItemIds.isEmpty()) {
             return;
         }
-        
-        // 정산 완료 여부 확인
-        validateNotSettled(ledgers, orderId);
-        
-        // 정산 불가 처리
-        markLedgersIneligible(ledgers, orderId);
-        
-        // 보류 취소 처리
-        cancelSettlementHolds(ledgers);
-    }
 
-    /**
-     * 정산 완료 여부 검증
-     */
-    private void validateNotSettled(List<SettlementLedger> ledgers, Long orderId) {
-        for (SettlementLedger ledger : ledgers) {
-            if (ledger.isSettled()) {
-                throw new IllegalStateException(
-                        "이미 정산 완료된 주문은 환불할 수 없습니다. orderId: " + orderId + 
-                        ", ledgerId: " + ledger.getId());
-            }
+        // 정산 완료 여부 확인
+        List<Long> settledLedgerIds = settlementLedgerRepository.findSettledIdsByOrderItemIdIn(orderItemIds);
+        if (!settledLedgerIds.isEmpty()) {
+            log.warn("이미 정산 완료된 항목 환불 - 수동 회수 필요, ledgerIds: {}", settledLedgerIds);
         }
-    }
 
-    /**
-     * 정산 레코드들을 정산 불가로 변경
-     */
-    private void markLedgersIneligible(List<SettlementLedger> ledgers, Long orderId) {
-        for (SettlementLedger ledger : ledgers) {
-            ledger.markIneligible();
-            settlementLedgerRepository.save(ledger);
-            log.info("정산 레코드 정산 불가 처리 - orderId: {}, ledgerId: {}", orderId, ledger.getId());
-        }
-    }
+        // 정산 불가 처리
+        int ledgers = settlementLedgerRepository.markIneligibleByOrderItemIdIn(orderItemIds);
 
-    /**
-     * 정산 보류 취소 처리
-     */
-    private void cancelSettlementHolds(List<SettlementLedger> ledgers) {
-        for (SettlementLedger ledger : ledgers) {
-            settlementHoldRepository.findByOrderItem_Id(ledger.getOrderItem().getId())
-                .ifPresent(hold -> {
-                    if ("HELD".equals(hold.getStatus())) {
-                        hold.cancel();
-                        settlementHoldRepository.save(hold);
-                        log.info("정산 보류 취소 - orderItemId: {}, holdId: {}", 
-                                ledger.getOrderItem().getId(), hold.getId());
-                    }
-                });
-        }
+        // 보류 취소 처리
+        int holds = settlementHoldRepository.cancelHeldByOrderItemIdIn(orderItemIds, LocalDateTime.now());
+
+        log.info("정산 불가 처리 - orderItems: {}, ledger: {}건, 보류 취소: {}건", orderItemIds.size(), ledgers, holds);
     }
 
     // ========================================
@@ -132,9 +97,10 @@ public class SettlementLifecycleService {
     }
 
     /**
-     * 정산 가능 상태로 변경 및 보류 해제
+     * 정산 가능 상태로 변경 및 보류 해제 (보류는 한 번의 UPDATE 로 일괄 해제)
      */
     private int processEligibleLedgers(List<SettlementLedger> ledgers) {
+        List<Long> orderItemIds = new ArrayList<>(ledgers.size());
         for (SettlementLedger ledger : ledgers) {
             // 정산 가능 상태로 변경
             ledger.markEligible();
@@ -142,29 +108,21 @@ public class SettlementLifecycleService {
 
             log.info("정산 가능 상태로 변경 - ledgerId: {}, instructorId: {}, netAmount: {}", 
                     ledger.getId(), ledger.getInstructor().getId(), ledger.getNetAmount());
-            
-            // 정산 보류 해제
-            releaseSettlementHold(ledger);
+
+            if (ledger.getOrderItem() != null) {
+                orderItemIds.add(ledger.getOrderItem().getId());
+            }
+        }
+
+        // 정산 보류 해제
+        if (!orderItemIds.isEmpty()) {
+            int released = settlementHoldRepository.releaseHeldByOrderItemIdIn(orderItemIds, LocalDateTime.now());
+            log.info("정산 보류 일괄 해제 - 대상 주문 항목: {}건, 해제: {}건", orderItemIds.size(), released);
         }
         
         return ledgers.size();
     }
 
-    /**
-     * 정산 보류 해제
-     */
-    private void releaseSettlementHold(SettlementLedger ledger) {
-        settlementHoldRepository.findByOrderItem_Id(ledger.getOrderItem().getId())
-            .ifPresent(hold -> {
-                if ("HELD".equals(hold.getStatus())) {
-                    hold.release();
-                    settlementHoldRepository.save(hold);
-                    log.info("정산 보류 해제 - orderItemId: {}, holdId: {}", 
-                            ledger.getOrderItem().getId(), hold.getId());
-                }
-            });
-    }
-
     // ========================================
     // 정산 실행
     // ========================================
@@ -172,66 +130,52 @@ public class SettlementLifecycleService {
     /**
      * 특정 강사의 정산 실행
      * 관리자가 수동으로 실행
+     * - 정산 가능 레코드를 행 잠금으로 조회한 뒤 미정산 조건부 UPDATE 로 정산 완료 처리
+     * - 정산 배치와 동시에 실행되어도 배치가 먼저 정산한 레코드는 건너뛰고 배치 지급 연결(settlement_payment_id)을 덮어쓰지 않음
      * 
      * @param instructorId 강사 ID
      * @return 정산 완료 건수
      */
     @Transactional
     public int settleForInstructor(Long instructorId) {
-        List<SettlementLedger> eligibleLedgers = 
-                settlementLedgerRepository.findEligibleByInstructorId(instructorId);
+        List<Object[]> rows = settlementLedgerRepository.lockEligibleByInstructorId(instructorId);
 
-        if (eligibleLedgers.isEmpty()) {
+        if (rows.isEmpty()) {
             log.warn("정산 가능한 항목이 없습니다 - instructorId: {}", instructorId);
             return 0;
         }
 
-        int totalNetAmount = settleLedgers(eligibleLedgers);
+        List<Long> ledgerIds = new ArrayList<>(rows.size());
+        long totalNetAmount = 0;
+        for (Object[] row : rows) {
+            ledgerIds.add(((Number) row[0]).longValue());
+            totalNetAmount += ((Number) row[1]).longValue();
+        }
+
+        int settled = settlementLedgerRepository.settleEligibleByIdIn(ledgerIds, LocalDateTime.now());
 
         log.info("강사 정산 완료 - instructorId: {}, 건수: {}, 총액: {}",
-                instructorId, eligibleLedgers.size(), totalNetAmount);
+                instructorId, settled, totalNetAmount);
 
-        return eligibleLedgers.size();
+        return settled;
     }
 
     /**
      * 전체 정산 실행
-     * 모든 정산 가능한 항목을 한 번에 정산
+     * 정산 배치로 강사별 병렬 / 청크 단위 정산 후 강사별 지급(PENDING) 생성
      * 
      * @return 정산 완료 건수
      */
-    @Transactional
     public int settleAll() {
-        List<SettlementLedger> eligibleLedgers = 
-                settlementLedgerRepository.findEligibleForSettlement();
-
-        if (eligibleLedgers.isEmpty()) {
+        SettlementRunResponse run = settlementBatchRunner.runAndWait();
+        if (run == null) {
             log.warn("정산 가능한 항목이 없습니다");
             return 0;
         }
 
-        int totalNetAmount = settleLedgers(eligibleLedgers);
-
-        log.info("전체 정산 완료 - 건수: {}, 총액: {}", eligibleLedgers.size(), totalNetAmount);
+        log.info("전체 정산 완료 - runId: {}, 상태: {}, 건수: {}, 총액: {}",
+                run.getRunId(), run.getStatus(), run.getSettledLedgerCount(), run.getTotalNetAmount());
 
-        return eligibleLedgers.size();
-    }
-
-    /**
-     * 정산 레코드 목록을 정산 완료 처리
-     * 
-     * @return 총 정산 금액
-     */
-    private int settleLedgers(List<SettlementLedger> ledgers) {
-        int totalNetAmount = 0;
-        
-        for (SettlementLedger ledger : ledgers) {
-            ledger.settle();
-            settlementLedgerRepository.save(ledger);
-            totalNetAmount += ledger.getNetAmount();
-        }
-        
-        return totalNetAmount;
+        return run.getSettledLedgerCount();
     }
 }
-
@@ -38,6 +38,11 @@ public class SettlementPaymentService {
             throw new IllegalStateException("정산 완료되지 않은 항목입니다");
         }
 
+        // 정산 배치에서 강사별 합계 지급으로 처리된 항목
+        if (ledger.getSettlementPaymentId() != null) {
+            throw new IllegalStateException("정산 배치 지급에 포함된 항목입니다 - paymentId: " + ledger.getSettlementPaymentId());
+        }
+
         // 이미 지급된 항목인지 확인
         List<SettlementPayment> existingPayments = settlementPaymentRepository.findBySettlementLedger_Id(ledgerId);
         boolean alreadyCompleted = existingPayments.stream()
@@ -0,0 +1,95 @@
+package com.studyblock.domain.settlement.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 정산 배치 인스턴스 간 실행 잠금 (MySQL GET_LOCK)
+ * - 실행 동안 전용 커넥션 하나로 이름 잠금을 잡아, 다른 인스턴스는 같은 실행을 동시에 재개하거나 새 실행을 만들지 못함
+ * - 인스턴스가 죽으면 커넥션이 끊기며 잠금이 풀리므로, 다음 시작에서 RUNNING 으로 남은 실행을 이어서 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementRunLock {
+
+    static final String LOCK_NAME = "settlement_batch_run";
+
+    private final DataSource dataSource;
+
+    /**
+     * 잠금 획득 시도 (대기하지 않음)
+     *
+     * @return 잠금, 다른 인스턴스가 잡고 있으면 null
+     */
+    public Handle tryAcquire() {
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+                statement.setString(1, LOCK_NAME);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (resultSet.next() && resultSet.getInt(1) == 1) {
+                        return new Handle(connection);
+                    }
+                }
+            }
+            connection.close();
+            return null;
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new IllegalStateException("정산 배치 실행 잠금을 확인하지 못했습니다", e);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("정산 배치 잠금 커넥션 반환 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 획득한 잠금 (release 시 잠금을 풀고 커넥션을 풀에 반환)
+     */
+    public static final class Handle {
+
+        private final Connection connection;
+
+        private Handle(Connection connection) {
+            this.connection = connection;
+        }
+
+        public void release() {
+            // 풀에 반환된 커넥션에 잠금이 남지 않도록 반환 전에 해제
+            try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+                statement.setString(1, LOCK_NAME);
+                statement.executeQuery().close();
+            } catch (SQLException e) {
+                log.warn("정산 배치 잠금 해제 실패, 커넥션을 폐기합니다 - error: {}", e.getMessage());
+                abort();
+            }
+            closeQuietly(connection);
+        }
+
+        // 해제하지 못한 세션은 풀에 돌려보내지 않고 끊어서 잠금을 풀게 함
+        private void abort() {
+            try {
+                connection.abort(Runnable::run);
+            } catch (SQLException e) {
+                log.warn("정산 배치 잠금 커넥션 폐기 실패 - error: {}", e.getMessage());
+            }
+        }
+    }
+}
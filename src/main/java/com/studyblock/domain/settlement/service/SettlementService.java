@@ -4,6 +4,7 @@ import com.studyblock.domain.settlement.dto.CourseStatisticsResponse;
 import com.studyblock.domain.settlement.dto.InstructorSummary;
 import com.studyblock.domain.settlement.dto.SettlementDashboardResponse;
 import com.studyblock.domain.settlement.dto.SettlementLedgerResponse;
+import com.studyblock.domain.settlement.dto.SettlementRunResponse;
 import com.studyblock.domain.settlement.dto.SettlementSummaryResponse;
 import com.studyblock.domain.settlement.entity.SettlementLedger;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,7 @@ import java.util.List;
  * 역할별 서비스:
  * - SettlementLedgerCreationService: 정산 레코드 생성
  * - SettlementLifecycleService: 환불 처리, 정산 가능 상태 변경, 정산 실행
+ * - SettlementBatchRunner: 월말 정산 배치 (강사별 병렬, 청크 트랜잭션, 체크포인트)
  * - SettlementQueryService: 금액 조회, 정산 내역 조회
  * - SettlementStatisticsService: 통계, 대시보드, 요약 정보
  */
@@ -36,6 +38,7 @@ public class SettlementService {
     private final SettlementLifecycleService lifecycleService;
     private final SettlementQueryService queryService;
     private final SettlementStatisticsService statisticsService;
+    private final SettlementBatchRunner settlementBatchRunner;
     // ========================================
     // 1. 정산 레코드 생성 (위임)
     // ========================================
@@ -53,11 +56,11 @@ public class SettlementService {
     // ========================================
 
     /**
-     * 환불 시 정산 레코드를 정산 불가로 변경
+     * 환불 시 정산 레코드를 정산 불가로 변경 (환불된 주문 항목 기준)
      */
     @Transactional
-    public void markSettlementIneligible(Long orderId) {
-        lifecycleService.markSettlementIneligible(orderId);
+    public void markSettlementIneligible(List<Long> orderItemIds) {
+        lifecycleService.markSettlementIneligible(orderItemIds);
     }
 
     /**
@@ -77,13 +80,27 @@ public class SettlementService {
     }
 
     /**
-     * 전체 정산 실행
+     * 전체 정산 실행 (정산 배치를 끝까지 기다림, 청크마다 트랜잭션이 나뉘므로 바깥 트랜잭션 없음)
      */
-    @Transactional
     public int settleAll() {
         return lifecycleService.settleAll();
     }
 
+    /**
+     * 정산 배치 시작 (백그라운드)
+     */
+    public SettlementRunResponse startSettlementRun() {
+        return settlementBatchRunner.start();
+    }
+
+    public SettlementRunResponse getSettlementRun(Long runId) {
+        return settlementBatchRunner.getRun(runId);
+    }
+
+    public SettlementRunResponse getLatestSettlementRun() {
+        return settlementBatchRunner.getLatestRun();
+    }
+
     // ========================================
     // 3. 금액 및 내역 조회 (위임)
     // ========================================
@@ -47,7 +47,7 @@ public class SettlementTaxInvoiceService {
         String invoiceNumber = SettlementTaxInvoice.generateInvoiceNumber(year, month, count.intValue() + 1);
 
         // 금액 계산 (부가세 10%)
-        Integer netAmount = payment.getSettlementLedger().getNetAmount();
+        Integer netAmount = payment.getPayoutAmount();
         Integer supplyAmount = Math.round(netAmount / 1.1f);
         Integer taxAmount = netAmount - supplyAmount;
 
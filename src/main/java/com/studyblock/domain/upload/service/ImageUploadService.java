@@ -100,10 +100,10 @@ public class ImageUploadService {
             String folderPath = imageType.getS3PathWithDate(now.getYear(), now.getMonthValue(), now.getDayOfMonth());
 
             // 6. 원본 이미지 업로드
-            String originalUrl = uploadImageToS3(resizedImage, file.getOriginalFilename(), folderPath, "original");
+            String originalUrl = uploadImageToS3(resizedImage, file.getOriginalFilename(), folderPath);
 
             // 7. 썸네일 업로드
-            String thumbnailUrl = uploadImageToS3(thumbnailImage, file.getOriginalFilename(), folderPath, "thumbnail");
+            String thumbnailUrl = uploadImageToS3(thumbnailImage, file.getOriginalFilename(), folderPath);
 
             // 8. 응답 생성
             return ImageUploadResponse.builder()
@@ -171,7 +171,7 @@ public class ImageUploadService {
             String folderPath = imageType.getS3PathWithDate(now.getYear(), now.getMonthValue(), now.getDayOfMonth());
 
             // 5. 썸네일 업로드
-            String thumbnailUrl = uploadImageToS3(thumbnailImage, file.getOriginalFilename(), folderPath, "thumbnail");
+            String thumbnailUrl = uploadImageToS3(thumbnailImage, file.getOriginalFilename(), folderPath);
 
             // 6. 응답 생성
             return ImageUploadResponse.builder()
@@ -266,8 +266,9 @@ public class ImageUploadService {
 
     /**
      * 이미지 리사이징 (필요한 경우)
+     * - 패키지 범위: JMH 벤치마크에서 직접 호출
      */
-    private BufferedImage resizeImageIfNeeded(BufferedImage originalImage) {
+    BufferedImage resizeImageIfNeeded(BufferedImage originalImage) {
         int originalWidth = originalImage.getWidth();
         int originalHeight = originalImage.getHeight();
 
@@ -296,8 +297,9 @@ public class ImageUploadService {
 
     /**
      * 썸네일 생성
+     * - 패키지 범위: JMH 벤치마크에서 직접 호출
      */
-    private BufferedImage createThumbnail(BufferedImage originalImage) {
+    BufferedImage createThumbnail(BufferedImage originalImage) {
         int originalWidth = originalImage.getWidth();
         int originalHeight = originalImage.getHeight();
 
@@ -328,22 +330,15 @@ public class ImageUploadService {
     /**
      * S3에 이미지 업로드
      */
-    private String uploadImageToS3(BufferedImage image, String originalFilename, String folderPath, String prefix) throws IOException {
+    private String uploadImageToS3(BufferedImage image, String originalFilename, String folderPath) throws IOException {
         // BufferedImage를 byte 배열로 변환
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         String format = getImageFormat(originalFilename);
         ImageIO.write(image, format, baos);
         byte[] imageBytes = baos.toByteArray();
 
-        // MultipartFile 형태로 변환하여 S3StorageService 사용
-        MultipartFile multipartFile = new ByteArrayMultipartFile(
-                generateFileName(originalFilename),
-                originalFilename,
-                getMimeType(format),
-                imageBytes
-        );
-
-        return s3StorageService.uploadFile(multipartFile, folderPath);
+        // 내용 해시 key로 업로드 (이미지 교체 시 key가 바뀌어 캐시된 URL이 자연스럽게 무효화됨)
+        return s3StorageService.uploadImage(imageBytes, getMimeType(format), folderPath, "." + format);
     }
 
     /**
@@ -389,47 +384,4 @@ public class ImageUploadService {
             default: return "image/jpeg";
         }
     }
-
-    /**
-     * ByteArrayMultipartFile 구현체
-     */
-    private static class ByteArrayMultipartFile implements MultipartFile {
-        private final String name;
-        private final String originalFilename;
-        private final String contentType;
-        private final byte[] content;
-
-        public ByteArrayMultipartFile(String name, String originalFilename, String contentType, byte[] content) {
-            this.name = name;
-            this.originalFilename = originalFilename;
-            this.contentType = contentType;
-            this.content = content;
-        }
-
-        @Override
-        public String getName() { return name; }
-
-        @Override
-        public String getOriginalFilename() { return originalFilename; }
-
-        @Override
-        public String getContentType() { return contentType; }
-
-        @Override
-        public boolean isEmpty() { return content.length == 0; }
-
-        @Override
-        public long getSize() { return content.length; }
-
-        @Override
-        public byte[] getBytes() { return content; }
-
-        @Override
-        public java.io.InputStream getInputStream() { return new ByteArrayInputStream(content); }
-
-        @Override
-        public void transferTo(java.io.File dest) throws IOException, IllegalStateException {
-            java.nio.file.Files.write(dest.toPath(), content);
-        }
-    }
 }
@@ -7,6 +7,7 @@ import com.studyblock.domain.payment.entity.Order;
 import com.studyblock.domain.user.entity.User;
 import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
@@ -38,6 +39,19 @@ public interface LectureOwnershipRepository extends JpaRepository<LectureOwnersh
     """)
     List<LectureOwnership> findByOrderId(@Param("orderId") Long orderId);
 
+    /**
+     * 주문의 특정 섹션 소유권 일괄 취소 (환불 일괄 반영용)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE LectureOwnership lo
+        SET lo.status = com.studyblock.domain.course.enums.OwnershipStatus.REVOKED
+        WHERE lo.order.id = :orderId
+        AND lo.section.id IN :sectionIds
+        AND lo.status = com.studyblock.domain.course.enums.OwnershipStatus.ACTIVE
+    """)
+    int revokeByOrderIdAndSectionIdIn(@Param("orderId") Long orderId, @Param("sectionIds") List<Long> sectionIds);
+
     /**
      * 사용자가 특정 코스에서 구매한 섹션 ID 목록 조회
      * @param userId 사용자 ID
@@ -21,7 +21,7 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
     List<Course> findCoursesByUserId(@Param("userId") Long userId);
 
     //유저의 찜 목록 삭제
-    void deleteByUser_IdAndCourse_Id(Long userId, Long courseId);
+    long deleteByUser_IdAndCourse_Id(Long userId, Long courseId);
 
     // 특정 유저가 특정 코스를 찜했는지 확인
     boolean existsByUserIdAndCourseId(Long userId, Long courseId);
@@ -11,8 +11,10 @@ import com.studyblock.domain.course.dto.CourseResponse;
 import com.studyblock.domain.course.dto.CourseReviewResponse;
 import com.studyblock.domain.course.entity.Course;
 import com.studyblock.domain.course.entity.LectureOwnership;
+import com.studyblock.domain.course.enums.CourseCounterType;
 import com.studyblock.domain.course.repository.CourseRepository;
 import com.studyblock.domain.course.repository.CourseReviewRepository;
+import com.studyblock.domain.course.service.CourseCounterService;
 import com.studyblock.domain.upload.dto.ImageUploadResponse;
 import com.studyblock.domain.upload.enums.ImageType;
 import com.studyblock.domain.upload.service.ImageUploadService;
@@ -25,6 +27,8 @@ import com.studyblock.domain.user.dto.UserUpdateDTO;
 import com.studyblock.domain.user.entity.User;
 import com.studyblock.domain.user.repository.UserRepository;
 import com.studyblock.domain.user.repository.WishlistRepository;
+import com.studyblock.infrastructure.redis.RedisCodecs;
+import com.studyblock.infrastructure.redis.VersionedRedisCache;
 import com.studyblock.infrastructure.storage.S3StorageService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -49,27 +53,30 @@ public class MyPageService {
     private final LectureOwnershipRepository lectureOwnershipRepository;
     private final UserCouponRepository userCouponRepository;
     private final PasswordEncoder passwordEncoder;
-    private final RedisTemplate<String, Object> redisTemplate;
+    // 비밀번호 변경 임시 토큰 (password-change:v1:{userId}, UTF-8 원문)
+    private final VersionedRedisCache<String> passwordChangeTokenCache;
     private final CourseRepository courseRepository;
     private final ImageUploadService imageUploadService;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final S3StorageService s3StorageService;
     private final CourseReviewRepository courseReviewRepository;
+    private final CourseCounterService courseCounterService;
 
-    public MyPageService(UserRepository userRepository, WishlistRepository wishlistRepository, RedisTemplate<String, Object> redisTemplate, PasswordEncoder passwordEncoder, LectureOwnershipRepository lectureOwnershipRepository, UserCouponRepository userCouponRepository, CourseRepository courseRepository, ImageUploadService imageUploadService, PostRepository postRepository, CommentRepository commentRepository, S3StorageService s3StorageService, CourseReviewRepository courseReviewRepository) {
+    public MyPageService(UserRepository userRepository, WishlistRepository wishlistRepository, RedisTemplate<String, byte[]> redisBytesTemplate, PasswordEncoder passwordEncoder, LectureOwnershipRepository lectureOwnershipRepository, UserCouponRepository userCouponRepository, CourseRepository courseRepository, ImageUploadService imageUploadService, PostRepository postRepository, CommentRepository commentRepository, S3StorageService s3StorageService, CourseReviewRepository courseReviewRepository, CourseCounterService courseCounterService) {
         this.userRepository = userRepository;
         this.wishlistRepository = wishlistRepository;
         this.lectureOwnershipRepository = lectureOwnershipRepository;
         this.userCouponRepository = userCouponRepository;
         this.passwordEncoder = passwordEncoder;
-        this.redisTemplate = redisTemplate;
+        this.passwordChangeTokenCache = new VersionedRedisCache<>(redisBytesTemplate, "password-change", RedisCodecs.utf8());
         this.courseRepository = courseRepository;
         this.imageUploadService = imageUploadService;
         this.postRepository = postRepository;
         this.commentRepository = commentRepository;
         this.s3StorageService = s3StorageService;
         this.courseReviewRepository = courseReviewRepository;
+        this.courseCounterService = courseCounterService;
     }
 
     //유저 정보 불러오기
@@ -89,18 +96,14 @@ public class MyPageService {
                 .nickname(user.getNickname())
                 .email(user.getEmail()).phone(user.getPhone()).birth(user.getBirth()).status(user.getStatusEnum())
                 .gender(user.getGenderEnum()).created_at(user.getCreatedAt()).jointype(user.getJoinTypeEnum())
-                .img(profileImageUrl)  // presigned URL (30분)
+                .img(profileImageUrl)  // presigned URL (윈도우 고정 서명)
                 .build();
     }
-    // Presigned URL 변환 (캐시 버스터 추가)
+    // Presigned URL 변환 (윈도우 고정 서명 → 브라우저/CDN 캐시 가능, 이미지 교체 시 key가 바뀌어 새 URL)
     private String applyPresignedURL(String url){
         if(url == null || url.isEmpty()) return url;
         try {
-//            return s3StorageService.generatePresignedUrl(url, 30);
-            String presignedUrl = s3StorageService.generatePresignedUrl(url, 30);
-            //브라우저에 캐싱 방지를 위한 타임스탬프 추가
-            String cacheBuster = "&t=" + System.currentTimeMillis();
-            return presignedUrl + cacheBuster;
+            return s3StorageService.generateCacheableImageUrl(url);
         } catch (RuntimeException e) {
             return url;
         }
@@ -126,7 +129,8 @@ public class MyPageService {
 
     //유저 찜 목록 삭제
     public void removeWish(Long userId, Long courseId){
-        wishlistRepository.deleteByUser_IdAndCourse_Id(userId, courseId);
+        long deleted = wishlistRepository.deleteByUser_IdAndCourse_Id(userId, courseId);
+        courseCounterService.increment(CourseCounterType.WISHLIST, courseId, -deleted);
     }
 
     //유저 찜 토글 (있으면 삭제, 없으면 추가)
@@ -136,6 +140,7 @@ public class MyPageService {
         if (existingWishlist != null) {
             // 이미 찜한 경우 -> 삭제
             wishlistRepository.delete(existingWishlist);
+            courseCounterService.increment(CourseCounterType.WISHLIST, courseId, -1);
             return false; // 찜 해제됨
         } else {
             // 찜하지 않은 경우 -> 추가
@@ -150,6 +155,7 @@ public class MyPageService {
                     .build();
 
             wishlistRepository.save(wishlist);
+            courseCounterService.increment(CourseCounterType.WISHLIST, courseId, 1);
             return true; // 찜 추가됨
         }
     }
@@ -188,8 +194,8 @@ public class MyPageService {
 
         //임시 토큰 생성 + redis에 저장
         String tempToken = UUID.randomUUID().toString();
-        redisTemplate.opsForValue().set(
-                "password-change:" + userId,
+        passwordChangeTokenCache.set(
+                userId,
                 tempToken,
                 Duration.ofMinutes(5) //5분간 유효
         );
@@ -200,7 +206,7 @@ public class MyPageService {
     //2. 새 비밀번호로 변경
     public void changePassword(Long userId, PasswordChangeRequest request){
         //redis 토큰 검증
-        String storedToken = (String) redisTemplate.opsForValue().get("password-change:" + userId);
+        String storedToken = passwordChangeTokenCache.get(userId);
         if(storedToken == null || !storedToken.equals(request.getTempToken())){
             throw new IllegalArgumentException("유효하지 않은 요청입니다. 다시 시도해주세요.");
         }
@@ -211,7 +217,7 @@ public class MyPageService {
         user.updatePassword(encodeNewPassword);
 
         //redis 토큰 삭제
-        redisTemplate.delete("password-change:" + userId);
+        passwordChangeTokenCache.delete(userId);
     }
 
     //프로필 이미지 업로드
@@ -289,7 +295,7 @@ public class MyPageService {
         List<String> signedUrls = response.getImageUrls().stream()
                 .map(url -> {
                     try {
-                        return s3StorageService.generatePresignedUrl(url, 30); //30분 유효
+                        return s3StorageService.generateCacheableImageUrl(url);
                     } catch (RuntimeException e){
                         return url; //실패 시 원본 url 유지
                     }
@@ -2,16 +2,22 @@ package com.studyblock.domain.wallet.controller;
 
 import com.studyblock.domain.wallet.dto.CookieChargeRequest;
 import com.studyblock.domain.wallet.dto.CookieChargeResponse;
+import com.studyblock.domain.wallet.dto.WalletHistoryFeedResponse;
+import com.studyblock.domain.wallet.dto.WalletMonthlySummaryResponse;
 import com.studyblock.domain.wallet.service.CookieChargeService;
+import com.studyblock.domain.wallet.service.WalletMonthlySummaryService;
 import com.studyblock.global.dto.CommonResponse;
 import com.studyblock.global.util.AuthenticationUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 //쿠키 충전 API 컨트롤러
@@ -23,6 +29,7 @@ public class CookieChargeController {
 
     private final CookieChargeService cookieChargeService;
     private final com.studyblock.domain.wallet.service.CookieChargeQueryService cookieChargeQueryService;
+    private final WalletMonthlySummaryService walletMonthlySummaryService;
     private final AuthenticationUtils authenticationUtils;
 
     // 쿠키 충전 요청
@@ -327,4 +334,49 @@ public class CookieChargeController {
                     .body(CommonResponse.error("쿠키 사용 내역 조회 중 오류가 발생했습니다"));
         }
     }
+
+    // 나의 지갑 내역 (커서 기반, 최신순)
+    // GET /api/wallet/history?types=CHARGE,DEBIT&cursorCreatedAt=...&cursorId=...&size=20
+    @GetMapping("/wallet/history")
+    public ResponseEntity<CommonResponse<WalletHistoryFeedResponse>> myWalletHistory(
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        try {
+            Long userId = authenticationUtils.extractAuthenticatedUserId(authentication);
+            var feed = cookieChargeQueryService.getMyWalletHistory(userId, types, cursorCreatedAt, cursorId, size);
+            return ResponseEntity.ok(
+                    CommonResponse.success("지갑 내역을 조회했습니다", feed)
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("지갑 내역 조회 실패 - {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(CommonResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("지갑 내역 조회 중 오류", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(CommonResponse.error("지갑 내역 조회 중 오류가 발생했습니다"));
+        }
+    }
+
+    // 나의 월별 지갑 요약 (최근 N개월)
+    // GET /api/wallet/history/monthly?months=12
+    @GetMapping("/wallet/history/monthly")
+    public ResponseEntity<CommonResponse<List<WalletMonthlySummaryResponse>>> myMonthlySummary(
+            @RequestParam(defaultValue = "12") int months,
+            Authentication authentication) {
+        try {
+            Long userId = authenticationUtils.extractAuthenticatedUserId(authentication);
+            var list = walletMonthlySummaryService.getMonthlySummary(userId, months);
+            return ResponseEntity.ok(
+                    CommonResponse.success("월별 지갑 요약을 조회했습니다", list)
+            );
+        } catch (Exception e) {
+            log.error("월별 지갑 요약 조회 중 오류", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(CommonResponse.error("월별 지갑 요약 조회 중 오류가 발생했습니다"));
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package com.studyblock.domain.wallet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 지갑 잔액 정합성 검증 결과
+ * - 불일치 전체 목록은 wallet_balance_drift (runId) 에 저장, 응답에는 일부만 포함
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalletDriftReportResponse {
+    private String runId;
+    private LocalDateTime startedAt;
+    private long elapsedMillis;
+    private int parallelism;        // 동시에 검증한 청크 수
+    private int chunkCount;         // 사용자 ID 구간 수
+    private int failedChunkCount;   // 조회 실패 구간 수 (다음 실행에서 다시 검증)
+    private int driftCount;         // 불일치 지갑 수
+    private long totalAbsoluteDrift; // 불일치 금액 절댓값 합
+    private List<DriftItem> samples; // 불일치 일부 (최대 100건)
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DriftItem {
+        private Long userId;
+        private Long storedBalance;
+        private Long ledgerBalance;
+        private Long drift;
+    }
+}
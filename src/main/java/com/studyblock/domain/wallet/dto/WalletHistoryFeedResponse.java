@@ -0,0 +1,20 @@
+package com.studyblock.domain.wallet.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 커서 기반 지갑 내역 응답
+ * - 다음 페이지 요청 시 nextCursorCreatedAt, nextCursorId 를 그대로 전달
+ */
+@Getter
+@Builder
+public class WalletHistoryFeedResponse {
+    private List<WalletHistoryResponse> items; //현재 페이지 내역
+    private boolean hasNext; //다음 페이지 존재 여부
+    private LocalDateTime nextCursorCreatedAt; //다음 페이지 커서 (마지막 내역 일시)
+    private Long nextCursorId; //다음 페이지 커서 (마지막 내역 ID)
+}
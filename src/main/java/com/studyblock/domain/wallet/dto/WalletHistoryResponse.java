@@ -0,0 +1,57 @@
+package com.studyblock.domain.wallet.dto;
+
+import com.studyblock.domain.payment.enums.ItemType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지갑 내역 한 건 (wallet_ledger + 주문/첫 주문 항목/강의 정보 프로젝션)
+ * - WalletLedgerRepositoryImpl 에서 한 번의 쿼리로 생성
+ */
+@Getter
+@NoArgsConstructor
+public class WalletHistoryResponse {
+
+    private Long id;                    // wallet_ledger id
+    private String type;                // CHARGE, DEBIT, REFUND, EXPIRE
+    private Integer cookieAmount;       // 원장 금액 (사용/만료는 음수)
+    private Integer balanceAfter;       // 거래 후 잔액
+    private String notes;
+    private String referenceType;
+    private Long referenceId;
+    private LocalDateTime createdAt;
+
+    // 주문 정보 (referenceType이 ORDER인 경우)
+    private Long orderId;
+    private String orderNumber;
+
+    // 첫 주문 항목 정보
+    private String itemType;            // COURSE, SECTION, COOKIE_BUNDLE
+    private Long courseId;              // 섹션 구매면 섹션이 속한 강의
+    private String courseTitle;
+    private Long sectionId;
+    private String sectionTitle;
+
+    public WalletHistoryResponse(Long id, String type, Integer cookieAmount, Integer balanceAfter, String notes,
+                                 String referenceType, Long referenceId, LocalDateTime createdAt,
+                                 Long orderId, String orderNumber, ItemType itemType,
+                                 Long courseId, String courseTitle, Long sectionId, String sectionTitle) {
+        this.id = id;
+        this.type = type;
+        this.cookieAmount = cookieAmount;
+        this.balanceAfter = balanceAfter;
+        this.notes = notes;
+        this.referenceType = referenceType;
+        this.referenceId = referenceId;
+        this.createdAt = createdAt;
+        this.orderId = orderId;
+        this.orderNumber = orderNumber;
+        this.itemType = itemType != null ? itemType.name() : null;
+        this.courseId = courseId;
+        this.courseTitle = courseTitle;
+        this.sectionId = sectionId;
+        this.sectionTitle = sectionTitle;
+    }
+}
@@ -0,0 +1,23 @@
+package com.studyblock.domain.wallet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 원장 재생 잔액 (스냅샷 + 꼬리) 과 저장 잔액 비교
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalletLedgerBalanceResponse {
+    private Long userId;
+    private Long snapshotBalance;   // 스냅샷 잔액
+    private Long snapshotLedgerId;  // 스냅샷 최고 수위 (이 ID 까지 포함)
+    private Long tailAmount;        // 스냅샷 이후 원장 합계
+    private Long ledgerBalance;     // snapshotBalance + tailAmount
+    private Long storedBalance;     // wallet_balance.amount (지갑이 없으면 null)
+    private Long drift;             // storedBalance - ledgerBalance
+}
@@ -0,0 +1,25 @@
+package com.studyblock.domain.wallet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+/**
+ * 월별 지갑 요약 (wallet_monthly_summary 기준, 집계 주기만큼 지연될 수 있음)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalletMonthlySummaryResponse {
+    private YearMonth month;
+    private Long chargedAmount;   // CHARGE 합
+    private Long usedAmount;      // DEBIT 합 (절댓값)
+    private Long refundedAmount;  // REFUND 합
+    private Long expiredAmount;   // EXPIRE 합 (절댓값)
+    private Long adjustedAmount;  // ADMIN_ADJUST 합 (부호 유지)
+    private Integer txCount;      // 거래 건수
+}
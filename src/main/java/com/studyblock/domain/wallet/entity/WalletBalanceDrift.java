@@ -0,0 +1,53 @@
+package com.studyblock.domain.wallet.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지갑 잔액 불일치 기록
+ * - 검증 실행(runId)마다 wallet_balance.amount 와 원장 재생 잔액이 다른 지갑을 남김
+ */
+@Entity
+@Table(name = "wallet_balance_drift")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WalletBalanceDrift {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false, length = 36)
+    private String runId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "stored_balance", nullable = false)
+    private Long storedBalance;
+
+    @Column(name = "ledger_balance", nullable = false)
+    private Long ledgerBalance;
+
+    // stored_balance - ledger_balance
+    @Column(nullable = false)
+    private Long drift;
+
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+
+    @Builder
+    public WalletBalanceDrift(String runId, Long userId, Long storedBalance, Long ledgerBalance, LocalDateTime detectedAt) {
+        this.runId = runId;
+        this.userId = userId;
+        this.storedBalance = storedBalance;
+        this.ledgerBalance = ledgerBalance;
+        this.drift = storedBalance - ledgerBalance;
+        this.detectedAt = detectedAt != null ? detectedAt : LocalDateTime.now();
+    }
+}
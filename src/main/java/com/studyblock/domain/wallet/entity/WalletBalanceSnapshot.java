@@ -0,0 +1,34 @@
+package com.studyblock.domain.wallet.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 원장 잔액 스냅샷
+ * - balance = last_ledger_id 까지의 wallet_ledger.cookie_amount 합계
+ * - 현재 잔액은 스냅샷 + (last_ledger_id 이후 원장 꼬리) 로 재생
+ * - 갱신은 WalletBalanceSnapshotRepository 의 집합 단위 네이티브 쿼리로만 수행 (애플리케이션은 읽기만)
+ */
+@Entity
+@Table(name = "wallet_balance_snapshot")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WalletBalanceSnapshot {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long balance = 0L;
+
+    @Column(name = "last_ledger_id", nullable = false)
+    private Long lastLedgerId = 0L;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,46 @@
+package com.studyblock.domain.wallet.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 월별 지갑 원장 합계
+ * - wallet_ledger 신규 행을 증분 배치가 INSERT ... ON DUPLICATE KEY UPDATE 로 누적 (애플리케이션은 읽기만)
+ */
+@Entity
+@Table(name = "wallet_monthly_summary",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_wallet_monthly_summary", columnNames = {"user_id", "summary_month", "type"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WalletMonthlySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 해당 월 1일
+    @Column(name = "summary_month", nullable = false)
+    private LocalDate summaryMonth;
+
+    @Column(name = "type", nullable = false, length = 20)
+    private String type; // CHARGE, DEBIT, REFUND, EXPIRE, ADMIN_ADJUST
+
+    @Column(name = "cookie_amount", nullable = false)
+    private Long cookieAmount = 0L;
+
+    @Column(name = "tx_count", nullable = false)
+    private Integer txCount = 0;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,13 @@
+package com.studyblock.domain.wallet.repository;
+
+import com.studyblock.domain.wallet.entity.WalletBalanceDrift;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface WalletBalanceDriftRepository extends JpaRepository<WalletBalanceDrift, Long> {
+
+    List<WalletBalanceDrift> findByRunIdOrderByIdAsc(String runId);
+
+    List<WalletBalanceDrift> findTop20ByUserIdOrderByDetectedAtDesc(Long userId);
+}
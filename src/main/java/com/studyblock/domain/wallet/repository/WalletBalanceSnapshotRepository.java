@@ -0,0 +1,81 @@
+package com.studyblock.domain.wallet.repository;
+
+import com.studyblock.domain.wallet.entity.WalletBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 원장 잔액 스냅샷 Repository
+ * - 꼬리 재생 합계 (idx_wallet_ledger_user_id_amount 인덱스만 읽음)
+ * - 사용자 ID 구간 단위 스냅샷 갱신 / 정합성 검증 (네이티브 쿼리)
+ */
+public interface WalletBalanceSnapshotRepository extends JpaRepository<WalletBalanceSnapshot, Long> {
+
+    /**
+     * 스냅샷 이후 원장 꼬리 합계
+     */
+    @Query(value = "SELECT COALESCE(SUM(cookie_amount), 0) FROM wallet_ledger " +
+                   "WHERE user_id = :userId AND id > :afterLedgerId",
+           nativeQuery = true)
+    Long sumLedgerTail(@Param("userId") Long userId, @Param("afterLedgerId") Long afterLedgerId);
+
+    /**
+     * 스냅샷에 포함해도 되는 원장 최고 수위
+     * - settledBefore 이전에 생성된 행까지만 (아직 커밋되지 않은 더 작은 ID 를 건너뛰지 않도록)
+     * - MAX(id) 와 같은 결과를 PK 역순으로 찾아 최근 settledBefore 이후 행만 읽고 멈춤 (created_at 단독 인덱스 없이 전체 스캔 방지)
+     */
+    @Query(value = "SELECT id FROM wallet_ledger WHERE created_at < :settledBefore ORDER BY id DESC LIMIT 1",
+           nativeQuery = true)
+    Long findSettledHighWaterId(@Param("settledBefore") LocalDateTime settledBefore);
+
+    /**
+     * 지갑 사용자 ID 범위
+     * @return [minUserId, maxUserId]
+     */
+    @Query(value = "SELECT MIN(user_id), MAX(user_id) FROM wallet", nativeQuery = true)
+    List<Object[]> findWalletUserIdRange();
+
+    /**
+     * 사용자 ID 구간 [fromUserId, toUserId] 의 스냅샷을 highWaterId 까지 전진
+     * - 기존 스냅샷 이후 원장만 읽어 더함 (전체 재계산 없음)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO wallet_balance_snapshot (user_id, balance, last_ledger_id) " +
+                   "SELECT t.user_id, t.base_balance + t.tail_amount, t.max_ledger_id FROM ( " +
+                   "  SELECT wl.user_id, COALESCE(MAX(s.balance), 0) AS base_balance, " +
+                   "         SUM(wl.cookie_amount) AS tail_amount, MAX(wl.id) AS max_ledger_id " +
+                   "  FROM wallet_ledger wl " +
+                   "  LEFT JOIN wallet_balance_snapshot s ON s.user_id = wl.user_id " +
+                   "  WHERE wl.user_id BETWEEN :fromUserId AND :toUserId " +
+                   "    AND wl.id > COALESCE(s.last_ledger_id, 0) AND wl.id <= :highWaterId " +
+                   "  GROUP BY wl.user_id " +
+                   ") t " +
+                   "ON DUPLICATE KEY UPDATE balance = VALUES(balance), last_ledger_id = VALUES(last_ledger_id)",
+           nativeQuery = true)
+    int advanceSnapshots(@Param("fromUserId") Long fromUserId,
+                         @Param("toUserId") Long toUserId,
+                         @Param("highWaterId") Long highWaterId);
+
+    /**
+     * 사용자 ID 구간 [fromUserId, toUserId] 에서 저장 잔액과 원장 재생 잔액이 다른 지갑
+     * - 단일 SELECT 의 일관된 읽기 시점에서 잔액/원장을 함께 읽으므로 진행 중인 거래는 양쪽 모두 보이지 않음
+     * @return [userId, storedBalance, ledgerBalance]
+     */
+    @Query(value = "SELECT t.user_id, t.stored_balance, t.ledger_balance FROM ( " +
+                   "  SELECT w.user_id, wb.amount AS stored_balance, " +
+                   "         COALESCE(s.balance, 0) + COALESCE(( " +
+                   "           SELECT SUM(wl.cookie_amount) FROM wallet_ledger wl " +
+                   "           WHERE wl.user_id = w.user_id AND wl.id > COALESCE(s.last_ledger_id, 0)), 0) AS ledger_balance " +
+                   "  FROM wallet w " +
+                   "  JOIN wallet_balance wb ON wb.wallet_id = w.id AND wb.currency_code = 'KRW' " +
+                   "  LEFT JOIN wallet_balance_snapshot s ON s.user_id = w.user_id " +
+                   "  WHERE w.user_id BETWEEN :fromUserId AND :toUserId " +
+                   ") t WHERE t.stored_balance <> t.ledger_balance",
+           nativeQuery = true)
+    List<Object[]> findDriftedWallets(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+}
@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface WalletLedgerRepository extends JpaRepository<WalletLedger, Long> {
+public interface WalletLedgerRepository extends JpaRepository<WalletLedger, Long>, WalletLedgerRepositoryCustom {
     
     // 기본 조회 메서드
     List<WalletLedger> findByUser_Id(Long userId);
@@ -0,0 +1,27 @@
+package com.studyblock.domain.wallet.repository;
+
+import com.studyblock.domain.wallet.dto.WalletHistoryResponse;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * WalletLedger Repository Custom 인터페이스
+ * - QueryDSL 을 사용한 커서 기반 지갑 내역 조회
+ */
+public interface WalletLedgerRepositoryCustom {
+
+    /**
+     * 사용자 지갑 내역 조회 (created_at DESC, id DESC 키셋 페이지네이션)
+     * - 주문 번호와 첫 주문 항목의 강의/섹션 정보를 같은 쿼리에서 DTO 로 프로젝션
+     * @param userId 사용자 ID
+     * @param types 원장 유형 목록 (null 이면 전체)
+     * @param cursorCreatedAt 이전 페이지 마지막 내역의 일시 (첫 페이지는 null)
+     * @param cursorId 이전 페이지 마지막 내역 ID (첫 페이지는 null)
+     * @param limit 조회 개수 (0 이하이면 제한 없음)
+     * @return 지갑 내역 목록
+     */
+    List<WalletHistoryResponse> findHistory(Long userId, Collection<String> types,
+                                            LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+}
@@ -0,0 +1,117 @@
+package com.studyblock.domain.wallet.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.studyblock.domain.course.entity.QCourse;
+import com.studyblock.domain.payment.entity.QOrderItem;
+import com.studyblock.domain.wallet.dto.WalletHistoryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static com.studyblock.domain.course.entity.QSection.section;
+import static com.studyblock.domain.payment.entity.QOrder.order;
+import static com.studyblock.domain.payment.entity.QOrderItem.orderItem;
+import static com.studyblock.domain.wallet.entity.QWalletLedger.walletLedger;
+
+/**
+ * WalletLedgerRepositoryCustom 구현체
+ * - (user_id[, type], created_at, id) 인덱스를 타는 키셋 페이지네이션
+ * - 원장은 주문과 FK 없이 reference_type/reference_id 로만 연결되므로 엔티티 조인(ON 절)으로 붙임
+ */
+@Repository
+@RequiredArgsConstructor
+public class WalletLedgerRepositoryImpl implements WalletLedgerRepositoryCustom {
+
+    private static final String ORDER_REFERENCE = "ORDER";
+
+    private static final QOrderItem firstItem = new QOrderItem("firstItem");
+    private static final QCourse itemCourse = new QCourse("itemCourse");
+    private static final QCourse sectionCourse = new QCourse("sectionCourse");
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 실행되는 SQL:
+     * SELECT wl.*, o.order_number, oi.item_type, ...
+     * FROM wallet_ledger wl
+     * LEFT JOIN orders o ON wl.reference_type = 'ORDER' AND o.id = wl.reference_id
+     * LEFT JOIN order_items oi ON oi.id = (SELECT MIN(id) FROM order_items WHERE orders_id = o.id)
+     * LEFT JOIN section s ... LEFT JOIN course ...
+     * WHERE wl.user_id = ? [AND wl.type IN (...)]
+     *   AND (wl.created_at < ? OR (wl.created_at = ? AND wl.id < ?))
+     * ORDER BY wl.created_at DESC, wl.id DESC
+     * LIMIT ?
+     */
+    @Override
+    public List<WalletHistoryResponse> findHistory(Long userId, Collection<String> types,
+                                                   LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        JPAQuery<WalletHistoryResponse> query = queryFactory
+                .select(Projections.constructor(WalletHistoryResponse.class,
+                        walletLedger.id,
+                        walletLedger.type,
+                        walletLedger.cookieAmount,
+                        walletLedger.balanceAfter,
+                        walletLedger.notes,
+                        walletLedger.referenceType,
+                        walletLedger.referenceId,
+                        walletLedger.createdAt,
+                        order.id,
+                        order.orderNumber,
+                        orderItem.itemType,
+                        new CaseBuilder()
+                                .when(section.id.isNotNull()).then(sectionCourse.id)
+                                .otherwise(itemCourse.id),
+                        new CaseBuilder()
+                                .when(section.id.isNotNull()).then(sectionCourse.title)
+                                .otherwise(itemCourse.title),
+                        section.id,
+                        section.title))
+                .from(walletLedger)
+                .leftJoin(order).on(
+                        walletLedger.referenceType.eq(ORDER_REFERENCE),
+                        order.id.eq(walletLedger.referenceId))
+                .leftJoin(orderItem).on(orderItem.id.eq(
+                        JPAExpressions.select(firstItem.id.min())
+                                .from(firstItem)
+                                .where(firstItem.order.id.eq(order.id))))
+                .leftJoin(orderItem.section, section)
+                .leftJoin(section.course, sectionCourse)
+                .leftJoin(orderItem.course, itemCourse)
+                .where(
+                        walletLedger.user.id.eq(userId),
+                        typesIn(types),
+                        beforeCursor(cursorCreatedAt, cursorId)
+                )
+                .orderBy(walletLedger.createdAt.desc(), walletLedger.id.desc());
+
+        if (limit > 0) {
+            query.limit(limit);
+        }
+        return query.fetch();
+    }
+
+    private BooleanExpression typesIn(Collection<String> types) {
+        if (types == null || types.isEmpty()) {
+            return null;
+        }
+        return types.size() == 1
+                ? walletLedger.type.eq(types.iterator().next())
+                : walletLedger.type.in(types);
+    }
+
+    private BooleanExpression beforeCursor(LocalDateTime cursorCreatedAt, Long cursorId) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        return walletLedger.createdAt.lt(cursorCreatedAt)
+                .or(walletLedger.createdAt.eq(cursorCreatedAt).and(walletLedger.id.lt(cursorId)));
+    }
+}
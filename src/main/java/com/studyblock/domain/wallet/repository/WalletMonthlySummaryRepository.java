@@ -0,0 +1,68 @@
+package com.studyblock.domain.wallet.repository;
+
+import com.studyblock.domain.wallet.entity.WalletMonthlySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 월별 지갑 요약 Repository
+ * - 사용자 월별 합계 조회 (uk_wallet_monthly_summary 범위 조회)
+ * - wallet_ledger 신규 구간 증분 반영 (네이티브 쿼리)
+ */
+public interface WalletMonthlySummaryRepository extends JpaRepository<WalletMonthlySummary, Long> {
+
+    String LEDGER_SUMMARY_JOB = "wallet_ledger_monthly";
+
+    /**
+     * 사용자의 월별 합계 조회 (최근 월부터)
+     */
+    @Query("SELECT s FROM WalletMonthlySummary s " +
+           "WHERE s.userId = :userId AND s.summaryMonth >= :fromMonth " +
+           "ORDER BY s.summaryMonth DESC")
+    List<WalletMonthlySummary> findByUserIdSince(@Param("userId") Long userId, @Param("fromMonth") LocalDate fromMonth);
+
+    /**
+     * 증분 배치 커서 조회 (행 잠금)
+     * - 누적과 커서 전진이 끝날 때까지 다른 인스턴스의 같은 구간 처리를 막음 (중복 누적 방지)
+     */
+    @Query(value = "SELECT last_processed_id FROM wallet_summary_cursor WHERE job_name = :jobName FOR UPDATE",
+           nativeQuery = true)
+    Long findJobCursorForUpdate(@Param("jobName") String jobName);
+
+    @Modifying
+    @Query(value = "INSERT INTO wallet_summary_cursor (job_name, last_processed_id) VALUES (:jobName, :lastId) " +
+                   "ON DUPLICATE KEY UPDATE last_processed_id = :lastId",
+           nativeQuery = true)
+    int saveJobCursor(@Param("jobName") String jobName, @Param("lastId") Long lastId);
+
+    /**
+     * 다음 청크의 마지막 원장 ID
+     * - settledBefore 이전에 생성된 행만 대상으로 하여, 아직 커밋되지 않은 더 작은 ID 를 건너뛰지 않도록 함
+     */
+    @Query(value = "SELECT MAX(t.id) FROM (SELECT id FROM wallet_ledger WHERE id > :afterId " +
+                   "AND created_at < :settledBefore ORDER BY id LIMIT :limit) t",
+           nativeQuery = true)
+    Long findLedgerChunkUpperId(@Param("afterId") Long afterId,
+                                @Param("settledBefore") LocalDateTime settledBefore,
+                                @Param("limit") int limit);
+
+    /**
+     * 원장 구간 (afterId, toId] 를 사용자 x 월 x 유형 합계에 누적
+     */
+    @Modifying
+    @Query(value = "INSERT INTO wallet_monthly_summary (user_id, summary_month, type, cookie_amount, tx_count) " +
+                   "SELECT wl.user_id, DATE_FORMAT(wl.created_at, '%Y-%m-01'), wl.type, SUM(wl.cookie_amount), COUNT(*) " +
+                   "FROM wallet_ledger wl " +
+                   "WHERE wl.id > :afterId AND wl.id <= :toId " +
+                   "GROUP BY wl.user_id, DATE_FORMAT(wl.created_at, '%Y-%m-01'), wl.type " +
+                   "ON DUPLICATE KEY UPDATE cookie_amount = cookie_amount + VALUES(cookie_amount), " +
+                   "tx_count = tx_count + VALUES(tx_count)",
+           nativeQuery = true)
+    int accumulateLedgerRange(@Param("afterId") Long afterId, @Param("toId") Long toId);
+}
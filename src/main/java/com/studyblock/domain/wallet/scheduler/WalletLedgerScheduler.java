@@ -0,0 +1,44 @@
+package com.studyblock.domain.wallet.scheduler;
+
+import com.studyblock.domain.wallet.service.WalletLedgerVerifier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지갑 원장 스케줄러
+ * - 스냅샷 갱신: 원장 꼬리를 짧게 유지하여 잔액 재생 비용을 일정하게 유지
+ * - 정합성 검증: 스냅샷 갱신 이후 전체 지갑을 병렬로 검증
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WalletLedgerScheduler {
+
+    private final WalletLedgerVerifier ledgerVerifier;
+
+    /**
+     * 스냅샷 갱신 (기본 매시 15분)
+     */
+    @Scheduled(cron = "${wallet.ledger.snapshot-cron:0 15 * * * *}")
+    public void refreshSnapshots() {
+        try {
+            ledgerVerifier.refreshSnapshots();
+        } catch (Exception e) {
+            log.error("지갑 스냅샷 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 정합성 검증 (기본 매일 04:40)
+     */
+    @Scheduled(cron = "${wallet.ledger.verify-cron:0 40 4 * * *}")
+    public void verifyBalances() {
+        try {
+            ledgerVerifier.verifyAll();
+        } catch (Exception e) {
+            log.error("지갑 정합성 검증 실패", e);
+        }
+    }
+}
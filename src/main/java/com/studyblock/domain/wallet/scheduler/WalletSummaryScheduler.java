@@ -0,0 +1,53 @@
+package com.studyblock.domain.wallet.scheduler;
+
+import com.studyblock.domain.wallet.service.WalletMonthlySummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지갑 월별 요약 스케줄러
+ * - 마지막 처리 이후 새로 생긴 원장만 청크 단위로 반영 (증분)
+ * - 청크마다 별도 트랜잭션으로 커밋하여 커서가 함께 전진
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WalletSummaryScheduler {
+
+    private final WalletMonthlySummaryService summaryService;
+
+    @Value("${wallet.summary.chunk-size:2000}")
+    private int chunkSize;
+
+    @Value("${wallet.summary.max-chunks-per-run:20}")
+    private int maxChunksPerRun;
+
+    /**
+     * 신규 원장 증분 반영 (기본 5분마다)
+     */
+    @Scheduled(fixedDelayString = "${wallet.summary.refresh-interval-ms:300000}")
+    public void refreshMonthlySummary() {
+        int chunks = 0;
+        int affectedRows = 0;
+
+        try {
+            while (chunks < maxChunksPerRun) {
+                int affected = summaryService.processLedgerDeltas(chunkSize);
+                if (affected < 0) {
+                    break;
+                }
+                affectedRows += affected;
+                chunks++;
+            }
+        } catch (Exception e) {
+            log.error("지갑 월별 요약 증분 반영 실패 - 처리된 청크: {}", chunks, e);
+        }
+
+        if (chunks > 0) {
+            log.info("지갑 월별 요약 증분 반영 완료 - 청크 {}개, 반영 행 {}개", chunks, affectedRows);
+        }
+    }
+}
@@ -1,26 +1,25 @@
 package com.studyblock.domain.wallet.service;
 
 import com.studyblock.domain.payment.entity.CookieBundle;
-import com.studyblock.domain.payment.entity.Order;
-import com.studyblock.domain.payment.entity.OrderItem;
 import com.studyblock.domain.payment.repository.CookieBundleRepository;
 import com.studyblock.domain.payment.repository.CookieBatchRepository;
-import com.studyblock.domain.payment.repository.OrderItemRepository;
-import com.studyblock.domain.payment.repository.OrderRepository;
 import com.studyblock.domain.user.repository.UserRepository;
 import com.studyblock.domain.wallet.dto.CookieChargeHistoryPageResponse;
 import com.studyblock.domain.wallet.dto.CookieChargeHistoryResponse;
 import com.studyblock.domain.wallet.dto.CookieChargeGroupedResponse;
 import com.studyblock.domain.wallet.dto.CookieUsageHistoryResponse;
-import com.studyblock.domain.wallet.entity.WalletLedger;
+import com.studyblock.domain.wallet.dto.WalletHistoryFeedResponse;
+import com.studyblock.domain.wallet.dto.WalletHistoryResponse;
 import com.studyblock.domain.wallet.repository.WalletLedgerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,13 +27,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CookieChargeQueryService {
 
+    public static final int MAX_HISTORY_PAGE_SIZE = 100;
+
+    private static final List<String> USAGE_TYPES = List.of("DEBIT");
+    private static final Set<String> HISTORY_TYPES = Set.of("CHARGE", "DEBIT", "REFUND", "EXPIRE", "ADMIN_ADJUST");
+
     private final CookieBundleRepository cookieBundleRepository;
     private final UserRepository userRepository;
     private final CookieBatchRepository cookieBatchRepository;
     private final WalletService walletService;
     private final WalletLedgerRepository walletLedgerRepository;
-    private final OrderRepository orderRepository;
-    private final OrderItemRepository orderItemRepository;
 
     @Transactional(readOnly = true)
     public Map<String, Object> getAvailableBundles() {
@@ -115,10 +117,12 @@ public class CookieChargeQueryService {
 
     @Transactional(readOnly = true)
     public List<CookieChargeHistoryResponse> getMyChargeHistory(Long userId) {
-        var user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-        
-        var batches = cookieBatchRepository.findByUserOrderByCreatedAtDesc(user);
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+        }
+
+        // 배치 + 주문 항목 + 주문을 한 번에 조회
+        var batches = cookieBatchRepository.findByUserIdWithOrderItem(userId);
         
         // 빈 리스트 처리
         if (batches == null || batches.isEmpty()) {
@@ -209,149 +213,89 @@ public class CookieChargeQueryService {
 
     @Transactional(readOnly = true)
     public List<CookieChargeGroupedResponse> getMyChargeHistoryGrouped(Long userId) {
-        var user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-        var batches = cookieBatchRepository.findByUserOrderByCreatedAtDesc(user);
-
-        Map<Long, CookieChargeGroupedResponse.CookieChargeGroupedResponseBuilder> map = new java.util.LinkedHashMap<>();
-
-        for (com.studyblock.domain.payment.entity.CookieBatch b : batches) {
-            var oi = b.getOrderItem();
-            Long orderId = (oi != null && oi.getOrder() != null) ? oi.getOrder().getId() : null;
-            if (orderId == null) continue; // 주문 연결 없으면 건너뜀
-
-            var order = oi.getOrder();
-            var builder = map.computeIfAbsent(orderId, k -> CookieChargeGroupedResponse.builder()
-                    .orderId(orderId)
-                    .orderNumber(order != null ? order.getOrderNumber() : null)
-                    .paidQty(0)
-                    .bonusQty(0)
-                    .totalQty(0)
-                    .amount(order != null ? order.getTotalAmount() : null)
-                    .chargedAt(order != null ? (order.getPaidAt() != null ? order.getPaidAt() : order.getCreatedAt()) : null)
-            );
-
-            int addQty = b.getQtyTotal() != null ? b.getQtyTotal() : 0;
-            if (b.getCookieType() == com.studyblock.domain.wallet.enums.CookieType.PAID) {
-                builder.paidQty((builder.build().getPaidQty() != null ? builder.build().getPaidQty() : 0) + addQty);
-            } else {
-                builder.bonusQty((builder.build().getBonusQty() != null ? builder.build().getBonusQty() : 0) + addQty);
-            }
-            int currentTotal = (builder.build().getTotalQty() != null ? builder.build().getTotalQty() : 0) + addQty;
-            builder.totalQty(currentTotal);
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
         }
 
+        // 주문 단위 합계는 DB 에서 GROUP BY (최근 충전 주문부터)
         List<CookieChargeGroupedResponse> result = new java.util.ArrayList<>();
-        for (var e : map.values()) {
-            result.add(e.build());
+        for (Object[] row : cookieBatchRepository.findChargeGroupsByUserId(userId)) {
+            LocalDateTime paidAt = (LocalDateTime) row[3];
+            LocalDateTime orderCreatedAt = (LocalDateTime) row[4];
+            int paidQty = row[5] != null ? ((Number) row[5]).intValue() : 0;
+            int bonusQty = row[6] != null ? ((Number) row[6]).intValue() : 0;
+
+            result.add(CookieChargeGroupedResponse.builder()
+                    .orderId((Long) row[0])
+                    .orderNumber((String) row[1])
+                    .amount((Long) row[2])
+                    .chargedAt(paidAt != null ? paidAt : orderCreatedAt)
+                    .paidQty(paidQty)
+                    .bonusQty(bonusQty)
+                    .totalQty(paidQty + bonusQty)
+                    .build());
         }
         return result;
     }
 
-    // 쿠키 사용 내역 조회
+    // 쿠키 사용 내역 조회 (전체, 주문/강의 정보는 원장 조회 쿼리에서 함께 프로젝션)
     @Transactional(readOnly = true)
     public List<CookieUsageHistoryResponse> getMyUsageHistory(Long userId) {
-        List<WalletLedger> ledgers = walletLedgerRepository.findByUser_IdAndType(userId, "DEBIT");
-        ledgers.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
-        
-        return ledgers.stream()
+        return walletLedgerRepository.findHistory(userId, USAGE_TYPES, null, null, 0).stream()
                 .map(this::toCookieUsageHistoryResponse)
                 .collect(Collectors.toList());
     }
 
-    private CookieUsageHistoryResponse toCookieUsageHistoryResponse(WalletLedger ledger) {
-        Integer cookieAmount = Math.abs(ledger.getCookieAmount());
-        OrderInfo orderInfo = extractOrderInfo(ledger);
-        
-        return CookieUsageHistoryResponse.builder()
-                .id(ledger.getId())
-                .cookieAmount(cookieAmount)
-                .balanceAfter(ledger.getBalanceAfter())
-                .notes(ledger.getNotes())
-                .referenceType(ledger.getReferenceType())
-                .referenceId(ledger.getReferenceId())
-                .createdAt(ledger.getCreatedAt())
-                .orderId(orderInfo.orderId)
-                .orderNumber(orderInfo.orderNumber)
-                .itemType(orderInfo.itemType)
-                .courseId(orderInfo.courseId)
-                .courseTitle(orderInfo.courseTitle)
-                .sectionId(orderInfo.sectionId)
-                .sectionTitle(orderInfo.sectionTitle)
-                .build();
-    }
-
-    private OrderInfo extractOrderInfo(WalletLedger ledger) {
-        if (!"ORDER".equals(ledger.getReferenceType()) || ledger.getReferenceId() == null) {
-            return new OrderInfo();
-        }
-
-        Long orderId = ledger.getReferenceId();
-        Order order = orderRepository.findById(orderId).orElse(null);
-        if (order == null) {
-            return new OrderInfo();
-        }
-
-        List<OrderItem> orderItems = orderItemRepository.findByOrder_Id(orderId);
-        if (orderItems.isEmpty()) {
-            return new OrderInfo(orderId, order.getOrderNumber(), null, null, null, null, null);
-        }
-
-        OrderItem firstItem = orderItems.get(0);
-        String itemType = firstItem.getItemType() != null ? firstItem.getItemType().name() : null;
+    // 지갑 내역 조회 (커서 기반, 최신순)
+    // types 가 비어 있으면 전체 유형
+    @Transactional(readOnly = true)
+    public WalletHistoryFeedResponse getMyWalletHistory(Long userId, List<String> types,
+                                                        LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
 
-        // 섹션 구매인 경우
-        if (firstItem.getSection() != null) {
-            Long sectionId = firstItem.getSection().getId();
-            String sectionTitle = firstItem.getSection().getTitle();
-            Long courseId = null;
-            String courseTitle = null;
-            
-            if (firstItem.getSection().getCourse() != null) {
-                courseId = firstItem.getSection().getCourse().getId();
-                courseTitle = firstItem.getSection().getCourse().getTitle();
+        List<String> normalizedTypes = types == null ? List.of() : types.stream()
+                .filter(type -> type != null && !type.isBlank())
+                .map(type -> type.trim().toUpperCase())
+                .distinct()
+                .toList();
+        for (String type : normalizedTypes) {
+            if (!HISTORY_TYPES.contains(type)) {
+                throw new IllegalArgumentException("지원하지 않는 내역 유형입니다: " + type);
             }
-            
-            return new OrderInfo(orderId, order.getOrderNumber(), itemType, 
-                    courseId, courseTitle, sectionId, sectionTitle);
-        }
-        
-        // 강의 구매인 경우
-        if (firstItem.getCourse() != null) {
-            Long courseId = firstItem.getCourse().getId();
-            String courseTitle = firstItem.getCourse().getTitle();
-            return new OrderInfo(orderId, order.getOrderNumber(), itemType, 
-                    courseId, courseTitle, null, null);
         }
 
-        return new OrderInfo(orderId, order.getOrderNumber(), itemType, null, null, null, null);
-    }
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<WalletHistoryResponse> rows = walletLedgerRepository.findHistory(
+                userId, normalizedTypes, cursorCreatedAt, cursorId, pageSize + 1);
 
-    // 주문 정보를 담는 내부 클래스
-    private static class OrderInfo {
-        Long orderId;
-        String orderNumber;
-        String itemType;
-        Long courseId;
-        String courseTitle;
-        Long sectionId;
-        String sectionTitle;
+        boolean hasNext = rows.size() > pageSize;
+        List<WalletHistoryResponse> items = hasNext ? rows.subList(0, pageSize) : rows;
+        WalletHistoryResponse last = items.isEmpty() ? null : items.get(items.size() - 1);
 
-        OrderInfo() {
-            this(null, null, null, null, null, null, null);
-        }
+        return WalletHistoryFeedResponse.builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursorCreatedAt(hasNext ? last.getCreatedAt() : null)
+                .nextCursorId(hasNext ? last.getId() : null)
+                .build();
+    }
 
-        OrderInfo(Long orderId, String orderNumber, String itemType,
-                  Long courseId, String courseTitle, Long sectionId, String sectionTitle) {
-            this.orderId = orderId;
-            this.orderNumber = orderNumber;
-            this.itemType = itemType;
-            this.courseId = courseId;
-            this.courseTitle = courseTitle;
-            this.sectionId = sectionId;
-            this.sectionTitle = sectionTitle;
-        }
+    private CookieUsageHistoryResponse toCookieUsageHistoryResponse(WalletHistoryResponse history) {
+        return CookieUsageHistoryResponse.builder()
+                .id(history.getId())
+                .cookieAmount(history.getCookieAmount() != null ? Math.abs(history.getCookieAmount()) : 0)
+                .balanceAfter(history.getBalanceAfter())
+                .notes(history.getNotes())
+                .referenceType(history.getReferenceType())
+                .referenceId(history.getReferenceId())
+                .createdAt(history.getCreatedAt())
+                .orderId(history.getOrderId())
+                .orderNumber(history.getOrderNumber())
+                .itemType(history.getItemType())
+                .courseId(history.getCourseId())
+                .courseTitle(history.getCourseTitle())
+                .sectionId(history.getSectionId())
+                .sectionTitle(history.getSectionTitle())
+                .build();
     }
 }
-
-
@@ -0,0 +1,111 @@
+package com.studyblock.domain.wallet.service;
+
+import com.studyblock.domain.wallet.dto.WalletLedgerBalanceResponse;
+import com.studyblock.domain.wallet.entity.WalletBalanceDrift;
+import com.studyblock.domain.wallet.entity.WalletBalanceSnapshot;
+import com.studyblock.domain.wallet.repository.WalletBalanceRepository;
+import com.studyblock.domain.wallet.repository.WalletBalanceSnapshotRepository;
+import com.studyblock.domain.wallet.repository.WalletRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 지갑 원장 엔진
+ * - wallet_ledger 를 기준(source of truth)으로 잔액을 재생: 스냅샷 잔액 + 스냅샷 이후 원장 꼬리
+ * - 스냅샷은 사용자 ID 구간 단위로 원장 최고 수위까지 전진 (기존 스냅샷 이후 원장만 읽음)
+ * - 구간 단위 정합성 검증은 잠금 없이 단일 SELECT 의 일관된 읽기로 수행
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class WalletLedgerEngine {
+
+    private static final String CURRENCY_KRW = "KRW";
+
+    // 이 시간보다 최근 원장은 스냅샷에 넣지 않음 (진행 중 트랜잭션의 더 작은 ID 보호)
+    private static final long SETTLE_DELAY_SECONDS = 60;
+
+    private final WalletBalanceSnapshotRepository snapshotRepository;
+    private final WalletRepository walletRepository;
+    private final WalletBalanceRepository walletBalanceRepository;
+
+    /**
+     * 사용자 잔액을 원장으로 재생하고 저장 잔액과 비교
+     */
+    public WalletLedgerBalanceResponse replayBalance(Long userId) {
+        WalletBalanceSnapshot snapshot = snapshotRepository.findById(userId).orElse(null);
+        long snapshotBalance = snapshot != null ? snapshot.getBalance() : 0L;
+        long snapshotLedgerId = snapshot != null ? snapshot.getLastLedgerId() : 0L;
+
+        long tailAmount = snapshotRepository.sumLedgerTail(userId, snapshotLedgerId);
+        long ledgerBalance = snapshotBalance + tailAmount;
+
+        Long storedBalance = walletRepository.findByUser_Id(userId)
+                .flatMap(wallet -> walletBalanceRepository.findByWallet_IdAndCurrencyCode(wallet.getId(), CURRENCY_KRW))
+                .map(balance -> balance.getAmount())
+                .orElse(null);
+
+        return WalletLedgerBalanceResponse.builder()
+                .userId(userId)
+                .snapshotBalance(snapshotBalance)
+                .snapshotLedgerId(snapshotLedgerId)
+                .tailAmount(tailAmount)
+                .ledgerBalance(ledgerBalance)
+                .storedBalance(storedBalance)
+                .drift(storedBalance != null ? storedBalance - ledgerBalance : null)
+                .build();
+    }
+
+    /**
+     * 이번 스냅샷 갱신에 포함할 원장 최고 수위 (없으면 null)
+     */
+    public Long findSnapshotHighWaterId() {
+        return snapshotRepository.findSettledHighWaterId(LocalDateTime.now().minusSeconds(SETTLE_DELAY_SECONDS));
+    }
+
+    /**
+     * 지갑 사용자 ID 범위 [min, max] (지갑이 없으면 null)
+     */
+    public long[] findWalletUserIdRange() {
+        List<Object[]> rows = snapshotRepository.findWalletUserIdRange();
+        if (rows.isEmpty() || rows.get(0)[0] == null || rows.get(0)[1] == null) {
+            return null;
+        }
+        return new long[] {((Number) rows.get(0)[0]).longValue(), ((Number) rows.get(0)[1]).longValue()};
+    }
+
+    /**
+     * 사용자 ID 구간의 스냅샷을 highWaterId 까지 전진
+     *
+     * @return 갱신된 스냅샷 행 수 (MySQL 기준 INSERT 1, UPDATE 2 로 집계됨)
+     */
+    @Transactional
+    public int advanceSnapshots(long fromUserId, long toUserId, long highWaterId) {
+        return snapshotRepository.advanceSnapshots(fromUserId, toUserId, highWaterId);
+    }
+
+    /**
+     * 사용자 ID 구간에서 저장 잔액과 원장 재생 잔액이 다른 지갑
+     */
+    public List<WalletBalanceDrift> findDrifts(String runId, long fromUserId, long toUserId) {
+        LocalDateTime detectedAt = LocalDateTime.now();
+        List<WalletBalanceDrift> drifts = new ArrayList<>();
+        for (Object[] row : snapshotRepository.findDriftedWallets(fromUserId, toUserId)) {
+            drifts.add(WalletBalanceDrift.builder()
+                    .runId(runId)
+                    .userId(((Number) row[0]).longValue())
+                    .storedBalance(((Number) row[1]).longValue())
+                    .ledgerBalance(((Number) row[2]).longValue())
+                    .detectedAt(detectedAt)
+                    .build());
+        }
+        return drifts;
+    }
+}
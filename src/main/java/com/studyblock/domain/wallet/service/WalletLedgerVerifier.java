@@ -0,0 +1,204 @@
+package com.studyblock.domain.wallet.service;
+
+import com.studyblock.domain.wallet.dto.WalletDriftReportResponse;
+import com.studyblock.domain.wallet.entity.WalletBalanceDrift;
+import com.studyblock.domain.wallet.repository.WalletBalanceDriftRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지갑 원장 스냅샷 갱신 + 병렬 정합성 검증
+ * - 지갑 사용자 ID 범위를 chunk-size 구간으로 나눔
+ * - 스냅샷 갱신: 구간마다 별도 트랜잭션으로 순차 실행 (쓰기)
+ * - 검증: 구간을 전용 스레드 풀에 나눠 동시에 읽기 (구간마다 읽기 전용 트랜잭션, 잠금 없음)
+ * - 불일치는 wallet_balance_drift 에 실행 ID 와 함께 저장하고 게이지로 노출
+ */
+@Service
+@Slf4j
+public class WalletLedgerVerifier {
+
+    private static final int MAX_SAMPLES = 100;
+
+    private final WalletLedgerEngine ledgerEngine;
+    private final WalletBalanceDriftRepository driftRepository;
+
+    private final long chunkSize;
+    private final int parallelism;
+    private final ExecutorService verifyPool;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong lastDriftCount = new AtomicLong(0);
+
+    public WalletLedgerVerifier(WalletLedgerEngine ledgerEngine,
+                                WalletBalanceDriftRepository driftRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${wallet.ledger.chunk-size:5000}") long chunkSize,
+                                @Value("${wallet.ledger.verify-parallelism:0}") int parallelism) {
+        this.ledgerEngine = ledgerEngine;
+        this.driftRepository = driftRepository;
+        this.chunkSize = Math.max(1L, chunkSize);
+        // 0 이하이면 코어 수만큼
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.verifyPool = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "WalletVerify-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("wallet.ledger.drift.wallets", lastDriftCount, AtomicLong::get)
+                .description("Wallets whose stored balance disagreed with the ledger replay in the last verification")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 모든 지갑의 스냅샷을 현재 원장 최고 수위까지 전진
+     *
+     * @return 갱신된 스냅샷 행 수
+     */
+    public int refreshSnapshots() {
+        Long highWaterId = ledgerEngine.findSnapshotHighWaterId();
+        long[] range = ledgerEngine.findWalletUserIdRange();
+        if (highWaterId == null || range == null) {
+            return 0;
+        }
+
+        int affected = 0;
+        for (long from = range[0]; from <= range[1]; from += chunkSize) {
+            long to = Math.min(from + chunkSize - 1, range[1]);
+            try {
+                affected += ledgerEngine.advanceSnapshots(from, to, highWaterId);
+            } catch (Exception e) {
+                // 실패한 구간은 기존 스냅샷이 그대로이므로 다음 실행에서 이어서 전진
+                log.error("지갑 스냅샷 갱신 실패 - userId [{}, {}]", from, to, e);
+            }
+        }
+
+        log.info("지갑 스냅샷 갱신 완료 - highWaterId: {}, 갱신 행 {}개", highWaterId, affected);
+        return affected;
+    }
+
+    /**
+     * 모든 지갑의 저장 잔액을 원장 재생 잔액과 비교
+     *
+     * @return 검증 결과 (이미 실행 중이면 IllegalStateException)
+     */
+    public WalletDriftReportResponse verifyAll() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("지갑 정합성 검증이 이미 실행 중입니다");
+        }
+
+        String runId = UUID.randomUUID().toString();
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+
+        try {
+            long[] range = ledgerEngine.findWalletUserIdRange();
+            if (range == null) {
+                lastDriftCount.set(0);
+                return emptyReport(runId, startedAt);
+            }
+
+            ExecutorCompletionService<List<WalletBalanceDrift>> completion = new ExecutorCompletionService<>(verifyPool);
+            int chunkCount = 0;
+            for (long from = range[0]; from <= range[1]; from += chunkSize) {
+                long chunkFrom = from;
+                long chunkTo = Math.min(from + chunkSize - 1, range[1]);
+                completion.submit(() -> ledgerEngine.findDrifts(runId, chunkFrom, chunkTo));
+                chunkCount++;
+            }
+
+            int failedChunks = 0;
+            int driftCount = 0;
+            long totalAbsoluteDrift = 0;
+            List<WalletDriftReportResponse.DriftItem> samples = new ArrayList<>();
+
+            for (int i = 0; i < chunkCount; i++) {
+                List<WalletBalanceDrift> drifts;
+                try {
+                    drifts = completion.take().get();
+                } catch (ExecutionException e) {
+                    failedChunks++;
+                    log.error("지갑 정합성 검증 구간 실패 - runId: {}", runId, e.getCause());
+                    continue;
+                }
+                if (drifts.isEmpty()) {
+                    continue;
+                }
+
+                driftRepository.saveAll(drifts);
+                driftCount += drifts.size();
+                for (WalletBalanceDrift drift : drifts) {
+                    totalAbsoluteDrift += Math.abs(drift.getDrift());
+                    if (samples.size() < MAX_SAMPLES) {
+                        samples.add(WalletDriftReportResponse.DriftItem.builder()
+                                .userId(drift.getUserId())
+                                .storedBalance(drift.getStoredBalance())
+                                .ledgerBalance(drift.getLedgerBalance())
+                                .drift(drift.getDrift())
+                                .build());
+                    }
+                }
+            }
+
+            lastDriftCount.set(driftCount);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+            if (driftCount > 0 || failedChunks > 0) {
+                log.warn("지갑 정합성 검증 - runId: {}, 구간 {}개(실패 {}), 불일치 지갑 {}개, 불일치 합 {}, {}ms",
+                        runId, chunkCount, failedChunks, driftCount, totalAbsoluteDrift, elapsedMillis);
+            } else {
+                log.info("지갑 정합성 검증 - runId: {}, 구간 {}개, 불일치 없음, {}ms", runId, chunkCount, elapsedMillis);
+            }
+
+            return WalletDriftReportResponse.builder()
+                    .runId(runId)
+                    .startedAt(startedAt)
+                    .elapsedMillis(elapsedMillis)
+                    .parallelism(parallelism)
+                    .chunkCount(chunkCount)
+                    .failedChunkCount(failedChunks)
+                    .driftCount(driftCount)
+                    .totalAbsoluteDrift(totalAbsoluteDrift)
+                    .samples(samples)
+                    .build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("지갑 정합성 검증이 중단되었습니다", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private WalletDriftReportResponse emptyReport(String runId, LocalDateTime startedAt) {
+        return WalletDriftReportResponse.builder()
+                .runId(runId)
+                .startedAt(startedAt)
+                .parallelism(parallelism)
+                .samples(new ArrayList<>())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        verifyPool.shutdownNow();
+    }
+}
@@ -0,0 +1,103 @@
+package com.studyblock.domain.wallet.service;
+
+import com.studyblock.domain.wallet.dto.WalletMonthlySummaryResponse;
+import com.studyblock.domain.wallet.entity.WalletMonthlySummary;
+import com.studyblock.domain.wallet.repository.WalletMonthlySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 월별 지갑 요약 서비스
+ * - 마지막 처리 이후 새로 생긴 wallet_ledger 행만 읽어 사용자 x 월 x 유형 합계에 누적
+ * - 조회는 요약 테이블만 읽으므로 원장 행 수와 무관
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class WalletMonthlySummaryService {
+
+    public static final int MAX_MONTHS = 24;
+
+    // 이 시간보다 최근 원장은 다음 실행으로 미룸 (진행 중 트랜잭션의 더 작은 ID 보호)
+    private static final long SETTLE_DELAY_SECONDS = 60;
+
+    private final WalletMonthlySummaryRepository summaryRepository;
+
+    /**
+     * 신규 원장 한 청크를 월별 합계에 반영
+     *
+     * @param chunkSize 한 번에 처리할 원장 행 수
+     * @return 반영한 요약 행 수 (처리할 원장이 없으면 -1)
+     */
+    @Transactional
+    public int processLedgerDeltas(int chunkSize) {
+        // 커서 행을 잠가 누적 + 커서 전진을 한 트랜잭션으로 직렬화 (여러 인스턴스 동시 실행 대비)
+        Long afterId = summaryRepository.findJobCursorForUpdate(WalletMonthlySummaryRepository.LEDGER_SUMMARY_JOB);
+        if (afterId == null) {
+            afterId = 0L;
+        }
+
+        LocalDateTime settledBefore = LocalDateTime.now().minusSeconds(SETTLE_DELAY_SECONDS);
+        Long toId = summaryRepository.findLedgerChunkUpperId(afterId, settledBefore, chunkSize);
+        if (toId == null) {
+            return -1;
+        }
+
+        int affected = summaryRepository.accumulateLedgerRange(afterId, toId);
+        summaryRepository.saveJobCursor(WalletMonthlySummaryRepository.LEDGER_SUMMARY_JOB, toId);
+
+        log.debug("지갑 월별 요약 증분 반영 - ledger ({}, {}], 반영 행 {}개", afterId, toId, affected);
+        return affected;
+    }
+
+    /**
+     * 사용자의 최근 N개월 요약 (최근 월부터, 거래가 없는 월은 생략)
+     */
+    public List<WalletMonthlySummaryResponse> getMonthlySummary(Long userId, int months) {
+        int safeMonths = Math.min(Math.max(months, 1), MAX_MONTHS);
+        YearMonth fromMonth = YearMonth.now().minusMonths(safeMonths - 1L);
+
+        // 월 -> [charged, used, refunded, expired, adjusted, txCount]
+        Map<YearMonth, long[]> totals = new LinkedHashMap<>();
+
+        for (WalletMonthlySummary row : summaryRepository.findByUserIdSince(userId, fromMonth.atDay(1))) {
+            YearMonth month = YearMonth.from(row.getSummaryMonth());
+            long[] sums = totals.computeIfAbsent(month, m -> new long[6]);
+
+            long amount = row.getCookieAmount() != null ? row.getCookieAmount() : 0L;
+            switch (row.getType()) {
+                case "CHARGE" -> sums[0] += amount;
+                case "DEBIT" -> sums[1] += Math.abs(amount);
+                case "REFUND" -> sums[2] += amount;
+                case "EXPIRE" -> sums[3] += Math.abs(amount);
+                case "ADMIN_ADJUST" -> sums[4] += amount;
+                default -> log.debug("월별 요약 - 알 수 없는 원장 유형 무시: {}", row.getType());
+            }
+            sums[5] += row.getTxCount() != null ? row.getTxCount() : 0;
+        }
+
+        List<WalletMonthlySummaryResponse> result = new ArrayList<>();
+        totals.forEach((month, sums) -> {
+            result.add(WalletMonthlySummaryResponse.builder()
+                    .month(month)
+                    .chargedAmount(sums[0])
+                    .usedAmount(sums[1])
+                    .refundedAmount(sums[2])
+                    .expiredAmount(sums[3])
+                    .adjustedAmount(sums[4])
+                    .txCount((int) sums[5])
+                    .build());
+        });
+        return result;
+    }
+}
@@ -17,6 +17,7 @@ import com.studyblock.domain.wallet.repository.WalletLedgerRepository;
 import com.studyblock.domain.wallet.repository.WalletRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,6 +37,7 @@ public class WalletService {
     private final UserRepository userRepository;
 
 private static final String CURRENCY_KRW = "KRW";
+private static final int RESTORE_BATCH_PAGE_SIZE = 20;
 
     // 사용자 지갑 조회 (없으면 생성)
     @Transactional
@@ -263,15 +265,18 @@ private static final String CURRENCY_KRW = "KRW";
         // 2) CookieBatch FIFO 롤백: 소비가 FIFO였다면 환불은 역방향(LIFO)로 복구
         int remaining = cookieAmount;
         // 최신 배치부터 역순으로(최근에 소비된 것으로 가정) qtyRemain을 복구
-        for (CookieBatch batch : cookieBatchRepository.findByUserOrderByCreatedAtDesc(user)) {
-            if (remaining <= 0) break;
-            int currentRemain = batch.getQtyRemain() != null ? batch.getQtyRemain() : 0;
-            int capacity = (batch.getQtyTotal() != null ? batch.getQtyTotal() : 0) - currentRemain;
-            if (capacity <= 0) continue;
-            int toRestore = Math.min(capacity, remaining);
-            batch.restore(toRestore);
-            cookieBatchRepository.save(batch);
-            remaining -= toRestore;
+        // - 복구 여유가 있는 배치만 조회, 변경은 더티 체킹으로 flush 시 일괄 반영
+        // - 한 페이지를 다 쓰고도 남았다면 그 페이지 배치는 모두 가득 찼으므로 다음 조회에서 빠짐 → 항상 첫 페이지 조회
+        while (remaining > 0) {
+            List<CookieBatch> batches = cookieBatchRepository.findRestorableBatchesByUserId(
+                    userId, PageRequest.of(0, RESTORE_BATCH_PAGE_SIZE));
+            if (batches.isEmpty()) break;
+            for (CookieBatch batch : batches) {
+                if (remaining <= 0) break;
+                int toRestore = Math.min(batch.getQtyTotal() - batch.getQtyRemain(), remaining);
+                batch.restore(toRestore);
+                remaining -= toRestore;
+            }
         }
         // 남는 양이 있으면(배치 용량 초과) 무료쿠키 배치로 신규 생성하여 복구
         if (remaining > 0) {
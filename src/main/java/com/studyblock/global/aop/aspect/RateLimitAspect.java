@@ -7,7 +7,7 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
@@ -26,7 +26,8 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class RateLimitAspect {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    // 존재 여부만 보는 표시 키이므로 JSON 직렬화 없이 짧은 문자열 값으로 저장
+    private final StringRedisTemplate stringRedisTemplate;
 
     /**
      * @RateLimited가 적용된 메서드 실행 전 재전송 제한 검증
@@ -46,20 +47,17 @@ public class RateLimitAspect {
         String keyValue = extractKeyValue(joinPoint, annotation.key());
         String redisKey = annotation.prefix() + keyValue;
 
-        // 3. Redis에서 기존 요청 확인
-        Boolean exists = redisTemplate.hasKey(redisKey);
-        if (Boolean.TRUE.equals(exists)) {
-            log.warn("재전송 제한 - Redis 키 존재: {}, duration: {}초", redisKey, annotation.duration());
-            throw new IllegalArgumentException(annotation.message());
-        }
-
-        // 4. Redis에 요청 기록 저장 (TTL 설정)
-        redisTemplate.opsForValue().set(
+        // 3~4. 기존 요청 확인 + 요청 기록 저장 (SET NX, TTL 설정)
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(
                 redisKey,
-                "locked",
+                "1",
                 annotation.duration(),
                 TimeUnit.SECONDS
         );
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.warn("재전송 제한 - Redis 키 존재: {}, duration: {}초", redisKey, annotation.duration());
+            throw new IllegalArgumentException(annotation.message());
+        }
 
         log.debug("재전송 제한 키 설정 - key: {}, duration: {}초", redisKey, annotation.duration());
 
@@ -68,7 +66,7 @@ public class RateLimitAspect {
             return joinPoint.proceed();
         } catch (Exception e) {
             // 6. 예외 발생 시 Redis 키 삭제 (재시도 가능하도록)
-            redisTemplate.delete(redisKey);
+            stringRedisTemplate.delete(redisKey);
             log.debug("예외 발생으로 재전송 제한 키 삭제 - key: {}", redisKey);
             throw e;
         }
@@ -57,6 +57,44 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * 아웃박스 즉시 디스패치용 스레드 풀
+     * - 디스패처는 인스턴스 내 단일 실행이므로 스레드 1개로 충분
+     * - 큐가 가득 차면 버림 (스케줄러 폴링이 이어서 처리)
+     */
+    @Bean(name = "outboxDispatchExecutor")
+    public Executor outboxDispatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("OutboxDispatch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 멱등성 키 감사 기록용 스레드 풀
+     * - 같은 키의 PENDING → COMPLETED 순서가 뒤집히지 않도록 스레드 1개
+     * - 큐가 가득 차면 호출 스레드에서 기록 (감사 기록 유실 방지)
+     */
+    @Bean(name = "idempotencyAuditExecutor")
+    public Executor idempotencyAuditExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("IdempotencyAudit-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
     /**
      * 기본 비동기 Executor 설정
      */
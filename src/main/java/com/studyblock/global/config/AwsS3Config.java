@@ -8,6 +8,9 @@ import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
 
 /*
     AWS S3 버킷을 Bean으로 등록하는 설정 클래스
@@ -15,6 +18,7 @@ import software.amazon.awssdk.services.s3.S3Client;
     로컬/배포 환경 모두 지원:
     - 로컬: application-local.yml의 credentials 설정 → StaticCredentialsProvider 사용
     - 배포: IAM Role (EC2 Instance Profile) → DefaultCredentialsProvider 사용
+    - 부하 테스트: spring.cloud.aws.s3.endpoint 로 LocalStack 등 S3 호환 엔드포인트 지정
  */
 
 @Configuration
@@ -34,6 +38,10 @@ public class AwsS3Config {
     @Value("${spring.cloud.aws.credentials.secret-key:}")
     private String secretKey;
 
+    // S3 호환 엔드포인트 (LocalStack 등 로컬 대체 환경, 비어 있으면 AWS 기본 엔드포인트)
+    @Value("${spring.cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
     /**
      * S3Client Bean 생성
      * 
@@ -42,20 +50,24 @@ public class AwsS3Config {
      */
     @Bean
     public S3Client s3Client() {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region));
+
         // 로컬 환경: credentials가 명시된 경우 StaticCredentialsProvider 사용
         if (accessKey != null && !accessKey.isEmpty() && 
             secretKey != null && !secretKey.isEmpty()) {
-            return S3Client.builder()
-                    .region(Region.of(region))
-                    .credentialsProvider(StaticCredentialsProvider.create(
-                            AwsBasicCredentials.create(accessKey, secretKey)))
-                    .build();
+            builder.credentialsProvider(StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(accessKey, secretKey)));
         } else {
             // 배포 환경: DefaultCredentialsProvider 사용 (IAM Role 자동 탐색)
-            return S3Client.builder()
-                    .region(Region.of(region))
-                    .credentialsProvider(DefaultCredentialsProvider.create())
-                    .build();
+            builder.credentialsProvider(DefaultCredentialsProvider.create());
+        }
+
+        // 로컬 대체 환경: 버킷을 호스트 대신 경로로 지정 (path-style)
+        if (endpoint != null && !endpoint.isEmpty()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .forcePathStyle(true);
         }
+        return builder.build();
     }
 }
@@ -0,0 +1,62 @@
+package com.studyblock.global.config;
+
+import com.studyblock.global.monitoring.RedisCommandCountingListener;
+import com.studyblock.global.monitoring.RequestMetricsFilter;
+import com.studyblock.global.monitoring.RequestMetricsRecorder;
+import com.studyblock.global.monitoring.SqlStatementCountingInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+/**
+ * 요청 단위 계측 설정
+ * - Hibernate StatementInspector 로 SQL 문 수 집계
+ * - Lettuce CommandListener 로 Redis 명령 수 집계
+ * - 요청 필터에서 엔드포인트별 지연 / SQL / Redis 지표 기록, SQL 수 임계값 초과 요청 표시
+ */
+@Configuration
+@ConditionalOnProperty(name = "monitoring.request.enabled", havingValue = "true", matchIfMissing = true)
+public class MonitoringConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCountingCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCountingInspector());
+    }
+
+    /**
+     * LettuceConnectionFactory 초기화(클라이언트 생성) 직후, 연결이 만들어지기 전에 리스너 등록
+     */
+    @Bean
+    public static BeanPostProcessor redisCommandCountingRegistrar() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof LettuceConnectionFactory factory && factory.getNativeClient() != null) {
+                    factory.getNativeClient().addListener(new RedisCommandCountingListener());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 보안 필터 체인보다 먼저 실행 (인증 과정의 조회도 요청 비용에 포함)
+     */
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(
+            RequestMetricsRecorder recorder,
+            @Value("${monitoring.request.fail-on-threshold:false}") boolean failOnThreshold) {
+        FilterRegistrationBean<RequestMetricsFilter> registration =
+                new FilterRegistrationBean<>(new RequestMetricsFilter(recorder, failOnThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -6,14 +6,18 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
  * Redis 설정
  * - RefreshToken 저장용
  * - VideoProgress 저장용
- * - String Key + JSON Value 형식
+ * - 코스 카탈로그 캐시 무효화 Pub/Sub 구독용 리스너 컨테이너
+ * - redisTemplate: String Key + JSON Value 형식 (기존 값 / 범용)
+ * - redisBytesTemplate: 캐시별 코덱(RedisValueCodec) 으로 만든 바이트 값 (버전 키)
  * - LocalDateTime 직렬화 지원 (JavaTimeModule)
  */
 @Configuration
@@ -29,6 +33,33 @@ public class RedisConfig {
         template.setHashKeySerializer(new StringRedisSerializer());
 
         // Value는 JSON으로 직렬화 (LocalDateTime 지원)
+        GenericJackson2JsonRedisSerializer serializer = jsonValueSerializer();
+        template.setValueSerializer(serializer);
+        template.setHashValueSerializer(serializer);
+
+        return template;
+    }
+
+    /**
+     * 코덱 기반 캐시용 템플릿 (VersionedRedisCache)
+     * - 값은 캐시별 RedisValueCodec 이 만든 바이트를 그대로 저장 (JSON 타입 정보 없음)
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> redisBytesTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    /**
+     * redisTemplate 값 직렬화기 (JSON + 타입 정보)
+     * - 성능 비교 벤치마크에서도 같은 설정을 쓰도록 분리
+     */
+    public static GenericJackson2JsonRedisSerializer jsonValueSerializer() {
         ObjectMapper objectMapper = new ObjectMapper();
         // 알 수 없는 필드 무시 (역직렬화 시 호환성 유지) - activateDefaultTyping 전에 설정
         objectMapper.configure(com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
@@ -38,11 +69,13 @@ public class RedisConfig {
                 ObjectMapper.DefaultTyping.NON_FINAL,
                 com.fasterxml.jackson.annotation.JsonTypeInfo.As.PROPERTY
         );
-        
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
-        template.setValueSerializer(serializer);
-        template.setHashValueSerializer(serializer);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
 
-        return template;
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
     }
 }
@@ -125,6 +125,20 @@ public class GlobalExceptionHandler {
                 .body(CommonResponse.error(e.getMessage()));
     }
 
+    /**
+     * IdempotencyRequestInProgressException 처리
+     * - 같은 멱등성 키의 요청이 아직 처리 중일 때 발생
+     * - HTTP 409 (Conflict) 반환
+     */
+    @ExceptionHandler(com.studyblock.domain.idempotency.exception.IdempotencyRequestInProgressException.class)
+    public ResponseEntity<CommonResponse<Void>> handleIdempotencyRequestInProgressException(
+            com.studyblock.domain.idempotency.exception.IdempotencyRequestInProgressException e) {
+        log.warn("처리 중인 멱등성 키 중복 요청: key={}", e.getIdempotencyKey());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(CommonResponse.error(e.getMessage()));
+    }
+
     /**
      * InvalidResolutionException 처리
      * - 유효하지 않은 해상도가 요청되었을 때 발생
@@ -0,0 +1,16 @@
+package com.studyblock.global.monitoring;
+
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+
+/**
+ * Lettuce 명령 발행마다 현재 요청의 Redis 호출 수를 증가
+ * commandStarted 는 명령을 보낸 스레드에서 호출되므로 요청 스레드의 Scope 에 집계됨
+ */
+public class RedisCommandCountingListener implements CommandListener {
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        RequestMetrics.recordRedisCommand();
+    }
+}
@@ -0,0 +1,88 @@
+package com.studyblock.global.monitoring;
+
+/**
+ * 요청 단위 SQL / Redis 호출 수 집계
+ * - RequestMetricsFilter 가 요청마다 Scope 를 열고, Hibernate StatementInspector 와 Lettuce CommandListener 가
+ *   요청 스레드에서 실행된 명령을 현재 Scope 에 더함
+ * - 테스트에서는 직접 Scope 를 열어 서비스 호출의 쿼리 수를 검증할 수 있음
+ *   <pre>
+ *   try (RequestMetrics.Scope scope = RequestMetrics.open()) {
+ *       service.getInstructorSummaries(...);
+ *       assertThat(scope.getSqlStatements()).isLessThanOrEqualTo(3);
+ *   }
+ *   </pre>
+ * - @Async / 스케줄러 등 다른 스레드에서 실행된 명령은 집계하지 않음
+ */
+public final class RequestMetrics {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private RequestMetrics() {
+    }
+
+    /**
+     * 집계 범위 시작 (이미 열린 범위가 있으면 안쪽 범위의 집계가 바깥 범위에도 더해짐)
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 현재 스레드의 집계 범위 (없으면 null)
+     */
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    static void recordSqlStatement() {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.sqlStatements++;
+        }
+    }
+
+    static void recordRedisCommand() {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.redisCommands++;
+        }
+    }
+
+    /**
+     * 집계 범위 (한 스레드에서만 사용)
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final long startNanos = System.nanoTime();
+        private int sqlStatements;
+        private int redisCommands;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int getSqlStatements() {
+            return sqlStatements;
+        }
+
+        public int getRedisCommands() {
+            return redisCommands;
+        }
+
+        public long getElapsedNanos() {
+            return System.nanoTime() - startNanos;
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.studyblock.global.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * /actuator/querycount
+ * SQL 문 수 임계값과 임계값을 넘은 최근 요청 목록 (요청별 분포는 /actuator/metrics/request.sql.statements)
+ */
+@Component
+@Endpoint(id = "querycount")
+@RequiredArgsConstructor
+public class RequestMetricsEndpoint {
+
+    private final RequestMetricsRecorder recorder;
+
+    @ReadOperation
+    public Map<String, Object> querycount() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sqlStatementThreshold", recorder.getSqlStatementThreshold());
+        result.put("flaggedRequests", recorder.getFlaggedRequests());
+        return result;
+    }
+}
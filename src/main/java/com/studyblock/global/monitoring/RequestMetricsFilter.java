@@ -0,0 +1,57 @@
+package com.studyblock.global.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 SQL / Redis 집계 범위를 열고, 요청이 끝나면 지표를 기록하는 필터
+ * 보안 필터 체인보다 바깥에 등록되어 인증 과정의 조회도 요청 비용에 포함됨 (MonitoringConfig)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final RequestMetricsRecorder recorder;
+    private final boolean failOnThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean exceeded;
+        try (RequestMetrics.Scope scope = RequestMetrics.open()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                exceeded = recorder.record(request.getMethod(), resolveUri(request), response.getStatus(), scope);
+            }
+        }
+
+        // 테스트 프로필: 임계값 초과를 실패로 만들어 N+1 회귀를 CI 에서 잡음
+        // 응답이 이미 커밋되었으면 상태를 바꿀 수 없으므로 예외 대신 로그만 남김 (초과 기록은 recorder 에 남아 있음)
+        if (exceeded && failOnThreshold) {
+            String message = "SQL 문 수 임계값 초과 (N+1 의심): " + request.getMethod() + " " + resolveUri(request);
+            if (response.isCommitted()) {
+                log.error("{} - 응답이 이미 커밋되어 요청을 실패시키지 못했습니다", message);
+                return;
+            }
+            throw new IllegalStateException(message);
+        }
+    }
+
+    // 매칭된 URI 패턴 (/api/courses/{courseId}) 을 태그로 사용해 지표 카디널리티를 제한
+    private String resolveUri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
@@ -0,0 +1,113 @@
+package com.studyblock.global.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 단위 지표 기록
+ * - request.latency: 엔드포인트(method + URI 패턴)별 지연 히스토그램
+ * - request.sql.statements / request.redis.commands: 요청당 SQL / Redis 호출 수 분포
+ * - request.sql.threshold.exceeded: SQL 수가 임계값을 넘은 요청 수 (N+1 의심)
+ * - 임계값을 넘은 최근 요청은 /actuator/querycount 에서 조회
+ */
+@Slf4j
+@Component
+public class RequestMetricsRecorder {
+
+    private final MeterRegistry meterRegistry;
+    private final Deque<FlaggedRequest> flaggedRequests = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger flaggedSize = new AtomicInteger();
+
+    @Value("${monitoring.request.sql-statement-threshold:30}")
+    private int sqlStatementThreshold;
+
+    @Value("${monitoring.request.flagged-history-size:100}")
+    private int flaggedHistorySize;
+
+    public RequestMetricsRecorder(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 요청 종료 시 지표 기록
+     *
+     * @return SQL 수가 임계값을 넘었으면 true
+     */
+    public boolean record(String method, String uri, int status, RequestMetrics.Scope scope) {
+        String outcome = String.valueOf(status / 100) + "xx";
+
+        Timer.builder("request.latency")
+                .description("요청 처리 시간 (필터 체인 전체)")
+                .tags("method", method, "uri", uri, "status", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(scope.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder("request.sql.statements")
+                .description("요청당 SQL 문 수")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(scope.getSqlStatements());
+
+        DistributionSummary.builder("request.redis.commands")
+                .description("요청당 Redis 명령 수")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(scope.getRedisCommands());
+
+        if (scope.getSqlStatements() <= sqlStatementThreshold) {
+            return false;
+        }
+
+        Counter.builder("request.sql.threshold.exceeded")
+                .description("SQL 문 수가 임계값을 넘은 요청 수")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .increment();
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(scope.getElapsedNanos());
+        log.warn("SQL 문 수 임계값 초과 (N+1 의심) - {} {}, sql: {}, redis: {}, threshold: {}, elapsed: {}ms",
+                method, uri, scope.getSqlStatements(), scope.getRedisCommands(), sqlStatementThreshold, elapsedMillis);
+
+        flaggedRequests.addFirst(new FlaggedRequest(method, uri, scope.getSqlStatements(),
+                scope.getRedisCommands(), elapsedMillis, LocalDateTime.now()));
+        if (flaggedSize.incrementAndGet() > flaggedHistorySize && flaggedRequests.pollLast() != null) {
+            flaggedSize.decrementAndGet();
+        }
+        return true;
+    }
+
+    public int getSqlStatementThreshold() {
+        return sqlStatementThreshold;
+    }
+
+    /**
+     * 임계값을 넘은 최근 요청 (최신순)
+     */
+    public List<FlaggedRequest> getFlaggedRequests() {
+        return new ArrayList<>(flaggedRequests);
+    }
+
+    public record FlaggedRequest(String method,
+                                 String uri,
+                                 int sqlStatements,
+                                 int redisCommands,
+                                 long elapsedMillis,
+                                 LocalDateTime detectedAt) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.studyblock.global.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL 문마다 현재 요청의 SQL 수를 증가 (SQL 은 변경하지 않음)
+ */
+public class SqlStatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestMetrics.recordSqlStatement();
+        return sql;
+    }
+}
@@ -4,8 +4,12 @@ import com.studyblock.global.security.jwt.JwtAuthenticationFilter;
 import com.studyblock.global.security.oauth2.CustomOAuth2UserService;
 import com.studyblock.global.security.oauth2.OAuth2SuccessHandler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -13,6 +17,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -36,6 +41,10 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
 
+    // 로컬 Spring Boot Admin 연동용 (운영 프로필에서는 false)
+    @Value("${monitoring.actuator.permit-all:false}")
+    private boolean actuatorPermitAll;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -69,10 +78,16 @@ public class SecurityConfig {
                         .requestMatchers("/oauth2/**").permitAll()
 
                         // 모니터링 및 문서
-                        .requestMatchers("/actuator/**").permitAll()
+                        // - 헬스 체크 / 정보만 공개, 지표(prometheus, querycount 등)는 관리자 전용
+                        .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+                        .requestMatchers("/actuator/**").access(actuatorAccess())
                         .requestMatchers("/swagger-ui/**").permitAll()
                         .requestMatchers("/api-docs/**").permitAll()
 
+                        // 관리자 전용 운영 API (역할은 JwtAuthenticationFilter 가 UserRole 에서 부여)
+                        .requestMatchers("/api/admin/outbox/**").hasRole("ADMIN")
+                        .requestMatchers("/api/refunds/admin/**").hasRole("ADMIN")
+
                         // 개발 중: 모든 API 접근 허용 (추후 .authenticated()로 변경 필요)
                         // TODO: 배포 전 .requestMatchers("/api/**").authenticated()로 변경
                         .requestMatchers("/api/**").permitAll()
@@ -100,6 +115,17 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 헬스 체크 외 Actuator 엔드포인트 접근 규칙
+     * - 기본은 ADMIN 역할만 허용 (SQL 수 / 지연 지표와 최근 N+1 의심 요청 URI 노출 방지)
+     */
+    private AuthorizationManager<RequestAuthorizationContext> actuatorAccess() {
+        if (actuatorPermitAll) {
+            return (authentication, context) -> new AuthorizationDecision(true);
+        }
+        return AuthorityAuthorizationManager.hasRole("ADMIN");
+    }
+
     /**
      * CORS 설정: React(5173 포트)에서 백엔드(8080 포트)로 쿠키 포함 요청 허용
      */
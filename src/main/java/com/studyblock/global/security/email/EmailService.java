@@ -5,27 +5,23 @@ package com.studyblock.global.security.email;
  */
 
 import com.studyblock.global.aop.annotation.RateLimited;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailService {
-    private final JavaMailSender mailSender;
+    private final MailQueue mailQueue;
     private final EmailVerificationRepository verificationRepository;
     private final PasswordResetVerificationRepository passwordResetVerificationRepository;
     private static final SecureRandom random = new SecureRandom();
-
-    @org.springframework.beans.factory.annotation.Value("${spring.mail.username}")
-    private String fromEmail; // 발신자 이메일 주소
+    private static final long CODE_TTL_SECONDS = 300L; // 인증 코드 유효시간 (5분)
 
     /*
         6자리 랜덤 인증 코드 생성
@@ -44,27 +40,12 @@ public class EmailService {
         // 2. Redis에 저장 (5분 TTL)
         // EmailVerification 엔티티를 만들려면
         // email주소와 code, 설정 시간이 필요하다.
-        EmailVerification verification = new EmailVerification(email, code, 300L);
+        EmailVerification verification = new EmailVerification(email, code, CODE_TTL_SECONDS);
         verificationRepository.save(verification); // CrudRepository를 사용해서 redis에 저장
 
-        // 3. 이메일 전송
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(fromEmail); // ⭐ 발신자 이메일 설정 (필수!)
-            helper.setTo(email);
-            helper.setSubject("[CodeBlock] 이메일 인증 코드");
-            helper.setText(buildEmailContent(code), true); // HTML 형식
-
-            mailSender.send(message);
-            log.info("이메일 인증 코드 전송 완료 - email: {}", email);
-
-        } catch (MessagingException e) {
-            // 전송 실패했을 경우
-            log.error("이메일 전송 실패 - email: {}", email, e);
-            throw new RuntimeException("이메일 전송에 실패했습니다.");
-        }
+        // 3. 이메일 발송 대기열에 등록 (SMTP 발송은 MailDeliveryWorker 가 비동기로 처리)
+        enqueue("VERIFICATION", email, "[CodeBlock] 이메일 인증 코드", buildEmailContent(code));
+        log.info("이메일 인증 코드 발송 요청 완료 - email: {}", email);
     }
 
     /*
@@ -95,26 +76,12 @@ public class EmailService {
 
         // 2. Redis에 저장 (5분 TTL)
         // 비밀번호 찾기용 별도 엔티티 사용 (회원가입용과 구분)
-        PasswordResetVerification verification = new PasswordResetVerification(email, code, 300L);
+        PasswordResetVerification verification = new PasswordResetVerification(email, code, CODE_TTL_SECONDS);
         passwordResetVerificationRepository.save(verification);
 
-        // 3. 이메일 전송
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(fromEmail);
-            helper.setTo(email);
-            helper.setSubject("[CodeBlock] 비밀번호 찾기 인증 코드");
-            helper.setText(buildPasswordResetEmailContent(code), true); // HTML 형식
-
-            mailSender.send(message);
-            log.info("비밀번호 찾기 인증 코드 전송 완료 - email: {}", email);
-
-        } catch (MessagingException e) {
-            log.error("비밀번호 찾기 이메일 전송 실패 - email: {}", email, e);
-            throw new RuntimeException("이메일 전송에 실패했습니다.");
-        }
+        // 3. 이메일 발송 대기열에 등록
+        enqueue("PASSWORD_RESET", email, "[CodeBlock] 비밀번호 찾기 인증 코드", buildPasswordResetEmailContent(code));
+        log.info("비밀번호 찾기 인증 코드 발송 요청 완료 - email: {}", email);
     }
 
     /*
@@ -134,6 +101,31 @@ public class EmailService {
                 .orElse(false); // Redis에 없으면 만료됨
     }
 
+    /*
+        메일 발송 대기열 등록 (Redis LPUSH 한 번, 요청 스레드가 SMTP 응답을 기다리지 않음)
+        - 인증 코드 유효시간(5분)이 지나면 워커가 발송하지 않고 폐기
+     */
+    private void enqueue(String type, String to, String subject, String html) {
+        long now = System.currentTimeMillis();
+        MailMessage message = MailMessage.builder()
+                .id(UUID.randomUUID().toString())
+                .type(type)
+                .to(to)
+                .subject(subject)
+                .html(html)
+                .attempts(0)
+                .enqueuedAt(now)
+                .expiresAt(now + TimeUnit.SECONDS.toMillis(CODE_TTL_SECONDS))
+                .build();
+
+        try {
+            mailQueue.enqueue(message);
+        } catch (RuntimeException e) {
+            log.error("이메일 발송 대기열 등록 실패 - email: {}", to, e);
+            throw new RuntimeException("이메일 전송에 실패했습니다.");
+        }
+    }
+
     /*
         이메일 HTML 템플릿 (회원가입용)
      */
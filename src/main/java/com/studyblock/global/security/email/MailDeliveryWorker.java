@@ -0,0 +1,334 @@
+package com.studyblock.global.security.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    메일 발송 워커 풀
+    - 워커마다 Redis 대기열에서 최대 batchSize 건을 꺼내 한 번의 send(MimeMessage...) 로 발송
+      → JavaMailSenderImpl 이 배치 전체에 SMTP 연결(Transport) 하나를 재사용 (메일마다 핸드셰이크 하지 않음)
+    - 실패한 메일만 지수 백오프로 재시도, 최대 횟수 초과 시 dead 목록으로 이동
+    - 인스턴스 생존 표시를 주기적으로 갱신하고, 만료된 인스턴스(이전 호스트명 포함)의 처리 중 메일을 대기열로 복구
+    - 메트릭: mail.delivery (type, result), mail.delivery.batch (배치 발송 시간), mail.queue.pending
+ */
+@Slf4j
+@Component
+public class MailDeliveryWorker {
+
+    private static final Duration CLAIM_TIMEOUT = Duration.ofSeconds(2);
+    private static final long ERROR_BACKOFF_MILLIS = 5000L;
+    private static final int RETRY_PROMOTE_LIMIT = 500;
+    private static final Duration OWNER_TTL = Duration.ofSeconds(30);
+
+    private final MailQueue mailQueue;
+    private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
+    private final Timer batchTimer;
+
+    @Value("${spring.mail.username}")
+    private String fromEmail;
+
+    @Value("${mail.queue.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mail.queue.workers:2}")
+    private int workerCount;
+
+    @Value("${mail.queue.batch-size:20}")
+    private int batchSize;
+
+    @Value("${mail.queue.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${mail.queue.base-backoff-seconds:5}")
+    private long baseBackoffSeconds;
+
+    private ExecutorService workers;
+    private volatile boolean running;
+    private String hostName;
+
+    public MailDeliveryWorker(MailQueue mailQueue, JavaMailSender mailSender, MeterRegistry meterRegistry) {
+        this.mailQueue = mailQueue;
+        this.mailSender = mailSender;
+        this.meterRegistry = meterRegistry;
+        this.batchTimer = Timer.builder("mail.delivery.batch")
+                .description("SMTP 배치 발송 시간")
+                .register(meterRegistry);
+        Gauge.builder("mail.queue.pending", mailQueue, this::safePendingSize)
+                .description("발송 대기 메일 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("메일 발송 워커 비활성화 (mail.queue.enabled=false)");
+            return;
+        }
+
+        running = true;
+        hostName = resolveHostName();
+        // 생존 표시를 먼저 남긴 뒤 만료된 인스턴스의 목록을 회수 (다른 인스턴스가 이 인스턴스 목록을 가져가지 않도록)
+        heartbeatAndRecoverOrphans();
+        AtomicInteger threadIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "MailDelivery-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (int i = 0; i < workerCount; i++) {
+            String processingKey = MailQueue.PROCESSING_KEY_PREFIX + hostName + ":" + i;
+            workers.submit(() -> runWorker(processingKey));
+        }
+        log.info("메일 발송 워커 시작 - workers: {}, batchSize: {}", workerCount, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (workers == null) {
+            return;
+        }
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+        재시도 시각이 지난 메일을 대기열로 이동 (1초마다)
+     */
+    @Scheduled(fixedDelayString = "${mail.queue.retry-poll-interval-ms:1000}")
+    public void promoteDueRetries() {
+        if (!running) {
+            return;
+        }
+        try {
+            int promoted = mailQueue.promoteDueRetries(System.currentTimeMillis(), RETRY_PROMOTE_LIMIT);
+            if (promoted > 0) {
+                log.debug("메일 재시도 대기열 이동 - {}건", promoted);
+            }
+        } catch (Exception e) {
+            log.warn("메일 재시도 대기열 이동 실패: {}", e.getMessage());
+        }
+    }
+
+    /*
+        생존 표시 갱신 + 만료된 인스턴스의 처리 중 메일 복구 (10초마다, 생존 표시 TTL 30초)
+        - 죽은 인스턴스가 다시 뜨지 않아도 살아 있는 인스턴스가 TTL 만료 후 회수
+        - 생존 표시 갱신이 TTL 이상 멈춘 인스턴스(긴 GC 등)의 메일은 최대 1회 중복 발송될 수 있음
+     */
+    @Scheduled(fixedDelayString = "${mail.queue.heartbeat-interval-ms:10000}")
+    public void heartbeatAndRecoverOrphans() {
+        if (!running) {
+            return;
+        }
+        try {
+            mailQueue.heartbeat(hostName, OWNER_TTL);
+            mailQueue.recoverOrphans(hostName);
+        } catch (Exception e) {
+            log.warn("메일 워커 생존 표시 갱신/복구 실패: {}", e.getMessage());
+        }
+    }
+
+    private void runWorker(String processingKey) {
+        recoverInFlight(processingKey);
+
+        while (running) {
+            try {
+                List<String> claimed = mailQueue.claim(processingKey, batchSize, CLAIM_TIMEOUT);
+                if (!claimed.isEmpty()) {
+                    deliver(processingKey, claimed);
+                }
+            } catch (Exception e) {
+                log.error("메일 발송 워커 오류 - key: {}", processingKey, e);
+                sleepQuietly(ERROR_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    // 이전 실행에서 발송 도중 종료된 메일 복구 (최대 1회 중복 발송될 수 있음)
+    private void recoverInFlight(String processingKey) {
+        try {
+            int recovered = mailQueue.recover(processingKey);
+            if (recovered > 0) {
+                log.warn("처리 중이던 메일 복구 - key: {}, {}건", processingKey, recovered);
+            }
+        } catch (Exception e) {
+            log.warn("처리 중이던 메일 복구 실패 - key: {}, error: {}", processingKey, e.getMessage());
+        }
+    }
+
+    private void deliver(String processingKey, List<String> claimed) {
+        long now = System.currentTimeMillis();
+        Map<MimeMessage, String> rawByMime = new IdentityHashMap<>();
+        Map<String, MailMessage> messageByRaw = new IdentityHashMap<>();
+        List<MimeMessage> batch = new ArrayList<>();
+
+        for (String raw : claimed) {
+            MailMessage message;
+            try {
+                message = mailQueue.parse(raw);
+            } catch (IllegalArgumentException e) {
+                log.error("잘못된 메일 대기열 항목 폐기: {}", raw, e);
+                mailQueue.ack(processingKey, raw);
+                continue;
+            }
+
+            if (message.isExpired(now)) {
+                log.warn("만료된 메일 폐기 - id: {}, to: {}", message.getId(), message.getTo());
+                count(message, "expired");
+                mailQueue.ack(processingKey, raw);
+                continue;
+            }
+
+            try {
+                MimeMessage mime = toMimeMessage(message);
+                batch.add(mime);
+                rawByMime.put(mime, raw);
+                messageByRaw.put(raw, message);
+            } catch (MessagingException e) {
+                log.error("메일 생성 실패 - id: {}, to: {}", message.getId(), message.getTo(), e);
+                count(message, "dead");
+                mailQueue.moveToDead(message);
+                mailQueue.ack(processingKey, raw);
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failures = send(batch);
+
+        for (MimeMessage mime : batch) {
+            String raw = rawByMime.get(mime);
+            MailMessage message = messageByRaw.get(raw);
+            Exception failure = failures.get(mime);
+
+            if (failure == null) {
+                count(message, "sent");
+                log.info("메일 발송 완료 - id: {}, type: {}, to: {}, 대기 {}ms",
+                        message.getId(), message.getType(), message.getTo(), now - message.getEnqueuedAt());
+            } else {
+                handleFailure(message, failure);
+            }
+            mailQueue.ack(processingKey, raw);
+        }
+    }
+
+    /*
+        배치 발송 - 실패한 메일과 원인을 반환
+        MailSendException 은 메일별 실패 목록을 제공하고, 연결/인증 실패 등은 배치 전체 실패
+     */
+    private Map<Object, Exception> send(List<MimeMessage> batch) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            mailSender.send(batch.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                batch.forEach(mime -> failures.put(mime, e));
+            } else {
+                failures.putAll(e.getFailedMessages());
+            }
+        } catch (MailException e) {
+            batch.forEach(mime -> failures.put(mime, e));
+        } finally {
+            sample.stop(batchTimer);
+        }
+        return failures;
+    }
+
+    private void handleFailure(MailMessage message, Exception failure) {
+        MailMessage retried = message.nextAttempt();
+        if (retried.getAttempts() >= maxAttempts) {
+            log.error("메일 발송 최종 실패 - id: {}, to: {}, attempts: {}",
+                    message.getId(), message.getTo(), retried.getAttempts(), failure);
+            count(message, "dead");
+            mailQueue.moveToDead(retried);
+            return;
+        }
+
+        long backoffMillis = TimeUnit.SECONDS.toMillis(baseBackoffSeconds) * (1L << (retried.getAttempts() - 1));
+        log.warn("메일 발송 실패, {}ms 후 재시도 - id: {}, to: {}, attempts: {}, error: {}",
+                backoffMillis, message.getId(), message.getTo(), retried.getAttempts(), failure.getMessage());
+        count(message, "retried");
+        mailQueue.scheduleRetry(retried, System.currentTimeMillis() + backoffMillis);
+    }
+
+    private MimeMessage toMimeMessage(MailMessage message) throws MessagingException {
+        MimeMessage mime = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mime, true, "UTF-8");
+        helper.setFrom(fromEmail);
+        helper.setTo(message.getTo());
+        helper.setSubject(message.getSubject());
+        helper.setText(message.getHtml(), true); // HTML 형식
+        return mime;
+    }
+
+    private void count(MailMessage message, String result) {
+        Counter.builder("mail.delivery")
+                .description("메일 발송 결과")
+                .tag("type", message.getType() != null ? message.getType() : "unknown")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private double safePendingSize(MailQueue queue) {
+        try {
+            return queue.pendingSize();
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+
+    private String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
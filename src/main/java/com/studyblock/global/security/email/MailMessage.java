@@ -0,0 +1,35 @@
+package com.studyblock.global.security.email;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+    발송 대기열(Redis)에 저장되는 메일 한 건
+    - JSON 으로 직렬화되어 mail:queue:* 키에 저장
+    - expiresAt 이 지나면 발송하지 않고 폐기 (인증 코드 메일은 코드 유효시간 이후 의미 없음)
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailMessage {
+
+    private String id;          // 메일 식별자 (로그 추적용)
+    private String type;        // 메일 종류 (메트릭 태그)
+    private String to;          // 수신자
+    private String subject;     // 제목
+    private String html;        // HTML 본문
+    private int attempts;       // 실패 횟수
+    private long enqueuedAt;    // 최초 등록 시각 (epoch millis)
+    private long expiresAt;     // 발송 만료 시각 (epoch millis)
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAt > 0 && nowMillis > expiresAt;
+    }
+
+    public MailMessage nextAttempt() {
+        return toBuilder().attempts(attempts + 1).build();
+    }
+}
@@ -0,0 +1,178 @@
+package com.studyblock.global.security.email;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/*
+    Redis 기반 메일 발송 대기열
+    - pending (List)     : 발송 대기, LPUSH 로 넣고 워커가 BRPOPLPUSH 로 꺼냄
+    - processing (List)  : 워커별 처리 중 목록 ({인스턴스}:{워커 번호}), 발송 완료/재시도 등록 후 제거 (워커 재시작 시 pending 으로 복구)
+    - owner (String, TTL): 인스턴스 생존 표시, 만료된 인스턴스의 processing 목록은 다른 인스턴스가 pending 으로 복구
+    - retry (Sorted Set) : 재시도 대기, score = 재시도 시각
+    - dead (List)        : 최대 재시도 초과, 최근 DEAD_LIMIT 건만 보관
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailQueue {
+
+    static final String PENDING_KEY = "mail:queue:pending";
+    static final String PROCESSING_KEY_PREFIX = "mail:queue:processing:";
+    static final String RETRY_KEY = "mail:queue:retry";
+    static final String DEAD_KEY = "mail:queue:dead";
+    static final String OWNER_KEY_PREFIX = "mail:queue:owner:";
+    private static final int DEAD_LIMIT = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /*
+        메일 등록 (요청 스레드에서는 Redis LPUSH 한 번만 수행)
+     */
+    public void enqueue(MailMessage message) {
+        stringRedisTemplate.opsForList().leftPush(PENDING_KEY, toJson(message));
+    }
+
+    /*
+        대기 메일을 처리 중 목록으로 옮기며 꺼냄
+        - 첫 건은 timeout 동안 블로킹 대기, 이후는 있는 만큼만 (최대 maxCount)
+        - 반환값은 Redis 에 저장된 원문 JSON (ack 시 LREM 에 사용)
+     */
+    public List<String> claim(String processingKey, int maxCount, Duration timeout) {
+        List<String> claimed = new ArrayList<>();
+        String first = stringRedisTemplate.opsForList().rightPopAndLeftPush(PENDING_KEY, processingKey, timeout);
+        if (first == null) {
+            return claimed;
+        }
+        claimed.add(first);
+
+        while (claimed.size() < maxCount) {
+            String next = stringRedisTemplate.opsForList().rightPopAndLeftPush(PENDING_KEY, processingKey);
+            if (next == null) {
+                break;
+            }
+            claimed.add(next);
+        }
+        return claimed;
+    }
+
+    /*
+        처리 완료 (발송 성공/재시도 등록/폐기 후 호출)
+     */
+    public void ack(String processingKey, String rawMessage) {
+        stringRedisTemplate.opsForList().remove(processingKey, 1, rawMessage);
+    }
+
+    public void scheduleRetry(MailMessage message, long retryAtMillis) {
+        stringRedisTemplate.opsForZSet().add(RETRY_KEY, toJson(message), retryAtMillis);
+    }
+
+    public void moveToDead(MailMessage message) {
+        stringRedisTemplate.opsForList().leftPush(DEAD_KEY, toJson(message));
+        stringRedisTemplate.opsForList().trim(DEAD_KEY, 0, DEAD_LIMIT - 1);
+    }
+
+    /*
+        재시도 시각이 지난 메일을 pending 으로 이동
+        - ZREM 에 성공한 인스턴스만 옮기므로 여러 인스턴스가 동시에 실행해도 중복 없음
+     */
+    public int promoteDueRetries(long nowMillis, int limit) {
+        Set<String> due = stringRedisTemplate.opsForZSet().rangeByScore(RETRY_KEY, 0, nowMillis, 0, limit);
+        if (due == null || due.isEmpty()) {
+            return 0;
+        }
+
+        int promoted = 0;
+        for (String raw : due) {
+            Long removed = stringRedisTemplate.opsForZSet().remove(RETRY_KEY, raw);
+            if (removed != null && removed > 0) {
+                stringRedisTemplate.opsForList().leftPush(PENDING_KEY, raw);
+                promoted++;
+            }
+        }
+        return promoted;
+    }
+
+    /*
+        이전 실행에서 처리 중이던 메일을 pending 으로 복구 (워커 시작 시)
+     */
+    public int recover(String processingKey) {
+        int recovered = 0;
+        while (stringRedisTemplate.opsForList().rightPopAndLeftPush(processingKey, PENDING_KEY) != null) {
+            recovered++;
+        }
+        return recovered;
+    }
+
+    /*
+        인스턴스 생존 표시 갱신 (ttl 안에 다시 갱신하지 않으면 만료된 인스턴스로 판단)
+     */
+    public void heartbeat(String owner, Duration ttl) {
+        stringRedisTemplate.opsForValue().set(OWNER_KEY_PREFIX + owner, "1", ttl);
+    }
+
+    /*
+        생존 표시가 만료된 인스턴스의 processing 목록을 pending 으로 복구
+        - 호스트명이 바뀌어(재배포, 컨테이너 재생성) 같은 키로 다시 시작하지 않는 인스턴스의 메일도 회수
+        - 자기 인스턴스 목록은 워커가 시작 시 직접 복구하므로 제외
+        - 목록마다 RPOPLPUSH 로 옮기므로 여러 인스턴스가 동시에 실행해도 메일이 두 번 옮겨지지 않음
+     */
+    public int recoverOrphans(String selfOwner) {
+        int recovered = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(PROCESSING_KEY_PREFIX + "*").count(100).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String processingKey = cursor.next();
+                String owner = ownerOf(processingKey);
+                if (owner.equals(selfOwner) || Boolean.TRUE.equals(stringRedisTemplate.hasKey(OWNER_KEY_PREFIX + owner))) {
+                    continue;
+                }
+                int count = recover(processingKey);
+                if (count > 0) {
+                    log.warn("만료된 인스턴스의 처리 중 메일 복구 - key: {}, {}건", processingKey, count);
+                }
+                recovered += count;
+            }
+        }
+        return recovered;
+    }
+
+    public long pendingSize() {
+        Long size = stringRedisTemplate.opsForList().size(PENDING_KEY);
+        return size != null ? size : 0L;
+    }
+
+    public MailMessage parse(String rawMessage) {
+        try {
+            return objectMapper.readValue(rawMessage, MailMessage.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("메일 대기열 항목 역직렬화 실패", e);
+        }
+    }
+
+    // mail:queue:processing:{인스턴스}:{워커 번호} → {인스턴스}
+    private String ownerOf(String processingKey) {
+        String suffix = processingKey.substring(PROCESSING_KEY_PREFIX.length());
+        int separator = suffix.lastIndexOf(':');
+        return separator > 0 ? suffix.substring(0, separator) : suffix;
+    }
+
+    private String toJson(MailMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("메일 대기열 항목 직렬화 실패", e);
+        }
+    }
+}
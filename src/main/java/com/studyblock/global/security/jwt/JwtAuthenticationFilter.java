@@ -1,5 +1,6 @@
 package com.studyblock.global.security.jwt;
 
+import com.studyblock.domain.user.entity.User;
 import com.studyblock.domain.user.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -9,13 +10,16 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * JWT 쿠키 기반 인증 필터
@@ -56,7 +60,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                 new UsernamePasswordAuthenticationToken(
                                         user,
                                         null,
-                                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+                                        resolveAuthorities(user)
                                 );
 
                         // SecurityContext에 인증 정보 저장
@@ -82,6 +86,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 사용자 역할(UserRole)을 권한으로 변환 (ROLE_USER 는 항상 포함)
+     * - SecurityConfig 의 hasRole("ADMIN") 경로 제한에 사용
+     */
+    private List<GrantedAuthority> resolveAuthorities(User user) {
+        Set<String> roles = new LinkedHashSet<>();
+        roles.add("ROLE_USER");
+        user.getUserRoles().forEach(userRole -> roles.add("ROLE_" + userRole.getRole().getCode().name()));
+        return roles.stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+
     /**
      * 쿠키에서 토큰 추출
      */
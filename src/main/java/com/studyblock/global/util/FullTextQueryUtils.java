@@ -0,0 +1,47 @@
+package com.studyblock.global.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// MySQL FULLTEXT(ngram) 검색어 변환 유틸리티
+// 사용자 입력을 BOOLEAN MODE 검색식으로 변환 (연산자 문자 제거, 모든 단어 필수)
+public class FullTextQueryUtils {
+
+    // innodb_ft / ngram_token_size 기본값과 동일 (이보다 짧은 단어는 인덱스로 찾을 수 없음)
+    public static final int NGRAM_TOKEN_SIZE = 2;
+
+    private static final int MAX_TERMS = 5;
+    private static final String BOOLEAN_OPERATORS = "[+\\-<>()~*\"@]";
+
+    private FullTextQueryUtils() {
+    }
+
+    // 캐시 키 등에 사용하는 정규화된 검색어 (소문자, 연속 공백 제거)
+    public static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        return keyword.replaceAll(BOOLEAN_OPERATORS, " ")
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    // BOOLEAN MODE 검색식 생성 (예: "스프링 부트" → "+스프링 +부트")
+    // ngram 토큰 길이보다 짧은 단어만 있으면 null 반환 → 호출부에서 LIKE 검색으로 대체
+    public static String toBooleanQuery(String keyword) {
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+
+        List<String> terms = new ArrayList<>();
+        for (String term : normalized.split(" ")) {
+            if (term.length() >= NGRAM_TOKEN_SIZE && terms.size() < MAX_TERMS) {
+                terms.add("+" + term);
+            }
+        }
+        return terms.isEmpty() ? null : String.join(" ", terms);
+    }
+}
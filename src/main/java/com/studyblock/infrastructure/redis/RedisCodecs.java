@@ -0,0 +1,85 @@
+package com.studyblock.infrastructure.redis;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 기본 Redis 값 코덱
+ * - utf8: 토큰 / ID 목록처럼 이미 문자열인 값 (JSON 따옴표, 타입 정보 없이 원문 그대로)
+ * - smile: DTO 문서 (Jackson Smile 바이너리, 타입 정보 없이 대상 클래스로 직접 읽음)
+ */
+public final class RedisCodecs {
+
+    // Smile 매퍼는 스레드 안전, 클래스별 reader / writer 는 코덱 생성 시 한 번만 만듦
+    // 클래스패스의 Jackson 모듈(JavaTime, Jdk8, ParameterNames) 을 등록해 기존 JSON 캐시와 같은 DTO 를 그대로 다룸
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory())
+            .findAndRegisterModules()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final RedisValueCodec<String> UTF8 = new RedisValueCodec<>() {
+        @Override
+        public int version() {
+            return 1;
+        }
+
+        @Override
+        public byte[] encode(String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    private RedisCodecs() {
+    }
+
+    public static RedisValueCodec<String> utf8() {
+        return UTF8;
+    }
+
+    /**
+     * Smile 바이너리 코덱
+     *
+     * @param type    값 클래스 (기본 생성자 + getter 로 Jackson 이 읽고 쓸 수 있어야 함)
+     * @param version 포맷 버전 (필드 구조를 호환되지 않게 바꾸면 올림)
+     */
+    public static <T> RedisValueCodec<T> smile(Class<T> type, int version) {
+        ObjectWriter writer = SMILE_MAPPER.writerFor(type);
+        ObjectReader reader = SMILE_MAPPER.readerFor(type);
+
+        return new RedisValueCodec<>() {
+            @Override
+            public int version() {
+                return version;
+            }
+
+            @Override
+            public byte[] encode(T value) {
+                try {
+                    return writer.writeValueAsBytes(value);
+                } catch (IOException e) {
+                    throw new SerializationException("Smile 직렬화 실패 - type: " + type.getSimpleName(), e);
+                }
+            }
+
+            @Override
+            public T decode(byte[] bytes) {
+                try {
+                    return reader.readValue(bytes);
+                } catch (IOException e) {
+                    throw new SerializationException("Smile 역직렬화 실패 - type: " + type.getSimpleName(), e);
+                }
+            }
+        };
+    }
+}
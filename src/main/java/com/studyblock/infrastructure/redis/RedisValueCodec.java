@@ -0,0 +1,20 @@
+package com.studyblock.infrastructure.redis;
+
+/**
+ * Redis 값 코덱 (캐시별로 선택)
+ * - 값 포맷이 바뀌면 version 을 올려 새 키에 쓰고, 이전 포맷 키는 TTL 로 자연 만료시킴
+ * - 잘못된 값은 SerializationException 으로 알림 (호출 측에서 캐시 미스로 처리)
+ *
+ * @param <T> 값 타입
+ */
+public interface RedisValueCodec<T> {
+
+    /**
+     * 값 포맷 버전 (키에 ":v{version}:" 으로 포함)
+     */
+    int version();
+
+    byte[] encode(T value);
+
+    T decode(byte[] bytes);
+}
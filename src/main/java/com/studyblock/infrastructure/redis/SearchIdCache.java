@@ -0,0 +1,52 @@
+package com.studyblock.infrastructure.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 결과 ID 목록 캐시
+ * - 키: {namespace}:v{버전}:{검색 조건}, 값: 검색 순서대로 쉼표로 이은 ID (빈 결과는 빈 문자열)
+ * - Redis 장애 시 경고 로그만 남기고 캐시 없이 DB 검색으로 진행 (검색 결과에 영향 없음)
+ */
+@Slf4j
+public class SearchIdCache {
+
+    private final VersionedRedisCache<String> cache;
+
+    public SearchIdCache(RedisTemplate<String, byte[]> redisBytesTemplate, String namespace) {
+        this.cache = new VersionedRedisCache<>(redisBytesTemplate, namespace, RedisCodecs.utf8());
+    }
+
+    /**
+     * @return 캐시된 ID 목록 (검색 순서), 캐시 미스 또는 조회 실패 시 null
+     */
+    public List<Long> read(String condition) {
+        try {
+            String value = cache.get(condition);
+            if (value == null) {
+                return null;
+            }
+            if (value.isEmpty()) {
+                return List.of();
+            }
+            return Arrays.stream(value.split(",")).map(Long::valueOf).toList();
+        } catch (RuntimeException e) {
+            log.warn("검색 결과 캐시 조회 실패 - key: {}", cache.key(condition), e);
+            return null;
+        }
+    }
+
+    public void write(String condition, List<Long> ids, Duration ttl) {
+        try {
+            String value = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+            cache.set(condition, value, ttl);
+        } catch (RuntimeException e) {
+            log.warn("검색 결과 캐시 저장 실패 - key: {}", cache.key(condition), e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.studyblock.infrastructure.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 버전이 붙은 키 + 전용 코덱으로 값을 저장하는 Redis 캐시
+ * - 키: {namespace}:v{codec.version}:{id}
+ * - 값: 코덱이 만든 바이트 그대로 (RedisConfig 의 JSON + 타입 정보 직렬화를 거치지 않음)
+ * - 역직렬화 실패 값은 지우고 캐시 미스로 처리
+ *
+ * @param <T> 값 타입
+ */
+@Slf4j
+public class VersionedRedisCache<T> {
+
+    private final RedisTemplate<String, byte[]> redisBytesTemplate;
+    private final String namespace;
+    private final RedisValueCodec<T> codec;
+
+    public VersionedRedisCache(RedisTemplate<String, byte[]> redisBytesTemplate, String namespace, RedisValueCodec<T> codec) {
+        this.redisBytesTemplate = redisBytesTemplate;
+        this.namespace = namespace;
+        this.codec = codec;
+    }
+
+    public String key(Object id) {
+        return namespace + ":v" + codec.version() + ":" + id;
+    }
+
+    public T get(Object id) {
+        String key = key(id);
+        byte[] bytes = redisBytesTemplate.opsForValue().get(key);
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return codec.decode(bytes);
+        } catch (SerializationException e) {
+            log.warn("Redis 값 역직렬화 실패 - 삭제 후 미스 처리 - key: {}", key, e);
+            redisBytesTemplate.delete(key);
+            return null;
+        }
+    }
+
+    public void set(Object id, T value, Duration ttl) {
+        redisBytesTemplate.opsForValue().set(key(id), codec.encode(value), ttl);
+    }
+
+    public void delete(Object id) {
+        redisBytesTemplate.delete(key(id));
+    }
+
+    public boolean exists(Object id) {
+        return Boolean.TRUE.equals(redisBytesTemplate.hasKey(key(id)));
+    }
+
+    /**
+     * 남은 TTL (초), 키가 없으면 -2
+     */
+    public Long getExpireSeconds(Object id) {
+        return redisBytesTemplate.getExpire(key(id), TimeUnit.SECONDS);
+    }
+}
@@ -1,28 +1,45 @@
 package com.studyblock.infrastructure.storage;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.auth.signer.AwsS3V4Signer;
+import software.amazon.awssdk.auth.signer.params.Aws4PresignerParams;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 /**
  * AWS S3 비즈니스 로직을 수행하는 Service 클래스.
@@ -33,6 +50,14 @@ import java.util.UUID;
  *   <li>Block public access: <strong>ON</strong></li>
  *   <li>공개 URL 제공은 <strong>presigned URL</strong>을 통해서만 수행</li>
  * </ul>
+ *
+ * <p>이미지 전달 정책</p>
+ * <ul>
+ *   <li>이미지는 내용 해시를 key로 업로드 → 같은 key의 내용은 바뀌지 않으므로 immutable 캐시 가능</li>
+ *   <li>이미지 presigned URL은 서명 시각을 고정 윈도우 시작으로 맞춰 윈도우 안에서는 항상 같은 URL을 발급
+ *       (브라우저/CDN 캐시 적중)</li>
+ *   <li>이미지 교체 시 key(해시)가 바뀌므로 별도 무효화 없이 새 URL로 전환</li>
+ * </ul>
  */
 
 @Service
@@ -58,12 +83,59 @@ public class S3StorageService {
     @Value("${spring.cloud.aws.credentials.secret-key:}")
     private String secretKey;
 
+    // S3 호환 엔드포인트 (AwsS3Config 와 동일, 비어 있으면 AWS 기본 엔드포인트)
+    @Value("${spring.cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    // 이미지 URL 서명 윈도우 (분) - 윈도우 안에서는 같은 URL, URL 유효기간은 윈도우 2개
+    @Value("${storage.image-url.window-minutes:60}")
+    private long imageUrlWindowMinutes;
+
+    private static final String IMAGE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final int CONTENT_HASH_LENGTH = 32;
+    private static final Pattern CONTENT_HASH_PATTERN = Pattern.compile("[0-9a-f]{" + CONTENT_HASH_LENGTH + "}");
+
+    private final AwsS3V4Signer imageUrlSigner = AwsS3V4Signer.create();
+
+    // Presigner/자격 증명은 요청마다 만들지 않고 재사용 (DefaultCredentialsProvider는 내부적으로 자격 증명을 캐싱/갱신)
+    private AwsCredentialsProvider credentialsProvider;
+    private S3Presigner presigner;
+
     // 생성자 주입
     // AwsS3Config에서 만든 S3Client Bean을 스프링이 주입해줌.
     public S3StorageService(S3Client s3Client) {
         this.s3Client = s3Client;
     }
 
+    @PostConstruct
+    void initPresigner() {
+        // 기본: DefaultCredentialsProvider (IAM Role 등)
+        // 로컬 개발: application-local.yml에 access/secret key가 있는 경우 StaticCredentialsProvider 사용
+        if (accessKey != null && !accessKey.isEmpty() &&
+            secretKey != null && !secretKey.isEmpty()) {
+            credentialsProvider = StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(accessKey, secretKey));
+        } else {
+            credentialsProvider = DefaultCredentialsProvider.create();
+        }
+
+        S3Presigner.Builder builder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider);
+        if (endpoint != null && !endpoint.isEmpty()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        presigner = builder.build();
+    }
+
+    @PreDestroy
+    void closePresigner() {
+        if (presigner != null) {
+            presigner.close();
+        }
+    }
+
     /*
     - 파일 업로드
     @Param file 업로드할 파일
@@ -138,6 +210,53 @@ public class S3StorageService {
         }
     }
 
+    /*
+    이미지 업로드 (내용 해시 key)
+    - key = folderPath/{sha256 앞 32자}{확장자} → 내용이 같으면 같은 key, 내용이 바뀌면 새 key
+    - key의 내용이 절대 바뀌지 않으므로 Cache-Control immutable 로 저장
+    @Param content 이미지 바이트
+    @Param contentType MIME 타입
+    @Param folderPath S3 내 폴더 경로
+    @Param extension 확장자 (EX: ".png")
+    @return S3에 저장된 파일 URL
+     */
+    public String uploadImage(byte[] content, String contentType, String folderPath, String extension) {
+        String key = folderPath + "/" + contentHash(content) + extension;
+
+        try {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(studyBlock)
+                    .key(key)
+                    .contentType(contentType)
+                    .cacheControl(IMAGE_CACHE_CONTROL)
+                    .build();
+
+            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(content));
+
+            log.info("이미지 업로드 완료 - key: {}", key);
+            return getFileUrl(key);
+
+        } catch (Exception e) {
+            log.error("S3 이미지 업로드 실패 - key: {}", key, e);
+            throw new RuntimeException("S3 파일 업로드 실패", e);
+        }
+    }
+
+    /*
+    이미지 삭제 (uploadImage 로 올린 이미지용)
+    - 내용 해시 key 는 같은 이미지를 올린 다른 글과 객체를 공유하므로 삭제하지 않음 (참조하는 행을 알 수 없음)
+    - 내용 해시 도입 이전의 고유 파일명 key 만 삭제
+    @return 실제로 삭제했는지 여부
+     */
+    public boolean deleteImage(String fileUrl) {
+        if (isContentAddressed(extractKeyFromUrl(fileUrl))) {
+            log.debug("내용 해시 이미지는 공유될 수 있어 삭제하지 않음 - url: {}", fileUrl);
+            return false;
+        }
+        deleteFile(fileUrl);
+        return true;
+    }
+
     /*
     파일 삭제
      */
@@ -214,22 +333,6 @@ public class S3StorageService {
             // URL만 추출
             String key = extractKeyFromUrl(fileUrl);
 
-            // AWS SDK의 S3Presigner 객체 생성
-            // 기본: DefaultCredentialsProvider (IAM Role 등)
-            // 로컬 개발: application-local.yml에 access/secret key가 있는 경우 StaticCredentialsProvider 사용
-            S3Presigner.Builder presignerBuilder = S3Presigner.builder()
-                    .region(Region.of(region));
-            
-            if (accessKey != null && !accessKey.isEmpty() &&
-                secretKey != null && !secretKey.isEmpty()) {
-                presignerBuilder.credentialsProvider(StaticCredentialsProvider.create(
-                        AwsBasicCredentials.create(accessKey, secretKey)));
-            } else {
-                presignerBuilder.credentialsProvider(DefaultCredentialsProvider.create());
-            }
-            
-            S3Presigner presigner = presignerBuilder.build();
-
             // 다운로드할 파일 지정
             GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                     .bucket(studyBlock)
@@ -245,11 +348,8 @@ public class S3StorageService {
             PresignedGetObjectRequest presignedRequest =
                     presigner.presignGetObject(presignRequest);
 
-            // Presigner 리소스 정리 (메모리 누수 방지)
-            presigner.close();
-
             // 생성된 presigned URL 반환 (예: 60분만 유효한 다운로드 링크)
-            log.info("Presigned URL 생성 완료 - Key: {}, 유효시간: {}분", key, expirationMinutes);
+            log.debug("Presigned URL 생성 완료 - Key: {}, 유효시간: {}분", key, expirationMinutes);
             return presignedRequest.url().toString();
 
             // URL 생성 실패시 로그 찍고 런타임 예외로 던져버림
@@ -259,10 +359,67 @@ public class S3StorageService {
         }
     }
 
+    /*
+    이미지 링크 생성 (캐시 가능한 presigned URL)
+    - 서명 시각을 고정 윈도우 시작으로 맞춤 → 같은 윈도우 안에서는 모든 인스턴스가 같은 URL 발급
+    - 유효기간은 윈도우 2개 (윈도우 끝에 발급된 URL도 최소 윈도우 1개 동안 유효)
+    - response-cache-control 의 max-age 는 윈도우 길이 → 캐시가 URL 만료보다 오래 남지 않음
+     */
+    public String generateCacheableImageUrl(String fileUrl) {
+        try {
+            String key = extractKeyFromUrl(fileUrl);
+
+            Duration window = Duration.ofMinutes(imageUrlWindowMinutes);
+            long windowSeconds = window.getSeconds();
+            Instant windowStart = Instant.ofEpochSecond(
+                    Math.floorDiv(Instant.now().getEpochSecond(), windowSeconds) * windowSeconds);
+
+            URI bucketUri = URI.create(bucketBaseUrl(region));
+            SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                    .method(SdkHttpMethod.GET)
+                    .uri(bucketUri)
+                    .encodedPath(bucketUri.getRawPath() + "/" + SdkHttpUtils.urlEncodeIgnoreSlashes(key))
+                    .putRawQueryParameter("response-cache-control", "public, max-age=" + windowSeconds)
+                    .build();
+
+            Aws4PresignerParams params = Aws4PresignerParams.builder()
+                    .awsCredentials(credentialsProvider.resolveCredentials())
+                    .signingName("s3")
+                    .signingRegion(Region.of(region))
+                    .signingClockOverride(Clock.fixed(windowStart, ZoneOffset.UTC))
+                    .expirationTime(windowStart.plus(window.multipliedBy(2)))
+                    .build();
+
+            return imageUrlSigner.presign(request, params).getUri().toString();
+
+        } catch (Exception e) {
+            log.error("이미지 Presigned URL 생성 실패 - key: {}", extractKeyFromUrl(fileUrl), e);
+            throw new RuntimeException("Presigned URL 생성 실패", e);
+        }
+    }
+
     /*
         헬퍼 메서드들
      */
 
+    // key 의 파일명(확장자 제외)이 내용 해시인지 확인
+    private boolean isContentAddressed(String key) {
+        String fileName = key.substring(key.lastIndexOf('/') + 1);
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot >= 0 ? fileName.substring(0, dot) : fileName;
+        return CONTENT_HASH_PATTERN.matcher(baseName).matches();
+    }
+
+    // 이미지 내용 SHA-256 해시 (hex 앞 32자)
+    private String contentHash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest).substring(0, CONTENT_HASH_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
     // 현재 시간 + 랜덤 UUID + 원본 확장자를 붙여 중복 없는 파일명 생성
     private String generateFileName(String originalFileName) {
 
@@ -295,16 +452,31 @@ public class S3StorageService {
      */
     private String getFileUrl(String key) {
 
+        return bucketBaseUrl(s3Client.serviceClientConfiguration().region().id()) + "/" + key;
+    }
+
+    // 버킷 기준 URL (엔드포인트가 지정되면 path-style: {endpoint}/{bucket}, 아니면 virtual-hosted 형식)
+    private String bucketBaseUrl(String bucketRegion) {
+        if (endpoint != null && !endpoint.isEmpty()) {
+            String base = endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
+            return base + "/" + studyBlock;
+        }
         // format() -> 문자열 포맷팅함수
         // 즉 %s자리에는 각각뒤에 명시했떤 값이 들어간다.
-        return String.format("https://%s.s3.%s.amazonaws.com/%s",
-                studyBlock, s3Client.serviceClientConfiguration().region(), key);
+        return String.format("https://%s.s3.%s.amazonaws.com", studyBlock, bucketRegion);
     }
 
     // 	URL에서 https://...amazonaws.com/ 이후 부분만 잘라냄
     //	즉 "video/lecture-1/20251010_...uuid.mp4"
     // 이 key는 deletObject()나 presignedUrl 생성시 꼭 필요하다.
     private String extractKeyFromUrl(String fileUrl) {
+        // 엔드포인트 지정 시 저장된 path-style URL ({endpoint}/{bucket}/key)
+        if (endpoint != null && !endpoint.isEmpty()) {
+            String pathStylePrefix = bucketBaseUrl(region) + "/";
+            if (fileUrl.startsWith(pathStylePrefix)) {
+                return fileUrl.substring(pathStylePrefix.length());
+            }
+        }
         int index = fileUrl.indexOf(".com/");
         if (index == -1) {
             // 이미 key 형태라면 그대로 반환
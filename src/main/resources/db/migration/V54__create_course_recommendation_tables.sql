@@ -0,0 +1,51 @@
+-- V54: Precomputed related-course recommendations from enrollment co-occurrence
+-- course_co_enrollment is maintained incrementally from new course_enrollment rows,
+-- course_recommendation keeps the blended top-K neighbors per course for O(1) lookups
+
+CREATE TABLE course_co_enrollment (
+    course_id BIGINT NOT NULL COMMENT 'Source course',
+    related_course_id BIGINT NOT NULL COMMENT 'Course taken by the same learners',
+    co_count INT NOT NULL DEFAULT 0 COMMENT 'Number of learners enrolled in both courses',
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (course_id, related_course_id),
+    INDEX idx_co_enrollment_course_count (course_id, co_count),
+    FOREIGN KEY (course_id) REFERENCES course (id) ON DELETE CASCADE,
+    FOREIGN KEY (related_course_id) REFERENCES course (id) ON DELETE CASCADE
+)
+ENGINE=InnoDB
+DEFAULT CHARSET=utf8mb4
+COLLATE=utf8mb4_unicode_ci
+COMMENT='Symmetric enrollment co-occurrence counts between courses';
+
+CREATE TABLE course_recommendation (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    course_id BIGINT NOT NULL COMMENT 'Source course',
+    related_course_id BIGINT NOT NULL COMMENT 'Recommended course',
+    rank_no INT NOT NULL COMMENT '1-based rank within the source course',
+    score DECIMAL(10,4) NOT NULL COMMENT 'Blended co-occurrence + category/level similarity score',
+    co_enrollment_count INT NOT NULL DEFAULT 0 COMMENT 'Co-occurrence count at computation time',
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    UNIQUE KEY uk_course_recommendation_rank (course_id, rank_no),
+    INDEX idx_course_recommendation_related (related_course_id),
+    FOREIGN KEY (course_id) REFERENCES course (id) ON DELETE CASCADE,
+    FOREIGN KEY (related_course_id) REFERENCES course (id) ON DELETE CASCADE
+)
+ENGINE=InnoDB
+DEFAULT CHARSET=utf8mb4
+COLLATE=utf8mb4_unicode_ci
+COMMENT='Precomputed top-K related courses per course';
+
+CREATE TABLE recommendation_job_cursor (
+    job_name VARCHAR(50) PRIMARY KEY COMMENT 'Batch job identifier',
+    last_processed_id BIGINT NOT NULL DEFAULT 0 COMMENT 'Last processed source row id',
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+)
+ENGINE=InnoDB
+DEFAULT CHARSET=utf8mb4
+COLLATE=utf8mb4_unicode_ci
+COMMENT='Incremental batch cursors for recommendation jobs';
+
+INSERT INTO recommendation_job_cursor (job_name, last_processed_id) VALUES ('course_co_enrollment', 0);
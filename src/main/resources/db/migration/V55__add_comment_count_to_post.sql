@@ -0,0 +1,21 @@
+-- V55: post 테이블 comment_count 컬럼 추가 및 커서 기반 피드 인덱스
+-- 목적: 게시글 목록마다 댓글 수를 GROUP BY 로 세지 않도록 댓글 수를 비정규화하고,
+--       (created_at, id) 커서 페이지네이션이 인덱스 범위 스캔으로 처리되도록 함
+
+-- 1단계: comment_count 컬럼 추가
+ALTER TABLE post
+    ADD COLUMN `comment_count` INT NOT NULL DEFAULT 0 AFTER `hit`;
+
+-- 2단계: 기존 활성 댓글 수 백필
+UPDATE post p
+    JOIN (
+        SELECT post_id, COUNT(*) AS cnt
+        FROM comment
+        WHERE status = 'ACTIVE'
+        GROUP BY post_id
+    ) c ON c.post_id = p.id
+SET p.comment_count = c.cnt;
+
+-- 3단계: 커서 피드 인덱스 (게시판별 / 전체)
+CREATE INDEX idx_post_board_status_feed ON post (board_id, status, created_at, id);
+CREATE INDEX idx_post_status_feed ON post (status, created_at, id);
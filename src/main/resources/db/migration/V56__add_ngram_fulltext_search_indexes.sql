@@ -0,0 +1,13 @@
+-- V56: Full-text search with the ngram parser for courses and community posts
+-- The V7 FULLTEXT indexes use the default whitespace parser, which cannot tokenize
+-- Korean text (no spaces between morphemes) and therefore was never used by search.
+-- ngram (ngram_token_size = 2) lets MATCH ... AGAINST cover course title/summary,
+-- instructor name and post title/content without leading-wildcard LIKE scans.
+
+ALTER TABLE course DROP INDEX ft_title;
+ALTER TABLE course ADD FULLTEXT INDEX ft_course_title_summary (title, summary) WITH PARSER ngram;
+
+ALTER TABLE user ADD FULLTEXT INDEX ft_user_name (name) WITH PARSER ngram;
+
+ALTER TABLE post DROP INDEX ft_title_content;
+ALTER TABLE post ADD FULLTEXT INDEX ft_post_title_content (title, original_content, edited_content) WITH PARSER ngram;
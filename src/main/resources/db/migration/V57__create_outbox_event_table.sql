@@ -0,0 +1,29 @@
+-- V57: Transactional outbox for domain events
+-- Rows are written in the same transaction as the business change (one row per event x handler)
+-- and dispatched asynchronously with retry/backoff; rows that exhaust their attempts stay DEAD.
+
+CREATE TABLE outbox_event (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL COMMENT 'Domain event type (e.g. PAYMENT_COMPLETED)',
+    handler VARCHAR(100) NOT NULL COMMENT 'Handler that consumes this row',
+    aggregate_type VARCHAR(50) NOT NULL COMMENT 'Aggregate type (e.g. ORDER)',
+    aggregate_id BIGINT NOT NULL COMMENT 'Aggregate identifier',
+    payload JSON NULL COMMENT 'Event payload snapshot',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT 'PENDING, PROCESSING, COMPLETED, DEAD',
+    attempt_count INT NOT NULL DEFAULT 0 COMMENT 'Number of failed attempts so far',
+    next_attempt_at DATETIME NOT NULL COMMENT 'Earliest time the row may be dispatched',
+    locked_until DATETIME NULL COMMENT 'Claim lease; expired PROCESSING rows are reclaimed',
+    last_error VARCHAR(1000) NULL COMMENT 'Last failure message',
+    processed_at DATETIME NULL COMMENT 'Completion time',
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    UNIQUE KEY uk_outbox_event_handler_aggregate (event_type, handler, aggregate_id),
+    INDEX idx_outbox_status_next_attempt (status, next_attempt_at),
+    INDEX idx_outbox_status_locked (status, locked_until),
+    INDEX idx_outbox_status_processed (status, processed_at)
+)
+ENGINE=InnoDB
+DEFAULT CHARSET=utf8mb4
+COLLATE=utf8mb4_unicode_ci
+COMMENT='Transactional outbox for asynchronously dispatched domain events';
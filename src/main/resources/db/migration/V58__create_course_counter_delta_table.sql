@@ -0,0 +1,26 @@
+-- V58: Contention-free course counters
+-- Writers add +/-1 to one of several striped delta rows instead of updating the hot course row;
+-- a scheduler periodically folds the deltas into course.enrollment_count / review_count / wishlist_count.
+
+ALTER TABLE course
+    ADD COLUMN review_count BIGINT NOT NULL DEFAULT 0 COMMENT 'Folded number of reviews' AFTER enrollment_count,
+    ADD COLUMN wishlist_count BIGINT NOT NULL DEFAULT 0 COMMENT 'Folded number of wishlist entries' AFTER review_count;
+
+UPDATE course c
+SET c.review_count = (SELECT COUNT(*) FROM course_review r WHERE r.course_id = c.id),
+    c.wishlist_count = (SELECT COUNT(*) FROM wishlist w WHERE w.course_id = c.id);
+
+CREATE TABLE course_counter_delta (
+    course_id BIGINT NOT NULL COMMENT 'Course whose counter changed',
+    counter_type VARCHAR(20) NOT NULL COMMENT 'ENROLLMENT, REVIEW, WISHLIST',
+    stripe TINYINT NOT NULL COMMENT 'Stripe index chosen at random by writers',
+    delta BIGINT NOT NULL DEFAULT 0 COMMENT 'Not yet folded change',
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (course_id, counter_type, stripe),
+    FOREIGN KEY (course_id) REFERENCES course (id) ON DELETE CASCADE
+)
+ENGINE=InnoDB
+DEFAULT CHARSET=utf8mb4
+COLLATE=utf8mb4_unicode_ci
+COMMENT='Striped pending deltas for course counters';
@@ -0,0 +1,5 @@
+-- 관리자 코스 일괄 환불: 코스별 결제 완료 항목의 주문 ID 키셋 조회
+CREATE INDEX idx_order_items_course_status_order ON order_items (course_id, status, orders_id);
+
+-- 쿠키 환불 복구: 사용자별 최신 배치부터 조회
+CREATE INDEX idx_cookie_batch_user_created ON cookie_batch (user_id, created_at);
@@ -0,0 +1,45 @@
+-- V60: 지갑 내역 키셋 조회 인덱스 + 월별 요약 테이블
+-- wallet_ledger 조회는 (user_id[, type]) 범위 안에서 created_at DESC, id DESC 키셋으로 페이지를 넘김
+
+-- 1) 전체 내역 피드: WHERE user_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_wallet_ledger_user_created_id ON wallet_ledger (user_id, created_at, id);
+
+-- 2) 유형별 피드 (충전/사용/환불/만료): WHERE user_id = ? AND type = ? ...
+CREATE INDEX idx_wallet_ledger_user_type_created_id ON wallet_ledger (user_id, type, created_at, id);
+
+-- 3) 1)의 접두사와 같은 기존 인덱스 정리 (있을 때만)
+SET @sql = (SELECT IF(
+    (SELECT COUNT(*) FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+        AND TABLE_NAME = 'wallet_ledger'
+        AND INDEX_NAME = 'idx_wallet_ledger_user_created') > 0,
+    'DROP INDEX `idx_wallet_ledger_user_created` ON `wallet_ledger`',
+    'SELECT 1'));
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- 4) 사용자 x 월 x 유형 합계 (원장에서 증분 집계)
+CREATE TABLE wallet_monthly_summary (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL COMMENT 'Wallet owner',
+    summary_month DATE NOT NULL COMMENT 'First day of the month',
+    type VARCHAR(20) NOT NULL COMMENT 'CHARGE, DEBIT, REFUND, EXPIRE',
+    cookie_amount BIGINT NOT NULL DEFAULT 0 COMMENT 'Sum of wallet_ledger.cookie_amount',
+    tx_count INT NOT NULL DEFAULT 0 COMMENT 'Number of ledger rows',
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    UNIQUE KEY uk_wallet_monthly_summary (user_id, summary_month, type)
+)
+ENGINE=InnoDB
+DEFAULT CHARSET=utf8mb4
+COLLATE=utf8mb4_unicode_ci
+COMMENT='Per-user monthly wallet ledger totals';
+
+CREATE TABLE wallet_summary_cursor (
+    job_name VARCHAR(50) PRIMARY KEY COMMENT 'Batch job identifier',
+    last_processed_id BIGINT NOT NULL DEFAULT 0 COMMENT 'Last aggregated wallet_ledger id',
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+)
+ENGINE=InnoDB
+DEFAULT CHARSET=utf8mb4
+COLLATE=utf8mb4_unicode_ci
+COMMENT='Incremental batch cursor for wallet summaries';
@@ -0,0 +1,35 @@
+-- V61: wallet_ledger 를 기준(source of truth)으로 하는 잔액 스냅샷 + 정합성 검증 결과
+-- 잔액 = 스냅샷 잔액 + (스냅샷 이후 원장 꼬리 합계), 스냅샷은 원장 최고 수위(last_ledger_id)와 함께 주기적으로 갱신
+
+-- 1) 꼬리 재생: WHERE user_id = ? AND id > ? 범위 합계를 인덱스만으로 계산
+CREATE INDEX idx_wallet_ledger_user_id_amount ON wallet_ledger (user_id, id, cookie_amount);
+
+-- 2) 사용자별 원장 스냅샷
+CREATE TABLE wallet_balance_snapshot (
+    user_id BIGINT PRIMARY KEY COMMENT 'Wallet owner',
+    balance BIGINT NOT NULL DEFAULT 0 COMMENT 'Sum of wallet_ledger.cookie_amount up to last_ledger_id',
+    last_ledger_id BIGINT NOT NULL DEFAULT 0 COMMENT 'Ledger high-water mark included in balance',
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+)
+ENGINE=InnoDB
+DEFAULT CHARSET=utf8mb4
+COLLATE=utf8mb4_unicode_ci
+COMMENT='Per-user ledger balance snapshots for tail replay';
+
+-- 3) 검증 실행별 불일치 기록 (wallet_balance.amount vs 원장 재생 잔액)
+CREATE TABLE wallet_balance_drift (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    run_id VARCHAR(36) NOT NULL COMMENT 'Verifier run identifier',
+    user_id BIGINT NOT NULL COMMENT 'Wallet owner',
+    stored_balance BIGINT NOT NULL COMMENT 'wallet_balance.amount at verification time',
+    ledger_balance BIGINT NOT NULL COMMENT 'Snapshot + ledger tail replay',
+    drift BIGINT NOT NULL COMMENT 'stored_balance - ledger_balance',
+    detected_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    INDEX idx_wallet_balance_drift_run (run_id),
+    INDEX idx_wallet_balance_drift_user (user_id, detected_at)
+)
+ENGINE=InnoDB
+DEFAULT CHARSET=utf8mb4
+COLLATE=utf8mb4_unicode_ci
+COMMENT='Wallet balances that disagree with the ledger replay';
@@ -0,0 +1,4 @@
+-- V62: 멱등성 키 만료 정리용 인덱스
+-- 요청 경로는 Redis 로 옮겨졌고 idempotency_keys 는 감사 기록만 보관
+-- 정리 배치: DELETE FROM idempotency_keys WHERE expires_at < ? ORDER BY expires_at LIMIT ?
+CREATE INDEX idx_idempotency_keys_expires ON idempotency_keys (expires_at);
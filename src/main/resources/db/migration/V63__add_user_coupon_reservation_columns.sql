@@ -0,0 +1,13 @@
+-- V63: 쿠폰 예약 만료 시각 + 예약 주문번호
+-- 결제 시작(/api/payment/validate) 시 AVAILABLE → RESERVED 로 조건부 UPDATE 하고,
+-- reserved_until 이 지난 예약은 스위퍼가 AVAILABLE 로 되돌림
+
+ALTER TABLE user_coupons
+    ADD COLUMN reserved_until DATETIME NULL COMMENT 'Reservation hold deadline (RESERVED only)',
+    ADD COLUMN reserved_order_number VARCHAR(100) NULL COMMENT 'Order number that holds the reservation';
+
+-- 스위퍼: WHERE status = 'RESERVED' AND reserved_until < ? ORDER BY reserved_until LIMIT ?
+CREATE INDEX idx_user_coupons_status_reserved_until ON user_coupons (status, reserved_until);
+
+-- 쿠폰별 사용(예약 포함) 수량 집계: WHERE coupon_id = ? AND status IN ('RESERVED', 'USED')
+CREATE INDEX idx_user_coupons_coupon_status ON user_coupons (coupon_id, status);
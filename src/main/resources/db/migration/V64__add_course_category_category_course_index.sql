@@ -0,0 +1,5 @@
+-- V64: 카테고리 서브트리 강의 조회용 커버링 인덱스
+-- WHERE course.id IN (SELECT course_id FROM course_category WHERE category_id IN (?, ?, ...))
+-- category_id 범위 탐색 후 course_id 를 인덱스에서 바로 읽음 (테이블 접근 없음)
+
+CREATE INDEX idx_coursecategory_category_course ON course_category (category_id, course_id);
@@ -0,0 +1,9 @@
+-- V65: 댓글 스레드 조회 인덱스
+-- 루트 댓글 키셋: WHERE post_id = ? AND parent_comment_id IS NULL AND status = 'ACTIVE'
+--               AND (created_at, id) > (?, ?) ORDER BY created_at, id LIMIT ?
+CREATE INDEX idx_comment_post_parent_status_created ON comment (post_id, parent_comment_id, status, created_at, id);
+
+-- 답글 일괄 조회 / 답글 수: WHERE parent_comment_id IN (...) AND status = 'ACTIVE' ORDER BY created_at, id
+-- 단일 컬럼 idx_parent_comment_id 는 새 인덱스가 FK 인덱스를 대신하므로 제거
+CREATE INDEX idx_comment_parent_status_created ON comment (parent_comment_id, status, created_at, id);
+DROP INDEX idx_parent_comment_id ON comment;
@@ -0,0 +1,19 @@
+-- V66: 쿠폰 통계 카운터 (관리자 목록에서 쿠폰마다 user_coupons 를 COUNT 하지 않도록 비정규화)
+-- issued_count: 발급된 user_coupons 수, redeemed_count: 사용 완료(is_used = 1) 수
+-- 발급 / 결제 확정 시 원자적으로 증가하고, 드리프트는 CouponCounterReconciliationScheduler 가 보정
+
+ALTER TABLE coupons
+    ADD COLUMN issued_count INT NOT NULL DEFAULT 0 COMMENT 'Issued user_coupons count',
+    ADD COLUMN redeemed_count INT NOT NULL DEFAULT 0 COMMENT 'Redeemed (is_used = 1) user_coupons count';
+
+-- 기존 데이터 백필 (GROUP BY 한 번)
+UPDATE coupons c
+    JOIN (
+        SELECT coupon_id,
+               COUNT(*) AS issued,
+               SUM(CASE WHEN is_used = 1 THEN 1 ELSE 0 END) AS redeemed
+        FROM user_coupons
+        GROUP BY coupon_id
+    ) s ON s.coupon_id = c.id
+SET c.issued_count = s.issued,
+    c.redeemed_count = s.redeemed;
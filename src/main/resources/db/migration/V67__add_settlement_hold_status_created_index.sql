@@ -0,0 +1,5 @@
+-- V67: 정산 보류 목록 조회 인덱스
+-- 관리자 목록은 상태 + 생성일시 범위로 거르고 created_at DESC, id DESC 로 페이지를 자름
+-- 강사 조건은 settlement_ledger(order_items_id) 인덱스로 EXISTS 검사
+
+CREATE INDEX idx_settlement_hold_status_created ON settlement_hold (status, created_at, id);
@@ -0,0 +1,48 @@
+-- V68: 월말 정산 배치 실행 / 체크포인트
+-- settlement_run: 배치 실행 단위 (대상 정산 레코드 최고 수위 고정, 진행 상황 집계)
+-- settlement_run_partition: 강사별 파티션 체크포인트 (마지막 처리 ledger id, 누적 건수 / 금액)
+-- settlement_payment: 강사별 배치 지급 합계 (amount 가 NULL 이면 기존 레코드별 지급)
+-- settlement_ledger.settlement_payment_id: 배치 지급에 포함된 정산 레코드
+
+CREATE TABLE `settlement_run` (
+  `id` BIGINT AUTO_INCREMENT PRIMARY KEY,
+  `status` VARCHAR(20) NOT NULL COMMENT '실행 상태 (RUNNING, COMPLETED, FAILED)',
+  `max_ledger_id` BIGINT NOT NULL COMMENT '대상 정산 레코드 최고 수위 (실행 중 새로 정산 가능해진 레코드는 다음 실행)',
+  `partition_count` INT NOT NULL DEFAULT 0 COMMENT '강사 파티션 수',
+  `completed_partition_count` INT NOT NULL DEFAULT 0,
+  `failed_partition_count` INT NOT NULL DEFAULT 0,
+  `settled_ledger_count` INT NOT NULL DEFAULT 0,
+  `total_net_amount` BIGINT NOT NULL DEFAULT 0,
+  `started_at` DATETIME NOT NULL,
+  `finished_at` DATETIME NULL,
+  `last_error` VARCHAR(1000) NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX `idx_settlement_run_status` ON `settlement_run` (`status`, `id`);
+
+CREATE TABLE `settlement_run_partition` (
+  `id` BIGINT AUTO_INCREMENT PRIMARY KEY,
+  `run_id` BIGINT NOT NULL,
+  `instructor_id` BIGINT NOT NULL,
+  `status` VARCHAR(20) NOT NULL COMMENT '파티션 상태 (PENDING, COMPLETED, FAILED)',
+  `last_ledger_id` BIGINT NOT NULL DEFAULT 0 COMMENT '마지막으로 정산한 ledger id (재개 지점)',
+  `ledger_count` INT NOT NULL DEFAULT 0,
+  `net_amount` BIGINT NOT NULL DEFAULT 0,
+  `settlement_payment_id` BIGINT NULL,
+  `updated_at` DATETIME NOT NULL,
+  CONSTRAINT `fk_settlement_run_partition_run` FOREIGN KEY (`run_id`) REFERENCES `settlement_run`(`id`) ON DELETE CASCADE,
+  CONSTRAINT `uk_settlement_run_partition` UNIQUE (`run_id`, `instructor_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+ALTER TABLE `settlement_payment`
+  ADD COLUMN `settlement_run_id` BIGINT NULL COMMENT '정산 배치 실행 ID' AFTER `settlement_ledger_id`,
+  ADD COLUMN `amount` INT NULL COMMENT '배치 지급 합계 (NULL 이면 settlement_ledger.net_amount)' AFTER `settlement_run_id`,
+  ADD COLUMN `ledger_count` INT NULL COMMENT '배치 지급에 포함된 정산 레코드 수' AFTER `amount`;
+
+CREATE INDEX `idx_settlement_payment_run` ON `settlement_payment` (`settlement_run_id`);
+
+ALTER TABLE `settlement_ledger`
+  ADD COLUMN `settlement_payment_id` BIGINT NULL COMMENT '배치 지급 ID' AFTER `settled_at`;
+
+-- 강사별 정산 가능 레코드를 id 순으로 잘라 읽음 (instructor_id, eligible_flag, settled_at, id)
+CREATE INDEX `idx_settlement_ledger_instructor_eligible` ON `settlement_ledger` (`instructor_id`, `eligible_flag`, `settled_at`);
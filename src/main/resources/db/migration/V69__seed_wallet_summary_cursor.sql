@@ -0,0 +1,4 @@
+-- V69: 지갑 월별 요약 커서 행 선생성
+-- 커서 행이 없으면 SELECT ... FOR UPDATE 로 잠글 행이 없어 첫 실행을 여러 인스턴스가 동시에 누적할 수 있음
+-- 이미 실행된 환경은 기존 커서를 유지 (INSERT IGNORE)
+INSERT IGNORE INTO wallet_summary_cursor (job_name, last_processed_id) VALUES ('wallet_ledger_monthly', 0);
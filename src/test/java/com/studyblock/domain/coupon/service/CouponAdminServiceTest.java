@@ -0,0 +1,89 @@
+package com.studyblock.domain.coupon.service;
+
+import com.studyblock.domain.coupon.entity.Coupon;
+import com.studyblock.domain.coupon.enums.CouponType;
+import com.studyblock.domain.coupon.repository.CouponRepository;
+import com.studyblock.domain.user.repository.UserRepository;
+import jakarta.persistence.Column;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CouponAdminServiceTest {
+
+    private static final Long COUPON_ID = 10L;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CouponRuleCache couponRuleCache;
+
+    @Mock
+    private CouponReservationService couponReservationService;
+
+    @InjectMocks
+    private CouponAdminService couponAdminService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("발급 카운터가 원자적으로 증가한 뒤 관리자가 읽어 둔 쿠폰을 저장해도 카운터 컬럼은 UPDATE 에 포함되지 않는다")
+    void toggleCouponActive_doesNotOverwriteCountersIncrementedAfterLoad() throws Exception {
+        // 관리자 수정이 읽은 시점의 값 (그 사이 발급으로 DB 의 used_count / issued_count 는 이미 증가)
+        Coupon stale = coupon();
+        when(couponRepository.findById(COUPON_ID)).thenReturn(Optional.of(stale));
+
+        Coupon saved = couponAdminService.toggleCouponActive(COUPON_ID);
+
+        verify(couponRepository).save(stale);
+        assertThat(saved.getIsActive()).isFalse();
+        assertThat(saved.getUsedCount()).isZero();
+        // 엔티티 저장은 증가된 값을 되돌리지 않아야 하므로 카운터 컬럼은 INSERT / UPDATE 대상에서 빠져 있어야 함
+        for (String counter : new String[] {"usedCount", "issuedCount", "redeemedCount"}) {
+            Column column = Coupon.class.getDeclaredField(counter).getAnnotation(Column.class);
+            assertThat(column.updatable()).as(counter + " updatable").isFalse();
+            assertThat(column.insertable()).as(counter + " insertable").isFalse();
+        }
+    }
+
+    private Coupon coupon() {
+        Coupon coupon = Coupon.builder()
+                .name("신규 가입 쿠폰")
+                .type(CouponType.DISCOUNT_AMOUNT)
+                .discountValue(1_000)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validUntil(LocalDateTime.now().plusDays(30))
+                .usageLimit(100)
+                .isActive(true)
+                .build();
+        ReflectionTestUtils.setField(coupon, "id", COUPON_ID);
+        return coupon;
+    }
+}
@@ -0,0 +1,72 @@
+package com.studyblock.domain.coupon.service;
+
+import com.studyblock.domain.coupon.repository.CouponRepository;
+import com.studyblock.domain.coupon.repository.UserCouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CouponCounterReconciliationServiceTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private UserCouponRepository userCouponRepository;
+
+    @InjectMocks
+    private CouponCounterReconciliationService reconciliationService;
+
+    @Test
+    @DisplayName("user_coupons 집계와 카운터가 다른 쿠폰만 찾고, 발급 이력이 없는 쿠폰은 0 과 비교한다")
+    void findDriftedCouponIds_comparesWithGroupedCounts() {
+        // native COUNT / SUM 은 Long / BigDecimal 로 돌아옴
+        when(userCouponRepository.countIssuedAndUsedGroupByCouponId()).thenReturn(List.of(
+                new Object[] {1L, 3L, BigDecimal.valueOf(1)},
+                new Object[] {2L, 4L, BigDecimal.valueOf(2)}));
+        when(couponRepository.findCounterSnapshots()).thenReturn(List.of(
+                new Object[] {1L, 3, 1},     // 일치
+                new Object[] {2L, 3, 2},     // 발급 수 누락
+                new Object[] {3L, 0, 0},     // 발급 이력 없음, 일치
+                new Object[] {4L, 1, 0}));   // 발급 이력 없는데 카운터만 증가
+
+        assertThat(reconciliationService.findDriftedCouponIds()).containsExactly(2L, 4L);
+    }
+
+    @Test
+    @DisplayName("보정은 쿠폰 행을 잠근 뒤 다시 센 값으로 카운터를 덮어쓴다")
+    void reconcile_overwritesCountersUnderLock() {
+        when(couponRepository.lockById(2L)).thenReturn(Optional.of(2L));
+        when(userCouponRepository.countIssuedCouponsByCouponId(2L)).thenReturn(4L);
+        when(userCouponRepository.countUsedCouponsByCouponId(2L)).thenReturn(2L);
+
+        assertThat(reconciliationService.reconcile(2L)).isTrue();
+
+        verify(couponRepository).updateCounters(2L, 4L, 2L);
+    }
+
+    @Test
+    @DisplayName("그 사이 삭제된 쿠폰은 보정하지 않는다")
+    void reconcile_skipsDeletedCoupon() {
+        when(couponRepository.lockById(9L)).thenReturn(Optional.empty());
+
+        assertThat(reconciliationService.reconcile(9L)).isFalse();
+
+        verify(userCouponRepository, never()).countIssuedCouponsByCouponId(anyLong());
+        verify(couponRepository, never()).updateCounters(anyLong(), anyLong(), anyLong());
+    }
+}
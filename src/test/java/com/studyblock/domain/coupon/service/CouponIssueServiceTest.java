@@ -0,0 +1,182 @@
+package com.studyblock.domain.coupon.service;
+
+import com.studyblock.domain.coupon.entity.Coupon;
+import com.studyblock.domain.coupon.entity.UserCoupon;
+import com.studyblock.domain.coupon.repository.CouponRepository;
+import com.studyblock.domain.coupon.repository.UserCouponRepository;
+import com.studyblock.domain.user.entity.User;
+import com.studyblock.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueServiceTest {
+
+    private static final Long COUPON_ID = 5L;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private UserCouponRepository userCouponRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private CouponIssueService couponIssueService;
+
+    @Test
+    @DisplayName("발급 카운터를 조건부로 올린 뒤에 UserCoupon 을 저장한다")
+    void issue_incrementsCounterBeforeSaving() {
+        givenIssuable(limitedCoupon(10));
+        when(couponRepository.incrementIssuedWithinLimit(COUPON_ID)).thenReturn(1);
+
+        UserCoupon issued = couponIssueService.issueCouponToUser(COUPON_ID, 1L);
+
+        assertThat(issued.getCouponCode()).startsWith("COUPON-");
+        InOrder inOrder = inOrder(couponRepository, userCouponRepository);
+        inOrder.verify(couponRepository).incrementIssuedWithinLimit(COUPON_ID);
+        inOrder.verify(userCouponRepository).save(any(UserCoupon.class));
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 가 0 행이면 한도 초과로 거부하고 UserCoupon 을 저장하지 않는다")
+    void issue_rejectsWhenConditionalUpdateMisses() {
+        givenIssuable(limitedCoupon(10));
+        when(couponRepository.incrementIssuedWithinLimit(COUPON_ID)).thenReturn(0);
+
+        assertThatThrownBy(() -> couponIssueService.issueCouponToUser(COUPON_ID, 1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("한도");
+
+        verify(userCouponRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("동시 발급에서도 조건부 UPDATE 가 한도만큼만 성공하여 한도를 넘겨 발급되지 않는다")
+    void issue_concurrentRequestsNeverExceedLimit() throws Exception {
+        int limit = 5;
+        int requests = 20;
+        givenIssuable(limitedCoupon(limit));
+
+        // used_count < usage_limit 조건의 UPDATE 를 원자적 비교로 흉내
+        AtomicInteger usedCount = new AtomicInteger();
+        when(couponRepository.incrementIssuedWithinLimit(COUPON_ID)).thenAnswer(invocation -> {
+            int current;
+            do {
+                current = usedCount.get();
+                if (current >= limit) {
+                    return 0;
+                }
+            } while (!usedCount.compareAndSet(current, current + 1));
+            return 1;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < requests; i++) {
+                long userId = i + 1;
+                Callable<Boolean> task = () -> {
+                    start.await();
+                    try {
+                        couponIssueService.issueCouponToUser(COUPON_ID, userId);
+                        return true;
+                    } catch (IllegalStateException e) {
+                        return false;
+                    }
+                };
+                results.add(executor.submit(task));
+            }
+            start.countDown();
+
+            int issued = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(5, TimeUnit.SECONDS)) {
+                    issued++;
+                }
+            }
+
+            assertThat(issued).isEqualTo(limit);
+            assertThat(usedCount.get()).isEqualTo(limit);
+            verify(userCouponRepository, times(limit)).save(any(UserCoupon.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("일괄 발급은 한도를 넘은 사용자만 실패로 집계한다")
+    void issueBulk_countsRejectedUsersAsFailures() {
+        givenIssuable(limitedCoupon(2));
+        when(couponRepository.incrementIssuedWithinLimit(COUPON_ID)).thenReturn(1, 1, 0);
+
+        CouponIssueService.IssueBulkResult result = couponIssueService.issueCouponBulk(COUPON_ID, List.of(1L, 2L, 3L));
+
+        assertThat(result.getSuccessCount()).isEqualTo(2);
+        assertThat(result.getFailCount()).isEqualTo(1);
+        assertThat(result.getFailedUserIds()).containsExactly("3");
+        verify(userCouponRepository, times(2)).save(any(UserCoupon.class));
+    }
+
+    @Test
+    @DisplayName("전체 발급은 저장한 건수만큼 발급 카운터를 한 번에 올린다")
+    void issueToAll_incrementsCounterOnceBySavedCount() {
+        Coupon coupon = limitedCoupon(null);
+        when(couponRepository.findById(COUPON_ID)).thenReturn(Optional.of(coupon));
+        when(userRepository.findAllUserIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(userCouponRepository.findUserIdsByCouponId(COUPON_ID)).thenReturn(List.of(2L));
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(mock(User.class)));
+
+        CouponIssueService.IssueBulkResult result = couponIssueService.issueCouponToAll(COUPON_ID);
+
+        assertThat(result.getSuccessCount()).isEqualTo(2);
+        verify(couponRepository).incrementIssued(COUPON_ID, 2);
+        verify(couponRepository, never()).incrementIssuedWithinLimit(anyLong());
+    }
+
+    private void givenIssuable(Coupon coupon) {
+        when(couponRepository.findById(COUPON_ID)).thenReturn(Optional.of(coupon));
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(mock(User.class)));
+        when(userCouponRepository.existsByUser_IdAndCoupon_Id(anyLong(), any())).thenReturn(false);
+    }
+
+    private Coupon limitedCoupon(Integer usageLimit) {
+        return Coupon.builder()
+                .name("신규 가입 쿠폰")
+                .usageLimit(usageLimit)
+                .validUntil(LocalDateTime.now().plusDays(30))
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.studyblock.domain.coupon.service;
+
+import com.studyblock.domain.coupon.dto.CouponRule;
+import com.studyblock.domain.coupon.entity.Coupon;
+import com.studyblock.domain.coupon.entity.UserCoupon;
+import com.studyblock.domain.coupon.repository.CouponRepository;
+import com.studyblock.domain.coupon.repository.UserCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CouponReservationServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long USER_COUPON_ID = 30L;
+    private static final Long COUPON_ID = 5L;
+
+    @Mock
+    private UserCouponRepository userCouponRepository;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponRuleCache couponRuleCache;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @InjectMocks
+    private CouponReservationService couponReservationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(couponReservationService, "holdMinutes", 15L);
+        ReflectionTestUtils.setField(couponReservationService, "stockTtlMinutes", 10L);
+    }
+
+    @Test
+    @DisplayName("예약이 만료되어 스위퍼가 풀었고 그 사이 수량이 소진되었으면 다시 예약하지 못한다")
+    void reserve_expiredHoldWithExhaustedStockThrows() {
+        when(userCouponRepository.findReservationStateById(USER_COUPON_ID))
+                .thenReturn(List.<Object[]>of(new Object[] {USER_ID, COUPON_ID, "AVAILABLE"}));
+        when(couponRuleCache.get(COUPON_ID)).thenReturn(limitedRule());
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList())).thenReturn(-1L);
+
+        assertThatThrownBy(() -> couponReservationService.reserve(USER_ID, USER_COUPON_ID, null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("한도");
+
+        verify(userCouponRepository, never()).reserveIfAvailable(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지났어도 아직 풀리지 않은 본인 예약은 재고 차감 없이 연장한다")
+    void reserve_extendsOwnUnsweptHoldWithoutTakingStock() {
+        when(userCouponRepository.findReservationStateById(USER_COUPON_ID))
+                .thenReturn(List.<Object[]>of(new Object[] {USER_ID, COUPON_ID, "RESERVED"}));
+        when(couponRuleCache.get(COUPON_ID)).thenReturn(limitedRule());
+        when(userCouponRepository.extendReservation(eq(USER_COUPON_ID), eq(USER_ID), any(), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        CouponRule rule = couponReservationService.reserve(USER_ID, USER_COUPON_ID, null);
+
+        assertThat(rule.getCouponId()).isEqualTo(COUPON_ID);
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList());
+        verify(userCouponRepository, never()).countRedeemedByCouponId(anyLong());
+    }
+
+    @Test
+    @DisplayName("예약 확정에 성공하면 사용 카운터를 결제 트랜잭션 안에서 함께 올린다")
+    void confirm_incrementsRedeemedCounter() {
+        UserCoupon userCoupon = reservedUserCoupon();
+        when(userCouponRepository.confirmReserved(eq(USER_COUPON_ID), any(LocalDateTime.class))).thenReturn(1);
+
+        couponReservationService.confirm(userCoupon);
+
+        verify(couponRepository).incrementRedeemed(COUPON_ID);
+    }
+
+    @Test
+    @DisplayName("예약이 이미 풀려 확정하지 못하면 사용 카운터를 올리지 않는다")
+    void confirm_doesNotIncrementRedeemedWhenHoldReleased() {
+        UserCoupon userCoupon = reservedUserCoupon();
+        when(userCouponRepository.confirmReserved(eq(USER_COUPON_ID), any(LocalDateTime.class))).thenReturn(0);
+
+        assertThatThrownBy(() -> couponReservationService.confirm(userCoupon))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(couponRepository, never()).incrementRedeemed(anyLong());
+    }
+
+    private UserCoupon reservedUserCoupon() {
+        Coupon coupon = mock(Coupon.class);
+        lenient().when(coupon.getId()).thenReturn(COUPON_ID);
+        UserCoupon userCoupon = mock(UserCoupon.class);
+        lenient().when(userCoupon.getId()).thenReturn(USER_COUPON_ID);
+        lenient().when(userCoupon.getCoupon()).thenReturn(coupon);
+        return userCoupon;
+    }
+
+    private CouponRule limitedRule() {
+        return CouponRule.builder()
+                .couponId(COUPON_ID)
+                .usageLimit(100)
+                .active(true)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validUntil(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.studyblock.domain.course.scheduler;
+
+import com.studyblock.domain.course.service.VideoProgressService;
+import com.studyblock.domain.course.service.VideoProgressStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VideoProgressSchedulerTest {
+
+    @Mock
+    private VideoProgressStore videoProgressStore;
+
+    @Mock
+    private VideoProgressService videoProgressService;
+
+    @InjectMocks
+    private VideoProgressScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "syncTimeBudgetMs", 60_000L);
+        ReflectionTestUtils.setField(scheduler, "legacyMigrationBatch", 1000);
+    }
+
+    @Test
+    @DisplayName("배치 수 제한 없이 dirty 집합이 빌 때까지 동기화한다")
+    void sync_drainsUntilDirtySetIsEmpty() {
+        List<List<long[]>> batches = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            batches.add(List.<long[]>of(new long[] {i, 100L}));
+        }
+        stubPops(batches);
+
+        scheduler.syncRedisToDatabase();
+
+        verify(videoProgressStore, times(31)).popDirty(anyInt());
+        verify(videoProgressService, times(30)).persistToDatabase(anyLong(), anyLong(), isNull(), isNull());
+        verify(videoProgressStore, never()).countDirty();
+    }
+
+    @Test
+    @DisplayName("실패한 항목은 같은 실행에서 다시 꺼내지 않도록 집합을 다 비운 뒤에 재등록한다")
+    void sync_requeuesFailuresAfterDraining() {
+        stubPops(List.of(List.<long[]>of(new long[] {1L, 10L}, new long[] {2L, 20L})));
+        doThrow(new IllegalStateException("db down"))
+                .when(videoProgressService).persistToDatabase(1L, 10L, null, null);
+
+        scheduler.syncRedisToDatabase();
+
+        InOrder inOrder = inOrder(videoProgressStore);
+        inOrder.verify(videoProgressStore, times(2)).popDirty(anyInt());
+        inOrder.verify(videoProgressStore).markDirty(1L, 10L);
+        verify(videoProgressStore, never()).markDirty(2L, 20L);
+    }
+
+    @Test
+    @DisplayName("시간 예산을 넘기면 남은 항목은 다음 실행으로 넘긴다")
+    void sync_stopsAtTimeBudget() {
+        ReflectionTestUtils.setField(scheduler, "syncTimeBudgetMs", 0L);
+        when(videoProgressStore.popDirty(anyInt())).thenReturn(List.<long[]>of(new long[] {1L, 10L}));
+        when(videoProgressStore.countDirty()).thenReturn(1200L);
+
+        scheduler.syncRedisToDatabase();
+
+        verify(videoProgressStore, times(1)).popDirty(anyInt());
+        verify(videoProgressStore).countDirty();
+    }
+
+    private void stubPops(List<List<long[]>> batches) {
+        var stubbing = when(videoProgressStore.popDirty(anyInt()));
+        for (List<long[]> batch : batches) {
+            stubbing = stubbing.thenReturn(batch);
+        }
+        stubbing.thenReturn(List.of());
+    }
+}
@@ -0,0 +1,65 @@
+package com.studyblock.domain.course.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VideoProgressStoreTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    private VideoProgressStore videoProgressStore;
+
+    @BeforeEach
+    void setUp() {
+        videoProgressStore = new VideoProgressStore(stringRedisTemplate, redisTemplate);
+        ReflectionTestUtils.setField(videoProgressStore, "ttlHours", 24L);
+        ReflectionTestUtils.setField(videoProgressStore, "legacyMigrationEnabled", true);
+    }
+
+    @Test
+    @DisplayName("이전 키 SCAN 은 숫자 키 패턴만 매칭하여 새 해시 키와 dirty 집합을 훑지 않는다")
+    void migrateLegacyKeys_scansOnlyLegacyPattern() {
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+        videoProgressStore.migrateLegacyKeys(1000);
+
+        ArgumentCaptor<ScanOptions> options = ArgumentCaptor.forClass(ScanOptions.class);
+        verify(redisTemplate).scan(options.capture());
+        assertThat(options.getValue().getPattern()).isEqualTo("video:progress:[0-9]*:[0-9]*");
+    }
+
+    @Test
+    @DisplayName("SCAN 을 끝까지 돌아 옮길 키가 없으면 이후 실행에서는 SCAN 하지 않는다")
+    void migrateLegacyKeys_stopsScanningOnceDrained() {
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+        assertThat(videoProgressStore.migrateLegacyKeys(1000)).isZero();
+        assertThat(videoProgressStore.migrateLegacyKeys(1000)).isZero();
+
+        verify(redisTemplate, times(1)).scan(any(ScanOptions.class));
+    }
+}
@@ -0,0 +1,85 @@
+package com.studyblock.domain.enrollment.service;
+
+import com.studyblock.domain.course.entity.Course;
+import com.studyblock.domain.course.repository.LectureRepository;
+import com.studyblock.domain.enrollment.entity.CourseEnrollment;
+import com.studyblock.domain.enrollment.enums.EnrollmentSource;
+import com.studyblock.domain.enrollment.repository.CourseEnrollmentRepository;
+import com.studyblock.domain.enrollment.repository.LectureCompletionRepository;
+import com.studyblock.domain.enrollment.repository.SectionEnrollmentRepository;
+import com.studyblock.domain.user.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EnrollmentProgressServiceTest {
+
+    private static final Long ENROLLMENT_ID = 555L;
+
+    @Mock
+    private CourseEnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private SectionEnrollmentRepository sectionEnrollmentRepository;
+
+    @Mock
+    private LectureCompletionRepository lectureCompletionRepository;
+
+    @Mock
+    private LectureRepository lectureRepository;
+
+    @InjectMocks
+    private EnrollmentProgressService progressService;
+
+    @Test
+    @DisplayName("완료 카운트 기준 재계산은 통과한 퀴즈 수를 다시 세어 퀴즈 진도까지 진도율에 반영한다")
+    void recalculateEnrollment_recountsPassedQuizzes() {
+        CourseEnrollment enrollment = enrollment();
+        enrollment.updateLectureCompletion(10, 10);
+        enrollment.updateQuizCompletion(0, 2);
+        when(enrollmentRepository.findById(ENROLLMENT_ID)).thenReturn(Optional.of(enrollment));
+        when(lectureCompletionRepository.countCompletedQuizzesByEnrollmentId(ENROLLMENT_ID)).thenReturn(2L);
+
+        progressService.recalculateEnrollment(ENROLLMENT_ID, true);
+
+        assertThat(enrollment.getCompletedQuizzesCount()).isEqualTo(2);
+        assertThat(enrollment.getTotalQuizzesCount()).isEqualTo(2);
+        assertThat(enrollment.getProgressPercentage()).isEqualByComparingTo(new BigDecimal("100.00"));
+    }
+
+    @Test
+    @DisplayName("시청률 기준 재계산은 퀴즈 수를 다시 세지 않는다")
+    void recalculateEnrollment_skipsQuizRecountForViewOnly() {
+        when(enrollmentRepository.findById(ENROLLMENT_ID)).thenReturn(Optional.of(enrollment()));
+        when(lectureCompletionRepository.calculateAverageWatchPercentageByEnrollmentId(ENROLLMENT_ID)).thenReturn(40.0);
+
+        progressService.recalculateEnrollment(ENROLLMENT_ID, false);
+
+        verify(lectureCompletionRepository, never()).countCompletedQuizzesByEnrollmentId(anyLong());
+    }
+
+    private CourseEnrollment enrollment() {
+        CourseEnrollment enrollment = CourseEnrollment.builder()
+                .user(mock(User.class))
+                .course(mock(Course.class))
+                .enrollmentSource(EnrollmentSource.PURCHASE_COOKIE)
+                .build();
+        ReflectionTestUtils.setField(enrollment, "id", ENROLLMENT_ID);
+        return enrollment;
+    }
+}
@@ -2,12 +2,15 @@ package com.studyblock.domain.enrollment.service;
 
 import com.studyblock.domain.activitylog.service.ActivityLogService;
 import com.studyblock.domain.course.entity.Course;
+import com.studyblock.domain.course.entity.Lecture;
 import com.studyblock.domain.course.repository.CourseRepository;
 import com.studyblock.domain.course.repository.LectureRepository;
+import com.studyblock.domain.course.service.CourseCounterService;
 import com.studyblock.domain.course.service.LectureOwnershipService;
 import com.studyblock.domain.enrollment.dto.EnrollmentResponse;
 import com.studyblock.domain.enrollment.entity.CourseEnrollment;
 import com.studyblock.domain.enrollment.entity.LectureCompletion;
+import com.studyblock.domain.enrollment.enums.CompletionType;
 import com.studyblock.domain.enrollment.enums.EnrollmentSource;
 import com.studyblock.domain.enrollment.repository.CourseEnrollmentRepository;
 import com.studyblock.domain.enrollment.repository.LectureCompletionRepository;
@@ -28,7 +31,14 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,6 +68,12 @@ class EnrollmentServiceTest {
     @Mock
     private ActivityLogService activityLogService;
 
+    @Mock
+    private EnrollmentProgressAggregator progressAggregator;
+
+    @Mock
+    private CourseCounterService courseCounterService;
+
     @InjectMocks
     private EnrollmentService enrollmentService;
 
@@ -169,5 +185,115 @@ class EnrollmentServiceTest {
         assertThat(response.getCompletedLectureIds()).containsExactlyInAnyOrder(201L, 202L);
         assertThat(response.getPurchasedSectionIds()).containsExactlyInAnyOrder(11L, 12L);
     }
-}
 
+    @Test
+    @DisplayName("시청률 임계값을 넘겨도 조건부 UPDATE 에서 진 요청은 완료 카운터를 증분하지 않는다")
+    void updateVideoProgress_skipsDeltaWhenConcurrentRequestAlreadyCompleted() {
+        LectureCompletion completion = lectureCompletion(701L, 1L, 2L, 3L, 555L);
+        when(lectureCompletionRepository.findByUserIdAndLectureId(1L, 2L)).thenReturn(Optional.of(completion));
+        when(lectureCompletionRepository.markCompletedIfNotCompleted(eq(701L), eq(CompletionType.VIDEO_WATCHED), any()))
+                .thenReturn(0);
+
+        enrollmentService.updateVideoProgress(1L, 2L, new BigDecimal("95.00"), 300);
+
+        assertThat(completion.isCompleted()).isTrue();
+        verify(progressAggregator, never()).applyCompletionDelta(any(), any(), any(), anyInt());
+        verify(progressAggregator).markViewed(555L, true);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 로 완료 전환에 성공한 요청만 완료 카운터를 1 증분한다")
+    void updateVideoProgress_appliesDeltaOnceWhenClaimSucceeds() {
+        LectureCompletion completion = lectureCompletion(702L, 1L, 2L, 3L, 555L);
+        when(lectureCompletionRepository.findByUserIdAndLectureId(1L, 2L)).thenReturn(Optional.of(completion));
+        when(lectureCompletionRepository.markCompletedIfNotCompleted(eq(702L), eq(CompletionType.VIDEO_WATCHED), any()))
+                .thenReturn(1);
+
+        enrollmentService.updateVideoProgress(1L, 2L, new BigDecimal("92.50"), 280);
+
+        verify(progressAggregator).applyCompletionDelta(1L, 3L, 555L, 1);
+    }
+
+    @Test
+    @DisplayName("임계값 미만 시청은 조건부 UPDATE 를 실행하지 않는다")
+    void updateVideoProgress_doesNotClaimBelowThreshold() {
+        LectureCompletion completion = lectureCompletion(703L, 1L, 2L, 3L, 555L);
+        when(lectureCompletionRepository.findByUserIdAndLectureId(1L, 2L)).thenReturn(Optional.of(completion));
+
+        enrollmentService.updateVideoProgress(1L, 2L, new BigDecimal("40.00"), 120);
+
+        assertThat(completion.isCompleted()).isFalse();
+        verify(lectureCompletionRepository, never()).markCompletedIfNotCompleted(anyLong(), any(), any());
+        verify(progressAggregator).markViewed(555L, false);
+    }
+
+    @Test
+    @DisplayName("퀴즈 통과는 완료 delta 를 반영하고 통과 퀴즈 수 재계산을 집계기에 등록한다")
+    void updateQuizResult_registersQuizRecount() {
+        LectureCompletion completion = lectureCompletion(704L, 1L, 2L, 3L, 555L);
+        when(lectureCompletionRepository.findByUserIdAndLectureId(1L, 2L)).thenReturn(Optional.of(completion));
+        when(lectureCompletionRepository.markCompletedIfNotCompleted(eq(704L), eq(CompletionType.QUIZ_PASSED), any()))
+                .thenReturn(1);
+
+        enrollmentService.updateQuizResult(1L, 2L, new BigDecimal("85.00"), true);
+
+        verify(progressAggregator).applyCompletionDelta(1L, 3L, 555L, 1);
+        // 완료 카운트 기준 재계산으로 등록해야 EnrollmentProgressService 가 통과 퀴즈 수를 다시 셈
+        verify(progressAggregator).markViewed(555L, true);
+    }
+
+    @Test
+    @DisplayName("이미 완료된 강의에서 퀴즈를 통과해도 완료 delta 없이 통과 퀴즈 수 재계산을 등록한다")
+    void updateQuizResult_registersQuizRecountForCompletedLecture() {
+        LectureCompletion completion = lectureCompletion(705L, 1L, 2L, 3L, 555L);
+        completion.updateVideoProgress(new BigDecimal("95.00"), 600);
+        when(lectureCompletionRepository.findByUserIdAndLectureId(1L, 2L)).thenReturn(Optional.of(completion));
+
+        enrollmentService.updateQuizResult(1L, 2L, new BigDecimal("90.00"), true);
+
+        verify(lectureCompletionRepository, never()).markCompletedIfNotCompleted(anyLong(), any(), any());
+        verify(progressAggregator, never()).applyCompletionDelta(any(), any(), any(), anyInt());
+        verify(progressAggregator).markViewed(555L, true);
+    }
+
+    private LectureCompletion lectureCompletion(Long completionId, Long userId, Long lectureId,
+                                                Long courseId, Long enrollmentId) {
+        Course course = Course.builder()
+                .title("완료 테스트 코스")
+                .price(0L)
+                .discountPercentage(0)
+                .categories(Collections.emptyList())
+                .build();
+        ReflectionTestUtils.setField(course, "id", courseId);
+
+        Lecture lecture = mock(Lecture.class);
+        lenient().when(lecture.getCourse()).thenReturn(course);
+
+        User user = User.builder()
+                .id(userId)
+                .name("수강생")
+                .memberId("member-" + userId)
+                .password("encoded")
+                .phone("010-0000-0000")
+                .email("user" + userId + "@test.com")
+                .birth(LocalDate.of(1990, 1, 1))
+                .gender(1)
+                .jointype(1)
+                .build();
+
+        CourseEnrollment enrollment = CourseEnrollment.builder()
+                .user(user)
+                .course(course)
+                .enrollmentSource(EnrollmentSource.PURCHASE_COOKIE)
+                .build();
+        ReflectionTestUtils.setField(enrollment, "id", enrollmentId);
+
+        LectureCompletion completion = LectureCompletion.builder()
+                .user(user)
+                .lecture(lecture)
+                .courseEnrollment(enrollment)
+                .build();
+        ReflectionTestUtils.setField(completion, "id", completionId);
+        return completion;
+    }
+}
@@ -0,0 +1,88 @@
+package com.studyblock.domain.idempotency.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyblock.domain.idempotency.dto.IdempotencyRecord;
+import com.studyblock.domain.idempotency.repository.IdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyAuditWriterTest {
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private IdempotencyAuditWriter auditWriter;
+
+    @BeforeEach
+    void setUp() {
+        auditWriter = new IdempotencyAuditWriter(idempotencyKeyRepository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("COMPLETED 뒤에 늦게 도착한 PENDING 기록은 더 낮은 순위로 전달되어 최종 상태를 덮지 않는다")
+    void record_reorderedPendingCarriesLowerRank() {
+        auditWriter.recordNow(record(IdempotencyRecord.COMPLETED));
+        auditWriter.recordNow(record(IdempotencyRecord.PENDING));
+
+        ArgumentCaptor<String> statuses = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Integer> ranks = ArgumentCaptor.forClass(Integer.class);
+        verify(idempotencyKeyRepository, times(2)).upsertAudit(anyLong(), eq("key-1"), isNull(), isNull(),
+                statuses.capture(), ranks.capture(), any(), any());
+
+        assertThat(statuses.getAllValues()).containsExactly(IdempotencyRecord.COMPLETED, IdempotencyRecord.PENDING);
+        assertThat(ranks.getAllValues().get(1)).isLessThan(ranks.getAllValues().get(0));
+    }
+
+    @Test
+    @DisplayName("상태 순위는 upsert 의 FIELD() 인자 순서와 같다 (PENDING < FAILED < COMPLETED)")
+    void statusRank_matchesStatusOrderUsedBySql() {
+        List<String> order = Arrays.stream(IdempotencyRecord.STATUS_ORDER.split(","))
+                .map(s -> s.trim().replace("'", ""))
+                .toList();
+
+        assertThat(order).containsExactly(IdempotencyRecord.PENDING, IdempotencyRecord.FAILED, IdempotencyRecord.COMPLETED);
+        for (int i = 0; i < order.size(); i++) {
+            assertThat(record(order.get(i)).getStatusRank()).isEqualTo(i + 1);
+        }
+        assertThat(record("USED").getStatusRank()).isZero();
+    }
+
+    @Test
+    @DisplayName("일반 문자열 응답은 JSON 문자열로 감싸서 기록한다")
+    void recordNow_wrapsPlainSnapshotAsJsonString() {
+        auditWriter.recordNow(record(IdempotencyRecord.FAILED).toBuilder().responseSnapshot("환불 처리 실패").build());
+
+        verify(idempotencyKeyRepository).upsertAudit(anyLong(), anyString(), isNull(), eq("\"환불 처리 실패\""),
+                eq(IdempotencyRecord.FAILED), anyInt(), any(), any());
+    }
+
+    private IdempotencyRecord record(String status) {
+        long now = System.currentTimeMillis();
+        return IdempotencyRecord.builder()
+                .idempotencyKey("key-1")
+                .userId(1L)
+                .status(status)
+                .createdAtMillis(now)
+                .expiresAtMillis(now + 60_000L)
+                .build();
+    }
+}
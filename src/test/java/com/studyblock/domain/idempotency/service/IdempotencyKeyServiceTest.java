@@ -0,0 +1,212 @@
+package com.studyblock.domain.idempotency.service;
+
+import com.studyblock.domain.idempotency.dto.IdempotencyRecord;
+import com.studyblock.domain.idempotency.entity.IdempotencyKey;
+import com.studyblock.domain.idempotency.exception.IdempotencyRequestInProgressException;
+import com.studyblock.domain.idempotency.repository.IdempotencyKeyRepository;
+import com.studyblock.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyServiceTest {
+
+    private static final String KEY = "payment-key-1";
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Mock
+    private IdempotencyAuditWriter auditWriter;
+
+    private InMemoryIdempotencyStore redisStore;
+    private IdempotencyKeyService idempotencyKeyService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        redisStore = new InMemoryIdempotencyStore();
+        idempotencyKeyService = new IdempotencyKeyService(idempotencyKeyRepository, redisStore, auditWriter);
+        user = mock(User.class);
+        lenient().when(user.getId()).thenReturn(1L);
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 선점하면 한 요청만 PENDING 을 얻고 나머지는 처리 중(409)으로 거절된다")
+    void createIdempotencyKey_onlyOneConcurrentClaimWins() throws Exception {
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<IdempotencyRecord>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return idempotencyKeyService.createIdempotencyKey(user, KEY, null);
+            }));
+        }
+        start.countDown();
+
+        int claimed = 0;
+        int rejected = 0;
+        for (Future<IdempotencyRecord> future : futures) {
+            try {
+                assertThat(future.get(5, TimeUnit.SECONDS).isPending()).isTrue();
+                claimed++;
+            } catch (java.util.concurrent.ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(IdempotencyRequestInProgressException.class);
+                rejected++;
+            }
+        }
+        pool.shutdownNow();
+
+        assertThat(claimed).isEqualTo(1);
+        assertThat(rejected).isEqualTo(threads - 1);
+        verify(auditWriter, times(1)).record(any());
+    }
+
+    @Test
+    @DisplayName("이미 완료된 키는 저장된 COMPLETED 상태를 돌려주고 새로 선점하지 않는다")
+    void createIdempotencyKey_returnsStoredResultWhenCompleted() {
+        redisStore.putIfAbsent(record(IdempotencyRecord.COMPLETED), Duration.ofDays(7));
+
+        IdempotencyRecord result = idempotencyKeyService.createIdempotencyKey(user, KEY, null);
+
+        assertThat(result.isCompleted()).isTrue();
+        verify(auditWriter, never()).record(any());
+    }
+
+    @Test
+    @DisplayName("실패한 키는 재시도 요청이 다시 선점하고, 그 다음 요청은 처리 중으로 거절된다")
+    void createIdempotencyKey_retakesFailedKeyOnce() {
+        redisStore.putIfAbsent(record(IdempotencyRecord.FAILED), Duration.ofDays(7));
+
+        IdempotencyRecord retried = idempotencyKeyService.createIdempotencyKey(user, KEY, null);
+
+        assertThat(retried.isPending()).isTrue();
+        assertThatThrownBy(() -> idempotencyKeyService.createIdempotencyKey(user, KEY, null))
+                .isInstanceOf(IdempotencyRequestInProgressException.class);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 키는 상태와 관계없이 거절한다")
+    void createIdempotencyKey_rejectsOtherUsersKey() {
+        redisStore.putIfAbsent(record(IdempotencyRecord.COMPLETED).toBuilder().userId(2L).build(), Duration.ofDays(7));
+
+        assertThatThrownBy(() -> idempotencyKeyService.createIdempotencyKey(user, KEY, null))
+                .isInstanceOf(IllegalStateException.class)
+                .isNotInstanceOf(IdempotencyRequestInProgressException.class);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 일반 INSERT 로 선점하고, 동시에 먼저 들어간 요청이 있으면(unique 위반) 처리 중으로 거절한다")
+    void createIdempotencyKey_dbFallbackTreatsDuplicateInsertAsInProgress() {
+        redisStore.failing = true;
+        doNothing().doThrow(new DataIntegrityViolationException("Duplicate entry"))
+                .when(auditWriter).claimNow(any());
+
+        IdempotencyRecord claimed = idempotencyKeyService.createIdempotencyKey(user, KEY, null);
+
+        assertThat(claimed.isPending()).isTrue();
+        assertThatThrownBy(() -> idempotencyKeyService.createIdempotencyKey(user, KEY, null))
+                .isInstanceOf(IdempotencyRequestInProgressException.class);
+        verify(auditWriter, never()).recordNow(any());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 실패한 키는 FAILED 조건부 UPDATE 에 성공한 요청만 다시 선점한다")
+    void createIdempotencyKey_dbFallbackReclaimsFailedKeyOnce() {
+        redisStore.failing = true;
+        IdempotencyKey failed = mock(IdempotencyKey.class);
+        when(failed.getIdempotencyKey()).thenReturn(KEY);
+        when(failed.getUser()).thenReturn(user);
+        when(failed.getStatus()).thenReturn(IdempotencyRecord.FAILED);
+        when(failed.getExpiresAt()).thenReturn(LocalDateTime.now().plusDays(7));
+        when(idempotencyKeyRepository.findByIdempotencyKey(KEY)).thenReturn(Optional.of(failed));
+        when(auditWriter.reclaimFailedNow(any())).thenReturn(true, false);
+
+        assertThat(idempotencyKeyService.createIdempotencyKey(user, KEY, null).isPending()).isTrue();
+        assertThatThrownBy(() -> idempotencyKeyService.createIdempotencyKey(user, KEY, null))
+                .isInstanceOf(IdempotencyRequestInProgressException.class);
+        verify(auditWriter, never()).claimNow(any());
+    }
+
+    private IdempotencyRecord record(String status) {
+        long now = System.currentTimeMillis();
+        return IdempotencyRecord.builder()
+                .idempotencyKey(KEY)
+                .userId(1L)
+                .status(status)
+                .createdAtMillis(now)
+                .expiresAtMillis(now + Duration.ofDays(7).toMillis())
+                .build();
+    }
+
+    /**
+     * SET NX / 비교 후 교체를 ConcurrentHashMap 의 원자 연산으로 흉내 내는 저장소
+     */
+    private static class InMemoryIdempotencyStore extends RedisIdempotencyStore {
+
+        private final Map<String, IdempotencyRecord> values = new ConcurrentHashMap<>();
+        private volatile boolean failing;
+
+        InMemoryIdempotencyStore() {
+            super(null, null);
+        }
+
+        @Override
+        public boolean putIfAbsent(IdempotencyRecord record, Duration ttl) {
+            if (failing) {
+                throw new RedisConnectionFailureException("Redis 연결 실패");
+            }
+            return values.putIfAbsent(record.getIdempotencyKey(), record) == null;
+        }
+
+        @Override
+        public boolean replace(IdempotencyRecord record, Duration ttl) {
+            return values.replace(record.getIdempotencyKey(), record) != null;
+        }
+
+        @Override
+        public boolean compareAndReplace(IdempotencyRecord expected, IdempotencyRecord replacement, Duration ttl) {
+            return values.replace(expected.getIdempotencyKey(), expected, replacement);
+        }
+
+        @Override
+        public Optional<IdempotencyRecord> find(String idempotencyKey) {
+            if (failing) {
+                throw new RedisConnectionFailureException("Redis 연결 실패");
+            }
+            return Optional.ofNullable(values.get(idempotencyKey));
+        }
+    }
+}
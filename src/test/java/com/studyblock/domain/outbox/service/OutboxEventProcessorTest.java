@@ -0,0 +1,85 @@
+package com.studyblock.domain.outbox.service;
+
+import com.studyblock.domain.outbox.entity.OutboxEvent;
+import com.studyblock.domain.outbox.enums.OutboxEventType;
+import com.studyblock.domain.outbox.enums.OutboxStatus;
+import com.studyblock.domain.outbox.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventProcessorTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private OutboxEventProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new OutboxEventProcessor(outboxEventRepository, List.of());
+        ReflectionTestUtils.setField(processor, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(processor, "baseBackoffSeconds", 10L);
+        ReflectionTestUtils.setField(processor, "maxBackoffSeconds", 3600L);
+    }
+
+    @Test
+    @DisplayName("최대 재시도를 넘겨 DEAD 가 된 이벤트는 재처리 요청 시 즉시 점유 가능한 PENDING 으로 돌아간다")
+    void requeue_resetsDeadEventToPending() {
+        OutboxEvent event = event(1L);
+        when(outboxEventRepository.findById(1L)).thenReturn(Optional.of(event));
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            processor.recordFailure(1L, new IllegalStateException("정산 레코드 생성 실패"));
+        }
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.DEAD);
+
+        processor.requeue(1L);
+
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(event.getAttemptCount()).isZero();
+        assertThat(event.getNextAttemptAt()).isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("DEAD 가 아닌 이벤트는 재처리할 수 없다")
+    void requeue_rejectsNonDeadEvent() {
+        when(outboxEventRepository.findById(2L)).thenReturn(Optional.of(event(2L)));
+
+        assertThatThrownBy(() -> processor.requeue(2L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 이벤트 재처리 요청은 거부한다")
+    void requeue_rejectsUnknownEvent() {
+        when(outboxEventRepository.findById(3L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> processor.requeue(3L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private OutboxEvent event(Long id) {
+        OutboxEvent event = OutboxEvent.builder()
+                .eventType(OutboxEventType.PAYMENT_COMPLETED)
+                .handler("settlementRecord")
+                .aggregateId(100L)
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
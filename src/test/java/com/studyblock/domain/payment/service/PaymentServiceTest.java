@@ -0,0 +1,173 @@
+package com.studyblock.domain.payment.service;
+
+import com.studyblock.domain.coupon.entity.UserCoupon;
+import com.studyblock.domain.idempotency.dto.IdempotencyRecord;
+import com.studyblock.domain.idempotency.exception.IdempotencyRequestInProgressException;
+import com.studyblock.domain.idempotency.service.IdempotencyKeyService;
+import com.studyblock.domain.payment.dto.PaymentConfirmRequest;
+import com.studyblock.domain.payment.dto.TossPaymentResponse;
+import com.studyblock.domain.payment.entity.Order;
+import com.studyblock.domain.payment.repository.OrderRepository;
+import com.studyblock.domain.payment.repository.PaymentRepository;
+import com.studyblock.domain.payment.service.validator.PaymentCouponValidator;
+import com.studyblock.domain.user.entity.User;
+import com.studyblock.domain.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long USER_COUPON_ID = 30L;
+    private static final String PAYMENT_KEY = "toss-payment-key-1";
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private IdempotencyKeyService idempotencyKeyService;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private OrderCreationService orderCreationService;
+
+    @Mock
+    private PaymentCreationService paymentCreationService;
+
+    @Mock
+    private CouponProcessingService couponProcessingService;
+
+    @Mock
+    private PaymentApprovalService paymentApprovalService;
+
+    @Mock
+    private PaymentSuccessProcessor paymentSuccessProcessor;
+
+    @Mock
+    private OrderReuseService orderReuseService;
+
+    @Mock
+    private PaymentPreValidationService paymentPreValidationService;
+
+    @Mock
+    private PaymentCouponValidator paymentCouponValidator;
+
+    @InjectMocks
+    private PaymentService paymentService;
+
+    @Test
+    @DisplayName("결제 시작 때 잡은 쿠폰 예약이 만료되고 수량이 소진되었으면 토스 승인 전에 실패하여 청구되지 않는다")
+    void confirmPayment_expiredHoldWithExhaustedStockFailsBeforeCharge() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(mock(User.class)));
+        when(couponProcessingService.processCouponReservation(USER_COUPON_ID, USER_ID))
+                .thenThrow(new IllegalStateException("쿠폰 사용 한도가 초과되었습니다."));
+
+        assertThatThrownBy(() -> paymentService.confirmPayment(request(), USER_ID, "127.0.0.1", "JUnit", "WEB"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("한도");
+
+        verify(paymentApprovalService, never()).approve(any());
+        verify(orderCreationService, never()).createOrder(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("승인 후 쿠폰 확정 등 후속 처리가 실패하면 승인된 토스 결제를 취소한다")
+    void confirmPayment_cancelsApprovedPaymentWhenPostProcessingFails() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(mock(User.class)));
+        CouponProcessingService.CouponProcessingResult couponResult =
+                new CouponProcessingService.CouponProcessingResult(mock(UserCoupon.class), null);
+        when(couponProcessingService.processCouponReservation(USER_COUPON_ID, USER_ID)).thenReturn(couponResult);
+        TossPaymentResponse tossResponse = mock(TossPaymentResponse.class);
+        when(paymentApprovalService.approve(any())).thenReturn(tossResponse);
+        Order order = mock(Order.class);
+        when(orderReuseService.reuseOrNull(any(), any(), any(), any(), any())).thenReturn(order);
+        doThrow(new IllegalStateException("쿠폰 예약이 만료되었거나 이미 사용된 쿠폰입니다."))
+                .when(paymentSuccessProcessor).process(any(), any(), any(), any(), any(), any());
+
+        assertThatThrownBy(() -> paymentService.confirmPayment(request(), USER_ID, "127.0.0.1", "JUnit", "WEB"))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(paymentApprovalService).cancelApproved(any(TossPaymentResponse.class), anyString());
+    }
+
+    @Test
+    @DisplayName("선점한 멱등성 키는 승인 전 검증이 예외로 끝나도 FAILED 로 풀려 같은 paymentKey 로 재시도할 수 있다")
+    void confirmPayment_releasesIdempotencyClaimWhenPreValidationThrows() {
+        User user = mock(User.class);
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(idempotencyKeyService.isAlreadyProcessed(USER_ID, PAYMENT_KEY)).thenReturn(false);
+        when(idempotencyKeyService.createIdempotencyKey(user, PAYMENT_KEY, null)).thenReturn(pendingRecord());
+        PaymentConfirmRequest request = request(PAYMENT_KEY);
+        doThrow(new IllegalArgumentException("결제 금액이 일치하지 않습니다."))
+                .when(paymentPreValidationService).validateBeforeApproval(request, USER_ID);
+
+        assertThatThrownBy(() -> paymentService.confirmPayment(request, USER_ID, "127.0.0.1", "JUnit", "WEB"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(idempotencyKeyService).markAsFailed(eq(PAYMENT_KEY), any());
+        verify(paymentApprovalService, never()).approve(any());
+    }
+
+    @Test
+    @DisplayName("다른 요청이 처리 중인 키(409)는 선점하지 않았으므로 FAILED 로 바꾸지 않는다")
+    void confirmPayment_doesNotReleaseKeyHeldByAnotherRequest() {
+        User user = mock(User.class);
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(idempotencyKeyService.isAlreadyProcessed(USER_ID, PAYMENT_KEY)).thenReturn(false);
+        when(idempotencyKeyService.createIdempotencyKey(user, PAYMENT_KEY, null))
+                .thenThrow(new IdempotencyRequestInProgressException(PAYMENT_KEY));
+        PaymentConfirmRequest request = request(PAYMENT_KEY);
+
+        assertThatThrownBy(() -> paymentService.confirmPayment(request, USER_ID, "127.0.0.1", "JUnit", "WEB"))
+                .isInstanceOf(IdempotencyRequestInProgressException.class);
+
+        verify(idempotencyKeyService, never()).markAsFailed(anyString(), any());
+    }
+
+    private IdempotencyRecord pendingRecord() {
+        return IdempotencyRecord.builder()
+                .idempotencyKey(PAYMENT_KEY)
+                .userId(USER_ID)
+                .status(IdempotencyRecord.PENDING)
+                .build();
+    }
+
+    private PaymentConfirmRequest request() {
+        return request(null);
+    }
+
+    private PaymentConfirmRequest request(String paymentKey) {
+        return PaymentConfirmRequest.builder()
+                .paymentKey(paymentKey)
+                .orderId("ORDER-1")
+                .amount(9_000)
+                .userCouponId(USER_COUPON_ID)
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.studyblock.domain.refund.controller;
+
+import com.studyblock.domain.payment.repository.OrderItemRepository;
+import com.studyblock.domain.payment.repository.OrderRepository;
+import com.studyblock.domain.payment.repository.PaymentRepository;
+import com.studyblock.domain.refund.dto.RefundBatchResponse;
+import com.studyblock.domain.refund.service.RefundBatchService;
+import com.studyblock.domain.refund.service.RefundService;
+import com.studyblock.domain.user.entity.User;
+import com.studyblock.domain.user.repository.UserRepository;
+import com.studyblock.global.security.SecurityConfig;
+import com.studyblock.global.security.jwt.JwtTokenProvider;
+import com.studyblock.global.security.oauth2.CustomOAuth2UserService;
+import com.studyblock.global.security.oauth2.OAuth2SuccessHandler;
+import com.studyblock.global.util.AuthenticationUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(RefundController.class)
+@Import(SecurityConfig.class)
+class RefundControllerSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private RefundService refundService;
+
+    @MockBean
+    private RefundBatchService refundBatchService;
+
+    @MockBean
+    private PaymentRepository paymentRepository;
+
+    @MockBean
+    private OrderItemRepository orderItemRepository;
+
+    @MockBean
+    private OrderRepository orderRepository;
+
+    @MockBean
+    private AuthenticationUtils authenticationUtils;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @MockBean
+    private OAuth2SuccessHandler oAuth2SuccessHandler;
+
+    @MockBean
+    private ClientRegistrationRepository clientRegistrationRepository;
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("관리자가 아닌 사용자의 코스 일괄 환불 요청은 403 으로 거부된다")
+    void refundCourse_rejectsNonAdmin() throws Exception {
+        mockMvc.perform(post("/api/refunds/admin/course/7").param("reason", "폐강"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(refundBatchService);
+    }
+
+    @Test
+    @WithMockUser(roles = {"USER", "ADMIN"})
+    @DisplayName("관리자의 코스 일괄 환불 요청은 배치 서비스로 전달된다")
+    void refundCourse_allowsAdmin() throws Exception {
+        User admin = mock(User.class);
+        when(admin.getId()).thenReturn(1L);
+        when(authenticationUtils.extractAuthenticatedUser(any())).thenReturn(admin);
+        when(refundBatchService.refundCourse(anyLong(), anyString(), anyLong()))
+                .thenReturn(new RefundBatchResponse(7L, 0, 0, 0, List.of()));
+
+        mockMvc.perform(post("/api/refunds/admin/course/7").param("reason", "폐강"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,74 @@
+package com.studyblock.domain.refund.service;
+
+import com.studyblock.domain.payment.enums.OrderItemStatus;
+import com.studyblock.domain.payment.repository.OrderItemRepository;
+import com.studyblock.domain.refund.dto.RefundBatchResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefundBatchServiceTest {
+
+    private static final Long COURSE_ID = 7L;
+    private static final Long ADMIN_ID = 1L;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private RefundService refundService;
+
+    @InjectMocks
+    private RefundBatchService refundBatchService;
+
+    @Test
+    @DisplayName("주문 id 키셋으로 다음 페이지를 이어 조회하고 모든 주문을 환불한다")
+    void refundCourse_pagesByLastOrderId() {
+        when(orderItemRepository.findOrderIdsByCourseIdAndStatus(eq(COURSE_ID), eq(OrderItemStatus.PAID), eq(0L), any()))
+                .thenReturn(List.of(11L, 12L));
+        when(orderItemRepository.findOrderIdsByCourseIdAndStatus(eq(COURSE_ID), eq(OrderItemStatus.PAID), eq(12L), any()))
+                .thenReturn(List.of(20L));
+        when(orderItemRepository.findOrderIdsByCourseIdAndStatus(eq(COURSE_ID), eq(OrderItemStatus.PAID), eq(20L), any()))
+                .thenReturn(List.of());
+
+        RefundBatchResponse response = refundBatchService.refundCourse(COURSE_ID, "폐강", ADMIN_ID);
+
+        assertThat(response.getTargetOrderCount()).isEqualTo(3);
+        assertThat(response.getRefundedOrderCount()).isEqualTo(3);
+        assertThat(response.getFailedOrderCount()).isZero();
+        verify(refundService).refundCourseItemsByAdmin(11L, COURSE_ID, "폐강", ADMIN_ID);
+        verify(refundService).refundCourseItemsByAdmin(12L, COURSE_ID, "폐강", ADMIN_ID);
+        verify(refundService).refundCourseItemsByAdmin(20L, COURSE_ID, "폐강", ADMIN_ID);
+    }
+
+    @Test
+    @DisplayName("한 주문의 환불이 실패해도 나머지 주문은 계속 환불하고 실패 주문을 돌려준다")
+    void refundCourse_continuesAfterFailedOrder() {
+        when(orderItemRepository.findOrderIdsByCourseIdAndStatus(eq(COURSE_ID), eq(OrderItemStatus.PAID), eq(0L), any()))
+                .thenReturn(List.of(11L, 12L, 13L));
+        when(orderItemRepository.findOrderIdsByCourseIdAndStatus(eq(COURSE_ID), eq(OrderItemStatus.PAID), eq(13L), any()))
+                .thenReturn(List.of());
+        when(refundService.refundCourseItemsByAdmin(12L, COURSE_ID, "폐강", ADMIN_ID))
+                .thenThrow(new IllegalStateException("환불 처리에 실패했습니다"));
+
+        RefundBatchResponse response = refundBatchService.refundCourse(COURSE_ID, "폐강", ADMIN_ID);
+
+        assertThat(response.getTargetOrderCount()).isEqualTo(3);
+        assertThat(response.getRefundedOrderCount()).isEqualTo(2);
+        assertThat(response.getFailedOrderCount()).isEqualTo(1);
+        assertThat(response.getFailedOrderIds()).containsExactly(12L);
+        verify(refundService).refundCourseItemsByAdmin(13L, COURSE_ID, "폐강", ADMIN_ID);
+    }
+}
@@ -0,0 +1,149 @@
+package com.studyblock.domain.refund.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyblock.domain.course.entity.Course;
+import com.studyblock.domain.course.enums.CourseCounterType;
+import com.studyblock.domain.course.service.CourseCounterService;
+import com.studyblock.domain.course.service.LectureOwnershipService;
+import com.studyblock.domain.enrollment.repository.CourseEnrollmentRepository;
+import com.studyblock.domain.payment.client.TossPaymentClient;
+import com.studyblock.domain.payment.entity.Order;
+import com.studyblock.domain.payment.entity.OrderItem;
+import com.studyblock.domain.payment.enums.ItemType;
+import com.studyblock.domain.payment.enums.PaymentType;
+import com.studyblock.domain.payment.repository.OrderItemRepository;
+import com.studyblock.domain.payment.repository.OrderRepository;
+import com.studyblock.domain.payment.service.DailyLimitService;
+import com.studyblock.domain.refund.entity.Refund;
+import com.studyblock.domain.refund.enums.RefundStatus;
+import com.studyblock.domain.refund.repository.RefundRepository;
+import com.studyblock.domain.settlement.service.SettlementService;
+import com.studyblock.domain.user.entity.User;
+import com.studyblock.domain.wallet.service.WalletService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefundExecutionServiceTest {
+
+    private static final Long ORDER_ID = 100L;
+
+    @Mock
+    private RefundRepository refundRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private TossPaymentClient tossPaymentClient;
+
+    @Mock
+    private WalletService walletService;
+
+    @Mock
+    private DailyLimitService dailyLimitService;
+
+    @Mock
+    private SettlementService settlementService;
+
+    @Mock
+    private CourseEnrollmentRepository courseEnrollmentRepository;
+
+    @Mock
+    private LectureOwnershipService lectureOwnershipService;
+
+    @Mock
+    private CourseCounterService courseCounterService;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @InjectMocks
+    private RefundExecutionService refundExecutionService;
+
+    @Test
+    @DisplayName("부분 환불은 대상 코스의 수강생 수만 1 차감한다")
+    void processRefund_partialDecrementsOnlyRefundedCourse() {
+        Refund refund = cookieRefund(order(10_000));
+        when(orderItemRepository.findByOrder_Id(ORDER_ID))
+                .thenReturn(List.of(courseItem(1L, 10L), courseItem(2L, 20L)));
+        when(orderItemRepository.markRefundedByIdIn(List.of(1L))).thenReturn(1);
+        when(courseEnrollmentRepository.findActiveCourseIdsByOrderIdForUpdate(ORDER_ID))
+                .thenReturn(List.of(10L, 20L));
+        when(courseEnrollmentRepository.revokeByOrderIdAndCourseIdIn(ORDER_ID, List.of(10L))).thenReturn(1);
+
+        refundExecutionService.processRefund(refund, List.of(1L));
+
+        verify(courseCounterService).increment(CourseCounterType.ENROLLMENT, 10L, -1);
+        verify(courseCounterService, never()).increment(eq(CourseCounterType.ENROLLMENT), eq(20L), anyLong());
+    }
+
+    @Test
+    @DisplayName("전체 환불은 아직 취소되지 않은 수강신청의 코스만 차감한다")
+    void processRefund_fullSkipsAlreadyRevokedEnrollment() {
+        Refund refund = cookieRefund(order(5_000));
+        when(orderItemRepository.findByOrder_Id(ORDER_ID))
+                .thenReturn(List.of(courseItem(1L, 10L), courseItem(2L, 20L)));
+        when(orderItemRepository.markRefundedByIdIn(List.of(1L, 2L))).thenReturn(2);
+        // 코스 20 수강신청은 이미 취소된 상태
+        when(courseEnrollmentRepository.findActiveCourseIdsByOrderIdForUpdate(ORDER_ID)).thenReturn(List.of(10L));
+        when(courseEnrollmentRepository.revokeByOrderId(ORDER_ID)).thenReturn(1);
+
+        refundExecutionService.processRefund(refund, null);
+
+        verify(courseCounterService).increment(CourseCounterType.ENROLLMENT, 10L, -1);
+        verify(courseCounterService, never()).increment(eq(CourseCounterType.ENROLLMENT), eq(20L), anyLong());
+    }
+
+    private Order order(int cookieSpent) {
+        Order order = mock(Order.class);
+        lenient().when(order.getId()).thenReturn(ORDER_ID);
+        lenient().when(order.getPaymentType()).thenReturn(PaymentType.COOKIE);
+        lenient().when(order.getCookieSpent()).thenReturn(cookieSpent);
+        lenient().when(order.getCreatedAt()).thenReturn(LocalDateTime.now());
+        return order;
+    }
+
+    private Refund cookieRefund(Order order) {
+        User user = mock(User.class);
+        lenient().when(user.getId()).thenReturn(1L);
+
+        Refund refund = mock(Refund.class);
+        lenient().when(refund.getId()).thenReturn(500L);
+        lenient().when(refund.getStatus()).thenReturn(RefundStatus.PENDING);
+        lenient().when(refund.getOrder()).thenReturn(order);
+        lenient().when(refund.getUser()).thenReturn(user);
+        lenient().when(refund.getRefundAmountCookie()).thenReturn(5_000);
+        lenient().when(refund.getReason()).thenReturn("단순 변심");
+        return refund;
+    }
+
+    private OrderItem courseItem(Long id, Long courseId) {
+        Course course = mock(Course.class);
+        lenient().when(course.getId()).thenReturn(courseId);
+
+        OrderItem item = mock(OrderItem.class);
+        lenient().when(item.getId()).thenReturn(id);
+        lenient().when(item.getItemType()).thenReturn(ItemType.COURSE);
+        lenient().when(item.getCourse()).thenReturn(course);
+        return item;
+    }
+}
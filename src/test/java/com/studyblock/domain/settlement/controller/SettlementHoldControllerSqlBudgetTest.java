@@ -0,0 +1,179 @@
+package com.studyblock.domain.settlement.controller;
+
+import com.studyblock.domain.payment.entity.Order;
+import com.studyblock.domain.payment.entity.OrderItem;
+import com.studyblock.domain.settlement.entity.SettlementHold;
+import com.studyblock.domain.settlement.repository.SettlementHoldRepository;
+import com.studyblock.domain.settlement.repository.SettlementLedgerRepository;
+import com.studyblock.domain.settlement.service.SettlementHoldService;
+import com.studyblock.domain.user.repository.UserRepository;
+import com.studyblock.global.config.MonitoringConfig;
+import com.studyblock.global.monitoring.RequestMetricsRecorder;
+import com.studyblock.global.monitoring.SqlStatementCountingInspector;
+import com.studyblock.global.security.SecurityConfig;
+import com.studyblock.global.security.jwt.JwtTokenProvider;
+import com.studyblock.global.security.oauth2.CustomOAuth2UserService;
+import com.studyblock.global.security.oauth2.OAuth2SuccessHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 정산 보류 목록 엔드포인트의 요청당 SQL 예산 검증 (test 프로필: fail-on-threshold)
+ * - 요청은 RequestMetricsFilter 를 거치고, 저장소 호출은 실제 쿼리 수만큼 StatementInspector 를 호출해 SQL 문으로 집계
+ * - 보류 건수와 관계없이 페이지 조회 + COUNT + 정산 레코드 IN 조회만 실행되어야 함
+ */
+@WebMvcTest(SettlementHoldController.class)
+@ActiveProfiles("test")
+@Import({SecurityConfig.class, MonitoringConfig.class, RequestMetricsRecorder.class, SettlementHoldService.class,
+        SettlementHoldControllerSqlBudgetTest.MeterRegistryConfig.class})
+class SettlementHoldControllerSqlBudgetTest {
+
+    private static final String HOLDS_URI = "/api/settlement/holds";
+
+    private final SqlStatementCountingInspector inspector = new SqlStatementCountingInspector();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RequestMetricsRecorder recorder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private SettlementHoldRepository settlementHoldRepository;
+
+    @MockBean
+    private SettlementLedgerRepository settlementLedgerRepository;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @MockBean
+    private OAuth2SuccessHandler oAuth2SuccessHandler;
+
+    @MockBean
+    private ClientRegistrationRepository clientRegistrationRepository;
+
+    // 컨텍스트는 테스트 간에 공유되므로 지표는 비우고, 초과 기록은 시작 시점 건수와 비교
+    private int flaggedBefore;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry.clear();
+        flaggedBefore = recorder.getFlaggedRequests().size();
+    }
+
+    @Test
+    @DisplayName("보류 100건 페이지도 고정된 SQL 문 수로 처리되어 예산 안에서 통과한다")
+    void listHolds_staysWithinSqlBudget() throws Exception {
+        List<SettlementHold> holds = holds(100);
+        when(settlementHoldRepository.search(any(), any(), any(), any(), any(), any(Pageable.class)))
+                .thenAnswer(executing(2, invocation -> new PageImpl<>(holds, invocation.getArgument(5), 500)));
+        when(settlementLedgerRepository.findAllWithInstructorByOrderItemIdIn(anyCollection()))
+                .thenAnswer(executing(1, invocation -> List.of()));
+
+        mockMvc.perform(get(HOLDS_URI).param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(withinSqlBudget());
+
+        assertThat(meterRegistry.get("request.sql.statements").tag("uri", HOLDS_URI).summary().max())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("보류마다 조회가 다시 실행되는 회귀(N+1)는 test 프로필에서 임계값 초과로 기록된다")
+    void listHolds_flagsPerRowQueries() throws Exception {
+        List<SettlementHold> holds = holds(100);
+        when(settlementHoldRepository.search(any(), any(), any(), any(), any(), any(Pageable.class)))
+                .thenAnswer(executing(2, invocation -> new PageImpl<>(holds, invocation.getArgument(5), 500)));
+        // 보류 건마다 정산 레코드를 따로 조회하던 구현을 흉내 냄
+        when(settlementLedgerRepository.findAllWithInstructorByOrderItemIdIn(anyCollection()))
+                .thenAnswer(executing(holds.size(), invocation -> List.of()));
+
+        mockMvc.perform(get(HOLDS_URI).param("size", "100"));
+
+        assertThat(recorder.getFlaggedRequests()).hasSize(flaggedBefore + 1)
+                .first()
+                .satisfies(flagged -> assertThat(flagged.uri()).isEqualTo(HOLDS_URI));
+    }
+
+    // 응답 본문이 이미 커밋된 요청은 필터가 실패시키지 못하므로 초과 기록으로 확인
+    private ResultMatcher withinSqlBudget() {
+        return result -> assertThat(recorder.getFlaggedRequests())
+                .as("SQL 문 수 임계값(%d) 초과 요청", recorder.getSqlStatementThreshold())
+                .hasSize(flaggedBefore);
+    }
+
+    // 저장소 호출 한 번이 statements 개의 SQL 문을 실행한 것처럼 집계
+    private <T> Answer<T> executing(int statements, Answer<T> result) {
+        return invocation -> {
+            for (int i = 0; i < statements; i++) {
+                inspector.inspect("select * from settlement_hold");
+            }
+            return result.answer(invocation);
+        };
+    }
+
+    private List<SettlementHold> holds(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> {
+                    Order order = mock(Order.class);
+                    when(order.getId()).thenReturn(id);
+                    when(order.getOrderNumber()).thenReturn("ORDER-" + id);
+                    OrderItem orderItem = mock(OrderItem.class);
+                    when(orderItem.getId()).thenReturn(id);
+                    when(orderItem.getOrder()).thenReturn(order);
+                    return SettlementHold.builder()
+                            .orderItem(orderItem)
+                            .holdUntil(LocalDateTime.now().plusDays(7))
+                            .status("HELD")
+                            .build();
+                })
+                .toList();
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
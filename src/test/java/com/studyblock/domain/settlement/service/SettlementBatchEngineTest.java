@@ -0,0 +1,162 @@
+package com.studyblock.domain.settlement.service;
+
+import com.studyblock.domain.settlement.entity.SettlementPayment;
+import com.studyblock.domain.settlement.entity.SettlementRun;
+import com.studyblock.domain.settlement.entity.SettlementRunPartition;
+import com.studyblock.domain.settlement.enums.SettlementPartitionStatus;
+import com.studyblock.domain.settlement.enums.SettlementRunStatus;
+import com.studyblock.domain.settlement.repository.SettlementLedgerRepository;
+import com.studyblock.domain.settlement.repository.SettlementPaymentRepository;
+import com.studyblock.domain.settlement.repository.SettlementRunPartitionRepository;
+import com.studyblock.domain.settlement.repository.SettlementRunRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SettlementBatchEngineTest {
+
+    private static final Long RUN_ID = 1L;
+    private static final Long MAX_LEDGER_ID = 100L;
+    private static final Long PARTITION_ID = 10L;
+    private static final Long INSTRUCTOR_ID = 3L;
+    private static final Long PAYMENT_ID = 7L;
+
+    @Mock
+    private SettlementLedgerRepository settlementLedgerRepository;
+
+    @Mock
+    private SettlementPaymentRepository settlementPaymentRepository;
+
+    @Mock
+    private SettlementRunRepository settlementRunRepository;
+
+    @Mock
+    private SettlementRunPartitionRepository settlementRunPartitionRepository;
+
+    @InjectMocks
+    private SettlementBatchEngine batchEngine;
+
+    @Test
+    @DisplayName("첫 청크는 배치 지급을 만들고, 청크 정산 / 지급 누적 / 체크포인트 전진을 같은 호출에서 처리한다")
+    void settleNextChunk_firstChunkCreatesPaymentAndAdvancesCheckpoint() {
+        SettlementRunPartition partition = partition();
+        when(settlementRunPartitionRepository.lockById(PARTITION_ID)).thenReturn(Optional.of(partition));
+        when(settlementLedgerRepository.lockEligibleChunk(INSTRUCTOR_ID, 0L, MAX_LEDGER_ID, 2))
+                .thenReturn(List.of(new Object[] {21L, 1000}, new Object[] {25L, 3000}));
+        when(settlementPaymentRepository.save(any(SettlementPayment.class))).thenAnswer(invocation -> {
+            SettlementPayment payment = invocation.getArgument(0);
+            ReflectionTestUtils.setField(payment, "id", PAYMENT_ID);
+            return payment;
+        });
+        when(settlementLedgerRepository.settleChunk(eq(List.of(21L, 25L)), eq(PAYMENT_ID), any(LocalDateTime.class)))
+                .thenReturn(2);
+
+        int settled = batchEngine.settleNextChunk(RUN_ID, MAX_LEDGER_ID, PARTITION_ID, 2);
+
+        assertThat(settled).isEqualTo(2);
+        assertThat(partition.getLastLedgerId()).isEqualTo(25L);
+        assertThat(partition.getLedgerCount()).isEqualTo(2);
+        assertThat(partition.getNetAmount()).isEqualTo(4000L);
+        assertThat(partition.getSettlementPaymentId()).isEqualTo(PAYMENT_ID);
+        verify(settlementPaymentRepository).addBatchAmount(eq(PAYMENT_ID), eq(4000), eq(2), any(LocalDateTime.class));
+        verify(settlementRunRepository).addProgress(RUN_ID, 2, 4000L);
+    }
+
+    @Test
+    @DisplayName("재개된 파티션은 체크포인트 다음 레코드부터 잠그고 기존 배치 지급에 금액을 누적한다")
+    void settleNextChunk_resumesFromCheckpointWithExistingPayment() {
+        SettlementRunPartition partition = partition();
+        partition.advance(25L, 2, 4000L, PAYMENT_ID);
+        when(settlementRunPartitionRepository.lockById(PARTITION_ID)).thenReturn(Optional.of(partition));
+        when(settlementLedgerRepository.lockEligibleChunk(INSTRUCTOR_ID, 25L, MAX_LEDGER_ID, 2))
+                .thenReturn(List.<Object[]>of(new Object[] {30L, 500}));
+        when(settlementLedgerRepository.settleChunk(eq(List.of(30L)), eq(PAYMENT_ID), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        batchEngine.settleNextChunk(RUN_ID, MAX_LEDGER_ID, PARTITION_ID, 2);
+
+        verify(settlementPaymentRepository, never()).save(any());
+        verify(settlementPaymentRepository).addBatchAmount(eq(PAYMENT_ID), eq(500), eq(1), any(LocalDateTime.class));
+        assertThat(partition.getLastLedgerId()).isEqualTo(30L);
+        assertThat(partition.getLedgerCount()).isEqualTo(3);
+        assertThat(partition.getNetAmount()).isEqualTo(4500L);
+    }
+
+    @Test
+    @DisplayName("남은 레코드가 없으면 파티션을 완료하고, 완료된 파티션은 다시 잠그지 않는다")
+    void settleNextChunk_completesPartitionWhenDrained() {
+        SettlementRunPartition partition = partition();
+        when(settlementRunPartitionRepository.lockById(PARTITION_ID)).thenReturn(Optional.of(partition));
+        when(settlementLedgerRepository.lockEligibleChunk(INSTRUCTOR_ID, 0L, MAX_LEDGER_ID, 2)).thenReturn(List.of());
+
+        assertThat(batchEngine.settleNextChunk(RUN_ID, MAX_LEDGER_ID, PARTITION_ID, 2)).isZero();
+        assertThat(partition.getStatus()).isEqualTo(SettlementPartitionStatus.COMPLETED);
+
+        assertThat(batchEngine.settleNextChunk(RUN_ID, MAX_LEDGER_ID, PARTITION_ID, 2)).isZero();
+        verify(settlementLedgerRepository).lockEligibleChunk(anyLong(), anyLong(), anyLong(), anyInt());
+        verify(settlementRunRepository, never()).addProgress(anyLong(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("RUNNING 으로 남은 실행이 있으면 새 실행을 만들지 않고 그 실행을 재개한다")
+    void openRun_resumesUnfinishedRun() {
+        SettlementRun unfinished = SettlementRun.builder().maxLedgerId(MAX_LEDGER_ID).partitionCount(2).build();
+        when(settlementRunRepository.findFirstByStatusOrderByIdDesc(SettlementRunStatus.RUNNING))
+                .thenReturn(Optional.of(unfinished));
+
+        assertThat(batchEngine.openRun()).isSameAs(unfinished);
+
+        verify(settlementRunRepository, never()).save(any());
+        verify(settlementLedgerRepository, never()).findMaxEligibleId();
+    }
+
+    @Test
+    @DisplayName("새 실행은 현재 최고 수위로 만들고 강사마다 파티션을 하나씩 만든다")
+    void openRun_createsRunWithPartitionPerInstructor() {
+        when(settlementRunRepository.findFirstByStatusOrderByIdDesc(SettlementRunStatus.RUNNING))
+                .thenReturn(Optional.empty());
+        when(settlementLedgerRepository.findMaxEligibleId()).thenReturn(MAX_LEDGER_ID);
+        when(settlementLedgerRepository.findEligibleInstructorIds(MAX_LEDGER_ID)).thenReturn(List.of(3L, 4L));
+        when(settlementRunRepository.save(any(SettlementRun.class))).thenAnswer(invocation -> {
+            SettlementRun saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", RUN_ID);
+            return saved;
+        });
+
+        SettlementRun run = batchEngine.openRun();
+
+        assertThat(run.getMaxLedgerId()).isEqualTo(MAX_LEDGER_ID);
+        assertThat(run.getPartitionCount()).isEqualTo(2);
+        verify(settlementRunPartitionRepository).saveAll(argThat((List<SettlementRunPartition> partitions) ->
+                partitions.size() == 2
+                        && partitions.stream().allMatch(p -> RUN_ID.equals(p.getRunId()) && p.isPending())));
+    }
+
+    private SettlementRunPartition partition() {
+        SettlementRunPartition partition = SettlementRunPartition.builder()
+                .runId(RUN_ID)
+                .instructorId(INSTRUCTOR_ID)
+                .build();
+        ReflectionTestUtils.setField(partition, "id", PARTITION_ID);
+        return partition;
+    }
+}
@@ -0,0 +1,141 @@
+package com.studyblock.domain.settlement.service;
+
+import com.studyblock.domain.settlement.dto.SettlementRunResponse;
+import com.studyblock.domain.settlement.entity.SettlementRun;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SettlementBatchRunnerTest {
+
+    private static final Long RUN_ID = 1L;
+    private static final Long MAX_LEDGER_ID = 100L;
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private SettlementBatchEngine batchEngine;
+
+    @Mock
+    private SettlementRunLock runLock;
+
+    private SettlementRunLock.Handle lockHandle;
+    private SettlementBatchRunner runner;
+    private SettlementRun run;
+
+    @BeforeEach
+    void setUp() {
+        runner = new SettlementBatchRunner(batchEngine, runLock, CHUNK_SIZE, 2);
+        lockHandle = mock(SettlementRunLock.Handle.class);
+        run = SettlementRun.builder().maxLedgerId(MAX_LEDGER_ID).partitionCount(2).build();
+        ReflectionTestUtils.setField(run, "id", RUN_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    @Test
+    @DisplayName("파티션마다 청크가 0 건을 돌려줄 때까지 chunk-size 단위로 반복 정산한다")
+    void runAndWait_settlesEachPartitionChunkByChunk() {
+        givenOpenRun(List.of(10L, 11L));
+        when(batchEngine.settleNextChunk(RUN_ID, MAX_LEDGER_ID, 10L, CHUNK_SIZE)).thenReturn(2, 2, 1, 0);
+        when(batchEngine.settleNextChunk(RUN_ID, MAX_LEDGER_ID, 11L, CHUNK_SIZE)).thenReturn(1, 0);
+
+        SettlementRunResponse response = runner.runAndWait();
+
+        assertThat(response.getRunId()).isEqualTo(RUN_ID);
+        verify(batchEngine, times(4)).settleNextChunk(RUN_ID, MAX_LEDGER_ID, 10L, CHUNK_SIZE);
+        verify(batchEngine, times(2)).settleNextChunk(RUN_ID, MAX_LEDGER_ID, 11L, CHUNK_SIZE);
+        verify(batchEngine, times(2)).refreshPartitionCounts(RUN_ID);
+        verify(batchEngine).finishRun(eq(RUN_ID), isNull());
+        verify(lockHandle).release();
+        assertThat(runner.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("중단된 실행을 재개하면 완료되지 않은 파티션만 체크포인트부터 이어서 처리한다")
+    void runAndWait_resumesOnlyUnfinishedPartitions() {
+        // openRun 이 RUNNING 으로 남은 실행을 돌려주고, 완료된 파티션 10 은 미완료 목록에 없음
+        givenOpenRun(List.of(11L));
+        when(batchEngine.settleNextChunk(RUN_ID, MAX_LEDGER_ID, 11L, CHUNK_SIZE)).thenReturn(2, 0);
+
+        runner.runAndWait();
+
+        verify(batchEngine, never()).settleNextChunk(anyLong(), anyLong(), eq(10L), anyInt());
+        verify(batchEngine, times(2)).settleNextChunk(RUN_ID, MAX_LEDGER_ID, 11L, CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("파티션이 실패하면 FAILED 로 남기고 나머지 파티션은 계속 처리한 뒤 오류와 함께 실행을 종료한다")
+    void runAndWait_marksFailedPartitionAndContinues() {
+        givenOpenRun(List.of(10L, 11L));
+        when(batchEngine.settleNextChunk(RUN_ID, MAX_LEDGER_ID, 10L, CHUNK_SIZE))
+                .thenReturn(2)
+                .thenThrow(new IllegalStateException("lock wait timeout"));
+        when(batchEngine.settleNextChunk(RUN_ID, MAX_LEDGER_ID, 11L, CHUNK_SIZE)).thenReturn(1, 0);
+
+        runner.runAndWait();
+
+        verify(batchEngine).markPartitionFailed(10L);
+        verify(batchEngine, never()).markPartitionFailed(11L);
+        verify(batchEngine, times(2)).settleNextChunk(RUN_ID, MAX_LEDGER_ID, 11L, CHUNK_SIZE);
+        verify(batchEngine).finishRun(eq(RUN_ID), notNull());
+        verify(lockHandle).release();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 실행 잠금을 잡고 있으면 실행을 재개하거나 만들지 않는다")
+    void start_rejectsWhenAnotherInstanceHoldsLock() {
+        when(runLock.tryAcquire()).thenReturn(null);
+
+        assertThatThrownBy(() -> runner.start())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("다른 서버");
+
+        verify(batchEngine, never()).openRun();
+        assertThat(runner.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("정산 가능한 레코드가 없으면 잠금을 바로 풀고 null 을 돌려준다")
+    void runAndWait_releasesLockWhenNothingToSettle() {
+        when(runLock.tryAcquire()).thenReturn(lockHandle);
+        when(batchEngine.openRun()).thenReturn(null);
+
+        assertThat(runner.runAndWait()).isNull();
+
+        verify(lockHandle).release();
+        verify(batchEngine, never()).findUnfinishedPartitionIds(any());
+        assertThat(runner.isRunning()).isFalse();
+    }
+
+    private void givenOpenRun(List<Long> unfinishedPartitionIds) {
+        when(runLock.tryAcquire()).thenReturn(lockHandle);
+        when(batchEngine.openRun()).thenReturn(run);
+        when(batchEngine.findUnfinishedPartitionIds(RUN_ID)).thenReturn(unfinishedPartitionIds);
+        when(batchEngine.finishRun(eq(RUN_ID), any())).thenReturn(run);
+    }
+}
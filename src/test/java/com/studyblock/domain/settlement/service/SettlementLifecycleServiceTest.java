@@ -0,0 +1,75 @@
+package com.studyblock.domain.settlement.service;
+
+import com.studyblock.domain.settlement.repository.SettlementHoldRepository;
+import com.studyblock.domain.settlement.repository.SettlementLedgerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SettlementLifecycleServiceTest {
+
+    private static final Long INSTRUCTOR_ID = 3L;
+
+    @Mock
+    private SettlementLedgerRepository settlementLedgerRepository;
+
+    @Mock
+    private SettlementHoldRepository settlementHoldRepository;
+
+    @Mock
+    private SettlementBatchRunner settlementBatchRunner;
+
+    @InjectMocks
+    private SettlementLifecycleService lifecycleService;
+
+    @Test
+    @DisplayName("강사 수동 정산은 잠근 레코드를 미정산 조건부 UPDATE 로 정산하고 엔티티 전체를 저장하지 않는다")
+    void settleForInstructor_settlesLockedRowsConditionally() {
+        when(settlementLedgerRepository.lockEligibleByInstructorId(INSTRUCTOR_ID))
+                .thenReturn(List.of(new Object[] {21L, 1000}, new Object[] {25L, 3000}));
+        when(settlementLedgerRepository.settleEligibleByIdIn(eq(List.of(21L, 25L)), any(LocalDateTime.class)))
+                .thenReturn(2);
+
+        assertThat(lifecycleService.settleForInstructor(INSTRUCTOR_ID)).isEqualTo(2);
+
+        verify(settlementLedgerRepository, never()).save(any());
+        verify(settlementLedgerRepository, never()).settleChunk(anyCollection(), any(), any());
+    }
+
+    @Test
+    @DisplayName("정산 배치가 먼저 정산한 레코드는 조건부 UPDATE 에서 빠지고 실제 정산한 건수만 돌려준다")
+    void settleForInstructor_skipsRowsSettledByBatch() {
+        when(settlementLedgerRepository.lockEligibleByInstructorId(INSTRUCTOR_ID))
+                .thenReturn(List.of(new Object[] {21L, 1000}, new Object[] {25L, 3000}));
+        when(settlementLedgerRepository.settleEligibleByIdIn(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        assertThat(lifecycleService.settleForInstructor(INSTRUCTOR_ID)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정산 가능한 레코드가 없으면 UPDATE 하지 않는다")
+    void settleForInstructor_noEligibleLedgers() {
+        when(settlementLedgerRepository.lockEligibleByInstructorId(anyLong())).thenReturn(List.of());
+
+        assertThat(lifecycleService.settleForInstructor(INSTRUCTOR_ID)).isZero();
+
+        verify(settlementLedgerRepository, never()).settleEligibleByIdIn(anyCollection(), any());
+    }
+}
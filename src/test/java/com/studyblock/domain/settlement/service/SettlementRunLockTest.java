@@ -0,0 +1,84 @@
+package com.studyblock.domain.settlement.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SettlementRunLockTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement getLock;
+
+    @Mock
+    private PreparedStatement releaseLock;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private SettlementRunLock runLock;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        runLock = new SettlementRunLock(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT GET_LOCK(?, 0)")).thenReturn(getLock);
+        when(getLock.executeQuery()).thenReturn(resultSet);
+    }
+
+    @Test
+    @DisplayName("잠금을 잡으면 커넥션을 반환하지 않고 쥐고 있다가 release 때 잠금을 푼 뒤 반환한다")
+    void acquireAndRelease() throws SQLException {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getInt(1)).thenReturn(1);
+        when(connection.prepareStatement("SELECT RELEASE_LOCK(?)")).thenReturn(releaseLock);
+        when(releaseLock.executeQuery()).thenReturn(resultSet);
+
+        SettlementRunLock.Handle handle = runLock.tryAcquire();
+
+        assertThat(handle).isNotNull();
+        verify(getLock).setString(1, SettlementRunLock.LOCK_NAME);
+        verify(connection, never()).close();
+
+        handle.release();
+
+        InOrder inOrder = inOrder(releaseLock, connection);
+        inOrder.verify(releaseLock).executeQuery();
+        inOrder.verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("다른 세션이 잠금을 잡고 있으면 null 을 돌려주고 커넥션을 바로 반환한다")
+    void acquireFailsWhenHeldElsewhere() throws SQLException {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getInt(1)).thenReturn(0);
+
+        assertThat(runLock.tryAcquire()).isNull();
+
+        verify(connection).close();
+        verify(connection, never()).abort(any());
+    }
+}
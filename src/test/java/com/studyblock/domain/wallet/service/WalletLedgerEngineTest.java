@@ -0,0 +1,90 @@
+package com.studyblock.domain.wallet.service;
+
+import com.studyblock.domain.wallet.dto.WalletLedgerBalanceResponse;
+import com.studyblock.domain.wallet.entity.Wallet;
+import com.studyblock.domain.wallet.entity.WalletBalance;
+import com.studyblock.domain.wallet.entity.WalletBalanceDrift;
+import com.studyblock.domain.wallet.entity.WalletBalanceSnapshot;
+import com.studyblock.domain.wallet.repository.WalletBalanceRepository;
+import com.studyblock.domain.wallet.repository.WalletBalanceSnapshotRepository;
+import com.studyblock.domain.wallet.repository.WalletRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WalletLedgerEngineTest {
+
+    @Mock
+    private WalletBalanceSnapshotRepository snapshotRepository;
+
+    @Mock
+    private WalletRepository walletRepository;
+
+    @Mock
+    private WalletBalanceRepository walletBalanceRepository;
+
+    @InjectMocks
+    private WalletLedgerEngine ledgerEngine;
+
+    @Test
+    @DisplayName("원장 잔액은 스냅샷 잔액에 스냅샷 이후 꼬리 합계를 더해 재생하고 저장 잔액과의 차이를 돌려준다")
+    void replayBalance_addsTailToSnapshot() {
+        WalletBalanceSnapshot snapshot = mock(WalletBalanceSnapshot.class);
+        when(snapshot.getBalance()).thenReturn(3_000L);
+        when(snapshot.getLastLedgerId()).thenReturn(40L);
+        when(snapshotRepository.findById(1L)).thenReturn(Optional.of(snapshot));
+        when(snapshotRepository.sumLedgerTail(1L, 40L)).thenReturn(-500L);
+
+        Wallet wallet = mock(Wallet.class);
+        when(wallet.getId()).thenReturn(9L);
+        WalletBalance balance = mock(WalletBalance.class);
+        when(balance.getAmount()).thenReturn(2_600L);
+        when(walletRepository.findByUser_Id(1L)).thenReturn(Optional.of(wallet));
+        when(walletBalanceRepository.findByWallet_IdAndCurrencyCode(9L, "KRW")).thenReturn(Optional.of(balance));
+
+        WalletLedgerBalanceResponse response = ledgerEngine.replayBalance(1L);
+
+        assertThat(response.getLedgerBalance()).isEqualTo(2_500L);
+        assertThat(response.getStoredBalance()).isEqualTo(2_600L);
+        assertThat(response.getDrift()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없는 사용자는 원장 전체를 재생한다")
+    void replayBalance_withoutSnapshotReplaysWholeLedger() {
+        when(snapshotRepository.findById(2L)).thenReturn(Optional.empty());
+        when(snapshotRepository.sumLedgerTail(2L, 0L)).thenReturn(1_200L);
+        when(walletRepository.findByUser_Id(2L)).thenReturn(Optional.empty());
+
+        WalletLedgerBalanceResponse response = ledgerEngine.replayBalance(2L);
+
+        assertThat(response.getLedgerBalance()).isEqualTo(1_200L);
+        assertThat(response.getStoredBalance()).isNull();
+        assertThat(response.getDrift()).isNull();
+    }
+
+    @Test
+    @DisplayName("구간 검증 결과 행을 실행 ID 가 붙은 불일치 기록으로 변환한다")
+    void findDrifts_mapsRowsToDriftRecords() {
+        when(snapshotRepository.findDriftedWallets(1L, 10L))
+                .thenReturn(List.<Object[]>of(new Object[] {5L, 1_000L, 700L}));
+
+        List<WalletBalanceDrift> drifts = ledgerEngine.findDrifts("run-1", 1L, 10L);
+
+        assertThat(drifts).hasSize(1);
+        assertThat(drifts.get(0).getRunId()).isEqualTo("run-1");
+        assertThat(drifts.get(0).getUserId()).isEqualTo(5L);
+        assertThat(drifts.get(0).getDrift()).isEqualTo(300L);
+    }
+}
@@ -0,0 +1,108 @@
+package com.studyblock.domain.wallet.service;
+
+import com.studyblock.domain.wallet.dto.WalletDriftReportResponse;
+import com.studyblock.domain.wallet.entity.WalletBalanceDrift;
+import com.studyblock.domain.wallet.repository.WalletBalanceDriftRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WalletLedgerVerifierTest {
+
+    private static final long CHUNK_SIZE = 10;
+
+    @Mock
+    private WalletLedgerEngine ledgerEngine;
+
+    @Mock
+    private WalletBalanceDriftRepository driftRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WalletLedgerVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifier = new WalletLedgerVerifier(ledgerEngine, driftRepository, meterRegistry, CHUNK_SIZE, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        verifier.shutdown();
+    }
+
+    @Test
+    @DisplayName("사용자 ID 범위를 구간으로 나눠 검증하고 실패 구간과 불일치 지갑을 집계한다")
+    void verifyAll_aggregatesDriftsAcrossChunks() {
+        when(ledgerEngine.findWalletUserIdRange()).thenReturn(new long[] {1L, 25L});
+        when(ledgerEngine.findDrifts(anyString(), eq(1L), eq(10L))).thenReturn(List.of());
+        when(ledgerEngine.findDrifts(anyString(), eq(11L), eq(20L))).thenReturn(List.of(
+                drift(12L, 1_000L, 1_300L),
+                drift(17L, 500L, 200L)));
+        when(ledgerEngine.findDrifts(anyString(), eq(21L), eq(25L)))
+                .thenThrow(new IllegalStateException("구간 조회 실패"));
+
+        WalletDriftReportResponse report = verifier.verifyAll();
+
+        assertThat(report.getChunkCount()).isEqualTo(3);
+        assertThat(report.getFailedChunkCount()).isEqualTo(1);
+        assertThat(report.getDriftCount()).isEqualTo(2);
+        assertThat(report.getTotalAbsoluteDrift()).isEqualTo(600L);
+        assertThat(report.getSamples()).extracting(WalletDriftReportResponse.DriftItem::getUserId)
+                .containsExactlyInAnyOrder(12L, 17L);
+        assertThat(meterRegistry.get("wallet.ledger.drift.wallets").gauge().value()).isEqualTo(2.0);
+        verify(driftRepository).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("불일치가 없으면 저장하지 않고 게이지를 0 으로 되돌린다")
+    void verifyAll_resetsGaugeWhenClean() {
+        when(ledgerEngine.findWalletUserIdRange()).thenReturn(new long[] {1L, 5L});
+        when(ledgerEngine.findDrifts(anyString(), eq(1L), eq(5L))).thenReturn(List.of());
+
+        WalletDriftReportResponse report = verifier.verifyAll();
+
+        assertThat(report.getChunkCount()).isEqualTo(1);
+        assertThat(report.getDriftCount()).isZero();
+        assertThat(meterRegistry.get("wallet.ledger.drift.wallets").gauge().value()).isZero();
+        verify(driftRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("스냅샷 갱신은 실패한 구간을 건너뛰고 다음 구간을 계속 전진시킨다")
+    void refreshSnapshots_continuesAfterFailedRange() {
+        when(ledgerEngine.findSnapshotHighWaterId()).thenReturn(900L);
+        when(ledgerEngine.findWalletUserIdRange()).thenReturn(new long[] {1L, 20L});
+        when(ledgerEngine.advanceSnapshots(1L, 10L, 900L)).thenThrow(new IllegalStateException("잠금 대기 초과"));
+        when(ledgerEngine.advanceSnapshots(11L, 20L, 900L)).thenReturn(4);
+
+        int affected = verifier.refreshSnapshots();
+
+        assertThat(affected).isEqualTo(4);
+    }
+
+    private WalletBalanceDrift drift(Long userId, long stored, long ledger) {
+        return WalletBalanceDrift.builder()
+                .runId("run")
+                .userId(userId)
+                .storedBalance(stored)
+                .ledgerBalance(ledger)
+                .build();
+    }
+}
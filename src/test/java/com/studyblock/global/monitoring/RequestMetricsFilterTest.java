@@ -0,0 +1,118 @@
+package com.studyblock.global.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestMetricsFilterTest {
+
+    private static final int SQL_BUDGET = 3;
+
+    private final SqlStatementCountingInspector inspector = new SqlStatementCountingInspector();
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestMetricsRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        recorder = new RequestMetricsRecorder(meterRegistry);
+        ReflectionTestUtils.setField(recorder, "sqlStatementThreshold", SQL_BUDGET);
+        ReflectionTestUtils.setField(recorder, "flaggedHistorySize", 10);
+    }
+
+    @Test
+    @DisplayName("SQL 문 수가 예산 이내면 요청이 통과하고 지표만 기록된다")
+    void withinBudget_passes() throws Exception {
+        RequestMetricsFilter filter = new RequestMetricsFilter(recorder, true);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), executing(SQL_BUDGET));
+
+        assertThat(meterRegistry.get("request.sql.statements").summary().max()).isEqualTo(SQL_BUDGET);
+        assertThat(meterRegistry.find("request.sql.threshold.exceeded").counter()).isNull();
+        assertThat(recorder.getFlaggedRequests()).isEmpty();
+        assertThat(RequestMetrics.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("테스트 프로필(fail-on-threshold)에서는 SQL 예산을 넘은 요청이 실패한다")
+    void overBudget_failsWhenConfigured() {
+        RequestMetricsFilter filter = new RequestMetricsFilter(recorder, true);
+
+        assertThatThrownBy(() -> filter.doFilter(request(), new MockHttpServletResponse(), executing(SQL_BUDGET + 1)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("GET /api/courses/{courseId}");
+
+        assertThat(meterRegistry.get("request.sql.threshold.exceeded").counter().count()).isEqualTo(1.0);
+        assertThat(recorder.getFlaggedRequests())
+                .singleElement()
+                .satisfies(flagged -> assertThat(flagged.sqlStatements()).isEqualTo(SQL_BUDGET + 1));
+        assertThat(RequestMetrics.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("응답이 이미 커밋된 뒤에는 예산을 넘어도 예외를 던지지 않고 초과 기록만 남긴다")
+    void overBudget_afterCommitOnlyFlagged() throws Exception {
+        RequestMetricsFilter filter = new RequestMetricsFilter(recorder, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request(), response, (req, res) -> {
+            executing(SQL_BUDGET + 1).doFilter(req, res);
+            res.flushBuffer();
+        });
+
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(recorder.getFlaggedRequests()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("운영 설정에서는 SQL 예산을 넘어도 요청은 성공하고 초과 기록만 남는다")
+    void overBudget_onlyFlaggedByDefault() throws Exception {
+        RequestMetricsFilter filter = new RequestMetricsFilter(recorder, false);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), executing(SQL_BUDGET + 5));
+
+        assertThat(meterRegistry.get("request.sql.threshold.exceeded").counter().count()).isEqualTo(1.0);
+        assertThat(recorder.getFlaggedRequests()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("직접 연 Scope 로 서비스 호출의 SQL 문 수를 검증할 수 있고, 안쪽 범위는 바깥 범위에도 더해진다")
+    void scope_countsNestedStatements() {
+        try (RequestMetrics.Scope outer = RequestMetrics.open()) {
+            inspector.inspect("select 1");
+            try (RequestMetrics.Scope inner = RequestMetrics.open()) {
+                inspector.inspect("select 2");
+                inspector.inspect("select 3");
+                assertThat(inner.getSqlStatements()).isEqualTo(2);
+            }
+            assertThat(outer.getSqlStatements()).isLessThanOrEqualTo(SQL_BUDGET).isEqualTo(3);
+            assertThat(RequestMetrics.current()).isSameAs(outer);
+        }
+        assertThat(RequestMetrics.current()).isNull();
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/courses/{courseId}");
+        return request;
+    }
+
+    // Hibernate 가 SQL 을 준비할 때처럼 StatementInspector 를 statements 번 호출하는 필터 체인
+    private FilterChain executing(int statements) {
+        return (request, response) -> {
+            for (int i = 0; i < statements; i++) {
+                inspector.inspect("select * from course where id = ?");
+            }
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package com.studyblock.global.security;
+
+import com.studyblock.domain.user.repository.UserRepository;
+import com.studyblock.global.security.jwt.JwtTokenProvider;
+import com.studyblock.global.security.oauth2.CustomOAuth2UserService;
+import com.studyblock.global.security.oauth2.OAuth2SuccessHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Actuator 경로 접근 규칙 검증 (실제 엔드포인트 대신 같은 경로의 스텁 컨트롤러 사용)
+ */
+@WebMvcTest(controllers = ActuatorSecurityTest.StubActuatorController.class)
+@ActiveProfiles("test")
+@Import({SecurityConfig.class, ActuatorSecurityTest.StubActuatorController.class})
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @MockBean
+    private OAuth2SuccessHandler oAuth2SuccessHandler;
+
+    @MockBean
+    private ClientRegistrationRepository clientRegistrationRepository;
+
+    @Test
+    @DisplayName("헬스 체크는 인증 없이 접근할 수 있다")
+    void health_isPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health/liveness"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 요청은 prometheus / querycount 에 접근할 수 없다")
+    void metrics_rejectAnonymous() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(deniedForAnonymous());
+        mockMvc.perform(get("/actuator/querycount"))
+                .andExpect(deniedForAnonymous());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("관리자가 아닌 사용자는 querycount 에 접근할 수 없다")
+    void querycount_rejectsNonAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/querycount"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = {"USER", "ADMIN"})
+    @DisplayName("관리자는 지표 엔드포인트에 접근할 수 있다")
+    void metrics_allowAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/querycount"))
+                .andExpect(status().isOk());
+    }
+
+    // 익명 요청은 OAuth2 로그인 진입점이 처리 (로그인 리다이렉트 또는 401)
+    private ResultMatcher deniedForAnonymous() {
+        return result -> assertThat(result.getResponse().getStatus()).isIn(302, 401, 403);
+    }
+
+    @RestController
+    static class StubActuatorController {
+
+        @GetMapping("/actuator/health/liveness")
+        String liveness() {
+            return "UP";
+        }
+
+        @GetMapping("/actuator/prometheus")
+        String prometheus() {
+            return "";
+        }
+
+        @GetMapping("/actuator/querycount")
+        String querycount() {
+            return "{}";
+        }
+    }
+}